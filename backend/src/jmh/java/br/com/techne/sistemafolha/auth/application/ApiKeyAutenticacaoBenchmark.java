@@ -0,0 +1,77 @@
+package br.com.techne.sistemafolha.auth.application;
+
+import br.com.techne.sistemafolha.auth.domain.ApiKey;
+import br.com.techne.sistemafolha.auth.domain.Usuario;
+import br.com.techne.sistemafolha.auth.infrastructure.ApiKeyRepository;
+import br.com.techne.sistemafolha.auth.infrastructure.UsuarioRepository;
+import br.com.techne.sistemafolha.benchmarks.PortStubs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência da autenticação por API Key: o BCrypt que antes rodava em toda requisição contra
+ * {@link ApiKeyService#autenticarPorChave} com a chave já conferida em {@link ApiKeyVerificacaoCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiKeyAutenticacaoBenchmark {
+
+    private static final String CHAVE = "sf_live_abc12345" + "x".repeat(40);
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private String hashChave;
+    private ApiKeyService service;
+
+    @Setup
+    public void setUp() {
+        hashChave = passwordEncoder.encode(CHAVE);
+        Usuario usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setLogin("integracao");
+        usuario.setAtivo(true);
+        usuario.setPermissoes(List.of(ApiKeyService.PERMISSAO_API_KEY));
+        ApiKey apiKey = new ApiKey();
+        apiKey.setId(1L);
+        apiKey.setUsuario(usuario);
+        apiKey.setPrefixo(CHAVE.substring(0, 16));
+        apiKey.setHashChave(hashChave);
+        apiKey.setEscopo(ApiKey.ESCOPO_READ);
+        apiKey.setDataExpiracao(LocalDateTime.now().plusYears(1));
+        apiKey.setRevogado(false);
+
+        ApiKeyRepository repository = PortStubs.stub(ApiKeyRepository.class, Map.of(
+            "findByPrefixoAndRevogadoFalse", args -> Optional.of(apiKey),
+            "save", args -> args[0]));
+        service = new ApiKeyService(
+            repository,
+            PortStubs.stub(UsuarioRepository.class, Map.of()),
+            passwordEncoder,
+            Clock.systemDefaultZone(),
+            new ApiKeyVerificacaoCache());
+        service.autenticarPorChave(CHAVE);
+    }
+
+    @Benchmark
+    public boolean bcryptPorRequisicao() {
+        return passwordEncoder.matches(CHAVE, hashChave);
+    }
+
+    @Benchmark
+    public Optional<Usuario> autenticarComCache() {
+        return service.autenticarPorChave(CHAVE);
+    }
+}
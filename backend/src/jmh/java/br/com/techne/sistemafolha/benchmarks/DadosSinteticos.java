@@ -0,0 +1,115 @@
+package br.com.techne.sistemafolha.benchmarks;
+
+import br.com.techne.sistemafolha.folha.domain.OrigemLinha;
+import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Geradores determinísticos (semente fixa) de massa sintética para os benchmarks. O tamanho é sempre
+ * parâmetro, para que cada suíte exponha {@code @Param} e possa ser escalada pela linha de comando ({@code -p}).
+ */
+public final class DadosSinteticos {
+
+    public static final long SEMENTE = 20_240_901L;
+
+    private static final int CENTROS = 40;
+    private static final int LINHAS_NEGOCIO = 8;
+    private static final int CARGOS = 60;
+    private static final int RUBRICAS = 120;
+
+    private DadosSinteticos() {
+    }
+
+    /** Linhas de folha de {@code funcionarios} funcionários, {@code linhasPorFuncionario} rubricas cada. */
+    public static List<FolhaLinhaSnapshot> linhasFolha(int funcionarios, int linhasPorFuncionario) {
+        SplittableRandom random = new SplittableRandom(SEMENTE);
+        List<FolhaLinhaSnapshot> linhas = new ArrayList<>(funcionarios * linhasPorFuncionario);
+        for (long funcionarioId = 1; funcionarioId <= funcionarios; funcionarioId++) {
+            long centroId = 1 + random.nextInt(CENTROS);
+            long linhaNegocioId = 1 + random.nextInt(LINHAS_NEGOCIO);
+            long cargoId = 1 + random.nextInt(CARGOS);
+            for (int i = 0; i < linhasPorFuncionario; i++) {
+                long rubricaId = 1 + random.nextInt(RUBRICAS);
+                boolean desconto = random.nextInt(4) == 0;
+                BigDecimal porcentagem = random.nextInt(5) == 0
+                    ? BigDecimal.valueOf(random.nextInt(5_000, 20_000), 2)
+                    : null;
+                linhas.add(new FolhaLinhaSnapshot(
+                    funcionarioId,
+                    "Funcionário " + funcionarioId,
+                    centroId,
+                    "Centro " + centroId,
+                    linhaNegocioId,
+                    "Linha " + linhaNegocioId,
+                    cargoId,
+                    "Cargo " + cargoId,
+                    rubricaId,
+                    String.format("%04d", rubricaId),
+                    "Rubrica " + rubricaId,
+                    desconto ? "DESCONTO" : "PROVENTO",
+                    BigDecimal.valueOf(random.nextLong(1_00L, 25_000_00L), 2),
+                    (short) (desconto ? 0 : 1),
+                    (short) (desconto ? -1 : 1),
+                    (short) (desconto ? 0 : 1),
+                    OrigemLinha.FOLHA_ADP,
+                    porcentagem));
+            }
+        }
+        return linhas;
+    }
+
+    /** Série numérica de {@code tamanho} valores com 2 casas. */
+    public static List<BigDecimal> serie(int tamanho, long semente) {
+        SplittableRandom random = new SplittableRandom(semente);
+        List<BigDecimal> valores = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            valores.add(BigDecimal.valueOf(random.nextLong(-1_000_00L, 50_000_00L), 2));
+        }
+        return valores;
+    }
+
+    /**
+     * Relatório ADP no layout posicional lido por {@code ImportacaoFolhaAdpService}: cabeçalho de competência,
+     * uma linha de admissão por funcionário seguida de linhas com duas rubricas, e o rodapé de totais.
+     */
+    public static String relatorioAdp(int funcionarios, int linhasDuplasPorFuncionario) {
+        SplittableRandom random = new SplittableRandom(SEMENTE);
+        StringBuilder sb = new StringBuilder(funcionarios * (linhasDuplasPorFuncionario + 1) * 140);
+        sb.append("Competência: 01/10/2024 a 31/10/2024\n");
+        for (int f = 1; f <= funcionarios; f++) {
+            sb.append(linhaAdmissao(idExterno(f), "FUNCIONARIO " + f)).append('\n');
+            for (int i = 0; i < linhasDuplasPorFuncionario; i++) {
+                int rubrica = 10 + 2 * i;
+                String linha = String.format("%-32s", String.format("%04d PROVENTO %d", rubrica, rubrica))
+                    + String.format("%-34s", "1,00 " + valorAdp(random) + " " + valorAdp(random) + "+")
+                    + String.format("%-32s", String.format("%04d DESCONTO %d", rubrica + 1, rubrica + 1))
+                    + String.format("%-33s", "1,00 " + valorAdp(random) + " " + valorAdp(random) + "-");
+                sb.append(linha).append('\n');
+            }
+        }
+        sb.append("Total de Empregados: ").append(funcionarios).append('\n');
+        sb.append("Total de Encargos: 1.000,00\n");
+        sb.append("Total de Pagamentos: 2.000,00\n");
+        sb.append("Total de Descontos: 500,00\n");
+        sb.append("Total Líquido: 1.500,00\n");
+        return sb.toString();
+    }
+
+    public static String idExterno(int funcionario) {
+        return String.format("%05d", funcionario);
+    }
+
+    private static String linhaAdmissao(String idExterno, String nome) {
+        return String.format("%-50s", "") + String.format("%-7s", idExterno) + String.format("%-39s", nome)
+            + "Admissao";
+    }
+
+    private static String valorAdp(SplittableRandom random) {
+        long centavos = random.nextLong(1_00L, 2_000_000L);
+        return String.format("%d,%02d", centavos / 100, centavos % 100);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.techne.sistemafolha.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Implementações mínimas de ports para os benchmarks: cada método respondido recebe os argumentos da
+ * chamada; métodos não mapeados falham, para que um benchmark nunca meça um caminho que não exercita.
+ */
+public final class PortStubs {
+
+    private PortStubs() {
+    }
+
+    public static <T> T stub(Class<T> port, Map<String, Function<Object[], Object>> respostas) {
+        Object proxy = Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[] {port}, (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    default -> port.getSimpleName() + "Stub";
+                };
+            }
+            Function<Object[], Object> resposta = respostas.get(method.getName());
+            if (resposta == null) {
+                throw new UnsupportedOperationException(port.getSimpleName() + "." + method.getName());
+            }
+            return resposta.apply(args);
+        });
+        return port.cast(proxy);
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.techne.sistemafolha.dashboard.application;
+
+import br.com.techne.sistemafolha.benchmarks.DadosSinteticos;
+import br.com.techne.sistemafolha.benchmarks.PortStubs;
+import br.com.techne.sistemafolha.beneficios.port.BeneficioConsultaPort;
+import br.com.techne.sistemafolha.dashboard.api.DashboardStatsDTO;
+import br.com.techne.sistemafolha.folha.application.FolhaBenchmarkSupport;
+import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
+import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
+import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem completa dos stats do dashboard para uma competência, com acesso total (evolução global)
+ * e com escopo restrito. Os ports devolvem massa em memória: mede-se a agregação, não o banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DashboardStatsAggregatorBenchmark {
+
+    private static final LocalDate INICIO = LocalDate.of(2024, 10, 1);
+    private static final LocalDate FIM = LocalDate.of(2024, 10, 31);
+
+    @Param({"500", "5000"})
+    public int funcionarios;
+
+    @Param({"25"})
+    public int linhasPorFuncionario;
+
+    private DashboardStatsAggregator aggregator;
+    private AccessContextDTO acessoTotal;
+    private AccessContextDTO acessoRestrito;
+    private Set<Long> centrosRestritos;
+
+    @Setup
+    public void setUp() {
+        List<FolhaLinhaSnapshot> linhas = DadosSinteticos.linhasFolha(funcionarios, linhasPorFuncionario);
+        centrosRestritos = Set.of(1L, 2L, 3L, 4L, 5L);
+        List<FolhaLinhaSnapshot> linhasRestritas = linhas.stream()
+            .filter(l -> centrosRestritos.contains(l.centroCustoId()))
+            .toList();
+
+        FolhaConsultaPort folhaConsultaPort = PortStubs.stub(FolhaConsultaPort.class, Map.of(
+            "findAgregadosPorCompetencia", args -> List.of(),
+            "findLinhasAtivasPorCompetencia", args -> args[3] == null ? linhas : linhasRestritas,
+            "findEvolucaoUltimos12Meses", args -> List.of()));
+
+        Map<Long, BigDecimal> beneficiosPorFuncionario = new HashMap<>();
+        for (long id = 1; id <= funcionarios; id += 3) {
+            beneficiosPorFuncionario.put(id, new BigDecimal("450.00"));
+        }
+        BeneficioConsultaPort beneficioConsultaPort = PortStubs.stub(BeneficioConsultaPort.class, Map.of(
+            "somarValorPorFuncionariosECompetencia", args -> beneficiosPorFuncionario,
+            "contarLancamentosPorFuncionarioECompetencia", args -> 1,
+            "contarLancamentosAtivosNaCompetencia", args -> (long) beneficiosPorFuncionario.size(),
+            "contarLancamentosAtivosNaCompetenciaPorCentros", args -> (long) beneficiosPorFuncionario.size()));
+
+        aggregator = new DashboardStatsAggregator(
+            folhaConsultaPort, FolhaBenchmarkSupport.totalizacaoPort(beneficioConsultaPort), beneficioConsultaPort);
+        acessoTotal = new AccessContextDTO(true, true, true, Set.of(), null, null, null, null);
+        acessoRestrito = new AccessContextDTO(true, true, false, centrosRestritos, null, 1L, "Diretoria", 1);
+    }
+
+    @Benchmark
+    public DashboardStatsDTO aggregateAcessoTotal() {
+        return aggregator.aggregateForCompetencia(acessoTotal, null, INICIO, FIM, false);
+    }
+
+    @Benchmark
+    public DashboardStatsDTO aggregateEscopoRestrito() {
+        return aggregator.aggregateForCompetencia(acessoRestrito, centrosRestritos, INICIO, FIM, false);
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import br.com.techne.sistemafolha.beneficios.port.BeneficioConsultaPort;
+import br.com.techne.sistemafolha.folha.port.FolhaTotalizacaoPort;
+
+/**
+ * Acesso às implementações package-private de {@code folha.application} para benchmarks de outros módulos.
+ */
+public final class FolhaBenchmarkSupport {
+
+    private FolhaBenchmarkSupport() {
+    }
+
+    /** Sem repositório de fichas: os benchmarks medem apenas o caminho por linhas. */
+    public static FolhaTotalizacaoPort totalizacaoPort(BeneficioConsultaPort beneficioConsultaPort) {
+        return new FolhaTotalizacaoAdapter(
+            new FolhaTotalizacaoService(beneficioConsultaPort, new FolhaCalculoCentavos(), null));
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import br.com.techne.sistemafolha.benchmarks.DadosSinteticos;
+import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agregação da competência usada pelo resumo ({@link FolhaLinhaAgregacao#agregar}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FolhaLinhaAgregacaoBenchmark {
+
+    @Param({"500", "5000"})
+    public int funcionarios;
+
+    @Param({"25"})
+    public int linhasPorFuncionario;
+
+    private final FolhaLinhaAgregacao agregacao = new FolhaLinhaAgregacao(new FolhaCalculoCentavos());
+    private List<FolhaLinhaSnapshot> linhas;
+    private Map<Long, BigDecimal> beneficios;
+
+    @Setup
+    public void setUp() {
+        linhas = DadosSinteticos.linhasFolha(funcionarios, linhasPorFuncionario);
+        beneficios = new HashMap<>();
+        for (long id = 1; id <= funcionarios; id += 3) {
+            beneficios.put(id, new BigDecimal("450.00"));
+        }
+    }
+
+    @Benchmark
+    public FolhaLinhaAgregacao.Totais agregarTotais() {
+        return agregacao.agregar(linhas);
+    }
+
+    @Benchmark
+    public FolhaLinhaAgregacao.TotaisResumo agregarResumo() {
+        return agregacao.agregar(linhas, beneficios, Map.of());
+    }
+}
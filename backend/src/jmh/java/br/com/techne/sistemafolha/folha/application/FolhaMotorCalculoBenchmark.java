@@ -0,0 +1,48 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import br.com.techne.sistemafolha.benchmarks.DadosSinteticos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Totalização de uma ficha ({@code calcularPorLinhas}) nos dois kernels de {@link FolhaCalculoKernel}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FolhaMotorCalculoBenchmark {
+
+    @Param({"20", "200", "2000"})
+    public int linhas;
+
+    private List<FolhaMotorCalculo.LinhaCalculoInput> inputs;
+    private final FolhaCalculoKernel decimal = new FolhaCalculoDecimal();
+    private final FolhaCalculoKernel centavos = new FolhaCalculoCentavos();
+
+    @Setup
+    public void setUp() {
+        inputs = DadosSinteticos.linhasFolha(1, linhas).stream()
+            .map(l -> new FolhaMotorCalculo.LinhaCalculoInput(
+                l.valor(), l.operadorBruto(), l.operadorLiquido(), l.operadorCusto(), l.porcentagem()))
+            .toList();
+    }
+
+    @Benchmark
+    public FolhaMotorCalculo.TotaisFuncionario calcularPorLinhasDecimal() {
+        return decimal.calcularPorLinhas(inputs);
+    }
+
+    @Benchmark
+    public FolhaMotorCalculo.TotaisFuncionario calcularPorLinhasCentavos() {
+        return centavos.calcularPorLinhas(inputs);
+    }
+}
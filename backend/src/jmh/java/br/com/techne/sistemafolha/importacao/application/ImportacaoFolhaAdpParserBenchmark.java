@@ -0,0 +1,107 @@
+package br.com.techne.sistemafolha.importacao.application;
+
+import br.com.techne.sistemafolha.benchmarks.DadosSinteticos;
+import br.com.techne.sistemafolha.benchmarks.PortStubs;
+import br.com.techne.sistemafolha.cadastros.port.CadastrosImportLookupPort;
+import br.com.techne.sistemafolha.cadastros.port.FuncionarioImportRef;
+import br.com.techne.sistemafolha.cadastros.port.RubricaImportRef;
+import br.com.techne.sistemafolha.folha.api.ProcessamentoResultadoDTO;
+import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
+import br.com.techne.sistemafolha.folha.port.FolhaImportacaoCommand;
+import br.com.techne.sistemafolha.folha.port.FolhaImportacaoPort;
+import br.com.techne.sistemafolha.folha.port.FolhaProcessamentoPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura do relatório ADP em {@link ImportacaoFolhaAdpService#importarFolhaAdp}: os ports respondem de
+ * memória e a persistência/processamento são no-op, então o tempo medido é o do parser posicional
+ * ({@link AdpRelatorioParser}) mais a resolução contra o {@link ImportacaoAdpSnapshot}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImportacaoFolhaAdpParserBenchmark {
+
+    @Param({"100", "2000"})
+    public int funcionarios;
+
+    @Param({"15"})
+    public int linhasDuplasPorFuncionario;
+
+    private ImportacaoFolhaAdpService service;
+    private MockMultipartFile arquivo;
+    private int linhasUltimaImportacao;
+
+    @Setup
+    public void setUp() {
+        byte[] conteudo = DadosSinteticos.relatorioAdp(funcionarios, linhasDuplasPorFuncionario)
+            .getBytes(Charset.forName("WINDOWS-1252"));
+        arquivo = new MockMultipartFile("arquivo", "folha-adp.txt", "text/plain", conteudo);
+
+        Map<String, RubricaImportRef> rubricas = new ConcurrentHashMap<>();
+        CadastrosImportLookupPort cadastros = PortStubs.stub(CadastrosImportLookupPort.class, Map.of(
+            "findFuncionariosByIdExternos", args -> {
+                Map<String, FuncionarioImportRef> encontrados = new HashMap<>();
+                for (Object idExterno : (Set<?>) args[0]) {
+                    long id = Long.parseLong((String) idExterno);
+                    encontrados.put((String) idExterno, new FuncionarioImportRef(
+                        id, (String) idExterno, "FUNCIONARIO " + id, String.format("%011d", id), 1L, 1L, 1L));
+                }
+                return encontrados;
+            },
+            "findRubricasByCodigos", args -> Map.copyOf(rubricas),
+            "findOrCreateRubrica", args -> rubricas.computeIfAbsent((String) args[0],
+                codigo -> new RubricaImportRef((long) rubricas.size() + 1, codigo, (String) args[2]))));
+        FolhaConsultaPort consulta = PortStubs.stub(FolhaConsultaPort.class, Map.of(
+            "existsResumoAtivo", args -> false,
+            "findFuncionariosComFolhaAtivaPorCpf", args -> Map.of(),
+            "findRubricasAtivasPorFuncionario", args -> Map.of()));
+        FolhaImportacaoPort importacao = PortStubs.stub(FolhaImportacaoPort.class, Map.of(
+            "persistirImportacao", args -> {
+                linhasUltimaImportacao = ((FolhaImportacaoCommand) args[0]).linhas().size();
+                return List.of();
+            }));
+        FolhaProcessamentoPort processamento = PortStubs.stub(FolhaProcessamentoPort.class, Map.of(
+            "processar", args -> new ProcessamentoResultadoDTO(0, 0, 0)));
+
+        service = new ImportacaoFolhaAdpService(
+            cadastros, consulta, importacao, processamento, Clock.systemDefaultZone());
+        verificarMassa();
+    }
+
+    @Benchmark
+    public ImportacaoFolhaAdpResult importar() throws IOException {
+        return service.importarFolhaAdp(arquivo, false, false);
+    }
+
+    private void verificarMassa() {
+        try {
+            importar();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        int esperadas = funcionarios * linhasDuplasPorFuncionario * 2;
+        if (linhasUltimaImportacao != esperadas) {
+            throw new IllegalStateException(
+                "Relatório sintético gerou " + linhasUltimaImportacao + " linhas; esperado " + esperadas);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.techne.sistemafolha.workspace.application;
+
+import br.com.techne.sistemafolha.benchmarks.DadosSinteticos;
+import br.com.techne.sistemafolha.workspace.domain.formula.EvaluationContext;
+import br.com.techne.sistemafolha.workspace.domain.formula.TypedValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FormulaEngine#evaluate} (tokenização + parse + avaliação) contra {@link FormulaPlan#evaluate} com o
+ * plano já compilado, sobre séries de tamanho configurável.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FormulaEngineBenchmark {
+
+    @Param({"12", "1000", "100000"})
+    public int tamanhoSerie;
+
+    @Param({
+        "SOMA(a) * MÉDIA(b)",
+        "SE(SOMA(a) > 0, SE(MÉDIA(b) >= 10, MÁX(a) - MÍN(b), CONTAGEM(a)), 0)"
+    })
+    public String expressao;
+
+    private final FormulaEngine engine = new FormulaEngine();
+    private EvaluationContext contexto;
+    private FormulaPlan plano;
+
+    @Setup
+    public void setUp() {
+        contexto = EvaluationContext.builder()
+            .putSeries("a", DadosSinteticos.serie(tamanhoSerie, 1L))
+            .putSeries("b", DadosSinteticos.serie(tamanhoSerie, 2L))
+            .build();
+        plano = engine.compile(expressao, null);
+    }
+
+    @Benchmark
+    public TypedValue evaluate() {
+        return engine.evaluate(expressao, contexto);
+    }
+
+    @Benchmark
+    public TypedValue evaluatePlan() {
+        return plano.evaluate(contexto);
+    }
+}
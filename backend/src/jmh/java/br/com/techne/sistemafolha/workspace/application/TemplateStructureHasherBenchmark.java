@@ -0,0 +1,56 @@
+package br.com.techne.sistemafolha.workspace.application;
+
+import br.com.techne.sistemafolha.workspace.domain.DatasetFieldSchema;
+import br.com.techne.sistemafolha.workspace.domain.DatasetFieldType;
+import br.com.techne.sistemafolha.workspace.domain.TemplateStructurePayload;
+import br.com.techne.sistemafolha.workspace.domain.WidgetSourceKind;
+import br.com.techne.sistemafolha.workspace.domain.WidgetSourceRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hash canônico de estrutura de template ({@link TemplateStructureHasher#hash}) por número de campos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateStructureHasherBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int campos;
+
+    private final TemplateStructureHasher hasher = new TemplateStructureHasher();
+    private TemplateStructurePayload payload;
+
+    @Setup
+    public void setUp() {
+        DatasetFieldType[] tipos = DatasetFieldType.values();
+        List<DatasetFieldSchema> schema = new ArrayList<>(campos);
+        List<WidgetSourceRef> fontes = new ArrayList<>(campos);
+        Map<String, Object> config = new HashMap<>();
+        for (int i = 0; i < campos; i++) {
+            schema.add(new DatasetFieldSchema("campo_" + i, tipos[i % tipos.length], null, i % 2 == 0, null));
+            fontes.add(new WidgetSourceRef(WidgetSourceKind.DATASET, "dataset_" + i));
+            config.put("opcao_" + i, Map.of("cor", "#7836FC", "ordem", i));
+        }
+        payload = new TemplateStructurePayload(
+            1L, "WIDGET", "Template sintético", schema, "TABELA", fontes, "SOMA(campo_0)", config);
+    }
+
+    @Benchmark
+    public String hash() {
+        return hasher.hash(payload);
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.List;
@@ -34,6 +35,11 @@ public class ApiKeyService {
     static final int DEFAULT_DIAS_VALIDADE = 365;
     static final int SECRET_BYTES = 32;
     static final int PREFIXO_RANDOM_CHARS = 8;
+    /**
+     * Uso mais frequente que isso não regrava {@code ultimoUsoEm}: integrações em polling não geram um UPDATE por
+     * chamada.
+     */
+    static final Duration INTERVALO_ULTIMO_USO = Duration.ofMinutes(1);
 
     private static final Logger logger = LoggerFactory.getLogger(ApiKeyService.class);
     private static final String DOMAIN = "auth";
@@ -45,6 +51,7 @@ public class ApiKeyService {
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
     private final Clock clock;
+    private final ApiKeyVerificacaoCache verificacaoCache;
 
     @Transactional
     public ApiKeyCreatedDTO criar(Usuario usuario, ApiKeyCreateRequest request) {
@@ -95,6 +102,7 @@ public class ApiKeyService {
         if (!apiKey.isRevogado()) {
             apiKey.setRevogado(true);
             apiKeyRepository.save(apiKey);
+            verificacaoCache.invalidar(apiKeyId);
             logger.info("{}API Key revogada id={} usuarioId={}", DOMAIN_PREFIX, apiKeyId, apiKey.getUsuario().getId());
         }
     }
@@ -118,12 +126,14 @@ public class ApiKeyService {
         }
 
         ApiKey apiKey = apiKeyOpt.get();
-        if (apiKey.isRevogado() || LocalDateTime.now(clock).isAfter(apiKey.getDataExpiracao())) {
+        LocalDateTime agora = LocalDateTime.now(clock);
+        if (apiKey.isRevogado() || agora.isAfter(apiKey.getDataExpiracao())) {
             logger.debug("{}Autenticação API Key inválida prefixo={}", DOMAIN_PREFIX, prefixo);
             return Optional.empty();
         }
 
-        if (!passwordEncoder.matches(chaveBruta, apiKey.getHashChave())) {
+        if (!verificacaoCache.verificar(
+                chaveBruta, apiKey, () -> passwordEncoder.matches(chaveBruta, apiKey.getHashChave()))) {
             logger.debug("{}Autenticação API Key inválida prefixo={}", DOMAIN_PREFIX, prefixo);
             return Optional.empty();
         }
@@ -134,8 +144,10 @@ public class ApiKeyService {
             return Optional.empty();
         }
 
-        apiKey.setUltimoUsoEm(LocalDateTime.now(clock));
-        apiKeyRepository.save(apiKey);
+        if (apiKey.getUltimoUsoEm() == null || apiKey.getUltimoUsoEm().isBefore(agora.minus(INTERVALO_ULTIMO_USO))) {
+            apiKey.setUltimoUsoEm(agora);
+            apiKeyRepository.save(apiKey);
+        }
 
         return Optional.of(usuario);
     }
@@ -0,0 +1,89 @@
+package br.com.techne.sistemafolha.auth.application;
+
+import br.com.techne.sistemafolha.auth.domain.ApiKey;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Chaves de API já conferidas com o BCrypt, para que requisições repetidas da mesma integração não paguem o hash a
+ * cada chamada. A chave do cache é o HMAC-SHA256 da chave completa com um segredo gerado no startup (a chave em claro
+ * nunca fica em memória), e a entrada só vale para o mesmo registro e o mesmo {@code hashChave} lidos do banco na
+ * requisição: revogação, expiração e estado do usuário continuam conferidos pela consulta por prefixo. O limite é por
+ * quantidade, com descarte do menos usado.
+ */
+@Component
+public class ApiKeyVerificacaoCache {
+
+    static final int MAX_ENTRADAS = 1024;
+    private static final String ALGORITMO = "HmacSHA256";
+
+    private final SecretKeySpec segredo;
+    private final ThreadLocal<Mac> macs;
+    private final Map<String, Verificada> verificadas = new LinkedHashMap<>(64, 0.75f, true);
+
+    private record Verificada(Long apiKeyId, String hashChave) {
+    }
+
+    public ApiKeyVerificacaoCache() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        this.segredo = new SecretKeySpec(bytes, ALGORITMO);
+        this.macs = ThreadLocal.withInitial(this::novoMac);
+    }
+
+    /** Confere a chave pelo cache ou, na ausência dele, por {@code verificarHash}, guardando só o que conferiu. */
+    public boolean verificar(String chave, ApiKey apiKey, BooleanSupplier verificarHash) {
+        String impressao = impressao(chave);
+        synchronized (this) {
+            Verificada verificada = verificadas.get(impressao);
+            if (verificada != null
+                    && verificada.apiKeyId().equals(apiKey.getId())
+                    && verificada.hashChave().equals(apiKey.getHashChave())) {
+                return true;
+            }
+        }
+        if (!verificarHash.getAsBoolean()) {
+            return false;
+        }
+        guardar(impressao, new Verificada(apiKey.getId(), apiKey.getHashChave()));
+        return true;
+    }
+
+    public synchronized void invalidar(Long apiKeyId) {
+        verificadas.values().removeIf(verificada -> verificada.apiKeyId().equals(apiKeyId));
+    }
+
+    synchronized int tamanho() {
+        return verificadas.size();
+    }
+
+    private synchronized void guardar(String impressao, Verificada verificada) {
+        verificadas.put(impressao, verificada);
+        if (verificadas.size() > MAX_ENTRADAS) {
+            verificadas.remove(verificadas.keySet().iterator().next());
+        }
+    }
+
+    private String impressao(String chave) {
+        return HexFormat.of().formatHex(macs.get().doFinal(chave.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac novoMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO);
+            mac.init(segredo);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 indisponível", e);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import br.com.techne.sistemafolha.auth.domain.Usuario;
 import br.com.techne.sistemafolha.auth.infrastructure.RefreshTokenRepository;
 import br.com.techne.sistemafolha.auth.infrastructure.UsuarioRepository;
 import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
 import br.com.techne.sistemafolha.shared.logging.DomainLogging;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -29,6 +30,7 @@ public class RefreshTokenService {
     private final UsuarioRepository usuarioRepository;
     private final JwtService jwtService;
     private final Clock clock;
+    private final UsuarioPrincipalCache usuarioPrincipalCache;
 
     @Transactional
     public RefreshToken criarRefreshToken(String login) {
@@ -39,6 +41,7 @@ public class RefreshTokenService {
         
         // Revogar tokens antigos do usuário
         refreshTokenRepository.revogarTodosPorUsuario(usuario);
+        usuarioPrincipalCache.invalidar(login);
         
         String token = jwtService.generateRefreshToken();
         LocalDateTime dataExpiracao = LocalDateTime.now(clock)
@@ -61,6 +64,8 @@ public class RefreshTokenService {
     @Transactional
     public void revogarToken(String token) {
         logger.info("Revogando refresh token");
+        refreshTokenRepository.findByToken(token)
+                .ifPresent(refreshToken -> usuarioPrincipalCache.invalidar(refreshToken.getUsuario().getLogin()));
         refreshTokenRepository.revogarPorToken(token);
     }
 
@@ -68,6 +73,7 @@ public class RefreshTokenService {
     public void revogarTodosPorUsuario(Usuario usuario) {
         logger.info("Revogando todos os refresh tokens do usuário: {}", usuario.getLogin());
         refreshTokenRepository.revogarTodosPorUsuario(usuario);
+        usuarioPrincipalCache.invalidar(usuario.getLogin());
     }
 
     @Transactional
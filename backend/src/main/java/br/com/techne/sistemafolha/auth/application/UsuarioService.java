@@ -10,12 +10,14 @@ import br.com.techne.sistemafolha.cadastros.port.FuncionarioConsultaPort;
 import br.com.techne.sistemafolha.auth.infrastructure.UsuarioRepository;
 import br.com.techne.sistemafolha.auth.port.UsuarioLookupPort;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
+import br.com.techne.sistemafolha.organograma.acesso.port.ContextoAcessoAlteradoEvent;
 import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
 import br.com.techne.sistemafolha.shared.access.CentroCustoEfetivo;
 import br.com.techne.sistemafolha.shared.logging.DomainLogging;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +37,7 @@ public class UsuarioService {
     private final PasswordEncoder passwordEncoder;
     private final UsuarioLookupPort usuarioLookupPort;
     private final OrganogramaAcessoPort organogramaAcessoPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<UsuarioDTO> listarTodos() {
         return listar(null, null, null);
@@ -169,7 +172,9 @@ public class UsuarioService {
 
         Usuario usuario = toEntity(dto);
         usuario.setSenha(passwordEncoder.encode(dto.senha()));
-        return toDTO(usuarioRepository.save(usuario));
+        Usuario salvo = usuarioRepository.save(usuario);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.doUsuario(salvo.getId()));
+        return toDTO(salvo);
     }
 
     @Transactional
@@ -201,7 +206,9 @@ public class UsuarioService {
             usuario.setFuncionario(null);
         }
         
-        return toDTO(usuarioRepository.save(usuario));
+        Usuario salvo = usuarioRepository.save(usuario);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.doUsuario(id));
+        return toDTO(salvo);
     }
 
     @Transactional
@@ -212,6 +219,7 @@ public class UsuarioService {
                 .orElseThrow(() -> new UsuarioNotFoundException(id));
         usuario.setAtivo(false);
         usuarioRepository.save(usuario);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.doUsuario(id));
     }
 
     private UsuarioDTO toDTO(Usuario usuario) {
@@ -2,6 +2,8 @@ package br.com.techne.sistemafolha.beneficios.application;
 
 import br.com.techne.sistemafolha.beneficios.port.BeneficioCcTipoSnapshot;
 import br.com.techne.sistemafolha.beneficios.port.BeneficioConsultaPort;
+import br.com.techne.sistemafolha.beneficios.port.BeneficioFuncionarioCompetenciaSnapshot;
+import br.com.techne.sistemafolha.beneficios.port.BeneficioFuncionarioTotaisSnapshot;
 import br.com.techne.sistemafolha.beneficios.port.BeneficioFuncionarioValorSnapshot;
 import br.com.techne.sistemafolha.beneficios.port.BeneficioLinhaSnapshot;
 import br.com.techne.sistemafolha.beneficios.port.BeneficioTipoResumoSnapshot;
@@ -49,10 +51,9 @@ public class BeneficioConsultaAdapter implements BeneficioConsultaPort {
     public int contarLancamentosPorFuncionarioECompetencia(
             Long funcionarioId, LocalDate competenciaInicio, LocalDate competenciaFim) {
         validarFuncionarioECompetencia(funcionarioId, competenciaInicio, competenciaFim);
-        return beneficioMensalRepository
-            .findByFuncionarioIdAndCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
-                funcionarioId, competenciaInicio, competenciaFim)
-            .size();
+        return Math.toIntExact(beneficioMensalRepository
+            .countByFuncionarioIdAndCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
+                funcionarioId, competenciaInicio, competenciaFim));
     }
 
     @Override
@@ -65,9 +66,8 @@ public class BeneficioConsultaAdapter implements BeneficioConsultaPort {
     @Override
     public long contarLancamentosAtivosNaCompetencia(LocalDate competenciaInicio, LocalDate competenciaFim) {
         validarCompetencia(competenciaInicio, competenciaFim);
-        return beneficioMensalRepository
-            .findByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(competenciaInicio, competenciaFim)
-            .size();
+        return beneficioMensalRepository.countByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
+            competenciaInicio, competenciaFim);
     }
 
     @Override
@@ -98,6 +98,45 @@ public class BeneficioConsultaAdapter implements BeneficioConsultaPort {
         return resultado;
     }
 
+    @Override
+    public List<BeneficioFuncionarioCompetenciaSnapshot> somarValorPorFuncionariosDesdeCompetencia(
+            Set<Long> funcionarioIds, LocalDate dataInicio) {
+        if (dataInicio == null) {
+            throw new IllegalArgumentException("data inicial não pode ser nula");
+        }
+        if (funcionarioIds == null || funcionarioIds.isEmpty()) {
+            return List.of();
+        }
+        List<BeneficioFuncionarioCompetenciaSnapshot> resultado = new ArrayList<>();
+        for (Object[] row : beneficioMensalRepository.sumValorPorFuncionariosDesdeCompetencia(
+                funcionarioIds, dataInicio)) {
+            resultado.add(new BeneficioFuncionarioCompetenciaSnapshot(
+                (Long) row[0],
+                (LocalDate) row[1],
+                (LocalDate) row[2],
+                row[3] != null ? (BigDecimal) row[3] : BigDecimal.ZERO));
+        }
+        return resultado;
+    }
+
+    @Override
+    public Map<Long, BeneficioFuncionarioTotaisSnapshot> totaisPorFuncionariosECompetencia(
+            Set<Long> funcionarioIds, LocalDate competenciaInicio, LocalDate competenciaFim) {
+        validarCompetencia(competenciaInicio, competenciaFim);
+        if (funcionarioIds == null || funcionarioIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, BeneficioFuncionarioTotaisSnapshot> resultado = new HashMap<>();
+        for (var p : beneficioMensalRepository.totaisPorFuncionariosECompetencia(
+                funcionarioIds, competenciaInicio, competenciaFim)) {
+            resultado.put(p.getFuncionarioId(), new BeneficioFuncionarioTotaisSnapshot(
+                p.getFuncionarioId(),
+                p.getQtdLancamentos() != null ? p.getQtdLancamentos() : 0L,
+                p.getTotal() != null ? p.getTotal() : BigDecimal.ZERO));
+        }
+        return resultado;
+    }
+
     @Override
     public List<BeneficioLinhaSnapshot> findLinhasPorFuncionarioECompetencia(
             Long funcionarioId, LocalDate competenciaInicio, LocalDate competenciaFim) {
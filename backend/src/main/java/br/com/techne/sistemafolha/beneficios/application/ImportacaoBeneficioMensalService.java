@@ -6,16 +6,10 @@ import br.com.techne.sistemafolha.beneficios.domain.ImportacaoBeneficioMensalInv
 import br.com.techne.sistemafolha.beneficios.domain.BeneficioMensal;
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.beneficios.domain.TipoBeneficio;
+import br.com.techne.sistemafolha.beneficios.infrastructure.BeneficioMensalJdbcBatchWriter;
 import br.com.techne.sistemafolha.beneficios.infrastructure.BeneficioMensalRepository;
 import br.com.techne.sistemafolha.beneficios.infrastructure.TipoBeneficioRepository;
 import br.com.techne.sistemafolha.cadastros.port.FuncionarioConsultaPort;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import br.com.techne.sistemafolha.shared.logging.DomainLogging;
@@ -24,11 +18,16 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class ImportacaoBeneficioMensalService {
@@ -44,20 +43,29 @@ public class ImportacaoBeneficioMensalService {
     private static final int COL_VALOR = 13;
     private static final int PRIMEIRA_LINHA_DADOS = 1;
 
+    private static final int COLUNAS_LIDAS = COL_VALOR + 1;
+
     private final FuncionarioConsultaPort funcionarioConsultaPort;
     private final TipoBeneficioRepository tipoBeneficioRepository;
     private final BeneficioMensalRepository beneficioMensalRepository;
-    private final DataFormatter dataFormatter = new DataFormatter();
+    private final BeneficioMensalJdbcBatchWriter beneficioMensalBatchWriter;
 
     public ImportacaoBeneficioMensalService(
             FuncionarioConsultaPort funcionarioConsultaPort,
             TipoBeneficioRepository tipoBeneficioRepository,
-            BeneficioMensalRepository beneficioMensalRepository) {
+            BeneficioMensalRepository beneficioMensalRepository,
+            BeneficioMensalJdbcBatchWriter beneficioMensalBatchWriter) {
         this.funcionarioConsultaPort = funcionarioConsultaPort;
         this.tipoBeneficioRepository = tipoBeneficioRepository;
         this.beneficioMensalRepository = beneficioMensalRepository;
+        this.beneficioMensalBatchWriter = beneficioMensalBatchWriter;
     }
 
+    /**
+     * Importa a aba {@value #ABA_PLANILHA} lida em streaming por {@link PlanilhaStreamReader}. Funcionários e tipos
+     * de benefício são resolvidos com uma consulta em lote cada; qualquer linha inválida rejeita o arquivo
+     * inteiro antes de remover ou gravar registros.
+     */
     @Transactional
     public ImportacaoResultadoDTO importar(
             MultipartFile arquivo,
@@ -74,10 +82,13 @@ public class ImportacaoBeneficioMensalService {
 
         verificarDuplicidadeSemConfirmacao(competenciaInicio, competenciaFim, confirmarSubstituicao);
 
-        ResultadoProcessamentoPlanilha resultado;
-        try (Workbook workbook = WorkbookFactory.create(arquivo.getInputStream())) {
-            Sheet sheet = obterAbaPlanilha(workbook);
-            resultado = processarPlanilha(sheet, competenciaInicio, competenciaFim);
+        List<LinhaPlanilha> linhas = new ArrayList<>();
+        try (InputStream entrada = arquivo.getInputStream()) {
+            new PlanilhaStreamReader().ler(entrada, ABA_PLANILHA, COLUNAS_LIDAS, (rowIndex, celulas) -> {
+                if (rowIndex >= PRIMEIRA_LINHA_DADOS) {
+                    lerLinha(rowIndex, celulas).ifPresent(linhas::add);
+                }
+            });
         } catch (IllegalArgumentException ex) {
             throw ex;
         } catch (Exception ex) {
@@ -85,6 +96,8 @@ public class ImportacaoBeneficioMensalService {
             throw new IllegalArgumentException("Arquivo inválido ou corrompido: " + ex.getMessage());
         }
 
+        ResultadoProcessamentoPlanilha resultado = processarLinhas(linhas, competenciaInicio, competenciaFim);
+
         if (!resultado.detalhesErros().isEmpty()) {
             logger.warn("Importação rejeitada - {} erro(s) encontrado(s), nenhum registro persistido",
                     resultado.detalhesErros().size());
@@ -116,12 +129,14 @@ public class ImportacaoBeneficioMensalService {
         }
     }
 
-    private Sheet obterAbaPlanilha(Workbook workbook) {
-        Sheet sheet = workbook.getSheet(ABA_PLANILHA);
-        if (sheet == null) {
-            throw new IllegalArgumentException("Aba '" + ABA_PLANILHA + "' não encontrada no arquivo");
-        }
-        return sheet;
+    /** Linha com CPF preenchido, ainda sem validação contra cadastros. */
+    private record LinhaPlanilha(
+            int linhaPlanilha,
+            String cpf,
+            String nome,
+            String descricao,
+            String codigo,
+            PlanilhaStreamReader.Celula valor) {
     }
 
     private record ResultadoProcessamentoPlanilha(
@@ -130,23 +145,48 @@ public class ImportacaoBeneficioMensalService {
             BigDecimal totalValor) {
     }
 
-    private ResultadoProcessamentoPlanilha processarPlanilha(
-            Sheet sheet,
+    private Optional<LinhaPlanilha> lerLinha(int rowIndex, PlanilhaStreamReader.Celula[] celulas) {
+        String cpf = normalizarCpf(lerTexto(celulas[COL_CPF]));
+        if (cpf.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new LinhaPlanilha(
+                rowIndex + 1,
+                cpf,
+                lerTexto(celulas[COL_NOME]),
+                lerTexto(celulas[COL_DESCRICAO]),
+                lerCodigoTipoBeneficio(celulas[COL_CODIGO]),
+                celulas[COL_VALOR]));
+    }
+
+    private ResultadoProcessamentoPlanilha processarLinhas(
+            List<LinhaPlanilha> linhas,
             LocalDate competenciaInicio,
             LocalDate competenciaFim) {
 
+        Set<String> cpfs = new HashSet<>();
+        Set<String> codigos = new HashSet<>();
+        for (LinhaPlanilha linha : linhas) {
+            cpfs.add(linha.cpf());
+            if (!linha.codigo().isEmpty()) {
+                codigos.add(linha.codigo());
+            }
+        }
+        Map<String, Funcionario> funcionarios = funcionarioConsultaPort.findAtivosByCpfs(cpfs);
+        Map<String, TipoBeneficio> tipos = new HashMap<>();
+        if (!codigos.isEmpty()) {
+            for (TipoBeneficio tipo : tipoBeneficioRepository.findByCodigoInAndAtivoTrue(codigos)) {
+                tipos.putIfAbsent(tipo.getCodigo(), tipo);
+            }
+        }
+
         List<String> detalhesErros = new ArrayList<>();
         List<BeneficioMensal> registros = new ArrayList<>();
         BigDecimal totalValor = BigDecimal.ZERO;
 
-        for (int rowIndex = PRIMEIRA_LINHA_DADOS; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
-            Row row = sheet.getRow(rowIndex);
-            if (row == null) {
-                continue;
-            }
-
+        for (LinhaPlanilha linha : linhas) {
             Optional<BeneficioMensal> beneficioOpt = processarLinha(
-                    row, rowIndex, competenciaInicio, competenciaFim, detalhesErros);
+                    linha, funcionarios, tipos, competenciaInicio, competenciaFim, detalhesErros);
             if (beneficioOpt.isPresent()) {
                 BeneficioMensal beneficio = beneficioOpt.get();
                 registros.add(beneficio);
@@ -158,58 +198,53 @@ public class ImportacaoBeneficioMensalService {
     }
 
     private Optional<BeneficioMensal> processarLinha(
-            Row row,
-            int rowIndex,
+            LinhaPlanilha linha,
+            Map<String, Funcionario> funcionarios,
+            Map<String, TipoBeneficio> tipos,
             LocalDate competenciaInicio,
             LocalDate competenciaFim,
             List<String> detalhesErros) {
 
-        String cpf = normalizarCpf(lerTexto(row.getCell(COL_CPF)));
-        if (cpf.isEmpty()) {
-            return Optional.empty();
-        }
+        String cpf = linha.cpf();
+        String nome = linha.nome();
+        String codigo = linha.codigo();
 
-        int linhaPlanilha = rowIndex + 1;
-        String nome = lerTexto(row.getCell(COL_NOME));
-        String descricao = lerTexto(row.getCell(COL_DESCRICAO));
-        String codigo = lerCodigoTipoBeneficio(row.getCell(COL_CODIGO));
-
-        Funcionario funcionario = funcionarioConsultaPort.findByCpfAndAtivoTrue(cpf).orElse(null);
+        Funcionario funcionario = funcionarios.get(cpf);
         if (funcionario == null) {
-            detalhesErros.add(formatarErro(linhaPlanilha, cpf, nome,
+            detalhesErros.add(formatarErro(linha.linhaPlanilha(), cpf, nome,
                     "Funcionário ativo não encontrado para o CPF informado"));
             return Optional.empty();
         }
 
         if (codigo.isEmpty()) {
-            detalhesErros.add(formatarErro(linhaPlanilha, cpf, nome,
+            detalhesErros.add(formatarErro(linha.linhaPlanilha(), cpf, nome,
                     "Código do tipo de benefício é obrigatório"));
             return Optional.empty();
         }
 
-        TipoBeneficio tipoBeneficio = tipoBeneficioRepository.findByCodigoAndAtivoTrue(codigo).orElse(null);
+        TipoBeneficio tipoBeneficio = tipos.get(codigo);
         if (tipoBeneficio == null) {
-            detalhesErros.add(formatarErro(linhaPlanilha, cpf, nome,
+            detalhesErros.add(formatarErro(linha.linhaPlanilha(), cpf, nome,
                     "Tipo de benefício não encontrado para o código: " + codigo));
             return Optional.empty();
         }
 
         BigDecimal valor;
         try {
-            valor = lerValor(row.getCell(COL_VALOR));
+            valor = lerValor(linha.valor());
         } catch (IllegalArgumentException ex) {
-            detalhesErros.add(formatarErro(linhaPlanilha, cpf, nome, ex.getMessage()));
+            detalhesErros.add(formatarErro(linha.linhaPlanilha(), cpf, nome, ex.getMessage()));
             return Optional.empty();
         }
 
         if (valor.compareTo(BigDecimal.ZERO) < 0) {
-            detalhesErros.add(formatarErro(linhaPlanilha, cpf, nome,
+            detalhesErros.add(formatarErro(linha.linhaPlanilha(), cpf, nome,
                     "Valor deve ser maior ou igual a zero"));
             return Optional.empty();
         }
 
         BeneficioMensal beneficio = criarBeneficioMensal(
-                funcionario, tipoBeneficio, valor, competenciaInicio, competenciaFim, descricao);
+                funcionario, tipoBeneficio, valor, competenciaInicio, competenciaFim, linha.descricao());
         return Optional.of(beneficio);
     }
 
@@ -244,9 +279,7 @@ public class ImportacaoBeneficioMensalService {
             substituirRegistrosExistentes(competenciaInicio, competenciaFim);
         }
 
-        for (BeneficioMensal registro : registros) {
-            beneficioMensalRepository.save(registro);
-        }
+        beneficioMensalBatchWriter.inserir(registros);
     }
 
     private void verificarDuplicidadeSemConfirmacao(
@@ -275,33 +308,33 @@ public class ImportacaoBeneficioMensalService {
         beneficioMensalRepository.deleteByCompetenciaInicioAndCompetenciaFim(competenciaInicio, competenciaFim);
     }
 
-    private String lerTexto(Cell cell) {
-        if (cell == null) {
+    private String lerTexto(PlanilhaStreamReader.Celula celula) {
+        if (celula == null) {
             return "";
         }
-        return dataFormatter.formatCellValue(cell).trim();
+        return celula.texto();
     }
 
-    private String lerCodigoTipoBeneficio(Cell cell) {
-        if (cell == null) {
+    private String lerCodigoTipoBeneficio(PlanilhaStreamReader.Celula celula) {
+        if (celula == null) {
             return "";
         }
-        if (cell.getCellType() == CellType.NUMERIC) {
-            return String.valueOf((long) cell.getNumericCellValue());
+        if (celula.tipo() == PlanilhaStreamReader.TipoCelula.NUMERICA) {
+            return String.valueOf((long) celula.numero());
         }
-        return lerTexto(cell);
+        return lerTexto(celula);
     }
 
-    private BigDecimal lerValor(Cell cell) {
-        if (cell == null || cell.getCellType() == CellType.BLANK) {
+    private BigDecimal lerValor(PlanilhaStreamReader.Celula celula) {
+        if (celula == null || celula.tipo() == PlanilhaStreamReader.TipoCelula.VAZIA) {
             throw new IllegalArgumentException("Valor é obrigatório");
         }
 
-        if (cell.getCellType() == CellType.NUMERIC) {
-            return BigDecimal.valueOf(cell.getNumericCellValue()).setScale(2, java.math.RoundingMode.HALF_UP);
+        if (celula.tipo() == PlanilhaStreamReader.TipoCelula.NUMERICA) {
+            return BigDecimal.valueOf(celula.numero()).setScale(2, java.math.RoundingMode.HALF_UP);
         }
 
-        String texto = lerTexto(cell);
+        String texto = lerTexto(celula);
         if (texto.isEmpty()) {
             throw new IllegalArgumentException("Valor é obrigatório");
         }
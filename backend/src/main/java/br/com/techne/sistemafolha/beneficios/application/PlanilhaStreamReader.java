@@ -0,0 +1,236 @@
+package br.com.techne.sistemafolha.beneficios.application;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Leitura linha a linha de uma aba de planilha sem montar o workbook em memória. Arquivos OOXML (.xlsx) são
+ * percorridos via SAX sobre o XML da aba — a memória fica limitada às strings compartilhadas e à linha
+ * corrente; o arquivo é copiado para um temporário porque {@link OPCPackage} só lê o zip sob demanda a partir
+ * de arquivo. Planilhas .xls (OLE2), limitadas a 65 mil linhas, seguem pelo usermodel do POI.
+ * <p>
+ * Cada célula é entregue com o texto que o {@link DataFormatter} mostraria e, se numérica, o valor bruto.
+ * Células com fórmula em .xlsx entregam o último resultado calculado gravado no arquivo.
+ */
+final class PlanilhaStreamReader {
+
+    enum TipoCelula { NUMERICA, TEXTO, VAZIA, OUTRA }
+
+    record Celula(TipoCelula tipo, String texto, double numero) {
+
+        static final Celula VAZIA = new Celula(TipoCelula.VAZIA, "", 0d);
+    }
+
+    @FunctionalInterface
+    interface LinhaHandler {
+
+        /** @param celulas indexadas pela coluna (0-based); posições sem célula no arquivo ficam null */
+        void linha(int rowIndex, Celula[] celulas);
+    }
+
+    private final DataFormatter dataFormatter = new DataFormatter();
+
+    /**
+     * Percorre a aba {@code aba} entregando as {@code colunas} primeiras colunas de cada linha existente.
+     *
+     * @throws IllegalArgumentException se a aba não existir
+     */
+    void ler(InputStream entrada, String aba, int colunas, LinhaHandler handler) throws Exception {
+        InputStream in = FileMagic.prepareToCheckMagic(entrada);
+        FileMagic magic = FileMagic.valueOf(in);
+        if (magic == FileMagic.OOXML) {
+            lerXlsx(in, aba, colunas, handler);
+        } else {
+            lerUsermodel(in, aba, colunas, handler);
+        }
+    }
+
+    private void lerXlsx(InputStream in, String aba, int colunas, LinhaHandler handler) throws Exception {
+        Path temporario = Files.createTempFile("planilha-", ".xlsx");
+        try {
+            Files.copy(in, temporario, StandardCopyOption.REPLACE_EXISTING);
+            try (OPCPackage pacote = OPCPackage.open(temporario.toFile(), PackageAccess.READ)) {
+                XSSFReader reader = new XSSFReader(pacote);
+                XSSFReader.SheetIterator abas = (XSSFReader.SheetIterator) reader.getSheetsData();
+                while (abas.hasNext()) {
+                    try (InputStream xmlAba = abas.next()) {
+                        if (aba.equals(abas.getSheetName())) {
+                            XMLReader parser = XMLHelper.newXMLReader();
+                            parser.setContentHandler(new AbaHandler(
+                                reader.getStylesTable(), new ReadOnlySharedStringsTable(pacote), colunas, handler));
+                            parser.parse(new InputSource(xmlAba));
+                            return;
+                        }
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+        throw abaNaoEncontrada(aba);
+    }
+
+    private void lerUsermodel(InputStream in, String aba, int colunas, LinhaHandler handler) throws IOException {
+        try (Workbook workbook = WorkbookFactory.create(in)) {
+            Sheet sheet = workbook.getSheet(aba);
+            if (sheet == null) {
+                throw abaNaoEncontrada(aba);
+            }
+            for (Row row : sheet) {
+                Celula[] celulas = new Celula[colunas];
+                for (int coluna = 0; coluna < colunas; coluna++) {
+                    Cell cell = row.getCell(coluna);
+                    if (cell != null) {
+                        celulas[coluna] = celula(cell);
+                    }
+                }
+                handler.linha(row.getRowNum(), celulas);
+            }
+        }
+    }
+
+    private Celula celula(Cell cell) {
+        String texto = dataFormatter.formatCellValue(cell).trim();
+        return switch (cell.getCellType()) {
+            case NUMERIC -> new Celula(TipoCelula.NUMERICA, texto, cell.getNumericCellValue());
+            case STRING -> new Celula(TipoCelula.TEXTO, texto, 0d);
+            case BLANK -> Celula.VAZIA;
+            default -> new Celula(TipoCelula.OUTRA, texto, 0d);
+        };
+    }
+
+    private static IllegalArgumentException abaNaoEncontrada(String aba) {
+        return new IllegalArgumentException("Aba '" + aba + "' não encontrada no arquivo");
+    }
+
+    /** Handler SAX de {@code sheetN.xml}: acumula as células de cada {@code <row>} e entrega no fechamento. */
+    private final class AbaHandler extends DefaultHandler {
+
+        private final StylesTable estilos;
+        private final ReadOnlySharedStringsTable strings;
+        private final int colunas;
+        private final LinhaHandler handler;
+        private final StringBuilder valor = new StringBuilder();
+
+        private Celula[] celulas;
+        private int rowIndex = -1;
+        private int proximaColuna;
+        private int coluna;
+        private String tipo;
+        private String estilo;
+        private boolean lendoValor;
+
+        AbaHandler(StylesTable estilos, ReadOnlySharedStringsTable strings, int colunas, LinhaHandler handler) {
+            this.estilos = estilos;
+            this.strings = strings;
+            this.colunas = colunas;
+            this.handler = handler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes atributos) {
+            switch (localName) {
+                case "row" -> {
+                    String r = atributos.getValue("r");
+                    rowIndex = r != null ? Integer.parseInt(r) - 1 : rowIndex + 1;
+                    celulas = new Celula[colunas];
+                    proximaColuna = 0;
+                }
+                case "c" -> {
+                    String referencia = atributos.getValue("r");
+                    coluna = referencia != null ? new CellReference(referencia).getCol() : proximaColuna;
+                    proximaColuna = coluna + 1;
+                    tipo = atributos.getValue("t");
+                    estilo = atributos.getValue("s");
+                    valor.setLength(0);
+                }
+                case "v", "t" -> lendoValor = true;
+                default -> {
+                    // demais elementos (f, is, r, mergeCells...) não carregam valor próprio
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (lendoValor) {
+                valor.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v", "t" -> lendoValor = false;
+                case "c" -> {
+                    if (coluna < colunas) {
+                        celulas[coluna] = celulaXlsx();
+                    }
+                }
+                case "row" -> handler.linha(rowIndex, celulas);
+                default -> {
+                    // sem ação
+                }
+            }
+        }
+
+        private Celula celulaXlsx() {
+            String bruto = valor.toString();
+            if (tipo == null || "n".equals(tipo)) {
+                if (bruto.isEmpty()) {
+                    return Celula.VAZIA;
+                }
+                double numero = Double.parseDouble(bruto);
+                return new Celula(TipoCelula.NUMERICA, formatarNumero(numero), numero);
+            }
+            return switch (tipo) {
+                case "s" -> new Celula(TipoCelula.TEXTO,
+                    strings.getItemAt(Integer.parseInt(bruto)).getString().trim(), 0d);
+                case "inlineStr", "str" -> new Celula(TipoCelula.TEXTO, bruto.trim(), 0d);
+                case "b" -> new Celula(TipoCelula.OUTRA, "1".equals(bruto) ? "TRUE" : "FALSE", 0d);
+                default -> new Celula(TipoCelula.OUTRA, bruto.trim(), 0d);
+            };
+        }
+
+        /** Mesmo texto de {@link DataFormatter#formatCellValue} para a célula numérica com o estilo dado. */
+        private String formatarNumero(double numero) {
+            short formato = 0;
+            String padrao = null;
+            if (estilo != null && !estilo.isEmpty()) {
+                XSSFCellStyle style = estilos.getStyleAt(Integer.parseInt(estilo));
+                if (style != null) {
+                    formato = style.getDataFormat();
+                    padrao = style.getDataFormatString();
+                }
+            }
+            if (padrao == null) {
+                padrao = BuiltinFormats.getBuiltinFormat(formato);
+            }
+            return dataFormatter.formatRawCellContents(numero, formato, padrao).trim();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.techne.sistemafolha.beneficios.infrastructure;
+
+import java.math.BigDecimal;
+
+public interface BeneficioFuncionarioTotaisProjection {
+    Long getFuncionarioId();
+    Long getQtdLancamentos();
+    BigDecimal getTotal();
+}
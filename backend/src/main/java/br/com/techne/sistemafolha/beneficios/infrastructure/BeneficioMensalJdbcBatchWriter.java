@@ -0,0 +1,69 @@
+package br.com.techne.sistemafolha.beneficios.infrastructure;
+
+import br.com.techne.sistemafolha.beneficios.domain.BeneficioMensal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gravação em lote de {@link BeneficioMensal} com INSERT multi-linha, usada pela importação mensal. Os ids
+ * gerados não são lidos de volta e {@code data_criacao}/{@code data_atualizacao} são preenchidas aqui, já
+ * que o {@code @PrePersist} da entidade não participa. Deve ser chamado dentro de transação.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BeneficioMensalJdbcBatchWriter {
+
+    static final int REGISTROS_POR_INSERT = 1000;
+
+    private static final String INSERT = """
+        INSERT INTO beneficio_mensal (funcionario_id, tipo_beneficio_id, centro_custo_id, valor,
+            competencia_inicio, competencia_fim, observacao, ativo, data_criacao, data_atualizacao)
+        VALUES\s""";
+    private static final String VALORES = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    public void inserir(List<BeneficioMensal> beneficios) {
+        LocalDateTime agora = LocalDateTime.now(clock);
+        for (int inicio = 0; inicio < beneficios.size(); inicio += REGISTROS_POR_INSERT) {
+            List<BeneficioMensal> bloco = beneficios.subList(
+                inicio, Math.min(inicio + REGISTROS_POR_INSERT, beneficios.size()));
+            List<Object> args = new ArrayList<>(bloco.size() * 10);
+            for (BeneficioMensal beneficio : bloco) {
+                args.add(beneficio.getFuncionario().getId());
+                args.add(beneficio.getTipoBeneficio().getId());
+                args.add(new SqlParameterValue(Types.BIGINT,
+                    beneficio.getCentroCusto() != null ? beneficio.getCentroCusto().getId() : null));
+                args.add(beneficio.getValor());
+                args.add(beneficio.getCompetenciaInicio());
+                args.add(beneficio.getCompetenciaFim());
+                args.add(new SqlParameterValue(Types.VARCHAR, beneficio.getObservacao()));
+                args.add(beneficio.getAtivo());
+                args.add(agora);
+                args.add(agora);
+            }
+            jdbcTemplate.update(sqlMultiLinha(bloco.size()), args.toArray());
+        }
+    }
+
+    private static String sqlMultiLinha(int registros) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + registros * (VALORES.length() + 2));
+        sql.append(INSERT);
+        for (int i = 0; i < registros; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALORES);
+        }
+        return sql.toString();
+    }
+}
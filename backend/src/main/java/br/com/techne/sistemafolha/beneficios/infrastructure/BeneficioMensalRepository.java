@@ -18,6 +18,9 @@ public interface BeneficioMensalRepository extends JpaRepository<BeneficioMensal
     List<BeneficioMensal> findByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
         LocalDate competenciaInicio, LocalDate competenciaFim);
 
+    long countByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
+        LocalDate competenciaInicio, LocalDate competenciaFim);
+
     @Query("""
         SELECT COUNT(bm) FROM BeneficioMensal bm
         WHERE bm.ativo = true
@@ -48,6 +51,9 @@ public interface BeneficioMensalRepository extends JpaRepository<BeneficioMensal
     List<BeneficioMensal> findByFuncionarioIdAndCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
         Long funcionarioId, LocalDate competenciaInicio, LocalDate competenciaFim);
 
+    long countByFuncionarioIdAndCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
+        Long funcionarioId, LocalDate competenciaInicio, LocalDate competenciaFim);
+
     boolean existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
         LocalDate competenciaInicio, LocalDate competenciaFim);
 
@@ -153,6 +159,34 @@ public interface BeneficioMensalRepository extends JpaRepository<BeneficioMensal
         @Param("competenciaInicio") LocalDate competenciaInicio,
         @Param("competenciaFim") LocalDate competenciaFim);
 
+    @Query("""
+        SELECT bm.funcionario.id AS funcionarioId,
+               COUNT(bm) AS qtdLancamentos,
+               COALESCE(SUM(bm.valor), 0) AS total
+        FROM BeneficioMensal bm
+        WHERE bm.ativo = true
+          AND bm.competenciaInicio = :competenciaInicio
+          AND bm.competenciaFim = :competenciaFim
+          AND bm.funcionario.id IN :funcionarioIds
+        GROUP BY bm.funcionario.id
+        """)
+    List<BeneficioFuncionarioTotaisProjection> totaisPorFuncionariosECompetencia(
+        @Param("funcionarioIds") Collection<Long> funcionarioIds,
+        @Param("competenciaInicio") LocalDate competenciaInicio,
+        @Param("competenciaFim") LocalDate competenciaFim);
+
+    @Query("""
+        SELECT bm.funcionario.id, bm.competenciaInicio, bm.competenciaFim, COALESCE(SUM(bm.valor), 0)
+        FROM BeneficioMensal bm
+        WHERE bm.ativo = true
+          AND bm.competenciaInicio >= :dataInicio
+          AND bm.funcionario.id IN :funcionarioIds
+        GROUP BY bm.funcionario.id, bm.competenciaInicio, bm.competenciaFim
+        """)
+    List<Object[]> sumValorPorFuncionariosDesdeCompetencia(
+        @Param("funcionarioIds") Collection<Long> funcionarioIds,
+        @Param("dataInicio") LocalDate dataInicio);
+
     @Query("""
         SELECT COALESCE(SUM(bm.valor), 0)
         FROM BeneficioMensal bm
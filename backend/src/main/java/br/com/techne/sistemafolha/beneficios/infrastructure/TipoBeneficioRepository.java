@@ -4,12 +4,14 @@ import br.com.techne.sistemafolha.beneficios.domain.TipoBeneficio;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TipoBeneficioRepository extends JpaRepository<TipoBeneficio, Long> {
     Optional<TipoBeneficio> findByCodigoAndAtivoTrue(String codigo);
+    List<TipoBeneficio> findByCodigoInAndAtivoTrue(Collection<String> codigos);
     List<TipoBeneficio> findAllByAtivoTrue();
     boolean existsByCodigo(String codigo);
 }
@@ -24,6 +24,14 @@ public interface BeneficioConsultaPort {
     Map<Long, BigDecimal> somarValorPorFuncionariosECompetencia(
         Set<Long> funcionarioIds, LocalDate competenciaInicio, LocalDate competenciaFim);
 
+    /** Soma dos valores por funcionário e competência, de {@code dataInicio} em diante, em uma consulta agrupada. */
+    List<BeneficioFuncionarioCompetenciaSnapshot> somarValorPorFuncionariosDesdeCompetencia(
+        Set<Long> funcionarioIds, LocalDate dataInicio);
+
+    /** Quantidade de lançamentos ativos e soma dos valores por funcionário, em uma consulta agrupada. */
+    Map<Long, BeneficioFuncionarioTotaisSnapshot> totaisPorFuncionariosECompetencia(
+        Set<Long> funcionarioIds, LocalDate competenciaInicio, LocalDate competenciaFim);
+
     BigDecimal somarValorPorCompetenciaECentros(
         LocalDate competenciaInicio, LocalDate competenciaFim, Set<Long> centrosCustoIds);
 
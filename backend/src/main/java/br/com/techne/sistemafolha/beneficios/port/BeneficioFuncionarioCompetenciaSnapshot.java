@@ -0,0 +1,11 @@
+package br.com.techne.sistemafolha.beneficios.port;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record BeneficioFuncionarioCompetenciaSnapshot(
+    Long funcionarioId,
+    LocalDate competenciaInicio,
+    LocalDate competenciaFim,
+    BigDecimal total
+) {}
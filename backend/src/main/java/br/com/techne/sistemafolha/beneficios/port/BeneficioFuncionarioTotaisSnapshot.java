@@ -0,0 +1,9 @@
+package br.com.techne.sistemafolha.beneficios.port;
+
+import java.math.BigDecimal;
+
+public record BeneficioFuncionarioTotaisSnapshot(
+    Long funcionarioId,
+    long qtdLancamentos,
+    BigDecimal total
+) {}
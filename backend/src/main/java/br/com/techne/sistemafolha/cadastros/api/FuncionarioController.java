@@ -3,6 +3,7 @@ package br.com.techne.sistemafolha.cadastros.api;
 import br.com.techne.sistemafolha.cadastros.application.FuncionarioService;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioNotFoundException;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioJaExisteException;
+import br.com.techne.sistemafolha.shared.paginacao.PaginaDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -35,6 +36,25 @@ public class FuncionarioController {
             authentication.getName(), nome, cargoId, centroCustoId, linhaNegocioId, status));
     }
 
+    @GetMapping("/busca")
+    @Operation(summary = "Busca paginada de funcionários por nome, CPF ou matrícula")
+    public ResponseEntity<PaginaDTO<FuncionarioDTO>> buscar(
+            @Parameter(description = "Trecho do nome, CPF ou matrícula")
+            @RequestParam(required = false) String termo,
+            @RequestParam(required = false) Long cargoId,
+            @RequestParam(required = false) Long centroCustoId,
+            @RequestParam(required = false) Long linhaNegocioId,
+            @Parameter(description = "Filtro de status: ATIVO (padrão), INATIVO ou TODOS")
+            @RequestParam(defaultValue = "ATIVO") FuncionarioStatusFiltro status,
+            @Parameter(description = "proximoCursor da página anterior; omitido na primeira página")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Itens por página (1 a 200, padrão 50)")
+            @RequestParam(required = false) Integer limite,
+            Authentication authentication) {
+        return ResponseEntity.ok(funcionarioService.buscarParaUsuario(
+            authentication.getName(), termo, cargoId, centroCustoId, linhaNegocioId, status, cursor, limite));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Busca um funcionário ativo pelo ID")
     public ResponseEntity<FuncionarioDTO> buscarPorId(@PathVariable Long id, Authentication authentication) {
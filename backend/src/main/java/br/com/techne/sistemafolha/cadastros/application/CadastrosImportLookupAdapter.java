@@ -13,6 +13,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -31,6 +33,30 @@ public class CadastrosImportLookupAdapter implements CadastrosImportLookupPort {
             .map(this::toFuncionarioImportRef);
     }
 
+    @Override
+    public Map<String, FuncionarioImportRef> findFuncionariosByIdExternos(Set<String> idsExternos) {
+        if (idsExternos == null || idsExternos.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, FuncionarioImportRef> resultado = new HashMap<>();
+        for (Funcionario funcionario : funcionarioRepository.findByIdExternoInWithFetch(idsExternos)) {
+            resultado.putIfAbsent(funcionario.getIdExterno(), toFuncionarioImportRef(funcionario));
+        }
+        return resultado;
+    }
+
+    @Override
+    public Map<String, RubricaImportRef> findRubricasByCodigos(Set<String> codigos) {
+        if (codigos == null || codigos.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, RubricaImportRef> resultado = new HashMap<>();
+        for (Rubrica rubrica : rubricaRepository.findByCodigoInWithFetch(codigos)) {
+            resultado.putIfAbsent(rubrica.getCodigo(), toRubricaImportRef(rubrica));
+        }
+        return resultado;
+    }
+
     @Override
     @Transactional
     public RubricaImportRef findOrCreateRubrica(String codigo, String descricao, String tipoRubricaDescricao) {
@@ -6,7 +6,10 @@ import br.com.techne.sistemafolha.cadastros.port.FuncionarioConsultaPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -28,4 +31,16 @@ public class FuncionarioConsultaAdapter implements FuncionarioConsultaPort {
     public Optional<Funcionario> findByCpfAndAtivoTrue(String cpf) {
         return funcionarioRepository.findByCpfAndAtivoTrue(cpf);
     }
+
+    @Override
+    public Map<String, Funcionario> findAtivosByCpfs(Set<String> cpfs) {
+        if (cpfs == null || cpfs.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Funcionario> porCpf = new HashMap<>();
+        for (Funcionario funcionario : funcionarioRepository.findByCpfInAndAtivoTrue(cpfs)) {
+            porCpf.putIfAbsent(funcionario.getCpf(), funcionario);
+        }
+        return porCpf;
+    }
 }
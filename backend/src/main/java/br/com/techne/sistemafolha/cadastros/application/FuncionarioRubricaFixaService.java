@@ -4,6 +4,7 @@ import br.com.techne.sistemafolha.cadastros.api.FuncionarioRubricaFixaDTO;
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioNotFoundException;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixa;
+import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixaAlteradaEvent;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixaNotFoundException;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixaVigenciaConflictException;
 import br.com.techne.sistemafolha.cadastros.domain.Rubrica;
@@ -12,6 +13,7 @@ import br.com.techne.sistemafolha.cadastros.infrastructure.FuncionarioRubricaFix
 import br.com.techne.sistemafolha.cadastros.port.FuncionarioConsultaPort;
 import br.com.techne.sistemafolha.cadastros.infrastructure.RubricaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +31,7 @@ public class FuncionarioRubricaFixaService {
     private final FuncionarioRubricaFixaRepository funcionarioRubricaFixaRepository;
     private final FuncionarioConsultaPort funcionarioConsultaPort;
     private final RubricaRepository rubricaRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<FuncionarioRubricaFixaDTO> listar(Long funcionarioId, Long rubricaId) {
@@ -72,7 +75,9 @@ public class FuncionarioRubricaFixaService {
         entity.setComentario(dto.comentario());
         entity.setAtivo(true);
 
-        return toDTO(funcionarioRubricaFixaRepository.save(entity));
+        FuncionarioRubricaFixa salvo = funcionarioRubricaFixaRepository.save(entity);
+        eventPublisher.publishEvent(FuncionarioRubricaFixaAlteradaEvent.of(salvo));
+        return toDTO(salvo);
     }
 
     @Transactional
@@ -97,6 +102,8 @@ public class FuncionarioRubricaFixaService {
             validarSobreposicaoGlobal(rubrica.getId(), dto.vigenciaInicio(), dto.vigenciaFim(), id);
         }
 
+        FuncionarioRubricaFixaAlteradaEvent anterior = FuncionarioRubricaFixaAlteradaEvent.of(entity);
+
         entity.setFuncionario(funcionario);
         entity.setRubrica(rubrica);
         entity.setValor(dto.valor());
@@ -104,7 +111,10 @@ public class FuncionarioRubricaFixaService {
         entity.setVigenciaFim(dto.vigenciaFim());
         entity.setComentario(dto.comentario());
 
-        return toDTO(funcionarioRubricaFixaRepository.save(entity));
+        FuncionarioRubricaFixa salvo = funcionarioRubricaFixaRepository.save(entity);
+        eventPublisher.publishEvent(anterior);
+        eventPublisher.publishEvent(FuncionarioRubricaFixaAlteradaEvent.of(salvo));
+        return toDTO(salvo);
     }
 
     @Transactional
@@ -114,6 +124,7 @@ public class FuncionarioRubricaFixaService {
             .orElseThrow(() -> new FuncionarioRubricaFixaNotFoundException(id));
         entity.setAtivo(false);
         funcionarioRubricaFixaRepository.save(entity);
+        eventPublisher.publishEvent(FuncionarioRubricaFixaAlteradaEvent.of(entity));
     }
 
     private void validarValor(BigDecimal valor, Rubrica rubrica) {
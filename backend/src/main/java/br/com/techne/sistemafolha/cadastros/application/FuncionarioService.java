@@ -16,7 +16,12 @@ import br.com.techne.sistemafolha.cadastros.infrastructure.FuncionarioRepository
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
 import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
 import br.com.techne.sistemafolha.shared.access.CentroCustoEfetivo;
+import br.com.techne.sistemafolha.shared.paginacao.CursorPaginacao;
+import br.com.techne.sistemafolha.shared.paginacao.PaginaDTO;
+import br.com.techne.sistemafolha.shared.paginacao.Paginacao;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +32,7 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class FuncionarioService {
+
     private final FuncionarioRepository funcionarioRepository;
     private final CargoRepository cargoRepository;
     private final CentroCustoRepository centroCustoRepository;
@@ -87,13 +93,46 @@ public class FuncionarioService {
             nomePattern = "%" + nome + "%";
         }
         return funcionarioRepository
-                .findByFiltros(nomePattern, cargoId, centroCustoId, linhaNegocioId, resolverAtivo(status))
+                .findByFiltrosNoEscopo(nomePattern, cargoId, centroCustoId, linhaNegocioId, resolverAtivo(status),
+                        contexto.centrosCustoIds())
                 .stream()
-                .filter(f -> aplicarFiltroAcesso(f, contexto))
                 .map(this::toDTO)
                 .toList();
     }
 
+    /**
+     * Busca paginada por keyset: cada página lê no máximo {@code limite + 1} linhas a partir do cursor, com o
+     * escopo de centros de custo do usuário aplicado na própria consulta.
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<FuncionarioDTO> buscarParaUsuario(
+            String login, String termo, Long cargoId, Long centroCustoId, Long linhaNegocioId,
+            FuncionarioStatusFiltro status, String cursor, Integer limite) {
+        AccessContextDTO contexto = obterContextoAcesso(login);
+        if (acessoNegado(contexto)) {
+            return PaginaDTO.vazia();
+        }
+        if (!contexto.acessoTotal()) {
+            if (centrosVazios(contexto)) {
+                return PaginaDTO.vazia();
+            }
+            if (centroCustoId != null && !contexto.centrosCustoIds().contains(centroCustoId)) {
+                return PaginaDTO.vazia();
+            }
+        }
+        String termoPattern = termo != null && !termo.isBlank() ? "%" + termo.trim() + "%" : null;
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor).exigirChave();
+        int tamanho = Paginacao.resolverLimite(limite);
+        Pageable pagina = PageRequest.of(0, tamanho + 1);
+        List<Funcionario> funcionarios = contexto.acessoTotal()
+                ? funcionarioRepository.buscarPagina(termoPattern, cargoId, centroCustoId, linhaNegocioId,
+                        resolverAtivo(status), posicao.chave(), posicao.id(), pagina)
+                : funcionarioRepository.buscarPaginaNoEscopo(termoPattern, cargoId, centroCustoId, linhaNegocioId,
+                        resolverAtivo(status), posicao.chave(), posicao.id(), contexto.centrosCustoIds(), pagina);
+        return Paginacao.pagina(funcionarios, tamanho, this::toDTO,
+                ultimo -> new CursorPaginacao(ultimo.getNome(), ultimo.getId()));
+    }
+
     @Transactional(readOnly = true)
     public FuncionarioDTO buscarPorIdParaUsuario(String login, Long id) {
         AccessContextDTO contexto = obterContextoAcesso(login);
@@ -0,0 +1,20 @@
+package br.com.techne.sistemafolha.cadastros.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Publicado (na transação da alteração) quando uma rubrica fixa é criada, alterada ou removida.
+ * {@code funcionarioId} nulo indica rubrica fixa global; {@code vigenciaFim} nulo indica vigência aberta.
+ */
+public record FuncionarioRubricaFixaAlteradaEvent(
+    Long funcionarioId,
+    LocalDate vigenciaInicio,
+    LocalDate vigenciaFim
+) {
+    public static FuncionarioRubricaFixaAlteradaEvent of(FuncionarioRubricaFixa entity) {
+        return new FuncionarioRubricaFixaAlteradaEvent(
+            entity.getFuncionario() != null ? entity.getFuncionario().getId() : null,
+            entity.getVigenciaInicio(),
+            entity.getVigenciaFim());
+    }
+}
@@ -2,11 +2,13 @@ package br.com.techne.sistemafolha.cadastros.infrastructure;
 
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,11 +24,21 @@ public interface FuncionarioRepository extends JpaRepository<Funcionario, Long>
     void softDelete(@Param("id") Long id);
 
     Optional<Funcionario> findByIdExterno(String idExterno);
+
+    @Query("""
+        SELECT f FROM Funcionario f
+        LEFT JOIN FETCH f.centroCusto cc
+        LEFT JOIN FETCH cc.linhaNegocio
+        WHERE f.idExterno IN :idsExternos
+        """)
+    List<Funcionario> findByIdExternoInWithFetch(@Param("idsExternos") Collection<String> idsExternos);
+
     boolean existsByIdExterno(String idExterno);
     boolean existsByIdExternoAndIdNot(String idExterno, Long id);
 
     List<Funcionario> findByAtivoTrue();
     Optional<Funcionario> findByCpfAndAtivoTrue(String cpf);
+    List<Funcionario> findByCpfInAndAtivoTrue(Collection<String> cpfs);
     boolean existsByCpfAndAtivoTrue(String cpf);
     Long countByAtivoTrue();
     
@@ -49,4 +61,88 @@ public interface FuncionarioRepository extends JpaRepository<Funcionario, Long>
         @Param("linhaNegocioId") Long linhaNegocioId,
         @Param("ativo") Boolean ativo
     );
+
+    @Query("""
+        SELECT f FROM Funcionario f
+        LEFT JOIN f.cargo c
+        LEFT JOIN f.centroCusto cc
+        LEFT JOIN cc.linhaNegocio ln
+        WHERE (:ativo IS NULL OR f.ativo = :ativo)
+          AND (:nomePattern IS NULL OR f.nome ILIKE :nomePattern)
+          AND (:cargoId IS NULL OR c.id = :cargoId)
+          AND (:centroCustoId IS NULL OR cc.id = :centroCustoId)
+          AND (:linhaNegocioId IS NULL OR ln.id = :linhaNegocioId)
+          AND cc.id IN :centrosCustoIds
+        ORDER BY f.nome
+        """)
+    List<Funcionario> findByFiltrosNoEscopo(
+        @Param("nomePattern") String nomePattern,
+        @Param("cargoId") Long cargoId,
+        @Param("centroCustoId") Long centroCustoId,
+        @Param("linhaNegocioId") Long linhaNegocioId,
+        @Param("ativo") Boolean ativo,
+        @Param("centrosCustoIds") Collection<Long> centrosCustoIds
+    );
+
+    /**
+     * Página da busca por keyset em (nome, id): {@code cursorNome}/{@code cursorId} são os do último item da página
+     * anterior (nulos na primeira). O termo casa nome, CPF ou matrícula, servido pelos índices trigram da V1.41.
+     */
+    @Query("""
+        SELECT f FROM Funcionario f
+        JOIN FETCH f.cargo c
+        JOIN FETCH f.centroCusto cc
+        JOIN FETCH cc.linhaNegocio ln
+        WHERE (:ativo IS NULL OR f.ativo = :ativo)
+          AND (:termoPattern IS NULL
+               OR f.nome ILIKE :termoPattern
+               OR f.cpf ILIKE :termoPattern
+               OR f.idExterno ILIKE :termoPattern)
+          AND (:cargoId IS NULL OR c.id = :cargoId)
+          AND (:centroCustoId IS NULL OR cc.id = :centroCustoId)
+          AND (:linhaNegocioId IS NULL OR ln.id = :linhaNegocioId)
+          AND (:cursorNome IS NULL
+               OR (f.nome >= :cursorNome AND (f.nome > :cursorNome OR f.id > :cursorId)))
+        ORDER BY f.nome, f.id
+        """)
+    List<Funcionario> buscarPagina(
+        @Param("termoPattern") String termoPattern,
+        @Param("cargoId") Long cargoId,
+        @Param("centroCustoId") Long centroCustoId,
+        @Param("linhaNegocioId") Long linhaNegocioId,
+        @Param("ativo") Boolean ativo,
+        @Param("cursorNome") String cursorNome,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+
+    @Query("""
+        SELECT f FROM Funcionario f
+        JOIN FETCH f.cargo c
+        JOIN FETCH f.centroCusto cc
+        JOIN FETCH cc.linhaNegocio ln
+        WHERE (:ativo IS NULL OR f.ativo = :ativo)
+          AND (:termoPattern IS NULL
+               OR f.nome ILIKE :termoPattern
+               OR f.cpf ILIKE :termoPattern
+               OR f.idExterno ILIKE :termoPattern)
+          AND (:cargoId IS NULL OR c.id = :cargoId)
+          AND (:centroCustoId IS NULL OR cc.id = :centroCustoId)
+          AND (:linhaNegocioId IS NULL OR ln.id = :linhaNegocioId)
+          AND (:cursorNome IS NULL
+               OR (f.nome >= :cursorNome AND (f.nome > :cursorNome OR f.id > :cursorId)))
+          AND cc.id IN :centrosCustoIds
+        ORDER BY f.nome, f.id
+        """)
+    List<Funcionario> buscarPaginaNoEscopo(
+        @Param("termoPattern") String termoPattern,
+        @Param("cargoId") Long cargoId,
+        @Param("centroCustoId") Long centroCustoId,
+        @Param("linhaNegocioId") Long linhaNegocioId,
+        @Param("ativo") Boolean ativo,
+        @Param("cursorNome") String cursorNome,
+        @Param("cursorId") Long cursorId,
+        @Param("centrosCustoIds") Collection<Long> centrosCustoIds,
+        Pageable pageable
+    );
 } 
\ No newline at end of file
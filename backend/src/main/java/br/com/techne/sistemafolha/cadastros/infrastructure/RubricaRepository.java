@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,13 @@ public interface RubricaRepository extends JpaRepository<Rubrica, Long> {
     Optional<Rubrica> findByCodigo(String codigo);
     boolean existsByCodigo(String codigo);
 
+    @Query("""
+        SELECT r FROM Rubrica r
+        LEFT JOIN FETCH r.tipoRubrica
+        WHERE r.codigo IN :codigos
+        """)
+    List<Rubrica> findByCodigoInWithFetch(@Param("codigos") Collection<String> codigos);
+
     @Query("""
         SELECT r FROM Rubrica r
         WHERE (:ativo IS NULL OR r.ativo = :ativo)
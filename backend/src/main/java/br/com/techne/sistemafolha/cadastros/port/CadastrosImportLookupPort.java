@@ -1,5 +1,6 @@
 package br.com.techne.sistemafolha.cadastros.port;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -7,6 +8,12 @@ public interface CadastrosImportLookupPort {
 
     Optional<FuncionarioImportRef> findFuncionarioByIdExterno(String idExterno);
 
+    /** Funcionários indexados por {@code idExterno}; ids sem cadastro ficam fora do mapa. */
+    Map<String, FuncionarioImportRef> findFuncionariosByIdExternos(Set<String> idsExternos);
+
+    /** Rubricas indexadas por código; códigos sem cadastro ficam fora do mapa (nada é criado). */
+    Map<String, RubricaImportRef> findRubricasByCodigos(Set<String> codigos);
+
     RubricaImportRef findOrCreateRubrica(String codigo, String descricao, String tipoRubricaDescricao);
 
     long countFuncionariosAtivos();
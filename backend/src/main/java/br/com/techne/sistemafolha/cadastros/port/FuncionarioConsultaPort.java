@@ -2,7 +2,9 @@ package br.com.techne.sistemafolha.cadastros.port;
 
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface FuncionarioConsultaPort {
 
@@ -11,4 +13,7 @@ public interface FuncionarioConsultaPort {
     Optional<Funcionario> findByIdAndAtivoTrue(Long id);
 
     Optional<Funcionario> findByCpfAndAtivoTrue(String cpf);
+
+    /** Funcionários ativos por CPF em uma consulta; CPFs sem funcionário ativo ficam fora do mapa. */
+    Map<String, Funcionario> findAtivosByCpfs(Set<String> cpfs);
 }
@@ -4,13 +4,13 @@ import br.com.techne.sistemafolha.auth.application.ApiKeyService;
 import br.com.techne.sistemafolha.security.ApiKeyWriteGuardFilter;
 import br.com.techne.sistemafolha.security.JwtAuthenticationFilter;
 import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -24,15 +24,15 @@ public class SecurityConfig {
     private static final String RELATORIOS = "/relatorios/**";
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final UsuarioPrincipalCache usuarioPrincipalCache;
     private final ApiKeyService apiKeyService;
 
     public SecurityConfig(
             JwtService jwtService,
-            UserDetailsService userDetailsService,
+            UsuarioPrincipalCache usuarioPrincipalCache,
             ApiKeyService apiKeyService) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.usuarioPrincipalCache = usuarioPrincipalCache;
         this.apiKeyService = apiKeyService;
     }
 
@@ -54,10 +54,14 @@ public class SecurityConfig {
                 .requestMatchers("/beneficio-mensal/**").authenticated()
                 .requestMatchers("/importacao/**").authenticated()
                 .requestMatchers("/funcionario-rubrica-fixa/**").hasRole(ROLE_ADMIN)
+                .requestMatchers(HttpMethod.GET, "/organograma/acesso/cache").hasRole(ROLE_ADMIN)
                 .requestMatchers(HttpMethod.GET, TIPO_BENEFICIO, TIPO_BENEFICIO_ALL).authenticated()
                 .requestMatchers(HttpMethod.POST, TIPO_BENEFICIO).hasRole(ROLE_ADMIN)
                 .requestMatchers(HttpMethod.PUT, TIPO_BENEFICIO_ALL).hasRole(ROLE_ADMIN)
                 .requestMatchers(HttpMethod.DELETE, TIPO_BENEFICIO_ALL).hasRole(ROLE_ADMIN)
+                .requestMatchers(HttpMethod.POST, "/relatorios/armazenamento/migracao").hasRole(ROLE_ADMIN)
+                .requestMatchers(HttpMethod.GET, "/relatorios/fila/metricas").hasRole(ROLE_ADMIN)
+                .requestMatchers(HttpMethod.GET, "/relatorios/pdf/cache").hasRole(ROLE_ADMIN)
                 .requestMatchers(RELATORIOS).authenticated()
                 .anyRequest().authenticated()
             )
@@ -73,6 +77,6 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtService, userDetailsService, apiKeyService);
+        return new JwtAuthenticationFilter(jwtService, usuarioPrincipalCache, apiKeyService);
     }
 } 
\ No newline at end of file
@@ -3,15 +3,19 @@ package br.com.techne.sistemafolha.dashboard.api;
 import br.com.techne.sistemafolha.dashboard.application.DashboardWidgetQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -32,4 +36,13 @@ public class DashboardWidgetController {
         return ResponseEntity.ok(
             dashboardWidgetQueryService.consultar(authentication.getName(), widgetId, queryParams));
     }
+
+    @PostMapping("/widgets/data")
+    @Operation(summary = "Retorna dados de vários widgets de um layout em uma única resposta")
+    public ResponseEntity<List<WidgetDataDTO>> consultarDadosLote(
+            Authentication authentication,
+            @Valid @RequestBody WidgetBatchRequest request) {
+        return ResponseEntity.ok(
+            dashboardWidgetQueryService.consultarLote(authentication.getName(), request.widgets()));
+    }
 }
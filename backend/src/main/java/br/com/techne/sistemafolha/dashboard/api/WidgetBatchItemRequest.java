@@ -0,0 +1,10 @@
+package br.com.techne.sistemafolha.dashboard.api;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.Map;
+
+public record WidgetBatchItemRequest(
+    @NotBlank String widgetId,
+    Map<String, String> params
+) {}
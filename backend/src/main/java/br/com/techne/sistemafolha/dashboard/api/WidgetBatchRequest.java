@@ -0,0 +1,11 @@
+package br.com.techne.sistemafolha.dashboard.api;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record WidgetBatchRequest(
+    @NotEmpty @Size(max = 30) List<@Valid WidgetBatchItemRequest> widgets
+) {}
@@ -0,0 +1,35 @@
+package br.com.techne.sistemafolha.dashboard.application;
+
+import br.com.techne.sistemafolha.dashboard.api.CargoStatsDTO;
+import br.com.techne.sistemafolha.dashboard.api.CentroCustoStatsDTO;
+import br.com.techne.sistemafolha.dashboard.api.LinhaNegocioStatsDTO;
+import br.com.techne.sistemafolha.dashboard.api.RubricaStatsDTO;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Números de uma competência já recortada pelo escopo e pelos filtros do widget. Vêm dos agregados
+ * materializados no processamento ({@link DashboardAgregados}) ou, para competências sem ficha, das linhas
+ * ({@link DadosCompetenciaLinhas}).
+ */
+interface DadosCompetencia {
+
+    long contarFuncionarios();
+
+    BigDecimal calcularCustoEmpresa();
+
+    BigDecimal calcularTotalProventos();
+
+    BigDecimal calcularTotalDescontos();
+
+    List<CentroCustoStatsDTO> porCentroCusto(int topN);
+
+    List<LinhaNegocioStatsDTO> porLinhaNegocio(int topN);
+
+    List<CargoStatsDTO> porCargo(int topN);
+
+    List<RubricaStatsDTO> topProventos(int topN);
+
+    List<RubricaStatsDTO> topDescontos(int topN);
+}
@@ -0,0 +1,66 @@
+package br.com.techne.sistemafolha.dashboard.application;
+
+import br.com.techne.sistemafolha.dashboard.api.CargoStatsDTO;
+import br.com.techne.sistemafolha.dashboard.api.CentroCustoStatsDTO;
+import br.com.techne.sistemafolha.dashboard.api.LinhaNegocioStatsDTO;
+import br.com.techne.sistemafolha.dashboard.api.RubricaStatsDTO;
+import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
+import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+record DadosCompetenciaLinhas(
+    DashboardStatsAggregator aggregator,
+    List<FolhaLinhaSnapshot> linhas,
+    LocalDate competenciaInicio,
+    LocalDate competenciaFim,
+    AccessContextDTO contexto
+) implements DadosCompetencia {
+
+    @Override
+    public long contarFuncionarios() {
+        return aggregator.contarFuncionarios(linhas);
+    }
+
+    @Override
+    public BigDecimal calcularCustoEmpresa() {
+        return aggregator.calcularCustoEmpresa(linhas, competenciaInicio, competenciaFim, contexto);
+    }
+
+    @Override
+    public BigDecimal calcularTotalProventos() {
+        return aggregator.calcularTotalProventos(linhas);
+    }
+
+    @Override
+    public BigDecimal calcularTotalDescontos() {
+        return aggregator.calcularTotalDescontos(linhas);
+    }
+
+    @Override
+    public List<CentroCustoStatsDTO> porCentroCusto(int topN) {
+        return aggregator.porCentroCusto(linhas, topN);
+    }
+
+    @Override
+    public List<LinhaNegocioStatsDTO> porLinhaNegocio(int topN) {
+        return aggregator.porLinhaNegocio(linhas, topN);
+    }
+
+    @Override
+    public List<CargoStatsDTO> porCargo(int topN) {
+        return aggregator.porCargo(linhas, topN);
+    }
+
+    @Override
+    public List<RubricaStatsDTO> topProventos(int topN) {
+        return aggregator.topProventos(linhas, topN);
+    }
+
+    @Override
+    public List<RubricaStatsDTO> topDescontos(int topN) {
+        return aggregator.topDescontos(linhas, topN);
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.techne.sistemafolha.dashboard.application;
+
+import br.com.techne.sistemafolha.dashboard.api.CargoStatsDTO;
+import br.com.techne.sistemafolha.dashboard.api.CentroCustoStatsDTO;
+import br.com.techne.sistemafolha.dashboard.api.LinhaNegocioStatsDTO;
+import br.com.techne.sistemafolha.dashboard.api.RubricaStatsDTO;
+import br.com.techne.sistemafolha.folha.domain.DimensaoAgregado;
+import br.com.techne.sistemafolha.folha.port.FolhaAgregadoSnapshot;
+import br.com.techne.sistemafolha.folha.port.FolhaTotalizacaoPort;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * {@link DadosCompetencia} sobre os agregados materializados: cada consulta percorre as linhas por centro de
+ * custo × dimensão em vez das linhas da folha. Linha de negócio é derivada da linha
+ * {@link DimensaoAgregado#CENTRO_CUSTO}, já que na ficha ela vem do centro de custo.
+ */
+record DashboardAgregados(
+    FolhaTotalizacaoPort folhaTotalizacaoPort,
+    List<FolhaAgregadoSnapshot> agregados,
+    LocalDate competenciaInicio,
+    LocalDate competenciaFim,
+    boolean decimoTerceiro
+) implements DadosCompetencia {
+
+    /** Equivalente aos filtros de linha do widget: centro de custo e linha de negócio efetivos. */
+    DashboardAgregados filtrar(Long centroCustoId, Long linhaNegocioId) {
+        if (centroCustoId == null && linhaNegocioId == null) {
+            return this;
+        }
+        List<FolhaAgregadoSnapshot> filtrados = agregados.stream()
+            .filter(a -> centroCustoId == null || centroCustoId.equals(a.centroCustoId()))
+            .filter(a -> linhaNegocioId == null || linhaNegocioId.equals(a.linhaNegocioId()))
+            .toList();
+        return new DashboardAgregados(
+            folhaTotalizacaoPort, filtrados, competenciaInicio, competenciaFim, decimoTerceiro);
+    }
+
+    @Override
+    public long contarFuncionarios() {
+        return dimensao(DimensaoAgregado.CENTRO_CUSTO).stream()
+            .mapToLong(FolhaAgregadoSnapshot::quantidadeFuncionarios)
+            .sum();
+    }
+
+    @Override
+    public BigDecimal calcularCustoEmpresa() {
+        return folhaTotalizacaoPort.calcularTotalCustoEmpresaAgregado(
+            agregados, competenciaInicio, competenciaFim, decimoTerceiro);
+    }
+
+    @Override
+    public BigDecimal calcularTotalProventos() {
+        return somarValor(dimensao(DimensaoAgregado.PROVENTO));
+    }
+
+    @Override
+    public BigDecimal calcularTotalDescontos() {
+        return somarValor(dimensao(DimensaoAgregado.DESCONTO));
+    }
+
+    @Override
+    public List<CentroCustoStatsDTO> porCentroCusto(int topN) {
+        List<CentroCustoStatsDTO> stats = agrupar(DimensaoAgregado.CENTRO_CUSTO, FolhaAgregadoSnapshot::centroCustoId)
+            .entrySet().stream()
+            .map(entry -> new CentroCustoStatsDTO(
+                entry.getKey(),
+                entry.getValue().get(0).chaveDescricao(),
+                somarFuncionarios(entry.getValue()),
+                somarValor(entry.getValue())))
+            .toList();
+        return limitarOrdenadoPorValor(stats, topN, CentroCustoStatsDTO::valorTotal);
+    }
+
+    @Override
+    public List<LinhaNegocioStatsDTO> porLinhaNegocio(int topN) {
+        List<LinhaNegocioStatsDTO> stats = agrupar(DimensaoAgregado.CENTRO_CUSTO, FolhaAgregadoSnapshot::linhaNegocioId)
+            .entrySet().stream()
+            .map(entry -> new LinhaNegocioStatsDTO(
+                entry.getKey(),
+                entry.getValue().get(0).linhaNegocioDescricao(),
+                somarFuncionarios(entry.getValue()),
+                somarValor(entry.getValue())))
+            .toList();
+        return limitarOrdenadoPorValor(stats, topN, LinhaNegocioStatsDTO::valorTotal);
+    }
+
+    @Override
+    public List<CargoStatsDTO> porCargo(int topN) {
+        List<CargoStatsDTO> stats = agrupar(DimensaoAgregado.CARGO, FolhaAgregadoSnapshot::chaveId)
+            .entrySet().stream()
+            .map(entry -> {
+                long quantidadeFuncionarios = somarFuncionarios(entry.getValue());
+                BigDecimal valorTotal = somarValor(entry.getValue());
+                BigDecimal valorMedio = quantidadeFuncionarios > 0
+                    ? valorTotal.divide(BigDecimal.valueOf(quantidadeFuncionarios), 2, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO;
+                return new CargoStatsDTO(
+                    entry.getKey(),
+                    entry.getValue().get(0).chaveDescricao(),
+                    quantidadeFuncionarios,
+                    valorMedio,
+                    valorTotal);
+            })
+            .toList();
+        return limitarOrdenadoPorValor(stats, topN, CargoStatsDTO::valorTotal);
+    }
+
+    @Override
+    public List<RubricaStatsDTO> topProventos(int topN) {
+        return rubricas(DimensaoAgregado.PROVENTO, topN);
+    }
+
+    @Override
+    public List<RubricaStatsDTO> topDescontos(int topN) {
+        return rubricas(DimensaoAgregado.DESCONTO, topN);
+    }
+
+    private List<RubricaStatsDTO> rubricas(DimensaoAgregado dimensao, int topN) {
+        List<RubricaStatsDTO> stats = agrupar(dimensao, FolhaAgregadoSnapshot::chaveId)
+            .entrySet().stream()
+            .map(entry -> new RubricaStatsDTO(
+                entry.getKey(),
+                entry.getValue().get(0).chaveCodigo(),
+                entry.getValue().get(0).chaveDescricao(),
+                somarValor(entry.getValue()),
+                entry.getValue().stream().mapToLong(FolhaAgregadoSnapshot::quantidadeLancamentos).sum()))
+            .toList();
+        return limitarOrdenadoPorValor(stats, topN, RubricaStatsDTO::valorTotal);
+    }
+
+    private List<FolhaAgregadoSnapshot> dimensao(DimensaoAgregado dimensao) {
+        return agregados.stream()
+            .filter(a -> a.dimensao() == dimensao)
+            .toList();
+    }
+
+    private Map<Long, List<FolhaAgregadoSnapshot>> agrupar(
+            DimensaoAgregado dimensao, Function<FolhaAgregadoSnapshot, Long> chave) {
+        Map<Long, List<FolhaAgregadoSnapshot>> grupos = new LinkedHashMap<>();
+        for (FolhaAgregadoSnapshot agregado : dimensao(dimensao)) {
+            Long id = chave.apply(agregado);
+            if (id != null) {
+                grupos.computeIfAbsent(id, k -> new ArrayList<>()).add(agregado);
+            }
+        }
+        return grupos;
+    }
+
+    private static long somarFuncionarios(List<FolhaAgregadoSnapshot> agregados) {
+        return agregados.stream().mapToLong(FolhaAgregadoSnapshot::quantidadeFuncionarios).sum();
+    }
+
+    private static BigDecimal somarValor(List<FolhaAgregadoSnapshot> agregados) {
+        return agregados.stream()
+            .map(FolhaAgregadoSnapshot::valorTotal)
+            .filter(Objects::nonNull)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static <T> List<T> limitarOrdenadoPorValor(List<T> items, int topN, Function<T, BigDecimal> valorFn) {
+        return items.stream()
+            .sorted(Comparator.comparing(valorFn).reversed())
+            .limit(topN)
+            .toList();
+    }
+}
@@ -7,7 +7,9 @@ import br.com.techne.sistemafolha.dashboard.api.DashboardStatsDTO;
 import br.com.techne.sistemafolha.dashboard.api.EvolucaoMensalDTO;
 import br.com.techne.sistemafolha.dashboard.api.LinhaNegocioStatsDTO;
 import br.com.techne.sistemafolha.dashboard.api.RubricaStatsDTO;
+import br.com.techne.sistemafolha.folha.port.FolhaAgregadoSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
+import br.com.techne.sistemafolha.folha.port.FolhaEvolucaoMaterializadaSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaEvolucaoSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaTotalizacaoPort;
@@ -22,9 +24,11 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -47,6 +51,23 @@ public class DashboardStatsAggregator {
             competenciaInicio, competenciaFim, decimoTerceiro, centrosScoped);
     }
 
+    /**
+     * Agregados materializados da competência no escopo, já como {@link DadosCompetencia}; vazio quando a
+     * competência ainda não tem ficha processada e as consultas precisam recorrer às linhas.
+     */
+    Optional<DashboardAgregados> agregadosCompetencia(
+            Set<Long> centrosScoped,
+            LocalDate competenciaInicio,
+            LocalDate competenciaFim,
+            boolean decimoTerceiro) {
+        List<FolhaAgregadoSnapshot> agregados = folhaConsultaPort.findAgregadosPorCompetencia(
+            competenciaInicio, competenciaFim, decimoTerceiro, centrosScoped);
+        return agregados.isEmpty()
+            ? Optional.empty()
+            : Optional.of(new DashboardAgregados(
+                folhaTotalizacaoPort, agregados, competenciaInicio, competenciaFim, decimoTerceiro));
+    }
+
     public long contarFuncionarios(List<FolhaLinhaSnapshot> folhaCompetencia) {
         return folhaCompetencia.stream()
             .map(FolhaLinhaSnapshot::funcionarioId)
@@ -122,6 +143,13 @@ public class DashboardStatsAggregator {
             LocalDate competenciaFim,
             boolean decimoTerceiro) {
 
+        Optional<DashboardAgregados> agregados = agregadosCompetencia(
+            centrosScoped, competenciaInicio, competenciaFim, decimoTerceiro);
+        if (agregados.isPresent()) {
+            return aggregateFromAgregados(
+                agregados.get(), contexto, centrosScoped, competenciaInicio, competenciaFim);
+        }
+
         List<FolhaLinhaSnapshot> folhaCompetencia = linhasCompetencia(
             centrosScoped, competenciaInicio, competenciaFim, decimoTerceiro);
 
@@ -139,9 +167,7 @@ public class DashboardStatsAggregator {
         List<RubricaStatsDTO> topProventos = topProventos(folhaCompetencia, TOP_LISTA_PADRAO);
         List<RubricaStatsDTO> topDescontos = topDescontos(folhaCompetencia, TOP_LISTA_PADRAO);
 
-        List<EvolucaoMensalDTO> evolucaoMensal = contexto.acessoTotal()
-            ? calcularEvolucaoMensal()
-            : calcularEvolucaoMensalScoped(centrosScoped);
+        List<EvolucaoMensalDTO> evolucaoMensal = evolucaoMensal(contexto, centrosScoped);
 
         return new DashboardStatsDTO(
             totalFuncionarios,
@@ -158,6 +184,33 @@ public class DashboardStatsAggregator {
         );
     }
 
+    private DashboardStatsDTO aggregateFromAgregados(
+            DashboardAgregados agregados,
+            AccessContextDTO contexto,
+            Set<Long> centrosScoped,
+            LocalDate competenciaInicio,
+            LocalDate competenciaFim) {
+        return new DashboardStatsDTO(
+            agregados.contarFuncionarios(),
+            agregados.calcularCustoEmpresa(),
+            contarBeneficiosAtivos(competenciaInicio, competenciaFim, centrosScoped),
+            agregados.porLinhaNegocio(Integer.MAX_VALUE),
+            agregados.porCentroCusto(Integer.MAX_VALUE),
+            agregados.porCargo(Integer.MAX_VALUE),
+            agregados.calcularTotalProventos(),
+            agregados.calcularTotalDescontos(),
+            agregados.topProventos(TOP_LISTA_PADRAO),
+            agregados.topDescontos(TOP_LISTA_PADRAO),
+            evolucaoMensal(contexto, centrosScoped)
+        );
+    }
+
+    private List<EvolucaoMensalDTO> evolucaoMensal(AccessContextDTO contexto, Set<Long> centrosScoped) {
+        return contexto.acessoTotal()
+            ? calcularEvolucaoMensal()
+            : calcularEvolucaoMensalScoped(centrosScoped);
+    }
+
     public List<EvolucaoMensalDTO> evolucaoMeses(
             AccessContextDTO contexto,
             Set<Long> centrosScoped,
@@ -169,6 +222,9 @@ public class DashboardStatsAggregator {
         LocalDate inicio = fimInclusive.minusMonths(quantidadeMeses - 1L).withDayOfMonth(1);
         List<FolhaEvolucaoSnapshot> competencias = folhaConsultaPort.findEvolucaoUltimos12Meses(inicio);
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM/yyyy");
+        Map<CompetenciaEvolucao, FolhaEvolucaoMaterializadaSnapshot> materializada = contexto.acessoTotal()
+            ? Map.of()
+            : evolucaoMaterializada(inicio, centrosScoped);
 
         List<EvolucaoMensalDTO> resultado = new ArrayList<>();
         for (FolhaEvolucaoSnapshot item : competencias) {
@@ -180,7 +236,7 @@ public class DashboardStatsAggregator {
             }
             EvolucaoMensalDTO dto = contexto.acessoTotal()
                 ? toEvolucaoGlobal(item, formatter)
-                : toEvolucaoScoped(item, centrosScoped, formatter);
+                : toEvolucaoScoped(item, centrosScoped, formatter, materializada);
             resultado.add(dto);
         }
         resultado.sort(Comparator.comparing(EvolucaoMensalDTO::mesAno));
@@ -195,8 +251,35 @@ public class DashboardStatsAggregator {
         );
     }
 
+    /**
+     * Evolução do escopo a partir da tabela materializada no processamento: uma consulta para o período inteiro,
+     * somada nos centros do usuário, com os benefícios vigentes somados na leitura como no card de custo empresa.
+     * Competências processadas antes dela ficam fora do mapa e caem nas linhas.
+     */
+    private Map<CompetenciaEvolucao, FolhaEvolucaoMaterializadaSnapshot> evolucaoMaterializada(
+            LocalDate inicio, Set<Long> centros) {
+        Map<CompetenciaEvolucao, FolhaEvolucaoMaterializadaSnapshot> porCompetencia = new HashMap<>();
+        for (FolhaEvolucaoMaterializadaSnapshot item : folhaConsultaPort.findEvolucaoMaterializada(inicio, centros)) {
+            porCompetencia.put(
+                new CompetenciaEvolucao(item.competenciaInicio(), item.competenciaFim(), item.decimoTerceiro()), item);
+        }
+        return porCompetencia;
+    }
+
     private EvolucaoMensalDTO toEvolucaoScoped(
-            FolhaEvolucaoSnapshot item, Set<Long> centros, DateTimeFormatter formatter) {
+            FolhaEvolucaoSnapshot item,
+            Set<Long> centros,
+            DateTimeFormatter formatter,
+            Map<CompetenciaEvolucao, FolhaEvolucaoMaterializadaSnapshot> materializada) {
+        FolhaEvolucaoMaterializadaSnapshot totais = materializada.get(
+            new CompetenciaEvolucao(item.competenciaInicio(), item.competenciaFim(), item.decimoTerceiro()));
+        if (totais != null) {
+            return new EvolucaoMensalDTO(
+                item.competenciaInicio().format(formatter),
+                totais.custoEmpresa(),
+                (int) totais.quantidadeFuncionarios()
+            );
+        }
         List<FolhaLinhaSnapshot> linhas = folhaConsultaPort.findLinhasAtivasPorCompetencia(
             item.competenciaInicio(), item.competenciaFim(), item.decimoTerceiro(), centros);
         BigDecimal custoEmpresa = folhaTotalizacaoPort.calcularTotalCustoEmpresa(
@@ -355,8 +438,12 @@ public class DashboardStatsAggregator {
         LocalDate dataInicio = LocalDate.now(Clock.systemDefaultZone()).minusMonths(11).withDayOfMonth(1);
         List<FolhaEvolucaoSnapshot> competencias = folhaConsultaPort.findEvolucaoUltimos12Meses(dataInicio);
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM/yyyy");
+        Map<CompetenciaEvolucao, FolhaEvolucaoMaterializadaSnapshot> materializada =
+            evolucaoMaterializada(dataInicio, centros);
         return competencias.stream()
-            .map(item -> toEvolucaoScoped(item, centros, formatter))
+            .map(item -> toEvolucaoScoped(item, centros, formatter, materializada))
             .toList();
     }
+
+    private record CompetenciaEvolucao(LocalDate inicio, LocalDate fim, boolean decimoTerceiro) {}
 }
@@ -28,13 +28,15 @@ public class DashboardWidgetCatalogService {
 
     public boolean isWidgetPermitido(String login, String widgetId) {
         return WidgetCatalog.findByWidgetId(widgetId)
-            .map(entry -> {
-                DashboardAccessGuard.ResolvedDashboardAccess access = dashboardAccessGuard.resolve(login);
-                return !access.denied() && isPermitidoParaContexto(entry, access.contexto());
-            })
+            .map(entry -> isWidgetPermitido(dashboardAccessGuard.resolve(login), entry))
             .orElse(false);
     }
 
+    /** Variante para quem já resolveu o acesso (consulta em lote). */
+    public boolean isWidgetPermitido(DashboardAccessGuard.ResolvedDashboardAccess access, WidgetCatalog entry) {
+        return !access.denied() && isPermitidoParaContexto(entry, access.contexto());
+    }
+
     public Set<String> widgetIdsValidos(String login) {
         return listarParaUsuario(login).stream()
             .map(WidgetCatalogItemDTO::widgetId)
@@ -1,5 +1,6 @@
 package br.com.techne.sistemafolha.dashboard.application;
 
+import br.com.techne.sistemafolha.dashboard.api.WidgetBatchItemRequest;
 import br.com.techne.sistemafolha.dashboard.api.WidgetDataDTO;
 import br.com.techne.sistemafolha.dashboard.api.WidgetQueryParams;
 import br.com.techne.sistemafolha.dashboard.domain.DashboardAcessoNegadoException;
@@ -15,7 +16,10 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -47,23 +51,108 @@ public class DashboardWidgetQueryService {
             return WidgetDataDTO.semDados(widgetId, competencia.competenciaLabel());
         }
 
-        List<FolhaLinhaSnapshot> linhas = dashboardStatsAggregator.linhasCompetencia(
-            access.centrosScoped(),
-            competencia.inicio(),
-            competencia.fim(),
-            competencia.decimoTerceiro());
-        linhas = filtrarLinhas(linhas, params);
+        DadosCompetencia dados = dadosCompetencia(access, competencia, carregarSnapshot(access, competencia), params);
 
         return mapearDados(
             widgetId,
             competencia.competenciaLabel(),
             access,
-            linhas,
+            dados,
             competencia,
             catalogEntry,
             params);
     }
 
+    /**
+     * Dados de todos os widgets de um layout em uma resposta, na ordem pedida. O acesso é resolvido uma vez, cada
+     * competência distinta (e seu snapshot de agregados ou linhas) é carregada uma vez e cada combinação de filtros
+     * é recortada uma vez. Todos os itens são validados antes de qualquer consulta: um item inválido ou fora do
+     * escopo recusa o lote inteiro, como faria na consulta individual.
+     */
+    public List<WidgetDataDTO> consultarLote(String login, List<WidgetBatchItemRequest> itens) {
+        DashboardAccessGuard.ResolvedDashboardAccess access = dashboardAccessGuard.resolve(login);
+        if (access.denied()) {
+            throw new DashboardAcessoNegadoException();
+        }
+
+        List<ItemLote> validados = new ArrayList<>(itens.size());
+        for (WidgetBatchItemRequest item : itens) {
+            WidgetCatalog catalogEntry = WidgetCatalog.findByWidgetId(item.widgetId())
+                .filter(entry -> dashboardWidgetCatalogService.isWidgetPermitido(access, entry))
+                .orElseThrow(DashboardAcessoNegadoException::new);
+            WidgetQueryParams params = WidgetQueryParams.fromQueryMap(
+                item.params() != null ? item.params() : Map.of());
+            dashboardWidgetConfigValidator.validarParamsPorWidget(catalogEntry, params);
+            dashboardWidgetConfigValidator.validarEscopoFiltros(access, params);
+            validados.add(new ItemLote(item.widgetId(), catalogEntry, params));
+        }
+
+        Map<String, CompetenciaResolvida> competencias = new HashMap<>();
+        Map<CompetenciaResolvida, SnapshotCompetencia> snapshots = new HashMap<>();
+        Map<RecorteDados, DadosCompetencia> recortes = new HashMap<>();
+        List<WidgetDataDTO> resultado = new ArrayList<>(validados.size());
+        for (ItemLote item : validados) {
+            WidgetQueryParams params = item.params();
+            CompetenciaResolvida competencia = competencias.computeIfAbsent(
+                params.competencia(), this::resolverCompetencia);
+            if (competencia.semDados()) {
+                resultado.add(WidgetDataDTO.semDados(item.widgetId(), competencia.competenciaLabel()));
+                continue;
+            }
+            SnapshotCompetencia snapshot = snapshots.computeIfAbsent(
+                competencia, c -> carregarSnapshot(access, c));
+            DadosCompetencia dados = recortes.computeIfAbsent(
+                new RecorteDados(competencia, params.centroCustoId(), params.linhaNegocioId()),
+                r -> dadosCompetencia(access, competencia, snapshot, params));
+            resultado.add(mapearDados(
+                item.widgetId(),
+                competencia.competenciaLabel(),
+                access,
+                dados,
+                competencia,
+                item.catalogEntry(),
+                params));
+        }
+        return resultado;
+    }
+
+    /** Agregados materializados quando a competência já foi processada; senão as linhas do escopo, sem filtros. */
+    private SnapshotCompetencia carregarSnapshot(
+            DashboardAccessGuard.ResolvedDashboardAccess access,
+            CompetenciaResolvida competencia) {
+        Optional<DashboardAgregados> agregados = dashboardStatsAggregator.agregadosCompetencia(
+            access.centrosScoped(),
+            competencia.inicio(),
+            competencia.fim(),
+            competencia.decimoTerceiro());
+        if (agregados.isPresent()) {
+            return new SnapshotCompetencia(agregados.get(), null);
+        }
+
+        List<FolhaLinhaSnapshot> linhas = dashboardStatsAggregator.linhasCompetencia(
+            access.centrosScoped(),
+            competencia.inicio(),
+            competencia.fim(),
+            competencia.decimoTerceiro());
+        return new SnapshotCompetencia(null, linhas);
+    }
+
+    private DadosCompetencia dadosCompetencia(
+            DashboardAccessGuard.ResolvedDashboardAccess access,
+            CompetenciaResolvida competencia,
+            SnapshotCompetencia snapshot,
+            WidgetQueryParams params) {
+        if (snapshot.agregados() != null) {
+            return snapshot.agregados().filtrar(params.centroCustoId(), params.linhaNegocioId());
+        }
+        return new DadosCompetenciaLinhas(
+            dashboardStatsAggregator,
+            filtrarLinhas(snapshot.linhas(), params),
+            competencia.inicio(),
+            competencia.fim(),
+            access.contexto());
+    }
+
     private CompetenciaResolvida resolverCompetencia(String competenciaParam) {
         if (competenciaParam != null) {
             YearMonth ym = parseCompetencia(competenciaParam);
@@ -98,7 +187,7 @@ public class DashboardWidgetQueryService {
             String widgetId,
             String competencia,
             DashboardAccessGuard.ResolvedDashboardAccess access,
-            List<FolhaLinhaSnapshot> linhas,
+            DadosCompetencia dados,
             CompetenciaResolvida competenciaResolvida,
             WidgetCatalog entry,
             WidgetQueryParams params) {
@@ -110,12 +199,11 @@ public class DashboardWidgetQueryService {
         return switch (entry) {
             case KPI_TOTAL_FUNCIONARIOS -> new WidgetDataDTO(
                 widgetId, competencia, false,
-                dashboardStatsAggregator.contarFuncionarios(linhas),
+                dados.contarFuncionarios(),
                 null, null, null, null, null, null, null, null, null, null);
             case KPI_CUSTO_EMPRESA -> new WidgetDataDTO(
                 widgetId, competencia, false, null,
-                dashboardStatsAggregator.calcularCustoEmpresa(
-                    linhas, competenciaResolvida.inicio(), competenciaResolvida.fim(), contexto),
+                dados.calcularCustoEmpresa(),
                 null, null, null, null, null, null, null, null, null);
             case KPI_BENEFICIOS_ATIVOS -> new WidgetDataDTO(
                 widgetId, competencia, false, null, null,
@@ -124,8 +212,8 @@ public class DashboardWidgetQueryService {
                 null, null, null, null, null, null, null, null);
             case KPI_RELACAO_PD -> new WidgetDataDTO(
                 widgetId, competencia, false, null, null, null,
-                dashboardStatsAggregator.calcularTotalProventos(linhas),
-                dashboardStatsAggregator.calcularTotalDescontos(linhas),
+                dados.calcularTotalProventos(),
+                dados.calcularTotalDescontos(),
                 null, null, null, null, null, null);
             case GRAFICO_EVOLUCAO_MENSAL -> new WidgetDataDTO(
                 widgetId, competencia, false, null, null, null, null, null, null, null, null, null, null,
@@ -133,19 +221,19 @@ public class DashboardWidgetQueryService {
                     contexto, access.centrosScoped(), competenciaResolvida.fim(), meses, competenciaResolvida.decimoTerceiro()));
             case GRAFICO_FUNCIONARIOS_POR_CC, GRAFICO_CUSTO_POR_CC -> new WidgetDataDTO(
                 widgetId, competencia, false, null, null, null, null, null, null,
-                dashboardStatsAggregator.porCentroCusto(linhas, topN), null, null, null, null);
+                dados.porCentroCusto(topN), null, null, null, null);
             case GRAFICO_FUNCIONARIOS_POR_LINHA, GRAFICO_CUSTO_POR_LINHA -> new WidgetDataDTO(
                 widgetId, competencia, false, null, null, null, null, null,
-                dashboardStatsAggregator.porLinhaNegocio(linhas, topN), null, null, null, null, null);
+                dados.porLinhaNegocio(topN), null, null, null, null, null);
             case LISTA_TOP_PROVENTOS -> new WidgetDataDTO(
                 widgetId, competencia, false, null, null, null, null, null, null, null, null,
-                dashboardStatsAggregator.topProventos(linhas, topN), null, null);
+                dados.topProventos(topN), null, null);
             case LISTA_TOP_DESCONTOS -> new WidgetDataDTO(
                 widgetId, competencia, false, null, null, null, null, null, null, null, null, null,
-                dashboardStatsAggregator.topDescontos(linhas, topN), null);
+                dados.topDescontos(topN), null);
             case GRAFICO_FUNCIONARIOS_POR_CARGO -> new WidgetDataDTO(
                 widgetId, competencia, false, null, null, null, null, null, null, null,
-                dashboardStatsAggregator.porCargo(linhas, topN), null, null, null);
+                dados.porCargo(topN), null, null, null);
         };
     }
 
@@ -174,6 +262,12 @@ public class DashboardWidgetQueryService {
         };
     }
 
+    private record ItemLote(String widgetId, WidgetCatalog catalogEntry, WidgetQueryParams params) {}
+
+    private record SnapshotCompetencia(DashboardAgregados agregados, List<FolhaLinhaSnapshot> linhas) {}
+
+    private record RecorteDados(CompetenciaResolvida competencia, Long centroCustoId, Long linhaNegocioId) {}
+
     private record CompetenciaResolvida(
         LocalDate inicio,
         LocalDate fim,
@@ -34,6 +34,8 @@ import br.com.techne.sistemafolha.workspace.domain.TemplatePublishException;
 import br.com.techne.sistemafolha.workspace.domain.WorkspaceTemplateInstallationNotFoundException;
 import br.com.techne.sistemafolha.workspace.domain.WorkspaceTemplateNotFoundException;
 import br.com.techne.sistemafolha.workspace.domain.WorkspaceWidgetDefinitionNotFoundException;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobEstadoInvalidoException;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobNotFoundException;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioAcessoNegadoException;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioGeracaoLimiteException;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioIndisponivelException;
@@ -168,6 +170,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.TOO_MANY_REQUESTS);
     }
 
+    @ExceptionHandler(ImportacaoJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleImportacaoJobNotFoundException(ImportacaoJobNotFoundException ex) {
+        ErrorResponse error = new ErrorResponse(HttpStatus.NOT_FOUND.value(), ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(ImportacaoJobEstadoInvalidoException.class)
+    public ResponseEntity<ErrorResponse> handleImportacaoJobEstadoInvalidoException(
+            ImportacaoJobEstadoInvalidoException ex) {
+        ErrorResponse error = new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
 
     @ExceptionHandler(DashboardAcessoNegadoException.class)
     public ResponseEntity<ErrorResponse> handleDashboardAcessoNegadoException(DashboardAcessoNegadoException ex) {
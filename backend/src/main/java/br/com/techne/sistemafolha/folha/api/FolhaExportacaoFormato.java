@@ -0,0 +1,27 @@
+package br.com.techne.sistemafolha.folha.api;
+
+/**
+ * Formato da exportação de linhas de folha.
+ */
+public enum FolhaExportacaoFormato {
+    /** Texto separado por ponto e vírgula, UTF-8 com BOM para abrir direto no Excel. */
+    CSV("text/csv;charset=UTF-8", "csv"),
+    /** Planilha escrita em streaming (POI SXSSF). */
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extensao;
+
+    FolhaExportacaoFormato(String contentType, String extensao) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extensao() {
+        return extensao;
+    }
+}
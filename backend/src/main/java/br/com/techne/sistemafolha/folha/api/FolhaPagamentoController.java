@@ -1,13 +1,18 @@
 package br.com.techne.sistemafolha.folha.api;
 
+import br.com.techne.sistemafolha.folha.application.FolhaExportacaoService;
 import br.com.techne.sistemafolha.folha.application.FolhaPagamentoService;
+import br.com.techne.sistemafolha.shared.paginacao.PaginaDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -19,6 +24,7 @@ import java.util.List;
 public class FolhaPagamentoController {
 
     private final FolhaPagamentoService folhaPagamentoService;
+    private final FolhaExportacaoService folhaExportacaoService;
 
     @GetMapping("/funcionario/{funcionarioId}")
     @Operation(summary = "Consulta folha de pagamento ativa por funcionário")
@@ -32,6 +38,20 @@ public class FolhaPagamentoController {
             authentication.getName(), funcionarioId, dataInicio, dataFim, decimoTerceiro));
     }
 
+    @GetMapping("/funcionario/{funcionarioId}/pagina")
+    @Operation(summary = "Consulta folha de pagamento ativa por funcionário, paginada por cursor (ordem: código da rubrica, id)")
+    public ResponseEntity<PaginaDTO<FolhaPagamentoDTO>> consultarPaginaPorFuncionario(
+            @PathVariable Long funcionarioId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @RequestParam(required = false) Boolean decimoTerceiro,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite,
+            Authentication authentication) {
+        return ResponseEntity.ok(folhaPagamentoService.consultarPaginaPorFuncionario(
+            authentication.getName(), funcionarioId, dataInicio, dataFim, decimoTerceiro, cursor, limite));
+    }
+
     @GetMapping("/centro-custo/{centroCustoId}")
     @Operation(summary = "Consulta folha de pagamento ativa por centro de custo")
     public ResponseEntity<List<FolhaPagamentoDTO>> consultarPorCentroCusto(
@@ -43,6 +63,19 @@ public class FolhaPagamentoController {
             authentication.getName(), centroCustoId, dataInicio, dataFim));
     }
 
+    @GetMapping("/centro-custo/{centroCustoId}/pagina")
+    @Operation(summary = "Consulta folha de pagamento ativa por centro de custo, paginada por cursor")
+    public ResponseEntity<PaginaDTO<FolhaPagamentoDTO>> consultarPaginaPorCentroCusto(
+            @PathVariable Long centroCustoId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite,
+            Authentication authentication) {
+        return ResponseEntity.ok(folhaPagamentoService.consultarPaginaPorCentroCusto(
+            authentication.getName(), centroCustoId, dataInicio, dataFim, cursor, limite));
+    }
+
     @GetMapping("/linha-negocio/{linhaNegocioId}")
     @Operation(summary = "Consulta folha de pagamento ativa por linha de negócio")
     public ResponseEntity<List<FolhaPagamentoDTO>> consultarPorLinhaNegocio(
@@ -54,6 +87,19 @@ public class FolhaPagamentoController {
             authentication.getName(), linhaNegocioId, dataInicio, dataFim));
     }
 
+    @GetMapping("/linha-negocio/{linhaNegocioId}/pagina")
+    @Operation(summary = "Consulta folha de pagamento ativa por linha de negócio, paginada por cursor")
+    public ResponseEntity<PaginaDTO<FolhaPagamentoDTO>> consultarPaginaPorLinhaNegocio(
+            @PathVariable Long linhaNegocioId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite,
+            Authentication authentication) {
+        return ResponseEntity.ok(folhaPagamentoService.consultarPaginaPorLinhaNegocio(
+            authentication.getName(), linhaNegocioId, dataInicio, dataFim, cursor, limite));
+    }
+
     @GetMapping
     @Operation(summary = "Consulta folha de pagamento ativa por período (mês/ano) - Filtra automaticamente pelos centros de custo acessíveis")
     public ResponseEntity<List<FolhaPagamentoDTO>> consultarPorPeriodo(
@@ -76,6 +122,24 @@ public class FolhaPagamentoController {
             authentication.getName(), dataInicio, dataFim, decimoTerceiro));
     }
 
+    @GetMapping("/exportacao")
+    @Operation(summary = "Exporta as linhas de folha da competência em CSV ou XLSX, em streaming - Filtra automaticamente pelos centros de custo acessíveis")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @RequestParam(required = false) Boolean decimoTerceiro,
+            @RequestParam(defaultValue = "CSV") FolhaExportacaoFormato formato,
+            Authentication authentication) {
+        FolhaExportacaoService.Exportacao exportacao = folhaExportacaoService.exportar(
+            authentication.getName(), dataInicio, dataFim, decimoTerceiro, formato);
+        String arquivo = "folha-" + dataInicio + "-" + dataFim
+            + (Boolean.TRUE.equals(decimoTerceiro) ? "-13" : "") + "." + formato.extensao();
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + arquivo + "\"")
+            .contentType(MediaType.parseMediaType(formato.contentType()))
+            .body(exportacao::escrever);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Remove um registro de folha de pagamento (soft delete)")
     public ResponseEntity<Void> remover(@PathVariable Long id, Authentication authentication) {
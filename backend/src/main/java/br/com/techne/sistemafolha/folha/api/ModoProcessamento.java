@@ -0,0 +1,17 @@
+package br.com.techne.sistemafolha.folha.api;
+
+/**
+ * Estratégia de execução do processamento de uma competência.
+ * <ul>
+ *   <li>{@link #TRANSACAO_UNICA} — comportamento original: todos os funcionários em uma única transação JPA.</li>
+ *   <li>{@link #PARALELO_LOTES} — funcionários particionados e calculados em pool limitado; cada partição
+ *       é gravada em transação própria com INSERT multi-linha via JDBC.</li>
+ *   <li>{@link #INCREMENTAL} — reconstrói apenas as fichas dos funcionários marcados como pendentes
+ *       (importação, exclusão de linha ADP ou rubrica fixa alterada) desde o último processamento.</li>
+ * </ul>
+ */
+public enum ModoProcessamento {
+    TRANSACAO_UNICA,
+    PARALELO_LOTES,
+    INCREMENTAL
+}
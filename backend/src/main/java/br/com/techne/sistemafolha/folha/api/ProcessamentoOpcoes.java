@@ -1,5 +1,16 @@
 package br.com.techne.sistemafolha.folha.api;
 
 public record ProcessamentoOpcoes(
-    boolean recalcularFerias
-) {}
+    boolean recalcularFerias,
+    ModoProcessamento modo
+) {
+    public ProcessamentoOpcoes {
+        if (modo == null) {
+            modo = ModoProcessamento.TRANSACAO_UNICA;
+        }
+    }
+
+    public ProcessamentoOpcoes(boolean recalcularFerias) {
+        this(recalcularFerias, ModoProcessamento.TRANSACAO_UNICA);
+    }
+}
@@ -0,0 +1,208 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import br.com.techne.sistemafolha.folha.domain.DimensaoAgregado;
+import br.com.techne.sistemafolha.folha.domain.FolhaAgregado;
+import br.com.techne.sistemafolha.folha.domain.FolhaEvolucaoMensal;
+import br.com.techne.sistemafolha.folha.infrastructure.FichaMensalRepository;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaAgregadoRepository;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaEvolucaoMensalRepository;
+import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
+import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reconstrói os agregados de {@link FolhaAgregado} e a evolução mensal ({@link FolhaEvolucaoMensal}) de uma
+ * competência a partir das linhas de ficha — as mesmas que o dashboard percorreria a cada consulta. Competências
+ * sem ficha ficam sem agregados e os leitores continuam nas linhas ADP. Descrições de cargo, centro e linha de
+ * negócio valem as do momento do processamento; benefícios mudam fora dele e ficam de fora, somados na leitura.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FolhaAgregadoService {
+
+    private final FolhaAgregadoRepository folhaAgregadoRepository;
+    private final FolhaEvolucaoMensalRepository folhaEvolucaoMensalRepository;
+    private final FichaMensalRepository fichaMensalRepository;
+    private final FolhaConsultaPort folhaConsultaPort;
+    private final FolhaCalculoKernel folhaCalculoKernel;
+    private final Clock clock;
+
+    @Transactional
+    public void atualizar(LocalDate competenciaInicio, LocalDate competenciaFim, boolean decimoTerceiro) {
+        folhaAgregadoRepository.deleteByCompetencia(competenciaInicio, competenciaFim, decimoTerceiro);
+        folhaEvolucaoMensalRepository.deleteByCompetencia(competenciaInicio, competenciaFim, decimoTerceiro);
+        if (!fichaMensalRepository.existsByCompetencia(competenciaInicio, competenciaFim, decimoTerceiro)) {
+            return;
+        }
+
+        List<FolhaLinhaSnapshot> linhas = folhaConsultaPort.findLinhasAtivasPorCompetencia(
+            competenciaInicio, competenciaFim, decimoTerceiro, null);
+        LocalDateTime agora = LocalDateTime.now(clock);
+        List<FolhaAgregado> agregados = new ArrayList<>();
+        List<FolhaEvolucaoMensal> evolucao = new ArrayList<>();
+        for (List<FolhaLinhaSnapshot> grupo : agrupar(linhas, FolhaLinhaSnapshot::centroCustoId).values()) {
+            FolhaLinhaSnapshot referencia = grupo.get(0);
+            Contexto contexto = new Contexto(competenciaInicio, competenciaFim, decimoTerceiro, referencia, agora);
+            TotaisCentro totais = totaisCentro(grupo);
+
+            FolhaAgregado centro = contexto.novo(DimensaoAgregado.CENTRO_CUSTO, grupo);
+            centro.setChaveId(referencia.centroCustoId());
+            centro.setChaveDescricao(referencia.centroCustoDescricao());
+            centro.setCustoFolha(totais.custoFolha());
+            agregados.add(centro);
+            evolucao.add(contexto.evolucao(totais, centro.getQuantidadeFuncionarios()));
+
+            for (List<FolhaLinhaSnapshot> porCargo : agrupar(
+                    grupo.stream().filter(l -> l.cargoId() != null).toList(), FolhaLinhaSnapshot::cargoId).values()) {
+                FolhaAgregado cargo = contexto.novo(DimensaoAgregado.CARGO, porCargo);
+                cargo.setChaveId(porCargo.get(0).cargoId());
+                cargo.setChaveDescricao(porCargo.get(0).cargoDescricao());
+                agregados.add(cargo);
+            }
+
+            agregarRubricas(contexto, grupo, "PROVENTO", DimensaoAgregado.PROVENTO, agregados);
+            agregarRubricas(contexto, grupo, "DESCONTO", DimensaoAgregado.DESCONTO, agregados);
+        }
+        folhaAgregadoRepository.saveAll(agregados);
+        folhaEvolucaoMensalRepository.saveAll(evolucao);
+        log.debug("Agregados da competência {} a {} (13º={}): {} linhas de ficha em {} agregados",
+            competenciaInicio, competenciaFim, decimoTerceiro, linhas.size(), agregados.size());
+    }
+
+    private void agregarRubricas(
+            Contexto contexto,
+            List<FolhaLinhaSnapshot> grupo,
+            String tipo,
+            DimensaoAgregado dimensao,
+            List<FolhaAgregado> agregados) {
+        List<FolhaLinhaSnapshot> doTipo = grupo.stream()
+            .filter(l -> tipo.equals(l.tipoRubricaDescricao()) && l.rubricaId() != null)
+            .toList();
+        for (List<FolhaLinhaSnapshot> porRubrica : agrupar(doTipo, FolhaLinhaSnapshot::rubricaId).values()) {
+            FolhaAgregado rubrica = contexto.novo(dimensao, porRubrica);
+            rubrica.setChaveId(porRubrica.get(0).rubricaId());
+            rubrica.setChaveCodigo(porRubrica.get(0).rubricaCodigo());
+            rubrica.setChaveDescricao(porRubrica.get(0).rubricaDescricao());
+            agregados.add(rubrica);
+        }
+    }
+
+    /**
+     * Mesma conta da totalização: motor de cálculo por funcionário, somado no centro. Encargos são o custo das
+     * linhas que não mexem em bruto nem líquido.
+     */
+    private TotaisCentro totaisCentro(List<FolhaLinhaSnapshot> grupo) {
+        BigDecimal bruto = BigDecimal.ZERO;
+        BigDecimal liquido = BigDecimal.ZERO;
+        BigDecimal custoFolha = BigDecimal.ZERO;
+        BigDecimal encargos = BigDecimal.ZERO;
+        for (List<FolhaLinhaSnapshot> linhasFuncionario : agrupar(grupo, FolhaLinhaSnapshot::funcionarioId).values()) {
+            List<FolhaMotorCalculo.LinhaCalculoInput> inputs = linhasFuncionario.stream()
+                .map(FolhaAgregadoService::toInput)
+                .toList();
+            FolhaMotorCalculo.TotaisFuncionario totais = folhaCalculoKernel.calcularPorLinhas(inputs);
+            bruto = bruto.add(totais.bruto());
+            liquido = liquido.add(totais.liquido());
+            custoFolha = custoFolha.add(totais.custoFolha());
+            for (FolhaMotorCalculo.LinhaCalculoInput input : inputs) {
+                if (input.operadorBruto() == 0 && input.operadorLiquido() == 0) {
+                    encargos = encargos.add(
+                        folhaCalculoKernel.contribuicao(input, FolhaMotorCalculo.Totalizador.COMPANY_COST));
+                }
+            }
+        }
+        return new TotaisCentro(
+            folhaCalculoKernel.arredondar(bruto),
+            folhaCalculoKernel.arredondar(liquido),
+            folhaCalculoKernel.arredondar(custoFolha),
+            folhaCalculoKernel.arredondar(encargos));
+    }
+
+    private static FolhaMotorCalculo.LinhaCalculoInput toInput(FolhaLinhaSnapshot linha) {
+        BigDecimal valor = linha.valor() != null ? linha.valor() : BigDecimal.ZERO;
+        return new FolhaMotorCalculo.LinhaCalculoInput(
+            valor, linha.operadorBruto(), linha.operadorLiquido(), linha.operadorCusto(), linha.porcentagem());
+    }
+
+    /** {@code groupingBy} não aceita chave nula, e o bucket sem centro de custo precisa existir. */
+    private static Map<Long, List<FolhaLinhaSnapshot>> agrupar(
+            List<FolhaLinhaSnapshot> linhas, Function<FolhaLinhaSnapshot, Long> chave) {
+        Map<Long, List<FolhaLinhaSnapshot>> grupos = new LinkedHashMap<>();
+        for (FolhaLinhaSnapshot linha : linhas) {
+            grupos.computeIfAbsent(chave.apply(linha), k -> new ArrayList<>()).add(linha);
+        }
+        return grupos;
+    }
+
+    private record TotaisCentro(
+        BigDecimal bruto,
+        BigDecimal liquido,
+        BigDecimal custoFolha,
+        BigDecimal encargos
+    ) {}
+
+    private record Contexto(
+        LocalDate competenciaInicio,
+        LocalDate competenciaFim,
+        boolean decimoTerceiro,
+        FolhaLinhaSnapshot centro,
+        LocalDateTime agora
+    ) {
+        FolhaAgregado novo(DimensaoAgregado dimensao, List<FolhaLinhaSnapshot> linhas) {
+            Set<Long> funcionarios = new HashSet<>();
+            BigDecimal valor = BigDecimal.ZERO;
+            for (FolhaLinhaSnapshot linha : linhas) {
+                if (linha.funcionarioId() != null) {
+                    funcionarios.add(linha.funcionarioId());
+                }
+                if (linha.valor() != null) {
+                    valor = valor.add(linha.valor());
+                }
+            }
+            FolhaAgregado agregado = new FolhaAgregado();
+            agregado.setCompetenciaInicio(competenciaInicio);
+            agregado.setCompetenciaFim(competenciaFim);
+            agregado.setDecimoTerceiro(decimoTerceiro);
+            agregado.setCentroCustoId(centro.centroCustoId());
+            agregado.setLinhaNegocioId(centro.linhaNegocioId());
+            agregado.setLinhaNegocioDescricao(centro.linhaNegocioDescricao());
+            agregado.setDimensao(dimensao);
+            agregado.setQuantidadeFuncionarios((long) funcionarios.size());
+            agregado.setQuantidadeLancamentos((long) linhas.size());
+            agregado.setValorTotal(valor);
+            agregado.setDataAtualizacao(agora);
+            return agregado;
+        }
+
+        FolhaEvolucaoMensal evolucao(TotaisCentro totais, long quantidadeFuncionarios) {
+            FolhaEvolucaoMensal evolucao = new FolhaEvolucaoMensal();
+            evolucao.setCompetenciaInicio(competenciaInicio);
+            evolucao.setCompetenciaFim(competenciaFim);
+            evolucao.setDecimoTerceiro(decimoTerceiro);
+            evolucao.setCentroCustoId(centro.centroCustoId());
+            evolucao.setTotalBruto(totais.bruto());
+            evolucao.setTotalLiquido(totais.liquido());
+            evolucao.setCustoFolha(totais.custoFolha());
+            evolucao.setTotalEncargos(totais.encargos());
+            evolucao.setQuantidadeFuncionarios(quantidadeFuncionarios);
+            evolucao.setDataAtualizacao(agora);
+            return evolucao;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Kernel em aritmética inteira: valores em centavos ({@code long}) e porcentagem em pontos-base.
+ * <p>
+ * Com valor e porcentagem de até 2 casas, {@code valor × operador × porcentagem / 100} é exato em
+ * milionésimos, então o arredondamento intermediário de {@link FolhaMotorCalculo} (escala 6) nunca descarta
+ * dígitos e só o HALF_UP final para centavos importa — o resultado é idêntico ao caminho {@link BigDecimal}.
+ * Linhas com mais de 2 casas ou somas que estourariam {@code long} caem para {@link FolhaMotorCalculo}.
+ */
+final class FolhaCalculoCentavos implements FolhaCalculoKernel {
+
+    private static final int SCALE = 2;
+    private static final long PONTOS_BASE_CEM_POR_CENTO = 10_000L;
+    private static final long MILIONESIMOS_POR_CENTAVO = 10_000L;
+
+    @Override
+    public FolhaMotorCalculo.TotaisFuncionario calcularPorLinhas(List<FolhaMotorCalculo.LinhaCalculoInput> linhas) {
+        if (linhas == null || linhas.isEmpty()) {
+            return FolhaMotorCalculo.calcularPorLinhas(linhas);
+        }
+        try {
+            long bruto = 0L;
+            long liquido = 0L;
+            long custoMilionesimos = 0L;
+            for (FolhaMotorCalculo.LinhaCalculoInput linha : linhas) {
+                long centavos = centavos(linha.valor());
+                bruto = Math.addExact(bruto, Math.multiplyExact(centavos, (long) linha.operadorBruto()));
+                liquido = Math.addExact(liquido, Math.multiplyExact(centavos, (long) linha.operadorLiquido()));
+                custoMilionesimos = Math.addExact(custoMilionesimos, custoMilionesimos(centavos, linha));
+            }
+            return new FolhaMotorCalculo.TotaisFuncionario(
+                BigDecimal.valueOf(bruto, SCALE),
+                BigDecimal.valueOf(liquido, SCALE),
+                BigDecimal.valueOf(arredondarMilionesimos(custoMilionesimos), SCALE));
+        } catch (ArithmeticException foraDaFaixa) {
+            return FolhaMotorCalculo.calcularPorLinhas(linhas);
+        }
+    }
+
+    @Override
+    public BigDecimal contribuicao(FolhaMotorCalculo.LinhaCalculoInput linha, FolhaMotorCalculo.Totalizador totalizador) {
+        try {
+            long centavos = centavos(linha.valor());
+            long resultado = switch (totalizador) {
+                case GROSS -> Math.multiplyExact(centavos, (long) linha.operadorBruto());
+                case NET -> Math.multiplyExact(centavos, (long) linha.operadorLiquido());
+                case COMPANY_COST -> arredondarMilionesimos(custoMilionesimos(centavos, linha));
+            };
+            return BigDecimal.valueOf(resultado, SCALE);
+        } catch (ArithmeticException foraDaFaixa) {
+            return FolhaMotorCalculo.contribuicao(linha, totalizador);
+        }
+    }
+
+    private static long custoMilionesimos(long centavos, FolhaMotorCalculo.LinhaCalculoInput linha) {
+        long pontosBase = linha.porcentagem() != null
+            ? linha.porcentagem().movePointRight(2).longValueExact()
+            : PONTOS_BASE_CEM_POR_CENTO;
+        return Math.multiplyExact(Math.multiplyExact(centavos, (long) linha.operadorCusto()), pontosBase);
+    }
+
+    /** Lança {@link ArithmeticException} quando o valor tem mais de 2 casas ou não cabe em {@code long}. */
+    private static long centavos(BigDecimal valor) {
+        return valor != null ? valor.movePointRight(2).longValueExact() : 0L;
+    }
+
+    /** HALF_UP (metade se afasta do zero) de milionésimos para centavos. */
+    static long arredondarMilionesimos(long milionesimos) {
+        long quociente = milionesimos / MILIONESIMOS_POR_CENTAVO;
+        long resto = milionesimos % MILIONESIMOS_POR_CENTAVO;
+        if (resto >= MILIONESIMOS_POR_CENTAVO / 2) {
+            quociente++;
+        } else if (resto <= -MILIONESIMOS_POR_CENTAVO / 2) {
+            quociente--;
+        }
+        return quociente;
+    }
+}
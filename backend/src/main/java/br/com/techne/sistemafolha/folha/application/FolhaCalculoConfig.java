@@ -0,0 +1,16 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FolhaCalculoConfig {
+
+    @Bean
+    FolhaCalculoKernel folhaCalculoKernel(FolhaProcessamentoProperties properties) {
+        return switch (properties.getKernelCalculo()) {
+            case CENTAVOS -> new FolhaCalculoCentavos();
+            case DECIMAL -> new FolhaCalculoDecimal();
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Kernel de referência: delega para {@link FolhaMotorCalculo}, inteiramente em {@link BigDecimal}.
+ */
+final class FolhaCalculoDecimal implements FolhaCalculoKernel {
+
+    @Override
+    public FolhaMotorCalculo.TotaisFuncionario calcularPorLinhas(List<FolhaMotorCalculo.LinhaCalculoInput> linhas) {
+        return FolhaMotorCalculo.calcularPorLinhas(linhas);
+    }
+
+    @Override
+    public BigDecimal contribuicao(FolhaMotorCalculo.LinhaCalculoInput linha, FolhaMotorCalculo.Totalizador totalizador) {
+        return FolhaMotorCalculo.contribuicao(linha, totalizador);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Estratégia de cálculo dos totalizadores da ficha. Todas as implementações devolvem valores
+ * idênticos aos de {@link FolhaMotorCalculo} (escala 2, HALF_UP), inclusive a escala do {@link BigDecimal}.
+ * Ponto único de cálculo da aplicação: processamento, totalização, agregados e detalhamento da ficha passam
+ * por aqui. Package-visible — uso interno de {@code folha.application}.
+ */
+interface FolhaCalculoKernel {
+
+    FolhaMotorCalculo.TotaisFuncionario calcularPorLinhas(List<FolhaMotorCalculo.LinhaCalculoInput> linhas);
+
+    BigDecimal contribuicao(FolhaMotorCalculo.LinhaCalculoInput linha, FolhaMotorCalculo.Totalizador totalizador);
+
+    /** Arredondamento monetário dos totais (escala 2, HALF_UP), igual em todos os kernels. */
+    default BigDecimal arredondar(BigDecimal valor) {
+        return FolhaMotorCalculo.arredondar(valor);
+    }
+}
@@ -1,17 +1,27 @@
 package br.com.techne.sistemafolha.folha.application;
 
+import br.com.techne.sistemafolha.beneficios.port.BeneficioConsultaPort;
+import br.com.techne.sistemafolha.beneficios.port.BeneficioFuncionarioCompetenciaSnapshot;
 import br.com.techne.sistemafolha.folha.domain.FichaLinha;
+import br.com.techne.sistemafolha.folha.domain.FolhaAgregado;
 import br.com.techne.sistemafolha.folha.domain.FolhaPagamento;
 import br.com.techne.sistemafolha.folha.domain.OrigemLinha;
 import br.com.techne.sistemafolha.folha.domain.ResumoFolhaPagamento;
 import br.com.techne.sistemafolha.folha.infrastructure.FichaLinhaRepository;
 import br.com.techne.sistemafolha.folha.infrastructure.FichaMensalRepository;
+import br.com.techne.sistemafolha.folha.infrastructure.FichaTotaisFuncionarioProjection;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaAgregadoRepository;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaEvolucaoMensalRepository;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaEvolucaoMensalTotaisProjection;
 import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoRepository;
 import br.com.techne.sistemafolha.folha.infrastructure.ResumoFolhaPagamentoRepository;
+import br.com.techne.sistemafolha.folha.port.FolhaAgregadoSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
+import br.com.techne.sistemafolha.folha.port.FolhaEvolucaoMaterializadaSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaEvolucaoSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaResumoSnapshot;
+import br.com.techne.sistemafolha.folha.port.FolhaTotaisCompetenciaSnapshot;
 import br.com.techne.sistemafolha.shared.access.CentroCustoEfetivo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,7 +29,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,6 +46,9 @@ public class FolhaConsultaAdapter implements FolhaConsultaPort {
     private final ResumoFolhaPagamentoRepository resumoFolhaPagamentoRepository;
     private final FichaMensalRepository fichaMensalRepository;
     private final FichaLinhaRepository fichaLinhaRepository;
+    private final FolhaAgregadoRepository folhaAgregadoRepository;
+    private final FolhaEvolucaoMensalRepository folhaEvolucaoMensalRepository;
+    private final BeneficioConsultaPort beneficioConsultaPort;
 
     @Override
     public Optional<FolhaResumoSnapshot> findResumoMaisRecente() {
@@ -79,6 +96,17 @@ public class FolhaConsultaAdapter implements FolhaConsultaPort {
             .toList();
     }
 
+    @Override
+    public List<FolhaAgregadoSnapshot> findAgregadosPorCompetencia(
+            LocalDate competenciaInicio, LocalDate competenciaFim, boolean decimoTerceiro,
+            Set<Long> centrosCustoIds) {
+        boolean recortado = centrosCustoIds != null && !centrosCustoIds.isEmpty();
+        return folhaAgregadoRepository.findByCompetencia(competenciaInicio, competenciaFim, decimoTerceiro).stream()
+            .filter(a -> !recortado || (a.getCentroCustoId() != null && centrosCustoIds.contains(a.getCentroCustoId())))
+            .map(this::toAgregadoSnapshot)
+            .toList();
+    }
+
     @Override
     public List<FolhaEvolucaoSnapshot> findEvolucaoUltimos12Meses(LocalDate dataInicio) {
         return resumoFolhaPagamentoRepository.findUltimos12MesesRegulares(dataInicio).stream()
@@ -86,6 +114,127 @@ public class FolhaConsultaAdapter implements FolhaConsultaPort {
             .toList();
     }
 
+    @Override
+    public List<FolhaTotaisCompetenciaSnapshot> somarTotaisFichaPorCompetencia(
+            LocalDate inicio, LocalDate fim, Set<Long> centrosCustoIds) {
+        Map<CompetenciaFicha, TotaisFicha> porCompetencia = new LinkedHashMap<>();
+        for (Object[] row : fichaMensalRepository.findCompetenciasComFicha(inicio, fim)) {
+            porCompetencia.put(
+                new CompetenciaFicha((LocalDate) row[0], (LocalDate) row[1], Boolean.TRUE.equals(row[2])),
+                new TotaisFicha());
+        }
+        if (porCompetencia.isEmpty()) {
+            return List.of();
+        }
+
+        List<FichaTotaisFuncionarioProjection> porFuncionario = centrosCustoIds != null && !centrosCustoIds.isEmpty()
+            ? fichaLinhaRepository.somarPorCompetenciaEFuncionarioNosCentros(inicio, fim, centrosCustoIds)
+            : fichaLinhaRepository.somarPorCompetenciaEFuncionario(inicio, fim);
+        for (FichaTotaisFuncionarioProjection funcionario : porFuncionario) {
+            TotaisFicha totais = porCompetencia.get(new CompetenciaFicha(
+                funcionario.getCompetenciaInicio(),
+                funcionario.getCompetenciaFim(),
+                Boolean.TRUE.equals(funcionario.getDecimoTerceiro())));
+            if (totais != null) {
+                totais.somar(funcionario);
+            }
+        }
+        return porCompetencia.entrySet().stream()
+            .map(entry -> entry.getValue().toSnapshot(entry.getKey()))
+            .toList();
+    }
+
+    private record CompetenciaFicha(LocalDate inicio, LocalDate fim, boolean decimoTerceiro) {}
+
+    private record BeneficioFuncionarioCompetencia(Long funcionarioId, LocalDate inicio, LocalDate fim) {}
+
+    /** Acumula os totais por funcionário arredondando cada um, como {@code FolhaMotorCalculo.calcularPorLinhas}. */
+    private static final class TotaisFicha {
+        private final Set<Long> funcionarioIds = new HashSet<>();
+        private BigDecimal bruto = BigDecimal.ZERO;
+        private BigDecimal liquido = BigDecimal.ZERO;
+        private BigDecimal custoFolha = BigDecimal.ZERO;
+        private BigDecimal pagamentos = BigDecimal.ZERO;
+        private BigDecimal descontos = BigDecimal.ZERO;
+
+        void somar(FichaTotaisFuncionarioProjection funcionario) {
+            funcionarioIds.add(funcionario.getFuncionarioId());
+            bruto = bruto.add(FolhaMotorCalculo.arredondar(valorOuZero(funcionario.getBruto())));
+            liquido = liquido.add(FolhaMotorCalculo.arredondar(valorOuZero(funcionario.getLiquido())));
+            custoFolha = custoFolha.add(FolhaMotorCalculo.arredondar(valorOuZero(funcionario.getCustoFolha())));
+            pagamentos = pagamentos.add(valorOuZero(funcionario.getPagamentos()));
+            descontos = descontos.add(valorOuZero(funcionario.getDescontos()));
+        }
+
+        FolhaTotaisCompetenciaSnapshot toSnapshot(CompetenciaFicha competencia) {
+            return new FolhaTotaisCompetenciaSnapshot(
+                competencia.inicio(),
+                competencia.fim(),
+                competencia.decimoTerceiro(),
+                Set.copyOf(funcionarioIds),
+                FolhaMotorCalculo.arredondar(bruto),
+                FolhaMotorCalculo.arredondar(liquido),
+                FolhaMotorCalculo.arredondar(custoFolha),
+                pagamentos,
+                descontos);
+        }
+    }
+
+    @Override
+    public List<FolhaEvolucaoMaterializadaSnapshot> findEvolucaoMaterializada(
+            LocalDate dataInicio, Set<Long> centrosCustoIds) {
+        Set<Long> centros = centrosCustoIds != null && !centrosCustoIds.isEmpty() ? centrosCustoIds : null;
+        List<FolhaEvolucaoMensalTotaisProjection> totais = centros != null
+            ? folhaEvolucaoMensalRepository.somarPorCompetenciaNosCentros(dataInicio, centros)
+            : folhaEvolucaoMensalRepository.somarPorCompetencia(dataInicio);
+        if (totais.isEmpty()) {
+            return List.of();
+        }
+        Map<CompetenciaFicha, BigDecimal> beneficios = beneficiosPorCompetencia(dataInicio, centros);
+        return totais.stream()
+            .map(t -> toEvolucaoMaterializadaSnapshot(t, beneficios.getOrDefault(
+                new CompetenciaFicha(t.getCompetenciaInicio(), t.getCompetenciaFim(),
+                    Boolean.TRUE.equals(t.getDecimoTerceiro())),
+                BigDecimal.ZERO)))
+            .toList();
+    }
+
+    /**
+     * Benefícios mudam fora do processamento e entram na leitura, com a regra do card de custo empresa: os dos
+     * funcionários com ficha nos centros em cada competência. São duas consultas para o período inteiro — as
+     * fichas e os benefícios agrupados por funcionário e competência.
+     */
+    private Map<CompetenciaFicha, BigDecimal> beneficiosPorCompetencia(LocalDate dataInicio, Set<Long> centros) {
+        List<Object[]> fichas = centros != null
+            ? fichaMensalRepository.findFuncionariosPorCompetenciaDesdeNosCentros(dataInicio, centros)
+            : fichaMensalRepository.findFuncionariosPorCompetenciaDesde(dataInicio);
+        if (fichas.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> funcionarioIds = new HashSet<>();
+        for (Object[] row : fichas) {
+            funcionarioIds.add((Long) row[3]);
+        }
+        Map<BeneficioFuncionarioCompetencia, BigDecimal> porFuncionario = new HashMap<>();
+        for (BeneficioFuncionarioCompetenciaSnapshot beneficio
+                : beneficioConsultaPort.somarValorPorFuncionariosDesdeCompetencia(funcionarioIds, dataInicio)) {
+            porFuncionario.put(new BeneficioFuncionarioCompetencia(
+                beneficio.funcionarioId(), beneficio.competenciaInicio(), beneficio.competenciaFim()),
+                beneficio.total());
+        }
+        Map<CompetenciaFicha, BigDecimal> porCompetencia = new HashMap<>();
+        for (Object[] row : fichas) {
+            LocalDate inicio = (LocalDate) row[0];
+            LocalDate fim = (LocalDate) row[1];
+            BigDecimal valor = porFuncionario.get(new BeneficioFuncionarioCompetencia((Long) row[3], inicio, fim));
+            if (valor != null) {
+                porCompetencia.merge(
+                    new CompetenciaFicha(inicio, fim, Boolean.TRUE.equals(row[2])), valor, BigDecimal::add);
+            }
+        }
+        return porCompetencia;
+    }
+
     @Override
     public boolean existsResumoAtivo(LocalDate inicio, LocalDate fim, boolean decimoTerceiro) {
         return !resumoFolhaPagamentoRepository
@@ -94,17 +243,31 @@ public class FolhaConsultaAdapter implements FolhaConsultaPort {
     }
 
     @Override
-    public boolean existsAtivaByCpfAndCompetenciaExcludingFuncionario(
-            String cpf, Long funcionarioId, LocalDate inicio, LocalDate fim, boolean decimoTerceiro) {
-        return folhaPagamentoRepository.existsAtivaByCpfAndCompetenciaExcludingFuncionario(
-            cpf, funcionarioId, inicio, fim, decimoTerceiro);
+    public Map<String, Set<Long>> findFuncionariosComFolhaAtivaPorCpf(
+            Set<String> cpfs, LocalDate inicio, LocalDate fim, boolean decimoTerceiro) {
+        if (cpfs == null || cpfs.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Set<Long>> resultado = new HashMap<>();
+        for (Object[] row : folhaPagamentoRepository.findCpfEFuncionarioAtivosByCpfsAndCompetencia(
+                cpfs, inicio, fim, decimoTerceiro)) {
+            resultado.computeIfAbsent((String) row[0], cpf -> new HashSet<>()).add((Long) row[1]);
+        }
+        return resultado;
     }
 
     @Override
-    public boolean existsByFuncionarioIdAndRubricaIdAndPeriodo(
-            Long funcionarioId, Long rubricaId, LocalDate inicio, LocalDate fim, boolean decimoTerceiro) {
-        return folhaPagamentoRepository.existsByFuncionarioIdAndRubricaIdAndPeriodoAndDecimoTerceiro(
-            funcionarioId, rubricaId, inicio, fim, decimoTerceiro);
+    public Map<Long, Set<Long>> findRubricasAtivasPorFuncionario(
+            Set<Long> funcionarioIds, LocalDate inicio, LocalDate fim, boolean decimoTerceiro) {
+        if (funcionarioIds == null || funcionarioIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Set<Long>> resultado = new HashMap<>();
+        for (Object[] row : folhaPagamentoRepository.findFuncionarioERubricaAtivosByFuncionariosAndCompetencia(
+                funcionarioIds, inicio, fim, decimoTerceiro)) {
+            resultado.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((Long) row[1]);
+        }
+        return resultado;
     }
 
     private boolean pertenceAosCentros(FolhaPagamento folha, Set<Long> centrosCustoIds) {
@@ -126,6 +289,22 @@ public class FolhaConsultaAdapter implements FolhaConsultaPort {
         );
     }
 
+    private FolhaAgregadoSnapshot toAgregadoSnapshot(FolhaAgregado agregado) {
+        return new FolhaAgregadoSnapshot(
+            agregado.getCentroCustoId(),
+            agregado.getLinhaNegocioId(),
+            agregado.getLinhaNegocioDescricao(),
+            agregado.getDimensao(),
+            agregado.getChaveId(),
+            agregado.getChaveCodigo(),
+            agregado.getChaveDescricao(),
+            agregado.getQuantidadeFuncionarios(),
+            agregado.getQuantidadeLancamentos(),
+            agregado.getValorTotal(),
+            agregado.getCustoFolha()
+        );
+    }
+
     private FolhaEvolucaoSnapshot toEvolucaoSnapshot(ResumoFolhaPagamento resumo) {
         return new FolhaEvolucaoSnapshot(
             resumo.getCompetenciaInicio(),
@@ -136,6 +315,26 @@ public class FolhaConsultaAdapter implements FolhaConsultaPort {
         );
     }
 
+    private FolhaEvolucaoMaterializadaSnapshot toEvolucaoMaterializadaSnapshot(
+            FolhaEvolucaoMensalTotaisProjection totais, BigDecimal beneficios) {
+        BigDecimal custoFolha = valorOuZero(totais.getCustoFolha());
+        return new FolhaEvolucaoMaterializadaSnapshot(
+            totais.getCompetenciaInicio(),
+            totais.getCompetenciaFim(),
+            Boolean.TRUE.equals(totais.getDecimoTerceiro()),
+            FolhaMotorCalculo.arredondar(valorOuZero(totais.getTotalBruto())),
+            FolhaMotorCalculo.arredondar(valorOuZero(totais.getTotalLiquido())),
+            FolhaMotorCalculo.arredondar(custoFolha),
+            FolhaMotorCalculo.arredondar(valorOuZero(totais.getTotalEncargos())),
+            FolhaCustoEmpresaComposer.compor(custoFolha, BigDecimal.ZERO, beneficios),
+            totais.getQuantidadeFuncionarios() != null ? totais.getQuantidadeFuncionarios() : 0L
+        );
+    }
+
+    private static BigDecimal valorOuZero(BigDecimal valor) {
+        return valor != null ? valor : BigDecimal.ZERO;
+    }
+
     private FolhaLinhaSnapshot toLinhaSnapshotFromFolhaPagamento(FolhaPagamento folha) {
         var funcionario = folha.getFuncionario();
         var centroCusto = folha.getCentroCusto() != null ? folha.getCentroCusto() : funcionario.getCentroCusto();
@@ -0,0 +1,207 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import br.com.techne.sistemafolha.auth.domain.Usuario;
+import br.com.techne.sistemafolha.auth.port.UsuarioLookupPort;
+import br.com.techne.sistemafolha.folha.api.FolhaExportacaoFormato;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaExportacaoJdbcReader;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaExportacaoLinha;
+import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
+import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
+import br.com.techne.sistemafolha.shared.logging.DomainLogging;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Exportação das linhas de folha de uma competência em CSV ou XLSX. O escopo de acesso é resolvido na chamada e
+ * as linhas vão do cursor JDBC direto para a resposta: o CSV é escrito linha a linha e o XLSX mantém só uma janela
+ * de {@link #LINHAS_EM_MEMORIA_XLSX} linhas em memória, com o restante descarregado em arquivo temporário do POI.
+ */
+@Service
+@RequiredArgsConstructor
+public class FolhaExportacaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FolhaExportacaoService.class);
+    private static final String DOMAIN_PREFIX = DomainLogging.prefix("folha");
+
+    static final int LINHAS_EM_MEMORIA_XLSX = 100;
+    static final List<String> COLUNAS = List.of(
+        "Competência início", "Competência fim", "13º", "Funcionário ID", "Matrícula", "Funcionário", "Cargo",
+        "Centro de custo ID", "Centro de custo", "Linha de negócio", "Rubrica", "Descrição rubrica",
+        "Tipo rubrica", "Valor");
+    private static final char SEPARADOR_CSV = ';';
+    private static final char BOM = '\uFEFF';
+
+    private final FolhaExportacaoJdbcReader folhaExportacaoJdbcReader;
+    private final UsuarioLookupPort usuarioLookupPort;
+    private final OrganogramaAcessoPort organogramaAcessoPort;
+
+    /** Escrita da exportação na saída da resposta, executada depois que o controller devolve os cabeçalhos. */
+    @FunctionalInterface
+    public interface Exportacao {
+        void escrever(OutputStream saida) throws IOException;
+    }
+
+    public Exportacao exportar(
+            String login, LocalDate dataInicio, LocalDate dataFim, Boolean decimoTerceiro,
+            FolhaExportacaoFormato formato) {
+        Set<Long> centros = centrosDoEscopo(login);
+        boolean decimo = Boolean.TRUE.equals(decimoTerceiro);
+        return saida -> {
+            long linhas = formato == FolhaExportacaoFormato.XLSX
+                ? escreverXlsx(dataInicio, dataFim, decimo, centros, saida)
+                : escreverCsv(dataInicio, dataFim, decimo, centros, saida);
+            logger.info("{}Usuário {} exportou {} linhas de folha ({}) da competência {} a {} (decimoTerceiro={})",
+                DOMAIN_PREFIX, login, linhas, formato, dataInicio, dataFim, decimo);
+        };
+    }
+
+    /** Centros exportáveis: {@code null} para acesso total, vazio quando o usuário não enxerga nenhum. */
+    private Set<Long> centrosDoEscopo(String login) {
+        Usuario usuario = usuarioLookupPort.findByLoginAndAtivoTrue(login)
+            .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+        AccessContextDTO contexto = organogramaAcessoPort.obterContextoAcesso(usuario.getId());
+        if (contexto.acessoTotal()) {
+            return null;
+        }
+        if (!contexto.temFuncionarioVinculado() || !contexto.temNoOrganograma()
+                || contexto.centrosCustoIds() == null) {
+            return Set.of();
+        }
+        return contexto.centrosCustoIds();
+    }
+
+    private long escreverCsv(
+            LocalDate dataInicio, LocalDate dataFim, boolean decimo, Set<Long> centros, OutputStream saida)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        writer.write(BOM);
+        escreverLinhaCsv(writer, COLUNAS);
+        long[] total = {0};
+        try {
+            folhaExportacaoJdbcReader.percorrer(dataInicio, dataFim, decimo, centros, linha -> {
+                try {
+                    escreverLinhaCsv(writer, valores(linha));
+                    total[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return total[0];
+    }
+
+    private long escreverXlsx(
+            LocalDate dataInicio, LocalDate dataFim, boolean decimo, Set<Long> centros, OutputStream saida)
+            throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(LINHAS_EM_MEMORIA_XLSX);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("Folha");
+            Row cabecalho = sheet.createRow(0);
+            for (int i = 0; i < COLUNAS.size(); i++) {
+                cabecalho.createCell(i).setCellValue(COLUNAS.get(i));
+            }
+            int[] proxima = {1};
+            folhaExportacaoJdbcReader.percorrer(dataInicio, dataFim, decimo, centros, linha -> {
+                Row row = sheet.createRow(proxima[0]++);
+                List<Object> valores = valores(linha);
+                for (int i = 0; i < valores.size(); i++) {
+                    preencher(row.createCell(i), valores.get(i));
+                }
+            });
+            workbook.write(saida);
+            return proxima[0] - 1L;
+        } finally {
+            workbook.close();
+            workbook.dispose();
+        }
+    }
+
+    private static List<Object> valores(FolhaExportacaoLinha linha) {
+        return Arrays.asList(
+            linha.competenciaInicio(),
+            linha.competenciaFim(),
+            linha.decimoTerceiro() ? "Sim" : "Não",
+            linha.funcionarioId(),
+            linha.matricula(),
+            linha.funcionarioNome(),
+            linha.cargoDescricao(),
+            linha.centroCustoId(),
+            linha.centroCustoDescricao(),
+            linha.linhaNegocioDescricao(),
+            linha.rubricaCodigo(),
+            linha.rubricaDescricao(),
+            linha.tipoRubricaDescricao(),
+            linha.valor());
+    }
+
+    private static void escreverLinhaCsv(Writer writer, List<?> valores) throws IOException {
+        for (int i = 0; i < valores.size(); i++) {
+            if (i > 0) {
+                writer.write(SEPARADOR_CSV);
+            }
+            writer.write(celulaCsv(valores.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Texto iniciado por {@code = + - @} ganha um apóstrofo na frente para a planilha não o interpretar como fórmula;
+     * números saem como estão, inclusive os negativos.
+     */
+    static String celulaCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor instanceof BigDecimal decimal ? decimal.toPlainString() : valor.toString();
+        if (!(valor instanceof Number) && iniciaComoFormula(texto)) {
+            texto = "'" + texto;
+        }
+        if (texto.indexOf(SEPARADOR_CSV) < 0 && texto.indexOf('"') < 0
+                && texto.indexOf('\n') < 0 && texto.indexOf('\r') < 0) {
+            return texto;
+        }
+        return '"' + texto.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean iniciaComoFormula(String texto) {
+        if (texto.isEmpty()) {
+            return false;
+        }
+        char primeiro = texto.charAt(0);
+        return primeiro == '=' || primeiro == '+' || primeiro == '-' || primeiro == '@';
+    }
+
+    private static void preencher(Cell cell, Object valor) {
+        if (valor == null) {
+            cell.setBlank();
+        } else if (valor instanceof BigDecimal decimal) {
+            cell.setCellValue(decimal.doubleValue());
+        } else if (valor instanceof Long numero) {
+            cell.setCellValue(numero);
+        } else {
+            cell.setCellValue(valor.toString());
+        }
+    }
+}
@@ -37,6 +37,7 @@ public class FolhaFichaConsultaService {
     private final BeneficioConsultaPort beneficioConsultaPort;
     private final OrganogramaAcessoPort organogramaAcessoPort;
     private final UsuarioLookupPort usuarioLookupPort;
+    private final FolhaCalculoKernel folhaCalculoKernel;
 
     @Transactional(readOnly = true)
     public List<FichaLinhaDetalheDTO> listarLinhasPorTotalizador(
@@ -69,7 +70,7 @@ public class FolhaFichaConsultaService {
             return Optional.empty();
         }
         FolhaMotorCalculo.LinhaCalculoInput input = toInput(linha);
-        BigDecimal contribuicao = FolhaMotorCalculo.contribuicao(input, motorTotalizador);
+        BigDecimal contribuicao = folhaCalculoKernel.contribuicao(input, motorTotalizador);
         if (contribuicao.compareTo(BigDecimal.ZERO) == 0) {
             return Optional.empty();
         }
@@ -98,7 +99,7 @@ public class FolhaFichaConsultaService {
             }
             detalhes.add(new FichaLinhaDetalheDTO(
                 valor,
-                FolhaMotorCalculo.arredondar(valor),
+                folhaCalculoKernel.arredondar(valor),
                 ORIGEM_BENEFICIO,
                 beneficio.tipoCodigo(),
                 beneficio.tipoDescricao(),
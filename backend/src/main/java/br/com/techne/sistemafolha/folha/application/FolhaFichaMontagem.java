@@ -0,0 +1,167 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
+import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
+import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixa;
+import br.com.techne.sistemafolha.cadastros.domain.Rubrica;
+import br.com.techne.sistemafolha.folha.domain.FichaLinha;
+import br.com.techne.sistemafolha.folha.domain.FichaMensal;
+import br.com.techne.sistemafolha.folha.domain.FolhaPagamento;
+import br.com.techne.sistemafolha.folha.domain.OrigemLinha;
+import br.com.techne.sistemafolha.shared.access.CentroCustoEfetivo;
+import br.com.techne.sistemafolha.shared.logging.DomainLogging;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Regras de composição da ficha mensal (ADP + rubricas fixas + férias calculadas), compartilhadas
+ * pelos modos {@code TRANSACAO_UNICA} e {@code PARALELO_LOTES} do processamento.
+ * Package-visible — uso interno de {@code folha.application}; sem Spring e sem acesso a banco.
+ */
+final class FolhaFichaMontagem {
+
+    private static final Logger logger = LoggerFactory.getLogger(FolhaFichaMontagem.class);
+    private static final String DOMAIN_PREFIX = DomainLogging.prefix("folha");
+    static final String CODIGO_RUBRICA_FERIAS = "5000";
+    private static final BigDecimal FATOR_FERIAS = new BigDecimal("2.5");
+    private static final BigDecimal MESES_ANO = new BigDecimal("12");
+
+    private FolhaFichaMontagem() {
+    }
+
+    static boolean isFuncionarioClt(Funcionario funcionario) {
+        if (funcionario.getRegimeTrabalho() == null) {
+            return true;
+        }
+        return "CLT".equals(funcionario.getRegimeTrabalho().getCodigo())
+            && Boolean.TRUE.equals(funcionario.getRegimeTrabalho().getAtivo());
+    }
+
+    static FichaMensal montarFicha(
+            List<FolhaPagamento> grupo,
+            LocalDate competenciaInicio,
+            LocalDate competenciaFim,
+            boolean decimoTerceiro) {
+        Funcionario funcionario = grupo.get(0).getFuncionario();
+        FichaMensal ficha = new FichaMensal();
+        ficha.setFuncionario(funcionario);
+        ficha.setCompetenciaInicio(competenciaInicio);
+        ficha.setCompetenciaFim(competenciaFim);
+        ficha.setDecimoTerceiro(decimoTerceiro);
+        ficha.setAtivo(true);
+        ficha.setCentroCusto(centroCustoEfetivoDoGrupo(grupo));
+        return ficha;
+    }
+
+    /**
+     * Monta as linhas ADP e de custo fixo da ficha, na ordem em que são persistidas.
+     * ADP prevalece sobre rubrica fixa da mesma rubrica; fixa individual prevalece sobre global.
+     */
+    static List<FichaLinha> montarLinhas(
+            FichaMensal ficha,
+            List<FolhaPagamento> grupo,
+            List<FuncionarioRubricaFixa> fixosIndividuais,
+            List<FuncionarioRubricaFixa> globais) {
+        Long funcionarioId = ficha.getFuncionario().getId();
+        List<FichaLinha> linhas = new ArrayList<>();
+        Set<Long> rubricasAdp = new HashSet<>();
+
+        for (FolhaPagamento linhaAdp : grupo) {
+            linhas.add(montarLinha(ficha, linhaAdp.getRubrica(), linhaAdp.getValor(), OrigemLinha.FOLHA_ADP));
+            rubricasAdp.add(linhaAdp.getRubrica().getId());
+        }
+
+        Set<Long> rubricasFixasIndividuais = new HashSet<>();
+        for (FuncionarioRubricaFixa fixo : fixosIndividuais) {
+            if (rubricasAdp.contains(fixo.getRubrica().getId())) {
+                logger.warn("{}Rubrica fixa ignorada (duplicata ADP): funcionario={}, rubrica={}",
+                    DOMAIN_PREFIX, funcionarioId, fixo.getRubrica().getCodigo());
+                continue;
+            }
+            linhas.add(montarLinha(ficha, fixo.getRubrica(), fixo.getValor(), OrigemLinha.CUSTO_FIXO));
+            rubricasFixasIndividuais.add(fixo.getRubrica().getId());
+        }
+
+        for (FuncionarioRubricaFixa global : globais) {
+            Long rubricaId = global.getRubrica().getId();
+            if (rubricasAdp.contains(rubricaId)) {
+                logger.warn("{}Rubrica fixa global ignorada (duplicata ADP): funcionario={}, rubrica={}",
+                    DOMAIN_PREFIX, funcionarioId, global.getRubrica().getCodigo());
+            } else if (!rubricasFixasIndividuais.contains(rubricaId)) {
+                linhas.add(montarLinha(ficha, global.getRubrica(), global.getValor(), OrigemLinha.CUSTO_FIXO));
+            }
+        }
+        return linhas;
+    }
+
+    static FichaLinha montarLinhaFeriasCalculada(
+            FolhaCalculoKernel kernel,
+            FichaMensal ficha,
+            Rubrica rubricaFerias,
+            List<FolhaMotorCalculo.LinhaCalculoInput> inputsAtuais) {
+        FolhaMotorCalculo.TotaisFuncionario parcial = kernel.calcularPorLinhas(inputsAtuais);
+        BigDecimal valorFerias = parcial.bruto()
+            .multiply(FATOR_FERIAS)
+            .divide(MESES_ANO, 2, RoundingMode.HALF_UP);
+        return montarLinha(ficha, rubricaFerias, valorFerias, OrigemLinha.CALCULADO);
+    }
+
+    static FolhaMotorCalculo.LinhaCalculoInput toInput(FichaLinha linha) {
+        return new FolhaMotorCalculo.LinhaCalculoInput(
+            linha.getValor(),
+            linha.getOperadorBruto(),
+            linha.getOperadorLiquido(),
+            linha.getOperadorCusto(),
+            linha.getPorcentagem()
+        );
+    }
+
+    static void aplicarTotais(FichaMensal ficha, FolhaMotorCalculo.TotaisFuncionario totais) {
+        ficha.setBruto(totais.bruto());
+        ficha.setLiquido(totais.liquido());
+        ficha.setCustoFolha(totais.custoFolha());
+    }
+
+    private static FichaLinha montarLinha(FichaMensal ficha, Rubrica rubrica, BigDecimal valor, OrigemLinha origem) {
+        FichaLinha linha = new FichaLinha();
+        linha.setFichaMensal(ficha);
+        linha.setRubrica(rubrica);
+        linha.setValor(valor);
+        linha.setOrigemLinha(origem);
+        linha.setOperadorBruto(rubrica.getOperadorBruto());
+        linha.setOperadorLiquido(rubrica.getOperadorLiquido());
+        linha.setOperadorCusto(rubrica.getOperadorCusto());
+        linha.setPorcentagem(snapshotPorcentagem(rubrica.getPorcentagem()));
+        linha.setAtivo(true);
+        return linha;
+    }
+
+    private static CentroCusto centroCustoEfetivoDoGrupo(List<FolhaPagamento> grupo) {
+        FolhaPagamento primeiraLinha = grupo.get(0);
+        Funcionario funcionario = primeiraLinha.getFuncionario();
+        Long linhaCcId = primeiraLinha.getCentroCusto() != null ? primeiraLinha.getCentroCusto().getId() : null;
+        Long funcCcId = funcionario != null && funcionario.getCentroCusto() != null
+            ? funcionario.getCentroCusto().getId() : null;
+        Long effectiveId = CentroCustoEfetivo.idOf(linhaCcId, funcCcId);
+        if (effectiveId == null) {
+            return null;
+        }
+        if (primeiraLinha.getCentroCusto() != null
+                && effectiveId.equals(primeiraLinha.getCentroCusto().getId())) {
+            return primeiraLinha.getCentroCusto();
+        }
+        return funcionario != null ? funcionario.getCentroCusto() : null;
+    }
+
+    private static BigDecimal snapshotPorcentagem(Double porcentagem) {
+        return porcentagem != null ? BigDecimal.valueOf(porcentagem) : null;
+    }
+}
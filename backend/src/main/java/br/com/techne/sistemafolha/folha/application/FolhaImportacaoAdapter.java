@@ -7,6 +7,7 @@ import br.com.techne.sistemafolha.cadastros.domain.LinhaNegocio;
 import br.com.techne.sistemafolha.cadastros.domain.Rubrica;
 import br.com.techne.sistemafolha.folha.api.FolhaPagamentoDTO;
 import br.com.techne.sistemafolha.folha.domain.FolhaPagamento;
+import br.com.techne.sistemafolha.folha.domain.OrigemPendencia;
 import br.com.techne.sistemafolha.folha.domain.ResumoFolhaPagamento;
 import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoRepository;
 import br.com.techne.sistemafolha.folha.infrastructure.ResumoFolhaPagamentoRepository;
@@ -23,7 +24,9 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,13 +36,15 @@ public class FolhaImportacaoAdapter implements FolhaImportacaoPort {
     private final FolhaPagamentoRepository folhaPagamentoRepository;
     private final ResumoFolhaPagamentoRepository resumoFolhaPagamentoRepository;
     private final EntityManager entityManager;
+    private final FolhaPendenciaService folhaPendenciaService;
 
     @Override
     @Transactional
     public List<FolhaPagamentoDTO> persistirImportacao(FolhaImportacaoCommand command) {
+        Set<Long> funcionariosAfetados = new HashSet<>();
         if (command.substituirExistente()) {
-            substituirCompetenciaExistente(
-                command.competenciaInicio(), command.competenciaFim(), command.decimoTerceiro());
+            funcionariosAfetados.addAll(substituirCompetenciaExistente(
+                command.competenciaInicio(), command.competenciaFim(), command.decimoTerceiro()));
         }
 
         List<FolhaPagamento> persistidas = new ArrayList<>();
@@ -47,8 +52,16 @@ public class FolhaImportacaoAdapter implements FolhaImportacaoPort {
             FolhaPagamento folha = montarFolha(
                 linha, command.competenciaInicio(), command.competenciaFim(), command.decimoTerceiro());
             persistidas.add(folhaPagamentoRepository.save(folha));
+            funcionariosAfetados.add(linha.funcionarioId());
         }
 
+        folhaPendenciaService.registrar(
+            funcionariosAfetados,
+            command.competenciaInicio(),
+            command.competenciaFim(),
+            command.decimoTerceiro(),
+            OrigemPendencia.IMPORTACAO);
+
         if (command.resumo() != null) {
             resumoFolhaPagamentoRepository.save(montarResumo(command));
         }
@@ -56,7 +69,7 @@ public class FolhaImportacaoAdapter implements FolhaImportacaoPort {
         return persistidas.stream().map(this::toDTO).toList();
     }
 
-    private void substituirCompetenciaExistente(LocalDate dataInicio, LocalDate dataFim, boolean decimoTerceiro) {
+    private Set<Long> substituirCompetenciaExistente(LocalDate dataInicio, LocalDate dataFim, boolean decimoTerceiro) {
         var resumosExistentes = resumoFolhaPagamentoRepository
             .findByCompetenciaInicioAndCompetenciaFimAndDecimoTerceiroAndAtivoTrue(
                 dataInicio, dataFim, decimoTerceiro);
@@ -68,6 +81,9 @@ public class FolhaImportacaoAdapter implements FolhaImportacaoPort {
         for (ResumoFolhaPagamento resumoAntigo : resumosExistentes) {
             resumoFolhaPagamentoRepository.delete(resumoAntigo);
         }
+        return folhasAntigas.stream()
+            .map(folha -> folha.getFuncionario().getId())
+            .collect(Collectors.toSet());
     }
 
     private FolhaPagamento montarFolha(
@@ -9,11 +9,17 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
- * Agrega totais a partir de linhas de folha (RSF-01 foundation).
+ * Agrega totais a partir de linhas de folha (RSF-01 foundation), com o {@link FolhaCalculoKernel} recebido.
  * Package-visible — uso interno de {@code folha.application}; sem Spring.
  */
 class FolhaLinhaAgregacao {
 
+    private final FolhaCalculoKernel kernel;
+
+    FolhaLinhaAgregacao(FolhaCalculoKernel kernel) {
+        this.kernel = kernel;
+    }
+
     record Totais(
         long empregados,
         BigDecimal pagamentos,
@@ -84,9 +90,9 @@ class FolhaLinhaAgregacao {
             List<FolhaMotorCalculo.LinhaCalculoInput> inputs = entry.getValue().stream()
                 .map(this::toInput)
                 .toList();
-            FolhaMotorCalculo.TotaisFuncionario totais = FolhaMotorCalculo.calcularPorLinhas(inputs);
+            FolhaMotorCalculo.TotaisFuncionario totais = kernel.calcularPorLinhas(inputs);
 
-            BigDecimal custoBeneficios = FolhaMotorCalculo.arredondar(
+            BigDecimal custoBeneficios = kernel.arredondar(
                 beneficios.getOrDefault(funcionarioId, BigDecimal.ZERO));
             BigDecimal custoEmpresa = FolhaCustoEmpresaComposer.compor(
                 totais.custoFolha(), BigDecimal.ZERO, custoBeneficios);
@@ -100,11 +106,11 @@ class FolhaLinhaAgregacao {
 
         return new TotaisResumo(
             porFuncionario.size(),
-            FolhaMotorCalculo.arredondar(totalBruto),
-            FolhaMotorCalculo.arredondar(totalLiquido),
-            FolhaMotorCalculo.arredondar(totalCustoFolha),
-            FolhaMotorCalculo.arredondar(totalCustoBeneficios),
-            FolhaMotorCalculo.arredondar(totalCustoEmpresa),
+            kernel.arredondar(totalBruto),
+            kernel.arredondar(totalLiquido),
+            kernel.arredondar(totalCustoFolha),
+            kernel.arredondar(totalCustoBeneficios),
+            kernel.arredondar(totalCustoEmpresa),
             BigDecimal.ZERO.setScale(2)
         );
     }
@@ -4,15 +4,15 @@ import br.com.techne.sistemafolha.folha.api.FolhaPagamentoDTO;
 import br.com.techne.sistemafolha.folha.api.FolhaTotaisFuncionarioDTO;
 import br.com.techne.sistemafolha.cadastros.domain.CentroCustoNotFoundException;
 import br.com.techne.sistemafolha.cadastros.domain.LinhaNegocioNotFoundException;
-import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
 import br.com.techne.sistemafolha.folha.domain.FolhaPagamento;
+import br.com.techne.sistemafolha.folha.domain.OrigemPendencia;
 import br.com.techne.sistemafolha.folha.domain.ResumoFolhaPagamento;
-import br.com.techne.sistemafolha.cadastros.domain.LinhaNegocio;
 import br.com.techne.sistemafolha.auth.domain.Usuario;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
 import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
 import br.com.techne.sistemafolha.auth.port.UsuarioLookupPort;
 import br.com.techne.sistemafolha.cadastros.port.CadastrosLookupPort;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoLinhaProjection;
 import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoRepository;
 import br.com.techne.sistemafolha.folha.infrastructure.ResumoFolhaPagamentoRepository;
 import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
@@ -22,13 +22,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import br.com.techne.sistemafolha.shared.access.CentroCustoEfetivo;
 import br.com.techne.sistemafolha.shared.logging.DomainLogging;
+import br.com.techne.sistemafolha.shared.paginacao.CursorPaginacao;
+import br.com.techne.sistemafolha.shared.paginacao.PaginaDTO;
+import br.com.techne.sistemafolha.shared.paginacao.Paginacao;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -47,59 +52,124 @@ public class FolhaPagamentoService {
     private final FolhaTotalizacaoService folhaTotalizacaoService;
     private final FolhaConsultaPort folhaConsultaPort;
     private final ResumoFolhaPagamentoRepository resumoFolhaPagamentoRepository;
+    private final FolhaPendenciaService folhaPendenciaService;
 
     public List<FolhaPagamentoDTO> consultarPorFuncionario(
             String login, Long funcionarioId, LocalDate dataInicio, LocalDate dataFim, Boolean decimoTerceiro) {
         AccessContextDTO contexto = obterContextoAcesso(login);
-
-        List<FolhaPagamento> linhas;
-        if (decimoTerceiro != null) {
-            linhas = folhaPagamentoRepository.findByFuncionarioIdAndCompetenciaAndDecimoTerceiroAndAtivoTrue(
-                funcionarioId, dataInicio, dataFim, decimoTerceiro);
-        } else {
-            linhas = folhaPagamentoRepository.findByFuncionarioIdAndDataInicioBetweenAndAtivoTrue(
-                funcionarioId, dataInicio, dataFim);
-        }
-
-        return linhas.stream()
-            .filter(f -> aplicarFiltroAcesso(f, contexto))
+        return linhasPorFuncionario(contexto, funcionarioId, dataInicio, dataFim, decimoTerceiro,
+                CursorPaginacao.INICIO, Pageable.unpaged())
+            .stream()
             .map(this::toDTO)
-            .sorted(Comparator.comparing(FolhaPagamentoDTO::rubricaCodigo, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
-                .thenComparing(FolhaPagamentoDTO::id, Comparator.nullsLast(Comparator.naturalOrder())))
             .collect(Collectors.toList());
     }
 
+    public PaginaDTO<FolhaPagamentoDTO> consultarPaginaPorFuncionario(
+            String login, Long funcionarioId, LocalDate dataInicio, LocalDate dataFim, Boolean decimoTerceiro,
+            String cursor, Integer limite) {
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor);
+        int tamanho = Paginacao.resolverLimite(limite);
+        AccessContextDTO contexto = obterContextoAcesso(login);
+        List<FolhaPagamentoLinhaProjection> linhas = linhasPorFuncionario(contexto, funcionarioId, dataInicio,
+            dataFim, decimoTerceiro, posicao, PageRequest.of(0, tamanho + 1));
+        return Paginacao.pagina(linhas, tamanho, this::toDTO,
+            ultima -> new CursorPaginacao(ultima.getRubricaCodigo().toLowerCase(Locale.ROOT), ultima.getId()));
+    }
+
     public List<FolhaPagamentoDTO> consultarPorCentroCusto(
             String login, Long centroCustoId, LocalDate dataInicio, LocalDate dataFim) {
+        return linhasPorCentroCusto(login, centroCustoId, dataInicio, dataFim,
+                CursorPaginacao.INICIO, Pageable.unpaged())
+            .stream()
+            .map(this::toDTO)
+            .collect(Collectors.toList());
+    }
+
+    public PaginaDTO<FolhaPagamentoDTO> consultarPaginaPorCentroCusto(
+            String login, Long centroCustoId, LocalDate dataInicio, LocalDate dataFim, String cursor, Integer limite) {
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor);
+        int tamanho = Paginacao.resolverLimite(limite);
+        List<FolhaPagamentoLinhaProjection> linhas = linhasPorCentroCusto(login, centroCustoId, dataInicio, dataFim,
+            posicao, PageRequest.of(0, tamanho + 1));
+        return Paginacao.pagina(linhas, tamanho, this::toDTO, ultima -> new CursorPaginacao(null, ultima.getId()));
+    }
+
+    public List<FolhaPagamentoDTO> consultarPorLinhaNegocio(
+            String login, Long linhaNegocioId, LocalDate dataInicio, LocalDate dataFim) {
+        AccessContextDTO contexto = obterContextoAcesso(login);
+        return linhasPorLinhaNegocio(contexto, linhaNegocioId, dataInicio, dataFim,
+                CursorPaginacao.INICIO, Pageable.unpaged())
+            .stream()
+            .map(this::toDTO)
+            .collect(Collectors.toList());
+    }
+
+    public PaginaDTO<FolhaPagamentoDTO> consultarPaginaPorLinhaNegocio(
+            String login, Long linhaNegocioId, LocalDate dataInicio, LocalDate dataFim, String cursor, Integer limite) {
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor);
+        int tamanho = Paginacao.resolverLimite(limite);
+        AccessContextDTO contexto = obterContextoAcesso(login);
+        List<FolhaPagamentoLinhaProjection> linhas = linhasPorLinhaNegocio(contexto, linhaNegocioId, dataInicio,
+            dataFim, posicao, PageRequest.of(0, tamanho + 1));
+        return Paginacao.pagina(linhas, tamanho, this::toDTO, ultima -> new CursorPaginacao(null, ultima.getId()));
+    }
+
+    private List<FolhaPagamentoLinhaProjection> linhasPorFuncionario(
+            AccessContextDTO contexto, Long funcionarioId, LocalDate dataInicio, LocalDate dataFim,
+            Boolean decimoTerceiro, CursorPaginacao posicao, Pageable pageable) {
+        if (contexto.acessoTotal()) {
+            return folhaPagamentoRepository.consultarLinhasPorFuncionario(
+                funcionarioId, dataInicio, dataFim, decimoTerceiro, posicao.chave(), posicao.id(), pageable);
+        }
+        Set<Long> centros = centrosNoEscopo(contexto);
+        if (centros.isEmpty()) {
+            return List.of();
+        }
+        return folhaPagamentoRepository.consultarLinhasPorFuncionarioNoEscopo(
+            funcionarioId, dataInicio, dataFim, decimoTerceiro, posicao.chave(), posicao.id(), centros, pageable);
+    }
+
+    private List<FolhaPagamentoLinhaProjection> linhasPorCentroCusto(
+            String login, Long centroCustoId, LocalDate dataInicio, LocalDate dataFim,
+            CursorPaginacao posicao, Pageable pageable) {
         Usuario usuario = obterUsuario(login);
         if (!organogramaAcessoPort.usuarioPodeAcessarCentroCusto(usuario.getId(), centroCustoId)) {
             logger.warn("Usuário {} tentou acessar centro de custo {} sem permissão", login, centroCustoId);
             return List.of();
         }
 
-        CentroCusto centroCusto = cadastrosLookupPort.findCentroCustoById(centroCustoId)
+        cadastrosLookupPort.findCentroCustoById(centroCustoId)
             .orElseThrow(() -> new CentroCustoNotFoundException(centroCustoId));
 
-        return folhaPagamentoRepository
-            .findByCentroCustoAndDataInicioBetweenAndAtivoTrue(centroCusto, dataInicio, dataFim)
-            .stream()
-            .map(this::toDTO)
-            .collect(Collectors.toList());
+        return folhaPagamentoRepository.consultarLinhasPorCentroCusto(
+            centroCustoId, dataInicio, dataFim, posicao.id(), pageable);
     }
 
-    public List<FolhaPagamentoDTO> consultarPorLinhaNegocio(
-            String login, Long linhaNegocioId, LocalDate dataInicio, LocalDate dataFim) {
-        AccessContextDTO contexto = obterContextoAcesso(login);
-
-        LinhaNegocio linhaNegocio = cadastrosLookupPort.findLinhaNegocioById(linhaNegocioId)
+    private List<FolhaPagamentoLinhaProjection> linhasPorLinhaNegocio(
+            AccessContextDTO contexto, Long linhaNegocioId, LocalDate dataInicio, LocalDate dataFim,
+            CursorPaginacao posicao, Pageable pageable) {
+        cadastrosLookupPort.findLinhaNegocioById(linhaNegocioId)
             .orElseThrow(() -> new LinhaNegocioNotFoundException(linhaNegocioId));
 
-        return folhaPagamentoRepository
-            .findByLinhaNegocioAndDataInicioBetweenAndAtivoTrue(linhaNegocio, dataInicio, dataFim)
-            .stream()
-            .filter(f -> aplicarFiltroAcesso(f, contexto))
-            .map(this::toDTO)
-            .collect(Collectors.toList());
+        if (contexto.acessoTotal()) {
+            return folhaPagamentoRepository.consultarLinhasPorLinhaNegocio(
+                linhaNegocioId, dataInicio, dataFim, posicao.id(), pageable);
+        }
+        Set<Long> centros = centrosNoEscopo(contexto);
+        if (centros.isEmpty()) {
+            return List.of();
+        }
+        return folhaPagamentoRepository.consultarLinhasPorLinhaNegocioNoEscopo(
+            linhaNegocioId, dataInicio, dataFim, posicao.id(), centros, pageable);
+    }
+
+    /** Mesmo escopo de {@link #aplicarFiltroAcesso}, para as consultas que filtram o CC efetivo no banco. */
+    private static Set<Long> centrosNoEscopo(AccessContextDTO contexto) {
+        if (!contexto.temFuncionarioVinculado() || !contexto.temNoOrganograma()
+            || contexto.centrosCustoIds() == null) {
+            return Set.of();
+        }
+        return contexto.centrosCustoIds();
     }
 
     public List<FolhaPagamentoDTO> consultarPorPeriodo(
@@ -172,6 +242,12 @@ public class FolhaPagamentoService {
             .filter(folha -> aplicarFiltroAcesso(folha, contexto))
             .map(folha -> {
                 folhaPagamentoRepository.softDelete(id);
+                folhaPendenciaService.registrar(
+                    Set.of(folha.getFuncionario().getId()),
+                    folha.getDataInicio(),
+                    folha.getDataFim(),
+                    Boolean.TRUE.equals(folha.getDecimoTerceiro()),
+                    OrigemPendencia.EXCLUSAO_LINHA);
                 return true;
             })
             .orElse(false);
@@ -200,6 +276,30 @@ public class FolhaPagamentoService {
             CentroCustoEfetivo.idOf(linhaCcId, funcCcId), contexto.centrosCustoIds());
     }
 
+    private FolhaPagamentoDTO toDTO(FolhaPagamentoLinhaProjection linha) {
+        return new FolhaPagamentoDTO(
+            linha.getId(),
+            linha.getFuncionarioId(),
+            linha.getFuncionarioNome(),
+            linha.getRubricaId(),
+            linha.getRubricaCodigo(),
+            linha.getRubricaDescricao(),
+            linha.getRubricaTipo(),
+            linha.getCargoId(),
+            linha.getCargoDescricao(),
+            linha.getCentroCustoId(),
+            linha.getCentroCustoDescricao(),
+            linha.getLinhaNegocioId(),
+            linha.getLinhaNegocioDescricao(),
+            linha.getDataInicio(),
+            linha.getDataFim(),
+            linha.getValor(),
+            linha.getQuantidade(),
+            linha.getBaseCalculo(),
+            linha.getDecimoTerceiro()
+        );
+    }
+
     private FolhaPagamentoDTO toDTO(FolhaPagamento folha) {
         return new FolhaPagamentoDTO(
             folha.getId(),
@@ -0,0 +1,82 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixaAlteradaEvent;
+import br.com.techne.sistemafolha.folha.domain.OrigemPendencia;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaFuncionarioPendenteRepository;
+import br.com.techne.sistemafolha.shared.logging.DomainLogging;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Registro de fichas desatualizadas (funcionário × competência) para o processamento {@code INCREMENTAL}.
+ * Importações, exclusões de linha ADP e alterações de rubrica fixa marcam os pares afetados na mesma
+ * transação da alteração; o processamento consome e limpa as marcas.
+ */
+@Service
+@RequiredArgsConstructor
+public class FolhaPendenciaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FolhaPendenciaService.class);
+    private static final String DOMAIN_PREFIX = DomainLogging.prefix("folha");
+    private static final LocalDate VIGENCIA_ABERTA = LocalDate.of(9999, 12, 31);
+
+    private final FolhaFuncionarioPendenteRepository pendenteRepository;
+
+    @Transactional
+    public void registrar(
+            Collection<Long> funcionarioIds,
+            LocalDate competenciaInicio,
+            LocalDate competenciaFim,
+            boolean decimoTerceiro,
+            OrigemPendencia origem) {
+        if (funcionarioIds == null || funcionarioIds.isEmpty()) {
+            return;
+        }
+        pendenteRepository.registrar(
+            funcionarioIds, competenciaInicio, competenciaFim, decimoTerceiro, origem.name());
+    }
+
+    @EventListener
+    @Transactional
+    public void onRubricaFixaAlterada(FuncionarioRubricaFixaAlteradaEvent event) {
+        LocalDate vigenciaFim = event.vigenciaFim() != null ? event.vigenciaFim() : VIGENCIA_ABERTA;
+        int marcados = event.funcionarioId() != null
+            ? pendenteRepository.registrarPorVigencia(
+                event.funcionarioId(), event.vigenciaInicio(), vigenciaFim, OrigemPendencia.RUBRICA_FIXA.name())
+            : pendenteRepository.registrarPorVigenciaGlobal(
+                event.vigenciaInicio(), vigenciaFim, OrigemPendencia.RUBRICA_FIXA.name());
+        logger.debug("{}Rubrica fixa alterada: funcionario={}, vigencia={}..{}, pendencias={}",
+            DOMAIN_PREFIX, event.funcionarioId(), event.vigenciaInicio(), event.vigenciaFim(), marcados);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> funcionariosPendentes(LocalDate competenciaInicio, LocalDate competenciaFim, boolean decimoTerceiro) {
+        return pendenteRepository.findFuncionarioIdsByCompetencia(competenciaInicio, competenciaFim, decimoTerceiro);
+    }
+
+    @Transactional
+    public void limpar(LocalDate competenciaInicio, LocalDate competenciaFim, boolean decimoTerceiro) {
+        pendenteRepository.deleteByCompetencia(competenciaInicio, competenciaFim, decimoTerceiro);
+    }
+
+    @Transactional
+    public void limpar(
+            LocalDate competenciaInicio,
+            LocalDate competenciaFim,
+            boolean decimoTerceiro,
+            Collection<Long> funcionarioIds) {
+        if (funcionarioIds.isEmpty()) {
+            return;
+        }
+        pendenteRepository.deleteByCompetenciaAndFuncionarioIds(
+            competenciaInicio, competenciaFim, decimoTerceiro, funcionarioIds);
+    }
+}
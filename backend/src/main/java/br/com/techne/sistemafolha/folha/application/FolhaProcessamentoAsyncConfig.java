@@ -0,0 +1,28 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class FolhaProcessamentoAsyncConfig {
+
+    /**
+     * Pool limitado do modo {@code PARALELO_LOTES}. Fila cheia executa a partição na thread chamadora
+     * (back-pressure) em vez de rejeitar o processamento.
+     */
+    @Bean(name = "folhaProcessamentoExecutor")
+    public Executor folhaProcessamentoExecutor(FolhaProcessamentoProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getParalelismo());
+        executor.setMaxPoolSize(properties.getParalelismo());
+        executor.setQueueCapacity(properties.getCapacidadeFila());
+        executor.setThreadNamePrefix("folha-processamento-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,185 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
+import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixa;
+import br.com.techne.sistemafolha.cadastros.domain.Rubrica;
+import br.com.techne.sistemafolha.cadastros.port.CadastrosLookupPort;
+import br.com.techne.sistemafolha.folha.api.ProcessamentoResultadoDTO;
+import br.com.techne.sistemafolha.folha.domain.FichaLinha;
+import br.com.techne.sistemafolha.folha.domain.FichaMensal;
+import br.com.techne.sistemafolha.folha.domain.FolhaPagamento;
+import br.com.techne.sistemafolha.folha.domain.FolhaProcessamentoFalhaException;
+import br.com.techne.sistemafolha.folha.infrastructure.FichaJdbcBatchWriter;
+import br.com.techne.sistemafolha.folha.infrastructure.FichaMensalRepository;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoRepository;
+import br.com.techne.sistemafolha.shared.logging.DomainLogging;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Modo {@code PARALELO_LOTES} do processamento da folha.
+ * <p>
+ * As entidades ADP e as rubricas fixas são lidas e montadas na thread chamadora (onde vive a sessão JPA);
+ * os funcionários são então particionados e cada partição é calculada com o {@link FolhaCalculoKernel} no
+ * {@code folhaProcessamentoExecutor} e gravada via {@link FichaJdbcBatchWriter} em transação própria.
+ * Nenhuma transação segura locks de escrita durante a competência inteira.
+ * <p>
+ * Uma partição com falha não desfaz as já gravadas; como o processamento sempre apaga e reconstrói a
+ * competência, basta reprocessar — a falha é sinalizada com {@link FolhaProcessamentoFalhaException}.
+ */
+@Service
+public class FolhaProcessamentoParaleloService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FolhaProcessamentoParaleloService.class);
+    private static final String DOMAIN_PREFIX = DomainLogging.prefix("folha");
+
+    private final FolhaPagamentoRepository folhaPagamentoRepository;
+    private final FichaMensalRepository fichaMensalRepository;
+    private final FichaJdbcBatchWriter fichaJdbcBatchWriter;
+    private final CadastrosLookupPort cadastrosLookupPort;
+    private final FolhaProcessamentoProperties properties;
+    private final FolhaCalculoKernel folhaCalculoKernel;
+    private final Executor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    public FolhaProcessamentoParaleloService(
+            FolhaPagamentoRepository folhaPagamentoRepository,
+            FichaMensalRepository fichaMensalRepository,
+            FichaJdbcBatchWriter fichaJdbcBatchWriter,
+            CadastrosLookupPort cadastrosLookupPort,
+            FolhaProcessamentoProperties properties,
+            FolhaCalculoKernel folhaCalculoKernel,
+            @Qualifier("folhaProcessamentoExecutor") Executor executor,
+            PlatformTransactionManager transactionManager) {
+        this.folhaPagamentoRepository = folhaPagamentoRepository;
+        this.fichaMensalRepository = fichaMensalRepository;
+        this.fichaJdbcBatchWriter = fichaJdbcBatchWriter;
+        this.cadastrosLookupPort = cadastrosLookupPort;
+        this.properties = properties;
+        this.folhaCalculoKernel = folhaCalculoKernel;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    record FichaMontada(FichaMensal ficha, List<FichaLinha> linhas) {}
+
+    public ProcessamentoResultadoDTO processar(
+            LocalDate competenciaInicio,
+            LocalDate competenciaFim,
+            boolean decimoTerceiro,
+            boolean recalcularFerias) {
+        List<FolhaPagamento> linhasAdp = folhaPagamentoRepository
+            .findByCompetenciaAndDecimoTerceiroAndAtivoTrue(competenciaInicio, competenciaFim, decimoTerceiro);
+
+        Map<Long, List<FolhaPagamento>> porFuncionario = linhasAdp.stream()
+            .collect(Collectors.groupingBy(l -> l.getFuncionario().getId()));
+
+        List<FuncionarioRubricaFixa> vigentes = cadastrosLookupPort
+            .findRubricasFixasVigentesNaCompetencia(competenciaInicio, competenciaFim);
+
+        List<FuncionarioRubricaFixa> globais = vigentes.stream()
+            .filter(f -> f.getFuncionario() == null)
+            .toList();
+
+        Map<Long, List<FuncionarioRubricaFixa>> individuaisPorFuncionario = vigentes.stream()
+            .filter(f -> f.getFuncionario() != null)
+            .collect(Collectors.groupingBy(f -> f.getFuncionario().getId()));
+
+        Rubrica rubricaFerias = recalcularFerias && !porFuncionario.isEmpty()
+            ? cadastrosLookupPort.findRubricaAtivaByCodigo(FolhaFichaMontagem.CODIGO_RUBRICA_FERIAS).orElse(null)
+            : null;
+
+        List<FichaMontada> montadas = new ArrayList<>();
+        for (List<FolhaPagamento> grupo : porFuncionario.values()) {
+            Funcionario funcionario = grupo.get(0).getFuncionario();
+            if (!FolhaFichaMontagem.isFuncionarioClt(funcionario)) {
+                continue;
+            }
+            FichaMensal ficha = FolhaFichaMontagem.montarFicha(
+                grupo, competenciaInicio, competenciaFim, decimoTerceiro);
+            montadas.add(new FichaMontada(ficha, FolhaFichaMontagem.montarLinhas(
+                ficha, grupo, individuaisPorFuncionario.getOrDefault(funcionario.getId(), List.of()), globais)));
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+            fichaMensalRepository.deleteByCompetencia(competenciaInicio, competenciaFim, decimoTerceiro));
+
+        List<List<FichaMontada>> particoes = particionar(montadas, properties.getTamanhoParticao());
+        logger.info("{}Processamento paralelo: competencia={}..{}, decimoTerceiro={}, fichas={}, particoes={}",
+            DOMAIN_PREFIX, competenciaInicio, competenciaFim, decimoTerceiro, montadas.size(), particoes.size());
+
+        List<CompletableFuture<Integer>> futuros = particoes.stream()
+            .map(particao -> CompletableFuture.supplyAsync(
+                () -> processarParticao(particao, rubricaFerias), executor))
+            .toList();
+
+        int totalLinhas = aguardar(futuros, competenciaInicio, competenciaFim);
+        return new ProcessamentoResultadoDTO(montadas.size(), totalLinhas, porFuncionario.size());
+    }
+
+    private int processarParticao(List<FichaMontada> particao, Rubrica rubricaFerias) {
+        List<FichaMensal> fichas = new ArrayList<>(particao.size());
+        List<FichaLinha> linhas = new ArrayList<>();
+
+        for (FichaMontada montada : particao) {
+            List<FolhaMotorCalculo.LinhaCalculoInput> inputsMotor = new ArrayList<>(montada.linhas().size() + 1);
+            for (FichaLinha linha : montada.linhas()) {
+                inputsMotor.add(FolhaFichaMontagem.toInput(linha));
+            }
+            linhas.addAll(montada.linhas());
+
+            if (rubricaFerias != null) {
+                FichaLinha linhaFerias = FolhaFichaMontagem.montarLinhaFeriasCalculada(
+                    folhaCalculoKernel, montada.ficha(), rubricaFerias, inputsMotor);
+                linhas.add(linhaFerias);
+                inputsMotor.add(FolhaFichaMontagem.toInput(linhaFerias));
+            }
+
+            FolhaFichaMontagem.aplicarTotais(montada.ficha(), folhaCalculoKernel.calcularPorLinhas(inputsMotor));
+            fichas.add(montada.ficha());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            fichaJdbcBatchWriter.inserirFichas(fichas);
+            fichaJdbcBatchWriter.inserirLinhas(linhas);
+        });
+        return linhas.size();
+    }
+
+    private int aguardar(List<CompletableFuture<Integer>> futuros, LocalDate competenciaInicio, LocalDate competenciaFim) {
+        try {
+            CompletableFuture.allOf(futuros.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause() != null ? e.getCause() : e;
+            logger.error("{}Falha no processamento paralelo: competencia={}..{}",
+                DOMAIN_PREFIX, competenciaInicio, competenciaFim, causa);
+            throw new FolhaProcessamentoFalhaException(
+                "Falha ao gravar partição do processamento; reprocesse a competência", causa);
+        }
+        return futuros.stream().mapToInt(CompletableFuture::join).sum();
+    }
+
+    static <T> List<List<T>> particionar(List<T> itens, int tamanhoParticao) {
+        int tamanho = Math.max(1, tamanhoParticao);
+        List<List<T>> particoes = new ArrayList<>();
+        for (int i = 0; i < itens.size(); i += tamanho) {
+            particoes.add(itens.subList(i, Math.min(i + tamanho, itens.size())));
+        }
+        return particoes;
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "folha.processamento")
+public class FolhaProcessamentoProperties {
+
+    private int paralelismo = 4;
+    private int tamanhoParticao = 250;
+    private int capacidadeFila = 64;
+    private KernelCalculo kernelCalculo = KernelCalculo.CENTAVOS;
+
+    /** Implementação de {@link FolhaCalculoKernel}; ambas produzem resultados idênticos. */
+    public enum KernelCalculo {
+        CENTAVOS,
+        DECIMAL
+    }
+}
@@ -4,62 +4,111 @@ import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixa;
 import br.com.techne.sistemafolha.cadastros.domain.Rubrica;
 import br.com.techne.sistemafolha.cadastros.port.CadastrosLookupPort;
+import br.com.techne.sistemafolha.folha.api.ModoProcessamento;
 import br.com.techne.sistemafolha.folha.api.ProcessamentoOpcoes;
 import br.com.techne.sistemafolha.folha.api.ProcessamentoResultadoDTO;
 import br.com.techne.sistemafolha.folha.domain.FichaLinha;
 import br.com.techne.sistemafolha.folha.domain.FichaMensal;
 import br.com.techne.sistemafolha.folha.domain.FolhaPagamento;
-import br.com.techne.sistemafolha.folha.domain.OrigemLinha;
 import br.com.techne.sistemafolha.folha.infrastructure.FichaLinhaRepository;
 import br.com.techne.sistemafolha.folha.infrastructure.FichaMensalRepository;
 import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoRepository;
-import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
-import br.com.techne.sistemafolha.shared.access.CentroCustoEfetivo;
-import br.com.techne.sistemafolha.shared.logging.DomainLogging;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class FolhaProcessamentoService {
 
-    private static final Logger logger = LoggerFactory.getLogger(FolhaProcessamentoService.class);
-    private static final String DOMAIN = "folha";
-    private static final String DOMAIN_PREFIX = DomainLogging.prefix(DOMAIN);
-    private static final String CODIGO_RUBRICA_FERIAS = "5000";
-    private static final BigDecimal FATOR_FERIAS = new BigDecimal("2.5");
-    private static final BigDecimal MESES_ANO = new BigDecimal("12");
-
     private final FolhaPagamentoRepository folhaPagamentoRepository;
     private final FichaMensalRepository fichaMensalRepository;
     private final FichaLinhaRepository fichaLinhaRepository;
     private final CadastrosLookupPort cadastrosLookupPort;
-
+    private final FolhaProcessamentoParaleloService folhaProcessamentoParaleloService;
+    private final FolhaPendenciaService folhaPendenciaService;
+    private final FolhaCalculoKernel folhaCalculoKernel;
+    private final FolhaAgregadoService folhaAgregadoService;
+
+    /**
+     * Processa a competência no modo indicado em {@link ProcessamentoOpcoes#modo()}.
+     * Em {@link ModoProcessamento#PARALELO_LOTES} a transação externa fica restrita às leituras;
+     * a limpeza e a gravação de cada partição ocorrem em transações próprias
+     * (ver {@link FolhaProcessamentoParaleloService}). Os modos completos descartam as pendências
+     * da competência; {@link ModoProcessamento#INCREMENTAL} reconstrói apenas os funcionários pendentes.
+     * Ao final, os agregados dos dashboards são reconstruídos na mesma transação.
+     */
     @Transactional
-    @SuppressWarnings("java:S3776") // CC refactor tracked in CONCERNS; touch-only scope for R2
     public ProcessamentoResultadoDTO processar(
             LocalDate competenciaInicio,
             LocalDate competenciaFim,
             boolean decimoTerceiro,
             ProcessamentoOpcoes opcoes) {
+        ProcessamentoOpcoes opcoesEfetivas = opcoes != null ? opcoes : new ProcessamentoOpcoes(false);
+        ProcessamentoResultadoDTO resultado = switch (opcoesEfetivas.modo()) {
+            case INCREMENTAL -> processarIncremental(
+                competenciaInicio, competenciaFim, decimoTerceiro, opcoesEfetivas);
+            case PARALELO_LOTES -> folhaProcessamentoParaleloService.processar(
+                competenciaInicio, competenciaFim, decimoTerceiro, opcoesEfetivas.recalcularFerias());
+            case TRANSACAO_UNICA -> processarTransacaoUnica(
+                competenciaInicio, competenciaFim, decimoTerceiro, opcoesEfetivas);
+        };
+        if (opcoesEfetivas.modo() != ModoProcessamento.INCREMENTAL) {
+            folhaPendenciaService.limpar(competenciaInicio, competenciaFim, decimoTerceiro);
+        }
+        folhaAgregadoService.atualizar(competenciaInicio, competenciaFim, decimoTerceiro);
+        return resultado;
+    }
+
+    private ProcessamentoResultadoDTO processarTransacaoUnica(
+            LocalDate competenciaInicio,
+            LocalDate competenciaFim,
+            boolean decimoTerceiro,
+            ProcessamentoOpcoes opcoes) {
         fichaMensalRepository.deleteByCompetencia(competenciaInicio, competenciaFim, decimoTerceiro);
 
         List<FolhaPagamento> linhasAdp = folhaPagamentoRepository
             .findByCompetenciaAndDecimoTerceiroAndAtivoTrue(competenciaInicio, competenciaFim, decimoTerceiro);
 
+        return montarEGravar(linhasAdp, competenciaInicio, competenciaFim, decimoTerceiro, opcoes);
+    }
+
+    private ProcessamentoResultadoDTO processarIncremental(
+            LocalDate competenciaInicio,
+            LocalDate competenciaFim,
+            boolean decimoTerceiro,
+            ProcessamentoOpcoes opcoes) {
+        List<Long> pendentes = folhaPendenciaService.funcionariosPendentes(
+            competenciaInicio, competenciaFim, decimoTerceiro);
+        if (pendentes.isEmpty()) {
+            return new ProcessamentoResultadoDTO(0, 0, 0);
+        }
+
+        fichaMensalRepository.deleteByCompetenciaAndFuncionarioIds(
+            competenciaInicio, competenciaFim, decimoTerceiro, pendentes);
+
+        List<FolhaPagamento> linhasAdp = folhaPagamentoRepository
+            .findByCompetenciaAndDecimoTerceiroAndFuncionarioIdsAndAtivoTrue(
+                competenciaInicio, competenciaFim, decimoTerceiro, pendentes);
+
+        ProcessamentoResultadoDTO resultado = montarEGravar(
+            linhasAdp, competenciaInicio, competenciaFim, decimoTerceiro, opcoes);
+        folhaPendenciaService.limpar(competenciaInicio, competenciaFim, decimoTerceiro, pendentes);
+        return resultado;
+    }
+
+    private ProcessamentoResultadoDTO montarEGravar(
+            List<FolhaPagamento> linhasAdp,
+            LocalDate competenciaInicio,
+            LocalDate competenciaFim,
+            boolean decimoTerceiro,
+            ProcessamentoOpcoes opcoes) {
         Map<Long, List<FolhaPagamento>> porFuncionario = linhasAdp.stream()
             .collect(Collectors.groupingBy(l -> l.getFuncionario().getId()));
 
@@ -74,185 +123,44 @@ public class FolhaProcessamentoService {
             .filter(f -> f.getFuncionario() != null)
             .collect(Collectors.groupingBy(f -> f.getFuncionario().getId()));
 
+        Rubrica rubricaFerias = opcoes.recalcularFerias() && !porFuncionario.isEmpty()
+            ? cadastrosLookupPort.findRubricaAtivaByCodigo(FolhaFichaMontagem.CODIGO_RUBRICA_FERIAS).orElse(null)
+            : null;
+
         int totalLinhas = 0;
-        List<FichaMensal> fichas = new ArrayList<>();
-        ProcessamentoOpcoes opcoesEfetivas = opcoes != null ? opcoes : new ProcessamentoOpcoes(false);
+        int totalFichas = 0;
 
         for (List<FolhaPagamento> grupo : porFuncionario.values()) {
             Funcionario funcionario = grupo.get(0).getFuncionario();
-            if (!isFuncionarioClt(funcionario)) {
+            if (!FolhaFichaMontagem.isFuncionarioClt(funcionario)) {
                 continue;
             }
 
-            FichaMensal ficha = montarFicha(grupo, competenciaInicio, competenciaFim, decimoTerceiro);
-            ficha = fichaMensalRepository.save(ficha);
+            FichaMensal ficha = fichaMensalRepository.save(
+                FolhaFichaMontagem.montarFicha(grupo, competenciaInicio, competenciaFim, decimoTerceiro));
 
-            List<FolhaMotorCalculo.LinhaCalculoInput> inputsMotor = new ArrayList<>();
-            Set<Long> rubricasAdp = new HashSet<>();
-
-            for (FolhaPagamento linhaAdp : grupo) {
-                FichaLinha fichaLinha = montarLinhaAdp(ficha, linhaAdp);
-                fichaLinhaRepository.save(fichaLinha);
-                totalLinhas++;
-                rubricasAdp.add(linhaAdp.getRubrica().getId());
-                inputsMotor.add(toInput(fichaLinha));
+            List<FichaLinha> linhas = FolhaFichaMontagem.montarLinhas(
+                ficha, grupo, individuaisPorFuncionario.getOrDefault(funcionario.getId(), List.of()), globais);
+            List<FolhaMotorCalculo.LinhaCalculoInput> inputsMotor = new ArrayList<>(linhas.size() + 1);
+            for (FichaLinha linha : linhas) {
+                fichaLinhaRepository.save(linha);
+                inputsMotor.add(FolhaFichaMontagem.toInput(linha));
             }
+            totalLinhas += linhas.size();
 
-            List<FuncionarioRubricaFixa> fixosIndividuais =
-                individuaisPorFuncionario.getOrDefault(funcionario.getId(), List.of());
-            Set<Long> rubricasFixasIndividuais = new HashSet<>();
-            for (FuncionarioRubricaFixa fixo : fixosIndividuais) {
-                if (rubricasAdp.contains(fixo.getRubrica().getId())) {
-                    logger.warn("{}Rubrica fixa ignorada (duplicata ADP): funcionario={}, rubrica={}",
-                        DOMAIN_PREFIX, funcionario.getId(), fixo.getRubrica().getCodigo());
-                    continue;
-                }
-                FichaLinha linhaFixa = montarLinhaCustoFixo(ficha, fixo);
-                fichaLinhaRepository.save(linhaFixa);
+            if (rubricaFerias != null) {
+                FichaLinha linhaFerias = FolhaFichaMontagem.montarLinhaFeriasCalculada(
+                    folhaCalculoKernel, ficha, rubricaFerias, inputsMotor);
+                fichaLinhaRepository.save(linhaFerias);
                 totalLinhas++;
-                inputsMotor.add(toInput(linhaFixa));
-                rubricasFixasIndividuais.add(fixo.getRubrica().getId());
-            }
-
-            for (FuncionarioRubricaFixa global : globais) {
-                Long rubricaId = global.getRubrica().getId();
-                if (rubricasAdp.contains(rubricaId)) {
-                    logger.warn("{}Rubrica fixa global ignorada (duplicata ADP): funcionario={}, rubrica={}",
-                        DOMAIN_PREFIX, funcionario.getId(), global.getRubrica().getCodigo());
-                } else if (!rubricasFixasIndividuais.contains(rubricaId)) {
-                    FichaLinha linhaFixa = montarLinhaCustoFixo(ficha, global);
-                    fichaLinhaRepository.save(linhaFixa);
-                    totalLinhas++;
-                    inputsMotor.add(toInput(linhaFixa));
-                }
+                inputsMotor.add(FolhaFichaMontagem.toInput(linhaFerias));
             }
 
-            if (opcoesEfetivas.recalcularFerias()) {
-                FichaLinha linhaFerias = montarLinhaFeriasCalculada(ficha, inputsMotor);
-                if (linhaFerias != null) {
-                    fichaLinhaRepository.save(linhaFerias);
-                    totalLinhas++;
-                    inputsMotor.add(toInput(linhaFerias));
-                }
-            }
-
-            FolhaMotorCalculo.TotaisFuncionario totais = FolhaMotorCalculo.calcularPorLinhas(inputsMotor);
-            ficha.setBruto(totais.bruto());
-            ficha.setLiquido(totais.liquido());
-            ficha.setCustoFolha(totais.custoFolha());
+            FolhaFichaMontagem.aplicarTotais(ficha, folhaCalculoKernel.calcularPorLinhas(inputsMotor));
             fichaMensalRepository.save(ficha);
-            fichas.add(ficha);
-        }
-
-        return new ProcessamentoResultadoDTO(fichas.size(), totalLinhas, porFuncionario.size());
-    }
-
-    private boolean isFuncionarioClt(Funcionario funcionario) {
-        if (funcionario.getRegimeTrabalho() == null) {
-            return true;
-        }
-        return "CLT".equals(funcionario.getRegimeTrabalho().getCodigo())
-            && Boolean.TRUE.equals(funcionario.getRegimeTrabalho().getAtivo());
-    }
-
-    private FichaMensal montarFicha(
-            List<FolhaPagamento> grupo,
-            LocalDate competenciaInicio,
-            LocalDate competenciaFim,
-            boolean decimoTerceiro) {
-        Funcionario funcionario = grupo.get(0).getFuncionario();
-        FichaMensal ficha = new FichaMensal();
-        ficha.setFuncionario(funcionario);
-        ficha.setCompetenciaInicio(competenciaInicio);
-        ficha.setCompetenciaFim(competenciaFim);
-        ficha.setDecimoTerceiro(decimoTerceiro);
-        ficha.setAtivo(true);
-        ficha.setCentroCusto(centroCustoEfetivoDoGrupo(grupo));
-        return ficha;
-    }
-
-    private CentroCusto centroCustoEfetivoDoGrupo(List<FolhaPagamento> grupo) {
-        FolhaPagamento primeiraLinha = grupo.get(0);
-        Funcionario funcionario = primeiraLinha.getFuncionario();
-        Long linhaCcId = primeiraLinha.getCentroCusto() != null ? primeiraLinha.getCentroCusto().getId() : null;
-        Long funcCcId = funcionario != null && funcionario.getCentroCusto() != null
-            ? funcionario.getCentroCusto().getId() : null;
-        Long effectiveId = CentroCustoEfetivo.idOf(linhaCcId, funcCcId);
-        if (effectiveId == null) {
-            return null;
-        }
-        if (primeiraLinha.getCentroCusto() != null
-                && effectiveId.equals(primeiraLinha.getCentroCusto().getId())) {
-            return primeiraLinha.getCentroCusto();
+            totalFichas++;
         }
-        return funcionario != null ? funcionario.getCentroCusto() : null;
-    }
-
-    private FichaLinha montarLinhaAdp(FichaMensal ficha, FolhaPagamento linhaAdp) {
-        Rubrica rubrica = linhaAdp.getRubrica();
-        FichaLinha linha = new FichaLinha();
-        linha.setFichaMensal(ficha);
-        linha.setRubrica(rubrica);
-        linha.setValor(linhaAdp.getValor());
-        linha.setOrigemLinha(OrigemLinha.FOLHA_ADP);
-        linha.setOperadorBruto(rubrica.getOperadorBruto());
-        linha.setOperadorLiquido(rubrica.getOperadorLiquido());
-        linha.setOperadorCusto(rubrica.getOperadorCusto());
-        linha.setPorcentagem(snapshotPorcentagem(rubrica.getPorcentagem()));
-        linha.setAtivo(true);
-        return linha;
-    }
-
-    private FichaLinha montarLinhaCustoFixo(FichaMensal ficha, FuncionarioRubricaFixa fixo) {
-        Rubrica rubrica = fixo.getRubrica();
-        FichaLinha linha = new FichaLinha();
-        linha.setFichaMensal(ficha);
-        linha.setRubrica(rubrica);
-        linha.setValor(fixo.getValor());
-        linha.setOrigemLinha(OrigemLinha.CUSTO_FIXO);
-        linha.setOperadorBruto(rubrica.getOperadorBruto());
-        linha.setOperadorLiquido(rubrica.getOperadorLiquido());
-        linha.setOperadorCusto(rubrica.getOperadorCusto());
-        linha.setPorcentagem(snapshotPorcentagem(rubrica.getPorcentagem()));
-        linha.setAtivo(true);
-        return linha;
-    }
-
-    private FichaLinha montarLinhaFeriasCalculada(
-            FichaMensal ficha, List<FolhaMotorCalculo.LinhaCalculoInput> inputsAtuais) {
-        return cadastrosLookupPort.findRubricaAtivaByCodigo(CODIGO_RUBRICA_FERIAS)
-            .map(rubrica -> {
-                FolhaMotorCalculo.TotaisFuncionario parcial = FolhaMotorCalculo.calcularPorLinhas(inputsAtuais);
-                BigDecimal valorFerias = parcial.bruto()
-                    .multiply(FATOR_FERIAS)
-                    .divide(MESES_ANO, 2, RoundingMode.HALF_UP);
-
-                FichaLinha linha = new FichaLinha();
-                linha.setFichaMensal(ficha);
-                linha.setRubrica(rubrica);
-                linha.setValor(valorFerias);
-                linha.setOrigemLinha(OrigemLinha.CALCULADO);
-                linha.setOperadorBruto(rubrica.getOperadorBruto());
-                linha.setOperadorLiquido(rubrica.getOperadorLiquido());
-                linha.setOperadorCusto(rubrica.getOperadorCusto());
-                linha.setPorcentagem(snapshotPorcentagem(rubrica.getPorcentagem()));
-                linha.setAtivo(true);
-                return linha;
-            })
-            .orElse(null);
-    }
-
-    private FolhaMotorCalculo.LinhaCalculoInput toInput(FichaLinha linha) {
-        return new FolhaMotorCalculo.LinhaCalculoInput(
-            linha.getValor(),
-            linha.getOperadorBruto(),
-            linha.getOperadorLiquido(),
-            linha.getOperadorCusto(),
-            linha.getPorcentagem()
-        );
-    }
 
-    private BigDecimal snapshotPorcentagem(Double porcentagem) {
-        return porcentagem != null ? BigDecimal.valueOf(porcentagem) : null;
+        return new ProcessamentoResultadoDTO(totalFichas, totalLinhas, porFuncionario.size());
     }
 }
@@ -1,5 +1,6 @@
 package br.com.techne.sistemafolha.folha.application;
 
+import br.com.techne.sistemafolha.folha.port.FolhaAgregadoSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaTotalizacaoPort;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
@@ -25,4 +26,14 @@ public class FolhaTotalizacaoAdapter implements FolhaTotalizacaoPort {
         return folhaTotalizacaoService.calcularTotalCustoEmpresa(
             linhas, competenciaInicio, competenciaFim, contexto);
     }
+
+    @Override
+    public BigDecimal calcularTotalCustoEmpresaAgregado(
+            List<FolhaAgregadoSnapshot> agregados,
+            LocalDate competenciaInicio,
+            LocalDate competenciaFim,
+            boolean decimoTerceiro) {
+        return folhaTotalizacaoService.calcularTotalCustoEmpresaAgregado(
+            agregados, competenciaInicio, competenciaFim, decimoTerceiro);
+    }
 }
@@ -1,7 +1,11 @@
 package br.com.techne.sistemafolha.folha.application;
 
 import br.com.techne.sistemafolha.beneficios.port.BeneficioConsultaPort;
+import br.com.techne.sistemafolha.beneficios.port.BeneficioFuncionarioTotaisSnapshot;
 import br.com.techne.sistemafolha.folha.api.FolhaTotaisFuncionarioDTO;
+import br.com.techne.sistemafolha.folha.domain.DimensaoAgregado;
+import br.com.techne.sistemafolha.folha.infrastructure.FichaMensalRepository;
+import br.com.techne.sistemafolha.folha.port.FolhaAgregadoSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,6 +26,8 @@ import java.util.stream.Collectors;
 public class FolhaTotalizacaoService {
 
     private final BeneficioConsultaPort beneficioConsultaPort;
+    private final FolhaCalculoKernel folhaCalculoKernel;
+    private final FichaMensalRepository fichaMensalRepository;
 
     @Transactional(readOnly = true)
     public List<FolhaTotaisFuncionarioDTO> calcularTotaisPorFuncionario(
@@ -47,6 +54,47 @@ public class FolhaTotalizacaoService {
             .reduce(BigDecimal.ZERO, BigDecimal::add));
     }
 
+    /**
+     * Custo folha vem das linhas {@link DimensaoAgregado#CENTRO_CUSTO}; os benefícios mudam fora do processamento
+     * e são somados na hora para os funcionários com ficha nos centros presentes. O bucket sem centro só aparece
+     * quando não há recorte, e então vale a competência inteira.
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal calcularTotalCustoEmpresaAgregado(
+            List<FolhaAgregadoSnapshot> agregados,
+            LocalDate competenciaInicio,
+            LocalDate competenciaFim,
+            boolean decimoTerceiro) {
+        BigDecimal custoFolha = BigDecimal.ZERO;
+        Set<Long> centros = new HashSet<>();
+        boolean semCentro = false;
+        for (FolhaAgregadoSnapshot agregado : agregados) {
+            if (agregado.dimensao() != DimensaoAgregado.CENTRO_CUSTO) {
+                continue;
+            }
+            custoFolha = custoFolha.add(agregado.custoFolha());
+            if (agregado.centroCustoId() == null) {
+                semCentro = true;
+            } else {
+                centros.add(agregado.centroCustoId());
+            }
+        }
+        if (!semCentro && centros.isEmpty()) {
+            return FolhaMotorCalculo.arredondar(BigDecimal.ZERO);
+        }
+
+        List<Long> funcionarioIds = semCentro
+            ? fichaMensalRepository.findFuncionarioIdsByCompetencia(competenciaInicio, competenciaFim, decimoTerceiro)
+            : fichaMensalRepository.findFuncionarioIdsByCompetenciaAndCentrosCustoIds(
+                competenciaInicio, competenciaFim, decimoTerceiro, centros);
+        BigDecimal beneficios = funcionarioIds.isEmpty()
+            ? BigDecimal.ZERO
+            : beneficioConsultaPort.somarValorPorFuncionariosECompetencia(
+                    new HashSet<>(funcionarioIds), competenciaInicio, competenciaFim).values().stream()
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return FolhaCustoEmpresaComposer.compor(custoFolha, BigDecimal.ZERO, beneficios);
+    }
+
     private List<FolhaTotaisFuncionarioDTO> calcularTotaisPorFuncionarioInterno(
             List<FolhaLinhaSnapshot> linhas,
             LocalDate competenciaInicio,
@@ -59,9 +107,8 @@ public class FolhaTotalizacaoService {
             .filter(l -> l.funcionarioId() != null)
             .collect(Collectors.groupingBy(FolhaLinhaSnapshot::funcionarioId));
 
-        Set<Long> funcionarioIds = porFuncionario.keySet();
-        Map<Long, BigDecimal> beneficiosPorFuncionario = beneficioConsultaPort
-            .somarValorPorFuncionariosECompetencia(funcionarioIds, competenciaInicio, competenciaFim);
+        Map<Long, BeneficioFuncionarioTotaisSnapshot> beneficiosPorFuncionario = beneficioConsultaPort
+            .totaisPorFuncionariosECompetencia(porFuncionario.keySet(), competenciaInicio, competenciaFim);
 
         List<FolhaTotaisFuncionarioDTO> resultado = new ArrayList<>();
 
@@ -73,12 +120,12 @@ public class FolhaTotalizacaoService {
             List<FolhaMotorCalculo.LinhaCalculoInput> inputs = grupo.stream()
                 .map(this::toInput)
                 .toList();
-            FolhaMotorCalculo.TotaisFuncionario totais = FolhaMotorCalculo.calcularPorLinhas(inputs);
+            FolhaMotorCalculo.TotaisFuncionario totais = folhaCalculoKernel.calcularPorLinhas(inputs);
 
-            int totalBeneficios = beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-                funcionarioId, competenciaInicio, competenciaFim);
+            BeneficioFuncionarioTotaisSnapshot beneficios = beneficiosPorFuncionario.get(funcionarioId);
+            int totalBeneficios = beneficios != null ? Math.toIntExact(beneficios.qtdLancamentos()) : 0;
             BigDecimal custoBeneficios = FolhaMotorCalculo.arredondar(
-                beneficiosPorFuncionario.getOrDefault(funcionarioId, BigDecimal.ZERO));
+                beneficios != null ? beneficios.total() : BigDecimal.ZERO);
             BigDecimal encargosRateados = BigDecimal.ZERO.setScale(2);
             BigDecimal custoEmpresa = FolhaCustoEmpresaComposer.compor(
                 totais.custoFolha(), encargosRateados, custoBeneficios);
@@ -8,6 +8,7 @@ import br.com.techne.sistemafolha.folha.domain.ResumoFolhaPagamento;
 import br.com.techne.sistemafolha.folha.infrastructure.ResumoFolhaPagamentoRepository;
 import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
 import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
+import br.com.techne.sistemafolha.folha.port.FolhaTotaisCompetenciaSnapshot;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
 import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,8 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -34,7 +37,7 @@ public class ResumoFolhaPagamentoService {
     private final OrganogramaAcessoPort organogramaAcessoPort;
     private final UsuarioLookupPort usuarioLookupPort;
     private final BeneficioConsultaPort beneficioConsultaPort;
-    private final FolhaLinhaAgregacao folhaLinhaAgregacao = new FolhaLinhaAgregacao();
+    private final FolhaCalculoKernel folhaCalculoKernel;
 
     public List<ResumoFolhaPagamentoDTO> listarTodos(String login, Integer ano, Integer mes) {
         PeriodoCompetencia periodo = periodoDe(ano, mes);
@@ -65,11 +68,9 @@ public class ResumoFolhaPagamentoService {
         if (acessoNegado(contexto)) {
             return Collections.emptyList();
         }
-        return resumoFolhaPagamentoRepository
-            .findByCompetenciaInicioBetweenAndAtivoTrue(dataInicio, dataFim)
-            .stream()
-            .map(resumo -> mapear(resumo, contexto))
-            .collect(Collectors.toList());
+        return mapearTodos(
+            resumoFolhaPagamentoRepository.findByCompetenciaInicioBetweenAndAtivoTrue(dataInicio, dataFim),
+            contexto);
     }
 
     public Optional<ResumoFolhaPagamentoDTO> consultarPorCompetencia(
@@ -80,7 +81,7 @@ public class ResumoFolhaPagamentoService {
         }
         return resumoFolhaPagamentoRepository
             .findByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(competenciaInicio, competenciaFim)
-            .map(resumo -> mapear(resumo, contexto));
+            .map(resumo -> mapearTodos(List.of(resumo), contexto).get(0));
     }
 
     public List<ResumoFolhaPagamentoDTO> listarMaisRecentes(String login) {
@@ -88,24 +89,96 @@ public class ResumoFolhaPagamentoService {
         if (acessoNegado(contexto)) {
             return Collections.emptyList();
         }
-        return resumoFolhaPagamentoRepository.findLatestResumos()
-            .stream()
-            .map(resumo -> mapear(resumo, contexto))
+        return mapearTodos(resumoFolhaPagamentoRepository.findLatestResumos(), contexto);
+    }
+
+    /**
+     * Os totais de ficha de todos os resumos vêm de uma única consulta agregada no período que eles cobrem; só
+     * competências sem ficha (folha ADP) ainda carregam as linhas, uma a uma.
+     */
+    private List<ResumoFolhaPagamentoDTO> mapearTodos(List<ResumoFolhaPagamento> resumos, AccessContextDTO contexto) {
+        if (resumos.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<CompetenciaResumo, FolhaTotaisCompetenciaSnapshot> totaisFicha = totaisFicha(resumos, contexto);
+        return resumos.stream()
+            .map(resumo -> mapear(resumo, contexto, totaisFicha.get(chave(resumo))))
             .collect(Collectors.toList());
     }
 
-    private ResumoFolhaPagamentoDTO mapear(ResumoFolhaPagamento resumo, AccessContextDTO contexto) {
+    private Map<CompetenciaResumo, FolhaTotaisCompetenciaSnapshot> totaisFicha(
+            List<ResumoFolhaPagamento> resumos, AccessContextDTO contexto) {
+        LocalDate inicio = resumos.stream()
+            .map(ResumoFolhaPagamento::getCompetenciaInicio)
+            .min(Comparator.naturalOrder())
+            .orElseThrow();
+        LocalDate fim = resumos.stream()
+            .map(ResumoFolhaPagamento::getCompetenciaInicio)
+            .max(Comparator.naturalOrder())
+            .orElseThrow();
+        Set<Long> centros = contexto.acessoTotal() ? null : contexto.centrosCustoIds();
+        Map<CompetenciaResumo, FolhaTotaisCompetenciaSnapshot> porCompetencia = new HashMap<>();
+        for (FolhaTotaisCompetenciaSnapshot totais : folhaConsultaPort.somarTotaisFichaPorCompetencia(inicio, fim, centros)) {
+            porCompetencia.put(
+                new CompetenciaResumo(totais.competenciaInicio(), totais.competenciaFim(), totais.decimoTerceiro()),
+                totais);
+        }
+        return porCompetencia;
+    }
+
+    private static CompetenciaResumo chave(ResumoFolhaPagamento resumo) {
+        return new CompetenciaResumo(
+            resumo.getCompetenciaInicio(), resumo.getCompetenciaFim(), Boolean.TRUE.equals(resumo.getDecimoTerceiro()));
+    }
+
+    private record CompetenciaResumo(LocalDate inicio, LocalDate fim, boolean decimoTerceiro) {}
+
+    private ResumoFolhaPagamentoDTO mapear(
+            ResumoFolhaPagamento resumo, AccessContextDTO contexto, FolhaTotaisCompetenciaSnapshot totaisFicha) {
+        BigDecimal encargosInformativos = contexto.acessoTotal() ? resumo.getTotalEncargos() : BigDecimal.ZERO;
+        if (totaisFicha != null && !totaisFicha.funcionarioIds().isEmpty()) {
+            return toDtoFromTotais(resumo, totaisFicha, encargosInformativos);
+        }
+        if (totaisFicha != null && !contexto.acessoTotal()) {
+            return toDtoFromLinhas(resumo, List.of(), encargosInformativos);
+        }
         if (contexto.acessoTotal()) {
-            return toDtoGlobal(resumo);
+            return toDtoGlobal(resumo, totaisFicha != null);
         }
         return toDtoScoped(resumo, contexto.centrosCustoIds());
     }
 
-    private ResumoFolhaPagamentoDTO toDtoGlobal(ResumoFolhaPagamento resumo) {
+    /** Mesmos totais de {@link #toDtoFromLinhas}, a partir das somas por funcionário feitas no banco. */
+    private ResumoFolhaPagamentoDTO toDtoFromTotais(
+            ResumoFolhaPagamento resumo,
+            FolhaTotaisCompetenciaSnapshot totais,
+            BigDecimal totalEncargosInformativo) {
+        Map<Long, BigDecimal> beneficios = beneficioConsultaPort.somarValorPorFuncionariosECompetencia(
+            totais.funcionarioIds(), resumo.getCompetenciaInicio(), resumo.getCompetenciaFim());
+        BigDecimal custoBeneficios = BigDecimal.ZERO;
+        for (Long funcionarioId : totais.funcionarioIds()) {
+            custoBeneficios = custoBeneficios.add(
+                folhaCalculoKernel.arredondar(beneficios.getOrDefault(funcionarioId, BigDecimal.ZERO)));
+        }
+
+        return montarDto(
+            resumo,
+            totais.funcionarioIds().size(),
+            totalEncargosInformativo,
+            totais.totalPagamentos(),
+            totais.totalDescontos(),
+            totais.totalLiquido(),
+            totais.totalBruto(),
+            FolhaCustoEmpresaComposer.compor(totais.totalCustoFolha(), BigDecimal.ZERO, custoBeneficios));
+    }
+
+    private ResumoFolhaPagamentoDTO toDtoGlobal(ResumoFolhaPagamento resumo, boolean semLinhasDeFicha) {
         boolean decimoTerceiro = Boolean.TRUE.equals(resumo.getDecimoTerceiro());
 
-        List<FolhaLinhaSnapshot> linhas = folhaConsultaPort.findLinhasAtivasPorCompetencia(
-            resumo.getCompetenciaInicio(), resumo.getCompetenciaFim(), decimoTerceiro, null);
+        List<FolhaLinhaSnapshot> linhas = semLinhasDeFicha
+            ? List.of()
+            : folhaConsultaPort.findLinhasAtivasPorCompetencia(
+                resumo.getCompetenciaInicio(), resumo.getCompetenciaFim(), decimoTerceiro, null);
         if (!linhas.isEmpty()) {
             return toDtoFromLinhas(resumo, linhas, resumo.getTotalEncargos());
         }
@@ -142,7 +215,7 @@ public class ResumoFolhaPagamentoService {
         Map<Long, BigDecimal> beneficios = beneficioConsultaPort.somarValorPorFuncionariosECompetencia(
             funcionarioIds, resumo.getCompetenciaInicio(), resumo.getCompetenciaFim());
 
-        FolhaLinhaAgregacao.TotaisResumo totais = folhaLinhaAgregacao.agregar(
+        FolhaLinhaAgregacao.TotaisResumo totais = new FolhaLinhaAgregacao(folhaCalculoKernel).agregar(
             linhas, beneficios, Map.of());
 
         BigDecimal pagamentos = calcularPagamentosLegacy(linhas);
@@ -0,0 +1,8 @@
+package br.com.techne.sistemafolha.folha.domain;
+
+public enum DimensaoAgregado {
+    CENTRO_CUSTO,
+    CARGO,
+    PROVENTO,
+    DESCONTO
+}
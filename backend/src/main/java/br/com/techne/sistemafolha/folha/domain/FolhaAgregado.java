@@ -0,0 +1,72 @@
+package br.com.techne.sistemafolha.folha.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Total materializado das fichas de uma competência para um centro de custo e uma dimensão. A linha
+ * {@link DimensaoAgregado#CENTRO_CUSTO} traz funcionários, lançamentos, valor e custo folha do centro; as
+ * demais detalham o mesmo centro por cargo ou rubrica. Como cada funcionário tem uma única ficha (e portanto
+ * um único centro) por competência, contagens de funcionários podem ser somadas entre centros.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "folha_agregado")
+public class FolhaAgregado {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "competencia_inicio", nullable = false)
+    private LocalDate competenciaInicio;
+
+    @Column(name = "competencia_fim", nullable = false)
+    private LocalDate competenciaFim;
+
+    @Column(name = "decimo_terceiro", nullable = false)
+    private Boolean decimoTerceiro = false;
+
+    @Column(name = "centro_custo_id")
+    private Long centroCustoId;
+
+    @Column(name = "linha_negocio_id")
+    private Long linhaNegocioId;
+
+    @Column(name = "linha_negocio_descricao")
+    private String linhaNegocioDescricao;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DimensaoAgregado dimensao;
+
+    @Column(name = "chave_id")
+    private Long chaveId;
+
+    @Column(name = "chave_codigo", length = 50)
+    private String chaveCodigo;
+
+    @Column(name = "chave_descricao")
+    private String chaveDescricao;
+
+    @Column(name = "quantidade_funcionarios", nullable = false)
+    private Long quantidadeFuncionarios = 0L;
+
+    @Column(name = "quantidade_lancamentos", nullable = false)
+    private Long quantidadeLancamentos = 0L;
+
+    @Column(name = "valor_total", nullable = false, precision = 15, scale = 2)
+    private BigDecimal valorTotal = BigDecimal.ZERO;
+
+    @Column(name = "custo_folha", nullable = false, precision = 15, scale = 2)
+    private BigDecimal custoFolha = BigDecimal.ZERO;
+
+    @Column(name = "data_atualizacao", nullable = false)
+    private LocalDateTime dataAtualizacao;
+}
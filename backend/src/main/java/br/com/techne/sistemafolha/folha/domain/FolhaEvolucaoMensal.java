@@ -0,0 +1,55 @@
+package br.com.techne.sistemafolha.folha.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Totais mensais das fichas de uma competência em um centro de custo, base dos gráficos de evolução. Encargos
+ * são o custo das rubricas que só entram no custo (sem efeito em bruto ou líquido). Benefícios mudam fora do
+ * processamento e não são gravados aqui: a leitura os soma na hora sobre o custo folha. Como em {@link FolhaAgregado}, funcionários podem ser somados entre centros.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "folha_evolucao_mensal")
+public class FolhaEvolucaoMensal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "competencia_inicio", nullable = false)
+    private LocalDate competenciaInicio;
+
+    @Column(name = "competencia_fim", nullable = false)
+    private LocalDate competenciaFim;
+
+    @Column(name = "decimo_terceiro", nullable = false)
+    private Boolean decimoTerceiro = false;
+
+    @Column(name = "centro_custo_id")
+    private Long centroCustoId;
+
+    @Column(name = "total_bruto", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalBruto = BigDecimal.ZERO;
+
+    @Column(name = "total_liquido", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalLiquido = BigDecimal.ZERO;
+
+    @Column(name = "custo_folha", nullable = false, precision = 15, scale = 2)
+    private BigDecimal custoFolha = BigDecimal.ZERO;
+
+    @Column(name = "total_encargos", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalEncargos = BigDecimal.ZERO;
+
+    @Column(name = "quantidade_funcionarios", nullable = false)
+    private Long quantidadeFuncionarios = 0L;
+
+    @Column(name = "data_atualizacao", nullable = false)
+    private LocalDateTime dataAtualizacao;
+}
@@ -0,0 +1,44 @@
+package br.com.techne.sistemafolha.folha.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Marca a ficha de um funcionário em uma competência como desatualizada. Gravada pelos fluxos que alteram
+ * a entrada do processamento e consumida pelo modo {@code INCREMENTAL}.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "folha_funcionario_pendente")
+public class FolhaFuncionarioPendente {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "funcionario_id", nullable = false)
+    private Long funcionarioId;
+
+    @Column(name = "competencia_inicio", nullable = false)
+    private LocalDate competenciaInicio;
+
+    @Column(name = "competencia_fim", nullable = false)
+    private LocalDate competenciaFim;
+
+    @Column(name = "decimo_terceiro", nullable = false)
+    private Boolean decimoTerceiro = false;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OrigemPendencia origem;
+
+    @Column(name = "data_registro", nullable = false)
+    private LocalDateTime dataRegistro;
+}
@@ -0,0 +1,7 @@
+package br.com.techne.sistemafolha.folha.domain;
+
+public enum OrigemPendencia {
+    IMPORTACAO,
+    RUBRICA_FIXA,
+    EXCLUSAO_LINHA
+}
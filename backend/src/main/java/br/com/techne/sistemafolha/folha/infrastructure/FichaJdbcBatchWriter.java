@@ -0,0 +1,109 @@
+package br.com.techne.sistemafolha.folha.infrastructure;
+
+import br.com.techne.sistemafolha.folha.domain.FichaLinha;
+import br.com.techne.sistemafolha.folha.domain.FichaMensal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Gravação em lote de {@link FichaMensal}/{@link FichaLinha} com INSERT multi-linha, usada pelo
+ * processamento paralelo. Os ids de {@code ficha_mensal} são reservados da sequência antes do INSERT
+ * para que as linhas referenciem a ficha sem round-trip por registro. Deve ser chamado dentro de transação.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FichaJdbcBatchWriter {
+
+    static final int REGISTROS_POR_INSERT = 1000;
+
+    private static final String RESERVAR_IDS_FICHA =
+        "SELECT nextval('ficha_mensal_id_seq') FROM generate_series(1, ?)";
+
+    private static final String INSERT_FICHA = """
+        INSERT INTO ficha_mensal (id, funcionario_id, centro_custo_id, competencia_inicio, competencia_fim,
+            decimo_terceiro, bruto, liquido, custo_folha, ativo)
+        VALUES\s""";
+    private static final String VALORES_FICHA = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_LINHA = """
+        INSERT INTO ficha_linha (ficha_mensal_id, rubrica_id, valor, origem_linha, operador_bruto,
+            operador_liquido, operador_custo, porcentagem, ativo)
+        VALUES\s""";
+    private static final String VALORES_LINHA = "(?, ?, ?, CAST(? AS origem_linha), ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Insere as fichas e preenche {@link FichaMensal#getId()} com o id reservado. */
+    public void inserirFichas(List<FichaMensal> fichas) {
+        if (fichas.isEmpty()) {
+            return;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(RESERVAR_IDS_FICHA, Long.class, fichas.size());
+        Iterator<Long> idIterator = ids.iterator();
+        fichas.forEach(ficha -> ficha.setId(idIterator.next()));
+
+        for (List<FichaMensal> bloco : blocos(fichas)) {
+            List<Object> args = new ArrayList<>(bloco.size() * 10);
+            for (FichaMensal ficha : bloco) {
+                args.add(ficha.getId());
+                args.add(ficha.getFuncionario().getId());
+                args.add(new SqlParameterValue(Types.BIGINT,
+                    ficha.getCentroCusto() != null ? ficha.getCentroCusto().getId() : null));
+                args.add(ficha.getCompetenciaInicio());
+                args.add(ficha.getCompetenciaFim());
+                args.add(ficha.getDecimoTerceiro());
+                args.add(ficha.getBruto());
+                args.add(ficha.getLiquido());
+                args.add(ficha.getCustoFolha());
+                args.add(ficha.getAtivo());
+            }
+            jdbcTemplate.update(sqlMultiLinha(INSERT_FICHA, VALORES_FICHA, bloco.size()), args.toArray());
+        }
+    }
+
+    /** Insere as linhas; a ficha de cada linha já deve ter id (ver {@link #inserirFichas(List)}). */
+    public void inserirLinhas(List<FichaLinha> linhas) {
+        for (List<FichaLinha> bloco : blocos(linhas)) {
+            List<Object> args = new ArrayList<>(bloco.size() * 9);
+            for (FichaLinha linha : bloco) {
+                args.add(linha.getFichaMensal().getId());
+                args.add(linha.getRubrica().getId());
+                args.add(linha.getValor());
+                args.add(linha.getOrigemLinha().name());
+                args.add(linha.getOperadorBruto());
+                args.add(linha.getOperadorLiquido());
+                args.add(linha.getOperadorCusto());
+                args.add(new SqlParameterValue(Types.NUMERIC, linha.getPorcentagem()));
+                args.add(linha.getAtivo());
+            }
+            jdbcTemplate.update(sqlMultiLinha(INSERT_LINHA, VALORES_LINHA, bloco.size()), args.toArray());
+        }
+    }
+
+    private static String sqlMultiLinha(String insert, String valores, int registros) {
+        StringBuilder sql = new StringBuilder(insert.length() + registros * (valores.length() + 2));
+        sql.append(insert);
+        for (int i = 0; i < registros; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(valores);
+        }
+        return sql.toString();
+    }
+
+    private static <T> List<List<T>> blocos(List<T> registros) {
+        List<List<T>> blocos = new ArrayList<>();
+        for (int i = 0; i < registros.size(); i += REGISTROS_POR_INSERT) {
+            blocos.add(registros.subList(i, Math.min(i + REGISTROS_POR_INSERT, registros.size())));
+        }
+        return blocos;
+    }
+}
@@ -79,6 +79,58 @@ public interface FichaLinhaRepository extends JpaRepository<FichaLinha, Long> {
         @Param("competenciaFim") LocalDate competenciaFim,
         @Param("decimoTerceiro") boolean decimoTerceiro);
 
+    /**
+     * Totais por competência e funcionário das fichas iniciadas no período — o que o motor de cálculo somaria
+     * linha a linha, feito no banco. O custo de cada linha é arredondado como em {@code FolhaMotorCalculo}.
+     */
+    @Query("""
+        SELECT fm.competenciaInicio AS competenciaInicio,
+               fm.competenciaFim AS competenciaFim,
+               fm.decimoTerceiro AS decimoTerceiro,
+               fm.funcionario.id AS funcionarioId,
+               SUM(fl.valor * fl.operadorBruto) AS bruto,
+               SUM(fl.valor * fl.operadorLiquido) AS liquido,
+               SUM(ROUND(fl.valor * fl.operadorCusto * COALESCE(fl.porcentagem, 100) / 100, 6)) AS custoFolha,
+               SUM(CASE WHEN tr.descricao = 'PROVENTO' THEN fl.valor ELSE 0 END) AS pagamentos,
+               SUM(CASE WHEN tr.descricao = 'DESCONTO' THEN fl.valor ELSE 0 END) AS descontos
+        FROM FichaLinha fl
+        JOIN fl.fichaMensal fm
+        JOIN fl.rubrica r
+        LEFT JOIN r.tipoRubrica tr
+        WHERE fm.ativo = true
+        AND fl.ativo = true
+        AND fm.competenciaInicio BETWEEN :inicio AND :fim
+        GROUP BY fm.competenciaInicio, fm.competenciaFim, fm.decimoTerceiro, fm.funcionario.id
+        """)
+    List<FichaTotaisFuncionarioProjection> somarPorCompetenciaEFuncionario(
+        @Param("inicio") LocalDate inicio,
+        @Param("fim") LocalDate fim);
+
+    @Query("""
+        SELECT fm.competenciaInicio AS competenciaInicio,
+               fm.competenciaFim AS competenciaFim,
+               fm.decimoTerceiro AS decimoTerceiro,
+               fm.funcionario.id AS funcionarioId,
+               SUM(fl.valor * fl.operadorBruto) AS bruto,
+               SUM(fl.valor * fl.operadorLiquido) AS liquido,
+               SUM(ROUND(fl.valor * fl.operadorCusto * COALESCE(fl.porcentagem, 100) / 100, 6)) AS custoFolha,
+               SUM(CASE WHEN tr.descricao = 'PROVENTO' THEN fl.valor ELSE 0 END) AS pagamentos,
+               SUM(CASE WHEN tr.descricao = 'DESCONTO' THEN fl.valor ELSE 0 END) AS descontos
+        FROM FichaLinha fl
+        JOIN fl.fichaMensal fm
+        JOIN fl.rubrica r
+        LEFT JOIN r.tipoRubrica tr
+        WHERE fm.ativo = true
+        AND fl.ativo = true
+        AND fm.competenciaInicio BETWEEN :inicio AND :fim
+        AND COALESCE(fm.centroCusto.id, fm.funcionario.centroCusto.id) IN :centrosCustoIds
+        GROUP BY fm.competenciaInicio, fm.competenciaFim, fm.decimoTerceiro, fm.funcionario.id
+        """)
+    List<FichaTotaisFuncionarioProjection> somarPorCompetenciaEFuncionarioNosCentros(
+        @Param("inicio") LocalDate inicio,
+        @Param("fim") LocalDate fim,
+        @Param("centrosCustoIds") Collection<Long> centrosCustoIds);
+
     @EntityGraph(attributePaths = {"rubrica", "rubrica.tipoRubrica", "fichaMensal", "fichaMensal.funcionario", "fichaMensal.funcionario.centroCusto"})
     List<FichaLinha> findByFichaMensalIdAndAtivoTrue(Long fichaMensalId);
 
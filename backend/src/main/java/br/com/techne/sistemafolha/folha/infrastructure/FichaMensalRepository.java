@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,6 +53,62 @@ public interface FichaMensalRepository extends JpaRepository<FichaMensal, Long>
         @Param("competenciaFim") LocalDate competenciaFim,
         @Param("decimoTerceiro") boolean decimoTerceiro);
 
+    @Query("""
+        SELECT f.funcionario.id FROM FichaMensal f
+        WHERE f.ativo = true
+        AND f.competenciaInicio = :competenciaInicio
+        AND f.competenciaFim = :competenciaFim
+        AND f.decimoTerceiro = :decimoTerceiro
+        """)
+    List<Long> findFuncionarioIdsByCompetencia(
+        @Param("competenciaInicio") LocalDate competenciaInicio,
+        @Param("competenciaFim") LocalDate competenciaFim,
+        @Param("decimoTerceiro") boolean decimoTerceiro);
+
+    @Query("""
+        SELECT f.funcionario.id FROM FichaMensal f
+        WHERE f.ativo = true
+        AND f.competenciaInicio = :competenciaInicio
+        AND f.competenciaFim = :competenciaFim
+        AND f.decimoTerceiro = :decimoTerceiro
+        AND COALESCE(f.centroCusto.id, f.funcionario.centroCusto.id) IN :centrosCustoIds
+        """)
+    List<Long> findFuncionarioIdsByCompetenciaAndCentrosCustoIds(
+        @Param("competenciaInicio") LocalDate competenciaInicio,
+        @Param("competenciaFim") LocalDate competenciaFim,
+        @Param("decimoTerceiro") boolean decimoTerceiro,
+        @Param("centrosCustoIds") Collection<Long> centrosCustoIds);
+
+    /** Competência, 13º e funcionário de cada ficha ativa a partir de {@code dataInicio}. */
+    @Query("""
+        SELECT DISTINCT f.competenciaInicio, f.competenciaFim, f.decimoTerceiro, f.funcionario.id
+        FROM FichaMensal f
+        WHERE f.ativo = true
+        AND f.competenciaInicio >= :dataInicio
+        """)
+    List<Object[]> findFuncionariosPorCompetenciaDesde(@Param("dataInicio") LocalDate dataInicio);
+
+    @Query("""
+        SELECT DISTINCT f.competenciaInicio, f.competenciaFim, f.decimoTerceiro, f.funcionario.id
+        FROM FichaMensal f
+        WHERE f.ativo = true
+        AND f.competenciaInicio >= :dataInicio
+        AND COALESCE(f.centroCusto.id, f.funcionario.centroCusto.id) IN :centrosCustoIds
+        """)
+    List<Object[]> findFuncionariosPorCompetenciaDesdeNosCentros(
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("centrosCustoIds") Collection<Long> centrosCustoIds);
+
+    /** Competências (início, fim, 13º) com ficha ativa iniciadas no período. */
+    @Query("""
+        SELECT DISTINCT f.competenciaInicio, f.competenciaFim, f.decimoTerceiro FROM FichaMensal f
+        WHERE f.ativo = true
+        AND f.competenciaInicio BETWEEN :inicio AND :fim
+        """)
+    List<Object[]> findCompetenciasComFicha(
+        @Param("inicio") LocalDate inicio,
+        @Param("fim") LocalDate fim);
+
     @Query("""
         SELECT CASE WHEN COUNT(f) > 0 THEN true ELSE false END
         FROM FichaMensal f
@@ -76,4 +133,18 @@ public interface FichaMensalRepository extends JpaRepository<FichaMensal, Long>
         @Param("competenciaInicio") LocalDate competenciaInicio,
         @Param("competenciaFim") LocalDate competenciaFim,
         @Param("decimoTerceiro") boolean decimoTerceiro);
+
+    @Modifying
+    @Query("""
+        DELETE FROM FichaMensal f
+        WHERE f.competenciaInicio = :competenciaInicio
+        AND f.competenciaFim = :competenciaFim
+        AND f.decimoTerceiro = :decimoTerceiro
+        AND f.funcionario.id IN :funcionarioIds
+        """)
+    void deleteByCompetenciaAndFuncionarioIds(
+        @Param("competenciaInicio") LocalDate competenciaInicio,
+        @Param("competenciaFim") LocalDate competenciaFim,
+        @Param("decimoTerceiro") boolean decimoTerceiro,
+        @Param("funcionarioIds") Collection<Long> funcionarioIds);
 }
@@ -0,0 +1,26 @@
+package br.com.techne.sistemafolha.folha.infrastructure;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** Linhas ativas de uma ficha somadas por funcionário; custo já com a porcentagem da linha aplicada. */
+public interface FichaTotaisFuncionarioProjection {
+
+    LocalDate getCompetenciaInicio();
+
+    LocalDate getCompetenciaFim();
+
+    Boolean getDecimoTerceiro();
+
+    Long getFuncionarioId();
+
+    BigDecimal getBruto();
+
+    BigDecimal getLiquido();
+
+    BigDecimal getCustoFolha();
+
+    BigDecimal getPagamentos();
+
+    BigDecimal getDescontos();
+}
@@ -0,0 +1,38 @@
+package br.com.techne.sistemafolha.folha.infrastructure;
+
+import br.com.techne.sistemafolha.folha.domain.FolhaAgregado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface FolhaAgregadoRepository extends JpaRepository<FolhaAgregado, Long> {
+
+    @Query("""
+        SELECT a FROM FolhaAgregado a
+        WHERE a.competenciaInicio = :competenciaInicio
+        AND a.competenciaFim = :competenciaFim
+        AND a.decimoTerceiro = :decimoTerceiro
+        """)
+    List<FolhaAgregado> findByCompetencia(
+        @Param("competenciaInicio") LocalDate competenciaInicio,
+        @Param("competenciaFim") LocalDate competenciaFim,
+        @Param("decimoTerceiro") boolean decimoTerceiro);
+
+    @Modifying
+    @Query("""
+        DELETE FROM FolhaAgregado a
+        WHERE a.competenciaInicio = :competenciaInicio
+        AND a.competenciaFim = :competenciaFim
+        AND a.decimoTerceiro = :decimoTerceiro
+        """)
+    void deleteByCompetencia(
+        @Param("competenciaInicio") LocalDate competenciaInicio,
+        @Param("competenciaFim") LocalDate competenciaFim,
+        @Param("decimoTerceiro") boolean decimoTerceiro);
+}
@@ -0,0 +1,67 @@
+package br.com.techne.sistemafolha.folha.infrastructure;
+
+import br.com.techne.sistemafolha.folha.domain.FolhaEvolucaoMensal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FolhaEvolucaoMensalRepository extends JpaRepository<FolhaEvolucaoMensal, Long> {
+
+    /**
+     * Uma linha por competência materializada a partir de {@code dataInicio}, com os totais somados só nos centros
+     * informados. Competências sem nenhum desses centros voltam zeradas, o que as distingue das não materializadas.
+     */
+    @Query("""
+        SELECT e.competenciaInicio AS competenciaInicio,
+               e.competenciaFim AS competenciaFim,
+               e.decimoTerceiro AS decimoTerceiro,
+               SUM(CASE WHEN e.centroCustoId IN :centros THEN e.totalBruto ELSE 0 END) AS totalBruto,
+               SUM(CASE WHEN e.centroCustoId IN :centros THEN e.totalLiquido ELSE 0 END) AS totalLiquido,
+               SUM(CASE WHEN e.centroCustoId IN :centros THEN e.custoFolha ELSE 0 END) AS custoFolha,
+               SUM(CASE WHEN e.centroCustoId IN :centros THEN e.totalEncargos ELSE 0 END) AS totalEncargos,
+               SUM(CASE WHEN e.centroCustoId IN :centros THEN e.quantidadeFuncionarios ELSE 0 END)
+                   AS quantidadeFuncionarios
+        FROM FolhaEvolucaoMensal e
+        WHERE e.competenciaInicio >= :dataInicio
+        GROUP BY e.competenciaInicio, e.competenciaFim, e.decimoTerceiro
+        ORDER BY e.competenciaInicio
+        """)
+    List<FolhaEvolucaoMensalTotaisProjection> somarPorCompetenciaNosCentros(
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("centros") Collection<Long> centros);
+
+    @Query("""
+        SELECT e.competenciaInicio AS competenciaInicio,
+               e.competenciaFim AS competenciaFim,
+               e.decimoTerceiro AS decimoTerceiro,
+               SUM(e.totalBruto) AS totalBruto,
+               SUM(e.totalLiquido) AS totalLiquido,
+               SUM(e.custoFolha) AS custoFolha,
+               SUM(e.totalEncargos) AS totalEncargos,
+               SUM(e.quantidadeFuncionarios) AS quantidadeFuncionarios
+        FROM FolhaEvolucaoMensal e
+        WHERE e.competenciaInicio >= :dataInicio
+        GROUP BY e.competenciaInicio, e.competenciaFim, e.decimoTerceiro
+        ORDER BY e.competenciaInicio
+        """)
+    List<FolhaEvolucaoMensalTotaisProjection> somarPorCompetencia(@Param("dataInicio") LocalDate dataInicio);
+
+    @Modifying
+    @Query("""
+        DELETE FROM FolhaEvolucaoMensal e
+        WHERE e.competenciaInicio = :competenciaInicio
+        AND e.competenciaFim = :competenciaFim
+        AND e.decimoTerceiro = :decimoTerceiro
+        """)
+    void deleteByCompetencia(
+        @Param("competenciaInicio") LocalDate competenciaInicio,
+        @Param("competenciaFim") LocalDate competenciaFim,
+        @Param("decimoTerceiro") boolean decimoTerceiro);
+}
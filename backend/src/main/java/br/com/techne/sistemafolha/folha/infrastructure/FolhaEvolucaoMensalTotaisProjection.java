@@ -0,0 +1,24 @@
+package br.com.techne.sistemafolha.folha.infrastructure;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** Soma de {@code folha_evolucao_mensal} de uma competência sobre os centros pedidos. */
+public interface FolhaEvolucaoMensalTotaisProjection {
+
+    LocalDate getCompetenciaInicio();
+
+    LocalDate getCompetenciaFim();
+
+    Boolean getDecimoTerceiro();
+
+    BigDecimal getTotalBruto();
+
+    BigDecimal getTotalLiquido();
+
+    BigDecimal getCustoFolha();
+
+    BigDecimal getTotalEncargos();
+
+    Long getQuantidadeFuncionarios();
+}
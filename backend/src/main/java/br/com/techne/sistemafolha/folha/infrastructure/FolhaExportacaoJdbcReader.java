@@ -0,0 +1,130 @@
+package br.com.techne.sistemafolha.folha.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Leitura das linhas de uma competência para exportação, por cursor do servidor: o driver do PostgreSQL só busca
+ * em blocos de {@link #FETCH_SIZE} com autocommit desligado, por isso a leitura roda em transação somente leitura.
+ * A fonte segue {@code FolhaConsultaAdapter}: as fichas processadas quando existem, senão {@code folha_pagamento}.
+ * Não há ORDER BY, para que a primeira linha saia sem ordenar a competência inteira.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FolhaExportacaoJdbcReader {
+
+    static final int FETCH_SIZE = 1000;
+
+    private static final String EXISTE_FICHA = """
+        SELECT EXISTS (
+            SELECT 1 FROM ficha_mensal
+            WHERE ativo = TRUE AND competencia_inicio = ? AND competencia_fim = ? AND decimo_terceiro = ?)
+        """;
+
+    private static final String LINHAS_FICHA = """
+        SELECT fm.competencia_inicio, fm.competencia_fim, fm.decimo_terceiro,
+               f.id AS funcionario_id, f.id_externo, f.nome AS funcionario_nome, c.descricao AS cargo,
+               cc.id AS centro_custo_id, cc.descricao AS centro_custo, ln.descricao AS linha_negocio,
+               r.codigo AS rubrica_codigo, r.descricao AS rubrica_descricao, tr.descricao AS tipo_rubrica,
+               fl.valor
+        FROM ficha_linha fl
+        JOIN ficha_mensal fm ON fm.id = fl.ficha_mensal_id
+        JOIN funcionarios f ON f.id = fm.funcionario_id
+        LEFT JOIN cargos c ON c.id = f.cargo_id
+        LEFT JOIN centros_custo cc ON cc.id = COALESCE(fm.centro_custo_id, f.centro_custo_id)
+        LEFT JOIN linhas_negocio ln ON ln.id = cc.linha_negocio_id
+        JOIN rubricas r ON r.id = fl.rubrica_id
+        LEFT JOIN tipo_rubrica tr ON tr.id = r.tipo_rubrica_id
+        WHERE fm.ativo = TRUE
+          AND fl.ativo = TRUE
+          AND fm.competencia_inicio = ?
+          AND fm.competencia_fim = ?
+          AND fm.decimo_terceiro = ?
+        """;
+    private static final String ESCOPO_FICHA = "AND COALESCE(fm.centro_custo_id, f.centro_custo_id) IN ";
+
+    private static final String LINHAS_FOLHA_PAGAMENTO = """
+        SELECT fp.data_inicio AS competencia_inicio, fp.data_fim AS competencia_fim, fp.decimo_terceiro,
+               f.id AS funcionario_id, f.id_externo, f.nome AS funcionario_nome, c.descricao AS cargo,
+               cc.id AS centro_custo_id, cc.descricao AS centro_custo, ln.descricao AS linha_negocio,
+               r.codigo AS rubrica_codigo, r.descricao AS rubrica_descricao, tr.descricao AS tipo_rubrica,
+               fp.valor
+        FROM folha_pagamento fp
+        JOIN funcionarios f ON f.id = fp.funcionario_id
+        LEFT JOIN cargos c ON c.id = COALESCE(fp.cargo_id, f.cargo_id)
+        LEFT JOIN centros_custo cc ON cc.id = COALESCE(fp.centro_custo_id, f.centro_custo_id)
+        LEFT JOIN linhas_negocio ln ON ln.id = COALESCE(fp.linha_negocio_id, cc.linha_negocio_id)
+        JOIN rubricas r ON r.id = fp.rubrica_id
+        LEFT JOIN tipo_rubrica tr ON tr.id = r.tipo_rubrica_id
+        WHERE fp.ativo = TRUE
+          AND fp.data_inicio = ?
+          AND fp.data_fim = ?
+          AND fp.decimo_terceiro = ?
+        """;
+    private static final String ESCOPO_FOLHA_PAGAMENTO = "AND COALESCE(fp.centro_custo_id, f.centro_custo_id) IN ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Entrega cada linha ativa da competência a {@code destino}, na ordem do cursor. {@code centrosCustoIds} nulo
+     * exporta todos os centros; caso contrário, só os do CC efetivo informado (vazio não consulta).
+     */
+    @Transactional(readOnly = true)
+    public void percorrer(
+            LocalDate competenciaInicio, LocalDate competenciaFim, boolean decimoTerceiro,
+            Set<Long> centrosCustoIds, Consumer<FolhaExportacaoLinha> destino) {
+        if (centrosCustoIds != null && centrosCustoIds.isEmpty()) {
+            return;
+        }
+        boolean temFicha = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            EXISTE_FICHA, Boolean.class, competenciaInicio, competenciaFim, decimoTerceiro));
+        String sql = temFicha ? LINHAS_FICHA : LINHAS_FOLHA_PAGAMENTO;
+        List<Object> args = new ArrayList<>(List.of(competenciaInicio, competenciaFim, decimoTerceiro));
+        if (centrosCustoIds != null) {
+            sql += (temFicha ? ESCOPO_FICHA : ESCOPO_FOLHA_PAGAMENTO)
+                + "(" + String.join(", ", Collections.nCopies(centrosCustoIds.size(), "?")) + ")";
+            args.addAll(centrosCustoIds);
+        }
+        String consulta = sql;
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                consulta, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> destino.accept(mapear(rs)));
+    }
+
+    private static FolhaExportacaoLinha mapear(ResultSet rs) throws SQLException {
+        return new FolhaExportacaoLinha(
+            rs.getObject("competencia_inicio", LocalDate.class),
+            rs.getObject("competencia_fim", LocalDate.class),
+            rs.getBoolean("decimo_terceiro"),
+            rs.getLong("funcionario_id"),
+            rs.getString("id_externo"),
+            rs.getString("funcionario_nome"),
+            rs.getString("cargo"),
+            rs.getObject("centro_custo_id", Long.class),
+            rs.getString("centro_custo"),
+            rs.getString("linha_negocio"),
+            rs.getString("rubrica_codigo"),
+            rs.getString("rubrica_descricao"),
+            rs.getString("tipo_rubrica"),
+            rs.getBigDecimal("valor"));
+    }
+}
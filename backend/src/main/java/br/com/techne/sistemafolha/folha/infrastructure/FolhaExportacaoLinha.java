@@ -0,0 +1,22 @@
+package br.com.techne.sistemafolha.folha.infrastructure;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** Linha de folha da exportação, lida direto do {@code ResultSet} por {@link FolhaExportacaoJdbcReader}. */
+public record FolhaExportacaoLinha(
+    LocalDate competenciaInicio,
+    LocalDate competenciaFim,
+    boolean decimoTerceiro,
+    Long funcionarioId,
+    String matricula,
+    String funcionarioNome,
+    String cargoDescricao,
+    Long centroCustoId,
+    String centroCustoDescricao,
+    String linhaNegocioDescricao,
+    String rubricaCodigo,
+    String rubricaDescricao,
+    String tipoRubricaDescricao,
+    BigDecimal valor
+) {}
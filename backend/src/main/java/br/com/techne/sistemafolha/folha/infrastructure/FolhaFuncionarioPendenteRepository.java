@@ -0,0 +1,105 @@
+package br.com.techne.sistemafolha.folha.infrastructure;
+
+import br.com.techne.sistemafolha.folha.domain.FolhaFuncionarioPendente;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FolhaFuncionarioPendenteRepository extends JpaRepository<FolhaFuncionarioPendente, Long> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO folha_funcionario_pendente
+            (funcionario_id, competencia_inicio, competencia_fim, decimo_terceiro, origem, data_registro)
+        SELECT f.id, :competenciaInicio, :competenciaFim, :decimoTerceiro, :origem, CURRENT_TIMESTAMP
+        FROM funcionarios f
+        WHERE f.id IN (:funcionarioIds)
+        ON CONFLICT (competencia_inicio, competencia_fim, decimo_terceiro, funcionario_id) DO NOTHING
+        """, nativeQuery = true)
+    int registrar(
+        @Param("funcionarioIds") Collection<Long> funcionarioIds,
+        @Param("competenciaInicio") LocalDate competenciaInicio,
+        @Param("competenciaFim") LocalDate competenciaFim,
+        @Param("decimoTerceiro") boolean decimoTerceiro,
+        @Param("origem") String origem);
+
+    /** Marca as competências importadas (linhas ADP ativas) do funcionário que intersectam a vigência. */
+    @Modifying
+    @Query(value = """
+        INSERT INTO folha_funcionario_pendente
+            (funcionario_id, competencia_inicio, competencia_fim, decimo_terceiro, origem, data_registro)
+        SELECT DISTINCT fp.funcionario_id, fp.data_inicio, fp.data_fim, fp.decimo_terceiro, :origem, CURRENT_TIMESTAMP
+        FROM folha_pagamento fp
+        WHERE fp.ativo = TRUE
+        AND fp.funcionario_id = :funcionarioId
+        AND fp.data_fim >= :vigenciaInicio
+        AND fp.data_inicio <= :vigenciaFim
+        ON CONFLICT (competencia_inicio, competencia_fim, decimo_terceiro, funcionario_id) DO NOTHING
+        """, nativeQuery = true)
+    int registrarPorVigencia(
+        @Param("funcionarioId") Long funcionarioId,
+        @Param("vigenciaInicio") LocalDate vigenciaInicio,
+        @Param("vigenciaFim") LocalDate vigenciaFim,
+        @Param("origem") String origem);
+
+    /** Rubrica fixa global: marca todos os funcionários das competências que intersectam a vigência. */
+    @Modifying
+    @Query(value = """
+        INSERT INTO folha_funcionario_pendente
+            (funcionario_id, competencia_inicio, competencia_fim, decimo_terceiro, origem, data_registro)
+        SELECT DISTINCT fp.funcionario_id, fp.data_inicio, fp.data_fim, fp.decimo_terceiro, :origem, CURRENT_TIMESTAMP
+        FROM folha_pagamento fp
+        WHERE fp.ativo = TRUE
+        AND fp.data_fim >= :vigenciaInicio
+        AND fp.data_inicio <= :vigenciaFim
+        ON CONFLICT (competencia_inicio, competencia_fim, decimo_terceiro, funcionario_id) DO NOTHING
+        """, nativeQuery = true)
+    int registrarPorVigenciaGlobal(
+        @Param("vigenciaInicio") LocalDate vigenciaInicio,
+        @Param("vigenciaFim") LocalDate vigenciaFim,
+        @Param("origem") String origem);
+
+    @Query("""
+        SELECT p.funcionarioId FROM FolhaFuncionarioPendente p
+        WHERE p.competenciaInicio = :competenciaInicio
+        AND p.competenciaFim = :competenciaFim
+        AND p.decimoTerceiro = :decimoTerceiro
+        """)
+    List<Long> findFuncionarioIdsByCompetencia(
+        @Param("competenciaInicio") LocalDate competenciaInicio,
+        @Param("competenciaFim") LocalDate competenciaFim,
+        @Param("decimoTerceiro") boolean decimoTerceiro);
+
+    @Modifying
+    @Query("""
+        DELETE FROM FolhaFuncionarioPendente p
+        WHERE p.competenciaInicio = :competenciaInicio
+        AND p.competenciaFim = :competenciaFim
+        AND p.decimoTerceiro = :decimoTerceiro
+        """)
+    void deleteByCompetencia(
+        @Param("competenciaInicio") LocalDate competenciaInicio,
+        @Param("competenciaFim") LocalDate competenciaFim,
+        @Param("decimoTerceiro") boolean decimoTerceiro);
+
+    @Modifying
+    @Query("""
+        DELETE FROM FolhaFuncionarioPendente p
+        WHERE p.competenciaInicio = :competenciaInicio
+        AND p.competenciaFim = :competenciaFim
+        AND p.decimoTerceiro = :decimoTerceiro
+        AND p.funcionarioId IN :funcionarioIds
+        """)
+    void deleteByCompetenciaAndFuncionarioIds(
+        @Param("competenciaInicio") LocalDate competenciaInicio,
+        @Param("competenciaFim") LocalDate competenciaFim,
+        @Param("decimoTerceiro") boolean decimoTerceiro,
+        @Param("funcionarioIds") Collection<Long> funcionarioIds);
+}
@@ -0,0 +1,49 @@
+package br.com.techne.sistemafolha.folha.infrastructure;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Linha de folha já achatada para as consultas de grid: só as colunas do {@code FolhaPagamentoDTO}, sem
+ * carregar as entidades associadas.
+ */
+public interface FolhaPagamentoLinhaProjection {
+
+    Long getId();
+
+    Long getFuncionarioId();
+
+    String getFuncionarioNome();
+
+    Long getRubricaId();
+
+    String getRubricaCodigo();
+
+    String getRubricaDescricao();
+
+    String getRubricaTipo();
+
+    Long getCargoId();
+
+    String getCargoDescricao();
+
+    Long getCentroCustoId();
+
+    String getCentroCustoDescricao();
+
+    Long getLinhaNegocioId();
+
+    String getLinhaNegocioDescricao();
+
+    LocalDate getDataInicio();
+
+    LocalDate getDataFim();
+
+    BigDecimal getValor();
+
+    BigDecimal getQuantidade();
+
+    BigDecimal getBaseCalculo();
+
+    Boolean getDecimoTerceiro();
+}
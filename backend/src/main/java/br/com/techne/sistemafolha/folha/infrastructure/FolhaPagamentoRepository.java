@@ -2,7 +2,7 @@ package br.com.techne.sistemafolha.folha.infrastructure;
 
 import br.com.techne.sistemafolha.folha.domain.FolhaPagamento;
 import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
-import br.com.techne.sistemafolha.cadastros.domain.LinhaNegocio;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,10 +10,29 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface FolhaPagamentoRepository extends JpaRepository<FolhaPagamento, Long> {
+
+    /** Colunas de {@link FolhaPagamentoLinhaProjection}; as consultas paginadas acrescentam filtro, keyset e ordem. */
+    String LINHA_PROJECAO = """
+        SELECT f.id AS id, fu.id AS funcionarioId, fu.nome AS funcionarioNome,
+               r.id AS rubricaId, r.codigo AS rubricaCodigo, r.descricao AS rubricaDescricao, tr.descricao AS rubricaTipo,
+               ca.id AS cargoId, ca.descricao AS cargoDescricao,
+               cc.id AS centroCustoId, cc.descricao AS centroCustoDescricao,
+               ln.id AS linhaNegocioId, ln.descricao AS linhaNegocioDescricao,
+               f.dataInicio AS dataInicio, f.dataFim AS dataFim, f.valor AS valor, f.quantidade AS quantidade,
+               f.baseCalculo AS baseCalculo, f.decimoTerceiro AS decimoTerceiro
+        FROM FolhaPagamento f
+        JOIN f.funcionario fu
+        JOIN f.rubrica r
+        LEFT JOIN r.tipoRubrica tr
+        LEFT JOIN f.cargo ca
+        LEFT JOIN f.centroCusto cc
+        LEFT JOIN f.linhaNegocio ln
+        """;
     
     @Query("SELECT f FROM FolhaPagamento f WHERE f.funcionario.id = :funcionarioId AND f.dataInicio = :dataInicio AND f.dataFim = :dataFim")
     List<FolhaPagamento> findByFuncionarioAndPeriodo(Long funcionarioId, LocalDate dataInicio, LocalDate dataFim);
@@ -24,31 +43,8 @@ public interface FolhaPagamentoRepository extends JpaRepository<FolhaPagamento,
     boolean existsByFuncionarioIdAndRubricaIdAndDataInicioAndDataFim(
         Long funcionarioId, Long rubricaId, LocalDate dataInicio, LocalDate dataFim);
 
-    List<FolhaPagamento> findByFuncionarioIdAndDataInicioBetweenAndAtivoTrue(Long funcionarioId, LocalDate dataInicio, LocalDate dataFim);
-
-    @Query("""
-        SELECT f FROM FolhaPagamento f
-        WHERE f.ativo = true
-        AND f.funcionario.id = :funcionarioId
-        AND f.dataInicio = :dataInicio
-        AND f.dataFim = :dataFim
-        AND f.decimoTerceiro = :decimoTerceiro
-        """)
-    List<FolhaPagamento> findByFuncionarioIdAndCompetenciaAndDecimoTerceiroAndAtivoTrue(
-        @Param("funcionarioId") Long funcionarioId,
-        @Param("dataInicio") LocalDate dataInicio,
-        @Param("dataFim") LocalDate dataFim,
-        @Param("decimoTerceiro") boolean decimoTerceiro);
-    List<FolhaPagamento> findByCentroCustoAndDataInicioBetweenAndAtivoTrue(CentroCusto centroCusto, LocalDate dataInicio, LocalDate dataFim);
     List<FolhaPagamento> findByDataInicioBetweenAndAtivoTrue(LocalDate dataInicio, LocalDate dataFim);
     
-    @Query("SELECT f FROM FolhaPagamento f WHERE f.linhaNegocio = :linhaNegocio AND f.dataInicio BETWEEN :dataInicio AND :dataFim AND f.ativo = true")
-    List<FolhaPagamento> findByLinhaNegocioAndDataInicioBetweenAndAtivoTrue(
-        @Param("linhaNegocio") LinhaNegocio linhaNegocio, 
-        @Param("dataInicio") LocalDate dataInicio, 
-        @Param("dataFim") LocalDate dataFim
-    );
-    
     @Modifying
     @Query("UPDATE FolhaPagamento f SET f.ativo = false WHERE f.id = :id")
     void softDelete(@Param("id") Long id);
@@ -62,6 +58,20 @@ public interface FolhaPagamentoRepository extends JpaRepository<FolhaPagamento,
         @Param("competenciaFim") LocalDate competenciaFim,
         @Param("decimoTerceiro") boolean decimoTerceiro);
 
+    @Query("""
+        SELECT f FROM FolhaPagamento f
+        WHERE f.ativo = true
+        AND f.dataInicio = :competenciaInicio
+        AND f.dataFim = :competenciaFim
+        AND f.decimoTerceiro = :decimoTerceiro
+        AND f.funcionario.id IN :funcionarioIds
+        """)
+    List<FolhaPagamento> findByCompetenciaAndDecimoTerceiroAndFuncionarioIdsAndAtivoTrue(
+        @Param("competenciaInicio") LocalDate competenciaInicio,
+        @Param("competenciaFim") LocalDate competenciaFim,
+        @Param("decimoTerceiro") boolean decimoTerceiro,
+        @Param("funcionarioIds") Collection<Long> funcionarioIds);
+
     @EntityGraph(attributePaths = {
         "funcionario",
         "funcionario.centroCusto",
@@ -89,34 +99,116 @@ public interface FolhaPagamentoRepository extends JpaRepository<FolhaPagamento,
         LocalDate dataInicio, LocalDate dataFim, boolean decimoTerceiro);
 
     @Query("""
-        SELECT COUNT(f) > 0 FROM FolhaPagamento f
+        SELECT DISTINCT f.funcionario.cpf, f.funcionario.id FROM FolhaPagamento f
         WHERE f.ativo = true
         AND f.dataInicio = :dataInicio
         AND f.dataFim = :dataFim
         AND f.decimoTerceiro = :decimoTerceiro
-        AND f.funcionario.cpf = :cpf
-        AND f.funcionario.id <> :funcionarioId
+        AND f.funcionario.cpf IN :cpfs
         """)
-    boolean existsAtivaByCpfAndCompetenciaExcludingFuncionario(
-        @Param("cpf") String cpf,
-        @Param("funcionarioId") Long funcionarioId,
+    List<Object[]> findCpfEFuncionarioAtivosByCpfsAndCompetencia(
+        @Param("cpfs") Collection<String> cpfs,
         @Param("dataInicio") LocalDate dataInicio,
         @Param("dataFim") LocalDate dataFim,
         @Param("decimoTerceiro") boolean decimoTerceiro);
 
     @Query("""
-        SELECT COUNT(f) > 0 FROM FolhaPagamento f
+        SELECT DISTINCT f.funcionario.id, f.rubrica.id FROM FolhaPagamento f
         WHERE f.ativo = true
-        AND f.funcionario.id = :funcionarioId
-        AND f.rubrica.id = :rubricaId
         AND f.dataInicio = :dataInicio
         AND f.dataFim = :dataFim
         AND f.decimoTerceiro = :decimoTerceiro
+        AND f.funcionario.id IN :funcionarioIds
         """)
-    boolean existsByFuncionarioIdAndRubricaIdAndPeriodoAndDecimoTerceiro(
-        @Param("funcionarioId") Long funcionarioId,
-        @Param("rubricaId") Long rubricaId,
+    List<Object[]> findFuncionarioERubricaAtivosByFuncionariosAndCompetencia(
+        @Param("funcionarioIds") Collection<Long> funcionarioIds,
         @Param("dataInicio") LocalDate dataInicio,
         @Param("dataFim") LocalDate dataFim,
         @Param("decimoTerceiro") boolean decimoTerceiro);
+
+    /**
+     * Linhas do funcionário ordenadas por código da rubrica (sem caixa) e id. Com {@code decimoTerceiro} nulo
+     * filtra {@code dataInicio} no intervalo; informado, exige a competência exata daquele tipo de folha.
+     */
+    @Query(LINHA_PROJECAO + """
+        WHERE f.ativo = true
+        AND fu.id = :funcionarioId
+        AND ((:decimoTerceiro IS NULL AND f.dataInicio BETWEEN :dataInicio AND :dataFim)
+            OR (f.dataInicio = :dataInicio AND f.dataFim = :dataFim AND f.decimoTerceiro = :decimoTerceiro))
+        AND (:cursorChave IS NULL OR LOWER(r.codigo) > :cursorChave
+            OR (LOWER(r.codigo) = :cursorChave AND f.id > :cursorId))
+        ORDER BY LOWER(r.codigo), f.id
+        """)
+    List<FolhaPagamentoLinhaProjection> consultarLinhasPorFuncionario(
+        @Param("funcionarioId") Long funcionarioId,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim,
+        @Param("decimoTerceiro") Boolean decimoTerceiro,
+        @Param("cursorChave") String cursorChave,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
+
+    @Query(LINHA_PROJECAO + """
+        WHERE f.ativo = true
+        AND fu.id = :funcionarioId
+        AND ((:decimoTerceiro IS NULL AND f.dataInicio BETWEEN :dataInicio AND :dataFim)
+            OR (f.dataInicio = :dataInicio AND f.dataFim = :dataFim AND f.decimoTerceiro = :decimoTerceiro))
+        AND COALESCE(cc.id, fu.centroCusto.id) IN :centrosCustoIds
+        AND (:cursorChave IS NULL OR LOWER(r.codigo) > :cursorChave
+            OR (LOWER(r.codigo) = :cursorChave AND f.id > :cursorId))
+        ORDER BY LOWER(r.codigo), f.id
+        """)
+    List<FolhaPagamentoLinhaProjection> consultarLinhasPorFuncionarioNoEscopo(
+        @Param("funcionarioId") Long funcionarioId,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim,
+        @Param("decimoTerceiro") Boolean decimoTerceiro,
+        @Param("cursorChave") String cursorChave,
+        @Param("cursorId") Long cursorId,
+        @Param("centrosCustoIds") Collection<Long> centrosCustoIds,
+        Pageable pageable);
+
+    @Query(LINHA_PROJECAO + """
+        WHERE f.ativo = true
+        AND cc.id = :centroCustoId
+        AND f.dataInicio BETWEEN :dataInicio AND :dataFim
+        AND (:cursorId IS NULL OR f.id > :cursorId)
+        ORDER BY f.id
+        """)
+    List<FolhaPagamentoLinhaProjection> consultarLinhasPorCentroCusto(
+        @Param("centroCustoId") Long centroCustoId,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
+
+    @Query(LINHA_PROJECAO + """
+        WHERE f.ativo = true
+        AND ln.id = :linhaNegocioId
+        AND f.dataInicio BETWEEN :dataInicio AND :dataFim
+        AND (:cursorId IS NULL OR f.id > :cursorId)
+        ORDER BY f.id
+        """)
+    List<FolhaPagamentoLinhaProjection> consultarLinhasPorLinhaNegocio(
+        @Param("linhaNegocioId") Long linhaNegocioId,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
+
+    @Query(LINHA_PROJECAO + """
+        WHERE f.ativo = true
+        AND ln.id = :linhaNegocioId
+        AND f.dataInicio BETWEEN :dataInicio AND :dataFim
+        AND COALESCE(cc.id, fu.centroCusto.id) IN :centrosCustoIds
+        AND (:cursorId IS NULL OR f.id > :cursorId)
+        ORDER BY f.id
+        """)
+    List<FolhaPagamentoLinhaProjection> consultarLinhasPorLinhaNegocioNoEscopo(
+        @Param("linhaNegocioId") Long linhaNegocioId,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim,
+        @Param("cursorId") Long cursorId,
+        @Param("centrosCustoIds") Collection<Long> centrosCustoIds,
+        Pageable pageable);
 } 
\ No newline at end of file
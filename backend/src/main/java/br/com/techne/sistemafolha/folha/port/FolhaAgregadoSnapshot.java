@@ -0,0 +1,19 @@
+package br.com.techne.sistemafolha.folha.port;
+
+import br.com.techne.sistemafolha.folha.domain.DimensaoAgregado;
+
+import java.math.BigDecimal;
+
+public record FolhaAgregadoSnapshot(
+    Long centroCustoId,
+    Long linhaNegocioId,
+    String linhaNegocioDescricao,
+    DimensaoAgregado dimensao,
+    Long chaveId,
+    String chaveCodigo,
+    String chaveDescricao,
+    long quantidadeFuncionarios,
+    long quantidadeLancamentos,
+    BigDecimal valorTotal,
+    BigDecimal custoFolha
+) {}
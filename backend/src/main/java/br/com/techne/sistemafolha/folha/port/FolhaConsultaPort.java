@@ -2,6 +2,7 @@ package br.com.techne.sistemafolha.folha.port;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -12,13 +13,38 @@ public interface FolhaConsultaPort {
     List<FolhaLinhaSnapshot> findLinhasAtivasPorCompetencia(
         LocalDate competenciaInicio, LocalDate competenciaFim, boolean decimoTerceiro, Set<Long> centrosCustoIds);
 
+    /**
+     * Agregados materializados da competência, restritos aos centros informados ({@code null} ou vazio = todos).
+     * Lista vazia indica competência sem agregados — o chamador deve recorrer às linhas.
+     */
+    List<FolhaAgregadoSnapshot> findAgregadosPorCompetencia(
+        LocalDate competenciaInicio, LocalDate competenciaFim, boolean decimoTerceiro, Set<Long> centrosCustoIds);
+
     List<FolhaEvolucaoSnapshot> findEvolucaoUltimos12Meses(LocalDate dataInicio);
 
+    /**
+     * Totais das fichas por competência iniciada entre {@code inicio} e {@code fim}, agregados no banco e restritos
+     * aos centros informados ({@code null} ou vazio = todos). Toda competência com ficha ativa aparece — zerada se
+     * nenhuma ficha cai nos centros; competência ausente não tem ficha e o chamador deve recorrer às linhas ADP.
+     */
+    List<FolhaTotaisCompetenciaSnapshot> somarTotaisFichaPorCompetencia(
+        LocalDate inicio, LocalDate fim, Set<Long> centrosCustoIds);
+
+    /**
+     * Evolução materializada no processamento, uma entrada por competência a partir de {@code dataInicio}, somada
+     * nos centros informados ({@code null} ou vazio = todos). Competência ausente não foi materializada e o
+     * chamador deve recorrer às linhas; presente com zeros, não tem ficha nesses centros. O custo empresa soma ao
+     * custo folha materializado os benefícios atuais dos funcionários com ficha nesses centros.
+     */
+    List<FolhaEvolucaoMaterializadaSnapshot> findEvolucaoMaterializada(LocalDate dataInicio, Set<Long> centrosCustoIds);
+
     boolean existsResumoAtivo(LocalDate inicio, LocalDate fim, boolean decimoTerceiro);
 
-    boolean existsAtivaByCpfAndCompetenciaExcludingFuncionario(
-        String cpf, Long funcionarioId, LocalDate inicio, LocalDate fim, boolean decimoTerceiro);
+    /** CPF → funcionários com folha ADP ativa na competência, restrito aos CPFs informados. */
+    Map<String, Set<Long>> findFuncionariosComFolhaAtivaPorCpf(
+        Set<String> cpfs, LocalDate inicio, LocalDate fim, boolean decimoTerceiro);
 
-    boolean existsByFuncionarioIdAndRubricaIdAndPeriodo(
-        Long funcionarioId, Long rubricaId, LocalDate inicio, LocalDate fim, boolean decimoTerceiro);
+    /** Funcionário → rubricas com linha ADP ativa na competência, restrito aos funcionários informados. */
+    Map<Long, Set<Long>> findRubricasAtivasPorFuncionario(
+        Set<Long> funcionarioIds, LocalDate inicio, LocalDate fim, boolean decimoTerceiro);
 }
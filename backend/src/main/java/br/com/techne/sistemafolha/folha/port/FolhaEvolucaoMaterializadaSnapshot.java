@@ -0,0 +1,20 @@
+package br.com.techne.sistemafolha.folha.port;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Totais de uma competência na evolução mensal materializada; {@code custoEmpresa} = custo folha materializado +
+ * benefícios atuais.
+ */
+public record FolhaEvolucaoMaterializadaSnapshot(
+    LocalDate competenciaInicio,
+    LocalDate competenciaFim,
+    boolean decimoTerceiro,
+    BigDecimal totalBruto,
+    BigDecimal totalLiquido,
+    BigDecimal custoFolha,
+    BigDecimal totalEncargos,
+    BigDecimal custoEmpresa,
+    long quantidadeFuncionarios
+) {}
@@ -0,0 +1,21 @@
+package br.com.techne.sistemafolha.folha.port;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Totais das fichas de uma competência somados no banco. Bruto, líquido e custo folha seguem o motor de cálculo
+ * (arredondados por funcionário); pagamentos e descontos somam os valores de PROVENTO e DESCONTO.
+ */
+public record FolhaTotaisCompetenciaSnapshot(
+    LocalDate competenciaInicio,
+    LocalDate competenciaFim,
+    boolean decimoTerceiro,
+    Set<Long> funcionarioIds,
+    BigDecimal totalBruto,
+    BigDecimal totalLiquido,
+    BigDecimal totalCustoFolha,
+    BigDecimal totalPagamentos,
+    BigDecimal totalDescontos
+) {}
@@ -16,4 +16,14 @@ public interface FolhaTotalizacaoPort {
         LocalDate competenciaInicio,
         LocalDate competenciaFim,
         AccessContextDTO contexto);
+
+    /**
+     * Mesmo total de {@link #calcularTotalCustoEmpresa} a partir dos agregados materializados: custo folha
+     * somado por centro de custo e benefícios, sempre atuais, dos funcionários com ficha nesses centros.
+     */
+    BigDecimal calcularTotalCustoEmpresaAgregado(
+        List<FolhaAgregadoSnapshot> agregados,
+        LocalDate competenciaInicio,
+        LocalDate competenciaFim,
+        boolean decimoTerceiro);
 }
@@ -0,0 +1,54 @@
+package br.com.techne.sistemafolha.importacao.api;
+
+import br.com.techne.sistemafolha.importacao.application.ImportacaoFolhaJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/importacao/folha-adp/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Importação", description = "APIs para importação de dados")
+public class ImportacaoFolhaJobController {
+
+    private final ImportacaoFolhaJobService importacaoFolhaJobService;
+
+    @PostMapping
+    @Operation(summary = "Enfileira importação de arquivo de folha ADP",
+               description = "Retorna imediatamente o job criado; fase e progresso são consultados por polling")
+    public ResponseEntity<ImportacaoFolhaJobDTO> criar(
+            @RequestParam("arquivo") MultipartFile arquivo,
+            @RequestParam(value = "decimoTerceiro", required = false, defaultValue = "false") Boolean decimoTerceiro,
+            @RequestParam(value = "confirmarSubstituicao", required = false, defaultValue = "false") Boolean confirmarSubstituicao,
+            Authentication authentication) throws IOException {
+        return ResponseEntity.accepted().body(importacaoFolhaJobService.criar(
+            authentication.getName(), arquivo, decimoTerceiro, confirmarSubstituicao));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Consulta fase, progresso e erros de uma importação ADP")
+    public ResponseEntity<ImportacaoFolhaJobDTO> consultar(@PathVariable Long id, Authentication authentication) {
+        return ResponseEntity.ok(importacaoFolhaJobService.consultar(authentication.getName(), id));
+    }
+
+    @PostMapping("/{id}/retomar")
+    @Operation(summary = "Reexecuta uma importação ADP finalizada com erro")
+    public ResponseEntity<ImportacaoFolhaJobDTO> retomar(
+            @PathVariable Long id,
+            @RequestParam(value = "confirmarSubstituicao", required = false) Boolean confirmarSubstituicao,
+            Authentication authentication) {
+        return ResponseEntity.accepted().body(
+            importacaoFolhaJobService.retomar(authentication.getName(), id, confirmarSubstituicao));
+    }
+}
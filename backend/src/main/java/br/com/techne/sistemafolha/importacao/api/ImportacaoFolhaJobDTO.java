@@ -0,0 +1,28 @@
+package br.com.techne.sistemafolha.importacao.api;
+
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobFase;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record ImportacaoFolhaJobDTO(
+    Long id,
+    String nomeArquivo,
+    Long tamanhoBytes,
+    ImportacaoJobStatus status,
+    ImportacaoJobFase fase,
+    LocalDate competenciaInicio,
+    LocalDate competenciaFim,
+    Boolean decimoTerceiro,
+    Integer linhasLidas,
+    Integer linhasImportadas,
+    Integer fichasProcessadas,
+    Integer linhasProcessadas,
+    Integer tentativas,
+    boolean conflito,
+    String erro,
+    LocalDateTime dataCriacao,
+    LocalDateTime dataAtualizacao,
+    LocalDateTime dataConclusao
+) {}
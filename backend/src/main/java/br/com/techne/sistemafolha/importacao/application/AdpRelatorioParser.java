@@ -0,0 +1,383 @@
+package br.com.techne.sistemafolha.importacao.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Leitura posicional do relatório de folha ADP em uma única passada.
+ * <p>
+ * As linhas são classificadas pelas colunas fixas do layout (admissão em 96..102, rubricas em 0..65 e
+ * 66..131) e valores/totais são extraídos por varredura de caracteres, sem regex por linha. O resultado
+ * é bruto — ids externos e códigos de rubrica —; a resolução contra cadastro e folhas existentes é feita
+ * depois, em lote, por {@link ImportacaoAdpSnapshot}.
+ * Package-visible — uso interno de {@code importacao.application}; sem Spring e sem acesso a banco.
+ * Instância de uso único: guarda o estado da leitura de um arquivo.
+ */
+final class AdpRelatorioParser {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdpRelatorioParser.class);
+
+    static final Charset CHARSET = Charset.forName("WINDOWS-1252");
+
+    private static final String MARCADOR_COMPETENCIA = "Competência:";
+    private static final Pattern SEPARADOR_PERIODO = Pattern.compile("\\s+a\\s+");
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private static final String MARCADOR_TOTAL = "Total";
+    private static final String TOTAL_EMPREGADOS = "Total de Empregados";
+    private static final String TOTAL_ENCARGOS = "Total de Encargos";
+    private static final String TOTAL_PAGAMENTOS = "Total de Pagamentos";
+    private static final String TOTAL_DESCONTOS = "Total de Descontos";
+    private static final String TOTAL_LIQUIDO = "Total Líquido";
+
+    record Admissao(String idExterno, String identificador) {}
+
+    /** Rubrica lida do arquivo; {@code idExternoFuncionario} é o da última admissão vista (null se nenhuma). */
+    record Lancamento(
+        String idExternoFuncionario,
+        String codigo,
+        String descricao,
+        String tipoRubricaDescricao,
+        BigDecimal quantidade,
+        BigDecimal baseCalculo,
+        BigDecimal valor
+    ) {}
+
+    record Relatorio(
+        LocalDate competenciaInicio,
+        LocalDate competenciaFim,
+        List<Admissao> admissoes,
+        List<Lancamento> lancamentos,
+        Integer totalEmpregados,
+        BigDecimal totalEncargos,
+        BigDecimal totalPagamentos,
+        BigDecimal totalDescontos,
+        BigDecimal totalLiquido
+    ) {}
+
+    private final List<Admissao> admissoes = new ArrayList<>();
+    private final List<Lancamento> lancamentos = new ArrayList<>();
+    private String idExternoAtual;
+    private LocalDate competenciaInicio;
+    private LocalDate competenciaFim;
+    private Integer totalEmpregados;
+    private BigDecimal totalEncargos;
+    private BigDecimal totalPagamentos;
+    private BigDecimal totalDescontos;
+    private BigDecimal totalLiquido;
+
+    Relatorio ler(BufferedReader reader) throws IOException {
+        String linha;
+        while ((linha = reader.readLine()) != null) {
+            lerLinha(linha);
+        }
+        return new Relatorio(
+            competenciaInicio, competenciaFim, List.copyOf(admissoes), List.copyOf(lancamentos),
+            totalEmpregados, totalEncargos, totalPagamentos, totalDescontos, totalLiquido);
+    }
+
+    private void lerLinha(String linha) {
+        if (competenciaInicio == null && linha.contains(MARCADOR_COMPETENCIA)) {
+            lerCompetencia(linha);
+        }
+
+        if (isAdmissao(linha)) {
+            idExternoAtual = linha.substring(50, 55).trim();
+            admissoes.add(new Admissao(idExternoAtual, linha.substring(57, 96).trim()));
+        }
+
+        if (isRubrica(linha)) {
+            if (linha.regionMatches(true, 0, "¯¯¯¯", 0, 4) || linha.regionMatches(true, 0, "Evt", 0, 3)) {
+                return;
+            }
+            lerRubricas(linha.length() == 130 ? linha + " " : linha);
+        }
+
+        if (linha.contains(MARCADOR_TOTAL)) {
+            lerTotais(linha);
+        }
+    }
+
+    private static boolean isAdmissao(String linha) {
+        return linha.length() > 102 && linha.regionMatches(true, 96, "Admiss", 0, 6);
+    }
+
+    private static boolean isRubrica(String linha) {
+        return linha.length() > 6
+            && !isBlank(linha, 0, 4)
+            && Character.isWhitespace(linha.charAt(4))
+            && !Character.isWhitespace(linha.charAt(5));
+    }
+
+    private void lerRubricas(String linha) {
+        adicionar(lerLancamento(linha, 0, 31, 32, 65));
+
+        if (linha.length() > 130 && !linha.substring(66, 97).trim().isEmpty() && !isBlank(linha, 66, 70)) {
+            if (!linha.substring(98, 131).trim().isEmpty()) {
+                adicionar(lerLancamento(linha, 66, 97, 98, 131));
+            } else {
+                logger.debug("Segunda rubrica vazia ou sem valores válidos, pulando");
+            }
+        } else {
+            logger.debug("Linha não tem segunda rubrica ou comprimento insuficiente");
+        }
+    }
+
+    private void adicionar(Lancamento lancamento) {
+        if (lancamento != null) {
+            lancamentos.add(lancamento);
+        }
+    }
+
+    Lancamento lerLancamento(String linha, int inicioRubrica, int fimRubrica, int inicioValores, int fimValores) {
+        try {
+            if (linha.length() < fimValores) {
+                logger.warn("Linha muito curta para processar rubrica: comprimento={}, necessário={}",
+                    linha.length(), fimValores);
+                return null;
+            }
+
+            String rubricaCompleta = linha.substring(inicioRubrica, fimRubrica).trim();
+            String valoresCompletos = linha.substring(inicioValores, fimValores).trim();
+
+            if (rubricaCompleta.isEmpty() || valoresCompletos.isEmpty()) {
+                logger.debug("Rubrica ou valores vazios, pulando: rubrica='{}', valores='{}'",
+                    rubricaCompleta, valoresCompletos);
+                return null;
+            }
+
+            int separador = indiceEspaco(rubricaCompleta, 0);
+            if (separador < 0) {
+                logger.warn("Formato de rubrica inválido: '{}'", rubricaCompleta);
+                return null;
+            }
+
+            String[] valores = extrairValores(valoresCompletos);
+            if (valores == null) {
+                logger.error("Não foi possível extrair valores da string: '{}'", valoresCompletos);
+                return null;
+            }
+
+            String valor = valores[2];
+            char sufixo = valor.charAt(valor.length() - 1);
+            return new Lancamento(
+                idExternoAtual,
+                rubricaCompleta.substring(0, separador),
+                rubricaCompleta.substring(separador).trim(),
+                determinarTipoRubricaDescricao(sufixo == '+' || sufixo == '-' ? String.valueOf(sufixo) : ""),
+                parseValor(valores[0]),
+                parseValor(valores[1]),
+                parseValor(valor));
+        } catch (StringIndexOutOfBoundsException e) {
+            logger.error("Erro de índice ao processar rubrica: {} - Linha: '{}' (comprimento: {})",
+                e.getMessage(), linha, linha.length());
+            return null;
+        }
+    }
+
+    /**
+     * Quantidade, base e valor: três sequências de {@code [0-9.,]} separadas por espaço, a última com sinal
+     * opcional. Equivale a {@code ([\d.,]+)\s+([\d.,]+)\s+([\d.,]+[+-]?)} com {@code find()}: a primeira
+     * sequência que inicia um trio completo vence. Retorna null se não houver trio.
+     */
+    static String[] extrairValores(String valores) {
+        int n = valores.length();
+        int inicio = 0;
+        while (inicio < n) {
+            if (!isNumerico(valores.charAt(inicio)) || (inicio > 0 && isNumerico(valores.charAt(inicio - 1)))) {
+                inicio++;
+                continue;
+            }
+            int fimQuantidade = fimNumerico(valores, inicio);
+            int inicioBase = fimEspaco(valores, fimQuantidade);
+            if (inicioBase > fimQuantidade && inicioBase < n && isNumerico(valores.charAt(inicioBase))) {
+                int fimBase = fimNumerico(valores, inicioBase);
+                int inicioValor = fimEspaco(valores, fimBase);
+                if (inicioValor > fimBase && inicioValor < n && isNumerico(valores.charAt(inicioValor))) {
+                    int fimValor = fimNumerico(valores, inicioValor);
+                    if (fimValor < n && (valores.charAt(fimValor) == '+' || valores.charAt(fimValor) == '-')) {
+                        fimValor++;
+                    }
+                    return new String[] {
+                        valores.substring(inicio, fimQuantidade),
+                        valores.substring(inicioBase, fimBase),
+                        valores.substring(inicioValor, fimValor)
+                    };
+                }
+            }
+            inicio = fimQuantidade;
+        }
+        return null;
+    }
+
+    private void lerTotais(String linha) {
+        String empregados = valorAposRotulo(linha, TOTAL_EMPREGADOS, true);
+        if (empregados != null) {
+            try {
+                totalEmpregados = Integer.parseInt(empregados);
+                logger.info("Total de Empregados identificado: {}", totalEmpregados);
+            } catch (NumberFormatException e) {
+                logger.error("Erro ao processar total de empregados na linha: {}", linha);
+            }
+        }
+
+        String encargos = valorAposRotulo(linha, TOTAL_ENCARGOS, false);
+        if (encargos != null) {
+            totalEncargos = parseValor(encargos);
+            logger.info("Total de Encargos identificado: {}", totalEncargos);
+        }
+
+        String pagamentos = valorAposRotulo(linha, TOTAL_PAGAMENTOS, false);
+        if (pagamentos != null) {
+            totalPagamentos = parseValor(pagamentos);
+            logger.info("Total de Pagamentos identificado: {}", totalPagamentos);
+        }
+
+        String descontos = valorAposRotulo(linha, TOTAL_DESCONTOS, false);
+        if (descontos != null) {
+            totalDescontos = parseValor(descontos);
+            logger.info("Total de Descontos identificado: {}", totalDescontos);
+        }
+
+        String liquido = valorAposRotulo(linha, TOTAL_LIQUIDO, false);
+        if (liquido != null) {
+            totalLiquido = parseValor(liquido);
+            logger.info("Total Líquido identificado: {}", totalLiquido);
+        }
+    }
+
+    /** {@code rotulo\s*:\s*} seguido de dígitos ({@code inteiro}) ou de {@code [0-9.,]}; null se não houver. */
+    static String valorAposRotulo(String linha, String rotulo, boolean inteiro) {
+        int ocorrencia = linha.indexOf(rotulo);
+        while (ocorrencia >= 0) {
+            int posicao = fimEspaco(linha, ocorrencia + rotulo.length());
+            if (posicao < linha.length() && linha.charAt(posicao) == ':') {
+                int inicio = fimEspaco(linha, posicao + 1);
+                int fim = inicio;
+                while (fim < linha.length() && (inteiro ? isDigito(linha.charAt(fim)) : isNumerico(linha.charAt(fim)))) {
+                    fim++;
+                }
+                if (fim > inicio) {
+                    return linha.substring(inicio, fim);
+                }
+            }
+            ocorrencia = linha.indexOf(rotulo, ocorrencia + 1);
+        }
+        return null;
+    }
+
+    private void lerCompetencia(String linha) {
+        try {
+            String periodo = linha.substring(linha.indexOf(MARCADOR_COMPETENCIA) + MARCADOR_COMPETENCIA.length()).trim();
+            String[] datas = SEPARADOR_PERIODO.split(periodo);
+            if (datas.length == 2) {
+                competenciaInicio = LocalDate.parse(datas[0].trim(), FORMATO_DATA);
+                competenciaFim = LocalDate.parse(datas[1].trim(), FORMATO_DATA);
+                logger.info("Período extraído do arquivo: {} a {}", competenciaInicio, competenciaFim);
+            }
+        } catch (Exception e) {
+            competenciaInicio = null;
+            competenciaFim = null;
+            logger.warn("Erro ao extrair período de competência: {}", e.getMessage());
+        }
+    }
+
+    static BigDecimal parseValor(String valor) {
+        if (valor == null || valor.trim().isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+
+        StringBuilder limpo = new StringBuilder(valor.length());
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == ',') {
+                limpo.append('.');
+            } else if (c != '+' && c != '-' && c != '.') {
+                limpo.append(c);
+            }
+        }
+        String valorLimpo = limpo.toString().trim();
+
+        if (valorLimpo.isEmpty() || valorLimpo.equals(".")) {
+            logger.warn("Valor vazio ou inválido após limpeza: '{}'", valor);
+            return BigDecimal.ZERO;
+        }
+
+        try {
+            return new BigDecimal(valorLimpo);
+        } catch (NumberFormatException e) {
+            logger.error("Erro ao converter valor: '{}' -> '{}' - Erro: {}", valor, valorLimpo, e.getMessage());
+            return BigDecimal.ZERO;
+        }
+    }
+
+    static String determinarTipoRubricaDescricao(String tipo) {
+        if (tipo == null || tipo.isEmpty()) {
+            return "INFORMATIVO";
+        }
+        if ("+".equals(tipo)) {
+            return "PROVENTO";
+        }
+        if ("-".equals(tipo)) {
+            return "DESCONTO";
+        }
+        return "INFORMATIVO";
+    }
+
+    private static boolean isBlank(String linha, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            if (!Character.isWhitespace(linha.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indiceEspaco(String texto, int inicio) {
+        for (int i = inicio; i < texto.length(); i++) {
+            if (isEspaco(texto.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int fimEspaco(String texto, int inicio) {
+        int i = inicio;
+        while (i < texto.length() && isEspaco(texto.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int fimNumerico(String texto, int inicio) {
+        int i = inicio;
+        while (i < texto.length() && isNumerico(texto.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /** Mesmo conjunto de {@code \s} do regex Java (sem UNICODE_CHARACTER_CLASS). */
+    private static boolean isEspaco(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isDigito(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isNumerico(char c) {
+        return isDigito(c) || c == '.' || c == ',';
+    }
+}
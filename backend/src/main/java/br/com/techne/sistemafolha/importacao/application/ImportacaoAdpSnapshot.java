@@ -0,0 +1,139 @@
+package br.com.techne.sistemafolha.importacao.application;
+
+import br.com.techne.sistemafolha.cadastros.port.CadastrosImportLookupPort;
+import br.com.techne.sistemafolha.cadastros.port.FuncionarioImportRef;
+import br.com.techne.sistemafolha.cadastros.port.RubricaImportRef;
+import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Cadastros e folhas existentes consultados pela importação ADP, carregados em lote logo após a leitura
+ * do arquivo: funcionários por id externo, rubricas por código, CPFs com folha ativa na competência e
+ * pares funcionário/rubrica já importados — em vez de quatro consultas por linha de rubrica.
+ * <p>
+ * Só são carregadas (e criadas, no caso de rubricas novas) as rubricas de funcionários encontrados, como
+ * no fluxo linha a linha: rubrica de funcionário ausente nunca chegava a {@code findOrCreateRubrica}.
+ */
+final class ImportacaoAdpSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportacaoAdpSnapshot.class);
+
+    private final Map<String, FuncionarioImportRef> funcionarios;
+    private final Map<String, RubricaImportRef> rubricas;
+    private final Map<String, Set<Long>> funcionariosComFolhaPorCpf;
+    private final Map<Long, Set<Long>> rubricasExistentesPorFuncionario;
+
+    private ImportacaoAdpSnapshot(
+            Map<String, FuncionarioImportRef> funcionarios,
+            Map<String, RubricaImportRef> rubricas,
+            Map<String, Set<Long>> funcionariosComFolhaPorCpf,
+            Map<Long, Set<Long>> rubricasExistentesPorFuncionario) {
+        this.funcionarios = funcionarios;
+        this.rubricas = rubricas;
+        this.funcionariosComFolhaPorCpf = funcionariosComFolhaPorCpf;
+        this.rubricasExistentesPorFuncionario = rubricasExistentesPorFuncionario;
+    }
+
+    @SuppressWarnings("java:S107") // competência + modo de substituição definem o escopo das consultas em lote
+    static ImportacaoAdpSnapshot carregar(
+            AdpRelatorioParser.Relatorio relatorio,
+            CadastrosImportLookupPort cadastrosImportLookupPort,
+            FolhaConsultaPort folhaConsultaPort,
+            LocalDate dataInicio,
+            LocalDate dataFim,
+            boolean decimoTerceiro,
+            boolean substituirExistente) {
+        Set<String> idsExternos = new LinkedHashSet<>();
+        for (AdpRelatorioParser.Admissao admissao : relatorio.admissoes()) {
+            idsExternos.add(admissao.idExterno());
+        }
+        Map<String, FuncionarioImportRef> funcionarios =
+            cadastrosImportLookupPort.findFuncionariosByIdExternos(idsExternos);
+
+        Map<String, AdpRelatorioParser.Lancamento> primeiroPorCodigo = new LinkedHashMap<>();
+        for (AdpRelatorioParser.Lancamento lancamento : relatorio.lancamentos()) {
+            if (buscar(funcionarios, lancamento.idExternoFuncionario()) != null) {
+                primeiroPorCodigo.putIfAbsent(lancamento.codigo(), lancamento);
+            }
+        }
+        Map<String, RubricaImportRef> rubricas = new HashMap<>(
+            cadastrosImportLookupPort.findRubricasByCodigos(primeiroPorCodigo.keySet()));
+        for (AdpRelatorioParser.Lancamento lancamento : primeiroPorCodigo.values()) {
+            if (!rubricas.containsKey(lancamento.codigo())) {
+                criarRubrica(cadastrosImportLookupPort, lancamento, rubricas);
+            }
+        }
+
+        Set<String> cpfs = new HashSet<>();
+        Set<Long> funcionarioIds = new HashSet<>();
+        for (FuncionarioImportRef funcionario : funcionarios.values()) {
+            if (funcionario.cpf() != null) {
+                cpfs.add(funcionario.cpf());
+            }
+            funcionarioIds.add(funcionario.id());
+        }
+        Map<String, Set<Long>> funcionariosComFolhaPorCpf = folhaConsultaPort.findFuncionariosComFolhaAtivaPorCpf(
+            cpfs, dataInicio, dataFim, decimoTerceiro);
+        // Em substituição, as linhas antigas serão apagadas — não há o que pular por existência prévia.
+        Map<Long, Set<Long>> rubricasExistentes = substituirExistente
+            ? Map.of()
+            : folhaConsultaPort.findRubricasAtivasPorFuncionario(funcionarioIds, dataInicio, dataFim, decimoTerceiro);
+
+        logger.debug("Snapshot de importação: funcionarios={}, rubricas={}, cpfsComFolha={}",
+            funcionarios.size(), rubricas.size(), funcionariosComFolhaPorCpf.size());
+        return new ImportacaoAdpSnapshot(funcionarios, rubricas, funcionariosComFolhaPorCpf, rubricasExistentes);
+    }
+
+    private static void criarRubrica(
+            CadastrosImportLookupPort cadastrosImportLookupPort,
+            AdpRelatorioParser.Lancamento lancamento,
+            Map<String, RubricaImportRef> rubricas) {
+        try {
+            rubricas.put(lancamento.codigo(), cadastrosImportLookupPort.findOrCreateRubrica(
+                lancamento.codigo(), lancamento.descricao(), lancamento.tipoRubricaDescricao()));
+        } catch (RuntimeException e) {
+            logger.error("Erro ao processar rubrica: {} - Código: '{}'", e.getMessage(), lancamento.codigo());
+        }
+    }
+
+    FuncionarioImportRef funcionario(String idExterno) {
+        return buscar(funcionarios, idExterno);
+    }
+
+    RubricaImportRef rubrica(String codigo) {
+        return buscar(rubricas, codigo);
+    }
+
+    /** Outro funcionário com o mesmo CPF já tem folha ativa na competência. */
+    boolean conflitoCpf(FuncionarioImportRef funcionario) {
+        Set<Long> comFolha = buscar(funcionariosComFolhaPorCpf, funcionario.cpf());
+        if (comFolha == null) {
+            return false;
+        }
+        for (Long id : comFolha) {
+            if (!Objects.equals(id, funcionario.id())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean jaExiste(Long funcionarioId, Long rubricaId) {
+        Set<Long> existentes = buscar(rubricasExistentesPorFuncionario, funcionarioId);
+        return existentes != null && existentes.contains(rubricaId);
+    }
+
+    private static <K, V> V buscar(Map<K, V> mapa, K chave) {
+        return chave != null ? mapa.get(chave) : null;
+    }
+}
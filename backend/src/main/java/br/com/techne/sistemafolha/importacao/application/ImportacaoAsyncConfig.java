@@ -0,0 +1,24 @@
+package br.com.techne.sistemafolha.importacao.application;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+@EnableAsync
+public class ImportacaoAsyncConfig {
+
+    @Bean(name = "importacaoExecutor")
+    public Executor importacaoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("importacao-");
+        executor.initialize();
+        return executor;
+    }
+}
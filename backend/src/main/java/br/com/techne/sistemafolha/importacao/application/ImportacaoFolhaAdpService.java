@@ -16,6 +16,7 @@ import br.com.techne.sistemafolha.folha.port.FolhaProcessamentoPort;
 import br.com.techne.sistemafolha.shared.logging.DomainLogging;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -23,19 +24,14 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.math.BigDecimal;
-import java.nio.charset.Charset;
 import java.time.Clock;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Service
 public class ImportacaoFolhaAdpService {
@@ -57,12 +53,6 @@ public class ImportacaoFolhaAdpService {
 
     private final Map<String, String> empresa = new HashMap<>();
 
-    private static final Pattern TOTAL_EMPREGADOS_PATTERN = Pattern.compile("Total de Empregados\\s*:\\s*(\\d+)");
-    private static final Pattern TOTAL_ENCARGOS_PATTERN = Pattern.compile("Total de Encargos\\s*:\\s*([\\d.,]+)");
-    private static final Pattern TOTAL_PAGAMENTOS_PATTERN = Pattern.compile("Total de Pagamentos\\s*:\\s*([\\d.,]+)");
-    private static final Pattern TOTAL_DESCONTOS_PATTERN = Pattern.compile("Total de Descontos\\s*:\\s*([\\d.,]+)");
-    private static final Pattern TOTAL_LIQUIDO_PATTERN = Pattern.compile("Total Líquido\\s*:\\s*([\\d.,]+)");
-
     public ImportacaoFolhaAdpService(
             CadastrosImportLookupPort cadastrosImportLookupPort,
             FolhaConsultaPort folhaConsultaPort,
@@ -83,16 +73,46 @@ public class ImportacaoFolhaAdpService {
         empresa.put("245", EMPRESA_FILIAL_0065_TECHNE_EDUCACAO);
     }
 
+    /**
+     * Importa o relatório ADP da competência: o arquivo é lido uma única vez por {@link AdpRelatorioParser}
+     * e as linhas são resolvidas contra um {@link ImportacaoAdpSnapshot} carregado em lote.
+     */
     @Transactional
-    @SuppressWarnings({"java:S3776", "java:S6541"}) // CC/brain refactor tracked in CONCERNS; touch-only scope for R2
     public ImportacaoFolhaAdpResult importarFolhaAdp(
             MultipartFile arquivo, Boolean decimoTerceiro, Boolean confirmarSubstituicao) throws IOException {
         logger.info("{}Iniciando importação de folha ADP - Arquivo: {}, Tamanho: {} bytes",
                    DOMAIN_PREFIX, arquivo.getOriginalFilename(), arquivo.getSize());
 
-        LocalDate[] periodo = extrairPeriodoCompetencia(arquivo);
-        LocalDate dataInicio = periodo[0];
-        LocalDate dataFim = periodo[1];
+        AdpRelatorioParser.Relatorio relatorio = lerRelatorio(arquivo);
+        FolhaImportacaoCommand command = validar(relatorio, decimoTerceiro, confirmarSubstituicao);
+        List<FolhaPagamentoDTO> persistidas = persistir(command);
+        ProcessamentoResultadoDTO processamento = processar(
+            command.competenciaInicio(), command.competenciaFim(), command.decimoTerceiro());
+
+        return new ImportacaoFolhaAdpResult(persistidas, processamento);
+    }
+
+    /** Fase de leitura: o arquivo é percorrido uma única vez, sem acesso a banco. */
+    AdpRelatorioParser.Relatorio lerRelatorio(InputStreamSource arquivo) {
+        try (BufferedReader br = new BufferedReader(
+                new InputStreamReader(arquivo.getInputStream(), AdpRelatorioParser.CHARSET))) {
+            return new AdpRelatorioParser().ler(br);
+        } catch (Exception e) {
+            logger.error("Erro durante importação: {}", e.getMessage(), e);
+            throw new RuntimeException("Erro durante importação: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Fase de validação: checa folha duplicada, resolve funcionários e rubricas e monta o comando de
+     * persistência. Pode criar rubricas novas, então deve rodar na mesma transação de {@link #persistir}.
+     */
+    FolhaImportacaoCommand validar(
+            AdpRelatorioParser.Relatorio relatorio, Boolean decimoTerceiro, Boolean confirmarSubstituicao) {
+        LocalDate dataInicio = relatorio.competenciaInicio() != null
+            ? relatorio.competenciaInicio() : LocalDate.now(clock);
+        LocalDate dataFim = relatorio.competenciaFim() != null
+            ? relatorio.competenciaFim() : LocalDate.now(clock);
 
         logger.info("Período de competência identificado: {} a {}", dataInicio, dataFim);
 
@@ -116,103 +136,26 @@ public class ImportacaoFolhaAdpService {
         }
 
         List<FolhaImportacaoLinhaCommand> linhas = new ArrayList<>();
-        FuncionarioImportRef funcionarioAtual = null;
         List<String> funcionariosNaoEncontrados = new ArrayList<>();
         Set<String> conflitosCpfCompetencia = new LinkedHashSet<>();
 
-        Integer totalEmpregados = null;
-        BigDecimal totalEncargos = null;
-        BigDecimal totalPagamentos = null;
-        BigDecimal totalDescontos = null;
-        BigDecimal totalLiquido = null;
-
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(arquivo.getInputStream(), Charset.forName("WINDOWS-1252")))) {
-
-            while (br.ready()) {
-                String linha = br.readLine();
-
-                if (linha.length() > 102 && linha.substring(96, 102).equalsIgnoreCase("Admiss")) {
-                    String identificadorFuncionario = linha.substring(57, 96).trim();
-                    String idExterno = linha.substring(50, 55).trim();
-
-                    funcionarioAtual = cadastrosImportLookupPort.findFuncionarioByIdExterno(idExterno)
-                            .orElse(null);
-
-                    if (funcionarioAtual == null) {
-                        logger.warn("Funcionário não encontrado: {}", identificadorFuncionario);
-                        funcionariosNaoEncontrados.add(identificadorFuncionario);
-                    } else {
-                        logger.debug("Funcionário encontrado: {} - {}", funcionarioAtual.idExterno(), funcionarioAtual.nome());
-                    }
-                }
-
-                if (linha.length() > 6 && !linha.substring(0, 4).isBlank() &&
-                    linha.substring(4, 5).isBlank() && !linha.substring(5, 6).isBlank()) {
-
-                    if (linha.substring(0, 4).equalsIgnoreCase("¯¯¯¯") ||
-                        linha.substring(0, 3).equalsIgnoreCase("Evt")) {
-                        continue;
-                    }
-
-                    if (linha.length() == 130) {
-                        linha += " ";
-                    }
-
-                    processarRubrica(linha, 0, 31, 32, 65, funcionarioAtual, dataInicio, dataFim,
-                        linhas, conflitosCpfCompetencia, substituirExistente, isDecimoTerceiro);
-
-                    if (linha.length() > 130 &&
-                        !linha.substring(66, 97).trim().isEmpty() &&
-                        !linha.substring(66, 70).isBlank()) {
-
-                        String segundaRubrica = linha.substring(66, 97).trim();
-                        String segundaValores = linha.substring(98, 131).trim();
-
-                        if (!segundaRubrica.isEmpty() && !segundaValores.isEmpty()) {
-                            processarRubrica(linha, 66, 97, 98, 131, funcionarioAtual, dataInicio, dataFim,
-                                linhas, conflitosCpfCompetencia, substituirExistente, isDecimoTerceiro);
-                        } else {
-                            logger.debug("Segunda rubrica vazia ou sem valores válidos, pulando");
-                        }
-                    } else {
-                        logger.debug("Linha não tem segunda rubrica ou comprimento insuficiente");
-                    }
-                }
-
-                Matcher totalEmpregadosMatcher = TOTAL_EMPREGADOS_PATTERN.matcher(linha);
-                if (totalEmpregadosMatcher.find()) {
-                    try {
-                        totalEmpregados = Integer.parseInt(totalEmpregadosMatcher.group(1));
-                        logger.info("Total de Empregados identificado: {}", totalEmpregados);
-                    } catch (NumberFormatException e) {
-                        logger.error("Erro ao processar total de empregados na linha: {}", linha);
-                    }
-                }
-
-                Matcher totalEncargosMatcher = TOTAL_ENCARGOS_PATTERN.matcher(linha);
-                if (totalEncargosMatcher.find()) {
-                    totalEncargos = parseBigDecimal(totalEncargosMatcher.group(1));
-                    logger.info("Total de Encargos identificado: {}", totalEncargos);
-                }
-
-                Matcher totalPagamentosMatcher = TOTAL_PAGAMENTOS_PATTERN.matcher(linha);
-                if (totalPagamentosMatcher.find()) {
-                    totalPagamentos = parseBigDecimal(totalPagamentosMatcher.group(1));
-                    logger.info("Total de Pagamentos identificado: {}", totalPagamentos);
-                }
-
-                Matcher totalDescontosMatcher = TOTAL_DESCONTOS_PATTERN.matcher(linha);
-                if (totalDescontosMatcher.find()) {
-                    totalDescontos = parseBigDecimal(totalDescontosMatcher.group(1));
-                    logger.info("Total de Descontos identificado: {}", totalDescontos);
+        try {
+            ImportacaoAdpSnapshot snapshot = ImportacaoAdpSnapshot.carregar(
+                relatorio, cadastrosImportLookupPort, folhaConsultaPort,
+                dataInicio, dataFim, isDecimoTerceiro, substituirExistente);
+
+            for (AdpRelatorioParser.Admissao admissao : relatorio.admissoes()) {
+                FuncionarioImportRef funcionario = snapshot.funcionario(admissao.idExterno());
+                if (funcionario == null) {
+                    logger.warn("Funcionário não encontrado: {}", admissao.identificador());
+                    funcionariosNaoEncontrados.add(admissao.identificador());
+                } else {
+                    logger.debug("Funcionário encontrado: {} - {}", funcionario.idExterno(), funcionario.nome());
                 }
+            }
 
-                Matcher totalLiquidoMatcher = TOTAL_LIQUIDO_PATTERN.matcher(linha);
-                if (totalLiquidoMatcher.find()) {
-                    totalLiquido = parseBigDecimal(totalLiquidoMatcher.group(1));
-                    logger.info("Total Líquido identificado: {}", totalLiquido);
-                }
+            for (AdpRelatorioParser.Lancamento lancamento : relatorio.lancamentos()) {
+                resolverLancamento(lancamento, snapshot, dataInicio, dataFim, linhas, conflitosCpfCompetencia);
             }
         } catch (Exception e) {
             logger.error("Erro durante importação: {}", e.getMessage(), e);
@@ -229,15 +172,17 @@ public class ImportacaoFolhaAdpService {
         }
 
         FolhaImportacaoResumoCommand resumo = null;
-        if (totalEmpregados != null && totalEncargos != null && totalPagamentos != null
-            && totalDescontos != null && totalLiquido != null) {
+        if (relatorio.totalEmpregados() != null && relatorio.totalEncargos() != null
+            && relatorio.totalPagamentos() != null && relatorio.totalDescontos() != null
+            && relatorio.totalLiquido() != null) {
             resumo = new FolhaImportacaoResumoCommand(
-                totalEmpregados, totalEncargos, totalPagamentos, totalDescontos, totalLiquido);
+                relatorio.totalEmpregados(), relatorio.totalEncargos(), relatorio.totalPagamentos(),
+                relatorio.totalDescontos(), relatorio.totalLiquido());
         } else {
             logger.warn("Dados de resumo incompletos - não foi possível salvar o resumo");
         }
 
-        FolhaImportacaoCommand command = new FolhaImportacaoCommand(
+        return new FolhaImportacaoCommand(
             dataInicio,
             dataFim,
             isDecimoTerceiro,
@@ -245,14 +190,21 @@ public class ImportacaoFolhaAdpService {
             linhas,
             resumo
         );
+    }
 
+    /** Fase de persistência: grava linhas e resumo da competência. */
+    List<FolhaPagamentoDTO> persistir(FolhaImportacaoCommand command) {
         List<FolhaPagamentoDTO> persistidas = folhaImportacaoPort.persistirImportacao(command);
         logger.info("Importação de folha ADP concluída - Registros processados: {}", persistidas.size());
+        return persistidas;
+    }
 
+    /** Fase de processamento: reconstrói as fichas da competência a partir das linhas importadas. */
+    ProcessamentoResultadoDTO processar(LocalDate dataInicio, LocalDate dataFim, boolean decimoTerceiro) {
         ProcessamentoResultadoDTO processamento;
         try {
             processamento = folhaProcessamentoPort.processar(
-                dataInicio, dataFim, isDecimoTerceiro, false);
+                dataInicio, dataFim, decimoTerceiro, false);
         } catch (FolhaProcessamentoFalhaException e) {
             throw e;
         } catch (RuntimeException e) {
@@ -261,185 +213,52 @@ public class ImportacaoFolhaAdpService {
         }
         logger.info("Processamento de ficha concluído - Fichas: {}, Linhas: {}",
             processamento.totalFichas(), processamento.totalLinhas());
-
-        return new ImportacaoFolhaAdpResult(persistidas, processamento);
+        return processamento;
     }
 
-    @SuppressWarnings("java:S107") // ADP line parser requires positional params; refactor tracked in CONCERNS
-    private void processarRubrica(
-            String linha, int inicioRubrica, int fimRubrica, int inicioValores, int fimValores,
-            FuncionarioImportRef funcionario, LocalDate dataInicio, LocalDate dataFim,
-            List<FolhaImportacaoLinhaCommand> linhas, Set<String> conflitosCpfCompetencia,
-            boolean substituirExistente, boolean decimoTerceiro) {
-
+    private void resolverLancamento(
+            AdpRelatorioParser.Lancamento lancamento, ImportacaoAdpSnapshot snapshot,
+            LocalDate dataInicio, LocalDate dataFim,
+            List<FolhaImportacaoLinhaCommand> linhas, Set<String> conflitosCpfCompetencia) {
+        FuncionarioImportRef funcionario = snapshot.funcionario(lancamento.idExternoFuncionario());
         if (funcionario == null) {
             logger.warn("Funcionário não encontrado, pulando rubrica");
             return;
         }
 
-        try {
-            if (linha.length() < fimValores) {
-                logger.warn("Linha muito curta para processar rubrica: comprimento={}, necessário={}",
-                           linha.length(), fimValores);
-                return;
-            }
-
-            String rubricaCompleta = linha.substring(inicioRubrica, fimRubrica).trim();
-            String valoresCompletos = linha.substring(inicioValores, fimValores).trim();
-
-            if (rubricaCompleta.isEmpty() || valoresCompletos.isEmpty()) {
-                logger.debug("Rubrica ou valores vazios, pulando: rubrica='{}', valores='{}'",
-                           rubricaCompleta, valoresCompletos);
-                return;
-            }
-
-            logger.debug("Processando rubrica - Linha: '{}', Rubrica: '{}', Valores: '{}'",
-                       linha, rubricaCompleta, valoresCompletos);
-
-            String[] partesRubrica = rubricaCompleta.split("\\s+", 2);
-            if (partesRubrica.length < 2) {
-                logger.warn("Formato de rubrica inválido: '{}'", rubricaCompleta);
-                return;
-            }
-
-            String codigoRubrica = partesRubrica[0].trim();
-            String descricaoRubrica = partesRubrica[1].trim();
-
-            Pattern pattern = Pattern.compile("([\\d.,]+)\\s+([\\d.,]+)\\s+([\\d.,]+[+-]?)");
-            Matcher matcher = pattern.matcher(valoresCompletos);
-
-            if (!matcher.find()) {
-                logger.error("Não foi possível extrair valores da string: '{}'", valoresCompletos);
-                return;
-            }
-
-            String quantidade = matcher.group(1);
-            String baseCalculo = matcher.group(2);
-            String valor = matcher.group(3);
-
-            BigDecimal quantidadeBD = parseBigDecimal(quantidade);
-            BigDecimal baseCalculoBD = parseBigDecimal(baseCalculo);
-            BigDecimal valorBD = parseBigDecimal(valor);
-
-            String tipo = valor.endsWith("+") ? "+" : valor.endsWith("-") ? "-" : "";
-            String tipoRubricaDescricao = determinarTipoRubricaDescricao(tipo);
-
-            logger.debug("Processando rubrica: Código={}, Descrição={}, Valor={}, Funcionário={}",
-                       codigoRubrica, descricaoRubrica, valorBD, funcionario.nome());
-
-            RubricaImportRef rubrica = cadastrosImportLookupPort.findOrCreateRubrica(
-                codigoRubrica, descricaoRubrica, tipoRubricaDescricao);
+        RubricaImportRef rubrica = snapshot.rubrica(lancamento.codigo());
+        if (rubrica == null) {
+            // falha ao criar a rubrica já registrada no carregamento do snapshot
+            return;
+        }
 
-            if (folhaConsultaPort.existsAtivaByCpfAndCompetenciaExcludingFuncionario(
-                    funcionario.cpf(), funcionario.id(), dataInicio, dataFim, decimoTerceiro)) {
-                String msg = String.format(
-                    "CPF %s já possui folha ativa no período %s a %s (funcionário atual: %s, matrícula %s)",
-                    funcionario.cpf(), dataInicio, dataFim, funcionario.nome(), funcionario.idExterno());
-                conflitosCpfCompetencia.add(msg);
+        if (snapshot.conflitoCpf(funcionario)) {
+            String msg = String.format(
+                "CPF %s já possui folha ativa no período %s a %s (funcionário atual: %s, matrícula %s)",
+                funcionario.cpf(), dataInicio, dataFim, funcionario.nome(), funcionario.idExterno());
+            if (conflitosCpfCompetencia.add(msg)) {
                 logger.warn(msg);
-                return;
             }
-
-            // Em substituição, as linhas antigas serão apagadas — não pular por existência prévia.
-            boolean jaExiste = !substituirExistente
-                && folhaConsultaPort.existsByFuncionarioIdAndRubricaIdAndPeriodo(
-                    funcionario.id(), rubrica.id(), dataInicio, dataFim, decimoTerceiro);
-
-            if (!jaExiste) {
-                linhas.add(new FolhaImportacaoLinhaCommand(
-                    funcionario.id(),
-                    rubrica.id(),
-                    funcionario.cargoId(),
-                    funcionario.centroCustoId(),
-                    funcionario.linhaNegocioId(),
-                    valorBD,
-                    quantidadeBD,
-                    baseCalculoBD
-                ));
-
-                logger.debug("Linha de importação criada: Funcionário={}, Rubrica={}, Valor={}",
-                           funcionario.nome(), rubrica.codigo(), valorBD);
-            } else {
-                logger.debug("Registro já existe para funcionário={}, rubrica={}, período={}",
-                           funcionario.nome(), rubrica.codigo(), dataInicio);
-            }
-        } catch (StringIndexOutOfBoundsException e) {
-            logger.error("Erro de índice ao processar rubrica: {} - Linha: '{}' (comprimento: {})",
-                       e.getMessage(), linha, linha.length());
-        } catch (Exception e) {
-            logger.error("Erro ao processar rubrica: {} - Linha: '{}'", e.getMessage(), linha);
-        }
-    }
-
-    private BigDecimal parseBigDecimal(String valor) {
-        if (valor == null || valor.trim().isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        String valorLimpo = valor.trim()
-            .replace("+", "")
-            .replace("-", "")
-            .replace(".", "")
-            .replace(",", ".")
-            .trim();
-
-        if (valorLimpo.isEmpty() || valorLimpo.equals(".")) {
-            logger.warn("Valor vazio ou inválido após limpeza: '{}'", valor);
-            return BigDecimal.ZERO;
-        }
-
-        try {
-            return new BigDecimal(valorLimpo);
-        } catch (NumberFormatException e) {
-            logger.error("Erro ao converter valor: '{}' -> '{}' - Erro: {}", valor, valorLimpo, e.getMessage());
-            return BigDecimal.ZERO;
-        }
-    }
-
-    private String determinarTipoRubricaDescricao(String tipo) {
-        if (tipo == null || tipo.isEmpty()) {
-            return "INFORMATIVO";
-        }
-        if ("+".equals(tipo)) {
-            return "PROVENTO";
-        }
-        if ("-".equals(tipo)) {
-            return "DESCONTO";
+            return;
         }
-        return "INFORMATIVO";
-    }
-
-    private LocalDate[] extrairPeriodoCompetencia(MultipartFile arquivo) throws IOException {
-        LocalDate dataInicio = LocalDate.now(clock);
-        LocalDate dataFim = LocalDate.now(clock);
 
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(arquivo.getInputStream(), Charset.forName("WINDOWS-1252")))) {
-
-            while (br.ready()) {
-                String linha = br.readLine();
-
-                if (linha.contains("Competência:")) {
-                    try {
-                        String[] partes = linha.split("Competência:\\s*");
-                        if (partes.length > 1) {
-                            String periodoStr = partes[1].trim();
-                            String[] datas = periodoStr.split("\\s+a\\s+");
-                            if (datas.length == 2) {
-                                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-                                dataInicio = LocalDate.parse(datas[0].trim(), formatter);
-                                dataFim = LocalDate.parse(datas[1].trim(), formatter);
-                                logger.info("Período extraído do arquivo: {} a {}", dataInicio, dataFim);
-                                break;
-                            }
-                        }
-                    } catch (Exception e) {
-                        logger.warn("Erro ao extrair período de competência: {}", e.getMessage());
-                    }
-                }
-            }
+        if (snapshot.jaExiste(funcionario.id(), rubrica.id())) {
+            logger.debug("Registro já existe para funcionário={}, rubrica={}, período={}",
+                       funcionario.nome(), rubrica.codigo(), dataInicio);
+            return;
         }
 
-        return new LocalDate[]{dataInicio, dataFim};
+        linhas.add(new FolhaImportacaoLinhaCommand(
+            funcionario.id(),
+            rubrica.id(),
+            funcionario.cargoId(),
+            funcionario.centroCustoId(),
+            funcionario.linhaNegocioId(),
+            lancamento.valor(),
+            lancamento.quantidade(),
+            lancamento.baseCalculo()
+        ));
+        logger.debug("Linha de importação criada: Funcionário={}, Rubrica={}, Valor={}",
+                   funcionario.nome(), rubrica.codigo(), lancamento.valor());
     }
 }
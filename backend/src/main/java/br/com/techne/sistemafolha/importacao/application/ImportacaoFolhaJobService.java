@@ -0,0 +1,223 @@
+package br.com.techne.sistemafolha.importacao.application;
+
+import br.com.techne.sistemafolha.importacao.api.ImportacaoFolhaJobDTO;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoFolhaJob;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobEstadoInvalidoException;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobNotFoundException;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobStatus;
+import br.com.techne.sistemafolha.importacao.infrastructure.ImportacaoFolhaJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Ciclo de vida das importações ADP assíncronas: o upload vira um {@link ImportacaoFolhaJob} executado por
+ * {@link ImportacaoFolhaJobWorker} após o commit, e o cliente acompanha fase e progresso por polling.
+ * Jobs sem atualização há mais de {@code importacao.jobs.stale-minutos} — reinício da aplicação ou fila
+ * cheia; o worker renova a marca enquanto executa — são reenfileirados na inicialização e na consulta, até
+ * {@code max-tentativas}. A reivindicação é um UPDATE condicional, então só uma consulta ou instância reenfileira.
+ */
+@Service
+@Slf4j
+public class ImportacaoFolhaJobService {
+
+    static final String ERRO_TENTATIVAS_ESGOTADAS =
+        "Importação interrompida repetidas vezes — tentativas esgotadas";
+
+    private static final EnumSet<ImportacaoJobStatus> STATUS_ATIVOS =
+        EnumSet.of(ImportacaoJobStatus.PENDENTE, ImportacaoJobStatus.EM_ANDAMENTO);
+
+    private final ImportacaoFolhaJobRepository jobRepository;
+    private final ImportacaoFolhaJobWorker worker;
+    private final ImportacaoJobProperties properties;
+    private final Clock clock;
+
+    public ImportacaoFolhaJobService(
+            ImportacaoFolhaJobRepository jobRepository,
+            ImportacaoFolhaJobWorker worker,
+            ImportacaoJobProperties properties,
+            Clock clock) {
+        this.jobRepository = jobRepository;
+        this.worker = worker;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Transactional
+    public ImportacaoFolhaJobDTO criar(
+            String login, MultipartFile arquivo, Boolean decimoTerceiro, Boolean confirmarSubstituicao)
+            throws IOException {
+        validarArquivo(arquivo);
+
+        ImportacaoFolhaJob job = new ImportacaoFolhaJob();
+        job.setUsuarioLogin(login);
+        job.setNomeArquivo(arquivo.getOriginalFilename());
+        job.setTamanhoBytes(arquivo.getSize());
+        job.setConteudo(arquivo.getBytes());
+        job.setDecimoTerceiro(decimoTerceiro);
+        job.setConfirmarSubstituicao(Boolean.TRUE.equals(confirmarSubstituicao));
+        job.setStatus(ImportacaoJobStatus.PENDENTE);
+        job.setDataAtualizacao(LocalDateTime.now(clock));
+        job = jobRepository.save(job);
+
+        log.info("Importação ADP enfileirada job={} login={} arquivo={} tamanho={} bytes",
+            job.getId(), login, job.getNomeArquivo(), job.getTamanhoBytes());
+        enfileirarAposCommit(job.getId());
+        return toDto(job);
+    }
+
+    @Transactional
+    public ImportacaoFolhaJobDTO consultar(String login, Long id) {
+        ImportacaoFolhaJob job = buscar(login, id);
+        if (isInterrompido(job)) {
+            recuperar(job);
+        }
+        return toDto(job);
+    }
+
+    /**
+     * Reexecuta um job que terminou em erro — por exemplo, depois de cadastrar os funcionários ausentes.
+     * Se as linhas já tinham sido gravadas, só o processamento das fichas é refeito. {@code confirmarSubstituicao}
+     * informado substitui o do envio — é como um job parado no conflito de folha existente segue adiante.
+     */
+    @Transactional
+    public ImportacaoFolhaJobDTO retomar(String login, Long id, Boolean confirmarSubstituicao) {
+        ImportacaoFolhaJob job = buscar(login, id);
+        if (job.getStatus() != ImportacaoJobStatus.ERRO || (!job.isPersistido() && job.getConteudo() == null)) {
+            throw new ImportacaoJobEstadoInvalidoException(job.getStatus());
+        }
+        job.setStatus(ImportacaoJobStatus.PENDENTE);
+        job.setErro(null);
+        job.setConflito(false);
+        job.setTentativas(0);
+        job.setDataConclusao(null);
+        if (confirmarSubstituicao != null) {
+            job.setConfirmarSubstituicao(confirmarSubstituicao);
+        }
+        job.setDataAtualizacao(LocalDateTime.now(clock));
+        job = jobRepository.save(job);
+
+        log.info("Importação job={} retomada login={} persistido={}", id, login, job.isPersistido());
+        enfileirarAposCommit(job.getId());
+        return toDto(job);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void recuperarInterrompidos() {
+        List<ImportacaoFolhaJob> interrompidos = jobRepository.findByStatusInAndDataAtualizacaoBefore(
+            STATUS_ATIVOS, limiteInterrupcao());
+        if (!interrompidos.isEmpty()) {
+            log.info("Recuperando {} importação(ões) interrompida(s)", interrompidos.size());
+        }
+        interrompidos.forEach(this::recuperar);
+    }
+
+    private void recuperar(ImportacaoFolhaJob job) {
+        LocalDateTime agora = LocalDateTime.now(clock);
+        if (job.getTentativas() >= properties.getMaxTentativas()) {
+            log.warn("Importação job={} interrompida após {} tentativas — marcando ERRO",
+                job.getId(), job.getTentativas());
+            job.setStatus(ImportacaoJobStatus.ERRO);
+            job.setErro(ERRO_TENTATIVAS_ESGOTADAS);
+            job.setDataConclusao(agora);
+            job.setDataAtualizacao(agora);
+            jobRepository.save(job);
+            return;
+        }
+        // renova a marca de atualização só se ainda vencida: consultas seguidas ou outra instância não reenfileiram
+        if (jobRepository.reivindicarInterrompido(job.getId(), STATUS_ATIVOS, limiteInterrupcao(), agora) == 0) {
+            log.debug("Importação job={} já reivindicada por outra recuperação", job.getId());
+            return;
+        }
+        log.info("Importação job={} interrompida na fase {} — reenfileirando (persistido={})",
+            job.getId(), job.getFase(), job.isPersistido());
+        job.setDataAtualizacao(agora);
+        enfileirarAposCommit(job.getId());
+    }
+
+    private boolean isInterrompido(ImportacaoFolhaJob job) {
+        return STATUS_ATIVOS.contains(job.getStatus())
+            && job.getDataAtualizacao() != null
+            && job.getDataAtualizacao().isBefore(limiteInterrupcao());
+    }
+
+    private LocalDateTime limiteInterrupcao() {
+        return LocalDateTime.now(clock).minusMinutes(properties.getStaleMinutos());
+    }
+
+    private void enfileirarAposCommit(Long jobId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enfileirar(jobId);
+                }
+            });
+        } else {
+            enfileirar(jobId);
+        }
+    }
+
+    private void enfileirar(Long jobId) {
+        try {
+            worker.executar(jobId);
+        } catch (TaskRejectedException e) {
+            // o job continua PENDENTE e é reenfileirado pela recuperação de interrompidos
+            log.warn("Fila de importação cheia — job={} aguardará recuperação", jobId);
+        }
+    }
+
+    private ImportacaoFolhaJob buscar(String login, Long id) {
+        return jobRepository.findByIdAndUsuarioLogin(id, login)
+            .orElseThrow(() -> new ImportacaoJobNotFoundException(id));
+    }
+
+    private void validarArquivo(MultipartFile arquivo) {
+        if (arquivo.isEmpty()) {
+            throw new IllegalArgumentException("Arquivo vazio");
+        }
+        String nomeArquivo = arquivo.getOriginalFilename();
+        if (nomeArquivo == null || nomeArquivo.isBlank()) {
+            throw new IllegalArgumentException("Nome do arquivo não informado");
+        }
+        if (!nomeArquivo.toLowerCase().endsWith(".txt")) {
+            throw new IllegalArgumentException("Formato de arquivo inválido. Use apenas arquivos .txt");
+        }
+    }
+
+    private ImportacaoFolhaJobDTO toDto(ImportacaoFolhaJob job) {
+        return new ImportacaoFolhaJobDTO(
+            job.getId(),
+            job.getNomeArquivo(),
+            job.getTamanhoBytes(),
+            job.getStatus(),
+            job.getFase(),
+            job.getCompetenciaInicio(),
+            job.getCompetenciaFim(),
+            job.getDecimoTerceiro(),
+            job.getLinhasLidas(),
+            job.getLinhasImportadas(),
+            job.getFichasProcessadas(),
+            job.getLinhasProcessadas(),
+            job.getTentativas(),
+            Boolean.TRUE.equals(job.getConflito()),
+            job.getErro(),
+            job.getDataCriacao(),
+            job.getDataAtualizacao(),
+            job.getDataConclusao()
+        );
+    }
+}
@@ -0,0 +1,219 @@
+package br.com.techne.sistemafolha.importacao.application;
+
+import br.com.techne.sistemafolha.folha.api.FolhaPagamentoDTO;
+import br.com.techne.sistemafolha.folha.api.ProcessamentoResultadoDTO;
+import br.com.techne.sistemafolha.folha.domain.FolhaDuplicadaException;
+import br.com.techne.sistemafolha.folha.domain.FolhaProcessamentoFalhaException;
+import br.com.techne.sistemafolha.folha.port.FolhaImportacaoCommand;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoFolhaJob;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobFase;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobStatus;
+import br.com.techne.sistemafolha.importacao.infrastructure.ImportacaoFolhaJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Executa um {@link ImportacaoFolhaJob} fase a fase. Leitura e validação não gravam nada fora do job; validação
+ * e persistência rodam numa única transação, que também grava {@code dataPersistencia} — uma interrupção antes
+ * desse commit é desfeita pelo banco e a retomada recomeça da leitura, depois dele só o processamento das
+ * fichas (idempotente por competência) é refeito. Enquanto executa, o worker renova {@code dataAtualizacao} dos
+ * seus jobs periodicamente, então só um job de instância que parou fica tempo suficiente sem atualização para ser
+ * recuperado.
+ */
+@Service
+@Slf4j
+public class ImportacaoFolhaJobWorker {
+
+    static final int TAMANHO_MAXIMO_ERRO = 1000;
+
+    private final ImportacaoFolhaJobRepository jobRepository;
+    private final ImportacaoFolhaAdpService importacaoFolhaAdpService;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate progressoTemplate;
+
+    private final Set<Long> emExecucao = ConcurrentHashMap.newKeySet();
+
+    public ImportacaoFolhaJobWorker(
+            ImportacaoFolhaJobRepository jobRepository,
+            ImportacaoFolhaAdpService importacaoFolhaAdpService,
+            Clock clock,
+            PlatformTransactionManager transactionManager) {
+        this.jobRepository = jobRepository;
+        this.importacaoFolhaAdpService = importacaoFolhaAdpService;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.progressoTemplate = new TransactionTemplate(transactionManager);
+        this.progressoTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Async("importacaoExecutor")
+    public CompletableFuture<Void> executar(Long jobId) {
+        ImportacaoFolhaJob job = transactionTemplate.execute(status -> iniciar(jobId));
+        if (job == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        log.info("Iniciando importação job={} arquivo={} tentativa={} persistido={}",
+            jobId, job.getNomeArquivo(), job.getTentativas(), job.isPersistido());
+        emExecucao.add(jobId);
+        try {
+            if (!job.isPersistido()) {
+                job = importarLinhas(job);
+            }
+            processarFichas(job);
+        } catch (FolhaDuplicadaException e) {
+            log.info("Importação job={} aguardando confirmação de substituição: {}", jobId, e.getMessage());
+            marcarErro(jobId, e.getMessage(), true);
+        } catch (FolhaProcessamentoFalhaException e) {
+            log.error("Falha no processamento das fichas do job={}", jobId, e);
+            marcarErro(jobId, "Falha no processamento da ficha: " + detalhe(e), false);
+        } catch (Exception e) {
+            log.error("Erro na importação job={}", jobId, e);
+            marcarErro(jobId, "Erro ao importar arquivo ADP: " + detalhe(e), false);
+        } finally {
+            emExecucao.remove(jobId);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Scheduled(fixedDelayString = "${importacao.jobs.intervalo-heartbeat-ms:60000}")
+    public void renovarHeartbeat() {
+        if (emExecucao.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(emExecucao);
+        LocalDateTime agora = LocalDateTime.now(clock);
+        try {
+            transactionTemplate.executeWithoutResult(status -> jobRepository.renovarAtualizacao(ids, agora));
+        } catch (Exception e) {
+            log.error("Erro ao renovar atualização das importações em execução {}", ids, e);
+        }
+    }
+
+    private ImportacaoFolhaJob iniciar(Long jobId) {
+        ImportacaoFolhaJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            log.warn("Importação job={} não encontrada — nada a executar", jobId);
+            return null;
+        }
+        if (job.getStatus() == ImportacaoJobStatus.CONCLUIDO || job.getStatus() == ImportacaoJobStatus.ERRO) {
+            log.warn("Importação job={} já finalizada com status {} — ignorando", jobId, job.getStatus());
+            return null;
+        }
+        job.setStatus(ImportacaoJobStatus.EM_ANDAMENTO);
+        job.setTentativas(job.getTentativas() + 1);
+        job.setErro(null);
+        job.setDataAtualizacao(LocalDateTime.now(clock));
+        return jobRepository.save(job);
+    }
+
+    private ImportacaoFolhaJob importarLinhas(ImportacaoFolhaJob job) {
+        Long jobId = job.getId();
+        registrarProgresso(jobId, j -> j.setFase(ImportacaoJobFase.LEITURA));
+        AdpRelatorioParser.Relatorio relatorio =
+            importacaoFolhaAdpService.lerRelatorio(new ByteArrayResource(job.getConteudo()));
+
+        registrarProgresso(jobId, j -> {
+            j.setFase(ImportacaoJobFase.VALIDACAO);
+            j.setLinhasLidas(relatorio.lancamentos().size());
+            j.setCompetenciaInicio(relatorio.competenciaInicio());
+            j.setCompetenciaFim(relatorio.competenciaFim());
+        });
+
+        return transactionTemplate.execute(status -> {
+            FolhaImportacaoCommand command = importacaoFolhaAdpService.validar(
+                relatorio, job.getDecimoTerceiro(), job.getConfirmarSubstituicao());
+            registrarProgresso(jobId, j -> j.setFase(ImportacaoJobFase.PERSISTENCIA));
+
+            ImportacaoFolhaJob bloqueado = jobRepository.findByIdForUpdate(jobId).orElseThrow();
+            if (bloqueado.isPersistido()) {
+                // outra execução do mesmo job gravou as linhas enquanto esta validava
+                log.warn("Importação job={} já persistida por outra execução — descartando esta", jobId);
+                status.setRollbackOnly();
+                return bloqueado;
+            }
+
+            List<FolhaPagamentoDTO> persistidas = importacaoFolhaAdpService.persistir(command);
+            LocalDateTime agora = LocalDateTime.now(clock);
+            bloqueado.setCompetenciaInicio(command.competenciaInicio());
+            bloqueado.setCompetenciaFim(command.competenciaFim());
+            bloqueado.setDecimoTerceiro(command.decimoTerceiro());
+            bloqueado.setLinhasImportadas(persistidas.size());
+            bloqueado.setFase(ImportacaoJobFase.PROCESSAMENTO);
+            bloqueado.setDataPersistencia(agora);
+            bloqueado.setDataAtualizacao(agora);
+            return jobRepository.save(bloqueado);
+        });
+    }
+
+    private void processarFichas(ImportacaoFolhaJob job) {
+        registrarProgresso(job.getId(), j -> j.setFase(ImportacaoJobFase.PROCESSAMENTO));
+        ProcessamentoResultadoDTO resultado = importacaoFolhaAdpService.processar(
+            job.getCompetenciaInicio(), job.getCompetenciaFim(), Boolean.TRUE.equals(job.getDecimoTerceiro()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ImportacaoFolhaJob atual = jobRepository.findById(job.getId()).orElseThrow();
+            LocalDateTime agora = LocalDateTime.now(clock);
+            atual.setStatus(ImportacaoJobStatus.CONCLUIDO);
+            atual.setFichasProcessadas(resultado.totalFichas());
+            atual.setLinhasProcessadas(resultado.totalLinhas());
+            atual.setConteudo(null);
+            atual.setDataAtualizacao(agora);
+            atual.setDataConclusao(agora);
+            jobRepository.save(atual);
+        });
+        log.info("Importação job={} concluída - Linhas importadas: {}, Fichas: {}",
+            job.getId(), job.getLinhasImportadas(), resultado.totalFichas());
+    }
+
+    /** Progresso em transação própria: fica visível ao polling mesmo com a transação de persistência aberta. */
+    private void registrarProgresso(Long jobId, Consumer<ImportacaoFolhaJob> alteracao) {
+        progressoTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+            alteracao.accept(job);
+            if (job.isPersistido()) {
+                // execução concorrente atrasada não faz a fase regredir depois do commit das linhas
+                job.setFase(ImportacaoJobFase.PROCESSAMENTO);
+            }
+            job.setDataAtualizacao(LocalDateTime.now(clock));
+            jobRepository.save(job);
+        }));
+    }
+
+    private void marcarErro(Long jobId, String mensagem, boolean conflito) {
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+            LocalDateTime agora = LocalDateTime.now(clock);
+            job.setStatus(ImportacaoJobStatus.ERRO);
+            job.setErro(truncarErro(mensagem));
+            job.setConflito(conflito);
+            job.setDataAtualizacao(agora);
+            job.setDataConclusao(agora);
+            jobRepository.save(job);
+        }));
+    }
+
+    private static String detalhe(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    static String truncarErro(String mensagem) {
+        if (mensagem == null) {
+            return "Erro ao importar arquivo ADP";
+        }
+        return mensagem.length() <= TAMANHO_MAXIMO_ERRO ? mensagem : mensagem.substring(0, TAMANHO_MAXIMO_ERRO);
+    }
+}
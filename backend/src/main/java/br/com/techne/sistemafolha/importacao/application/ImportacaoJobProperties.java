@@ -0,0 +1,17 @@
+package br.com.techne.sistemafolha.importacao.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "importacao.jobs")
+public class ImportacaoJobProperties {
+
+    /** Sem atualização de progresso por este tempo, o job é considerado interrompido. */
+    private int staleMinutos = 30;
+    private int maxTentativas = 3;
+}
@@ -0,0 +1,110 @@
+package br.com.techne.sistemafolha.importacao.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Importação ADP executada em segundo plano. O arquivo fica gravado no próprio job para que uma execução
+ * interrompida possa ser retomada; {@code dataPersistencia} marca o commit das linhas importadas — a partir
+ * dele a retomada só refaz o processamento das fichas.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "importacao_folha_job")
+public class ImportacaoFolhaJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "usuario_login", nullable = false, length = 100)
+    private String usuarioLogin;
+
+    @Column(name = "nome_arquivo", nullable = false)
+    private String nomeArquivo;
+
+    @Column(name = "tamanho_bytes", nullable = false)
+    private Long tamanhoBytes;
+
+    @ToString.Exclude
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    @Column(name = "conteudo", columnDefinition = "bytea")
+    private byte[] conteudo;
+
+    @Column(name = "decimo_terceiro")
+    private Boolean decimoTerceiro;
+
+    @Column(name = "confirmar_substituicao", nullable = false)
+    private Boolean confirmarSubstituicao = false;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportacaoJobStatus status = ImportacaoJobStatus.PENDENTE;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ImportacaoJobFase fase;
+
+    @Column(name = "competencia_inicio")
+    private LocalDate competenciaInicio;
+
+    @Column(name = "competencia_fim")
+    private LocalDate competenciaFim;
+
+    @Column(name = "linhas_lidas")
+    private Integer linhasLidas;
+
+    @Column(name = "linhas_importadas")
+    private Integer linhasImportadas;
+
+    @Column(name = "fichas_processadas")
+    private Integer fichasProcessadas;
+
+    @Column(name = "linhas_processadas")
+    private Integer linhasProcessadas;
+
+    @Column(nullable = false)
+    private Integer tentativas = 0;
+
+    @Column(nullable = false)
+    private Boolean conflito = false;
+
+    @Column(length = 1000)
+    private String erro;
+
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_atualizacao", nullable = false)
+    private LocalDateTime dataAtualizacao;
+
+    @Column(name = "data_persistencia")
+    private LocalDateTime dataPersistencia;
+
+    @Column(name = "data_conclusao")
+    private LocalDateTime dataConclusao;
+
+    @PrePersist
+    protected void onCreate() {
+        dataCriacao = LocalDateTime.now(Clock.systemDefaultZone());
+        if (dataAtualizacao == null) {
+            dataAtualizacao = dataCriacao;
+        }
+        if (status == null) {
+            status = ImportacaoJobStatus.PENDENTE;
+        }
+    }
+
+    public boolean isPersistido() {
+        return dataPersistencia != null;
+    }
+}
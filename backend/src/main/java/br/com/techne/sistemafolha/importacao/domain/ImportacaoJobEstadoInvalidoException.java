@@ -0,0 +1,8 @@
+package br.com.techne.sistemafolha.importacao.domain;
+
+public class ImportacaoJobEstadoInvalidoException extends RuntimeException {
+
+    public ImportacaoJobEstadoInvalidoException(ImportacaoJobStatus status) {
+        super("Importação não pode ser retomada (status: " + status + ")");
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.techne.sistemafolha.importacao.domain;
+
+public class ImportacaoJobNotFoundException extends RuntimeException {
+
+    public ImportacaoJobNotFoundException(Long id) {
+        super("Importação não encontrada com ID: " + id);
+    }
+}
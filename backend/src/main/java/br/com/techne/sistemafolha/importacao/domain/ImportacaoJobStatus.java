@@ -0,0 +1,8 @@
+package br.com.techne.sistemafolha.importacao.domain;
+
+public enum ImportacaoJobStatus {
+    PENDENTE,
+    EM_ANDAMENTO,
+    CONCLUIDO,
+    ERRO
+}
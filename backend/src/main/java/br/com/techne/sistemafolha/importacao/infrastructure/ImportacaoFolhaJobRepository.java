@@ -0,0 +1,58 @@
+package br.com.techne.sistemafolha.importacao.infrastructure;
+
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoFolhaJob;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImportacaoFolhaJobRepository extends JpaRepository<ImportacaoFolhaJob, Long> {
+
+    Optional<ImportacaoFolhaJob> findByIdAndUsuarioLogin(Long id, String usuarioLogin);
+
+    List<ImportacaoFolhaJob> findByStatusInAndDataAtualizacaoBefore(
+        Collection<ImportacaoJobStatus> status, LocalDateTime limite);
+
+    /**
+     * Reivindica um job interrompido renovando sua marca de atualização só se ela ainda estiver vencida: entre
+     * consultas e instâncias concorrentes, apenas quem atualizar a linha reenfileira o job.
+     */
+    @Modifying
+    @Query("""
+        UPDATE ImportacaoFolhaJob j
+        SET j.dataAtualizacao = :agora
+        WHERE j.id = :id
+          AND j.status IN :status
+          AND j.dataAtualizacao < :limite
+        """)
+    int reivindicarInterrompido(
+        @Param("id") Long id,
+        @Param("status") Collection<ImportacaoJobStatus> status,
+        @Param("limite") LocalDateTime limite,
+        @Param("agora") LocalDateTime agora);
+
+    /** Sinal de vida dos jobs em execução nesta instância, para que a recuperação não os reenfileire. */
+    @Modifying
+    @Query("""
+        UPDATE ImportacaoFolhaJob j
+        SET j.dataAtualizacao = :agora
+        WHERE j.id IN :ids
+          AND j.status = br.com.techne.sistemafolha.importacao.domain.ImportacaoJobStatus.EM_ANDAMENTO
+        """)
+    int renovarAtualizacao(@Param("ids") Collection<Long> ids, @Param("agora") LocalDateTime agora);
+
+    /** Serializa execuções concorrentes do mesmo job no commit da persistência. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM ImportacaoFolhaJob j WHERE j.id = :id")
+    Optional<ImportacaoFolhaJob> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,92 @@
+package br.com.techne.sistemafolha.organograma.acesso.application;
+
+import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
+import br.com.techne.sistemafolha.organograma.acesso.port.ContextoAcessoAlteradoEvent;
+import br.com.techne.sistemafolha.organograma.api.ContextoAcessoCacheEstatisticasDTO;
+import br.com.techne.sistemafolha.shared.logging.DomainLogging;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Cache em memória do {@link AccessContextDTO} por usuário. A invalidação ocorre após o commit de um
+ * {@link ContextoAcessoAlteradoEvent}; um cálculo iniciado antes dela não é gravado (geração), para que uma
+ * leitura concorrente do estado antigo não volte ao cache depois da invalidação. A verificação da geração e a
+ * gravação acontecem no mesmo {@code compute}, que a remoção da invalidação aguarda. O evento só alcança a JVM
+ * que o publicou: o TTL limita por quanto tempo outra instância serve um contexto desatualizado. TTL zero
+ * desliga o cache.
+ */
+@Component
+public class ContextoAcessoCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContextoAcessoCache.class);
+    private static final String DOMAIN_PREFIX = DomainLogging.prefix("organograma");
+
+    private final Clock clock;
+    private final Duration ttl;
+    private final ConcurrentHashMap<Long, Entrada> contextos = new ConcurrentHashMap<>();
+    private final AtomicLong geracao = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidacoes = new LongAdder();
+
+    private record Entrada(AccessContextDTO contexto, Instant expiraEm) {
+    }
+
+    public ContextoAcessoCache(
+            Clock clock,
+            @Value("${organograma.acesso.cache.ttl-segundos:300}") long ttlSegundos) {
+        this.clock = clock;
+        this.ttl = Duration.ofSeconds(ttlSegundos);
+    }
+
+    public AccessContextDTO obter(Long usuarioId, Function<Long, AccessContextDTO> resolver) {
+        if (usuarioId == null) {
+            return resolver.apply(null);
+        }
+        Instant agora = Instant.now(clock);
+        Entrada emCache = contextos.get(usuarioId);
+        if (emCache != null && agora.isBefore(emCache.expiraEm())) {
+            hits.increment();
+            return emCache.contexto();
+        }
+        misses.increment();
+        long geracaoInicial = geracao.get();
+        AccessContextDTO contexto = resolver.apply(usuarioId);
+        if (ttl.isZero()) {
+            return contexto;
+        }
+        Entrada nova = new Entrada(contexto, agora.plus(ttl));
+        contextos.compute(usuarioId, (id, atual) -> geracao.get() == geracaoInicial ? nova : atual);
+        return contexto;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContextoAcessoAlterado(ContextoAcessoAlteradoEvent event) {
+        geracao.incrementAndGet();
+        invalidacoes.increment();
+        if (event.usuarioId() == null) {
+            contextos.clear();
+            logger.debug("{}Cache de contexto de acesso invalidado para todos os usuários", DOMAIN_PREFIX);
+        } else {
+            contextos.remove(event.usuarioId());
+            logger.debug("{}Cache de contexto de acesso invalidado para usuário ID: {}",
+                DOMAIN_PREFIX, event.usuarioId());
+        }
+    }
+
+    public ContextoAcessoCacheEstatisticasDTO estatisticas() {
+        return new ContextoAcessoCacheEstatisticasDTO(
+            hits.sum(), misses.sum(), invalidacoes.sum(), contextos.size());
+    }
+}
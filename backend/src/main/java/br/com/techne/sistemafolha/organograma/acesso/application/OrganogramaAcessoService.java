@@ -1,6 +1,5 @@
 package br.com.techne.sistemafolha.organograma.acesso.application;
 
-import br.com.techne.sistemafolha.organograma.domain.CentroCustoOrganograma;
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.organograma.domain.FuncionarioOrganograma;
 import br.com.techne.sistemafolha.organograma.domain.NoOrganograma;
@@ -13,11 +12,12 @@ import br.com.techne.sistemafolha.organograma.infrastructure.FuncionarioOrganogr
 import br.com.techne.sistemafolha.organograma.infrastructure.NoOrganogramaRepository;
 import br.com.techne.sistemafolha.auth.port.UsuarioLookupPort;
 import br.com.techne.sistemafolha.shared.logging.DomainLogging;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -38,9 +38,11 @@ import java.util.Set;
  *
  * <p>Permissões de workspace dedicadas (ex.: {@code WORKSPACE_IA_CRIAR} para propostas IA)
  * são strings em {@code usuario_permissoes} — ver {@link br.com.techne.sistemafolha.workspace.domain.WorkspacePermissions}.
+ *
+ * <p>O contexto de cada usuário fica em {@link ContextoAcessoCache}; só o cálculo (cache miss) abre
+ * transação e percorre a árvore.
  */
 @Service
-@RequiredArgsConstructor
 public class OrganogramaAcessoService implements OrganogramaAcessoPort {
 
     private static final Logger logger = LoggerFactory.getLogger(OrganogramaAcessoService.class);
@@ -52,15 +54,31 @@ public class OrganogramaAcessoService implements OrganogramaAcessoPort {
     private final FuncionarioOrganogramaRepository funcionarioOrganogramaRepository;
     private final NoOrganogramaRepository noOrganogramaRepository;
     private final CentroCustoOrganogramaRepository centroCustoOrganogramaRepository;
+    private final ContextoAcessoCache contextoAcessoCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrganogramaAcessoService(
+            UsuarioLookupPort usuarioLookupPort,
+            FuncionarioOrganogramaRepository funcionarioOrganogramaRepository,
+            NoOrganogramaRepository noOrganogramaRepository,
+            CentroCustoOrganogramaRepository centroCustoOrganogramaRepository,
+            ContextoAcessoCache contextoAcessoCache,
+            PlatformTransactionManager transactionManager) {
+        this.usuarioLookupPort = usuarioLookupPort;
+        this.funcionarioOrganogramaRepository = funcionarioOrganogramaRepository;
+        this.noOrganogramaRepository = noOrganogramaRepository;
+        this.centroCustoOrganogramaRepository = centroCustoOrganogramaRepository;
+        this.contextoAcessoCache = contextoAcessoCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
 
     @Override
-    @Transactional(readOnly = true)
     public Set<Long> obterCentrosCustoAcessiveis(Long usuarioId) {
         return resolverContextoAcesso(usuarioId).centrosCustoIds();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean usuarioPodeAcessarCentroCusto(Long usuarioId, Long centroCustoId) {
         AccessContextDTO contexto = resolverContextoAcesso(usuarioId);
         if (contexto.acessoTotal()) {
@@ -73,12 +91,16 @@ public class OrganogramaAcessoService implements OrganogramaAcessoPort {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public AccessContextDTO obterContextoAcesso(Long usuarioId) {
         return resolverContextoAcesso(usuarioId);
     }
 
     private AccessContextDTO resolverContextoAcesso(Long usuarioId) {
+        return contextoAcessoCache.obter(usuarioId,
+            id -> transactionTemplate.execute(status -> calcularContextoAcesso(id)));
+    }
+
+    private AccessContextDTO calcularContextoAcesso(Long usuarioId) {
         logger.debug("{}Calculando contexto de acesso para usuário ID: {}", DOMAIN_PREFIX, usuarioId);
 
         Usuario usuario = usuarioLookupPort.findById(usuarioId).orElse(null);
@@ -113,8 +135,9 @@ public class OrganogramaAcessoService implements OrganogramaAcessoPort {
         }
 
         NoOrganograma no = vinculos.get(0).getNoOrganograma();
-        Set<Long> centrosAcessiveis = new HashSet<>();
-        coletarCentrosCustoRecursivo(no, centrosAcessiveis);
+        List<Long> nosSubarvore = noOrganogramaRepository.findIdsSubarvoreAtiva(no.getId());
+        Set<Long> centrosAcessiveis = new HashSet<>(
+            centroCustoOrganogramaRepository.findCentroCustoIdsAtivosByNoOrganogramaIds(nosSubarvore));
 
         logger.info("{}Usuário ID {} tem acesso a {} centros de custo no nó '{}' (ID: {})",
             DOMAIN_PREFIX, usuarioId, centrosAcessiveis.size(), no.getNome(), no.getId());
@@ -189,29 +212,6 @@ public class OrganogramaAcessoService implements OrganogramaAcessoPort {
         if (noDescendenteId.equals(noRaizId)) {
             return true;
         }
-        NoOrganograma atual = noOrganogramaRepository.findByIdAndAtivoTrue(noDescendenteId).orElse(null);
-        while (atual != null && atual.getParent() != null) {
-            if (atual.getParent().getId().equals(noRaizId)) {
-                return true;
-            }
-            atual = noOrganogramaRepository.findByIdAndAtivoTrue(atual.getParent().getId()).orElse(null);
-        }
-        return false;
-    }
-
-    private void coletarCentrosCustoRecursivo(NoOrganograma no, Set<Long> centrosAcessiveis) {
-        List<CentroCustoOrganograma> centros = centroCustoOrganogramaRepository
-            .findByNoOrganogramaWithCentroCustoAtivo(no);
-
-        for (CentroCustoOrganograma centro : centros) {
-            centrosAcessiveis.add(centro.getCentroCusto().getId());
-        }
-
-        List<NoOrganograma> filhos = noOrganogramaRepository
-            .findByParentAndAtivoTrueOrderByPosicao(no);
-
-        for (NoOrganograma filho : filhos) {
-            coletarCentrosCustoRecursivo(filho, centrosAcessiveis);
-        }
+        return noOrganogramaRepository.existsNaSubarvoreAtiva(noDescendenteId, noRaizId);
     }
 }
@@ -0,0 +1,17 @@
+package br.com.techne.sistemafolha.organograma.acesso.port;
+
+/**
+ * Publicado (na transação da alteração) quando algo que compõe o {@link AccessContextDTO} muda: nós,
+ * vínculos de centro de custo ou funcionário no organograma, ou o vínculo/permissões de um usuário.
+ * {@code usuarioId} nulo indica alteração na árvore, que afeta todos os usuários.
+ */
+public record ContextoAcessoAlteradoEvent(Long usuarioId) {
+
+    public static ContextoAcessoAlteradoEvent todos() {
+        return new ContextoAcessoAlteradoEvent(null);
+    }
+
+    public static ContextoAcessoAlteradoEvent doUsuario(Long usuarioId) {
+        return new ContextoAcessoAlteradoEvent(usuarioId);
+    }
+}
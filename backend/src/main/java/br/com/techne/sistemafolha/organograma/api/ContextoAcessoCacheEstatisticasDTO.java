@@ -0,0 +1,8 @@
+package br.com.techne.sistemafolha.organograma.api;
+
+public record ContextoAcessoCacheEstatisticasDTO(
+    long hits,
+    long misses,
+    long invalidacoes,
+    int entradas
+) {}
@@ -2,6 +2,7 @@ package br.com.techne.sistemafolha.organograma.api;
 
 import br.com.techne.sistemafolha.cadastros.domain.CentroCustoNotFoundException;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioNotFoundException;
+import br.com.techne.sistemafolha.organograma.acesso.application.ContextoAcessoCache;
 import br.com.techne.sistemafolha.organograma.application.OrganogramaService;
 import br.com.techne.sistemafolha.organograma.domain.NoOrganogramaNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,6 +26,7 @@ public class OrganogramaController {
     private static final Logger log = LoggerFactory.getLogger(OrganogramaController.class);
 
     private final OrganogramaService organogramaService;
+    private final ContextoAcessoCache contextoAcessoCache;
 
     // ========================= OPERAÇÕES BÁSICAS =========================
 
@@ -246,4 +248,12 @@ public class OrganogramaController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    // ========================= CONTROLE DE ACESSO =========================
+
+    @GetMapping("/acesso/cache")
+    @Operation(summary = "Estatísticas do cache de contexto de acesso (hits, misses, invalidações)")
+    public ResponseEntity<ContextoAcessoCacheEstatisticasDTO> estatisticasCacheAcesso() {
+        return ResponseEntity.ok(contextoAcessoCache.estatisticas());
+    }
 } 
\ No newline at end of file
@@ -6,6 +6,7 @@ import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioNotFoundException;
 import br.com.techne.sistemafolha.cadastros.port.CadastrosLookupPort;
 import br.com.techne.sistemafolha.cadastros.port.FuncionarioConsultaPort;
+import br.com.techne.sistemafolha.organograma.acesso.port.ContextoAcessoAlteradoEvent;
 import br.com.techne.sistemafolha.organograma.api.CentroCustoOrganogramaDTO;
 import br.com.techne.sistemafolha.organograma.api.FuncionarioOrganogramaDTO;
 import br.com.techne.sistemafolha.organograma.api.NoOrganogramaCreateDTO;
@@ -21,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import br.com.techne.sistemafolha.shared.logging.DomainLogging;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +40,7 @@ public class OrganogramaService {
     private final CentroCustoOrganogramaRepository centroCustoOrganogramaRepository;
     private final FuncionarioConsultaPort funcionarioConsultaPort;
     private final CadastrosLookupPort cadastrosLookupPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========================= OPERAÇÕES BÁSICAS =========================
 
@@ -91,6 +94,8 @@ public class OrganogramaService {
         }
         
         no = noOrganogramaRepository.save(no);
+        noOrganogramaRepository.inserirNaClosure(no.getId(), no.getParent() != null ? no.getParent().getId() : null);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.todos());
         return toDTOCompleto(no);
     }
 
@@ -100,6 +105,7 @@ public class OrganogramaService {
         
         NoOrganograma no = noOrganogramaRepository.findByIdAndAtivoTrue(id)
                 .orElseThrow(() -> new NoOrganogramaNotFoundException(id));
+        Long parentAnteriorId = no.getParent() != null ? no.getParent().getId() : null;
 
         // Validar se mudança de parent não cria ciclo
         if (dto.parentId() != null && !Objects.equals(dto.parentId(), no.getParent() != null ? no.getParent().getId() : null)) {
@@ -122,6 +128,8 @@ public class OrganogramaService {
         }
 
         no = noOrganogramaRepository.save(no);
+        reposicionarNaClosure(no, parentAnteriorId);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.todos());
         return toDTOCompleto(no);
     }
 
@@ -143,6 +151,7 @@ public class OrganogramaService {
 
         // Soft delete
         noOrganogramaRepository.softDelete(id);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.todos());
     }
 
     @Transactional
@@ -152,28 +161,14 @@ public class OrganogramaService {
         NoOrganograma no = noOrganogramaRepository.findByIdAndAtivoTrue(id)
                 .orElseThrow(() -> new NoOrganogramaNotFoundException(id));
 
-        // Executar soft delete em cascata de forma recursiva
-        softDeleteRecursivo(no);
-    }
+        // Subárvore ativa resolvida pela closure table: associações e soft delete em lote
+        List<Long> ids = noOrganogramaRepository.findIdsSubarvoreAtiva(no.getId());
+        funcionarioOrganogramaRepository.deleteByNoOrganogramaIdIn(ids);
+        centroCustoOrganogramaRepository.deleteByNoOrganogramaIdIn(ids);
+        noOrganogramaRepository.softDeleteByIds(ids);
 
-    private void softDeleteRecursivo(NoOrganograma no) {
-        // Buscar todos os filhos ativos
-        List<NoOrganograma> filhos = noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(no);
-        
-        // Primeiro, remover todos os filhos recursivamente
-        for (NoOrganograma filho : filhos) {
-            softDeleteRecursivo(filho);
-        }
-        
-        // Depois remover o próprio nó
-        // Remover associações
-        funcionarioOrganogramaRepository.deleteByNoOrganograma(no);
-        centroCustoOrganogramaRepository.deleteByNoOrganograma(no);
-        
-        // Soft delete do nó
-        noOrganogramaRepository.softDelete(no.getId());
-        
-        log.debug("Nó ID: {} removido com soft delete", no.getId());
+        log.debug("{}{} nós removidos com soft delete a partir do nó ID: {}", DOMAIN_PREFIX, ids.size(), id);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.todos());
     }
 
     // ========================= OPERAÇÕES HIERÁRQUICAS =========================
@@ -206,6 +201,7 @@ public class OrganogramaService {
         
         NoOrganograma no = noOrganogramaRepository.findByIdAndAtivoTrue(noId)
                 .orElseThrow(() -> new NoOrganogramaNotFoundException(noId));
+        Long parentAnteriorId = no.getParent() != null ? no.getParent().getId() : null;
 
         // Validar se mudança não cria ciclo
         if (novoParentId != null) {
@@ -228,10 +224,12 @@ public class OrganogramaService {
             no.setPosicao(novaPosicao);
         }
 
-        // Atualizar níveis dos filhos recursivamente
-        atualizarNiveisFilhos(no);
-
         no = noOrganogramaRepository.save(no);
+        reposicionarNaClosure(no, parentAnteriorId);
+
+        // Atualizar níveis da subárvore ativa em um único comando
+        atualizarNiveisFilhos(no);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.todos());
         return toDTOCompleto(no);
     }
 
@@ -262,12 +260,14 @@ public class OrganogramaService {
 
         // Ativar todos os nós da árvore do nó raiz
         ativarArvoreRecursivamente(noRaiz);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.todos());
     }
 
     @Transactional
     public void desativarOrganograma() {
         log.info("{}Desativando organograma atual", DOMAIN_PREFIX);
         noOrganogramaRepository.desativarTodosOrganogramas();
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.todos());
     }
 
     // ========================= ASSOCIAÇÕES COM FUNCIONÁRIOS =========================
@@ -299,6 +299,7 @@ public class OrganogramaService {
         associacao.setNoOrganograma(no);
 
         associacao = funcionarioOrganogramaRepository.save(associacao);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.todos());
         return toFuncionarioOrganogramaDTO(associacao);
     }
 
@@ -313,6 +314,7 @@ public class OrganogramaService {
                 .orElseThrow(() -> new FuncionarioNotFoundException(funcionarioId));
 
         funcionarioOrganogramaRepository.deleteByFuncionarioAndNoOrganograma(funcionario, no);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.todos());
     }
 
     public List<FuncionarioOrganogramaDTO> listarFuncionariosPorNo(Long noId) {
@@ -349,6 +351,7 @@ public class OrganogramaService {
         associacao.setNoOrganograma(no);
 
         associacao = centroCustoOrganogramaRepository.save(associacao);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.todos());
         return toCentroCustoOrganogramaDTO(associacao);
     }
 
@@ -364,6 +367,7 @@ public class OrganogramaService {
                 .orElseThrow(() -> new CentroCustoNotFoundException(centroCustoId));
 
         centroCustoOrganogramaRepository.deleteByCentroCustoAndNoOrganograma(centroCusto, no);
+        eventPublisher.publishEvent(ContextoAcessoAlteradoEvent.todos());
     }
 
     public List<CentroCustoOrganogramaDTO> listarCentrosCustoPorNo(Long noId) {
@@ -380,24 +384,27 @@ public class OrganogramaService {
     // ========================= MÉTODOS AUXILIARES =========================
 
     private void validarCicloHierarquico(Long noId, Long novoParentId) {
-        // Verificar se o novo parent é descendente do nó atual (criaria ciclo)
-        NoOrganograma candidatoParent = noOrganogramaRepository.findById(novoParentId).orElse(null);
-        
-        while (candidatoParent != null) {
-            if (Objects.equals(candidatoParent.getId(), noId)) {
-                throw new IllegalArgumentException("Operação criaria um ciclo na hierarquia");
-            }
-            candidatoParent = candidatoParent.getParent();
+        // Verificar se o novo parent é o próprio nó ou um descendente dele (criaria ciclo)
+        if (noOrganogramaRepository.existsNaClosure(noId, novoParentId)) {
+            throw new IllegalArgumentException("Operação criaria um ciclo na hierarquia");
+        }
+    }
+
+    private void reposicionarNaClosure(NoOrganograma no, Long parentAnteriorId) {
+        Long novoParentId = no.getParent() != null ? no.getParent().getId() : null;
+        if (Objects.equals(parentAnteriorId, novoParentId)) {
+            return;
+        }
+        noOrganogramaRepository.desvincularSubarvoreNaClosure(no.getId());
+        if (novoParentId != null) {
+            noOrganogramaRepository.vincularSubarvoreNaClosure(no.getId(), novoParentId);
         }
     }
 
     private void atualizarNiveisFilhos(NoOrganograma no) {
-        List<NoOrganograma> filhos = noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(no);
-        
-        for (NoOrganograma filho : filhos) {
-            filho.setNivel(no.getNivel() + 1);
-            noOrganogramaRepository.save(filho);
-            atualizarNiveisFilhos(filho); // Recursão para netos
+        List<Long> ids = noOrganogramaRepository.findIdsSubarvoreAtiva(no.getId());
+        if (ids.size() > 1) {
+            noOrganogramaRepository.atualizarNiveisDescendentes(no.getId(), no.getNivel(), ids);
         }
     }
 
@@ -1,4 +1,4 @@
-package br.com.techne.sistemafolha.organograma.infrastructure;
+package br.com.techne.sistemafolha.organograma.infrastructure;
 
 import br.com.techne.sistemafolha.organograma.domain.CentroCustoOrganograma;
 import br.com.techne.sistemafolha.organograma.domain.NoOrganograma;
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,4 +58,11 @@ public interface CentroCustoOrganogramaRepository extends JpaRepository<CentroCu
     
     @Query("SELECT COUNT(cco) FROM CentroCustoOrganograma cco WHERE cco.noOrganograma = :noOrganograma AND cco.centroCusto.ativo = true")
     long countByNoOrganogramaWithCentroCustoAtivo(@Param("noOrganograma") NoOrganograma noOrganograma);
+
+    @Modifying
+    @Query("DELETE FROM CentroCustoOrganograma cco WHERE cco.noOrganograma.id IN :noIds")
+    void deleteByNoOrganogramaIdIn(@Param("noIds") Collection<Long> noIds);
+
+    @Query("SELECT DISTINCT cco.centroCusto.id FROM CentroCustoOrganograma cco WHERE cco.noOrganograma.id IN :noIds AND cco.centroCusto.ativo = true")
+    List<Long> findCentroCustoIdsAtivosByNoOrganogramaIds(@Param("noIds") Collection<Long> noIds);
 } 
\ No newline at end of file
@@ -1,4 +1,4 @@
-package br.com.techne.sistemafolha.organograma.infrastructure;
+package br.com.techne.sistemafolha.organograma.infrastructure;
 
 import br.com.techne.sistemafolha.organograma.domain.FuncionarioOrganograma;
 import br.com.techne.sistemafolha.organograma.domain.NoOrganograma;
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,4 +58,8 @@ public interface FuncionarioOrganogramaRepository extends JpaRepository<Funciona
     
     @Query("SELECT COUNT(fo) FROM FuncionarioOrganograma fo WHERE fo.noOrganograma = :noOrganograma AND fo.funcionario.ativo = true")
     long countByNoOrganogramaWithFuncionarioAtivo(@Param("noOrganograma") NoOrganograma noOrganograma);
+
+    @Modifying
+    @Query("DELETE FROM FuncionarioOrganograma fo WHERE fo.noOrganograma.id IN :noIds")
+    void deleteByNoOrganogramaIdIn(@Param("noIds") Collection<Long> noIds);
 } 
\ No newline at end of file
@@ -1,4 +1,4 @@
-package br.com.techne.sistemafolha.organograma.infrastructure;
+package br.com.techne.sistemafolha.organograma.infrastructure;
 
 import br.com.techne.sistemafolha.organograma.domain.NoOrganograma;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -78,4 +79,97 @@ public interface NoOrganogramaRepository extends JpaRepository<NoOrganograma, Lo
     
     // Verificar se existe organograma ativo
     boolean existsByOrganogramaAtivoTrue();
+
+    // ========================= CLOSURE TABLE =========================
+    // organograma_closure guarda todos os pares ancestral/descendente (inclusive o próprio nó, profundidade 0).
+    // "Subárvore ativa" segue a mesma regra da navegação por parent: um nó inativo corta os seus descendentes.
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO organograma_closure (ancestral_id, descendente_id, profundidade)
+        SELECT c.ancestral_id, :noId, c.profundidade + 1
+        FROM organograma_closure c
+        WHERE c.descendente_id = CAST(:parentId AS BIGINT)
+        UNION ALL
+        SELECT :noId, :noId, 0
+        """, nativeQuery = true)
+    void inserirNaClosure(@Param("noId") Long noId, @Param("parentId") Long parentId);
+
+    /** Remove os vínculos da subárvore de {@code noId} com os ancestrais atuais, mantendo os internos. */
+    @Modifying
+    @Query(value = """
+        DELETE FROM organograma_closure
+        WHERE descendente_id IN (SELECT descendente_id FROM organograma_closure WHERE ancestral_id = :noId)
+          AND ancestral_id NOT IN (SELECT descendente_id FROM organograma_closure WHERE ancestral_id = :noId)
+        """, nativeQuery = true)
+    void desvincularSubarvoreNaClosure(@Param("noId") Long noId);
+
+    /** Liga a subárvore de {@code noId} a {@code parentId} e a todos os ancestrais dele. */
+    @Modifying
+    @Query(value = """
+        INSERT INTO organograma_closure (ancestral_id, descendente_id, profundidade)
+        SELECT acima.ancestral_id, abaixo.descendente_id, acima.profundidade + abaixo.profundidade + 1
+        FROM organograma_closure acima
+        CROSS JOIN organograma_closure abaixo
+        WHERE acima.descendente_id = :parentId AND abaixo.ancestral_id = :noId
+        """, nativeQuery = true)
+    void vincularSubarvoreNaClosure(@Param("noId") Long noId, @Param("parentId") Long parentId);
+
+    @Query(value = """
+        SELECT EXISTS (
+            SELECT 1 FROM organograma_closure
+            WHERE ancestral_id = :ancestralId AND descendente_id = :descendenteId)
+        """, nativeQuery = true)
+    boolean existsNaClosure(@Param("ancestralId") Long ancestralId, @Param("descendenteId") Long descendenteId);
+
+    /** Ids da subárvore de {@code raizId} (inclusive) alcançáveis só por nós ativos. */
+    @Query(value = """
+        SELECT c.descendente_id
+        FROM organograma_closure c
+        WHERE c.ancestral_id = :raizId
+          AND NOT EXISTS (
+              SELECT 1
+              FROM organograma_closure caminho
+              JOIN organograma_closure abaixo_raiz
+                ON abaixo_raiz.descendente_id = caminho.ancestral_id AND abaixo_raiz.ancestral_id = :raizId
+              JOIN nos_organograma n ON n.id = caminho.ancestral_id
+              WHERE caminho.descendente_id = c.descendente_id AND n.ativo = false)
+        """, nativeQuery = true)
+    List<Long> findIdsSubarvoreAtiva(@Param("raizId") Long raizId);
+
+    /**
+     * {@code noId} está abaixo de {@code raizId} por um caminho de nós ativos; a própria raiz pode estar inativa,
+     * como na subida por parent.
+     */
+    @Query(value = """
+        SELECT EXISTS (
+            SELECT 1
+            FROM organograma_closure c
+            WHERE c.ancestral_id = :raizId AND c.descendente_id = :noId
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM organograma_closure caminho
+                  JOIN organograma_closure abaixo_raiz
+                    ON abaixo_raiz.descendente_id = caminho.ancestral_id
+                   AND abaixo_raiz.ancestral_id = :raizId
+                   AND abaixo_raiz.profundidade > 0
+                  JOIN nos_organograma n ON n.id = caminho.ancestral_id
+                  WHERE caminho.descendente_id = :noId AND n.ativo = false))
+        """, nativeQuery = true)
+    boolean existsNaSubarvoreAtiva(@Param("noId") Long noId, @Param("raizId") Long raizId);
+
+    /** Recalcula o nível dos descendentes de {@code noId} em {@code noIds} a partir do nível do próprio nó. */
+    @Modifying
+    @Query(value = """
+        UPDATE nos_organograma n
+        SET nivel = :nivel + c.profundidade
+        FROM organograma_closure c
+        WHERE c.ancestral_id = :noId AND c.descendente_id = n.id AND c.profundidade > 0 AND n.id IN (:noIds)
+        """, nativeQuery = true)
+    void atualizarNiveisDescendentes(
+        @Param("noId") Long noId, @Param("nivel") Integer nivel, @Param("noIds") Collection<Long> noIds);
+
+    @Modifying
+    @Query("UPDATE NoOrganograma n SET n.ativo = false WHERE n.id IN :ids")
+    void softDeleteByIds(@Param("ids") Collection<Long> ids);
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package br.com.techne.sistemafolha.relatorios.api;
+
+import br.com.techne.sistemafolha.relatorios.application.armazenamento.RelatorioArquivoMigracaoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/relatorios/armazenamento")
+@RequiredArgsConstructor
+@Tag(name = "Relatórios Armazenamento", description = "Manutenção do armazenamento dos PDFs de relatório")
+public class RelatorioArmazenamentoController {
+
+    private final RelatorioArquivoMigracaoService relatorioArquivoMigracaoService;
+
+    @PostMapping("/migracao")
+    @Operation(summary = "Move um lote de PDFs guardados no banco para o armazenamento configurado",
+               description = "Para seguir depois de falhas, informe em aPartirDe o proximoAPartirDe da chamada anterior")
+    public ResponseEntity<RelatorioMigracaoArmazenamentoDTO> migrar(
+            @RequestParam(value = "aPartirDe", required = false) Long aPartirDe) {
+        return ResponseEntity.ok(relatorioArquivoMigracaoService.migrarDoBanco(aPartirDe));
+    }
+}
@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 
@@ -28,13 +30,24 @@ public class RelatorioBeneficioController {
     private final RelatorioGeracaoService relatorioGeracaoService;
 
     @PostMapping
-    @Operation(summary = "Gera relatório de custo benefício + folha para a competência informada")
+    @Operation(summary = "Enfileira a geração do relatório de custo benefício + folha para a competência informada")
     public ResponseEntity<RelatorioBeneficioDTO> gerar(
             @Valid @RequestBody GerarRelatorioRequest request,
             Authentication authentication) {
         RelatorioBeneficioDTO dto = relatorioGeracaoService.gerarBeneficio(
             authentication.getName(), request.mes(), request.ano());
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.accepted()
+            .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}").buildAndExpand(dto.id()).toUri())
+            .body(dto);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Situação do relatório de benefício, para acompanhar a geração enfileirada")
+    public ResponseEntity<RelatorioBeneficioDTO> consultar(
+            @PathVariable Long id,
+            Authentication authentication) {
+        return ResponseEntity.ok(relatorioGeracaoService.consultarBeneficio(authentication.getName(), id));
     }
 
     @GetMapping
@@ -45,10 +58,10 @@ public class RelatorioBeneficioController {
 
     @GetMapping("/{id}/download")
     @Operation(summary = "Download do PDF do relatório de benefício")
-    public ResponseEntity<byte[]> download(
+    public ResponseEntity<Resource> download(
             @PathVariable Long id,
             Authentication authentication) {
-        byte[] pdf = relatorioGeracaoService.downloadPdf(
+        Resource pdf = relatorioGeracaoService.downloadPdf(
             authentication.getName(), id, RelatorioTipo.BENEFICIO);
         return ResponseEntity.ok()
             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"relatorio-beneficio-" + id + ".pdf\"")
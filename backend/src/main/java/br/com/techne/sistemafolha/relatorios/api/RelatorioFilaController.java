@@ -0,0 +1,25 @@
+package br.com.techne.sistemafolha.relatorios.api;
+
+import br.com.techne.sistemafolha.relatorios.application.RelatorioFilaDespachante;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/relatorios/fila")
+@RequiredArgsConstructor
+@Tag(name = "Relatórios Fila", description = "Acompanhamento da fila de geração de relatórios")
+public class RelatorioFilaController {
+
+    private final RelatorioFilaDespachante relatorioFilaDespachante;
+
+    @GetMapping("/metricas")
+    @Operation(summary = "Profundidade da fila por prioridade, relatórios em execução e tempos de espera")
+    public ResponseEntity<RelatorioFilaMetricasDTO> metricas() {
+        return ResponseEntity.ok(relatorioFilaDespachante.metricas());
+    }
+}
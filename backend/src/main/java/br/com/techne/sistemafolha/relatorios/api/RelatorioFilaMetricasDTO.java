@@ -0,0 +1,15 @@
+package br.com.techne.sistemafolha.relatorios.api;
+
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioPrioridade;
+
+import java.util.Map;
+
+public record RelatorioFilaMetricasDTO(
+    Map<RelatorioPrioridade, Long> profundidade,
+    int emExecucao,
+    int paralelismo,
+    Long esperaMaisAntigaSegundos,
+    long despachados,
+    long esperaMediaMs,
+    long esperaMaximaMs
+) {}
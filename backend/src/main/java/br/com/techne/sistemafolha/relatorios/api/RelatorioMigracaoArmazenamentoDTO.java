@@ -0,0 +1,12 @@
+package br.com.techne.sistemafolha.relatorios.api;
+
+/**
+ * Resultado de um lote da migração. {@code proximoAPartirDe} é o último relatório visitado, a passar na chamada
+ * seguinte para continuar depois das falhas; {@code null} quando o lote chegou ao fim dos PDFs no banco.
+ */
+public record RelatorioMigracaoArmazenamentoDTO(
+    int migrados,
+    int falhas,
+    long restantesNoBanco,
+    Long proximoAPartirDe
+) {}
@@ -0,0 +1,25 @@
+package br.com.techne.sistemafolha.relatorios.api;
+
+import br.com.techne.sistemafolha.relatorios.application.pdf.RelatorioChartImageCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/relatorios/pdf")
+@RequiredArgsConstructor
+@Tag(name = "Relatórios PDF", description = "Acompanhamento dos caches de renderização dos PDFs")
+public class RelatorioPdfCacheController {
+
+    private final RelatorioChartImageCache relatorioChartImageCache;
+
+    @GetMapping("/cache")
+    @Operation(summary = "Estatísticas do cache de gráficos dos PDFs (hits, misses, descartes, ocupação)")
+    public ResponseEntity<RelatorioPdfCacheEstatisticasDTO> estatisticasCache() {
+        return ResponseEntity.ok(relatorioChartImageCache.estatisticas());
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.techne.sistemafolha.relatorios.api;
+
+public record RelatorioPdfCacheEstatisticasDTO(
+    long hits,
+    long misses,
+    long evictions,
+    int entradas,
+    long bytes
+) {}
@@ -6,25 +6,23 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
-import java.util.function.Consumer;
 
 @Configuration
 @EnableAsync
 public class RelatorioAsyncConfig {
 
+    /**
+     * Dimensionado pelo paralelismo da fila: o {@link RelatorioFilaDespachante} só entrega o que cabe nas threads,
+     * e a espera fica na tabela {@code relatorio}, ordenada por prioridade, e não na fila em memória do executor.
+     */
     @Bean(name = "relatorioExecutor")
-    public Executor relatorioExecutor() {
+    public Executor relatorioExecutor(RelatorioGeracaoProperties properties) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(20);
+        executor.setCorePoolSize(properties.getParalelismo());
+        executor.setMaxPoolSize(properties.getParalelismo());
+        executor.setQueueCapacity(properties.getParalelismo());
         executor.setThreadNamePrefix("relatorio-");
         executor.initialize();
         return executor;
     }
-
-    @Bean
-    Consumer<Long> relatorioEnqueueFn(RelatorioGeracaoService relatorioGeracaoService) {
-        return relatorioGeracaoService::enfileirarProcessamento;
-    }
 }
@@ -1,6 +1,8 @@
 package br.com.techne.sistemafolha.relatorios.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
@@ -9,14 +11,33 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Optional;
 
+/**
+ * Tema dos PDFs montado uma vez: cores vêm das propriedades e o logo é lido do recurso configurado no startup,
+ * então cada documento recebe o mesmo {@link BrandingTheme} (e o mesmo array do logo) sem acessar o disco.
+ */
 @Service
 @RequiredArgsConstructor
 public class RelatorioBrandingService {
 
     private final RelatorioBrandingProperties properties;
     private final ResourceLoader resourceLoader;
+    private volatile BrandingTheme theme;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        load();
+    }
 
     public BrandingTheme load() {
+        BrandingTheme atual = theme;
+        if (atual == null) {
+            atual = montar();
+            theme = atual;
+        }
+        return atual;
+    }
+
+    private BrandingTheme montar() {
         return new BrandingTheme(
             properties.getPrimaryColor(),
             properties.getSecondaryColor(),
@@ -0,0 +1,201 @@
+package br.com.techne.sistemafolha.relatorios.application;
+
+import br.com.techne.sistemafolha.relatorios.api.RelatorioFilaMetricasDTO;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioPrioridade;
+import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioEmExecucaoUsuarioProjection;
+import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioFilaCandidatoProjection;
+import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fila persistente de geração: cada relatório PENDENTE com {@code dataEnfileiramento} é um job, e a reserva marca
+ * {@code dataInicioProcessamento} com um UPDATE condicional, então só uma instância o executa. O despacho entrega ao
+ * worker no máximo {@code paralelismo} relatórios por vez, primeiro os de prioridade mais alta e, dentro dela, os do
+ * usuário com menos relatórios em execução; o executor nunca recebe mais do que consegue rodar. Enquanto executa, a
+ * instância renova o lease ({@code dataHeartbeat}) dos seus relatórios a cada varredura, e é o lease vencido que o
+ * {@link RelatorioStaleRecoveryService} usa para recuperar relatórios de instâncias que caíram.
+ */
+@Slf4j
+@Component
+public class RelatorioFilaDespachante {
+
+    private final RelatorioRepository relatorioRepository;
+    private final RelatorioGeracaoWorker relatorioGeracaoWorker;
+    private final RelatorioGeracaoProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    private final Set<Long> emExecucao = ConcurrentHashMap.newKeySet();
+    private final AtomicLong despachados = new AtomicLong();
+    private final AtomicLong esperaTotalMs = new AtomicLong();
+    private final AtomicLong esperaMaximaMs = new AtomicLong();
+
+    public RelatorioFilaDespachante(
+            RelatorioRepository relatorioRepository,
+            RelatorioGeracaoWorker relatorioGeracaoWorker,
+            RelatorioGeracaoProperties properties,
+            PlatformTransactionManager transactionManager,
+            Clock clock) {
+        this.relatorioRepository = relatorioRepository;
+        this.relatorioGeracaoWorker = relatorioGeracaoWorker;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    /** Despacha a fila depois do commit corrente, quando houver; sem transação, despacha na hora. */
+    public void despacharAposCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    despachar();
+                }
+            });
+        } else {
+            despachar();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${relatorios.geracao.intervalo-fila-ms:5000}")
+    public void varrer() {
+        try {
+            renovarHeartbeat();
+            despachar();
+        } catch (Exception e) {
+            log.error("Erro ao despachar fila de relatórios", e);
+        }
+    }
+
+    private void renovarHeartbeat() {
+        if (emExecucao.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(emExecucao);
+        LocalDateTime agora = LocalDateTime.now(clock);
+        transactionTemplate.executeWithoutResult(status -> relatorioRepository.renovarHeartbeat(ids, agora));
+    }
+
+    public synchronized void despachar() {
+        Map<Long, Long> emExecucaoPorUsuario = null;
+        while (emExecucao.size() < properties.getParalelismo()) {
+            if (emExecucaoPorUsuario == null) {
+                emExecucaoPorUsuario = carregarEmExecucaoPorUsuario();
+            }
+            RelatorioFilaCandidatoProjection candidato = proximoCandidato(emExecucaoPorUsuario);
+            if (candidato == null) {
+                return;
+            }
+            LocalDateTime agora = LocalDateTime.now(clock);
+            Integer reservados = transactionTemplate.execute(
+                status -> relatorioRepository.reservarParaProcessamento(candidato.getId(), agora));
+            if (reservados == null || reservados == 0) {
+                // reservado por outra instância entre a leitura e o UPDATE; recalcula com o estado atual
+                emExecucaoPorUsuario = null;
+                continue;
+            }
+            emExecucaoPorUsuario.merge(candidato.getUsuarioId(), 1L, Long::sum);
+            registrarEspera(candidato, agora);
+            if (!executar(candidato.getId())) {
+                return;
+            }
+        }
+    }
+
+    public RelatorioFilaMetricasDTO metricas() {
+        Map<RelatorioPrioridade, Long> profundidade = new EnumMap<>(RelatorioPrioridade.class);
+        for (RelatorioPrioridade prioridade : RelatorioPrioridade.values()) {
+            profundidade.put(prioridade, relatorioRepository.contarNaFila(prioridade));
+        }
+        LocalDateTime maisAntigo = relatorioRepository.findEnfileiramentoMaisAntigo();
+        Long esperaMaisAntiga = maisAntigo != null
+            ? Duration.between(maisAntigo, LocalDateTime.now(clock)).toSeconds()
+            : null;
+        long total = despachados.get();
+        return new RelatorioFilaMetricasDTO(
+            profundidade,
+            emExecucao.size(),
+            properties.getParalelismo(),
+            esperaMaisAntiga,
+            total,
+            total == 0 ? 0 : esperaTotalMs.get() / total,
+            esperaMaximaMs.get());
+    }
+
+    private Map<Long, Long> carregarEmExecucaoPorUsuario() {
+        Map<Long, Long> contagem = new HashMap<>();
+        for (RelatorioEmExecucaoUsuarioProjection linha : relatorioRepository.contarEmExecucaoPorUsuario()) {
+            contagem.put(linha.getUsuarioId(), linha.getEmExecucao());
+        }
+        return contagem;
+    }
+
+    /** Primeira prioridade com fila; nela, o usuário com menos em execução e, no empate, o mais antigo. */
+    private RelatorioFilaCandidatoProjection proximoCandidato(Map<Long, Long> emExecucaoPorUsuario) {
+        PageRequest pagina = PageRequest.of(0, properties.getCandidatosFila());
+        for (RelatorioPrioridade prioridade : RelatorioPrioridade.values()) {
+            List<RelatorioFilaCandidatoProjection> candidatos = relatorioRepository.findCandidatosFila(prioridade, pagina);
+            if (!candidatos.isEmpty()) {
+                Comparator<RelatorioFilaCandidatoProjection> justica = Comparator
+                    .comparingLong(c -> emExecucaoPorUsuario.getOrDefault(c.getUsuarioId(), 0L));
+                // a consulta já vem em ordem de chegada e min mantém o primeiro entre empatados
+                return candidatos.stream().min(justica).orElseThrow();
+            }
+        }
+        return null;
+    }
+
+    private boolean executar(Long relatorioId) {
+        emExecucao.add(relatorioId);
+        try {
+            relatorioGeracaoWorker.processar(relatorioId)
+                .whenComplete((resultado, erro) -> {
+                    emExecucao.remove(relatorioId);
+                    if (erro != null) {
+                        log.error("Worker falhou no relatório {}", relatorioId, erro);
+                    }
+                    // concluído de forma síncrona ainda dentro do despacho: o laço corrente segue sozinho
+                    if (!Thread.holdsLock(this)) {
+                        varrer();
+                    }
+                });
+            return true;
+        } catch (TaskRejectedException e) {
+            emExecucao.remove(relatorioId);
+            log.warn("Executor de relatórios recusou o relatório {}; devolvendo à fila", relatorioId);
+            transactionTemplate.executeWithoutResult(
+                status -> relatorioRepository.devolverParaFila(relatorioId, LocalDateTime.now(clock)));
+            return false;
+        }
+    }
+
+    private void registrarEspera(RelatorioFilaCandidatoProjection candidato, LocalDateTime agora) {
+        long esperaMs = candidato.getDataEnfileiramento() != null
+            ? Math.max(0, Duration.between(candidato.getDataEnfileiramento(), agora).toMillis())
+            : 0;
+        despachados.incrementAndGet();
+        esperaTotalMs.addAndGet(esperaMs);
+        esperaMaximaMs.accumulateAndGet(esperaMs, Math::max);
+        log.debug("Relatório {} despachado após {} ms na fila", candidato.getId(), esperaMs);
+    }
+}
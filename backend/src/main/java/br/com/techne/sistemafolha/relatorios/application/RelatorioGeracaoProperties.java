@@ -15,4 +15,12 @@ public class RelatorioGeracaoProperties {
     private int maxTamanhoMb = 50;
     private int maxJobsSimultaneosPorUsuario = 3;
     private int staleGraceSegundos = 120;
+    /** Relatórios processados ao mesmo tempo por instância; o despachante não entrega mais que isso ao executor. */
+    private int paralelismo = 4;
+    /** Intervalo da varredura que despacha relatórios devolvidos à fila ou deixados por outra instância. */
+    private long intervaloFilaMs = 5000;
+    /** Candidatos lidos por prioridade a cada despacho, entre os quais vale a justiça por usuário. */
+    private int candidatosFila = 50;
+    /** Intervalo da varredura que reenfileira ou promove a ERRO relatórios com lease vencido. */
+    private long intervaloRecuperacaoMs = 30000;
 }
@@ -6,82 +6,97 @@ import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
 import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
 import br.com.techne.sistemafolha.relatorios.api.RelatorioBeneficioDTO;
 import br.com.techne.sistemafolha.relatorios.api.RelatorioFolhaDTO;
+import br.com.techne.sistemafolha.relatorios.application.armazenamento.RelatorioArquivoArmazenamentos;
 import br.com.techne.sistemafolha.relatorios.domain.Relatorio;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArquivo;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioAcessoNegadoException;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioGeracaoLimiteException;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioIndisponivelException;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioNotFoundException;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioPrioridade;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioTipo;
 import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioArquivoRepository;
 import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
 import java.time.Clock;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
+@Slf4j
 @Service
 public class RelatorioGeracaoService {
 
     private final RelatorioRepository relatorioRepository;
     private final RelatorioArquivoRepository relatorioArquivoRepository;
-    private final RelatorioGeracaoWorker relatorioGeracaoWorker;
+    private final RelatorioFilaDespachante filaDespachante;
     private final RelatorioGeracaoProperties properties;
     private final UsuarioLookupPort usuarioLookupPort;
     private final OrganogramaAcessoPort organogramaAcessoPort;
     private final RelatorioStaleRecoveryService staleRecoveryService;
     private final RelatorioStaleDetector staleDetector;
     private final TransactionTemplate transactionTemplate;
+    private final RelatorioArquivoArmazenamentos armazenamentos;
 
     public RelatorioGeracaoService(
             RelatorioRepository relatorioRepository,
             RelatorioArquivoRepository relatorioArquivoRepository,
-            RelatorioGeracaoWorker relatorioGeracaoWorker,
+            RelatorioFilaDespachante filaDespachante,
             RelatorioGeracaoProperties properties,
             UsuarioLookupPort usuarioLookupPort,
             OrganogramaAcessoPort organogramaAcessoPort,
             @Lazy RelatorioStaleRecoveryService staleRecoveryService,
             RelatorioStaleDetector staleDetector,
-            PlatformTransactionManager transactionManager) {
+            PlatformTransactionManager transactionManager,
+            RelatorioArquivoArmazenamentos armazenamentos) {
         this.relatorioRepository = relatorioRepository;
         this.relatorioArquivoRepository = relatorioArquivoRepository;
-        this.relatorioGeracaoWorker = relatorioGeracaoWorker;
+        this.filaDespachante = filaDespachante;
         this.properties = properties;
         this.usuarioLookupPort = usuarioLookupPort;
         this.organogramaAcessoPort = organogramaAcessoPort;
         this.staleRecoveryService = staleRecoveryService;
         this.staleDetector = staleDetector;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.armazenamentos = armazenamentos;
     }
 
+    /**
+     * Enfileira a geração e devolve o relatório PENDENTE sem esperar o PDF; o cliente acompanha por
+     * {@link #consultarFolha} até PROCESSADO ou ERRO.
+     */
     public RelatorioFolhaDTO gerarFolha(String login, int mes, int ano) {
-        ProcessamentoHandle handle = transactionTemplate.execute(
-            status -> iniciarGeracao(login, RelatorioTipo.FOLHA, mes, ano));
-        aguardarProcessamento(handle.future());
-        return toFolhaDto(recarregar(handle.relatorioId()));
+        return toFolhaDto(transactionTemplate.execute(
+            status -> iniciarGeracao(login, RelatorioTipo.FOLHA, mes, ano)));
     }
 
     public RelatorioBeneficioDTO gerarBeneficio(String login, int mes, int ano) {
-        ProcessamentoHandle handle = transactionTemplate.execute(
-            status -> iniciarGeracao(login, RelatorioTipo.BENEFICIO, mes, ano));
-        aguardarProcessamento(handle.future());
-        return toBeneficioDto(recarregar(handle.relatorioId()));
+        return toBeneficioDto(transactionTemplate.execute(
+            status -> iniciarGeracao(login, RelatorioTipo.BENEFICIO, mes, ano)));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public RelatorioFolhaDTO consultarFolha(String login, Long id) {
+        return toFolhaDto(obterDoUsuario(login, id, RelatorioTipo.FOLHA));
+    }
+
+    @Transactional(readOnly = true)
+    public RelatorioBeneficioDTO consultarBeneficio(String login, Long id) {
+        return toBeneficioDto(obterDoUsuario(login, id, RelatorioTipo.BENEFICIO));
+    }
+
+    @Transactional(readOnly = true)
     public List<RelatorioFolhaDTO> listarFolha(String login) {
         Usuario usuario = obterUsuario(login);
-        staleRecoveryService.recuperarParaUsuario(usuario.getId());
         return relatorioRepository
             .findByUsuarioIdAndTipoAndAtivoTrueOrderByAnoDescMesDesc(usuario.getId(), RelatorioTipo.FOLHA)
             .stream()
@@ -89,10 +104,9 @@ public class RelatorioGeracaoService {
             .toList();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<RelatorioBeneficioDTO> listarBeneficio(String login) {
         Usuario usuario = obterUsuario(login);
-        staleRecoveryService.recuperarParaUsuario(usuario.getId());
         return relatorioRepository
             .findByUsuarioIdAndTipoAndAtivoTrueOrderByAnoDescMesDesc(usuario.getId(), RelatorioTipo.BENEFICIO)
             .stream()
@@ -100,30 +114,43 @@ public class RelatorioGeracaoService {
             .toList();
     }
 
+    /**
+     * PDF como {@link Resource} lido do armazenamento do arquivo; no filesystem o conteúdo só é aberto quando o
+     * controller escreve a resposta, e requisições com {@code Range} leem apenas o trecho pedido.
+     */
     @Transactional(readOnly = true)
-    public byte[] downloadPdf(String login, Long id, RelatorioTipo tipo) {
+    public Resource downloadPdf(String login, Long id, RelatorioTipo tipo) {
+        Relatorio relatorio = obterDoUsuario(login, id, tipo);
+        if (relatorio.getStatus() != RelatorioStatus.PROCESSADO) {
+            throw new RelatorioIndisponivelException(relatorio.getStatus());
+        }
+
+        RelatorioArquivo arquivo = relatorioArquivoRepository.findByRelatorioId(id)
+            .orElseThrow(() -> new RelatorioIndisponivelException(relatorio.getStatus()));
+        try {
+            return armazenamentos.de(arquivo).abrir(arquivo);
+        } catch (IOException e) {
+            log.warn("PDF do relatório {} indisponível no armazenamento {}", id, arquivo.getArmazenamento(), e);
+            throw new RelatorioIndisponivelException(relatorio.getStatus());
+        }
+    }
+
+    private Relatorio obterDoUsuario(String login, Long id, RelatorioTipo tipo) {
         Usuario usuario = obterUsuario(login);
         Relatorio relatorio = relatorioRepository.findByIdAndUsuarioIdAndAtivoTrue(id, usuario.getId())
             .orElseThrow(() -> new RelatorioNotFoundException(id));
-
         if (relatorio.getTipo() != tipo) {
             throw new RelatorioNotFoundException(id);
         }
-        if (relatorio.getStatus() != RelatorioStatus.PROCESSADO) {
-            throw new RelatorioIndisponivelException(relatorio.getStatus());
-        }
-
-        return relatorioArquivoRepository.findByRelatorioId(id)
-            .map(arquivo -> arquivo.getPdfBytes())
-            .orElseThrow(() -> new RelatorioIndisponivelException(relatorio.getStatus()));
+        return relatorio;
     }
 
-    private ProcessamentoHandle iniciarGeracao(String login, RelatorioTipo tipo, int mes, int ano) {
+    private Relatorio iniciarGeracao(String login, RelatorioTipo tipo, int mes, int ano) {
         validarCompetencia(mes, ano);
         Usuario usuario = obterUsuario(login);
         validarAcesso(usuario.getId());
 
-        staleRecoveryService.recuperarParaUsuario(usuario.getId());
+        staleRecoveryService.recuperarStale();
 
         Relatorio relatorio = relatorioRepository
             .findByUsuarioIdAndTipoAndMesAndAnoAndAtivoTrue(usuario.getId(), tipo, mes, ano)
@@ -141,8 +168,17 @@ public class RelatorioGeracaoService {
             }
         }
 
+        if (jaPendente && relatorio.getDataEnfileiramento() != null) {
+            // já na fila ou em execução: repetir o pedido não cria um segundo job nem muda a prioridade dele
+            filaDespachante.despacharAposCommit();
+            return relatorio;
+        }
+
         relatorioArquivoRepository.findByRelatorioId(relatorio.getId())
-            .ifPresent(relatorioArquivoRepository::delete);
+            .ifPresent(arquivo -> {
+                relatorioArquivoRepository.delete(arquivo);
+                armazenamentos.removerAposCommit(arquivo);
+            });
 
         relatorio.setStatus(RelatorioStatus.PENDENTE);
         relatorio.setErro(null);
@@ -151,46 +187,16 @@ public class RelatorioGeracaoService {
         relatorio.setTotalFolha(null);
         relatorio.setTotalBeneficios(null);
         relatorio.setTotalValor(null);
+        relatorio.setPrioridade(RelatorioPrioridade.INTERATIVA);
+        relatorio.setDataEnfileiramento(LocalDateTime.now());
+        relatorio.setDataInicioProcessamento(null);
+        relatorio.setDataHeartbeat(null);
+        relatorio.setTentativasRecuperacao(0);
         relatorio = relatorioRepository.save(relatorio);
-        CompletableFuture<Void> future = enfileirarProcessamentoAposCommit(relatorio.getId());
-        return new ProcessamentoHandle(relatorio.getId(), future);
-    }
-
-    private CompletableFuture<Void> enfileirarProcessamentoAposCommit(Long relatorioId) {
-        CompletableFuture<Void> future = new CompletableFuture<>();
-        if (TransactionSynchronizationManager.isSynchronizationActive()) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    relatorioGeracaoWorker.processar(relatorioId)
-                        .whenComplete((result, error) -> {
-                            if (error != null) {
-                                future.completeExceptionally(error);
-                            } else {
-                                future.complete(null);
-                            }
-                        });
-                }
-            });
-        } else {
-            relatorioGeracaoWorker.processar(relatorioId)
-                .whenComplete((result, error) -> {
-                    if (error != null) {
-                        future.completeExceptionally(error);
-                    } else {
-                        future.complete(null);
-                    }
-                });
-        }
-        return future;
-    }
-
-    void enfileirarProcessamento(Long relatorioId) {
-        enfileirarProcessamentoAposCommit(relatorioId);
+        filaDespachante.despacharAposCommit();
+        return relatorio;
     }
 
-    private record ProcessamentoHandle(Long relatorioId, CompletableFuture<Void> future) {}
-
     private Relatorio criarNovoRelatorio(Usuario usuario, RelatorioTipo tipo, int mes, int ano) {
         long pendentes = staleRecoveryService.contarPendentesAtivos(usuario.getId());
         if (pendentes >= properties.getMaxJobsSimultaneosPorUsuario()) {
@@ -206,19 +212,6 @@ public class RelatorioGeracaoService {
         return relatorio;
     }
 
-    private void aguardarProcessamento(CompletableFuture<Void> future) {
-        try {
-            future.get(properties.getTimeoutSegundos(), TimeUnit.SECONDS);
-        } catch (TimeoutException e) {
-            // REL-01: timeout → retorna PENDENTE (polling no FE)
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("Geração do relatório interrompida", e);
-        } catch (Exception e) {
-            throw new IllegalStateException("Erro ao aguardar geração do relatório", e);
-        }
-    }
-
     private Relatorio recarregar(Long id) {
         return relatorioRepository.findById(id).orElseThrow(() -> new RelatorioNotFoundException(id));
     }
@@ -257,7 +250,7 @@ public class RelatorioGeracaoService {
             return false;
         }
         boolean hasBlob = relatorio.getId() != null
-            && relatorioArquivoRepository.findByRelatorioId(relatorio.getId()).isPresent();
+            && relatorioArquivoRepository.existsByRelatorioId(relatorio.getId());
         return staleDetector.isStale(relatorio, hasBlob);
     }
 
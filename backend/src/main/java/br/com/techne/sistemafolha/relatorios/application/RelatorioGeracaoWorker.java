@@ -6,6 +6,8 @@ import br.com.techne.sistemafolha.dashboard.api.DashboardStatsDTO;
 import br.com.techne.sistemafolha.dashboard.port.DashboardConsultaPort;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
 import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
+import br.com.techne.sistemafolha.relatorios.application.armazenamento.RelatorioArquivoArmazenamento;
+import br.com.techne.sistemafolha.relatorios.application.armazenamento.RelatorioArquivoArmazenamentos;
 import br.com.techne.sistemafolha.relatorios.domain.Relatorio;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioArquivo;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus;
@@ -18,6 +20,7 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -42,7 +45,7 @@ public class RelatorioGeracaoWorker {
     private final DashboardConsultaPort dashboardConsultaPort;
     private final BeneficioConsultaPort beneficioConsultaPort;
     private final OrganogramaAcessoPort organogramaAcessoPort;
-    private final RelatorioRecoveryTracker recoveryTracker;
+    private final RelatorioArquivoArmazenamentos armazenamentos;
 
     @Async("relatorioExecutor")
     @Transactional
@@ -73,22 +76,28 @@ public class RelatorioGeracaoWorker {
             relatorioId, login, relatorio.getTipo(), mes, ano);
 
         try {
-            byte[] pdf = renderPdf(relatorio.getTipo(), login, usuarioId, mes, ano);
+            RelatorioArquivoArmazenamento armazenamento = armazenamentos.ativo();
+            RelatorioArquivo arquivo = new RelatorioArquivo();
+            arquivo.setRelatorio(relatorio);
+            RelatorioTipo tipo = relatorio.getTipo();
+            armazenamento.gravar(arquivo, out -> renderPdf(tipo, login, usuarioId, mes, ano, out));
+            armazenamentos.removerSeDesfeito(arquivo);
+
             long maxBytes = (long) properties.getMaxTamanhoMb() * 1024 * 1024;
-            if (pdf.length > maxBytes) {
+            if (arquivo.getTamanhoBytes() > maxBytes) {
+                armazenamento.remover(arquivo);
                 marcarErro(relatorio, ERRO_TAMANHO.formatted(properties.getMaxTamanhoMb()));
                 log.info("Relatório {} finalizado com ERRO (tamanho) login={} competencia={}/{}",
                     relatorioId, login, mes, ano);
                 return CompletableFuture.completedFuture(null);
             }
 
-            persistirArquivo(relatorio, pdf);
+            persistirArquivo(relatorio, arquivo);
             preencherTotais(relatorio, login, usuarioId, mes, ano);
             relatorio.setStatus(RelatorioStatus.PROCESSADO);
             relatorio.setDataProcessamento(LocalDateTime.now());
             relatorio.setErro(null);
             relatorioRepository.save(relatorio);
-            recoveryTracker.clear(relatorioId);
             log.info("Relatório {} processado com sucesso login={} competencia={}/{}",
                 relatorioId, login, mes, ano);
         } catch (Exception e) {
@@ -107,21 +116,19 @@ public class RelatorioGeracaoWorker {
         return CompletableFuture.completedFuture(null);
     }
 
-    private byte[] renderPdf(RelatorioTipo tipo, String login, Long usuarioId, int mes, int ano) {
-        return switch (tipo) {
-            case FOLHA -> relatorioPdfService.renderFolhaExecutivo(login, usuarioId, mes, ano);
-            case BENEFICIO -> relatorioPdfService.renderBeneficioCusto(login, usuarioId, mes, ano);
-        };
+    private void renderPdf(RelatorioTipo tipo, String login, Long usuarioId, int mes, int ano, OutputStream out) {
+        switch (tipo) {
+            case FOLHA -> relatorioPdfService.renderFolhaExecutivo(login, usuarioId, mes, ano, out);
+            case BENEFICIO -> relatorioPdfService.renderBeneficioCusto(login, usuarioId, mes, ano, out);
+        }
     }
 
-    private void persistirArquivo(Relatorio relatorio, byte[] pdf) {
+    private void persistirArquivo(Relatorio relatorio, RelatorioArquivo arquivo) {
         relatorioArquivoRepository.findByRelatorioId(relatorio.getId())
-            .ifPresent(relatorioArquivoRepository::delete);
-
-        RelatorioArquivo arquivo = new RelatorioArquivo();
-        arquivo.setRelatorio(relatorio);
-        arquivo.setPdfBytes(pdf);
-        arquivo.setTamanhoBytes((long) pdf.length);
+            .ifPresent(anterior -> {
+                relatorioArquivoRepository.delete(anterior);
+                armazenamentos.removerAposCommit(anterior);
+            });
         relatorioArquivoRepository.save(arquivo);
     }
 
@@ -161,7 +168,6 @@ public class RelatorioGeracaoWorker {
         relatorio.setDataProcessamento(LocalDateTime.now());
         relatorio.setErro(truncarErro(mensagem));
         relatorioRepository.save(relatorio);
-        recoveryTracker.clear(relatorio.getId());
     }
 
     static String truncarErro(String mensagem) {
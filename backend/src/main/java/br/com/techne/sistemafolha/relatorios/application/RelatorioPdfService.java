@@ -17,6 +17,7 @@ import br.com.techne.sistemafolha.relatorios.application.pdf.FolhaExecutivoPdfRe
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -45,6 +46,22 @@ public class RelatorioPdfService {
     private final BeneficioCustoPdfRenderer beneficioCustoPdfRenderer;
 
     public byte[] renderFolhaExecutivo(String login, Long usuarioId, int mes, int ano) {
+        return folhaExecutivoPdfRenderer.render(folhaExecutivoModel(login, mes, ano));
+    }
+
+    public void renderFolhaExecutivo(String login, Long usuarioId, int mes, int ano, OutputStream out) {
+        folhaExecutivoPdfRenderer.render(folhaExecutivoModel(login, mes, ano), out);
+    }
+
+    public byte[] renderBeneficioCusto(String login, Long usuarioId, int mes, int ano) {
+        return beneficioCustoPdfRenderer.render(beneficioCustoModel(login, usuarioId, mes, ano));
+    }
+
+    public void renderBeneficioCusto(String login, Long usuarioId, int mes, int ano, OutputStream out) {
+        beneficioCustoPdfRenderer.render(beneficioCustoModel(login, usuarioId, mes, ano), out);
+    }
+
+    private RelatorioFolhaModel folhaExecutivoModel(String login, int mes, int ano) {
         LocalDate[] competencia = competenciaRange(mes, ano);
         DashboardStatsDTO stats = dashboardConsultaPort.getStatsForCompetencia(
             login, competencia[0], competencia[1], false);
@@ -53,7 +70,7 @@ public class RelatorioPdfService {
 
         boolean semDados = stats.totalFuncionarios() == null || stats.totalFuncionarios() == 0;
 
-        RelatorioFolhaModel model = new RelatorioFolhaModel(
+        return new RelatorioFolhaModel(
             brandingService.load(),
             competenciaLabel(mes, ano),
             login,
@@ -62,10 +79,9 @@ public class RelatorioPdfService {
             evolucao,
             semDados
         );
-        return folhaExecutivoPdfRenderer.render(model);
     }
 
-    public byte[] renderBeneficioCusto(String login, Long usuarioId, int mes, int ano) {
+    private RelatorioBeneficioModel beneficioCustoModel(String login, Long usuarioId, int mes, int ano) {
         LocalDate[] competencia = competenciaRange(mes, ano);
         AccessContextDTO contexto = organogramaAcessoPort.obterContextoAcesso(usuarioId);
         Set<Long> centros = contexto.acessoTotal() ? null : contexto.centrosCustoIds();
@@ -102,7 +118,7 @@ public class RelatorioPdfService {
         BigDecimal custoConsolidado = totalCustoFolha.add(
             totalBeneficios != null ? totalBeneficios : BigDecimal.ZERO);
 
-        RelatorioBeneficioModel model = new RelatorioBeneficioModel(
+        return new RelatorioBeneficioModel(
             brandingService.load(),
             competenciaLabel(mes, ano),
             login,
@@ -117,7 +133,6 @@ public class RelatorioPdfService {
             semBeneficios,
             semFolha
         );
-        return beneficioCustoPdfRenderer.render(model);
     }
 
     private static LocalDate[] competenciaRange(int mes, int ano) {
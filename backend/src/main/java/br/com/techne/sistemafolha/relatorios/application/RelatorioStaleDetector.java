@@ -23,15 +23,31 @@ public class RelatorioStaleDetector {
         return Duration.ofSeconds(properties.getTimeoutSegundos() + properties.getStaleGraceSegundos());
     }
 
+    /** Instante antes do qual um lease sem renovação indica relatório parado. */
+    public LocalDateTime limiteStale() {
+        return LocalDateTime.now(clock).minus(staleThreshold());
+    }
+
+    /**
+     * Relatório ainda na fila (enfileirado e não reservado) não é stale: o prazo conta a partir do último heartbeat
+     * ou, sem ele, da reserva pelo despachante. Registros anteriores à fila seguem contando da criação. É a mesma
+     * regra das consultas em lote de {@code RelatorioRepository}.
+     */
     public boolean isStale(Relatorio relatorio, boolean hasPdfBlob) {
         if (relatorio.getStatus() != RelatorioStatus.PENDENTE || hasPdfBlob) {
             return false;
         }
-        LocalDateTime dataCriacao = relatorio.getDataCriacao();
-        if (dataCriacao == null) {
+        if (relatorio.getDataEnfileiramento() != null && relatorio.getDataInicioProcessamento() == null) {
+            return false;
+        }
+        LocalDateTime inicio = relatorio.getDataHeartbeat() != null
+            ? relatorio.getDataHeartbeat()
+            : relatorio.getDataInicioProcessamento() != null
+                ? relatorio.getDataInicioProcessamento()
+                : relatorio.getDataCriacao();
+        if (inicio == null) {
             return true;
         }
-        LocalDateTime limite = dataCriacao.plus(staleThreshold());
-        return LocalDateTime.now(clock).isAfter(limite);
+        return inicio.isBefore(limiteStale());
     }
 }
@@ -1,87 +1,75 @@
 package br.com.techne.sistemafolha.relatorios.application;
 
-import br.com.techne.sistemafolha.relatorios.domain.Relatorio;
-import br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus;
-import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioArquivoRepository;
 import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.function.Consumer;
 
+/**
+ * Recovery de relatórios parados em lote. Stale é o relatório reservado cujo lease ({@code data_heartbeat}, renovado
+ * pelo {@link RelatorioFilaDespachante} da instância que o executa) venceu e que não tem PDF gravado. Na primeira
+ * detecção ele volta para a fila; na segunda vira ERRO. As duas transições são UPDATEs condicionais sobre colunas
+ * persistidas, então várias instâncias podem varrer ao mesmo tempo sem recuperar o mesmo relatório duas vezes e sem
+ * ler o conteúdo dos PDFs.
+ */
 @Service
 @Slf4j
 public class RelatorioStaleRecoveryService {
 
     private final RelatorioRepository relatorioRepository;
-    private final RelatorioArquivoRepository relatorioArquivoRepository;
     private final RelatorioStaleDetector staleDetector;
-    private final RelatorioRecoveryTracker recoveryTracker;
-    private final Consumer<Long> enqueueFn;
+    private final RelatorioFilaDespachante filaDespachante;
     private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
 
     public RelatorioStaleRecoveryService(
             RelatorioRepository relatorioRepository,
-            RelatorioArquivoRepository relatorioArquivoRepository,
             RelatorioStaleDetector staleDetector,
-            RelatorioRecoveryTracker recoveryTracker,
-            Consumer<Long> relatorioEnqueueFn,
-            PlatformTransactionManager transactionManager) {
+            RelatorioFilaDespachante filaDespachante,
+            PlatformTransactionManager transactionManager,
+            Clock clock) {
         this.relatorioRepository = relatorioRepository;
-        this.relatorioArquivoRepository = relatorioArquivoRepository;
         this.staleDetector = staleDetector;
-        this.recoveryTracker = recoveryTracker;
-        this.enqueueFn = relatorioEnqueueFn;
+        this.filaDespachante = filaDespachante;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
     }
 
-    public void recuperarParaUsuario(Long usuarioId) {
-        List<Relatorio> pendentes = relatorioRepository.findByUsuarioIdAndStatusAndAtivoTrue(
-            usuarioId, RelatorioStatus.PENDENTE);
-        for (Relatorio relatorio : pendentes) {
-            recuperarRelatorio(relatorio);
+    @Scheduled(fixedDelayString = "${relatorios.geracao.intervalo-recuperacao-ms:30000}")
+    public void varrer() {
+        try {
+            recuperarStale();
+        } catch (Exception e) {
+            log.error("Erro no recovery de relatórios stale", e);
         }
     }
 
-    public void recuperarRelatorio(Relatorio relatorio) {
-        if (relatorio.getStatus() != RelatorioStatus.PENDENTE) {
-            return;
-        }
-        boolean hasBlob = relatorioArquivoRepository.findByRelatorioId(relatorio.getId()).isPresent();
-        if (!staleDetector.isStale(relatorio, hasBlob)) {
-            return;
-        }
-        Long relatorioId = relatorio.getId();
-        if (!recoveryTracker.hasAttempted(relatorioId)) {
-            log.info("Recovery stale: reenfileirando relatório id={} login={}",
-                relatorioId, relatorio.getUsuario().getLogin());
-            recoveryTracker.markAttempted(relatorioId);
-            enqueueFn.accept(relatorioId);
-        } else {
-            log.warn("Recovery stale: promovendo relatório id={} a ERRO tempo esgotado", relatorioId);
-            transactionTemplate.executeWithoutResult(status -> promoverErroTempoEsgotado(relatorio));
-        }
+    /** Promove a ERRO os já recuperados uma vez e reenfileira os demais; devolve quantos voltaram para a fila. */
+    public int recuperarStale() {
+        LocalDateTime limite = staleDetector.limiteStale();
+        LocalDateTime agora = LocalDateTime.now(clock);
+        Integer reenfileirados = transactionTemplate.execute(status -> {
+            int promovidos = relatorioRepository.promoverStaleAErro(
+                limite, agora, RelatorioGeracaoConstants.ERRO_TEMPO_ESGOTADO);
+            if (promovidos > 0) {
+                log.warn("Recovery stale: {} relatório(s) promovido(s) a ERRO tempo esgotado", promovidos);
+            }
+            int devolvidos = relatorioRepository.reenfileirarStale(limite, agora);
+            if (devolvidos > 0) {
+                log.info("Recovery stale: {} relatório(s) reenfileirado(s)", devolvidos);
+                filaDespachante.despacharAposCommit();
+            }
+            return devolvidos;
+        });
+        return reenfileirados != null ? reenfileirados : 0;
     }
 
     public long contarPendentesAtivos(Long usuarioId) {
-        return relatorioRepository.findByUsuarioIdAndStatusAndAtivoTrue(usuarioId, RelatorioStatus.PENDENTE)
-            .stream()
-            .filter(r -> {
-                boolean hasBlob = relatorioArquivoRepository.findByRelatorioId(r.getId()).isPresent();
-                return !staleDetector.isStale(r, hasBlob);
-            })
-            .count();
-    }
-
-    private void promoverErroTempoEsgotado(Relatorio relatorio) {
-        relatorio.setStatus(RelatorioStatus.ERRO);
-        relatorio.setErro(RelatorioGeracaoConstants.ERRO_TEMPO_ESGOTADO);
-        relatorio.setDataProcessamento(LocalDateTime.now());
-        relatorioRepository.save(relatorio);
-        recoveryTracker.clear(relatorio.getId());
+        return relatorioRepository.contarPendentesNaoStale(usuarioId, staleDetector.limiteStale());
     }
 }
@@ -0,0 +1,22 @@
+package br.com.techne.sistemafolha.relatorios.application.armazenamento;
+
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArmazenamentoTipo;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "relatorios.armazenamento")
+public class RelatorioArmazenamentoProperties {
+
+    /**
+     * Destino dos PDFs novos; arquivos já gravados continuam sendo lidos de onde estão. {@code FILESYSTEM} só deve ser
+     * ligado com {@code diretorio} num volume persistente e compartilhado por todas as instâncias da API.
+     */
+    private RelatorioArmazenamentoTipo tipo = RelatorioArmazenamentoTipo.BANCO;
+    private String diretorio = "data/relatorios";
+    private int loteMigracao = 200;
+}
@@ -0,0 +1,37 @@
+package br.com.techne.sistemafolha.relatorios.application.armazenamento;
+
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArmazenamentoTipo;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArquivo;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Onde o PDF de um {@link RelatorioArquivo} fica guardado. A escrita recebe o renderizador como callback para que
+ * o conteúdo vá direto ao destino, e a leitura devolve um {@link Resource} que o controller serve em streaming
+ * (inclusive requisições com {@code Range}).
+ */
+public interface RelatorioArquivoArmazenamento {
+
+    RelatorioArmazenamentoTipo tipo();
+
+    /**
+     * Grava o conteúdo e preenche armazenamento, chave e tamanho do arquivo; não persiste a entidade. Quem grava
+     * dentro de uma transação registra {@link RelatorioArquivoArmazenamentos#removerSeDesfeito} logo em seguida.
+     */
+    void gravar(RelatorioArquivo arquivo, ConteudoPdf conteudo) throws IOException;
+
+    Resource abrir(RelatorioArquivo arquivo) throws IOException;
+
+    /**
+     * Remove o conteúdo guardado fora da linha de {@code relatorio_arquivo}. Quem apaga a entidade usa
+     * {@link RelatorioArquivoArmazenamentos#removerAposCommit}, para não perder o PDF se a exclusão for desfeita.
+     */
+    void remover(RelatorioArquivo arquivo);
+
+    @FunctionalInterface
+    interface ConteudoPdf {
+        void escrever(OutputStream out) throws IOException;
+    }
+}
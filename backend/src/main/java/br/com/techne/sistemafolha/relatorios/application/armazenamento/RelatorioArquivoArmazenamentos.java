@@ -0,0 +1,82 @@
+package br.com.techne.sistemafolha.relatorios.application.armazenamento;
+
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArmazenamentoTipo;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArquivo;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/** Implementação usada na gravação (a configurada) e na leitura (a registrada em cada arquivo). */
+@Component
+public class RelatorioArquivoArmazenamentos {
+
+    private final Map<RelatorioArmazenamentoTipo, RelatorioArquivoArmazenamento> porTipo =
+        new EnumMap<>(RelatorioArmazenamentoTipo.class);
+    private final RelatorioArmazenamentoProperties properties;
+
+    public RelatorioArquivoArmazenamentos(
+            List<RelatorioArquivoArmazenamento> armazenamentos,
+            RelatorioArmazenamentoProperties properties) {
+        armazenamentos.forEach(a -> porTipo.put(a.tipo(), a));
+        this.properties = properties;
+    }
+
+    public RelatorioArquivoArmazenamento ativo() {
+        return doTipo(properties.getTipo());
+    }
+
+    public RelatorioArquivoArmazenamento de(RelatorioArquivo arquivo) {
+        return doTipo(arquivo.getArmazenamento() != null
+            ? arquivo.getArmazenamento()
+            : RelatorioArmazenamentoTipo.BANCO);
+    }
+
+    /**
+     * Remove o conteúdo de um arquivo cuja linha a transação corrente apaga, só depois do commit: se a exclusão for
+     * desfeita, o PDF continua onde a linha aponta. Sem transação, remove na hora.
+     */
+    public void removerAposCommit(RelatorioArquivo arquivo) {
+        RelatorioArquivoArmazenamento armazenamento = de(arquivo);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    armazenamento.remover(arquivo);
+                }
+            });
+        } else {
+            armazenamento.remover(arquivo);
+        }
+    }
+
+    /**
+     * Contraparte de {@link #removerAposCommit}: o conteúdo recém-gravado por {@code gravar} sai se a transação que
+     * grava a linha for desfeita, para não ficar arquivo sem linha apontando para ele.
+     */
+    public void removerSeDesfeito(RelatorioArquivo arquivo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        RelatorioArquivoArmazenamento armazenamento = de(arquivo);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    armazenamento.remover(arquivo);
+                }
+            }
+        });
+    }
+
+    private RelatorioArquivoArmazenamento doTipo(RelatorioArmazenamentoTipo tipo) {
+        RelatorioArquivoArmazenamento armazenamento = porTipo.get(tipo);
+        if (armazenamento == null) {
+            throw new IllegalStateException("Armazenamento de relatório não configurado: " + tipo);
+        }
+        return armazenamento;
+    }
+}
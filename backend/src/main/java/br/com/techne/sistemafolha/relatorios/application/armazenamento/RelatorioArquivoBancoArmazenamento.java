@@ -0,0 +1,45 @@
+package br.com.techne.sistemafolha.relatorios.application.armazenamento;
+
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArmazenamentoTipo;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArquivo;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+/** PDF na coluna {@code pdf_bytes}; o conteúdo inteiro passa pelo heap na escrita e na leitura. */
+@Component
+public class RelatorioArquivoBancoArmazenamento implements RelatorioArquivoArmazenamento {
+
+    @Override
+    public RelatorioArmazenamentoTipo tipo() {
+        return RelatorioArmazenamentoTipo.BANCO;
+    }
+
+    @Override
+    public void gravar(RelatorioArquivo arquivo, ConteudoPdf conteudo) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        conteudo.escrever(out);
+        byte[] pdf = out.toByteArray();
+        arquivo.setArmazenamento(RelatorioArmazenamentoTipo.BANCO);
+        arquivo.setChaveArmazenamento(null);
+        arquivo.setPdfBytes(pdf);
+        arquivo.setTamanhoBytes((long) pdf.length);
+    }
+
+    @Override
+    public Resource abrir(RelatorioArquivo arquivo) throws IOException {
+        if (arquivo.getPdfBytes() == null) {
+            throw new FileNotFoundException("PDF do relatório " + arquivo.getRelatorioId() + " sem conteúdo no banco");
+        }
+        return new ByteArrayResource(arquivo.getPdfBytes());
+    }
+
+    @Override
+    public void remover(RelatorioArquivo arquivo) {
+        // o conteúdo sai junto com a linha
+    }
+}
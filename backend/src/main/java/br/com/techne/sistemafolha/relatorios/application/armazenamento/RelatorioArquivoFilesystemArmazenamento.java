@@ -0,0 +1,95 @@
+package br.com.techne.sistemafolha.relatorios.application.armazenamento;
+
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArmazenamentoTipo;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArquivo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * PDF em arquivo sob {@code relatorios.armazenamento.diretorio}. O renderizador escreve num temporário no mesmo
+ * diretório, que só é movido para o nome definitivo depois de fechado: leitores nunca veem um PDF pela metade.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatorioArquivoFilesystemArmazenamento implements RelatorioArquivoArmazenamento {
+
+    private final RelatorioArmazenamentoProperties properties;
+
+    @Override
+    public RelatorioArmazenamentoTipo tipo() {
+        return RelatorioArmazenamentoTipo.FILESYSTEM;
+    }
+
+    @Override
+    public void gravar(RelatorioArquivo arquivo, ConteudoPdf conteudo) throws IOException {
+        Path base = diretorio();
+        Files.createDirectories(base);
+        String chave = "relatorio-" + relatorioId(arquivo) + "-" + UUID.randomUUID() + ".pdf";
+        Path temporario = Files.createTempFile(base, "relatorio-", ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporario))) {
+                conteudo.escrever(out);
+            }
+            Files.move(temporario, base.resolve(chave), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporario);
+            throw e;
+        }
+        arquivo.setArmazenamento(RelatorioArmazenamentoTipo.FILESYSTEM);
+        arquivo.setChaveArmazenamento(chave);
+        arquivo.setPdfBytes(null);
+        arquivo.setTamanhoBytes(Files.size(base.resolve(chave)));
+    }
+
+    @Override
+    public Resource abrir(RelatorioArquivo arquivo) throws IOException {
+        Path caminho = resolver(arquivo.getChaveArmazenamento());
+        if (!Files.isRegularFile(caminho)) {
+            throw new FileNotFoundException("PDF do relatório " + arquivo.getRelatorioId() + " não encontrado");
+        }
+        return new FileSystemResource(caminho);
+    }
+
+    @Override
+    public void remover(RelatorioArquivo arquivo) {
+        if (arquivo.getChaveArmazenamento() == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(resolver(arquivo.getChaveArmazenamento()));
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Não foi possível remover o PDF {} do relatório {}",
+                arquivo.getChaveArmazenamento(), arquivo.getRelatorioId(), e);
+        }
+    }
+
+    private Path resolver(String chave) {
+        Path base = diretorio();
+        Path caminho = base.resolve(chave == null ? "" : chave).normalize();
+        if (chave == null || !caminho.getParent().equals(base)) {
+            throw new IllegalArgumentException("Chave de armazenamento inválida");
+        }
+        return caminho;
+    }
+
+    private Path diretorio() {
+        return Path.of(properties.getDiretorio()).toAbsolutePath().normalize();
+    }
+
+    private static Long relatorioId(RelatorioArquivo arquivo) {
+        return arquivo.getRelatorio() != null ? arquivo.getRelatorio().getId() : arquivo.getRelatorioId();
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.techne.sistemafolha.relatorios.application.armazenamento;
+
+import br.com.techne.sistemafolha.relatorios.api.RelatorioMigracaoArmazenamentoDTO;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArmazenamentoTipo;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArquivo;
+import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioArquivoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Move PDFs guardados em {@code pdf_bytes} para o armazenamento configurado, um lote por chamada e uma transação
+ * por arquivo: uma falha deixa aquele PDF no banco, ainda legível, sem desfazer os já movidos. Os lotes andam por
+ * {@code relatorioId} a partir do cursor recebido, então um PDF que sempre falha não trava os seguintes; uma chamada
+ * sem cursor recomeça do início e tenta de novo os que falharam.
+ */
+@Slf4j
+@Service
+public class RelatorioArquivoMigracaoService {
+
+    private final RelatorioArquivoRepository relatorioArquivoRepository;
+    private final RelatorioArquivoArmazenamentos armazenamentos;
+    private final RelatorioArmazenamentoProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public RelatorioArquivoMigracaoService(
+            RelatorioArquivoRepository relatorioArquivoRepository,
+            RelatorioArquivoArmazenamentos armazenamentos,
+            RelatorioArmazenamentoProperties properties,
+            PlatformTransactionManager transactionManager) {
+        this.relatorioArquivoRepository = relatorioArquivoRepository;
+        this.armazenamentos = armazenamentos;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public RelatorioMigracaoArmazenamentoDTO migrarDoBanco(Long aPartirDe) {
+        RelatorioArquivoArmazenamento destino = armazenamentos.ativo();
+        if (destino.tipo() == RelatorioArmazenamentoTipo.BANCO) {
+            return new RelatorioMigracaoArmazenamentoDTO(
+                0, 0, relatorioArquivoRepository.countByArmazenamento(RelatorioArmazenamentoTipo.BANCO), null);
+        }
+
+        int lote = properties.getLoteMigracao();
+        List<Long> ids = relatorioArquivoRepository.findRelatorioIdsByArmazenamento(
+            RelatorioArmazenamentoTipo.BANCO, aPartirDe != null ? aPartirDe : 0L, PageRequest.of(0, lote));
+        int migrados = 0;
+        int falhas = 0;
+        for (Long relatorioId : ids) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> migrar(relatorioId, destino));
+                migrados++;
+            } catch (RuntimeException e) {
+                falhas++;
+                log.error("Falha ao migrar PDF do relatório {} para {}", relatorioId, destino.tipo(), e);
+            }
+        }
+        long restantes = relatorioArquivoRepository.countByArmazenamento(RelatorioArmazenamentoTipo.BANCO);
+        Long proximo = ids.size() < lote ? null : ids.get(ids.size() - 1);
+        log.info("Migração de PDFs para {}: migrados={} falhas={} restantes={} proximo={}",
+            destino.tipo(), migrados, falhas, restantes, proximo);
+        return new RelatorioMigracaoArmazenamentoDTO(migrados, falhas, restantes, proximo);
+    }
+
+    private void migrar(Long relatorioId, RelatorioArquivoArmazenamento destino) {
+        RelatorioArquivo arquivo = relatorioArquivoRepository.findByRelatorioId(relatorioId).orElse(null);
+        if (arquivo == null || arquivo.getArmazenamento() != RelatorioArmazenamentoTipo.BANCO) {
+            return;
+        }
+        byte[] pdf = arquivo.getPdfBytes();
+        try {
+            destino.gravar(arquivo, out -> out.write(pdf));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        armazenamentos.removerSeDesfeito(arquivo);
+        relatorioArquivoRepository.saveAndFlush(arquivo);
+    }
+}
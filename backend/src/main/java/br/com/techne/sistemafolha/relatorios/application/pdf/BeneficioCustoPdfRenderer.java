@@ -18,6 +18,7 @@ import org.springframework.stereotype.Component;
 
 import java.awt.Color;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -28,9 +29,17 @@ public class BeneficioCustoPdfRenderer {
     private final RelatorioLayoutHelper layoutHelper;
 
     public byte[] render(RelatorioBeneficioModel model) {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        render(model, out);
+        return out.toByteArray();
+    }
+
+    /** Escreve o PDF direto em {@code out}. Não fecha o stream. */
+    public void render(RelatorioBeneficioModel model, OutputStream out) {
+        try {
             Document document = new Document(PageSize.A4, 36, 36, 36, 48);
             PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
             writer.setCompressionLevel(0);
             writer.setPageEvent(layoutHelper.createFooterEvent());
             document.open();
@@ -40,7 +49,6 @@ public class BeneficioCustoPdfRenderer {
             renderCorpo(document, model);
 
             document.close();
-            return out.toByteArray();
         } catch (Exception e) {
             throw new IllegalStateException("Erro ao renderizar PDF de custo benefício", e);
         }
@@ -59,7 +67,7 @@ public class BeneficioCustoPdfRenderer {
         header.addCell(headerCell);
         document.add(header);
 
-        Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 22, layoutHelper.parseColor(theme.textColor()));
+        Font titleFont = layoutHelper.font(FontFactory.HELVETICA_BOLD, 22, layoutHelper.parseColor(theme.textColor()));
         Paragraph title = new Paragraph("Relatório de Custo — Benefícios e Folha", titleFont);
         title.setAlignment(Element.ALIGN_CENTER);
         title.setSpacingBefore(16);
@@ -20,6 +20,7 @@ import org.springframework.stereotype.Component;
 
 import java.awt.Color;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -39,9 +40,17 @@ public class FolhaExecutivoPdfRenderer {
     private final RelatorioChartImageFactory chartFactory;
 
     public byte[] render(RelatorioFolhaModel model) {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        render(model, out);
+        return out.toByteArray();
+    }
+
+    /** Escreve o PDF direto em {@code out}, sem montar o documento inteiro em memória. Não fecha o stream. */
+    public void render(RelatorioFolhaModel model, OutputStream out) {
+        try {
             Document document = new Document(PageSize.A4, 36, 36, 36, 48);
             PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
             writer.setCompressionLevel(0);
             writer.setPageEvent(layoutHelper.createFooterEvent());
             document.open();
@@ -54,12 +63,11 @@ public class FolhaExecutivoPdfRenderer {
                     "Sem dados para a competência selecionada",
                     layoutHelper.bodyFont(model.branding())));
                 document.close();
-                return out.toByteArray();
+                return;
             }
 
             renderSecoes(document, model);
             document.close();
-            return out.toByteArray();
         } catch (Exception e) {
             throw new IllegalStateException("Erro ao renderizar PDF executivo de folha", e);
         }
@@ -79,24 +87,24 @@ public class FolhaExecutivoPdfRenderer {
         document.add(header);
 
         if (theme.logoBytes().isPresent()) {
-            Image logo = Image.getInstance(theme.logoBytes().get());
+            Image logo = layoutHelper.logo(theme.logoBytes().get());
             logo.scaleToFit(180, 50);
             logo.setAlignment(Element.ALIGN_CENTER);
             document.add(logo);
         } else {
-            Font wordmark = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 24, primary);
+            Font wordmark = layoutHelper.font(FontFactory.HELVETICA_BOLD, 24, primary);
             Paragraph techne = new Paragraph("TECHNE", wordmark);
             techne.setAlignment(Element.ALIGN_CENTER);
             document.add(techne);
         }
 
-        Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 24, Color.WHITE);
+        Font titleFont = layoutHelper.font(FontFactory.HELVETICA_BOLD, 24, Color.WHITE);
         Paragraph title = new Paragraph("Relatório Executivo de Folha", titleFont);
         title.setAlignment(Element.ALIGN_CENTER);
         title.setSpacingBefore(12);
         document.add(title);
 
-        Font compFont = FontFactory.getFont(FontFactory.HELVETICA, 18, layoutHelper.parseColor(theme.textColor()));
+        Font compFont = layoutHelper.font(FontFactory.HELVETICA, 18, layoutHelper.parseColor(theme.textColor()));
         Paragraph competencia = new Paragraph(model.competenciaLabel(), compFont);
         competencia.setAlignment(Element.ALIGN_CENTER);
         competencia.setSpacingAfter(20);
@@ -0,0 +1,75 @@
+package br.com.techne.sistemafolha.relatorios.application.pdf;
+
+import br.com.techne.sistemafolha.relatorios.api.RelatorioPdfCacheEstatisticasDTO;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * PNGs de gráfico endereçados pelo conteúdo: a chave é o SHA-256 da descrição canônica do gráfico (tipo, dimensões,
+ * cores e dados), então relatórios da mesma competência e filtros reaproveitam a imagem já codificada. O limite é
+ * por quantidade e por bytes, com descarte do menos usado; os arrays devolvidos são compartilhados e não devem ser
+ * alterados.
+ */
+@Component
+public class RelatorioChartImageCache {
+
+    static final int MAX_ENTRADAS = 256;
+    static final long MAX_BYTES = 16L * 1024 * 1024;
+
+    private final Map<String, byte[]> imagens = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public byte[] obter(String descricao, Supplier<byte[]> renderizar) {
+        String chave = chave(descricao);
+        synchronized (this) {
+            byte[] emCache = imagens.get(chave);
+            if (emCache != null) {
+                hits.increment();
+                return emCache;
+            }
+        }
+        misses.increment();
+        byte[] png = renderizar.get();
+        if (png.length > 0 && png.length <= MAX_BYTES) {
+            guardar(chave, png);
+        }
+        return png;
+    }
+
+    public synchronized RelatorioPdfCacheEstatisticasDTO estatisticas() {
+        return new RelatorioPdfCacheEstatisticasDTO(
+            hits.sum(), misses.sum(), evictions.sum(), imagens.size(), bytes);
+    }
+
+    private synchronized void guardar(String chave, byte[] png) {
+        byte[] anterior = imagens.put(chave, png);
+        bytes += png.length - (anterior != null ? anterior.length : 0);
+        Iterator<byte[]> menosUsados = imagens.values().iterator();
+        while ((imagens.size() > MAX_ENTRADAS || bytes > MAX_BYTES) && menosUsados.hasNext()) {
+            bytes -= menosUsados.next().length;
+            menosUsados.remove();
+            evictions.increment();
+        }
+    }
+
+    private static String chave(String descricao) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(descricao.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
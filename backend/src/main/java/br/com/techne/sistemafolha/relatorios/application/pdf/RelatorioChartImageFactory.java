@@ -1,6 +1,7 @@
 package br.com.techne.sistemafolha.relatorios.application.pdf;
 
 import br.com.techne.sistemafolha.relatorios.application.BrandingTheme;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import javax.imageio.ImageIO;
@@ -19,17 +20,32 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Gráficos do PDF em PNG. A renderização AWT e a codificação só acontecem quando o {@link RelatorioChartImageCache}
+ * ainda não tem a imagem para os mesmos dados, dimensões e cores.
+ */
 @Component
+@RequiredArgsConstructor
 public class RelatorioChartImageFactory {
 
     private static final int WIDTH = 480;
     private static final int HEIGHT = 200;
 
+    private final RelatorioChartImageCache cache;
+
     public byte[] lineChart(List<String> labels, List<BigDecimal> values, BrandingTheme theme) {
         if (labels == null || values == null || labels.size() < 2 || values.size() < 2) {
             return new byte[0];
         }
         int count = Math.min(labels.size(), values.size());
+        StringBuilder descricao = descricao("line", theme);
+        for (int i = 0; i < count; i++) {
+            descricao.append(labels.get(i)).append('\u001f').append(valor(values.get(i))).append('\u001e');
+        }
+        return cache.obter(descricao.toString(), () -> renderLineChart(labels, values, theme, count));
+    }
+
+    private byte[] renderLineChart(List<String> labels, List<BigDecimal> values, BrandingTheme theme, int count) {
         BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
         Graphics2D g = image.createGraphics();
         try {
@@ -95,7 +111,15 @@ public class RelatorioChartImageFactory {
             return new byte[0];
         }
         List<Map.Entry<String, BigDecimal>> top = entries.subList(entries.size() - count, entries.size());
+        StringBuilder descricao = descricao("hbar", theme);
+        for (Map.Entry<String, BigDecimal> entry : top) {
+            descricao.append(entry.getKey()).append('\u001f').append(valor(entry.getValue())).append('\u001e');
+        }
+        return cache.obter(descricao.toString(), () -> renderHorizontalBarChart(top, theme, count));
+    }
 
+    private byte[] renderHorizontalBarChart(
+            List<Map.Entry<String, BigDecimal>> top, BrandingTheme theme, int count) {
         BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
         Graphics2D g = image.createGraphics();
         try {
@@ -139,6 +163,17 @@ public class RelatorioChartImageFactory {
         return toPngBytes(image);
     }
 
+    private static StringBuilder descricao(String tipo, BrandingTheme theme) {
+        return new StringBuilder(256)
+            .append(tipo).append('|').append(WIDTH).append('x').append(HEIGHT).append('|')
+            .append(theme.primaryColor()).append('|').append(theme.secondaryColor()).append('|')
+            .append(theme.textColor()).append('|');
+    }
+
+    private static String valor(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros().toPlainString() : "0";
+    }
+
     private void configureGraphics(Graphics2D g) {
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
@@ -1,10 +1,12 @@
 package br.com.techne.sistemafolha.relatorios.application.pdf;
 
 import br.com.techne.sistemafolha.relatorios.application.BrandingTheme;
+import com.lowagie.text.BadElementException;
 import com.lowagie.text.Document;
 import com.lowagie.text.Element;
 import com.lowagie.text.Font;
 import com.lowagie.text.FontFactory;
+import com.lowagie.text.Image;
 import com.lowagie.text.Phrase;
 import com.lowagie.text.pdf.BaseFont;
 import com.lowagie.text.pdf.PdfContentByte;
@@ -16,16 +18,35 @@ import com.lowagie.text.pdf.PdfWriter;
 import org.springframework.stereotype.Component;
 
 import java.awt.Color;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.text.NumberFormat;
 import java.util.List;
 import java.util.Locale;
-
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Blocos de layout compartilhados pelos renderers. Fontes e o logo decodificado ficam em memória entre documentos:
+ * a mesma combinação de família, tamanho e cor devolve a mesma {@link Font}, e o logo é lido uma vez por conteúdo e
+ * entregue como cópia, já que cada documento o redimensiona.
+ */
 @Component
 public class RelatorioLayoutHelper {
 
     private static final Locale PT_BR = Locale.forLanguageTag("pt-BR");
     private static final String FOOTER_TEXT = "Gerado pelo Sistema de Folha — Techne";
+    private static final int MAX_FONTES = 64;
+
+    private record FonteChave(String familia, float tamanho, int rgb) {
+    }
+
+    private record LogoDecodificado(byte[] bytes, Image imagem) {
+    }
+
+    private final Map<FonteChave, Font> fontes = new ConcurrentHashMap<>();
+    private volatile LogoDecodificado logo;
+    private volatile BaseFont footerBaseFont;
 
     public String formatCurrency(BigDecimal value) {
         if (value == null) {
@@ -35,24 +56,47 @@ public class RelatorioLayoutHelper {
         return format.format(value);
     }
 
+    /** Fonte compartilhada entre documentos; não deve ser alterada por quem a recebe. */
+    public Font font(String familia, float tamanho, Color cor) {
+        FonteChave chave = new FonteChave(familia, tamanho, cor.getRGB());
+        Font font = fontes.get(chave);
+        if (font == null) {
+            if (fontes.size() >= MAX_FONTES) {
+                fontes.clear();
+            }
+            font = fontes.computeIfAbsent(chave, k -> FontFactory.getFont(familia, tamanho, cor));
+        }
+        return font;
+    }
+
     public Font titleFont(BrandingTheme theme) {
-        return FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16, parseColor(theme.textColor()));
+        return font(FontFactory.HELVETICA_BOLD, 16, parseColor(theme.textColor()));
     }
 
     public Font bodyFont(BrandingTheme theme) {
-        return FontFactory.getFont(FontFactory.HELVETICA, 10, parseColor(theme.textColor()));
+        return font(FontFactory.HELVETICA, 10, parseColor(theme.textColor()));
     }
 
     public Font kpiValueFont(BrandingTheme theme) {
-        return FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, parseColor(theme.secondaryColor()));
+        return font(FontFactory.HELVETICA_BOLD, 14, parseColor(theme.secondaryColor()));
     }
 
     public Font kpiLabelFont(BrandingTheme theme) {
-        return FontFactory.getFont(FontFactory.HELVETICA, 9, parseColor(theme.textColor()));
+        return font(FontFactory.HELVETICA, 9, parseColor(theme.textColor()));
     }
 
     public Font footerFont() {
-        return FontFactory.getFont(FontFactory.HELVETICA, 8, new Color(100, 116, 139));
+        return font(FontFactory.HELVETICA, 8, new Color(100, 116, 139));
+    }
+
+    /** Cópia do logo já decodificado; o PNG só é lido de novo quando o conteúdo do branding muda. */
+    public Image logo(byte[] bytes) throws IOException, BadElementException {
+        LogoDecodificado atual = logo;
+        if (atual == null || atual.bytes() != bytes) {
+            atual = new LogoDecodificado(bytes, Image.getInstance(bytes));
+            logo = atual;
+        }
+        return Image.getInstance(atual.imagem());
     }
 
     public PdfPTable createKpiBox(String label, String value, BrandingTheme theme, int colspan) {
@@ -78,7 +122,7 @@ public class RelatorioLayoutHelper {
         table.setSpacingAfter(8);
 
         Color headerBg = parseColor(theme.primaryColor());
-        Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, Color.WHITE);
+        Font headerFont = font(FontFactory.HELVETICA_BOLD, 10, Color.WHITE);
         for (String header : headers) {
             PdfPCell cell = new PdfPCell(new Phrase(header, headerFont));
             cell.setBackgroundColor(headerBg);
@@ -111,11 +155,7 @@ public class RelatorioLayoutHelper {
             @Override
             public void onOpenDocument(PdfWriter writer, Document document) {
                 totalPagesTemplate = writer.getDirectContent().createTemplate(30, 16);
-                try {
-                    baseFont = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
-                } catch (Exception e) {
-                    throw new IllegalStateException("Erro ao inicializar fonte do rodapé", e);
-                }
+                baseFont = footerBaseFont();
             }
 
             @Override
@@ -150,6 +190,19 @@ public class RelatorioLayoutHelper {
         };
     }
 
+    private BaseFont footerBaseFont() {
+        BaseFont baseFont = footerBaseFont;
+        if (baseFont == null) {
+            try {
+                baseFont = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+            } catch (Exception e) {
+                throw new IllegalStateException("Erro ao inicializar fonte do rodapé", e);
+            }
+            footerBaseFont = baseFont;
+        }
+        return baseFont;
+    }
+
     public Color parseColor(String hex) {
         return Color.decode(hex.startsWith("#") ? hex : "#" + hex);
     }
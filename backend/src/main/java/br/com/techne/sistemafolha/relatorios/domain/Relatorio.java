@@ -58,6 +58,22 @@ public class Relatorio {
     @Column(name = "data_processamento")
     private LocalDateTime dataProcessamento;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RelatorioPrioridade prioridade = RelatorioPrioridade.INTERATIVA;
+
+    @Column(name = "data_enfileiramento")
+    private LocalDateTime dataEnfileiramento;
+
+    @Column(name = "data_inicio_processamento")
+    private LocalDateTime dataInicioProcessamento;
+
+    @Column(name = "data_heartbeat")
+    private LocalDateTime dataHeartbeat;
+
+    @Column(name = "tentativas_recuperacao", nullable = false)
+    private Integer tentativasRecuperacao = 0;
+
     @Column(nullable = false)
     private Boolean ativo = true;
 
@@ -70,5 +86,11 @@ public class Relatorio {
         if (ativo == null) {
             ativo = true;
         }
+        if (prioridade == null) {
+            prioridade = RelatorioPrioridade.INTERATIVA;
+        }
+        if (tentativasRecuperacao == null) {
+            tentativasRecuperacao = 0;
+        }
     }
 }
@@ -0,0 +1,6 @@
+package br.com.techne.sistemafolha.relatorios.domain;
+
+public enum RelatorioArmazenamentoTipo {
+    BANCO,
+    FILESYSTEM
+}
@@ -24,10 +24,18 @@ public class RelatorioArquivo {
     @JoinColumn(name = "relatorio_id")
     private Relatorio relatorio;
 
+    /** Preenchido só quando {@link #armazenamento} é {@link RelatorioArmazenamentoTipo#BANCO}. */
     @JdbcTypeCode(SqlTypes.VARBINARY)
-    @Column(name = "pdf_bytes", nullable = false, columnDefinition = "bytea")
+    @Column(name = "pdf_bytes", columnDefinition = "bytea")
     private byte[] pdfBytes;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "armazenamento", nullable = false, length = 20)
+    private RelatorioArmazenamentoTipo armazenamento = RelatorioArmazenamentoTipo.BANCO;
+
+    @Column(name = "chave_armazenamento")
+    private String chaveArmazenamento;
+
     @Column(name = "tamanho_bytes", nullable = false)
     private Long tamanhoBytes;
 
@@ -0,0 +1,12 @@
+package br.com.techne.sistemafolha.relatorios.domain;
+
+/**
+ * Ordem de despacho da fila: constantes declaradas primeiro saem antes. Definida pelo servidor conforme a origem do
+ * job, nunca pelo cliente.
+ */
+public enum RelatorioPrioridade {
+    /** Pedido feito pelo usuário nos endpoints de geração. */
+    INTERATIVA,
+    /** Job reenfileirado pelo recovery depois de ficar parado; não passa à frente dos pedidos novos. */
+    RECUPERACAO
+}
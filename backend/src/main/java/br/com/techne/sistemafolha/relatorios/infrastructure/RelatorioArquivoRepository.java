@@ -1,13 +1,33 @@
 package br.com.techne.sistemafolha.relatorios.infrastructure;
 
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArmazenamentoTipo;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioArquivo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RelatorioArquivoRepository extends JpaRepository<RelatorioArquivo, Long> {
 
     Optional<RelatorioArquivo> findByRelatorioId(Long relatorioId);
+
+    boolean existsByRelatorioId(Long relatorioId);
+
+    @Query("""
+        SELECT a.relatorioId FROM RelatorioArquivo a
+        WHERE a.armazenamento = :armazenamento
+          AND a.relatorioId > :aPartirDe
+        ORDER BY a.relatorioId
+        """)
+    List<Long> findRelatorioIdsByArmazenamento(
+        @Param("armazenamento") RelatorioArmazenamentoTipo armazenamento,
+        @Param("aPartirDe") Long aPartirDe,
+        Pageable pageable);
+
+    long countByArmazenamento(RelatorioArmazenamentoTipo armazenamento);
 }
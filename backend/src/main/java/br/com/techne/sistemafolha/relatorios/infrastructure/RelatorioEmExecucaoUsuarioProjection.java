@@ -0,0 +1,9 @@
+package br.com.techne.sistemafolha.relatorios.infrastructure;
+
+/** Relatórios reservados e ainda PENDENTE de um usuário; base da justiça entre usuários na fila. */
+public interface RelatorioEmExecucaoUsuarioProjection {
+
+    Long getUsuarioId();
+
+    Long getEmExecucao();
+}
@@ -0,0 +1,13 @@
+package br.com.techne.sistemafolha.relatorios.infrastructure;
+
+import java.time.LocalDateTime;
+
+/** Relatório PENDENTE aguardando reserva do despachante, sem carregar a entidade nem o usuário. */
+public interface RelatorioFilaCandidatoProjection {
+
+    Long getId();
+
+    Long getUsuarioId();
+
+    LocalDateTime getDataEnfileiramento();
+}
@@ -1,10 +1,17 @@
 package br.com.techne.sistemafolha.relatorios.infrastructure;
 
 import br.com.techne.sistemafolha.relatorios.domain.Relatorio;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioPrioridade;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioTipo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,9 +22,6 @@ public interface RelatorioRepository extends JpaRepository<Relatorio, Long> {
 
     List<Relatorio> findByUsuarioIdAndTipoAndAtivoTrueOrderByAnoDescMesDesc(Long usuarioId, RelatorioTipo tipo);
 
-    List<Relatorio> findByUsuarioIdAndStatusAndAtivoTrue(
-        Long usuarioId, br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus status);
-
     Optional<Relatorio> findByIdAndUsuarioIdAndAtivoTrue(Long id, Long usuarioId);
 
     Optional<Relatorio> findByUsuarioIdAndTipoAndMesAndAnoAndAtivoTrue(
@@ -25,4 +29,136 @@ public interface RelatorioRepository extends JpaRepository<Relatorio, Long> {
 
     long countByUsuarioIdAndStatusAndAtivoTrue(
         Long usuarioId, br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus status);
+
+    @Query("""
+        SELECT r.id AS id, r.usuario.id AS usuarioId, r.dataEnfileiramento AS dataEnfileiramento
+        FROM Relatorio r
+        WHERE r.ativo = true
+          AND r.status = br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus.PENDENTE
+          AND r.prioridade = :prioridade
+          AND r.dataEnfileiramento IS NOT NULL
+          AND r.dataInicioProcessamento IS NULL
+        ORDER BY r.dataEnfileiramento, r.id
+        """)
+    List<RelatorioFilaCandidatoProjection> findCandidatosFila(
+        @Param("prioridade") RelatorioPrioridade prioridade, Pageable pageable);
+
+    @Query("""
+        SELECT r.usuario.id AS usuarioId, COUNT(r) AS emExecucao
+        FROM Relatorio r
+        WHERE r.ativo = true
+          AND r.status = br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus.PENDENTE
+          AND r.dataInicioProcessamento IS NOT NULL
+        GROUP BY r.usuario.id
+        """)
+    List<RelatorioEmExecucaoUsuarioProjection> contarEmExecucaoPorUsuario();
+
+    /** Reserva condicional: só uma instância consegue marcar o início de um relatório ainda na fila. */
+    @Modifying
+    @Query("""
+        UPDATE Relatorio r
+        SET r.dataInicioProcessamento = :agora, r.dataHeartbeat = :agora
+        WHERE r.id = :id
+          AND r.ativo = true
+          AND r.status = br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus.PENDENTE
+          AND r.dataInicioProcessamento IS NULL
+        """)
+    int reservarParaProcessamento(@Param("id") Long id, @Param("agora") LocalDateTime agora);
+
+    /** Volta o relatório para a fila mantendo a posição original; legados sem enfileiramento entram agora. */
+    @Modifying
+    @Query("""
+        UPDATE Relatorio r
+        SET r.dataInicioProcessamento = NULL,
+            r.dataHeartbeat = NULL,
+            r.dataEnfileiramento = COALESCE(r.dataEnfileiramento, :agora)
+        WHERE r.id = :id
+          AND r.status = br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus.PENDENTE
+        """)
+    int devolverParaFila(@Param("id") Long id, @Param("agora") LocalDateTime agora);
+
+    @Query("""
+        SELECT COUNT(r)
+        FROM Relatorio r
+        WHERE r.ativo = true
+          AND r.status = br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus.PENDENTE
+          AND r.prioridade = :prioridade
+          AND r.dataEnfileiramento IS NOT NULL
+          AND r.dataInicioProcessamento IS NULL
+        """)
+    long contarNaFila(@Param("prioridade") RelatorioPrioridade prioridade);
+
+    @Query("""
+        SELECT MIN(r.dataEnfileiramento)
+        FROM Relatorio r
+        WHERE r.ativo = true
+          AND r.status = br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus.PENDENTE
+          AND r.dataEnfileiramento IS NOT NULL
+          AND r.dataInicioProcessamento IS NULL
+        """)
+    LocalDateTime findEnfileiramentoMaisAntigo();
+
+    /**
+     * Reenfileira, num único UPDATE, todo relatório reservado cujo lease venceu e que ainda não teve recuperação.
+     * Ele volta com prioridade RECUPERACAO, atrás dos pedidos interativos. A existência do PDF é testada por
+     * NOT EXISTS, sem ler o arquivo.
+     */
+    @Modifying
+    @Query("""
+        UPDATE Relatorio r
+        SET r.dataInicioProcessamento = NULL,
+            r.dataHeartbeat = NULL,
+            r.dataEnfileiramento = COALESCE(r.dataEnfileiramento, :agora),
+            r.prioridade = br.com.techne.sistemafolha.relatorios.domain.RelatorioPrioridade.RECUPERACAO,
+            r.tentativasRecuperacao = r.tentativasRecuperacao + 1
+        WHERE r.tentativasRecuperacao = 0
+          AND r.ativo = true
+          AND r.status = br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus.PENDENTE
+          AND (r.dataEnfileiramento IS NULL OR r.dataInicioProcessamento IS NOT NULL)
+          AND COALESCE(r.dataHeartbeat, r.dataInicioProcessamento, r.dataCriacao) < :limite
+          AND NOT EXISTS (SELECT 1 FROM RelatorioArquivo a WHERE a.relatorioId = r.id)
+        """)
+    int reenfileirarStale(@Param("limite") LocalDateTime limite, @Param("agora") LocalDateTime agora);
+
+    /** Promove a ERRO, num único UPDATE, os relatórios que voltaram a parar depois de já reenfileirados. */
+    @Modifying
+    @Query("""
+        UPDATE Relatorio r
+        SET r.status = br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus.ERRO,
+            r.erro = :erro,
+            r.dataProcessamento = :agora,
+            r.dataHeartbeat = NULL
+        WHERE r.tentativasRecuperacao > 0
+          AND r.ativo = true
+          AND r.status = br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus.PENDENTE
+          AND (r.dataEnfileiramento IS NULL OR r.dataInicioProcessamento IS NOT NULL)
+          AND COALESCE(r.dataHeartbeat, r.dataInicioProcessamento, r.dataCriacao) < :limite
+          AND NOT EXISTS (SELECT 1 FROM RelatorioArquivo a WHERE a.relatorioId = r.id)
+        """)
+    int promoverStaleAErro(
+        @Param("limite") LocalDateTime limite, @Param("agora") LocalDateTime agora, @Param("erro") String erro);
+
+    /** Pendentes que ainda contam no limite por usuário: na fila, com lease em dia ou já com PDF gravado. */
+    @Query("""
+        SELECT COUNT(r)
+        FROM Relatorio r
+        WHERE r.usuario.id = :usuarioId
+          AND r.ativo = true
+          AND r.status = br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus.PENDENTE
+          AND ((r.dataEnfileiramento IS NOT NULL AND r.dataInicioProcessamento IS NULL)
+               OR COALESCE(r.dataHeartbeat, r.dataInicioProcessamento, r.dataCriacao) >= :limite
+               OR EXISTS (SELECT 1 FROM RelatorioArquivo a WHERE a.relatorioId = r.id))
+        """)
+    long contarPendentesNaoStale(@Param("usuarioId") Long usuarioId, @Param("limite") LocalDateTime limite);
+
+    /** Renova o lease dos relatórios que esta instância está executando. */
+    @Modifying
+    @Query("""
+        UPDATE Relatorio r
+        SET r.dataHeartbeat = :agora
+        WHERE r.id IN :ids
+          AND r.status = br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus.PENDENTE
+          AND r.dataInicioProcessamento IS NOT NULL
+        """)
+    int renovarHeartbeat(@Param("ids") Collection<Long> ids, @Param("agora") LocalDateTime agora);
 }
@@ -8,6 +8,8 @@ import br.com.techne.sistemafolha.auth.domain.Usuario;
 
 import br.com.techne.sistemafolha.workspace.domain.WorkspacePermissions;
 
+import io.jsonwebtoken.Claims;
+
 import jakarta.servlet.FilterChain;
 
 import jakarta.servlet.ServletException;
@@ -30,8 +32,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import org.springframework.security.core.userdetails.UserDetails;
 
-import org.springframework.security.core.userdetails.UserDetailsService;
-
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 
 import org.springframework.stereotype.Component;
@@ -58,7 +58,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
 
-    private final UserDetailsService userDetailsService;
+    private final UsuarioPrincipalCache usuarioPrincipalCache;
 
     private final ApiKeyService apiKeyService;
 
@@ -68,13 +68,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             JwtService jwtService,
 
-            UserDetailsService userDetailsService,
+            UsuarioPrincipalCache usuarioPrincipalCache,
 
             ApiKeyService apiKeyService) {
 
         this.jwtService = jwtService;
 
-        this.userDetailsService = userDetailsService;
+        this.usuarioPrincipalCache = usuarioPrincipalCache;
 
         this.apiKeyService = apiKeyService;
 
@@ -168,27 +168,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 
 
+    /**
+
+     * Assinatura e expiração são verificadas numa única leitura do token; o principal vem do
+
+     * {@link UsuarioPrincipalCache}, sem consulta ao banco enquanto estiver em cache.
+
+     */
+
     private void autenticarJwt(HttpServletRequest request, String jwt) {
 
         try {
 
-            String login = jwtService.extractLogin(jwt);
+            Claims claims = jwtService.validarToken(jwt);
 
-            log.debug("Token JWT extraído para o usuário: {}", login);
+            String login = claims.getSubject();
+
+            log.debug("Token JWT válido para o usuário: {}", login);
 
 
 
             if (login != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(login);
+                UserDetails userDetails = usuarioPrincipalCache.obter(login);
 
                 log.debug("UserDetails carregado para o usuário: {}", login);
 
 
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-
-                    log.debug("Token JWT válido para o usuário: {}", login);
+                if (userDetails.isEnabled()) {
 
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
 
@@ -208,7 +216,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 } else {
 
-                    log.error("Token JWT inválido para o usuário: {}", login);
+                    log.error("Usuário do token JWT inativo: {}", login);
 
                 }
 
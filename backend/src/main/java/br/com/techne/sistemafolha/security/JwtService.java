@@ -2,6 +2,7 @@ package br.com.techne.sistemafolha.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -37,6 +38,10 @@ public class JwtService {
     private final SecureRandom secureRandom = new SecureRandom();
     private final Clock clock;
 
+    // derivados de jwt.secret na primeira utilização; SecretKey e JwtParser são imutáveis e thread-safe
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
     public JwtService(Clock clock) {
         this.clock = clock;
     }
@@ -69,6 +74,14 @@ public class JwtService {
                 .compact();
     }
 
+    /**
+     * Verifica assinatura e expiração com uma única leitura do token e devolve as claims; lança a mesma
+     * {@link RuntimeException} de {@link #extractClaim} quando o token não é válido.
+     */
+    public Claims validarToken(String token) {
+        return extractAllClaims(token);
+    }
+
     public String generateRefreshToken() {
         byte[] randomBytes = new byte[32];
         secureRandom.nextBytes(randomBytes);
@@ -77,8 +90,9 @@ public class JwtService {
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
         try {
-            final String login = extractLogin(token);
-            return (login.equals(userDetails.getUsername())) && !isTokenExpired(token);
+            final Claims claims = extractAllClaims(token);
+            return claims.getSubject().equals(userDetails.getUsername())
+                    && !claims.getExpiration().toInstant().isBefore(Instant.now(clock));
         } catch (Exception e) {
             return false;
         }
@@ -102,9 +116,7 @@ public class JwtService {
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            return getParser()
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (ExpiredJwtException e) {
@@ -120,11 +132,28 @@ public class JwtService {
         }
     }
 
+    private JwtParser getParser() {
+        JwtParser atual = parser;
+        if (atual == null) {
+            atual = Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .clock(() -> Date.from(Instant.now(clock)))
+                    .build();
+            parser = atual;
+        }
+        return atual;
+    }
+
     private SecretKey getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes();
-        if (keyBytes.length < 32) { // 256 bits = 32 bytes
-            throw new IllegalStateException("A chave secreta deve ter pelo menos 256 bits (32 bytes)");
+        SecretKey atual = signingKey;
+        if (atual == null) {
+            byte[] keyBytes = secretKey.getBytes();
+            if (keyBytes.length < 32) { // 256 bits = 32 bytes
+                throw new IllegalStateException("A chave secreta deve ter pelo menos 256 bits (32 bytes)");
+            }
+            atual = Keys.hmacShaKeyFor(keyBytes);
+            signingKey = atual;
         }
-        return Keys.hmacShaKeyFor(keyBytes);
+        return atual;
     }
 } 
\ No newline at end of file
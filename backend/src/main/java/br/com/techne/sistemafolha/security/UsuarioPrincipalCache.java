@@ -0,0 +1,83 @@
+package br.com.techne.sistemafolha.security;
+
+import br.com.techne.sistemafolha.auth.domain.Usuario;
+import br.com.techne.sistemafolha.organograma.acesso.port.ContextoAcessoAlteradoEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Principal das requisições autenticadas por JWT, mantido por login durante um TTL curto para que o filtro não
+ * consulte o banco a cada requisição. Alterações de permissões ou desativação do usuário chegam pelo
+ * {@link ContextoAcessoAlteradoEvent} após o commit; revogação de sessões invalida o login diretamente. Como no
+ * cache de contexto de acesso, uma carga iniciada antes de uma invalidação não é gravada. TTL zero desliga o cache.
+ */
+@Component
+public class UsuarioPrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsuarioPrincipalCache.class);
+    private static final int MAX_ENTRADAS = 10_000;
+
+    private final UserDetailsService userDetailsService;
+    private final Clock clock;
+    private final Duration ttl;
+    private final ConcurrentHashMap<String, Entrada> entradas = new ConcurrentHashMap<>();
+    private final AtomicLong geracao = new AtomicLong();
+
+    private record Entrada(UserDetails principal, Instant expiraEm) {
+    }
+
+    public UsuarioPrincipalCache(
+            UserDetailsService userDetailsService,
+            Clock clock,
+            @Value("${jwt.principal-cache.ttl-segundos:60}") long ttlSegundos) {
+        this.userDetailsService = userDetailsService;
+        this.clock = clock;
+        this.ttl = Duration.ofSeconds(ttlSegundos);
+    }
+
+    /** Principal ativo do login; lança {@code UsernameNotFoundException} quando não há usuário ativo. */
+    public UserDetails obter(String login) {
+        Instant agora = Instant.now(clock);
+        Entrada entrada = entradas.get(login);
+        if (entrada != null && agora.isBefore(entrada.expiraEm())) {
+            return entrada.principal();
+        }
+        long geracaoInicial = geracao.get();
+        UserDetails principal = userDetailsService.loadUserByUsername(login);
+        if (!ttl.isZero() && geracao.get() == geracaoInicial) {
+            if (entradas.size() >= MAX_ENTRADAS) {
+                entradas.clear();
+            }
+            entradas.put(login, new Entrada(principal, agora.plus(ttl)));
+        }
+        return principal;
+    }
+
+    public void invalidar(String login) {
+        geracao.incrementAndGet();
+        entradas.remove(login);
+        logger.debug("Principal em cache invalidado para o usuário: {}", login);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContextoAcessoAlterado(ContextoAcessoAlteradoEvent event) {
+        if (event.usuarioId() == null) {
+            // alteração só na árvore do organograma: o principal não muda
+            return;
+        }
+        geracao.incrementAndGet();
+        entradas.values().removeIf(entrada -> entrada.principal() instanceof Usuario usuario
+            && event.usuarioId().equals(usuario.getId()));
+    }
+}
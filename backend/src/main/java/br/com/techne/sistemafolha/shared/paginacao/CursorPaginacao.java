@@ -0,0 +1,45 @@
+package br.com.techne.sistemafolha.shared.paginacao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posição das consultas paginadas por keyset: id da última linha entregue e, quando a ordenação tem chave antes
+ * do id (nome do funcionário, código da rubrica), essa chave; codificados em Base64 URL-safe.
+ */
+public record CursorPaginacao(String chave, Long id) {
+
+    private static final char SEPARADOR = ':';
+
+    public static final CursorPaginacao INICIO = new CursorPaginacao(null, null);
+
+    public String codificar() {
+        String valor = id + (chave != null ? SEPARADOR + chave : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Cursor nulo ou em branco é o início; valor malformado lança {@link IllegalArgumentException}. */
+    public static CursorPaginacao decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return INICIO;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            if (separador < 0) {
+                return new CursorPaginacao(null, Long.valueOf(valor));
+            }
+            return new CursorPaginacao(valor.substring(separador + 1), Long.valueOf(valor.substring(0, separador)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+
+    /** Para consultas ordenadas por (chave, id): um cursor fora do início sem chave não veio delas. */
+    public CursorPaginacao exigirChave() {
+        if (id != null && chave == null) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        return this;
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.techne.sistemafolha.shared.paginacao;
+
+import java.util.List;
+
+/**
+ * Página de uma consulta por cursor. {@code proximoCursor} é opaco e vai no parâmetro {@code cursor} da chamada
+ * seguinte; nulo quando não há mais itens.
+ */
+public record PaginaDTO<T>(List<T> itens, String proximoCursor) {
+
+    public static <T> PaginaDTO<T> vazia() {
+        return new PaginaDTO<>(List.of(), null);
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.techne.sistemafolha.shared.paginacao;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Limite e montagem de página comuns às APIs paginadas por cursor. A consulta lê {@code tamanho + 1} linhas: a
+ * excedente só indica que há próxima página e não é entregue.
+ */
+public final class Paginacao {
+
+    public static final int LIMITE_PADRAO = 50;
+    public static final int LIMITE_MAXIMO = 200;
+
+    private Paginacao() {
+    }
+
+    /** {@code null} vale {@link #LIMITE_PADRAO}; fora de 1..{@link #LIMITE_MAXIMO} lança IllegalArgumentException. */
+    public static int resolverLimite(Integer limite) {
+        if (limite == null) {
+            return LIMITE_PADRAO;
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+        return limite;
+    }
+
+    public static <E, T> PaginaDTO<T> pagina(
+            List<E> linhas, int tamanho, Function<E, T> paraDto, Function<E, CursorPaginacao> posicaoDe) {
+        if (linhas.size() <= tamanho) {
+            return new PaginaDTO<>(linhas.stream().map(paraDto).toList(), null);
+        }
+        List<E> itens = linhas.subList(0, tamanho);
+        return new PaginaDTO<>(
+            itens.stream().map(paraDto).toList(),
+            posicaoDe.apply(itens.get(tamanho - 1)).codificar());
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.techne.sistemafolha.workspace.application;
+
+import br.com.techne.sistemafolha.workspace.domain.DatasetFieldSchema;
+import br.com.techne.sistemafolha.workspace.domain.DatasetFieldType;
+import br.com.techne.sistemafolha.workspace.domain.WorkspaceDataset;
+import br.com.techne.sistemafolha.workspace.domain.WorkspaceDatasetRow;
+import br.com.techne.sistemafolha.workspace.domain.formula.NumericSeries;
+import br.com.techne.sistemafolha.workspace.infrastructure.DatasetRowVersionProjection;
+import br.com.techne.sistemafolha.workspace.infrastructure.WorkspaceDatasetRowRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Séries colunares ({@link NumericSeries}) dos campos numéricos de cada dataset, montadas uma vez por versão.
+ * A versão combina {@code schemaVersion} com a quantidade de linhas e a última atualização delas, lidas por uma
+ * consulta agregada; só quando ela muda as linhas são carregadas e os valores jsonb convertidos de novo.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatasetSeriesCache {
+
+    private static final int MAX_DATASETS = 256;
+
+    private final WorkspaceDatasetRowRepository rowRepository;
+    private final Map<Long, Entrada> entradas = new ConcurrentHashMap<>();
+
+    private record Versao(Integer schemaVersion, Long linhas, LocalDateTime ultimaAtualizacao) {
+    }
+
+    private record Entrada(Versao versao, Map<String, NumericSeries> series) {
+    }
+
+    public Map<String, NumericSeries> series(Long datasetId, WorkspaceDataset dataset) {
+        Versao versao = versao(datasetId, dataset);
+        Entrada entrada = entradas.get(datasetId);
+        if (entrada != null && entrada.versao().equals(versao)) {
+            return entrada.series();
+        }
+        Map<String, NumericSeries> series = montarSeries(datasetId, dataset);
+        if (entradas.size() >= MAX_DATASETS) {
+            entradas.clear();
+        }
+        entradas.put(datasetId, new Entrada(versao, series));
+        return series;
+    }
+
+    private Versao versao(Long datasetId, WorkspaceDataset dataset) {
+        DatasetRowVersionProjection linhas = rowRepository.findVersaoByDatasetId(datasetId);
+        return new Versao(
+            dataset.getSchemaVersion(),
+            linhas != null ? linhas.getTotal() : null,
+            linhas != null ? linhas.getMaxDataAtualizacao() : null);
+    }
+
+    private Map<String, NumericSeries> montarSeries(Long datasetId, WorkspaceDataset dataset) {
+        List<DatasetFieldSchema> numericos = dataset.getSchema().stream()
+            .filter(DatasetSeriesCache::campoNumerico)
+            .toList();
+        if (numericos.isEmpty()) {
+            return Map.of();
+        }
+        List<WorkspaceDatasetRow> rows = rowRepository.findByDatasetIdOrderByOrdemAscIdAsc(datasetId);
+        Map<String, NumericSeries> series = new HashMap<>();
+        for (DatasetFieldSchema field : numericos) {
+            List<BigDecimal> celulas = new ArrayList<>(rows.size());
+            for (WorkspaceDatasetRow row : rows) {
+                celulas.add(toDecimal(row.getValores().get(field.nome())));
+            }
+            series.put(field.nome(), NumericSeries.of(celulas));
+        }
+        return Map.copyOf(series);
+    }
+
+    static boolean campoNumerico(DatasetFieldSchema field) {
+        return field.tipo() == DatasetFieldType.MOEDA || field.tipo() == DatasetFieldType.NUMERO;
+    }
+
+    private static BigDecimal toDecimal(Object valor) {
+        if (valor == null) {
+            return null;
+        }
+        if (valor instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (valor instanceof Integer || valor instanceof Long) {
+            return BigDecimal.valueOf(((Number) valor).longValue());
+        }
+        return new BigDecimal(valor.toString());
+    }
+}
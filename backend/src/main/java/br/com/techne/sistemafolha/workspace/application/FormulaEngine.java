@@ -2,12 +2,12 @@ package br.com.techne.sistemafolha.workspace.application;
 
 import br.com.techne.sistemafolha.workspace.domain.formula.AvailableField;
 import br.com.techne.sistemafolha.workspace.domain.formula.BinaryExpression;
-import br.com.techne.sistemafolha.workspace.domain.formula.ComparisonOperator;
 import br.com.techne.sistemafolha.workspace.domain.formula.EvaluationContext;
 import br.com.techne.sistemafolha.workspace.domain.formula.FieldReferenceExpression;
 import br.com.techne.sistemafolha.workspace.domain.formula.FormulaExpression;
 import br.com.techne.sistemafolha.workspace.domain.formula.FunctionCallExpression;
 import br.com.techne.sistemafolha.workspace.domain.formula.NumberLiteralExpression;
+import br.com.techne.sistemafolha.workspace.domain.formula.NumericSeries;
 import br.com.techne.sistemafolha.workspace.domain.formula.FormulaParseException;
 import br.com.techne.sistemafolha.workspace.domain.formula.FormulaParser;
 import br.com.techne.sistemafolha.workspace.domain.formula.FormulaTokenizer;
@@ -15,19 +15,19 @@ import br.com.techne.sistemafolha.workspace.domain.formula.FormulaValidationResu
 import br.com.techne.sistemafolha.workspace.domain.formula.TypedValue;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.math.MathContext;
-import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class FormulaEngine {
 
-    private static final MathContext MATH_CONTEXT = new MathContext(16, RoundingMode.HALF_UP);
+    private static final int MAX_CACHED_PLANS = 512;
 
     private static final Set<String> ALLOWED_FUNCTIONS = Set.of(
         "SOMA", "MÉDIA", "MÍN", "MÁX", "CONTAGEM", "SE"
@@ -42,6 +42,7 @@ public class FormulaEngine {
     );
 
     private final FormulaTokenizer tokenizer = new FormulaTokenizer();
+    private final Map<PlanKey, FormulaPlan> plans = new ConcurrentHashMap<>();
 
     public FormulaValidationResult validate(String expression, List<AvailableField> availableFields) {
         if (expression == null || expression.isBlank()) {
@@ -65,8 +66,32 @@ public class FormulaEngine {
     }
 
     public TypedValue evaluate(String expression, EvaluationContext context) {
-        FormulaExpression ast = parse(expression);
-        return evaluateNode(ast, context);
+        return compile(expression, null).evaluate(context);
+    }
+
+    /**
+     * Plano em cache para a expressão no esquema informado. {@code schemaVersion} identifica o conjunto de
+     * {@code availableFields} usado na compilação; campos fora dele são dobrados como séries vazias.
+     */
+    public FormulaPlan plan(String expression, String schemaVersion, Set<String> availableFields) {
+        PlanKey key = new PlanKey(expression, schemaVersion);
+        FormulaPlan plan = plans.get(key);
+        if (plan != null) {
+            return plan;
+        }
+        plan = compile(expression, availableFields);
+        if (plans.size() >= MAX_CACHED_PLANS) {
+            plans.clear();
+        }
+        plans.put(key, plan);
+        return plan;
+    }
+
+    /** Compila sem cache; {@code availableFields} nulo mantém todos os campos como slots. */
+    public FormulaPlan compile(String expression, Set<String> availableFields) {
+        PlanBuilder builder = new PlanBuilder(availableFields);
+        FormulaPlan.Node root = builder.build(parse(expression));
+        return new FormulaPlan(root, builder.fieldSlots, builder.dependencies);
     }
 
     public FormulaExpression parse(String expression) {
@@ -137,92 +162,87 @@ public class FormulaEngine {
         return FORBIDDEN_IDENTIFIERS.contains(identifier.toUpperCase(Locale.ROOT));
     }
 
-    private TypedValue evaluateNode(FormulaExpression node, EvaluationContext context) {
-        if (node instanceof NumberLiteralExpression number) {
-            return TypedValue.number(number.value());
-        }
-        if (node instanceof FieldReferenceExpression field) {
-            return TypedValue.number(aggregateSeries("SOMA", field.name(), context));
-        }
-        if (node instanceof BinaryExpression binary) {
-            return evaluateBinary(binary, context);
-        }
-        if (node instanceof FunctionCallExpression call) {
-            return evaluateFunction(call, context);
-        }
-        throw new FormulaParseException("Expressão inválida");
+    private record PlanKey(String expression, String schemaVersion) {
     }
 
-    private TypedValue evaluateBinary(BinaryExpression binary, EvaluationContext context) {
-        ComparisonOperator op = binary.operator();
-        if (op == ComparisonOperator.GT || op == ComparisonOperator.LT || op == ComparisonOperator.GTE
-            || op == ComparisonOperator.LTE || op == ComparisonOperator.EQ || op == ComparisonOperator.NEQ) {
-            BigDecimal left = evaluateNumeric(binary.left(), context);
-            BigDecimal right = evaluateNumeric(binary.right(), context);
-            boolean result = switch (op) {
-                case GT -> left.compareTo(right) > 0;
-                case LT -> left.compareTo(right) < 0;
-                case GTE -> left.compareTo(right) >= 0;
-                case LTE -> left.compareTo(right) <= 0;
-                case EQ -> left.compareTo(right) == 0;
-                case NEQ -> left.compareTo(right) != 0;
-                default -> throw new IllegalStateException("Operador não comparável");
-            };
-            return TypedValue.bool(result);
-        }
-        BigDecimal left = evaluateNumeric(binary.left(), context);
-        BigDecimal right = evaluateNumeric(binary.right(), context);
-        BigDecimal result = switch (op) {
-            case ADD -> left.add(right, MATH_CONTEXT);
-            case SUBTRACT -> left.subtract(right, MATH_CONTEXT);
-            case MULTIPLY -> left.multiply(right, MATH_CONTEXT);
-            case DIVIDE -> divideSafe(left, right);
-            default -> throw new IllegalStateException("Operador aritmético inválido");
-        };
-        return TypedValue.number(result);
-    }
+    private static final class PlanBuilder {
+        private final Set<String> availableFields;
+        private final List<String> fieldSlots = new ArrayList<>();
+        private final List<FormulaPlan.AggregateDependency> dependencies = new ArrayList<>();
+        private final Map<String, Integer> slotByField = new HashMap<>();
+        private final Map<FormulaPlan.AggregateDependency, Integer> dependencyIndex = new HashMap<>();
+
+        PlanBuilder(Set<String> availableFields) {
+            this.availableFields = availableFields;
+        }
 
-    private TypedValue evaluateFunction(FunctionCallExpression call, EvaluationContext context) {
-        return switch (call.name()) {
-            case "SOMA", "MÉDIA", "MÍN", "MÁX", "CONTAGEM" -> {
-                FieldReferenceExpression field = (FieldReferenceExpression) call.arguments().get(0);
-                yield TypedValue.number(aggregateSeries(call.name(), field.name(), context));
+        FormulaPlan.Node build(FormulaExpression node) {
+            if (node instanceof NumberLiteralExpression number) {
+                return new FormulaPlan.Constant(TypedValue.number(number.value()));
             }
-            case "SE" -> {
-                boolean condition = evaluateNode(call.arguments().get(0), context).asBoolean();
-                FormulaExpression branch = condition ? call.arguments().get(1) : call.arguments().get(2);
-                yield evaluateNode(branch, context);
+            if (node instanceof FieldReferenceExpression field) {
+                return aggregate("SOMA", field.name());
             }
-            default -> throw new FormulaParseException("Função não permitida: " + call.name());
-        };
-    }
-
-    private BigDecimal evaluateNumeric(FormulaExpression node, EvaluationContext context) {
-        TypedValue value = evaluateNode(node, context);
-        return value.asNumber();
-    }
+            if (node instanceof BinaryExpression binary) {
+                return fold(new FormulaPlan.Binary(binary.operator(), build(binary.left()), build(binary.right())));
+            }
+            if (node instanceof FunctionCallExpression call) {
+                return buildFunction(call);
+            }
+            throw new FormulaParseException("Expressão inválida");
+        }
 
-    private BigDecimal aggregateSeries(String function, String fieldName, EvaluationContext context) {
-        List<BigDecimal> series = context.series(fieldName);
-        if (series.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-        return switch (function) {
-            case "SOMA" -> series.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
-            case "MÉDIA" -> series.stream()
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(series.size()), MATH_CONTEXT);
-            case "MÍN" -> series.stream().min(BigDecimal::compareTo).orElse(BigDecimal.ZERO);
-            case "MÁX" -> series.stream().max(BigDecimal::compareTo).orElse(BigDecimal.ZERO);
-            case "CONTAGEM" -> BigDecimal.valueOf(series.size());
-            default -> throw new IllegalStateException("Função de agregação inválida");
-        };
-    }
+        private FormulaPlan.Node buildFunction(FunctionCallExpression call) {
+            String fn = call.name();
+            if (AGGREGATION_FUNCTIONS.contains(fn)) {
+                if (call.arguments().size() != 1
+                    || !(call.arguments().get(0) instanceof FieldReferenceExpression field)) {
+                    throw new FormulaParseException(fn + " requer referência a campo");
+                }
+                return aggregate(fn, field.name());
+            }
+            if ("SE".equals(fn)) {
+                if (call.arguments().size() != 3) {
+                    throw new FormulaParseException("SE requer exatamente 3 argumentos");
+                }
+                FormulaPlan.Node condition = build(call.arguments().get(0));
+                if (condition instanceof FormulaPlan.Constant constant
+                    && constant.value().kind() == TypedValue.ValueKind.BOOLEAN) {
+                    // o ramo descartado não registra slots nem dependências
+                    return build(call.arguments().get(constant.value().asBoolean() ? 1 : 2));
+                }
+                return new FormulaPlan.Conditional(
+                    condition, build(call.arguments().get(1)), build(call.arguments().get(2)));
+            }
+            throw new FormulaParseException("Função não permitida: " + fn);
+        }
 
-    private BigDecimal divideSafe(BigDecimal left, BigDecimal right) {
-        if (right.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
+        private FormulaPlan.Node aggregate(String function, String fieldName) {
+            if (availableFields != null && !availableFields.contains(fieldName)) {
+                return new FormulaPlan.Constant(TypedValue.number(FormulaPlan.aggregate(function, NumericSeries.EMPTY)));
+            }
+            int slot = slotByField.computeIfAbsent(fieldName, name -> {
+                fieldSlots.add(name);
+                return fieldSlots.size() - 1;
+            });
+            FormulaPlan.AggregateDependency dependency = new FormulaPlan.AggregateDependency(function, slot);
+            int index = dependencyIndex.computeIfAbsent(dependency, dep -> {
+                dependencies.add(dep);
+                return dependencies.size() - 1;
+            });
+            return new FormulaPlan.Aggregate(index);
+        }
+
+        private FormulaPlan.Node fold(FormulaPlan.Binary binary) {
+            if (binary.left() instanceof FormulaPlan.Constant && binary.right() instanceof FormulaPlan.Constant) {
+                try {
+                    // operandos constantes não consultam o estado da avaliação
+                    return new FormulaPlan.Constant(binary.evaluate(null));
+                } catch (IllegalStateException tipoIncompativel) {
+                    // mantém o nó para falhar na avaliação, como na interpretação direta
+                }
+            }
+            return binary;
         }
-        return left.divide(right, MATH_CONTEXT);
     }
 }
@@ -0,0 +1,152 @@
+package br.com.techne.sistemafolha.workspace.application;
+
+import br.com.techne.sistemafolha.workspace.domain.formula.ComparisonOperator;
+import br.com.techne.sistemafolha.workspace.domain.formula.EvaluationContext;
+import br.com.techne.sistemafolha.workspace.domain.formula.NumericSeries;
+import br.com.techne.sistemafolha.workspace.domain.formula.TypedValue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fórmula compilada por {@link FormulaEngine#compile}: imutável e reutilizável entre contextos. Subexpressões
+ * constantes já vêm dobradas, cada campo referenciado ocupa um slot e cada agregação distinta (função, campo)
+ * é uma dependência calculada no máximo uma vez por avaliação.
+ */
+public final class FormulaPlan {
+
+    static final MathContext MATH_CONTEXT = new MathContext(16, RoundingMode.HALF_UP);
+
+    public record AggregateDependency(String function, int slot) {
+    }
+
+    private final Node root;
+    private final List<String> fieldSlots;
+    private final List<AggregateDependency> aggregateDependencies;
+
+    FormulaPlan(Node root, List<String> fieldSlots, List<AggregateDependency> aggregateDependencies) {
+        this.root = root;
+        this.fieldSlots = List.copyOf(fieldSlots);
+        this.aggregateDependencies = List.copyOf(aggregateDependencies);
+    }
+
+    public TypedValue evaluate(EvaluationContext context) {
+        return root.evaluate(new Evaluation(context));
+    }
+
+    /** Campos lidos pela fórmula, na ordem dos slots; séries de outros campos não precisam ser carregadas. */
+    public List<String> fieldSlots() {
+        return fieldSlots;
+    }
+
+    public Set<String> fields() {
+        return fieldSlots.stream().collect(Collectors.toUnmodifiableSet());
+    }
+
+    public List<AggregateDependency> aggregateDependencies() {
+        return aggregateDependencies;
+    }
+
+    boolean isConstant() {
+        return root instanceof Constant;
+    }
+
+    static BigDecimal aggregate(String function, NumericSeries series) {
+        if (series.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+        return switch (function) {
+            case "SOMA" -> series.sum();
+            case "MÉDIA" -> series.average(MATH_CONTEXT);
+            case "MÍN" -> series.min();
+            case "MÁX" -> series.max();
+            case "CONTAGEM" -> BigDecimal.valueOf(series.count());
+            default -> throw new IllegalStateException("Função de agregação inválida");
+        };
+    }
+
+    /** Estado de uma avaliação: séries e agregados resolvidos sob demanda, uma vez cada. */
+    final class Evaluation {
+        private final EvaluationContext context;
+        private final NumericSeries[] series;
+        private final BigDecimal[] aggregates;
+
+        Evaluation(EvaluationContext context) {
+            this.context = context;
+            this.series = new NumericSeries[fieldSlots.size()];
+            this.aggregates = new BigDecimal[aggregateDependencies.size()];
+        }
+
+        BigDecimal aggregate(int dependency) {
+            BigDecimal value = aggregates[dependency];
+            if (value == null) {
+                AggregateDependency dep = aggregateDependencies.get(dependency);
+                value = FormulaPlan.aggregate(dep.function(), series(dep.slot()));
+                aggregates[dependency] = value;
+            }
+            return value;
+        }
+
+        private NumericSeries series(int slot) {
+            NumericSeries values = series[slot];
+            if (values == null) {
+                values = context == null ? NumericSeries.EMPTY : context.column(fieldSlots.get(slot));
+                series[slot] = values;
+            }
+            return values;
+        }
+    }
+
+    sealed interface Node permits Constant, Aggregate, Binary, Conditional {
+        TypedValue evaluate(Evaluation evaluation);
+    }
+
+    record Constant(TypedValue value) implements Node {
+        @Override
+        public TypedValue evaluate(Evaluation evaluation) {
+            return value;
+        }
+    }
+
+    record Aggregate(int dependency) implements Node {
+        @Override
+        public TypedValue evaluate(Evaluation evaluation) {
+            return TypedValue.number(evaluation.aggregate(dependency));
+        }
+    }
+
+    record Binary(ComparisonOperator operator, Node left, Node right) implements Node {
+        @Override
+        public TypedValue evaluate(Evaluation evaluation) {
+            BigDecimal l = left.evaluate(evaluation).asNumber();
+            BigDecimal r = right.evaluate(evaluation).asNumber();
+            return switch (operator) {
+                case GT -> TypedValue.bool(l.compareTo(r) > 0);
+                case LT -> TypedValue.bool(l.compareTo(r) < 0);
+                case GTE -> TypedValue.bool(l.compareTo(r) >= 0);
+                case LTE -> TypedValue.bool(l.compareTo(r) <= 0);
+                case EQ -> TypedValue.bool(l.compareTo(r) == 0);
+                case NEQ -> TypedValue.bool(l.compareTo(r) != 0);
+                case ADD -> TypedValue.number(l.add(r, MATH_CONTEXT));
+                case SUBTRACT -> TypedValue.number(l.subtract(r, MATH_CONTEXT));
+                case MULTIPLY -> TypedValue.number(l.multiply(r, MATH_CONTEXT));
+                case DIVIDE -> TypedValue.number(r.compareTo(BigDecimal.ZERO) == 0
+                    ? BigDecimal.ZERO
+                    : l.divide(r, MATH_CONTEXT));
+            };
+        }
+    }
+
+    record Conditional(Node condition, Node whenTrue, Node whenFalse) implements Node {
+        @Override
+        public TypedValue evaluate(Evaluation evaluation) {
+            return condition.evaluate(evaluation).asBoolean()
+                ? whenTrue.evaluate(evaluation)
+                : whenFalse.evaluate(evaluation);
+        }
+    }
+}
@@ -18,6 +18,7 @@ import br.com.techne.sistemafolha.workspace.domain.WorkspaceWidgetPayload;
 import br.com.techne.sistemafolha.workspace.domain.InvalidFormulaException;
 import br.com.techne.sistemafolha.workspace.domain.formula.EvaluationContext;
 import br.com.techne.sistemafolha.workspace.domain.formula.FormulaValidationResult;
+import br.com.techne.sistemafolha.workspace.domain.formula.NumericSeries;
 import br.com.techne.sistemafolha.workspace.domain.formula.TypedValue;
 import br.com.techne.sistemafolha.workspace.infrastructure.WorkspaceDatasetRowRepository;
 import br.com.techne.sistemafolha.workspace.infrastructure.WorkspaceWidgetDefinitionRepository;
@@ -34,13 +35,13 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -59,6 +60,7 @@ public class WidgetQueryService {
     private final DatasetService datasetService;
     private final WidgetDefinitionService widgetDefinitionService;
     private final FormulaEngine formulaEngine;
+    private final DatasetSeriesCache datasetSeriesCache;
     private final OrcamentoConsultaPort orcamentoConsultaPort;
     private final FolhaConsultaPort folhaConsultaPort;
 
@@ -175,12 +177,15 @@ public class WidgetQueryService {
             WorkspaceWidgetDefinition definition,
             YearMonth competencia,
             String competenciaLabel) {
-        EvaluationContext ctx = buildEvaluationContext(access, definition, competencia);
         if (definition.getFormula() == null || definition.getFormula().isBlank()) {
             return WorkspaceWidgetDataDTO.semDados(
                 layoutWidget.instanceId(), definition.getId(), null, definition.getTipo(), competenciaLabel);
         }
-        TypedValue result = formulaEngine.evaluate(definition.getFormula(), ctx);
+        Map<Long, WorkspaceDataset> datasets = carregarDatasetsFontes(access.usuarioId(), definition);
+        FormulaPlan plano = formulaEngine.plan(
+            definition.getFormula(), versaoSchema(definition, datasets), camposDisponiveis(definition, datasets));
+        EvaluationContext ctx = buildEvaluationContext(access, definition, datasets, competencia, plano.fields());
+        TypedValue result = plano.evaluate(ctx);
         Map<String, String> valores = Map.of("valor", formatMoney(result.asNumber()));
         return new WorkspaceWidgetDataDTO(
             layoutWidget.instanceId(),
@@ -291,34 +296,79 @@ public class WidgetQueryService {
         return totals;
     }
 
+    private Map<Long, WorkspaceDataset> carregarDatasetsFontes(Long usuarioId, WorkspaceWidgetDefinition definition) {
+        Map<Long, WorkspaceDataset> datasets = new LinkedHashMap<>();
+        for (WidgetSourceRef fonte : definition.getFontes()) {
+            if (fonte.kind() == WidgetSourceKind.DATASET) {
+                Long datasetId = Long.parseLong(fonte.ref());
+                datasets.computeIfAbsent(datasetId, id -> datasetService.findOwnedDataset(usuarioId, id));
+            }
+        }
+        return datasets;
+    }
+
+    /** Identifica o esquema das fontes para o cache de planos: muda com qualquer alteração de schema. */
+    private String versaoSchema(WorkspaceWidgetDefinition definition, Map<Long, WorkspaceDataset> datasets) {
+        StringBuilder versao = new StringBuilder();
+        for (WidgetSourceRef fonte : definition.getFontes()) {
+            if (fonte.kind() == WidgetSourceKind.DATASET) {
+                Long datasetId = Long.parseLong(fonte.ref());
+                versao.append("D").append(datasetId).append('v').append(datasets.get(datasetId).getSchemaVersion());
+            } else if (fonte.kind() == WidgetSourceKind.SISTEMA) {
+                versao.append("S").append(fonte.ref().toUpperCase(Locale.ROOT));
+            }
+            versao.append('|');
+        }
+        return versao.toString();
+    }
+
+    private Set<String> camposDisponiveis(WorkspaceWidgetDefinition definition, Map<Long, WorkspaceDataset> datasets) {
+        Set<String> campos = new HashSet<>();
+        for (WorkspaceDataset dataset : datasets.values()) {
+            for (DatasetFieldSchema field : dataset.getSchema()) {
+                if (DatasetSeriesCache.campoNumerico(field)) {
+                    campos.add(field.nome());
+                }
+            }
+        }
+        boolean orcamento = definition.getFontes().stream()
+            .anyMatch(f -> f.kind() == WidgetSourceKind.SISTEMA && "ORCAMENTO".equalsIgnoreCase(f.ref()));
+        if (orcamento) {
+            campos.add("realizado");
+            campos.add("orcado");
+        }
+        return campos;
+    }
+
     private EvaluationContext buildEvaluationContext(
             WorkspaceAccessGuard.ResolvedWorkspaceAccess access,
             WorkspaceWidgetDefinition definition,
-            YearMonth competencia) {
+            Map<Long, WorkspaceDataset> datasets,
+            YearMonth competencia,
+            Set<String> campos) {
         EvaluationContext.Builder builder = EvaluationContext.builder();
         for (WidgetSourceRef fonte : definition.getFontes()) {
             if (fonte.kind() == WidgetSourceKind.DATASET) {
-                addDatasetSeries(builder, access.usuarioId(), Long.parseLong(fonte.ref()));
+                Long datasetId = Long.parseLong(fonte.ref());
+                addDatasetSeries(builder, datasetId, datasets.get(datasetId), campos);
             } else if (fonte.kind() == WidgetSourceKind.SISTEMA) {
-                addSystemSeries(builder, fonte.ref(), access, competencia);
+                addSystemSeries(builder, fonte.ref(), access, competencia, campos);
             }
         }
         return builder.build();
     }
 
-    private void addDatasetSeries(EvaluationContext.Builder builder, Long usuarioId, Long datasetId) {
-        WorkspaceDataset dataset = datasetService.findOwnedDataset(usuarioId, datasetId);
-        List<WorkspaceDatasetRow> rows = rowRepository.findByDatasetIdOrderByOrdemAscIdAsc(datasetId);
-        for (DatasetFieldSchema field : dataset.getSchema()) {
-            if (field.tipo() != DatasetFieldType.MOEDA && field.tipo() != DatasetFieldType.NUMERO) {
-                continue;
-            }
-            List<BigDecimal> values = rows.stream()
-                .map(r -> r.getValores().get(field.nome()))
-                .filter(v -> v != null)
-                .map(v -> new BigDecimal(v.toString()))
-                .collect(Collectors.toList());
-            builder.putSeries(field.nome(), values);
+    private void addDatasetSeries(
+            EvaluationContext.Builder builder, Long datasetId, WorkspaceDataset dataset, Set<String> campos) {
+        List<DatasetFieldSchema> usados = dataset.getSchema().stream()
+            .filter(field -> DatasetSeriesCache.campoNumerico(field) && campos.contains(field.nome()))
+            .toList();
+        if (usados.isEmpty()) {
+            return;
+        }
+        Map<String, NumericSeries> series = datasetSeriesCache.series(datasetId, dataset);
+        for (DatasetFieldSchema field : usados) {
+            builder.putColumn(field.nome(), series.getOrDefault(field.nome(), NumericSeries.EMPTY));
         }
     }
 
@@ -326,14 +376,17 @@ public class WidgetQueryService {
             EvaluationContext.Builder builder,
             String ref,
             WorkspaceAccessGuard.ResolvedWorkspaceAccess access,
-            YearMonth competencia) {
+            YearMonth competencia,
+            Set<String> campos) {
         if (!"ORCAMENTO".equalsIgnoreCase(ref)) {
             return;
         }
-        List<OrcamentoCentroCustoDTO> realizados = orcamentoConsultaPort.obterRealizadoPorCentroCusto(
-            access.contexto(), competencia);
-        List<BigDecimal> valores = realizados.stream().map(OrcamentoCentroCustoDTO::realizado).toList();
-        builder.putSeries("realizado", valores);
+        if (campos.contains("realizado")) {
+            List<OrcamentoCentroCustoDTO> realizados = orcamentoConsultaPort.obterRealizadoPorCentroCusto(
+                access.contexto(), competencia);
+            List<BigDecimal> valores = realizados.stream().map(OrcamentoCentroCustoDTO::realizado).toList();
+            builder.putSeries("realizado", valores);
+        }
         builder.putSeries("orcado", List.of());
     }
 
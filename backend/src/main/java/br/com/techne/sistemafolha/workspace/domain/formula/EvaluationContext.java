@@ -8,14 +8,18 @@ import java.util.Map;
 
 public class EvaluationContext {
 
-    private final Map<String, List<BigDecimal>> fieldSeries;
+    private final Map<String, NumericSeries> fieldSeries;
 
-    private EvaluationContext(Map<String, List<BigDecimal>> fieldSeries) {
+    private EvaluationContext(Map<String, NumericSeries> fieldSeries) {
         this.fieldSeries = Collections.unmodifiableMap(fieldSeries);
     }
 
     public List<BigDecimal> series(String fieldName) {
-        return fieldSeries.getOrDefault(fieldName, List.of());
+        return column(fieldName).values();
+    }
+
+    public NumericSeries column(String fieldName) {
+        return fieldSeries.getOrDefault(fieldName, NumericSeries.EMPTY);
     }
 
     public static Builder builder() {
@@ -23,10 +27,15 @@ public class EvaluationContext {
     }
 
     public static final class Builder {
-        private final Map<String, List<BigDecimal>> fieldSeries = new HashMap<>();
+        private final Map<String, NumericSeries> fieldSeries = new HashMap<>();
 
         public Builder putSeries(String fieldName, List<BigDecimal> values) {
-            fieldSeries.put(fieldName, values);
+            fieldSeries.put(fieldName, NumericSeries.of(values));
+            return this;
+        }
+
+        public Builder putColumn(String fieldName, NumericSeries column) {
+            fieldSeries.put(fieldName, column);
             return this;
         }
 
@@ -0,0 +1,206 @@
+package br.com.techne.sistemafolha.workspace.domain.formula;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Série numérica em formato colunar e imutável: os valores ficam em um {@code long[]} denso (sem escala, na maior
+ * escala da série) e as células nulas em um bitmap, valendo zero no array. As agregações percorrem o array
+ * primitivo sem alocar por elemento; se algum valor não couber em {@code long} nessa escala, a série guarda os
+ * {@link BigDecimal} originais e as agregações seguem o caminho exato com eles. Quando as escalas das células
+ * diferem, a de cada uma fica guardada para {@link #min()}, {@link #max()} e {@link #values()} devolverem o valor
+ * como veio ({@code 10}, não {@code 10.00}); soma e média usam a escala comum.
+ */
+public final class NumericSeries {
+
+    public static final NumericSeries EMPTY = new NumericSeries(0, 0, new long[0], null, new BitSet(), null, 0, 0L);
+
+    private final int size;
+    private final int scale;
+    private final long[] unscaled;
+    /** Escala original de cada célula; {@code null} quando todas já estão na escala comum. */
+    private final int[] scales;
+    private final BitSet nulls;
+    private final BigDecimal[] decimals;
+    private final int count;
+    /** Maior |valor| sem escala; decide se a soma pode ser feita sem verificação de overflow. */
+    private final long maxAbs;
+
+    private NumericSeries(
+            int size, int scale, long[] unscaled, int[] scales, BitSet nulls, BigDecimal[] decimals, int count,
+            long maxAbs) {
+        this.size = size;
+        this.scale = scale;
+        this.unscaled = unscaled;
+        this.scales = scales;
+        this.nulls = nulls;
+        this.decimals = decimals;
+        this.count = count;
+        this.maxAbs = maxAbs;
+    }
+
+    /** Monta a série a partir de células em ordem; {@code null} marca célula vazia. */
+    public static NumericSeries of(List<BigDecimal> cells) {
+        if (cells.isEmpty()) {
+            return EMPTY;
+        }
+        int size = cells.size();
+        BitSet nulls = new BitSet(size);
+        int scale = 0;
+        boolean mixedScales = false;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            BigDecimal value = cells.get(i);
+            if (value == null) {
+                nulls.set(i);
+            } else {
+                mixedScales |= count > 0 && value.scale() != scale;
+                scale = count == 0 ? value.scale() : Math.max(scale, value.scale());
+                count++;
+            }
+        }
+        mixedScales |= scale < 0;
+        scale = Math.max(scale, 0);
+        long[] unscaled = new long[size];
+        int[] scales = mixedScales ? new int[size] : null;
+        long maxAbs = 0L;
+        for (int i = 0; i < size; i++) {
+            BigDecimal value = cells.get(i);
+            if (value == null) {
+                continue;
+            }
+            BigInteger raw = value.setScale(scale).unscaledValue();
+            if (raw.bitLength() >= 63) {
+                return new NumericSeries(
+                    size, scale, null, null, nulls, cells.toArray(new BigDecimal[0]), count, 0L);
+            }
+            unscaled[i] = raw.longValue();
+            if (scales != null) {
+                scales[i] = value.scale();
+            }
+            maxAbs = Math.max(maxAbs, Math.abs(unscaled[i]));
+        }
+        return new NumericSeries(size, scale, unscaled, scales, nulls, null, count, maxAbs);
+    }
+
+    /** Quantidade de células, inclusive as nulas. */
+    public int size() {
+        return size;
+    }
+
+    /** Quantidade de valores não nulos. */
+    public int count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public BigDecimal sum() {
+        if (count == 0) {
+            return BigDecimal.ZERO;
+        }
+        if (decimals != null) {
+            return sumDecimals();
+        }
+        if (maxAbs <= Long.MAX_VALUE / size) {
+            long total = 0L;
+            for (long value : unscaled) {
+                total += value;
+            }
+            return BigDecimal.valueOf(total, scale);
+        }
+        try {
+            long total = 0L;
+            for (long value : unscaled) {
+                total = Math.addExact(total, value);
+            }
+            return BigDecimal.valueOf(total, scale);
+        } catch (ArithmeticException overflow) {
+            BigInteger total = BigInteger.ZERO;
+            for (long value : unscaled) {
+                total = total.add(BigInteger.valueOf(value));
+            }
+            return new BigDecimal(total, scale);
+        }
+    }
+
+    public BigDecimal average(MathContext mathContext) {
+        if (count == 0) {
+            return BigDecimal.ZERO;
+        }
+        return sum().divide(BigDecimal.valueOf(count), mathContext);
+    }
+
+    public BigDecimal min() {
+        return extreme(true);
+    }
+
+    public BigDecimal max() {
+        return extreme(false);
+    }
+
+    /** Valores não nulos em ordem, como a série em lista usada antes do formato colunar. */
+    public List<BigDecimal> values() {
+        if (count == 0) {
+            return List.of();
+        }
+        List<BigDecimal> values = new ArrayList<>(count);
+        for (int i = nulls.nextClearBit(0); i < size; i = nulls.nextClearBit(i + 1)) {
+            values.add(decimals != null ? decimals[i] : original(i));
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    private BigDecimal sumDecimals() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal value : decimals) {
+            if (value != null) {
+                total = total.add(value);
+            }
+        }
+        return total;
+    }
+
+    private BigDecimal extreme(boolean min) {
+        if (count == 0) {
+            return BigDecimal.ZERO;
+        }
+        if (decimals != null) {
+            BigDecimal best = null;
+            for (BigDecimal value : decimals) {
+                if (value != null && (best == null || (min ? value.compareTo(best) < 0 : value.compareTo(best) > 0))) {
+                    best = value;
+                }
+            }
+            return best;
+        }
+        int best = nulls.nextClearBit(0);
+        if (nulls.isEmpty()) {
+            for (int i = 1; i < size; i++) {
+                if (min ? unscaled[i] < unscaled[best] : unscaled[i] > unscaled[best]) {
+                    best = i;
+                }
+            }
+        } else {
+            for (int i = nulls.nextClearBit(best + 1); i < size; i = nulls.nextClearBit(i + 1)) {
+                if (min ? unscaled[i] < unscaled[best] : unscaled[i] > unscaled[best]) {
+                    best = i;
+                }
+            }
+        }
+        return original(best);
+    }
+
+    /** Valor da célula {@code i} na escala em que entrou; a redução é exata porque só desfaz o {@code setScale}. */
+    private BigDecimal original(int i) {
+        BigDecimal value = BigDecimal.valueOf(unscaled[i], scale);
+        return scales != null ? value.setScale(scales[i]) : value;
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.techne.sistemafolha.workspace.infrastructure;
+
+import java.time.LocalDateTime;
+
+public interface DatasetRowVersionProjection {
+
+    Long getTotal();
+
+    LocalDateTime getMaxDataAtualizacao();
+}
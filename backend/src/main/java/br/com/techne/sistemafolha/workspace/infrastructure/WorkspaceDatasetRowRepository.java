@@ -27,4 +27,11 @@ public interface WorkspaceDatasetRowRepository extends JpaRepository<WorkspaceDa
         """)
     List<DatasetRowMaxUpdateProjection> findMaxDataAtualizacaoByDatasetIdIn(
         @Param("datasetIds") Collection<Long> datasetIds);
+
+    @Query("""
+        SELECT COUNT(r) AS total, MAX(r.dataAtualizacao) AS maxDataAtualizacao
+        FROM WorkspaceDatasetRow r
+        WHERE r.datasetId = :datasetId
+        """)
+    DatasetRowVersionProjection findVersaoByDatasetId(@Param("datasetId") Long datasetId);
 }
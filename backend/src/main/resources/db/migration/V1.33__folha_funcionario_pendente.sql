@@ -0,0 +1,19 @@
+-- Processamento incremental: pares funcionário × competência alterados desde o último processamento
+CREATE TABLE IF NOT EXISTS folha_funcionario_pendente (
+    id BIGSERIAL PRIMARY KEY,
+    funcionario_id BIGINT NOT NULL REFERENCES funcionarios(id),
+    competencia_inicio DATE NOT NULL,
+    competencia_fim DATE NOT NULL,
+    decimo_terceiro BOOLEAN NOT NULL DEFAULT FALSE,
+    origem VARCHAR(30) NOT NULL,
+    data_registro TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_folha_funcionario_pendente_competencia_funcionario
+    ON folha_funcionario_pendente (competencia_inicio, competencia_fim, decimo_terceiro, funcionario_id);
+
+CREATE INDEX IF NOT EXISTS idx_ficha_mensal_funcionario_competencia
+    ON ficha_mensal (funcionario_id, competencia_inicio, competencia_fim, decimo_terceiro);
+
+COMMENT ON TABLE folha_funcionario_pendente IS
+    'Funcionários com ficha desatualizada por importação, edição de rubrica fixa ou exclusão de linha ADP';
@@ -0,0 +1,31 @@
+-- Importação ADP assíncrona: job com o arquivo enviado, fase corrente e progresso
+CREATE TABLE IF NOT EXISTS importacao_folha_job (
+    id                      BIGSERIAL PRIMARY KEY,
+    usuario_login           VARCHAR(100) NOT NULL,
+    nome_arquivo            VARCHAR(255) NOT NULL,
+    tamanho_bytes           BIGINT NOT NULL,
+    conteudo                BYTEA,
+    decimo_terceiro         BOOLEAN,
+    confirmar_substituicao  BOOLEAN NOT NULL DEFAULT FALSE,
+    status                  VARCHAR(20) NOT NULL DEFAULT 'PENDENTE',
+    fase                    VARCHAR(20),
+    competencia_inicio      DATE,
+    competencia_fim         DATE,
+    linhas_lidas            INT,
+    linhas_importadas       INT,
+    fichas_processadas      INT,
+    linhas_processadas      INT,
+    tentativas              INT NOT NULL DEFAULT 0,
+    conflito                BOOLEAN NOT NULL DEFAULT FALSE,
+    erro                    VARCHAR(1000),
+    data_criacao            TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    data_atualizacao        TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    data_persistencia       TIMESTAMP,
+    data_conclusao          TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_importacao_folha_job_ativos
+    ON importacao_folha_job (status, data_atualizacao) WHERE status IN ('PENDENTE', 'EM_ANDAMENTO');
+
+COMMENT ON COLUMN importacao_folha_job.data_persistencia IS
+    'Commit das linhas importadas; job interrompido após este ponto retoma apenas o processamento das fichas';
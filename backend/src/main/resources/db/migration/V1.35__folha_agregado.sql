@@ -0,0 +1,26 @@
+-- Agregados da ficha por competência × centro de custo × dimensão, lidos pelos dashboards
+CREATE TABLE IF NOT EXISTS folha_agregado (
+    id BIGSERIAL PRIMARY KEY,
+    competencia_inicio DATE NOT NULL,
+    competencia_fim DATE NOT NULL,
+    decimo_terceiro BOOLEAN NOT NULL DEFAULT FALSE,
+    centro_custo_id BIGINT,
+    linha_negocio_id BIGINT,
+    linha_negocio_descricao VARCHAR(255),
+    dimensao VARCHAR(20) NOT NULL,
+    chave_id BIGINT,
+    chave_codigo VARCHAR(50),
+    chave_descricao VARCHAR(255),
+    quantidade_funcionarios BIGINT NOT NULL DEFAULT 0,
+    quantidade_lancamentos BIGINT NOT NULL DEFAULT 0,
+    valor_total NUMERIC(15,2) NOT NULL DEFAULT 0,
+    custo_folha NUMERIC(15,2) NOT NULL DEFAULT 0,
+    data_atualizacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_folha_agregado_competencia
+    ON folha_agregado (competencia_inicio, competencia_fim, decimo_terceiro, centro_custo_id);
+
+COMMENT ON TABLE folha_agregado IS
+    'Totais das fichas por centro de custo (CENTRO_CUSTO), cargo (CARGO) e rubrica (PROVENTO/DESCONTO), '
+    'reconstruídos ao fim de cada processamento da competência';
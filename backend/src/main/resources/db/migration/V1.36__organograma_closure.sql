@@ -0,0 +1,26 @@
+-- Closure table do organograma: um registro por par ancestral/descendente, incluindo o próprio nó (profundidade 0)
+CREATE TABLE IF NOT EXISTS organograma_closure (
+    ancestral_id BIGINT NOT NULL REFERENCES nos_organograma(id) ON DELETE CASCADE,
+    descendente_id BIGINT NOT NULL REFERENCES nos_organograma(id) ON DELETE CASCADE,
+    profundidade INTEGER NOT NULL,
+    PRIMARY KEY (ancestral_id, descendente_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_organograma_closure_descendente
+    ON organograma_closure (descendente_id, ancestral_id);
+
+-- Carga inicial a partir de parent_id (nós ativos e inativos)
+INSERT INTO organograma_closure (ancestral_id, descendente_id, profundidade)
+WITH RECURSIVE caminhos (ancestral_id, descendente_id, profundidade) AS (
+    SELECT id, id, 0 FROM nos_organograma
+    UNION ALL
+    SELECT c.ancestral_id, n.id, c.profundidade + 1
+    FROM caminhos c
+    JOIN nos_organograma n ON n.parent_id = c.descendente_id
+)
+SELECT ancestral_id, descendente_id, profundidade FROM caminhos
+ON CONFLICT DO NOTHING;
+
+COMMENT ON TABLE organograma_closure IS
+    'Pares ancestral/descendente de nos_organograma, mantidos pelo OrganogramaService a cada cadastro ou '
+    'mudança de parent; permitem consultar subárvore e ancestrais em um único comando';
@@ -0,0 +1,21 @@
+-- Evolução mensal da folha por competência × centro de custo, lida pelos gráficos de 12 meses
+CREATE TABLE IF NOT EXISTS folha_evolucao_mensal (
+    id BIGSERIAL PRIMARY KEY,
+    competencia_inicio DATE NOT NULL,
+    competencia_fim DATE NOT NULL,
+    decimo_terceiro BOOLEAN NOT NULL DEFAULT FALSE,
+    centro_custo_id BIGINT,
+    total_bruto NUMERIC(15,2) NOT NULL DEFAULT 0,
+    total_liquido NUMERIC(15,2) NOT NULL DEFAULT 0,
+    custo_folha NUMERIC(15,2) NOT NULL DEFAULT 0,
+    total_encargos NUMERIC(15,2) NOT NULL DEFAULT 0,
+    quantidade_funcionarios BIGINT NOT NULL DEFAULT 0,
+    data_atualizacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_folha_evolucao_mensal_competencia
+    ON folha_evolucao_mensal (competencia_inicio, decimo_terceiro, centro_custo_id);
+
+COMMENT ON TABLE folha_evolucao_mensal IS
+    'Bruto, líquido, custo folha, encargos e funcionários das fichas por centro de custo, '
+    'reconstruídos ao fim de cada processamento da competência; benefícios são somados na leitura';
@@ -0,0 +1,13 @@
+-- PDFs de relatório passam a poder ficar fora do banco; pdf_bytes só é preenchido no armazenamento BANCO
+ALTER TABLE relatorio_arquivo ALTER COLUMN pdf_bytes DROP NOT NULL;
+
+ALTER TABLE relatorio_arquivo
+ADD COLUMN IF NOT EXISTS armazenamento VARCHAR(20) NOT NULL DEFAULT 'BANCO';
+
+ALTER TABLE relatorio_arquivo
+ADD COLUMN IF NOT EXISTS chave_armazenamento VARCHAR(255);
+
+CREATE INDEX IF NOT EXISTS idx_relatorio_arquivo_armazenamento ON relatorio_arquivo (armazenamento);
+
+COMMENT ON COLUMN relatorio_arquivo.armazenamento IS 'Onde o PDF está guardado: BANCO (pdf_bytes) ou FILESYSTEM';
+COMMENT ON COLUMN relatorio_arquivo.chave_armazenamento IS 'Identificador do PDF no armazenamento externo';
@@ -0,0 +1,17 @@
+-- Fila persistente de geração de relatórios: a linha PENDENTE é o job; o despachante reserva marcando o início
+ALTER TABLE relatorio
+ADD COLUMN IF NOT EXISTS prioridade VARCHAR(20) NOT NULL DEFAULT 'INTERATIVA';
+
+ALTER TABLE relatorio
+ADD COLUMN IF NOT EXISTS data_enfileiramento TIMESTAMP;
+
+ALTER TABLE relatorio
+ADD COLUMN IF NOT EXISTS data_inicio_processamento TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_relatorio_fila
+    ON relatorio (prioridade, data_enfileiramento)
+    WHERE ativo = TRUE AND status = 'PENDENTE' AND data_inicio_processamento IS NULL;
+
+COMMENT ON COLUMN relatorio.prioridade IS 'Definida pelo servidor: INTERATIVA (pedido do usuário) é despachada antes de RECUPERACAO (reenfileirado pelo recovery)';
+COMMENT ON COLUMN relatorio.data_enfileiramento IS 'Entrada na fila; base da métrica de espera';
+COMMENT ON COLUMN relatorio.data_inicio_processamento IS 'Reserva pelo despachante; NULL enquanto aguarda na fila';
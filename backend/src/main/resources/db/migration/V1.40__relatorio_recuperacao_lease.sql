@@ -0,0 +1,14 @@
+-- Recovery de relatórios parados sem ler PDFs: heartbeat renovado pela instância que executa (lease) e
+-- tentativas de recuperação persistidas, no lugar do rastreamento em memória perdido a cada restart
+ALTER TABLE relatorio
+ADD COLUMN IF NOT EXISTS data_heartbeat TIMESTAMP;
+
+ALTER TABLE relatorio
+ADD COLUMN IF NOT EXISTS tentativas_recuperacao INTEGER NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_relatorio_pendente_reservado
+    ON relatorio (usuario_id)
+    WHERE ativo = TRUE AND status = 'PENDENTE';
+
+COMMENT ON COLUMN relatorio.data_heartbeat IS 'Última renovação do lease pela instância que processa o relatório';
+COMMENT ON COLUMN relatorio.tentativas_recuperacao IS 'Reenfileiramentos por stale; na segunda detecção o relatório vira ERRO';
@@ -0,0 +1,18 @@
+-- Busca paginada de funcionários: ILIKE '%termo%' em nome/CPF/matrícula servido por índices trigram e
+-- paginação por keyset em (nome, id) sem ordenar a tabela inteira a cada página
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_funcionarios_nome_trgm
+    ON funcionarios USING gin (nome gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_funcionarios_cpf_trgm
+    ON funcionarios USING gin (cpf gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_funcionarios_id_externo_trgm
+    ON funcionarios USING gin (id_externo gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_funcionarios_nome_id
+    ON funcionarios (nome, id);
+
+CREATE INDEX IF NOT EXISTS idx_funcionarios_centro_custo_nome_id
+    ON funcionarios (centro_custo_id, nome, id);
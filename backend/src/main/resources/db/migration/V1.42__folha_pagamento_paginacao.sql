@@ -0,0 +1,9 @@
+-- Consultas paginadas de folha por centro de custo e linha de negócio: keyset em id dentro do filtro,
+-- percorrendo o índice em ordem em vez de ordenar todas as linhas ativas a cada página
+CREATE INDEX IF NOT EXISTS idx_folha_pagamento_centro_custo_id_ativo
+    ON folha_pagamento (centro_custo_id, id)
+    WHERE ativo = TRUE;
+
+CREATE INDEX IF NOT EXISTS idx_folha_pagamento_linha_negocio_id_ativo
+    ON folha_pagamento (linha_negocio_id, id)
+    WHERE ativo = TRUE;
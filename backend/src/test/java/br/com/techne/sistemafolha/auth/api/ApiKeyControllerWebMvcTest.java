@@ -5,6 +5,7 @@ import br.com.techne.sistemafolha.auth.domain.Usuario;
 import br.com.techne.sistemafolha.config.SecurityConfig;
 import br.com.techne.sistemafolha.exception.GlobalExceptionHandler;
 import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -12,7 +13,6 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -41,7 +41,7 @@ class ApiKeyControllerWebMvcTest {
     private JwtService jwtService;
 
     @MockBean
-    private UserDetailsService userDetailsService;
+    private UsuarioPrincipalCache usuarioPrincipalCache;
 
     @Test
     @WithMockUser(username = "user")
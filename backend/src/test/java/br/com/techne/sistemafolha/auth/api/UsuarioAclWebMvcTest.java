@@ -7,12 +7,12 @@ import br.com.techne.sistemafolha.auth.domain.UsuarioNotFoundException;
 import br.com.techne.sistemafolha.config.SecurityConfig;
 import br.com.techne.sistemafolha.exception.GlobalExceptionHandler;
 import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -46,7 +46,7 @@ class UsuarioAclWebMvcTest {
     private JwtService jwtService;
 
     @MockBean
-    private UserDetailsService userDetailsService;
+    private UsuarioPrincipalCache usuarioPrincipalCache;
 
     @Test
     @WithMockUser(username = "gestor", roles = "USER")
@@ -39,6 +39,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +58,9 @@ class ApiKeyServiceTest {
     @Spy
     private Clock clock = Clock.systemDefaultZone();
 
+    @Spy
+    private ApiKeyVerificacaoCache verificacaoCache = new ApiKeyVerificacaoCache();
+
     @InjectMocks
     private ApiKeyService apiKeyService;
 
@@ -65,7 +69,8 @@ class ApiKeyServiceTest {
         ZoneId zone = ZoneId.systemDefault();
         Instant base = Instant.parse("2024-06-01T12:00:00Z");
         Clock clockAntes = Clock.fixed(base, zone);
-        ApiKeyService serviceA = new ApiKeyService(apiKeyRepository, usuarioRepository, passwordEncoder, clockAntes);
+        ApiKeyService serviceA = new ApiKeyService(
+            apiKeyRepository, usuarioRepository, passwordEncoder, clockAntes, verificacaoCache);
 
         Usuario usuario = usuarioComPermissaoApiKey();
         ApiKey[] salva = new ApiKey[1];
@@ -87,7 +92,8 @@ class ApiKeyServiceTest {
         assertTrue(serviceA.autenticarPorChave(result.chave()).isPresent());
 
         Clock clockDepois = Clock.fixed(base.plus(8, ChronoUnit.DAYS), zone);
-        ApiKeyService serviceB = new ApiKeyService(apiKeyRepository, usuarioRepository, passwordEncoder, clockDepois);
+        ApiKeyService serviceB = new ApiKeyService(
+            apiKeyRepository, usuarioRepository, passwordEncoder, clockDepois, verificacaoCache);
 
         assertTrue(serviceB.autenticarPorChave(result.chave()).isEmpty());
     }
@@ -276,6 +282,68 @@ class ApiKeyServiceTest {
         assertNotNull(captor.getValue().getUltimoUsoEm());
     }
 
+    @Test
+    void autenticarPorChave_chaveJaVerificada_naoRecalculaBcrypt() {
+        Usuario usuario = usuarioComPermissaoApiKey();
+        ApiKey apiKey = apiKeyDoUsuario(usuario, 400L);
+        String chave = "sf_live_abc12345secretpart";
+        when(apiKeyRepository.findByPrefixoAndRevogadoFalse("sf_live_abc12345")).thenReturn(Optional.of(apiKey));
+        when(passwordEncoder.matches(chave, "hash")).thenReturn(true);
+
+        assertTrue(apiKeyService.autenticarPorChave(chave).isPresent());
+        assertTrue(apiKeyService.autenticarPorChave(chave).isPresent());
+
+        verify(passwordEncoder, times(1)).matches(chave, "hash");
+    }
+
+    @Test
+    void autenticarPorChave_chaveDiferenteComMesmoPrefixo_confereBcrypt() {
+        Usuario usuario = usuarioComPermissaoApiKey();
+        ApiKey apiKey = apiKeyDoUsuario(usuario, 400L);
+        String chave = "sf_live_abc12345secretpart";
+        String outra = "sf_live_abc12345wrongsecret";
+        when(apiKeyRepository.findByPrefixoAndRevogadoFalse("sf_live_abc12345")).thenReturn(Optional.of(apiKey));
+        when(passwordEncoder.matches(chave, "hash")).thenReturn(true);
+        when(passwordEncoder.matches(outra, "hash")).thenReturn(false);
+        apiKeyService.autenticarPorChave(chave);
+
+        assertTrue(apiKeyService.autenticarPorChave(outra).isEmpty());
+        verify(passwordEncoder).matches(outra, "hash");
+    }
+
+    @Test
+    void autenticarPorChave_aposRevogar_naoAceitaChaveDoCache() {
+        Usuario usuario = usuarioComPermissaoApiKey();
+        ApiKey apiKey = apiKeyDoUsuario(usuario, 400L);
+        String chave = "sf_live_abc12345secretpart";
+        when(apiKeyRepository.findByPrefixoAndRevogadoFalse("sf_live_abc12345"))
+            .thenReturn(Optional.of(apiKey))
+            .thenReturn(Optional.empty());
+        when(apiKeyRepository.findById(400L)).thenReturn(Optional.of(apiKey));
+        when(passwordEncoder.matches(chave, "hash")).thenReturn(true);
+        apiKeyService.autenticarPorChave(chave);
+
+        apiKeyService.revogar(usuario, 400L);
+
+        assertTrue(apiKeyService.autenticarPorChave(chave).isEmpty());
+        verify(verificacaoCache).invalidar(400L);
+        assertEquals(0, verificacaoCache.tamanho());
+    }
+
+    @Test
+    void autenticarPorChave_usoRecente_naoRegravaUltimoUsoEm() {
+        Usuario usuario = usuarioComPermissaoApiKey();
+        ApiKey apiKey = apiKeyDoUsuario(usuario, 400L);
+        apiKey.setUltimoUsoEm(LocalDateTime.now(clock).minusSeconds(10));
+        String chave = "sf_live_abc12345secretpart";
+        when(apiKeyRepository.findByPrefixoAndRevogadoFalse("sf_live_abc12345")).thenReturn(Optional.of(apiKey));
+        when(passwordEncoder.matches(chave, "hash")).thenReturn(true);
+
+        assertTrue(apiKeyService.autenticarPorChave(chave).isPresent());
+
+        verify(apiKeyRepository, never()).save(any());
+    }
+
     @Test
     void autenticarPorChave_hashInvalido_naoPersisteUltimoUsoEm() {
         Usuario usuario = usuarioComPermissaoApiKey();
@@ -0,0 +1,82 @@
+package br.com.techne.sistemafolha.auth.application;
+
+import br.com.techne.sistemafolha.auth.domain.ApiKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApiKeyVerificacaoCacheTest {
+
+    private static final String CHAVE = "sf_live_abc12345secretpart";
+
+    private final ApiKeyVerificacaoCache cache = new ApiKeyVerificacaoCache();
+
+    @Test
+    void verificar_chaveJaConferida_naoChamaVerificador() {
+        ApiKey apiKey = apiKey(1L, "hash");
+        AtomicInteger chamadas = new AtomicInteger();
+
+        assertTrue(cache.verificar(CHAVE, apiKey, () -> chamadas.incrementAndGet() > 0));
+        assertTrue(cache.verificar(CHAVE, apiKey, () -> chamadas.incrementAndGet() > 0));
+
+        assertEquals(1, chamadas.get());
+    }
+
+    @Test
+    void verificar_verificadorFalha_naoGuardaEntrada() {
+        ApiKey apiKey = apiKey(1L, "hash");
+
+        assertFalse(cache.verificar(CHAVE, apiKey, () -> false));
+
+        assertEquals(0, cache.tamanho());
+        assertFalse(cache.verificar(CHAVE, apiKey, () -> false));
+    }
+
+    @Test
+    void verificar_hashChaveDiferente_chamaVerificadorDeNovo() {
+        cache.verificar(CHAVE, apiKey(1L, "hash"), () -> true);
+
+        assertFalse(cache.verificar(CHAVE, apiKey(1L, "outro-hash"), () -> false));
+    }
+
+    @Test
+    void verificar_outroRegistroComMesmaChave_chamaVerificadorDeNovo() {
+        cache.verificar(CHAVE, apiKey(1L, "hash"), () -> true);
+
+        assertFalse(cache.verificar(CHAVE, apiKey(2L, "hash"), () -> false));
+    }
+
+    @Test
+    void invalidar_removeEntradasDoRegistro() {
+        cache.verificar(CHAVE, apiKey(1L, "hash"), () -> true);
+        cache.verificar("sf_live_zzz99999outra", apiKey(2L, "hash2"), () -> true);
+
+        cache.invalidar(1L);
+
+        assertEquals(1, cache.tamanho());
+        assertFalse(cache.verificar(CHAVE, apiKey(1L, "hash"), () -> false));
+    }
+
+    @Test
+    void verificar_acimaDoLimite_descartaMenosUsada() {
+        ApiKey primeira = apiKey(0L, "hash0");
+        cache.verificar(CHAVE + 0, primeira, () -> true);
+        for (long i = 1; i <= ApiKeyVerificacaoCache.MAX_ENTRADAS; i++) {
+            cache.verificar(CHAVE + i, apiKey(i, "hash" + i), () -> true);
+        }
+
+        assertEquals(ApiKeyVerificacaoCache.MAX_ENTRADAS, cache.tamanho());
+        assertFalse(cache.verificar(CHAVE + 0, primeira, () -> false));
+    }
+
+    private static ApiKey apiKey(Long id, String hashChave) {
+        ApiKey apiKey = new ApiKey();
+        apiKey.setId(id);
+        apiKey.setHashChave(hashChave);
+        return apiKey;
+    }
+}
@@ -5,6 +5,7 @@ import br.com.techne.sistemafolha.auth.domain.Usuario;
 import br.com.techne.sistemafolha.auth.infrastructure.RefreshTokenRepository;
 import br.com.techne.sistemafolha.auth.infrastructure.UsuarioRepository;
 import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
@@ -51,6 +52,9 @@ class RefreshTokenServiceTest {
     @Spy
     private Clock clock = Clock.systemDefaultZone();
 
+    @Mock
+    private UsuarioPrincipalCache usuarioPrincipalCache;
+
     @InjectMocks
     private RefreshTokenService refreshTokenService;
 
@@ -60,7 +64,7 @@ class RefreshTokenServiceTest {
         Instant base = Instant.parse("2024-06-01T12:00:00Z");
         Clock clockAntes = Clock.fixed(base, zone);
         RefreshTokenService serviceA = new RefreshTokenService(
-            refreshTokenRepository, usuarioRepository, jwtService, clockAntes);
+            refreshTokenRepository, usuarioRepository, jwtService, clockAntes, usuarioPrincipalCache);
 
         Usuario usuario = usuarioAtivo();
         when(usuarioRepository.findByLoginAndAtivoTrue(LOGIN)).thenReturn(Optional.of(usuario));
@@ -74,7 +78,7 @@ class RefreshTokenServiceTest {
 
         Clock clockDepois = Clock.fixed(base.plusSeconds(86401), zone);
         RefreshTokenService serviceB = new RefreshTokenService(
-            refreshTokenRepository, usuarioRepository, jwtService, clockDepois);
+            refreshTokenRepository, usuarioRepository, jwtService, clockDepois, usuarioPrincipalCache);
 
         assertFalse(serviceB.validarRefreshToken(token));
     }
@@ -120,6 +124,15 @@ class RefreshTokenServiceTest {
         verify(refreshTokenRepository).revogarPorToken(TOKEN);
     }
 
+    @Test
+    void revogarToken_invalidaPrincipalEmCacheDoUsuario() {
+        when(refreshTokenRepository.findByToken(TOKEN)).thenReturn(Optional.of(refreshTokenValido()));
+
+        refreshTokenService.revogarToken(TOKEN);
+
+        verify(usuarioPrincipalCache).invalidar(LOGIN);
+    }
+
     @Test
     void revogarTodosPorUsuario_delegatesToRepository() {
         Usuario usuario = usuarioAtivo();
@@ -127,6 +140,7 @@ class RefreshTokenServiceTest {
         refreshTokenService.revogarTodosPorUsuario(usuario);
 
         verify(refreshTokenRepository).revogarTodosPorUsuario(usuario);
+        verify(usuarioPrincipalCache).invalidar(LOGIN);
     }
 
     @Test
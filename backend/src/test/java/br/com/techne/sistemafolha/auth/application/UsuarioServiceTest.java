@@ -9,6 +9,7 @@ import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioNotFoundException;
 import br.com.techne.sistemafolha.cadastros.port.FuncionarioConsultaPort;
+import br.com.techne.sistemafolha.organograma.acesso.port.ContextoAcessoAlteradoEvent;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
 import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
 import ch.qos.logback.classic.Logger;
@@ -20,6 +21,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Collections;
@@ -60,6 +62,9 @@ class UsuarioServiceTest {
     @Mock
     private OrganogramaAcessoPort organogramaAcessoPort;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UsuarioService usuarioService;
 
@@ -231,6 +236,7 @@ class UsuarioServiceTest {
         assertEquals(FUNCIONARIO_ID, result.funcionarioId());
         assertEquals(funcionario, usuario.getFuncionario());
         verify(funcionarioConsultaPort).findById(FUNCIONARIO_ID);
+        verify(eventPublisher).publishEvent(ContextoAcessoAlteradoEvent.doUsuario(USUARIO_ID));
     }
 
     @Test
@@ -5,10 +5,13 @@ import br.com.techne.sistemafolha.beneficios.domain.TipoBeneficio;
 import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.beneficios.infrastructure.BeneficioCcTipoProjection;
+import br.com.techne.sistemafolha.beneficios.infrastructure.BeneficioFuncionarioTotaisProjection;
 import br.com.techne.sistemafolha.beneficios.infrastructure.BeneficioFuncionarioValorProjection;
 import br.com.techne.sistemafolha.beneficios.infrastructure.BeneficioMensalRepository;
 import br.com.techne.sistemafolha.beneficios.infrastructure.BeneficioMensalTipoResumoProjection;
 import br.com.techne.sistemafolha.beneficios.port.BeneficioCcTipoSnapshot;
+import br.com.techne.sistemafolha.beneficios.port.BeneficioFuncionarioCompetenciaSnapshot;
+import br.com.techne.sistemafolha.beneficios.port.BeneficioFuncionarioTotaisSnapshot;
 import br.com.techne.sistemafolha.beneficios.port.BeneficioFuncionarioValorSnapshot;
 import br.com.techne.sistemafolha.beneficios.port.BeneficioTipoResumoSnapshot;
 import org.junit.jupiter.api.Test;
@@ -30,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -83,13 +87,9 @@ class BeneficioConsultaAdapterTest {
 
     @Test
     void contarLancamentosAtivosNaCompetencia_retornaContagemDashboard() {
-        Funcionario funcionario = funcionario(3L);
-        when(beneficioMensalRepository.findByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
+        when(beneficioMensalRepository.countByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM))
-            .thenReturn(List.of(
-                lancamento(funcionario, new BigDecimal("100.00")),
-                lancamento(funcionario, new BigDecimal("150.00")),
-                lancamento(funcionario, new BigDecimal("75.00"))));
+            .thenReturn(3L);
 
         long count = adapter.contarLancamentosAtivosNaCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM);
 
@@ -175,19 +175,47 @@ class BeneficioConsultaAdapterTest {
 
     @Test
     void contarLancamentosAtivosNaCompetencia_regressaoUnscoped() {
-        Funcionario funcionario = funcionario(3L);
-        when(beneficioMensalRepository.findByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
+        when(beneficioMensalRepository.countByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM))
-            .thenReturn(List.of(
-                lancamento(funcionario, new BigDecimal("100.00")),
-                lancamento(funcionario, new BigDecimal("150.00")),
-                lancamento(funcionario, new BigDecimal("75.00"))));
+            .thenReturn(3L);
 
         long count = adapter.contarLancamentosAtivosNaCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM);
 
         assertEquals(3L, count);
     }
 
+    @Test
+    void contarLancamentosPorFuncionarioECompetencia_usaContagemSemCarregarLancamentos() {
+        when(beneficioMensalRepository.countByFuncionarioIdAndCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
+                1L, COMPETENCIA_INICIO, COMPETENCIA_FIM))
+            .thenReturn(2L);
+
+        assertEquals(2, adapter.contarLancamentosPorFuncionarioECompetencia(1L, COMPETENCIA_INICIO, COMPETENCIA_FIM));
+        verify(beneficioMensalRepository, never())
+            .findByFuncionarioIdAndCompetenciaInicioAndCompetenciaFimAndAtivoTrue(any(), any(), any());
+    }
+
+    @Test
+    void totaisPorFuncionariosECompetencia_agrupaQuantidadeEValorPorFuncionario() {
+        BeneficioFuncionarioTotaisProjection ana = totaisProjection(1L, 2L, new BigDecimal("700.00"));
+        BeneficioFuncionarioTotaisProjection bruno = totaisProjection(2L, 1L, null);
+        when(beneficioMensalRepository.totaisPorFuncionariosECompetencia(
+                Set.of(1L, 2L), COMPETENCIA_INICIO, COMPETENCIA_FIM))
+            .thenReturn(List.of(ana, bruno));
+
+        Map<Long, BeneficioFuncionarioTotaisSnapshot> totais = adapter.totaisPorFuncionariosECompetencia(
+            Set.of(1L, 2L), COMPETENCIA_INICIO, COMPETENCIA_FIM);
+
+        assertEquals(new BeneficioFuncionarioTotaisSnapshot(1L, 2L, new BigDecimal("700.00")), totais.get(1L));
+        assertEquals(new BeneficioFuncionarioTotaisSnapshot(2L, 1L, BigDecimal.ZERO), totais.get(2L));
+    }
+
+    @Test
+    void totaisPorFuncionariosECompetencia_semFuncionarios_naoConsulta() {
+        assertTrue(adapter.totaisPorFuncionariosECompetencia(Set.of(), COMPETENCIA_INICIO, COMPETENCIA_FIM).isEmpty());
+        verify(beneficioMensalRepository, never()).totaisPorFuncionariosECompetencia(any(), any(), any());
+    }
+
     @Test
     void somarValorPorFuncionariosECompetencia_batchRetornaMapaPorFuncionario() {
         when(beneficioMensalRepository.sumValorPorFuncionariosECompetencia(
@@ -213,6 +241,30 @@ class BeneficioConsultaAdapterTest {
         assertTrue(totais.isEmpty());
     }
 
+    @Test
+    void somarValorPorFuncionariosDesdeCompetencia_retornaTotalPorFuncionarioECompetencia() {
+        LocalDate proximoInicio = COMPETENCIA_INICIO.plusMonths(1);
+        LocalDate proximoFim = proximoInicio.plusMonths(1).minusDays(1);
+        when(beneficioMensalRepository.sumValorPorFuncionariosDesdeCompetencia(Set.of(1L), COMPETENCIA_INICIO))
+            .thenReturn(List.of(
+                new Object[] {1L, COMPETENCIA_INICIO, COMPETENCIA_FIM, new BigDecimal("700.00")},
+                new Object[] {1L, proximoInicio, proximoFim, null}));
+
+        List<BeneficioFuncionarioCompetenciaSnapshot> totais =
+            adapter.somarValorPorFuncionariosDesdeCompetencia(Set.of(1L), COMPETENCIA_INICIO);
+
+        assertEquals(List.of(
+            new BeneficioFuncionarioCompetenciaSnapshot(
+                1L, COMPETENCIA_INICIO, COMPETENCIA_FIM, new BigDecimal("700.00")),
+            new BeneficioFuncionarioCompetenciaSnapshot(1L, proximoInicio, proximoFim, BigDecimal.ZERO)), totais);
+    }
+
+    @Test
+    void somarValorPorFuncionariosDesdeCompetencia_setVazio_naoConsulta() {
+        assertTrue(adapter.somarValorPorFuncionariosDesdeCompetencia(Set.of(), COMPETENCIA_INICIO).isEmpty());
+        verifyNoInteractions(beneficioMensalRepository);
+    }
+
     @Test
     void somarValorPorCompetenciaECentros_filtraCentrosNaQuery() {
         when(beneficioMensalRepository.sumValorPorCompetenciaECentros(
@@ -422,6 +474,14 @@ class BeneficioConsultaAdapterTest {
         };
     }
 
+    private BeneficioFuncionarioTotaisProjection totaisProjection(Long funcionarioId, Long qtd, BigDecimal total) {
+        return new BeneficioFuncionarioTotaisProjection() {
+            @Override public Long getFuncionarioId() { return funcionarioId; }
+            @Override public Long getQtdLancamentos() { return qtd; }
+            @Override public BigDecimal getTotal() { return total; }
+        };
+    }
+
     private BeneficioFuncionarioValorProjection funcionarioProjection(
             Long id, String nome, BigDecimal valor) {
         return funcionarioProjection(id, nome, valor, "CC01", "Centro Admin");
@@ -6,6 +6,7 @@ import br.com.techne.sistemafolha.beneficios.domain.ImportacaoBeneficioMensalInv
 import br.com.techne.sistemafolha.beneficios.domain.BeneficioMensal;
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.beneficios.domain.TipoBeneficio;
+import br.com.techne.sistemafolha.beneficios.infrastructure.BeneficioMensalJdbcBatchWriter;
 import br.com.techne.sistemafolha.beneficios.infrastructure.BeneficioMensalRepository;
 import br.com.techne.sistemafolha.beneficios.infrastructure.TipoBeneficioRepository;
 import br.com.techne.sistemafolha.cadastros.port.FuncionarioConsultaPort;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,7 +26,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -32,7 +35,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,6 +53,12 @@ class ImportacaoBeneficioMensalServiceTest {
     @Mock
     private BeneficioMensalRepository beneficioMensalRepository;
 
+    @Mock
+    private BeneficioMensalJdbcBatchWriter beneficioMensalBatchWriter;
+
+    @Captor
+    private ArgumentCaptor<List<BeneficioMensal>> inseridosCaptor;
+
     @InjectMocks
     private ImportacaoBeneficioMensalService importacaoBeneficioMensalService;
 
@@ -91,11 +99,8 @@ class ImportacaoBeneficioMensalServiceTest {
 
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("98765432100")).thenReturn(Optional.of(maria));
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5322")).thenReturn(Optional.of(seguros));
-        when(beneficioMensalRepository.save(any(BeneficioMensal.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario, "98765432100", maria));
+        when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio, seguros));
 
         ImportacaoResultadoDTO resultado = importacaoBeneficioMensalService.importar(
                 arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
@@ -104,7 +109,8 @@ class ImportacaoBeneficioMensalServiceTest {
         assertEquals(0, resultado.erros());
         assertEquals(new BigDecimal("230.50"), resultado.totalValor());
         assertTrue(resultado.detalhesErros().isEmpty());
-        verify(beneficioMensalRepository, times(2)).save(any(BeneficioMensal.class));
+        verify(beneficioMensalBatchWriter).inserir(inseridosCaptor.capture());
+        assertEquals(2, inseridosCaptor.getValue().size());
         verify(beneficioMensalRepository, never()).deleteByCompetenciaInicioAndCompetenciaFim(any(), any());
     }
 
@@ -119,10 +125,8 @@ class ImportacaoBeneficioMensalServiceTest {
 
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("00000000000")).thenReturn(Optional.empty());
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("9999")).thenReturn(Optional.empty());
+        when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario));
+        when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio));
 
         ImportacaoBeneficioMensalInvalidaException ex = assertThrows(
                 ImportacaoBeneficioMensalInvalidaException.class,
@@ -131,7 +135,7 @@ class ImportacaoBeneficioMensalServiceTest {
 
         assertEquals(3, ex.getDetalhesErros().size());
         assertTrue(ex.getMessage().contains("Nenhum registro foi salvo"));
-        verify(beneficioMensalRepository, never()).save(any(BeneficioMensal.class));
+        verify(beneficioMensalBatchWriter, never()).inserir(any());
         verify(beneficioMensalRepository, never()).deleteByCompetenciaInicioAndCompetenciaFim(any(), any());
     }
 
@@ -143,14 +147,13 @@ class ImportacaoBeneficioMensalServiceTest {
 
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(true);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("00000000000")).thenReturn(Optional.empty());
 
         assertThrows(
                 ImportacaoBeneficioMensalInvalidaException.class,
                 () -> importacaoBeneficioMensalService.importar(
                         arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, true));
 
-        verify(beneficioMensalRepository, never()).save(any(BeneficioMensal.class));
+        verify(beneficioMensalBatchWriter, never()).inserir(any());
         verify(beneficioMensalRepository, never()).deleteByCompetenciaInicioAndCompetenciaFim(any(), any());
     }
 
@@ -171,7 +174,7 @@ class ImportacaoBeneficioMensalServiceTest {
         assertTrue(ex.getMessage().contains("Já existem lançamentos"));
         assertEquals(COMPETENCIA_INICIO.toString(), ex.getCompetenciaInicio());
         assertEquals(COMPETENCIA_FIM.toString(), ex.getCompetenciaFim());
-        verify(beneficioMensalRepository, never()).save(any());
+        verify(beneficioMensalBatchWriter, never()).inserir(any());
         verify(beneficioMensalRepository, never()).deleteByCompetenciaInicioAndCompetenciaFim(any(), any());
     }
 
@@ -183,9 +186,8 @@ class ImportacaoBeneficioMensalServiceTest {
 
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(true);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
-        when(beneficioMensalRepository.save(any(BeneficioMensal.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario));
+        when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio));
 
         ImportacaoResultadoDTO resultado = importacaoBeneficioMensalService.importar(
                 arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, true);
@@ -195,9 +197,8 @@ class ImportacaoBeneficioMensalServiceTest {
         verify(beneficioMensalRepository).deleteByCompetenciaInicioAndCompetenciaFim(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM);
 
-        ArgumentCaptor<BeneficioMensal> captor = ArgumentCaptor.forClass(BeneficioMensal.class);
-        verify(beneficioMensalRepository).save(captor.capture());
-        BeneficioMensal salvo = captor.getValue();
+        verify(beneficioMensalBatchWriter).inserir(inseridosCaptor.capture());
+        BeneficioMensal salvo = inseridosCaptor.getValue().get(0);
         assertEquals(funcionario.getId(), salvo.getFuncionario().getId());
         assertEquals(tipoBeneficio.getId(), salvo.getTipoBeneficio().getId());
         assertEquals(new BigDecimal("200.00"), salvo.getValor());
@@ -220,7 +221,7 @@ class ImportacaoBeneficioMensalServiceTest {
                             arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false));
 
             assertTrue(ex.getMessage().contains("Planilha1"));
-            verify(beneficioMensalRepository, never()).save(any());
+            verify(beneficioMensalBatchWriter, never()).inserir(any());
         }
     }
 
@@ -262,9 +263,8 @@ class ImportacaoBeneficioMensalServiceTest {
         });
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
-        when(beneficioMensalRepository.save(any(BeneficioMensal.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario));
+        when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio));
 
         ImportacaoResultadoDTO resultado = importacaoBeneficioMensalService.importar(
             arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
@@ -283,7 +283,7 @@ class ImportacaoBeneficioMensalServiceTest {
         });
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
+        when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario));
 
         assertThrows(ImportacaoBeneficioMensalInvalidaException.class, () ->
             importacaoBeneficioMensalService.importar(arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false));
@@ -294,9 +294,8 @@ class ImportacaoBeneficioMensalServiceTest {
         MockMultipartFile arquivo = workbookComValorTexto("12345678901", "João Silva", "Vale", "5612", "R$ 1.234,56");
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
-        when(beneficioMensalRepository.save(any(BeneficioMensal.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario));
+        when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio));
 
         ImportacaoResultadoDTO resultado = importacaoBeneficioMensalService.importar(
             arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
@@ -310,8 +309,8 @@ class ImportacaoBeneficioMensalServiceTest {
             "12345678901", "João Silva", "Vale", "5612", "abc");
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
+        when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario));
+        when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio));
 
         assertThrows(ImportacaoBeneficioMensalInvalidaException.class, () ->
             importacaoBeneficioMensalService.importar(arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false));
@@ -323,8 +322,8 @@ class ImportacaoBeneficioMensalServiceTest {
             "12345678901", "João Silva", "Vale", "5612", "");
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
+        when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario));
+        when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio));
 
         assertThrows(ImportacaoBeneficioMensalInvalidaException.class, () ->
             importacaoBeneficioMensalService.importar(arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false));
@@ -337,15 +336,13 @@ class ImportacaoBeneficioMensalServiceTest {
         );
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
-        when(beneficioMensalRepository.save(any(BeneficioMensal.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario));
+        when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio));
 
         importacaoBeneficioMensalService.importar(arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
 
-        ArgumentCaptor<BeneficioMensal> captor = ArgumentCaptor.forClass(BeneficioMensal.class);
-        verify(beneficioMensalRepository).save(captor.capture());
-        assertEquals(null, captor.getValue().getObservacao());
+        verify(beneficioMensalBatchWriter).inserir(inseridosCaptor.capture());
+        assertEquals(null, inseridosCaptor.getValue().get(0).getObservacao());
     }
 
     private MockMultipartFile workbookComValorTexto(
@@ -386,9 +383,8 @@ class ImportacaoBeneficioMensalServiceTest {
             MockMultipartFile arquivo = toMultipart(workbook);
             when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                     COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-            when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
-            when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
-            when(beneficioMensalRepository.save(any(BeneficioMensal.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario));
+            when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio));
 
             assertEquals(1, importacaoBeneficioMensalService.importar(
                 arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false).processadas());
@@ -406,9 +402,8 @@ class ImportacaoBeneficioMensalServiceTest {
         });
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("00123456789")).thenReturn(Optional.of(funcionario));
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
-        when(beneficioMensalRepository.save(any(BeneficioMensal.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("00123456789", funcionario));
+        when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio));
 
         assertEquals(1, importacaoBeneficioMensalService.importar(
             arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false).processadas());
@@ -425,7 +420,6 @@ class ImportacaoBeneficioMensalServiceTest {
         });
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("00000000000")).thenReturn(Optional.empty());
 
         ImportacaoBeneficioMensalInvalidaException ex = assertThrows(
             ImportacaoBeneficioMensalInvalidaException.class, () ->
@@ -447,8 +441,8 @@ class ImportacaoBeneficioMensalServiceTest {
             MockMultipartFile arquivo = toMultipart(workbook);
             when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                     COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-            when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
-            when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
+            when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario));
+            when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio));
 
             assertThrows(ImportacaoBeneficioMensalInvalidaException.class, () ->
                 importacaoBeneficioMensalService.importar(arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false));
@@ -498,9 +492,8 @@ class ImportacaoBeneficioMensalServiceTest {
         });
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
-        when(beneficioMensalRepository.save(any(BeneficioMensal.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario));
+        when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio));
 
         assertEquals(1, importacaoBeneficioMensalService.importar(
             arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false).processadas());
@@ -512,9 +505,8 @@ class ImportacaoBeneficioMensalServiceTest {
             linha("12345678901", "João Silva", "Vale", "5612", 123.45));
         when(beneficioMensalRepository.existsByCompetenciaInicioAndCompetenciaFimAndAtivoTrue(
                 COMPETENCIA_INICIO, COMPETENCIA_FIM)).thenReturn(false);
-        when(funcionarioConsultaPort.findByCpfAndAtivoTrue("12345678901")).thenReturn(Optional.of(funcionario));
-        when(tipoBeneficioRepository.findByCodigoAndAtivoTrue("5612")).thenReturn(Optional.of(tipoBeneficio));
-        when(beneficioMensalRepository.save(any(BeneficioMensal.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(funcionarioConsultaPort.findAtivosByCpfs(any())).thenReturn(Map.of("12345678901", funcionario));
+        when(tipoBeneficioRepository.findByCodigoInAndAtivoTrue(any())).thenReturn(List.of(tipoBeneficio));
 
         assertEquals(new BigDecimal("123.45"), importacaoBeneficioMensalService.importar(
             arquivo, COMPETENCIA_INICIO, COMPETENCIA_FIM, false).totalValor());
@@ -0,0 +1,120 @@
+package br.com.techne.sistemafolha.beneficios.application;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlanilhaStreamReaderTest {
+
+    private final PlanilhaStreamReader reader = new PlanilhaStreamReader();
+
+    @Test
+    void ler_xlsx_entregaTextoNumeroFormatoEResultadoDeFormula() throws Exception {
+        byte[] arquivo = planilha(new XSSFWorkbook(), sheet -> {
+            Row cabecalho = sheet.createRow(0);
+            cabecalho.createCell(0).setCellValue("CPF");
+            Row linha = sheet.createRow(2);
+            linha.createCell(0).setCellValue(12345678901d);
+            linha.createCell(1).setCellValue("  JOAO  ");
+            CellStyle moeda = sheet.getWorkbook().createCellStyle();
+            moeda.setDataFormat(sheet.getWorkbook().createDataFormat().getFormat("#,##0.00"));
+            linha.createCell(3).setCellValue(1234.5);
+            linha.getCell(3).setCellStyle(moeda);
+            linha.createCell(4).setCellFormula("2+3");
+            linha.createCell(6).setCellValue("fora do limite");
+            sheet.getWorkbook().getCreationHelper().createFormulaEvaluator().evaluateAll();
+        });
+
+        List<Object[]> linhas = ler(arquivo, 5);
+
+        assertEquals(2, linhas.size());
+        assertEquals(0, linhas.get(0)[0]);
+        assertEquals(2, linhas.get(1)[0]);
+        PlanilhaStreamReader.Celula[] celulas = (PlanilhaStreamReader.Celula[]) linhas.get(1)[1];
+        assertEquals(5, celulas.length);
+        assertEquals(PlanilhaStreamReader.TipoCelula.NUMERICA, celulas[0].tipo());
+        assertEquals("12345678901", celulas[0].texto());
+        assertEquals(12345678901d, celulas[0].numero());
+        assertEquals(PlanilhaStreamReader.TipoCelula.TEXTO, celulas[1].tipo());
+        assertEquals("JOAO", celulas[1].texto());
+        assertNull(celulas[2]);
+        assertEquals("1,234.50", celulas[3].texto());
+        assertEquals(1234.5, celulas[3].numero());
+        assertEquals(PlanilhaStreamReader.TipoCelula.NUMERICA, celulas[4].tipo());
+        assertEquals("5", celulas[4].texto());
+    }
+
+    @Test
+    void ler_xlsxComInlineStrings_entregaTexto() throws Exception {
+        byte[] arquivo = planilha(new SXSSFWorkbook(), sheet -> {
+            Row linha = sheet.createRow(0);
+            linha.createCell(0).setCellValue("inline");
+            linha.createCell(1).setCellValue(42d);
+        });
+
+        List<Object[]> linhas = ler(arquivo, 2);
+
+        PlanilhaStreamReader.Celula[] celulas = (PlanilhaStreamReader.Celula[]) linhas.get(0)[1];
+        assertEquals(PlanilhaStreamReader.TipoCelula.TEXTO, celulas[0].tipo());
+        assertEquals("inline", celulas[0].texto());
+        assertEquals("42", celulas[1].texto());
+    }
+
+    @Test
+    void ler_xls_usaUsermodel() throws Exception {
+        byte[] arquivo = planilha(new HSSFWorkbook(), sheet -> {
+            Row linha = sheet.createRow(1);
+            linha.createCell(0).setCellValue(12345678901d);
+            linha.createCell(1).setCellValue("MARIA");
+        });
+
+        List<Object[]> linhas = ler(arquivo, 2);
+
+        assertEquals(1, linhas.size());
+        assertEquals(1, linhas.get(0)[0]);
+        PlanilhaStreamReader.Celula[] celulas = (PlanilhaStreamReader.Celula[]) linhas.get(0)[1];
+        assertEquals("12345678901", celulas[0].texto());
+        assertEquals("MARIA", celulas[1].texto());
+    }
+
+    @Test
+    void ler_abaInexistente_lancaIllegalArgument() throws Exception {
+        byte[] arquivo = planilha(new XSSFWorkbook(), sheet -> sheet.createRow(0));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> reader.ler(new ByteArrayInputStream(arquivo), "Planilha2", 1, (r, c) -> { }));
+
+        assertEquals("Aba 'Planilha2' não encontrada no arquivo", ex.getMessage());
+    }
+
+    private List<Object[]> ler(byte[] arquivo, int colunas) throws Exception {
+        List<Object[]> linhas = new ArrayList<>();
+        reader.ler(new ByteArrayInputStream(arquivo), "Planilha1", colunas,
+            (rowIndex, celulas) -> linhas.add(new Object[] {rowIndex, celulas}));
+        return linhas;
+    }
+
+    private byte[] planilha(Workbook workbook, Consumer<Sheet> preencher) throws IOException {
+        try (workbook; ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            preencher.accept(workbook.createSheet("Planilha1"));
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.techne.sistemafolha.beneficios.infrastructure;
+
+import br.com.techne.sistemafolha.beneficios.domain.BeneficioMensal;
+import br.com.techne.sistemafolha.beneficios.domain.TipoBeneficio;
+import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
+import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class BeneficioMensalJdbcBatchWriterTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-11-05T12:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private BeneficioMensalJdbcBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new BeneficioMensalJdbcBatchWriter(jdbcTemplate, CLOCK);
+    }
+
+    @Test
+    void inserir_gravaEmInsertMultiLinhaComDatasPreenchidas() {
+        BeneficioMensal comCc = beneficio(10L, "obs");
+        BeneficioMensal semCc = beneficio(null, null);
+
+        writer.inserir(List.of(comCc, semCc));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), args.capture());
+        assertTrue(sql.getValue().startsWith("INSERT INTO beneficio_mensal"));
+        assertEquals(2, sql.getValue().split("\\(\\?").length - 1);
+        assertEquals(20, args.getValue().length);
+        assertEquals(1L, args.getValue()[0]);
+        assertEquals(7L, args.getValue()[1]);
+        assertEquals(10L, assertInstanceOf(SqlParameterValue.class, args.getValue()[2]).getValue());
+        assertEquals(new BigDecimal("450.00"), args.getValue()[3]);
+        assertEquals(LocalDateTime.of(2024, 11, 5, 12, 0), args.getValue()[8]);
+        assertEquals(null, assertInstanceOf(SqlParameterValue.class, args.getValue()[12]).getValue());
+        assertEquals(null, assertInstanceOf(SqlParameterValue.class, args.getValue()[16]).getValue());
+    }
+
+    @Test
+    void inserir_divideEmBlocosDeRegistrosPorInsert() {
+        List<BeneficioMensal> beneficios = new ArrayList<>();
+        for (int i = 0; i <= BeneficioMensalJdbcBatchWriter.REGISTROS_POR_INSERT; i++) {
+            beneficios.add(beneficio(null, null));
+        }
+
+        writer.inserir(beneficios);
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).update(anyString(), args.capture());
+        assertEquals(BeneficioMensalJdbcBatchWriter.REGISTROS_POR_INSERT * 10, args.getAllValues().get(0).length);
+        assertEquals(10, args.getAllValues().get(1).length);
+    }
+
+    @Test
+    void inserir_listaVazia_naoAcessaBanco() {
+        writer.inserir(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private BeneficioMensal beneficio(Long centroCustoId, String observacao) {
+        Funcionario funcionario = new Funcionario();
+        funcionario.setId(1L);
+        TipoBeneficio tipo = new TipoBeneficio();
+        tipo.setId(7L);
+        BeneficioMensal beneficio = new BeneficioMensal();
+        beneficio.setFuncionario(funcionario);
+        beneficio.setTipoBeneficio(tipo);
+        if (centroCustoId != null) {
+            CentroCusto centroCusto = new CentroCusto();
+            centroCusto.setId(centroCustoId);
+            beneficio.setCentroCusto(centroCusto);
+        }
+        beneficio.setValor(new BigDecimal("450.00"));
+        beneficio.setCompetenciaInicio(LocalDate.of(2024, 10, 1));
+        beneficio.setCompetenciaFim(LocalDate.of(2024, 10, 31));
+        beneficio.setObservacao(observacao);
+        beneficio.setAtivo(true);
+        return beneficio;
+    }
+}
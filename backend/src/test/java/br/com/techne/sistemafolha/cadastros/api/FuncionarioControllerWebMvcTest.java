@@ -7,13 +7,14 @@ import br.com.techne.sistemafolha.cadastros.domain.FuncionarioNotFoundException;
 import br.com.techne.sistemafolha.config.SecurityConfig;
 import br.com.techne.sistemafolha.exception.GlobalExceptionHandler;
 import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
+import br.com.techne.sistemafolha.shared.paginacao.PaginaDTO;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -29,6 +30,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = FuncionarioController.class)
@@ -57,7 +59,7 @@ class FuncionarioControllerWebMvcTest {
     private JwtService jwtService;
 
     @MockBean
-    private UserDetailsService userDetailsService;
+    private UsuarioPrincipalCache usuarioPrincipalCache;
 
     @MockBean
     private ApiKeyService apiKeyService;
@@ -84,6 +86,35 @@ class FuncionarioControllerWebMvcTest {
             .andExpect(status().isOk());
     }
 
+    @Test
+    @WithMockUser(username = "gestor", roles = "USER")
+    void buscar_comCursor_retornaPagina() throws Exception {
+        when(funcionarioService.buscarParaUsuario(
+            eq("gestor"), eq("123"), isNull(), isNull(), isNull(), eq(FuncionarioStatusFiltro.ATIVO),
+            eq("abc"), eq(20)))
+            .thenReturn(new PaginaDTO<>(java.util.List.of(funcionarioExemplo()), "prox"));
+
+        mockMvc.perform(get("/funcionarios/busca")
+                .param("termo", "123")
+                .param("cursor", "abc")
+                .param("limite", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.itens.length()").value(1))
+            .andExpect(jsonPath("$.proximoCursor").value("prox"));
+    }
+
+    @Test
+    @WithMockUser(username = "gestor", roles = "USER")
+    void buscar_cursorInvalido_retorna400() throws Exception {
+        when(funcionarioService.buscarParaUsuario(
+            eq("gestor"), isNull(), isNull(), isNull(), isNull(), eq(FuncionarioStatusFiltro.ATIVO),
+            eq("lixo"), isNull()))
+            .thenThrow(new IllegalArgumentException("Cursor inválido"));
+
+        mockMvc.perform(get("/funcionarios/busca").param("cursor", "lixo"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = "gestor", roles = "USER")
     void buscarPorId_encontrado_retorna200() throws Exception {
@@ -18,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -65,6 +66,35 @@ class CadastrosImportLookupAdapterTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void findFuncionariosByIdExternos_indexaPorIdExterno() {
+        when(funcionarioRepository.findByIdExternoInWithFetch(Set.of("EXT001", "EXT404")))
+            .thenReturn(List.of(funcionario(1L, "EXT001", 100L)));
+
+        Map<String, FuncionarioImportRef> result = adapter.findFuncionariosByIdExternos(Set.of("EXT001", "EXT404"));
+
+        assertEquals(Set.of("EXT001"), result.keySet());
+        assertEquals(100L, result.get("EXT001").centroCustoId());
+    }
+
+    @Test
+    void findFuncionariosByIdExternos_vazio_naoConsulta() {
+        assertTrue(adapter.findFuncionariosByIdExternos(Set.of()).isEmpty());
+        verify(funcionarioRepository, never()).findByIdExternoInWithFetch(any());
+    }
+
+    @Test
+    void findRubricasByCodigos_indexaPorCodigoSemCriar() {
+        when(rubricaRepository.findByCodigoInWithFetch(Set.of("0010", "9999")))
+            .thenReturn(List.of(rubricaExistente(10L, "0010", "PROVENTO")));
+
+        Map<String, RubricaImportRef> result = adapter.findRubricasByCodigos(Set.of("0010", "9999"));
+
+        assertEquals(new RubricaImportRef(10L, "0010", "PROVENTO"), result.get("0010"));
+        assertEquals(1, result.size());
+        verify(rubricaRepository, never()).save(any());
+    }
+
     @Test
     void findOrCreateRubrica_existente_naoCria() {
         Rubrica rubrica = rubricaExistente(10L, "0010", "PROVENTO");
@@ -9,10 +9,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -66,6 +70,31 @@ class FuncionarioConsultaAdapterTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void findAtivosByCpfs_indexaPorCpfEmUmaConsulta() {
+        Funcionario joao = funcionario(1L);
+        joao.setCpf("12345678901");
+        Funcionario duplicado = funcionario(2L);
+        duplicado.setCpf("12345678901");
+        Funcionario maria = funcionario(3L);
+        maria.setCpf("98765432100");
+        Set<String> cpfs = Set.of("12345678901", "98765432100", "00000000000");
+        when(funcionarioRepository.findByCpfInAndAtivoTrue(cpfs)).thenReturn(List.of(joao, duplicado, maria));
+
+        Map<String, Funcionario> result = adapter.findAtivosByCpfs(cpfs);
+
+        assertEquals(2, result.size());
+        assertEquals(1L, result.get("12345678901").getId());
+        assertEquals(3L, result.get("98765432100").getId());
+    }
+
+    @Test
+    void findAtivosByCpfs_conjuntoVazio_naoConsultaRepositorio() {
+        assertTrue(adapter.findAtivosByCpfs(Set.of()).isEmpty());
+
+        verifyNoInteractions(funcionarioRepository);
+    }
+
     /** FCLT-15: após migração V1.20, funcionário carregado deve possuir regime CLT ativo. */
     @Test
     void findById_funcionarioCarregadoPossuiRegimeClt() {
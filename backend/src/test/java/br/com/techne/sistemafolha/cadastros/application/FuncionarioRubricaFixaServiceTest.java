@@ -4,6 +4,7 @@ import br.com.techne.sistemafolha.cadastros.api.FuncionarioRubricaFixaDTO;
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioNotFoundException;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixa;
+import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixaAlteradaEvent;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixaNotFoundException;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixaVigenciaConflictException;
 import br.com.techne.sistemafolha.cadastros.domain.Rubrica;
@@ -18,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -50,6 +52,9 @@ class FuncionarioRubricaFixaServiceTest {
     @Mock
     private RubricaRepository rubricaRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private FuncionarioRubricaFixaService funcionarioRubricaFixaService;
 
@@ -79,6 +84,8 @@ class FuncionarioRubricaFixaServiceTest {
         ArgumentCaptor<FuncionarioRubricaFixa> captor = ArgumentCaptor.forClass(FuncionarioRubricaFixa.class);
         verify(funcionarioRubricaFixaRepository).save(captor.capture());
         assertEquals(new BigDecimal("500.00"), captor.getValue().getValor());
+        verify(eventPublisher).publishEvent(
+            new FuncionarioRubricaFixaAlteradaEvent(FUNCIONARIO_ID, VIGENCIA_INICIO, null));
     }
 
     @Test
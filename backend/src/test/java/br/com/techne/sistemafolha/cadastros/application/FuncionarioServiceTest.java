@@ -16,11 +16,14 @@ import br.com.techne.sistemafolha.auth.domain.Usuario;
 import br.com.techne.sistemafolha.auth.port.UsuarioLookupPort;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
 import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
+import br.com.techne.sistemafolha.shared.paginacao.PaginaDTO;
+import br.com.techne.sistemafolha.shared.paginacao.Paginacao;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.Collections;
@@ -30,6 +33,8 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -65,15 +70,16 @@ class FuncionarioServiceTest {
         when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
                 .thenReturn(contextoRestrito(Set.of(793L, 825L)));
         Funcionario inScope = funcionarioComCentroCusto(793L);
-        Funcionario outScope = funcionarioComCentroCusto(999L);
-        when(funcionarioRepository.findByFiltros(isNull(), isNull(), isNull(), isNull(), eq(true)))
-                .thenReturn(List.of(inScope, outScope));
+        when(funcionarioRepository.findByFiltrosNoEscopo(
+                isNull(), isNull(), isNull(), isNull(), eq(true), eq(Set.of(793L, 825L))))
+                .thenReturn(List.of(inScope));
 
         List<FuncionarioDTO> result = funcionarioService.listarParaUsuario(
                 LOGIN, null, null, null, null, FuncionarioStatusFiltro.ATIVO);
 
         assertEquals(1, result.size());
         assertEquals(793L, result.get(0).centroCustoId());
+        verify(funcionarioRepository, never()).findByFiltros(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -130,14 +136,13 @@ class FuncionarioServiceTest {
     }
 
     @Test
-    void listarParaUsuario_semCentroCusto_excluiFuncionario() {
+    void listarParaUsuario_scoped_semResultadoNoEscopo_retornaVazio() {
         stubUsuario();
         when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
                 .thenReturn(contextoRestrito(Set.of(793L)));
-        Funcionario semCc = funcionarioAtivo();
-        semCc.setCentroCusto(null);
-        when(funcionarioRepository.findByFiltros(isNull(), isNull(), isNull(), isNull(), eq(true)))
-                .thenReturn(List.of(semCc));
+        when(funcionarioRepository.findByFiltrosNoEscopo(
+                isNull(), isNull(), isNull(), isNull(), eq(true), eq(Set.of(793L))))
+                .thenReturn(List.of());
 
         List<FuncionarioDTO> result = funcionarioService.listarParaUsuario(
                 LOGIN, null, null, null, null, FuncionarioStatusFiltro.ATIVO);
@@ -553,14 +558,14 @@ class FuncionarioServiceTest {
         stubUsuario();
         when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
             .thenReturn(contextoRestrito(Set.of(793L)));
-        when(funcionarioRepository.findByFiltros(null, null, 793L, null, true))
+        when(funcionarioRepository.findByFiltrosNoEscopo(null, null, 793L, null, true, Set.of(793L)))
             .thenReturn(List.of(funcionarioComCentroCusto(793L)));
 
         List<FuncionarioDTO> result = funcionarioService.listarParaUsuario(
             LOGIN, null, null, 793L, null, FuncionarioStatusFiltro.ATIVO);
 
         assertEquals(1, result.size());
-        verify(funcionarioRepository).findByFiltros(null, null, 793L, null, true);
+        verify(funcionarioRepository).findByFiltrosNoEscopo(null, null, 793L, null, true, Set.of(793L));
     }
 
     @Test
@@ -568,7 +573,7 @@ class FuncionarioServiceTest {
         stubUsuario();
         when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
             .thenReturn(contextoRestrito(Set.of(793L)));
-        when(funcionarioRepository.findByFiltros("%Maria%", null, null, null, true))
+        when(funcionarioRepository.findByFiltrosNoEscopo("%Maria%", null, null, null, true, Set.of(793L)))
             .thenReturn(List.of(funcionarioComCentroCusto(793L)));
 
         assertEquals(1, funcionarioService.listarParaUsuario(
@@ -598,12 +603,12 @@ class FuncionarioServiceTest {
         stubUsuario();
         when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
             .thenReturn(contextoRestrito(Set.of(793L)));
-        when(funcionarioRepository.findByFiltros(null, null, null, null, true))
+        when(funcionarioRepository.findByFiltrosNoEscopo(null, null, null, null, true, Set.of(793L)))
             .thenReturn(List.of(funcionarioComCentroCusto(793L)));
 
         funcionarioService.listarParaUsuario(LOGIN, null, null, null, null, null);
 
-        verify(funcionarioRepository).findByFiltros(null, null, null, null, true);
+        verify(funcionarioRepository).findByFiltrosNoEscopo(null, null, null, null, true, Set.of(793L));
     }
 
     @Test
@@ -611,12 +616,111 @@ class FuncionarioServiceTest {
         stubUsuario();
         when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
             .thenReturn(contextoRestrito(Set.of(793L)));
-        when(funcionarioRepository.findByFiltros(null, null, null, null, true))
+        when(funcionarioRepository.findByFiltrosNoEscopo(null, null, null, null, true, Set.of(793L)))
             .thenReturn(List.of(funcionarioComCentroCusto(793L)));
 
         funcionarioService.listarParaUsuario(LOGIN, "   ", null, null, null, FuncionarioStatusFiltro.ATIVO);
 
-        verify(funcionarioRepository).findByFiltros(null, null, null, null, true);
+        verify(funcionarioRepository).findByFiltrosNoEscopo(null, null, null, null, true, Set.of(793L));
+    }
+
+    @Test
+    void buscarParaUsuario_acessoTotal_primeiraPaginaSemCursor() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID)).thenReturn(contextoAcessoTotal());
+        when(funcionarioRepository.buscarPagina(
+                eq("%123%"), isNull(), isNull(), isNull(), eq(true), isNull(), isNull(), eq(PageRequest.of(0, 3))))
+            .thenReturn(List.of(funcionarioComId(1L, "Ana"), funcionarioComId(2L, "Bruno")));
+
+        PaginaDTO<FuncionarioDTO> pagina = funcionarioService.buscarParaUsuario(
+            LOGIN, " 123 ", null, null, null, FuncionarioStatusFiltro.ATIVO, null, 2);
+
+        assertEquals(2, pagina.itens().size());
+        assertNull(pagina.proximoCursor());
+    }
+
+    @Test
+    void buscarParaUsuario_maisItensQueLimite_retornaCursorDoUltimo() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID)).thenReturn(contextoAcessoTotal());
+        when(funcionarioRepository.buscarPagina(
+                isNull(), isNull(), isNull(), isNull(), eq(true), isNull(), isNull(), eq(PageRequest.of(0, 3))))
+            .thenReturn(List.of(
+                funcionarioComId(1L, "Ana"), funcionarioComId(2L, "Bruno"), funcionarioComId(3L, "Carla")));
+        when(funcionarioRepository.buscarPagina(
+                isNull(), isNull(), isNull(), isNull(), eq(true), eq("Bruno"), eq(2L), eq(PageRequest.of(0, 3))))
+            .thenReturn(List.of(funcionarioComId(3L, "Carla")));
+
+        PaginaDTO<FuncionarioDTO> primeira = funcionarioService.buscarParaUsuario(
+            LOGIN, null, null, null, null, FuncionarioStatusFiltro.ATIVO, null, 2);
+        PaginaDTO<FuncionarioDTO> segunda = funcionarioService.buscarParaUsuario(
+            LOGIN, null, null, null, null, FuncionarioStatusFiltro.ATIVO, primeira.proximoCursor(), 2);
+
+        assertEquals(List.of(1L, 2L), primeira.itens().stream().map(FuncionarioDTO::id).toList());
+        assertNotNull(primeira.proximoCursor());
+        assertEquals(List.of(3L), segunda.itens().stream().map(FuncionarioDTO::id).toList());
+        assertNull(segunda.proximoCursor());
+    }
+
+    @Test
+    void buscarParaUsuario_scoped_passaCentrosDoEscopoAoRepositorio() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
+            .thenReturn(contextoRestrito(Set.of(793L)));
+        when(funcionarioRepository.buscarPaginaNoEscopo(
+                isNull(), isNull(), isNull(), isNull(), eq(true), isNull(), isNull(), eq(Set.of(793L)),
+                eq(PageRequest.of(0, Paginacao.LIMITE_PADRAO + 1))))
+            .thenReturn(List.of(funcionarioComCentroCusto(793L)));
+
+        PaginaDTO<FuncionarioDTO> pagina = funcionarioService.buscarParaUsuario(
+            LOGIN, null, null, null, null, FuncionarioStatusFiltro.ATIVO, null, null);
+
+        assertEquals(1, pagina.itens().size());
+        verify(funcionarioRepository, never()).buscarPagina(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void buscarParaUsuario_centroCustoForaEscopo_retornaVazioSemConsultar() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
+            .thenReturn(contextoRestrito(Set.of(793L)));
+
+        PaginaDTO<FuncionarioDTO> pagina = funcionarioService.buscarParaUsuario(
+            LOGIN, null, null, 999L, null, FuncionarioStatusFiltro.ATIVO, null, null);
+
+        assertTrue(pagina.itens().isEmpty());
+        assertNull(pagina.proximoCursor());
+        verify(funcionarioRepository, never()).buscarPaginaNoEscopo(
+            any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void buscarParaUsuario_acessoNegado_retornaVazio() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
+            .thenReturn(new AccessContextDTO(false, false, false, Set.of(), null, null, null, null));
+
+        assertTrue(funcionarioService.buscarParaUsuario(
+            LOGIN, null, null, null, null, FuncionarioStatusFiltro.ATIVO, null, null).itens().isEmpty());
+    }
+
+    @Test
+    void buscarParaUsuario_cursorInvalido_lancaIllegalArgument() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID)).thenReturn(contextoAcessoTotal());
+
+        assertThrows(IllegalArgumentException.class, () -> funcionarioService.buscarParaUsuario(
+            LOGIN, null, null, null, null, FuncionarioStatusFiltro.ATIVO, "não-é-cursor", null));
+    }
+
+    @Test
+    void buscarParaUsuario_limiteAcimaDoMaximo_lancaIllegalArgument() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID)).thenReturn(contextoAcessoTotal());
+
+        assertThrows(IllegalArgumentException.class, () -> funcionarioService.buscarParaUsuario(
+            LOGIN, null, null, null, null, FuncionarioStatusFiltro.ATIVO, null,
+            Paginacao.LIMITE_MAXIMO + 1));
     }
 
     @Test
@@ -734,6 +838,13 @@ class FuncionarioServiceTest {
         return new AccessContextDTO(true, true, true, Collections.emptySet(), null, null, null, null);
     }
 
+    private Funcionario funcionarioComId(Long id, String nome) {
+        Funcionario funcionario = funcionarioAtivo();
+        funcionario.setId(id);
+        funcionario.setNome(nome);
+        return funcionario;
+    }
+
     private Funcionario funcionarioComCentroCusto(Long ccId) {
         Funcionario funcionario = funcionarioAtivo();
         LinhaNegocio ln = new LinhaNegocio();
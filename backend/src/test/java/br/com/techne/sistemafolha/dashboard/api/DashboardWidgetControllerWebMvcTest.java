@@ -6,12 +6,13 @@ import br.com.techne.sistemafolha.dashboard.application.DashboardWidgetQueryServ
 import br.com.techne.sistemafolha.dashboard.domain.DashboardAcessoNegadoException;
 import br.com.techne.sistemafolha.exception.GlobalExceptionHandler;
 import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -21,6 +22,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -38,7 +40,7 @@ class DashboardWidgetControllerWebMvcTest {
     private JwtService jwtService;
 
     @MockBean
-    private UserDetailsService userDetailsService;
+    private UsuarioPrincipalCache usuarioPrincipalCache;
 
     @MockBean
     private ApiKeyService apiKeyService;
@@ -139,4 +141,34 @@ class DashboardWidgetControllerWebMvcTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.topProventos[0].codigo").value("001"));
     }
+
+    @Test
+    @WithMockUser(username = "gestor", roles = "USER")
+    void postWidgetsData_lote_retorna200NaOrdemPedida() throws Exception {
+        when(dashboardWidgetQueryService.consultarLote(eq("gestor"), any()))
+            .thenReturn(java.util.List.of(
+                WidgetDataDTO.semDados("kpi-total-funcionarios", "2024-06"),
+                WidgetDataDTO.semDados("lista-top-proventos", "2024-06")));
+
+        mockMvc.perform(post("/dashboard/widgets/data")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"widgets": [
+                      {"widgetId": "kpi-total-funcionarios", "params": {"competencia": "2024-06"}},
+                      {"widgetId": "lista-top-proventos", "params": {"competencia": "2024-06", "topN": "5"}}
+                    ]}
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].widgetId").value("kpi-total-funcionarios"))
+            .andExpect(jsonPath("$[1].widgetId").value("lista-top-proventos"));
+    }
+
+    @Test
+    @WithMockUser(username = "gestor", roles = "USER")
+    void postWidgetsData_loteVazio_retorna400() throws Exception {
+        mockMvc.perform(post("/dashboard/widgets/data")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"widgets\": []}"))
+            .andExpect(status().isBadRequest());
+    }
 }
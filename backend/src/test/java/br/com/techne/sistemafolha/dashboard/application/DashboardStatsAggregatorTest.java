@@ -3,8 +3,11 @@ package br.com.techne.sistemafolha.dashboard.application;
 import br.com.techne.sistemafolha.beneficios.port.BeneficioConsultaPort;
 import br.com.techne.sistemafolha.dashboard.api.DashboardStatsDTO;
 import br.com.techne.sistemafolha.dashboard.api.EvolucaoMensalDTO;
+import br.com.techne.sistemafolha.folha.domain.DimensaoAgregado;
 import br.com.techne.sistemafolha.folha.domain.OrigemLinha;
+import br.com.techne.sistemafolha.folha.port.FolhaAgregadoSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
+import br.com.techne.sistemafolha.folha.port.FolhaEvolucaoMaterializadaSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaEvolucaoSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaTotalizacaoPort;
@@ -17,14 +20,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -98,6 +105,43 @@ class DashboardStatsAggregatorTest {
         assertEquals(2L, stats.totalBeneficiosAtivos());
     }
 
+    @Test
+    void aggregateForCompetencia_comAgregados_naoPercorreLinhas() {
+        AccessContextDTO contexto = new AccessContextDTO(true, true, true, Set.of(), null, 1L, "Raiz", 0);
+        List<FolhaAgregadoSnapshot> agregados = List.of(
+            agregado(10L, 1L, DimensaoAgregado.CENTRO_CUSTO, 10L, "Centro A", 2, "8000.00"),
+            agregado(20L, 1L, DimensaoAgregado.CENTRO_CUSTO, 20L, "Centro B", 1, "3000.00"),
+            agregado(10L, 1L, DimensaoAgregado.CARGO, 200L, "Dev", 2, "8000.00"),
+            agregado(20L, 1L, DimensaoAgregado.CARGO, 200L, "Dev", 1, "3000.00"),
+            agregado(10L, 1L, DimensaoAgregado.PROVENTO, 1L, "Salário", 2, "8000.00"),
+            agregado(20L, 1L, DimensaoAgregado.PROVENTO, 1L, "Salário", 1, "3000.00"));
+
+        when(folhaConsultaPort.findAgregadosPorCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false, null))
+            .thenReturn(agregados);
+        when(folhaTotalizacaoPort.calcularTotalCustoEmpresaAgregado(
+                agregados, COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(new BigDecimal("11500.00"));
+        when(beneficioConsultaPort.contarLancamentosAtivosNaCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM))
+            .thenReturn(3L);
+        when(folhaConsultaPort.findEvolucaoUltimos12Meses(any())).thenReturn(List.of());
+
+        DashboardStatsDTO stats = aggregator.aggregateForCompetencia(
+            contexto, null, COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
+
+        assertEquals(3L, stats.totalFuncionarios());
+        assertEquals(new BigDecimal("11500.00"), stats.custoMensalFolha());
+        assertEquals(new BigDecimal("11000.00"), stats.totalProventos());
+        assertEquals(BigDecimal.ZERO, stats.totalDescontos());
+        assertEquals(2, stats.porCentroCusto().size());
+        assertEquals(10L, stats.porCentroCusto().get(0).id());
+        assertEquals(1, stats.porLinhaNegocio().size());
+        assertEquals(3L, stats.porLinhaNegocio().get(0).quantidadeFuncionarios());
+        assertEquals(1, stats.porCargo().size());
+        assertEquals(new BigDecimal("3666.67"), stats.porCargo().get(0).valorMedio());
+        assertEquals(3L, stats.topProventos().get(0).quantidadeOcorrencias());
+        verify(folhaConsultaPort, never()).findLinhasAtivasPorCompetencia(any(), any(), anyBoolean(), any());
+    }
+
     @Test
     void porCentroCusto_respeitaTopN() {
         List<FolhaLinhaSnapshot> linhas = List.of(
@@ -172,6 +216,45 @@ class DashboardStatsAggregatorTest {
         assertEquals(1, evolucao.get(0).quantidadeFuncionarios());
     }
 
+    @Test
+    void evolucaoMeses_scopedMaterializada_somaCentrosSemPercorrerLinhas() {
+        Set<Long> centros = Set.of(10L, 20L);
+        AccessContextDTO contexto = new AccessContextDTO(true, true, false, centros, null, 2L, "TI", 1);
+        LocalDate fim = LocalDate.of(2024, 7, 31);
+        FolhaEvolucaoSnapshot jun = evolucao(COMPETENCIA_INICIO, COMPETENCIA_FIM, new BigDecimal("99999"), 100);
+        FolhaEvolucaoSnapshot jul = evolucao(
+            LocalDate.of(2024, 7, 1), fim, new BigDecimal("99999"), 100);
+
+        when(folhaConsultaPort.findEvolucaoUltimos12Meses(any())).thenReturn(List.of(jun, jul));
+        when(folhaConsultaPort.findEvolucaoMaterializada(LocalDate.of(2024, 2, 1), centros))
+            .thenReturn(List.of(new FolhaEvolucaoMaterializadaSnapshot(
+                COMPETENCIA_INICIO, COMPETENCIA_FIM, false, new BigDecimal("8000.00"), new BigDecimal("7000.00"),
+                new BigDecimal("8800.00"), new BigDecimal("800.00"), new BigDecimal("9100.00"), 3L)));
+        when(folhaConsultaPort.findLinhasAtivasPorCompetencia(LocalDate.of(2024, 7, 1), fim, false, centros))
+            .thenReturn(List.of());
+        when(folhaTotalizacaoPort.calcularTotalCustoEmpresa(any(), any(), any(), isNull()))
+            .thenReturn(new BigDecimal("0.00"));
+
+        List<EvolucaoMensalDTO> evolucao = aggregator.evolucaoMeses(contexto, centros, fim, 6, false);
+
+        assertEquals(2, evolucao.size());
+        EvolucaoMensalDTO junho = evolucao.stream()
+            .filter(e -> e.mesAno().equals(COMPETENCIA_INICIO.format(DateTimeFormatter.ofPattern("MMM/yyyy"))))
+            .findFirst().orElseThrow();
+        assertEquals(new BigDecimal("9100.00"), junho.valorTotal());
+        assertEquals(3, junho.quantidadeFuncionarios());
+        verify(folhaConsultaPort, never()).findLinhasAtivasPorCompetencia(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false, centros);
+    }
+
+    private FolhaAgregadoSnapshot agregado(
+            Long centroId, Long linhaId, DimensaoAgregado dimensao, Long chaveId, String chaveDesc,
+            long funcionarios, String valor) {
+        return new FolhaAgregadoSnapshot(
+            centroId, linhaId, "LN", dimensao, chaveId, "001", chaveDesc, funcionarios, funcionarios,
+            new BigDecimal(valor), dimensao == DimensaoAgregado.CENTRO_CUSTO ? new BigDecimal(valor) : null);
+    }
+
     private FolhaEvolucaoSnapshot evolucao(
             LocalDate inicio, LocalDate fim, BigDecimal total, int empregados) {
         return new FolhaEvolucaoSnapshot(inicio, fim, total, empregados, false);
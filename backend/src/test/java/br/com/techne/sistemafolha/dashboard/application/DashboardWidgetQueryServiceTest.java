@@ -2,10 +2,13 @@ package br.com.techne.sistemafolha.dashboard.application;
 
 import br.com.techne.sistemafolha.dashboard.api.CentroCustoStatsDTO;
 import br.com.techne.sistemafolha.dashboard.api.DashboardStatsDTO;
+import br.com.techne.sistemafolha.dashboard.api.WidgetBatchItemRequest;
 import br.com.techne.sistemafolha.dashboard.api.WidgetDataDTO;
 import br.com.techne.sistemafolha.dashboard.api.WidgetQueryParams;
 import br.com.techne.sistemafolha.dashboard.domain.DashboardAcessoNegadoException;
 import br.com.techne.sistemafolha.dashboard.domain.WidgetCatalog;
+import br.com.techne.sistemafolha.folha.domain.DimensaoAgregado;
+import br.com.techne.sistemafolha.folha.port.FolhaAgregadoSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
 import br.com.techne.sistemafolha.folha.port.FolhaResumoSnapshot;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
@@ -29,6 +32,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -172,6 +176,22 @@ class DashboardWidgetQueryServiceTest {
         assertEquals(3, result.topProventos().size());
     }
 
+    @Test
+    void consultar_comAgregados_filtraCentroSemPercorrerLinhas() {
+        mockAcessoTotal("gestor");
+        when(dashboardWidgetCatalogService.isWidgetPermitido("gestor", "kpi-total-funcionarios")).thenReturn(true);
+        when(folhaConsultaPort.findResumoMaisRecente()).thenReturn(Optional.of(resumoAtual()));
+        when(dashboardStatsAggregator.agregadosCompetencia(null, COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(Optional.of(new DashboardAgregados(null, List.of(
+                agregadoCentro(10L, 4), agregadoCentro(20L, 7)), COMPETENCIA_INICIO, COMPETENCIA_FIM, false)));
+
+        WidgetQueryParams params = WidgetQueryParams.fromQueryMap(Map.of("centroCustoId", "20"));
+        WidgetDataDTO result = service.consultar("gestor", "kpi-total-funcionarios", params);
+
+        assertEquals(7L, result.totalFuncionarios());
+        verify(dashboardStatsAggregator, never()).linhasCompetencia(any(), any(), any(), eq(false));
+    }
+
     @Test
     void consultar_semEscopo_lanca403() {
         doThrow(new DashboardAcessoNegadoException()).when(dashboardAccessGuard).assertEscopo("negado");
@@ -181,12 +201,94 @@ class DashboardWidgetQueryServiceTest {
                 null, null, null, null, null, null, null, null)));
     }
 
+    @Test
+    void consultarLote_mesmaCompetencia_resolveAcessoECarregaSnapshotUmaVez() {
+        mockAcessoTotal("gestor");
+        when(dashboardWidgetCatalogService.isWidgetPermitido(any(DashboardAccessGuard.ResolvedDashboardAccess.class), any()))
+            .thenReturn(true);
+        when(folhaConsultaPort.findResumoMaisRecente()).thenReturn(Optional.of(resumoAtual()));
+        when(dashboardStatsAggregator.agregadosCompetencia(null, COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(Optional.of(new DashboardAgregados(null, List.of(
+                agregadoCentro(10L, 4), agregadoCentro(20L, 7)), COMPETENCIA_INICIO, COMPETENCIA_FIM, false)));
+
+        List<WidgetDataDTO> result = service.consultarLote("gestor", List.of(
+            new WidgetBatchItemRequest("kpi-total-funcionarios", null),
+            new WidgetBatchItemRequest("kpi-total-funcionarios", Map.of("centroCustoId", "20")),
+            new WidgetBatchItemRequest("kpi-total-funcionarios", Map.of("centroCustoId", "10"))));
+
+        assertEquals(List.of(11L, 7L, 4L), result.stream().map(WidgetDataDTO::totalFuncionarios).toList());
+        verify(dashboardAccessGuard, times(1)).resolve("gestor");
+        verify(folhaConsultaPort, times(1)).findResumoMaisRecente();
+        verify(dashboardStatsAggregator, times(1)).agregadosCompetencia(any(), any(), any(), eq(false));
+        verify(dashboardStatsAggregator, never()).linhasCompetencia(any(), any(), any(), eq(false));
+    }
+
+    @Test
+    void consultarLote_competenciaSemFolha_retornaSemDadosPorItem() {
+        mockAcessoTotal("gestor");
+        when(dashboardWidgetCatalogService.isWidgetPermitido(any(DashboardAccessGuard.ResolvedDashboardAccess.class), any()))
+            .thenReturn(true);
+        when(folhaConsultaPort.existsResumoAtivo(COMPETENCIA_INICIO, COMPETENCIA_FIM, false)).thenReturn(false);
+
+        List<WidgetDataDTO> result = service.consultarLote("gestor", List.of(
+            new WidgetBatchItemRequest("kpi-total-funcionarios", Map.of("competencia", "2024-06")),
+            new WidgetBatchItemRequest("lista-top-proventos", Map.of("competencia", "2024-06"))));
+
+        assertEquals(2, result.size());
+        assertTrue(result.stream().allMatch(WidgetDataDTO::semDados));
+        assertEquals("lista-top-proventos", result.get(1).widgetId());
+        verify(folhaConsultaPort, times(1)).existsResumoAtivo(COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
+    }
+
+    @Test
+    void consultarLote_widgetNaoPermitido_recusaLoteSemConsultar() {
+        mockAcessoTotal("gestor");
+        when(dashboardWidgetCatalogService.isWidgetPermitido(
+            any(DashboardAccessGuard.ResolvedDashboardAccess.class), eq(WidgetCatalog.KPI_TOTAL_FUNCIONARIOS)))
+            .thenReturn(true);
+        when(dashboardWidgetCatalogService.isWidgetPermitido(
+            any(DashboardAccessGuard.ResolvedDashboardAccess.class), eq(WidgetCatalog.LISTA_TOP_PROVENTOS)))
+            .thenReturn(false);
+
+        List<WidgetBatchItemRequest> itens = List.of(
+            new WidgetBatchItemRequest("kpi-total-funcionarios", null),
+            new WidgetBatchItemRequest("lista-top-proventos", null));
+
+        assertThrows(DashboardAcessoNegadoException.class, () -> service.consultarLote("gestor", itens));
+        verify(folhaConsultaPort, never()).findResumoMaisRecente();
+    }
+
+    @Test
+    void consultarLote_widgetInexistente_lanca403() {
+        mockAcessoTotal("gestor");
+
+        List<WidgetBatchItemRequest> itens = List.of(new WidgetBatchItemRequest("nao-existe", null));
+
+        assertThrows(DashboardAcessoNegadoException.class, () -> service.consultarLote("gestor", itens));
+    }
+
+    @Test
+    void consultarLote_semEscopo_lanca403() {
+        when(dashboardAccessGuard.resolve("negado")).thenReturn(
+            new DashboardAccessGuard.ResolvedDashboardAccess(true, null, null, Set.of()));
+
+        List<WidgetBatchItemRequest> itens = List.of(new WidgetBatchItemRequest("kpi-total-funcionarios", null));
+
+        assertThrows(DashboardAcessoNegadoException.class, () -> service.consultarLote("negado", itens));
+    }
+
     private void mockAcessoTotal(String login) {
         AccessContextDTO contexto = new AccessContextDTO(true, true, true, Set.of(), null, 1L, "Raiz", 0);
         when(dashboardAccessGuard.resolve(login)).thenReturn(
             new DashboardAccessGuard.ResolvedDashboardAccess(false, 1L, contexto, null));
     }
 
+    private FolhaAgregadoSnapshot agregadoCentro(Long centroId, long funcionarios) {
+        return new FolhaAgregadoSnapshot(
+            centroId, 1L, "LN", DimensaoAgregado.CENTRO_CUSTO, centroId, null, "Centro " + centroId,
+            funcionarios, funcionarios, BigDecimal.TEN, BigDecimal.TEN);
+    }
+
     private FolhaResumoSnapshot resumoAtual() {
         return new FolhaResumoSnapshot(
             COMPETENCIA_INICIO, COMPETENCIA_FIM, BigDecimal.ZERO, 0, false, BigDecimal.ZERO);
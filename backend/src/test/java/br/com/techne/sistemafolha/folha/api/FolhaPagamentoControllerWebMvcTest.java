@@ -3,17 +3,22 @@ package br.com.techne.sistemafolha.folha.api;
 import br.com.techne.sistemafolha.auth.application.ApiKeyService;
 import br.com.techne.sistemafolha.config.SecurityConfig;
 import br.com.techne.sistemafolha.exception.GlobalExceptionHandler;
+import br.com.techne.sistemafolha.folha.application.FolhaExportacaoService;
 import br.com.techne.sistemafolha.folha.application.FolhaPagamentoService;
 import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
+import br.com.techne.sistemafolha.shared.paginacao.PaginaDTO;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 
@@ -21,8 +26,13 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = FolhaPagamentoController.class)
@@ -35,11 +45,14 @@ class FolhaPagamentoControllerWebMvcTest {
     @MockBean
     private FolhaPagamentoService folhaPagamentoService;
 
+    @MockBean
+    private FolhaExportacaoService folhaExportacaoService;
+
     @MockBean
     private JwtService jwtService;
 
     @MockBean
-    private UserDetailsService userDetailsService;
+    private UsuarioPrincipalCache usuarioPrincipalCache;
 
     @MockBean
     private ApiKeyService apiKeyService;
@@ -66,6 +79,28 @@ class FolhaPagamentoControllerWebMvcTest {
             .andExpect(status().isOk());
     }
 
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    void exportar_csv_escreveCorpoEmStreaming() throws Exception {
+        when(folhaExportacaoService.exportar(
+            eq("user"), eq(java.time.LocalDate.parse("2026-01-01")),
+            eq(java.time.LocalDate.parse("2026-01-31")), isNull(), eq(FolhaExportacaoFormato.CSV)))
+            .thenReturn(saida -> saida.write("cabecalho\r\n".getBytes(StandardCharsets.UTF_8)));
+
+        MvcResult result = mockMvc.perform(get("/folha-pagamento/exportacao")
+                .param("dataInicio", "2026-01-01")
+                .param("dataFim", "2026-01-31"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"folha-2026-01-01-2026-01-31.csv\""))
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
+            .andExpect(content().string("cabecalho\r\n"));
+    }
+
     @Test
     @WithMockUser(username = "user", roles = "USER")
     void consultarPorCentroCusto_retorna200() throws Exception {
@@ -94,6 +129,54 @@ class FolhaPagamentoControllerWebMvcTest {
             .andExpect(status().isOk());
     }
 
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    void consultarPaginaPorCentroCusto_comCursor_retornaPagina() throws Exception {
+        when(folhaPagamentoService.consultarPaginaPorCentroCusto(
+            eq("user"), eq(2L), eq(java.time.LocalDate.parse("2026-01-01")),
+            eq(java.time.LocalDate.parse("2026-01-31")), eq("abc"), eq(100)))
+            .thenReturn(new PaginaDTO<>(List.of(), "prox"));
+
+        mockMvc.perform(get("/folha-pagamento/centro-custo/2/pagina")
+                .param("dataInicio", "2026-01-01")
+                .param("dataFim", "2026-01-31")
+                .param("cursor", "abc")
+                .param("limite", "100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.itens.length()").value(0))
+            .andExpect(jsonPath("$.proximoCursor").value("prox"));
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    void consultarPaginaPorFuncionario_limiteInvalido_retorna400() throws Exception {
+        when(folhaPagamentoService.consultarPaginaPorFuncionario(
+            eq("user"), eq(1L), eq(java.time.LocalDate.parse("2026-01-01")),
+            eq(java.time.LocalDate.parse("2026-01-31")), isNull(), isNull(), eq(500)))
+            .thenThrow(new IllegalArgumentException("O limite deve estar entre 1 e 200"));
+
+        mockMvc.perform(get("/folha-pagamento/funcionario/1/pagina")
+                .param("dataInicio", "2026-01-01")
+                .param("dataFim", "2026-01-31")
+                .param("limite", "500"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    void consultarPaginaPorLinhaNegocio_retorna200() throws Exception {
+        when(folhaPagamentoService.consultarPaginaPorLinhaNegocio(
+            eq("user"), eq(3L), eq(java.time.LocalDate.parse("2026-01-01")),
+            eq(java.time.LocalDate.parse("2026-01-31")), isNull(), isNull()))
+            .thenReturn(PaginaDTO.vazia());
+
+        mockMvc.perform(get("/folha-pagamento/linha-negocio/3/pagina")
+                .param("dataInicio", "2026-01-01")
+                .param("dataFim", "2026-01-31"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.proximoCursor").doesNotExist());
+    }
+
     @Test
     @WithMockUser(username = "user", roles = "USER")
     void consultarPorPeriodo_retorna200() throws Exception {
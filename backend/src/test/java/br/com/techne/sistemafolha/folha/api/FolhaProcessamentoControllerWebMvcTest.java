@@ -5,13 +5,13 @@ import br.com.techne.sistemafolha.config.SecurityConfig;
 import br.com.techne.sistemafolha.exception.GlobalExceptionHandler;
 import br.com.techne.sistemafolha.folha.application.FolhaProcessamentoService;
 import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -46,7 +46,7 @@ class FolhaProcessamentoControllerWebMvcTest {
     private JwtService jwtService;
 
     @MockBean
-    private UserDetailsService userDetailsService;
+    private UsuarioPrincipalCache usuarioPrincipalCache;
 
     @MockBean
     private ApiKeyService apiKeyService;
@@ -76,6 +76,54 @@ class FolhaProcessamentoControllerWebMvcTest {
             .andExpect(jsonPath("$.totalFichas").value(10));
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void processar_modoParaleloLotes_repassaOpcoes() throws Exception {
+        when(folhaProcessamentoService.processar(
+            eq(LocalDate.parse("2026-01-01")),
+            eq(LocalDate.parse("2026-01-31")),
+            eq(false),
+            eq(new ProcessamentoOpcoes(true, ModoProcessamento.PARALELO_LOTES))))
+            .thenReturn(new ProcessamentoResultadoDTO(10, 8, 2));
+
+        mockMvc.perform(post("/folha-pagamento/processar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "competenciaInicio": "2026-01-01",
+                      "competenciaFim": "2026-01-31",
+                      "decimoTerceiro": false,
+                      "opcoes": { "recalcularFerias": true, "modo": "PARALELO_LOTES" }
+                    }
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalFichas").value(10));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void processar_opcoesSemModo_usaTransacaoUnica() throws Exception {
+        when(folhaProcessamentoService.processar(
+            eq(LocalDate.parse("2026-01-01")),
+            eq(LocalDate.parse("2026-01-31")),
+            eq(false),
+            eq(new ProcessamentoOpcoes(true, ModoProcessamento.TRANSACAO_UNICA))))
+            .thenReturn(new ProcessamentoResultadoDTO(1, 1, 1));
+
+        mockMvc.perform(post("/folha-pagamento/processar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "competenciaInicio": "2026-01-01",
+                      "competenciaFim": "2026-01-31",
+                      "decimoTerceiro": false,
+                      "opcoes": { "recalcularFerias": true }
+                    }
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalFichas").value(1));
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = "ADMIN")
     void processar_competenciaOmitida_retorna400() throws Exception {
@@ -7,6 +7,7 @@ import br.com.techne.sistemafolha.folha.api.FolhaTotaisFuncionarioDTO;
 import br.com.techne.sistemafolha.folha.api.ResumoFolhaPagamentoDTO;
 import br.com.techne.sistemafolha.folha.domain.OrigemLinha;
 import br.com.techne.sistemafolha.folha.domain.ResumoFolhaPagamento;
+import br.com.techne.sistemafolha.folha.infrastructure.FichaMensalRepository;
 import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoRepository;
 import br.com.techne.sistemafolha.folha.infrastructure.ResumoFolhaPagamentoRepository;
 import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
@@ -31,7 +32,6 @@ import java.util.Set;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 /** FCLT-ACL-11: soma dos cards scoped deve igualar totais scoped do resumo na mesma competência. */
@@ -64,22 +64,29 @@ class FolhaAclParidadeResumoCardsTest {
     @Mock
     private FolhaPagamentoRepository folhaPagamentoRepository;
 
+    @Mock
+    private FichaMensalRepository fichaMensalRepository;
+
     @Mock
     private CadastrosLookupPort cadastrosLookupPort;
 
+    @Mock
+    private FolhaPendenciaService folhaPendenciaService;
+
     private ResumoFolhaPagamentoService resumoFolhaPagamentoService;
     private FolhaPagamentoService folhaPagamentoService;
 
     @BeforeEach
     void setUp() {
         FolhaTotalizacaoService folhaTotalizacaoService =
-            new FolhaTotalizacaoService(beneficioConsultaPort);
+            new FolhaTotalizacaoService(beneficioConsultaPort, new FolhaCalculoCentavos(), fichaMensalRepository);
         resumoFolhaPagamentoService = new ResumoFolhaPagamentoService(
             resumoFolhaPagamentoRepository,
             folhaConsultaPort,
             organogramaAcessoPort,
             usuarioLookupPort,
-            beneficioConsultaPort);
+            beneficioConsultaPort,
+            new FolhaCalculoCentavos());
         folhaPagamentoService = new FolhaPagamentoService(
             folhaPagamentoRepository,
             cadastrosLookupPort,
@@ -87,7 +94,8 @@ class FolhaAclParidadeResumoCardsTest {
             organogramaAcessoPort,
             folhaTotalizacaoService,
             folhaConsultaPort,
-            resumoFolhaPagamentoRepository);
+            resumoFolhaPagamentoRepository,
+            folhaPendenciaService);
     }
 
     @Test
@@ -113,12 +121,8 @@ class FolhaAclParidadeResumoCardsTest {
 
         when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(any(), any(), any()))
             .thenReturn(Map.of());
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-                eq(101L), eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM)))
-            .thenReturn(0);
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-                eq(102L), eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM)))
-            .thenReturn(0);
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(any(), any(), any()))
+            .thenReturn(Map.of());
 
         List<ResumoFolhaPagamentoDTO> resumos =
             resumoFolhaPagamentoService.listarTodos(LOGIN, 2024, null);
@@ -171,7 +175,7 @@ class FolhaAclParidadeResumoCardsTest {
                 COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
             .thenReturn(List.of(snapshot));
 
-        stubBeneficiosVaziosGlobal(linhasGlobais);
+        stubBeneficiosVaziosGlobal();
 
         List<ResumoFolhaPagamentoDTO> resumos =
             resumoFolhaPagamentoService.listarTodos(LOGIN, 2024, null);
@@ -204,9 +208,8 @@ class FolhaAclParidadeResumoCardsTest {
             .thenReturn(linhasComPorcentagem);
         when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(any(), any(), any()))
             .thenReturn(Map.of());
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-                eq(101L), eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM)))
-            .thenReturn(0);
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(any(), any(), any()))
+            .thenReturn(Map.of());
 
         List<ResumoFolhaPagamentoDTO> resumos =
             resumoFolhaPagamentoService.listarTodos(LOGIN, 2024, null);
@@ -237,16 +240,11 @@ class FolhaAclParidadeResumoCardsTest {
         assertEquals(0, resumo.totalCustoEmpresa().compareTo(sumCustoEmpresa));
     }
 
-    private void stubBeneficiosVaziosGlobal(List<FolhaLinhaSnapshot> linhas) {
+    private void stubBeneficiosVaziosGlobal() {
         when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(any(), any(), any()))
             .thenReturn(Map.of());
-        linhas.stream()
-            .map(FolhaLinhaSnapshot::funcionarioId)
-            .distinct()
-            .forEach(funcionarioId ->
-                when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-                    eq(funcionarioId), eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM)))
-                    .thenReturn(0));
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(any(), any(), any()))
+            .thenReturn(Map.of());
     }
 
     private void stubUsuario() {
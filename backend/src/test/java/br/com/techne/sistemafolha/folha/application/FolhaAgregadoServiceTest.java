@@ -0,0 +1,184 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import br.com.techne.sistemafolha.folha.domain.DimensaoAgregado;
+import br.com.techne.sistemafolha.folha.domain.FolhaAgregado;
+import br.com.techne.sistemafolha.folha.domain.FolhaEvolucaoMensal;
+import br.com.techne.sistemafolha.folha.domain.OrigemLinha;
+import br.com.techne.sistemafolha.folha.infrastructure.FichaMensalRepository;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaAgregadoRepository;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaEvolucaoMensalRepository;
+import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
+import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FolhaAgregadoServiceTest {
+
+    private static final LocalDate COMPETENCIA_INICIO = LocalDate.of(2024, 10, 1);
+    private static final LocalDate COMPETENCIA_FIM = LocalDate.of(2024, 10, 31);
+
+    @Mock
+    private FolhaAgregadoRepository folhaAgregadoRepository;
+
+    @Mock
+    private FichaMensalRepository fichaMensalRepository;
+
+    @Mock
+    private FolhaEvolucaoMensalRepository folhaEvolucaoMensalRepository;
+
+    @Mock
+    private FolhaConsultaPort folhaConsultaPort;
+
+    @Captor
+    private ArgumentCaptor<List<FolhaAgregado>> agregadosCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<FolhaEvolucaoMensal>> evolucaoCaptor;
+
+    private FolhaAgregadoService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FolhaAgregadoService(
+            folhaAgregadoRepository,
+            folhaEvolucaoMensalRepository,
+            fichaMensalRepository,
+            folhaConsultaPort,
+            new FolhaCalculoCentavos(),
+            Clock.fixed(Instant.parse("2024-11-05T10:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void atualizar_semFichas_apenasRemoveAgregados() {
+        when(fichaMensalRepository.existsByCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(false);
+
+        service.atualizar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
+
+        verify(folhaAgregadoRepository).deleteByCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
+        verify(folhaEvolucaoMensalRepository).deleteByCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
+        verify(folhaAgregadoRepository, never()).saveAll(any());
+        verify(folhaEvolucaoMensalRepository, never()).saveAll(any());
+        verifyNoInteractions(folhaConsultaPort);
+    }
+
+    @Test
+    void atualizar_comFichas_gravaCentroCargoERubricasPorCentro() {
+        when(fichaMensalRepository.existsByCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(true);
+        when(folhaConsultaPort.findLinhasAtivasPorCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false, null))
+            .thenReturn(List.of(
+                linha(1L, 10L, 200L, 1L, "PROVENTO", "5000.00"),
+                linha(1L, 10L, 200L, 2L, "DESCONTO", "500.00"),
+                linha(2L, 10L, 200L, 1L, "PROVENTO", "3000.00"),
+                linha(3L, null, null, 1L, "PROVENTO", "1000.00")));
+
+        service.atualizar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
+
+        verify(folhaAgregadoRepository).saveAll(agregadosCaptor.capture());
+        List<FolhaAgregado> agregados = agregadosCaptor.getValue();
+        assertEquals(6, agregados.size());
+
+        FolhaAgregado centro = agregados.get(0);
+        assertEquals(DimensaoAgregado.CENTRO_CUSTO, centro.getDimensao());
+        assertEquals(10L, centro.getCentroCustoId());
+        assertEquals(1L, centro.getLinhaNegocioId());
+        assertEquals(2L, centro.getQuantidadeFuncionarios());
+        assertEquals(3L, centro.getQuantidadeLancamentos());
+        assertEquals(new BigDecimal("8500.00"), centro.getValorTotal());
+        assertEquals(new BigDecimal("8000.00"), centro.getCustoFolha());
+
+        FolhaAgregado cargo = agregados.get(1);
+        assertEquals(DimensaoAgregado.CARGO, cargo.getDimensao());
+        assertEquals(200L, cargo.getChaveId());
+        assertEquals(2L, cargo.getQuantidadeFuncionarios());
+
+        FolhaAgregado provento = agregados.get(2);
+        assertEquals(DimensaoAgregado.PROVENTO, provento.getDimensao());
+        assertEquals("0001", provento.getChaveCodigo());
+        assertEquals(new BigDecimal("8000.00"), provento.getValorTotal());
+        assertEquals(2L, provento.getQuantidadeLancamentos());
+
+        FolhaAgregado desconto = agregados.get(3);
+        assertEquals(DimensaoAgregado.DESCONTO, desconto.getDimensao());
+        assertEquals(new BigDecimal("500.00"), desconto.getValorTotal());
+
+        FolhaAgregado semCentro = agregados.get(4);
+        assertEquals(DimensaoAgregado.CENTRO_CUSTO, semCentro.getDimensao());
+        assertNull(semCentro.getCentroCustoId());
+        assertEquals(1L, semCentro.getQuantidadeFuncionarios());
+        assertEquals(DimensaoAgregado.PROVENTO, agregados.get(5).getDimensao());
+    }
+
+    @Test
+    void atualizar_comFichas_gravaEvolucaoMensalPorCentro() {
+        when(fichaMensalRepository.existsByCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(true);
+        when(folhaConsultaPort.findLinhasAtivasPorCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false, null))
+            .thenReturn(List.of(
+                linha(1L, 10L, 200L, 1L, "PROVENTO", "5000.00"),
+                linha(1L, 10L, 200L, 2L, "DESCONTO", "500.00"),
+                linha(2L, 10L, 200L, 1L, "PROVENTO", "3000.00"),
+                encargo(2L, 10L, "3000.00", "8"),
+                linha(3L, null, null, 1L, "PROVENTO", "1000.00")));
+
+        service.atualizar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
+
+        verify(folhaEvolucaoMensalRepository).saveAll(evolucaoCaptor.capture());
+        List<FolhaEvolucaoMensal> evolucao = evolucaoCaptor.getValue();
+        assertEquals(2, evolucao.size());
+
+        FolhaEvolucaoMensal centro = evolucao.get(0);
+        assertEquals(10L, centro.getCentroCustoId());
+        assertEquals(new BigDecimal("8000.00"), centro.getTotalBruto());
+        assertEquals(new BigDecimal("7500.00"), centro.getTotalLiquido());
+        assertEquals(new BigDecimal("8240.00"), centro.getCustoFolha());
+        assertEquals(new BigDecimal("240.00"), centro.getTotalEncargos());
+        assertEquals(2L, centro.getQuantidadeFuncionarios());
+
+        FolhaEvolucaoMensal semCentro = evolucao.get(1);
+        assertNull(semCentro.getCentroCustoId());
+        assertEquals(new BigDecimal("1000.00"), semCentro.getTotalBruto());
+        assertEquals(1L, semCentro.getQuantidadeFuncionarios());
+    }
+
+    private FolhaLinhaSnapshot encargo(Long funcionarioId, Long centroId, String base, String porcentagem) {
+        return new FolhaLinhaSnapshot(
+            funcionarioId, "Func " + funcionarioId, centroId, "Centro " + centroId, 1L, "LN", 200L, "Cargo",
+            9L, "0009", "INSS patronal", "OUTROS", new BigDecimal(base),
+            (short) 0, (short) 0, (short) 1, OrigemLinha.FOLHA_ADP, new BigDecimal(porcentagem));
+    }
+
+    private FolhaLinhaSnapshot linha(
+            Long funcionarioId, Long centroId, Long cargoId, Long rubricaId, String tipo, String valor) {
+        boolean provento = "PROVENTO".equals(tipo);
+        return new FolhaLinhaSnapshot(
+            funcionarioId, "Func " + funcionarioId, centroId, centroId != null ? "Centro " + centroId : null,
+            centroId != null ? 1L : null, centroId != null ? "LN" : null,
+            cargoId, cargoId != null ? "Cargo" : null,
+            rubricaId, String.format("%04d", rubricaId), "Rubrica " + rubricaId, tipo, new BigDecimal(valor),
+            provento ? (short) 1 : (short) 0, provento ? (short) 1 : (short) -1, provento ? (short) 1 : (short) 0,
+            OrigemLinha.FOLHA_ADP, null);
+    }
+}
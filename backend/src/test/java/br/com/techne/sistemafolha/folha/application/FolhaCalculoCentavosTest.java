@@ -0,0 +1,165 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Equivalência entre {@link FolhaCalculoCentavos} e o caminho {@link BigDecimal} de {@link FolhaMotorCalculo}.
+ * Os casos gerados usam sementes fixas para que uma falha seja reproduzível; {@code assertEquals} em
+ * {@link BigDecimal} compara também a escala, então a igualdade exigida é bit a bit.
+ */
+class FolhaCalculoCentavosTest {
+
+    private static final int CASOS_POR_SEMENTE = 2_000;
+    private static final short[] OPERADORES_PADRAO = {-1, 0, 1};
+
+    private final FolhaCalculoCentavos centavos = new FolhaCalculoCentavos();
+    private final FolhaCalculoDecimal decimal = new FolhaCalculoDecimal();
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 42L, 2024L, 987_654_321L})
+    void calcularPorLinhas_listasAleatorias_identicoAoBigDecimal(long semente) {
+        SplittableRandom random = new SplittableRandom(semente);
+        for (int caso = 0; caso < CASOS_POR_SEMENTE; caso++) {
+            List<FolhaMotorCalculo.LinhaCalculoInput> linhas = linhasAleatorias(random);
+
+            assertEquals(decimal.calcularPorLinhas(linhas), centavos.calcularPorLinhas(linhas),
+                () -> "semente=" + semente + ", linhas=" + linhas);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {7L, 1_000_003L})
+    void contribuicao_linhasAleatorias_identicoAoBigDecimal(long semente) {
+        SplittableRandom random = new SplittableRandom(semente);
+        for (int caso = 0; caso < CASOS_POR_SEMENTE; caso++) {
+            FolhaMotorCalculo.LinhaCalculoInput linha = linhaAleatoria(random);
+            for (FolhaMotorCalculo.Totalizador totalizador : FolhaMotorCalculo.Totalizador.values()) {
+                assertEquals(decimal.contribuicao(linha, totalizador), centavos.contribuicao(linha, totalizador),
+                    () -> "semente=" + semente + ", linha=" + linha + ", totalizador=" + totalizador);
+            }
+        }
+    }
+
+    @Test
+    void calcularPorLinhas_meioCentavoNoCusto_arredondaParaLongeDoZero() {
+        List<FolhaMotorCalculo.LinhaCalculoInput> positivo = List.of(
+            linha("0.01", (short) 1, new BigDecimal("50.00")));
+        List<FolhaMotorCalculo.LinhaCalculoInput> negativo = List.of(
+            linha("0.01", (short) -1, new BigDecimal("50.00")));
+
+        assertEquals(new BigDecimal("0.01"), centavos.calcularPorLinhas(positivo).custoFolha());
+        assertEquals(new BigDecimal("-0.01"), centavos.calcularPorLinhas(negativo).custoFolha());
+        assertEquals(decimal.calcularPorLinhas(negativo), centavos.calcularPorLinhas(negativo));
+    }
+
+    @Test
+    void calcularPorLinhas_valorComTresCasas_usaFallbackBigDecimal() {
+        List<FolhaMotorCalculo.LinhaCalculoInput> linhas = List.of(
+            linha("10.005", (short) 1, null),
+            linha("2.50", (short) 1, new BigDecimal("138.63")));
+
+        assertEquals(decimal.calcularPorLinhas(linhas), centavos.calcularPorLinhas(linhas));
+        assertEquals(new BigDecimal("12.51"), centavos.calcularPorLinhas(linhas).bruto());
+    }
+
+    @Test
+    void calcularPorLinhas_estouroDeLong_usaFallbackBigDecimal() {
+        List<FolhaMotorCalculo.LinhaCalculoInput> linhas = List.of(
+            linha("90000000000000000.00", (short) 1, new BigDecimal("999.99")),
+            linha("90000000000000000.00", (short) 1, null));
+
+        FolhaMotorCalculo.TotaisFuncionario totais = centavos.calcularPorLinhas(linhas);
+
+        assertEquals(decimal.calcularPorLinhas(linhas), totais);
+        assertEquals(new BigDecimal("180000000000000000.00"), totais.bruto());
+    }
+
+    @Test
+    void calcularPorLinhas_listaVaziaOuValorNull_identicoAoBigDecimal() {
+        List<FolhaMotorCalculo.LinhaCalculoInput> comNull = List.of(
+            new FolhaMotorCalculo.LinhaCalculoInput(null, (short) 1, (short) 1, (short) 1, null));
+
+        assertEquals(decimal.calcularPorLinhas(List.of()), centavos.calcularPorLinhas(List.of()));
+        assertEquals(decimal.calcularPorLinhas(null), centavos.calcularPorLinhas(null));
+        assertEquals(decimal.calcularPorLinhas(comNull), centavos.calcularPorLinhas(comNull));
+    }
+
+    @Test
+    void arredondarMilionesimos_halfUpSimetrico() {
+        assertEquals(1L, FolhaCalculoCentavos.arredondarMilionesimos(5_000L));
+        assertEquals(0L, FolhaCalculoCentavos.arredondarMilionesimos(4_999L));
+        assertEquals(-1L, FolhaCalculoCentavos.arredondarMilionesimos(-5_000L));
+        assertEquals(0L, FolhaCalculoCentavos.arredondarMilionesimos(-4_999L));
+        assertEquals(12L, FolhaCalculoCentavos.arredondarMilionesimos(120_000L));
+    }
+
+    private List<FolhaMotorCalculo.LinhaCalculoInput> linhasAleatorias(SplittableRandom random) {
+        int quantidade = random.nextInt(0, 40);
+        List<FolhaMotorCalculo.LinhaCalculoInput> linhas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            linhas.add(linhaAleatoria(random));
+        }
+        return linhas;
+    }
+
+    private FolhaMotorCalculo.LinhaCalculoInput linhaAleatoria(SplittableRandom random) {
+        return new FolhaMotorCalculo.LinhaCalculoInput(
+            valorAleatorio(random),
+            operadorAleatorio(random),
+            operadorAleatorio(random),
+            operadorAleatorio(random),
+            porcentagemAleatoria(random));
+    }
+
+    private BigDecimal valorAleatorio(SplittableRandom random) {
+        int sorteio = random.nextInt(100);
+        if (sorteio < 2) {
+            return null;
+        }
+        if (sorteio < 5) {
+            // fora do caminho inteiro: mais de 2 casas
+            return BigDecimal.valueOf(random.nextLong(-10_000_000L, 10_000_000L), 3 + random.nextInt(3));
+        }
+        if (sorteio < 7) {
+            // próximo do limite de long em centavos
+            return BigDecimal.valueOf(random.nextLong(Long.MAX_VALUE / 4, Long.MAX_VALUE), 2);
+        }
+        long magnitude = sorteio < 60 ? 1_000_000L : 100_000_000_000L;
+        return BigDecimal.valueOf(random.nextLong(-magnitude, magnitude), random.nextInt(3));
+    }
+
+    private BigDecimal porcentagemAleatoria(SplittableRandom random) {
+        int sorteio = random.nextInt(10);
+        if (sorteio < 3) {
+            return null;
+        }
+        if (sorteio < 5) {
+            // mesmo caminho do snapshot: Double da rubrica convertido com BigDecimal.valueOf
+            return BigDecimal.valueOf(random.nextInt(0, 50_000) / 100.0);
+        }
+        if (sorteio < 6) {
+            return BigDecimal.valueOf(random.nextLong(0, 1_000_000L), 4);
+        }
+        return BigDecimal.valueOf(random.nextLong(0, 50_000L), random.nextInt(3));
+    }
+
+    private short operadorAleatorio(SplittableRandom random) {
+        return random.nextInt(20) == 0
+            ? (short) random.nextInt(Short.MIN_VALUE, Short.MAX_VALUE + 1)
+            : OPERADORES_PADRAO[random.nextInt(OPERADORES_PADRAO.length)];
+    }
+
+    private FolhaMotorCalculo.LinhaCalculoInput linha(String valor, short operador, BigDecimal porcentagem) {
+        return new FolhaMotorCalculo.LinhaCalculoInput(
+            new BigDecimal(valor), operador, operador, operador, porcentagem);
+    }
+}
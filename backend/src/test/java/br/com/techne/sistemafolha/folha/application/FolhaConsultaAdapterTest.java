@@ -1,23 +1,34 @@
 package br.com.techne.sistemafolha.folha.application;
 
+import br.com.techne.sistemafolha.beneficios.port.BeneficioConsultaPort;
+import br.com.techne.sistemafolha.beneficios.port.BeneficioFuncionarioCompetenciaSnapshot;
 import br.com.techne.sistemafolha.cadastros.domain.Cargo;
 import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.cadastros.domain.LinhaNegocio;
 import br.com.techne.sistemafolha.cadastros.domain.Rubrica;
 import br.com.techne.sistemafolha.cadastros.domain.TipoRubrica;
+import br.com.techne.sistemafolha.folha.domain.DimensaoAgregado;
 import br.com.techne.sistemafolha.folha.domain.FichaLinha;
 import br.com.techne.sistemafolha.folha.domain.FichaMensal;
+import br.com.techne.sistemafolha.folha.domain.FolhaAgregado;
 import br.com.techne.sistemafolha.folha.domain.FolhaPagamento;
 import br.com.techne.sistemafolha.folha.domain.OrigemLinha;
 import br.com.techne.sistemafolha.folha.domain.ResumoFolhaPagamento;
 import br.com.techne.sistemafolha.folha.infrastructure.FichaLinhaRepository;
 import br.com.techne.sistemafolha.folha.infrastructure.FichaMensalRepository;
+import br.com.techne.sistemafolha.folha.infrastructure.FichaTotaisFuncionarioProjection;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaAgregadoRepository;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaEvolucaoMensalRepository;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaEvolucaoMensalTotaisProjection;
 import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoRepository;
 import br.com.techne.sistemafolha.folha.infrastructure.ResumoFolhaPagamentoRepository;
+import br.com.techne.sistemafolha.folha.port.FolhaAgregadoSnapshot;
+import br.com.techne.sistemafolha.folha.port.FolhaEvolucaoMaterializadaSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaEvolucaoSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaResumoSnapshot;
+import br.com.techne.sistemafolha.folha.port.FolhaTotaisCompetenciaSnapshot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -27,6 +38,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -35,8 +47,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,9 +71,35 @@ class FolhaConsultaAdapterTest {
     @Mock
     private FichaLinhaRepository fichaLinhaRepository;
 
+    @Mock
+    private FolhaAgregadoRepository folhaAgregadoRepository;
+
+    @Mock
+    private FolhaEvolucaoMensalRepository folhaEvolucaoMensalRepository;
+
+    @Mock
+    private BeneficioConsultaPort beneficioConsultaPort;
+
     @InjectMocks
     private FolhaConsultaAdapter adapter;
 
+    @Test
+    void findAgregadosPorCompetencia_centrosInformados_descartaOutrosCentrosESemCentro() {
+        when(folhaAgregadoRepository.findByCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(List.of(agregado(10L), agregado(20L), agregado(null)));
+
+        List<FolhaAgregadoSnapshot> recortados = adapter.findAgregadosPorCompetencia(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false, Set.of(10L));
+        List<FolhaAgregadoSnapshot> todos = adapter.findAgregadosPorCompetencia(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false, null);
+
+        assertEquals(1, recortados.size());
+        assertEquals(10L, recortados.get(0).centroCustoId());
+        assertEquals(DimensaoAgregado.CENTRO_CUSTO, recortados.get(0).dimensao());
+        assertEquals(new BigDecimal("100.00"), recortados.get(0).custoFolha());
+        assertEquals(3, todos.size());
+    }
+
     @Test
     void findResumoMaisRecente_comResumo_retornaSnapshot() {
         ResumoFolhaPagamento resumo = resumo(COMPETENCIA_INICIO, COMPETENCIA_FIM, new BigDecimal("50000.00"), 10, false);
@@ -269,6 +309,123 @@ class FolhaConsultaAdapterTest {
         assertEquals(false, result.get(0).decimoTerceiro());
     }
 
+    @Test
+    void findEvolucaoMaterializada_centrosInformados_somaNosCentrosEComporCustoEmpresa() {
+        LocalDate dataInicio = LocalDate.of(2024, 1, 1);
+        FolhaEvolucaoMensalTotaisProjection totais = mock(FolhaEvolucaoMensalTotaisProjection.class);
+        when(totais.getCompetenciaInicio()).thenReturn(COMPETENCIA_INICIO);
+        when(totais.getCompetenciaFim()).thenReturn(COMPETENCIA_FIM);
+        when(totais.getDecimoTerceiro()).thenReturn(false);
+        when(totais.getTotalBruto()).thenReturn(new BigDecimal("8000"));
+        when(totais.getTotalLiquido()).thenReturn(new BigDecimal("7000"));
+        when(totais.getCustoFolha()).thenReturn(new BigDecimal("8800"));
+        when(totais.getTotalEncargos()).thenReturn(new BigDecimal("800"));
+        when(totais.getQuantidadeFuncionarios()).thenReturn(3L);
+        when(folhaEvolucaoMensalRepository.somarPorCompetenciaNosCentros(dataInicio, Set.of(10L)))
+            .thenReturn(List.of(totais));
+        when(fichaMensalRepository.findFuncionariosPorCompetenciaDesdeNosCentros(dataInicio, Set.of(10L)))
+            .thenReturn(List.of(
+                new Object[] {COMPETENCIA_INICIO, COMPETENCIA_FIM, false, 1L},
+                new Object[] {COMPETENCIA_INICIO, COMPETENCIA_FIM, false, 2L}));
+        when(beneficioConsultaPort.somarValorPorFuncionariosDesdeCompetencia(Set.of(1L, 2L), dataInicio))
+            .thenReturn(List.of(
+                new BeneficioFuncionarioCompetenciaSnapshot(
+                    1L, COMPETENCIA_INICIO, COMPETENCIA_FIM, new BigDecimal("200.00")),
+                new BeneficioFuncionarioCompetenciaSnapshot(
+                    2L, COMPETENCIA_INICIO, COMPETENCIA_FIM, new BigDecimal("100.50")),
+                new BeneficioFuncionarioCompetenciaSnapshot(
+                    2L, COMPETENCIA_INICIO.plusMonths(1), COMPETENCIA_FIM.plusMonths(1), new BigDecimal("999.00"))));
+
+        List<FolhaEvolucaoMaterializadaSnapshot> result = adapter.findEvolucaoMaterializada(dataInicio, Set.of(10L));
+
+        assertEquals(1, result.size());
+        assertEquals(new BigDecimal("8000.00"), result.get(0).totalBruto());
+        assertEquals(new BigDecimal("9100.50"), result.get(0).custoEmpresa());
+        assertEquals(3L, result.get(0).quantidadeFuncionarios());
+        verify(folhaEvolucaoMensalRepository, never()).somarPorCompetencia(any());
+    }
+
+    @Test
+    void findEvolucaoMaterializada_funcionarioSemBeneficio_custoEmpresaIgualCustoFolha() {
+        LocalDate dataInicio = LocalDate.of(2024, 1, 1);
+        FolhaEvolucaoMensalTotaisProjection totais = mock(FolhaEvolucaoMensalTotaisProjection.class);
+        when(totais.getCompetenciaInicio()).thenReturn(COMPETENCIA_INICIO);
+        when(totais.getCompetenciaFim()).thenReturn(COMPETENCIA_FIM);
+        when(totais.getDecimoTerceiro()).thenReturn(true);
+        when(totais.getCustoFolha()).thenReturn(new BigDecimal("500"));
+        when(folhaEvolucaoMensalRepository.somarPorCompetencia(dataInicio)).thenReturn(List.of(totais));
+        when(fichaMensalRepository.findFuncionariosPorCompetenciaDesde(dataInicio))
+            .thenReturn(List.<Object[]>of(new Object[] {COMPETENCIA_INICIO, COMPETENCIA_FIM, true, 1L}));
+        when(beneficioConsultaPort.somarValorPorFuncionariosDesdeCompetencia(Set.of(1L), dataInicio))
+            .thenReturn(List.of());
+
+        List<FolhaEvolucaoMaterializadaSnapshot> result = adapter.findEvolucaoMaterializada(dataInicio, null);
+
+        assertEquals(new BigDecimal("500.00"), result.get(0).custoEmpresa());
+        assertTrue(result.get(0).decimoTerceiro());
+    }
+
+    @Test
+    void findEvolucaoMaterializada_semCentros_somaTodosOsCentros() {
+        LocalDate dataInicio = LocalDate.of(2024, 1, 1);
+        when(folhaEvolucaoMensalRepository.somarPorCompetencia(dataInicio)).thenReturn(List.of());
+
+        assertTrue(adapter.findEvolucaoMaterializada(dataInicio, Set.of()).isEmpty());
+        verify(folhaEvolucaoMensalRepository, never()).somarPorCompetenciaNosCentros(any(), any());
+        verifyNoInteractions(beneficioConsultaPort);
+    }
+
+    @Test
+    void somarTotaisFichaPorCompetencia_arredondaPorFuncionarioEMantemCompetenciaSemLinhasNoEscopo() {
+        LocalDate novembro = LocalDate.of(2024, 11, 1);
+        when(fichaMensalRepository.findCompetenciasComFicha(COMPETENCIA_INICIO, novembro))
+            .thenReturn(List.of(
+                new Object[] {COMPETENCIA_INICIO, COMPETENCIA_FIM, false},
+                new Object[] {novembro, LocalDate.of(2024, 11, 30), false}));
+        List<FichaTotaisFuncionarioProjection> porFuncionario = List.of(
+            totaisFuncionario(1L, "1000.00", "900.00", "1100.004", "1000.00", "100.00"),
+            totaisFuncionario(2L, "500.00", "450.00", "550.005", "500.00", "50.00"));
+        when(fichaLinhaRepository.somarPorCompetenciaEFuncionarioNosCentros(COMPETENCIA_INICIO, novembro, Set.of(10L)))
+            .thenReturn(porFuncionario);
+
+        List<FolhaTotaisCompetenciaSnapshot> result =
+            adapter.somarTotaisFichaPorCompetencia(COMPETENCIA_INICIO, novembro, Set.of(10L));
+
+        assertEquals(2, result.size());
+        FolhaTotaisCompetenciaSnapshot outubro = result.get(0);
+        assertEquals(Set.of(1L, 2L), outubro.funcionarioIds());
+        assertEquals(new BigDecimal("1500.00"), outubro.totalBruto());
+        assertEquals(new BigDecimal("1350.00"), outubro.totalLiquido());
+        assertEquals(new BigDecimal("1650.01"), outubro.totalCustoFolha());
+        assertEquals(new BigDecimal("150.00"), outubro.totalDescontos());
+        assertTrue(result.get(1).funcionarioIds().isEmpty());
+        assertEquals(new BigDecimal("0.00"), result.get(1).totalBruto());
+    }
+
+    @Test
+    void somarTotaisFichaPorCompetencia_semFichaNoPeriodo_naoSomaLinhas() {
+        when(fichaMensalRepository.findCompetenciasComFicha(COMPETENCIA_INICIO, COMPETENCIA_INICIO))
+            .thenReturn(List.of());
+
+        assertTrue(adapter.somarTotaisFichaPorCompetencia(COMPETENCIA_INICIO, COMPETENCIA_INICIO, null).isEmpty());
+        verifyNoInteractions(fichaLinhaRepository);
+    }
+
+    private FichaTotaisFuncionarioProjection totaisFuncionario(
+            Long funcionarioId, String bruto, String liquido, String custo, String pagamentos, String descontos) {
+        FichaTotaisFuncionarioProjection totais = mock(FichaTotaisFuncionarioProjection.class);
+        when(totais.getCompetenciaInicio()).thenReturn(COMPETENCIA_INICIO);
+        when(totais.getCompetenciaFim()).thenReturn(COMPETENCIA_FIM);
+        when(totais.getDecimoTerceiro()).thenReturn(false);
+        when(totais.getFuncionarioId()).thenReturn(funcionarioId);
+        when(totais.getBruto()).thenReturn(new BigDecimal(bruto));
+        when(totais.getLiquido()).thenReturn(new BigDecimal(liquido));
+        when(totais.getCustoFolha()).thenReturn(new BigDecimal(custo));
+        when(totais.getPagamentos()).thenReturn(new BigDecimal(pagamentos));
+        when(totais.getDescontos()).thenReturn(new BigDecimal(descontos));
+        return totais;
+    }
+
     @Test
     void findLinhasAtivasPorCompetencia_centrosNull_retornaTodasViaFicha() {
         when(fichaMensalRepository.existsByCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
@@ -400,21 +557,39 @@ class FolhaConsultaAdapterTest {
     }
 
     @Test
-    void existsAtivaByCpf_delegaParaRepository() {
-        when(folhaPagamentoRepository.existsAtivaByCpfAndCompetenciaExcludingFuncionario(
-            "123", 1L, COMPETENCIA_INICIO, COMPETENCIA_FIM, false)).thenReturn(true);
+    void findFuncionariosComFolhaAtivaPorCpf_agrupaFuncionariosPorCpf() {
+        when(folhaPagamentoRepository.findCpfEFuncionarioAtivosByCpfsAndCompetencia(
+            Set.of("123", "456"), COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(List.of(new Object[] {"123", 1L}, new Object[] {"123", 2L}, new Object[] {"456", 3L}));
+
+        Map<String, Set<Long>> resultado = adapter.findFuncionariosComFolhaAtivaPorCpf(
+            Set.of("123", "456"), COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
+
+        assertEquals(Map.of("123", Set.of(1L, 2L), "456", Set.of(3L)), resultado);
+    }
 
-        assertTrue(adapter.existsAtivaByCpfAndCompetenciaExcludingFuncionario(
-            "123", 1L, COMPETENCIA_INICIO, COMPETENCIA_FIM, false));
+    @Test
+    void findFuncionariosComFolhaAtivaPorCpf_semCpfs_naoConsulta() {
+        assertTrue(adapter.findFuncionariosComFolhaAtivaPorCpf(
+            Set.of(), COMPETENCIA_INICIO, COMPETENCIA_FIM, false).isEmpty());
+        verifyNoInteractions(folhaPagamentoRepository);
     }
 
     @Test
-    void existsByFuncionarioIdAndRubricaId_delegaParaRepository() {
-        when(folhaPagamentoRepository.existsByFuncionarioIdAndRubricaIdAndPeriodoAndDecimoTerceiro(
-            1L, 2L, COMPETENCIA_INICIO, COMPETENCIA_FIM, false)).thenReturn(false);
+    void findRubricasAtivasPorFuncionario_agrupaRubricasPorFuncionario() {
+        when(folhaPagamentoRepository.findFuncionarioERubricaAtivosByFuncionariosAndCompetencia(
+            Set.of(1L), COMPETENCIA_INICIO, COMPETENCIA_FIM, true))
+            .thenReturn(List.of(new Object[] {1L, 2L}, new Object[] {1L, 5L}));
+
+        assertEquals(Map.of(1L, Set.of(2L, 5L)), adapter.findRubricasAtivasPorFuncionario(
+            Set.of(1L), COMPETENCIA_INICIO, COMPETENCIA_FIM, true));
+    }
 
-        assertEquals(false, adapter.existsByFuncionarioIdAndRubricaIdAndPeriodo(
-            1L, 2L, COMPETENCIA_INICIO, COMPETENCIA_FIM, false));
+    @Test
+    void findRubricasAtivasPorFuncionario_semFuncionarios_naoConsulta() {
+        assertTrue(adapter.findRubricasAtivasPorFuncionario(
+            null, COMPETENCIA_INICIO, COMPETENCIA_FIM, false).isEmpty());
+        verifyNoInteractions(folhaPagamentoRepository);
     }
 
     @Test
@@ -867,4 +1042,16 @@ class FolhaConsultaAdapterTest {
         linha.setAtivo(true);
         return linha;
     }
+
+    private FolhaAgregado agregado(Long centroCustoId) {
+        FolhaAgregado agregado = new FolhaAgregado();
+        agregado.setCentroCustoId(centroCustoId);
+        agregado.setDimensao(DimensaoAgregado.CENTRO_CUSTO);
+        agregado.setChaveId(centroCustoId);
+        agregado.setQuantidadeFuncionarios(1L);
+        agregado.setQuantidadeLancamentos(1L);
+        agregado.setValorTotal(new BigDecimal("100.00"));
+        agregado.setCustoFolha(new BigDecimal("100.00"));
+        return agregado;
+    }
 }
@@ -0,0 +1,182 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import br.com.techne.sistemafolha.auth.domain.Usuario;
+import br.com.techne.sistemafolha.auth.port.UsuarioLookupPort;
+import br.com.techne.sistemafolha.folha.api.FolhaExportacaoFormato;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaExportacaoJdbcReader;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaExportacaoLinha;
+import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
+import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FolhaExportacaoServiceTest {
+
+    private static final String LOGIN = "gestor";
+    private static final LocalDate INICIO = LocalDate.of(2026, 1, 1);
+    private static final LocalDate FIM = LocalDate.of(2026, 1, 31);
+
+    @Mock
+    private FolhaExportacaoJdbcReader folhaExportacaoJdbcReader;
+    @Mock
+    private UsuarioLookupPort usuarioLookupPort;
+    @Mock
+    private OrganogramaAcessoPort organogramaAcessoPort;
+
+    @InjectMocks
+    private FolhaExportacaoService service;
+
+    @Test
+    void exportar_csv_escreveBomCabecalhoELinhas() throws IOException {
+        stubContexto(new AccessContextDTO(true, true, true, Collections.emptySet(), null, null, null, null));
+        stubLinhas(linha("Silva; João", new BigDecimal("1234.50")));
+
+        String csv = escrever(service.exportar(LOGIN, INICIO, FIM, null, FolhaExportacaoFormato.CSV));
+
+        String[] linhas = csv.split("\r\n");
+        assertTrue(linhas[0].startsWith("\uFEFFCompetência início;"));
+        assertEquals(2, linhas.length);
+        assertEquals("2026-01-01;2026-01-31;Não;7;MAT7;\"Silva; João\";Analista;10;TI;Software;001;Salário;"
+            + "PROVENTO;1234.50", linhas[1]);
+    }
+
+    @Test
+    void exportar_xlsx_geraPlanilhaComCabecalhoELinhas() throws IOException {
+        stubContexto(new AccessContextDTO(true, true, true, Collections.emptySet(), null, null, null, null));
+        stubLinhas(linha("Maria", new BigDecimal("100.25")), linha("José", BigDecimal.TEN));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        service.exportar(LOGIN, INICIO, FIM, false, FolhaExportacaoFormato.XLSX).escrever(saida);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(saida.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Folha");
+            assertEquals(2, sheet.getLastRowNum());
+            assertEquals("Funcionário", sheet.getRow(0).getCell(5).getStringCellValue());
+            assertEquals("Maria", sheet.getRow(1).getCell(5).getStringCellValue());
+            assertEquals(100.25, sheet.getRow(1).getCell(13).getNumericCellValue());
+            assertEquals(7.0, sheet.getRow(2).getCell(3).getNumericCellValue());
+        }
+    }
+
+    @Test
+    void exportar_escopoRestrito_passaCentrosDoUsuario() throws IOException {
+        stubContexto(new AccessContextDTO(true, true, false, Set.of(10L), null, 2L, "TI", 1));
+        stubLinhas();
+
+        String csv = escrever(service.exportar(LOGIN, INICIO, FIM, true, FolhaExportacaoFormato.CSV));
+
+        assertEquals(1, csv.split("\r\n").length);
+        verify(folhaExportacaoJdbcReader).percorrer(eq(INICIO), eq(FIM), eq(true), eq(Set.of(10L)), any());
+    }
+
+    @Test
+    void exportar_semVinculoNoOrganograma_exportaSoCabecalho() throws IOException {
+        stubContexto(new AccessContextDTO(true, false, false, Set.of(10L), null, 2L, "TI", 1));
+        stubLinhas();
+
+        escrever(service.exportar(LOGIN, INICIO, FIM, null, FolhaExportacaoFormato.CSV));
+
+        verify(folhaExportacaoJdbcReader).percorrer(eq(INICIO), eq(FIM), eq(false), eq(Set.of()), any());
+    }
+
+    @Test
+    void exportar_resolveEscopoAntesDeEscrever() {
+        stubContexto(new AccessContextDTO(true, true, true, Collections.emptySet(), null, null, null, null));
+
+        service.exportar(LOGIN, INICIO, FIM, null, FolhaExportacaoFormato.CSV);
+
+        verify(organogramaAcessoPort).obterContextoAcesso(5L);
+        verifyNoInteractions(folhaExportacaoJdbcReader);
+    }
+
+    @Test
+    void exportar_usuarioInexistente_lancaAntesDoStreaming() {
+        when(usuarioLookupPort.findByLoginAndAtivoTrue(LOGIN)).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class,
+            () -> service.exportar(LOGIN, INICIO, FIM, null, FolhaExportacaoFormato.CSV));
+        verify(organogramaAcessoPort, never()).obterContextoAcesso(any());
+    }
+
+    @Test
+    void celulaCsv_aspasEQuebraDeLinha_escapa() {
+        assertEquals("\"diz \"\"oi\"\"\"", FolhaExportacaoService.celulaCsv("diz \"oi\""));
+        assertEquals("\"a\nb\"", FolhaExportacaoService.celulaCsv("a\nb"));
+        assertEquals("", FolhaExportacaoService.celulaCsv(null));
+        assertEquals("0.00001", FolhaExportacaoService.celulaCsv(new BigDecimal("1E-5")));
+    }
+
+    @Test
+    void celulaCsv_textoIniciandoComoFormula_prefixaApostrofo() {
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\"", FolhaExportacaoService.celulaCsv("=HYPERLINK(\"x\")"));
+        assertEquals("'+55 11 9999", FolhaExportacaoService.celulaCsv("+55 11 9999"));
+        assertEquals("'-2+3", FolhaExportacaoService.celulaCsv("-2+3"));
+        assertEquals("'@SUM(A1)", FolhaExportacaoService.celulaCsv("@SUM(A1)"));
+        assertEquals("a=b", FolhaExportacaoService.celulaCsv("a=b"));
+    }
+
+    @Test
+    void celulaCsv_numeroNegativo_naoPrefixa() {
+        assertEquals("-1500.50", FolhaExportacaoService.celulaCsv(new BigDecimal("-1500.50")));
+        assertEquals("-7", FolhaExportacaoService.celulaCsv(-7L));
+    }
+
+    private void stubContexto(AccessContextDTO contexto) {
+        Usuario usuario = new Usuario();
+        usuario.setId(5L);
+        usuario.setLogin(LOGIN);
+        when(usuarioLookupPort.findByLoginAndAtivoTrue(LOGIN)).thenReturn(Optional.of(usuario));
+        when(organogramaAcessoPort.obterContextoAcesso(5L)).thenReturn(contexto);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubLinhas(FolhaExportacaoLinha... linhas) {
+        doAnswer(invocation -> {
+            Consumer<FolhaExportacaoLinha> destino = invocation.getArgument(4);
+            for (FolhaExportacaoLinha linha : linhas) {
+                destino.accept(linha);
+            }
+            return null;
+        }).when(folhaExportacaoJdbcReader).percorrer(any(), any(), any(Boolean.class), any(), any(Consumer.class));
+    }
+
+    private static String escrever(FolhaExportacaoService.Exportacao exportacao) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportacao.escrever(saida);
+        return saida.toString(StandardCharsets.UTF_8);
+    }
+
+    private static FolhaExportacaoLinha linha(String nome, BigDecimal valor) {
+        return new FolhaExportacaoLinha(
+            INICIO, FIM, false, 7L, "MAT7", nome, "Analista", 10L, "TI", "Software",
+            "001", "Salário", "PROVENTO", valor);
+    }
+}
@@ -3,6 +3,7 @@ package br.com.techne.sistemafolha.folha.application;
 import br.com.techne.sistemafolha.auth.domain.Usuario;
 import br.com.techne.sistemafolha.auth.port.UsuarioLookupPort;
 import br.com.techne.sistemafolha.beneficios.port.BeneficioConsultaPort;
+import br.com.techne.sistemafolha.beneficios.port.BeneficioFuncionarioTotaisSnapshot;
 import br.com.techne.sistemafolha.beneficios.port.BeneficioLinhaSnapshot;
 import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
@@ -24,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -37,6 +39,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -69,6 +72,9 @@ class FolhaFichaConsultaServiceTest {
     @Mock
     private UsuarioLookupPort usuarioLookupPort;
 
+    @Spy
+    private FolhaCalculoKernel folhaCalculoKernel = new FolhaCalculoCentavos();
+
     @InjectMocks
     private FolhaFichaConsultaService folhaFichaConsultaService;
 
@@ -133,6 +139,7 @@ class FolhaFichaConsultaServiceTest {
         assertEquals(new BigDecimal("7258.43"), result.get(0).valor());
         assertEquals(new BigDecimal("10062.36"), result.get(0).contribuicao());
         assertEquals(new BigDecimal("138.63"), result.get(0).porcentagem());
+        verify(folhaCalculoKernel).contribuicao(any(), eq(FolhaMotorCalculo.Totalizador.COMPANY_COST));
     }
 
     @Test
@@ -249,12 +256,10 @@ class FolhaFichaConsultaServiceTest {
         when(beneficioConsultaPort.findLinhasPorFuncionarioECompetencia(
             FUNCIONARIO_ID, COMPETENCIA_INICIO, COMPETENCIA_FIM))
             .thenReturn(List.of(new BeneficioLinhaSnapshot(1L, "VR", "Vale Refeição", new BigDecimal("600.00"))));
-        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(
             Set.of(FUNCIONARIO_ID), COMPETENCIA_INICIO, COMPETENCIA_FIM))
-            .thenReturn(Map.of(FUNCIONARIO_ID, new BigDecimal("600.00")));
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-            FUNCIONARIO_ID, COMPETENCIA_INICIO, COMPETENCIA_FIM))
-            .thenReturn(1);
+            .thenReturn(Map.of(FUNCIONARIO_ID,
+                new BeneficioFuncionarioTotaisSnapshot(FUNCIONARIO_ID, 1L, new BigDecimal("600.00"))));
 
         List<FichaLinhaDetalheDTO> linhasCusto = folhaFichaConsultaService.listarLinhasPorTotalizador(
             LOGIN, FICHA_ID, Totalizador.COMPANY_COST);
@@ -263,7 +268,7 @@ class FolhaFichaConsultaServiceTest {
             .map(FichaLinhaDetalheDTO::contribuicao)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        FolhaTotalizacaoService totalizacaoService = new FolhaTotalizacaoService(beneficioConsultaPort);
+        FolhaTotalizacaoService totalizacaoService = new FolhaTotalizacaoService(beneficioConsultaPort, new FolhaCalculoCentavos(), fichaMensalRepository);
         FolhaTotaisFuncionarioDTO card = totalizacaoService.calcularTotaisPorFuncionario(
             List.of(
                 linhaSnapshot("0010", "7258.43", new BigDecimal("138.63"), OrigemLinha.FOLHA_ADP),
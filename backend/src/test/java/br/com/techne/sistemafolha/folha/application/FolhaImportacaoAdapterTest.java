@@ -8,6 +8,7 @@ import br.com.techne.sistemafolha.cadastros.domain.Rubrica;
 import br.com.techne.sistemafolha.cadastros.domain.TipoRubrica;
 import br.com.techne.sistemafolha.folha.api.FolhaPagamentoDTO;
 import br.com.techne.sistemafolha.folha.domain.FolhaPagamento;
+import br.com.techne.sistemafolha.folha.domain.OrigemPendencia;
 import br.com.techne.sistemafolha.folha.domain.ResumoFolhaPagamento;
 import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoRepository;
 import br.com.techne.sistemafolha.folha.infrastructure.ResumoFolhaPagamentoRepository;
@@ -26,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -55,6 +57,9 @@ class FolhaImportacaoAdapterTest {
     @Mock
     private EntityManager entityManager;
 
+    @Mock
+    private FolhaPendenciaService folhaPendenciaService;
+
     @InjectMocks
     private FolhaImportacaoAdapter adapter;
 
@@ -115,14 +120,19 @@ class FolhaImportacaoAdapterTest {
         assertEquals(99L, result.get(0).id());
         verify(folhaPagamentoRepository, never()).deleteAll(anyList());
         verify(resumoFolhaPagamentoRepository).save(any(ResumoFolhaPagamento.class));
+        verify(folhaPendenciaService).registrar(
+            Set.of(1L), COMPETENCIA_INICIO, COMPETENCIA_FIM, false, OrigemPendencia.IMPORTACAO);
     }
 
     @Test
     void persistirImportacao_comSubstituir_removeAntesDeInserir() {
         ResumoFolhaPagamento resumoAntigo = new ResumoFolhaPagamento();
         resumoAntigo.setId(50L);
+        Funcionario funcionarioAntigo = new Funcionario();
+        funcionarioAntigo.setId(7L);
         FolhaPagamento folhaAntiga = new FolhaPagamento();
         folhaAntiga.setId(60L);
+        folhaAntiga.setFuncionario(funcionarioAntigo);
 
         when(resumoFolhaPagamentoRepository
             .findByCompetenciaInicioAndCompetenciaFimAndDecimoTerceiroAndAtivoTrue(
@@ -146,6 +156,8 @@ class FolhaImportacaoAdapterTest {
         assertNotNull(result);
         verify(folhaPagamentoRepository).deleteAll(List.of(folhaAntiga));
         verify(resumoFolhaPagamentoRepository).delete(resumoAntigo);
+        verify(folhaPendenciaService).registrar(
+            Set.of(1L, 7L), COMPETENCIA_INICIO, COMPETENCIA_FIM, false, OrigemPendencia.IMPORTACAO);
     }
 
     @Test
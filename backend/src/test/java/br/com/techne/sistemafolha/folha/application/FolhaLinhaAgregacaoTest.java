@@ -12,7 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class FolhaLinhaAgregacaoTest {
 
-    private final FolhaLinhaAgregacao agregacao = new FolhaLinhaAgregacao();
+    private final FolhaLinhaAgregacao agregacao = new FolhaLinhaAgregacao(new FolhaCalculoCentavos());
 
     @Test
     void agregar_listaVazia_retornaTodosZeros() {
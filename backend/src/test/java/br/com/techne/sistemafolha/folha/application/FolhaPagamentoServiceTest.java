@@ -6,6 +6,7 @@ import br.com.techne.sistemafolha.cadastros.domain.Cargo;
 import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
 import br.com.techne.sistemafolha.cadastros.domain.CentroCustoNotFoundException;
 import br.com.techne.sistemafolha.folha.domain.FolhaPagamento;
+import br.com.techne.sistemafolha.folha.domain.OrigemPendencia;
 import br.com.techne.sistemafolha.folha.domain.ResumoFolhaPagamento;
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.cadastros.domain.LinhaNegocio;
@@ -18,15 +19,20 @@ import br.com.techne.sistemafolha.organograma.acesso.port.MotivoNegacaoAcesso;
 import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
 import br.com.techne.sistemafolha.auth.port.UsuarioLookupPort;
 import br.com.techne.sistemafolha.cadastros.port.CadastrosLookupPort;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoLinhaProjection;
 import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoRepository;
 import br.com.techne.sistemafolha.folha.infrastructure.ResumoFolhaPagamentoRepository;
 import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
 import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
+import br.com.techne.sistemafolha.shared.paginacao.CursorPaginacao;
+import br.com.techne.sistemafolha.shared.paginacao.PaginaDTO;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -37,6 +43,7 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +51,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -75,6 +83,9 @@ class FolhaPagamentoServiceTest {
     @Mock
     private ResumoFolhaPagamentoRepository resumoFolhaPagamentoRepository;
 
+    @Mock
+    private FolhaPendenciaService folhaPendenciaService;
+
     @InjectMocks
     private FolhaPagamentoService folhaPagamentoService;
 
@@ -138,9 +149,9 @@ class FolhaPagamentoServiceTest {
         when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID)).thenReturn(contextoAcessoTotal());
 
         FolhaPagamento folha = folhaAtiva(10L, 99L);
-        when(folhaPagamentoRepository.findByFuncionarioIdAndDataInicioBetweenAndAtivoTrue(
-                99L, DATA_INICIO, DATA_FIM))
-            .thenReturn(List.of(folha));
+        when(folhaPagamentoRepository.consultarLinhasPorFuncionario(
+                99L, DATA_INICIO, DATA_FIM, null, null, null, Pageable.unpaged()))
+            .thenReturn(List.of(linha(folha)));
 
         List<FolhaPagamentoDTO> result = folhaPagamentoService.consultarPorFuncionario(
             LOGIN, 99L, DATA_INICIO, DATA_FIM, null);
@@ -156,9 +167,9 @@ class FolhaPagamentoServiceTest {
 
         FolhaPagamento folhaRegular = folhaAtiva(10L, 99L);
         folhaRegular.setDecimoTerceiro(false);
-        when(folhaPagamentoRepository.findByFuncionarioIdAndCompetenciaAndDecimoTerceiroAndAtivoTrue(
-                99L, DATA_INICIO, DATA_FIM, false))
-            .thenReturn(List.of(folhaRegular));
+        when(folhaPagamentoRepository.consultarLinhasPorFuncionario(
+                99L, DATA_INICIO, DATA_FIM, false, null, null, Pageable.unpaged()))
+            .thenReturn(List.of(linha(folhaRegular)));
 
         List<FolhaPagamentoDTO> result = folhaPagamentoService.consultarPorFuncionario(
             LOGIN, 99L, DATA_INICIO, DATA_FIM, false);
@@ -166,10 +177,8 @@ class FolhaPagamentoServiceTest {
         assertEquals(1, result.size());
         assertEquals(10L, result.get(0).id());
         assertFalse(result.get(0).decimoTerceiro());
-        verify(folhaPagamentoRepository).findByFuncionarioIdAndCompetenciaAndDecimoTerceiroAndAtivoTrue(
-            99L, DATA_INICIO, DATA_FIM, false);
-        verify(folhaPagamentoRepository, never())
-            .findByFuncionarioIdAndDataInicioBetweenAndAtivoTrue(any(), any(), any());
+        verify(folhaPagamentoRepository).consultarLinhasPorFuncionario(
+            99L, DATA_INICIO, DATA_FIM, false, null, null, Pageable.unpaged());
     }
 
     @Test
@@ -179,9 +188,9 @@ class FolhaPagamentoServiceTest {
 
         FolhaPagamento folhaDecimo = folhaAtiva(11L, 99L);
         folhaDecimo.setDecimoTerceiro(true);
-        when(folhaPagamentoRepository.findByFuncionarioIdAndCompetenciaAndDecimoTerceiroAndAtivoTrue(
-                99L, DATA_INICIO, DATA_FIM, true))
-            .thenReturn(List.of(folhaDecimo));
+        when(folhaPagamentoRepository.consultarLinhasPorFuncionario(
+                99L, DATA_INICIO, DATA_FIM, true, null, null, Pageable.unpaged()))
+            .thenReturn(List.of(linha(folhaDecimo)));
 
         List<FolhaPagamentoDTO> result = folhaPagamentoService.consultarPorFuncionario(
             LOGIN, 99L, DATA_INICIO, DATA_FIM, true);
@@ -192,39 +201,34 @@ class FolhaPagamentoServiceTest {
     }
 
     @Test
-    void consultarPorFuncionario_acesso_restrito_filtra_por_centro_custo() {
+    void consultarPorFuncionario_acesso_restrito_filtra_cc_efetivo_no_banco() {
         stubUsuario();
         when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
             .thenReturn(contextoRestrito(Set.of(10L)));
 
-        FolhaPagamento permitido = folhaAtiva(1L, 99L);
-        FolhaPagamento bloqueado = folhaAtiva(2L, 100L);
-        CentroCusto outroCentro = new CentroCusto();
-        outroCentro.setId(20L);
-        bloqueado.getFuncionario().setCentroCusto(outroCentro);
-        bloqueado.setCentroCusto(outroCentro);
-
-        when(folhaPagamentoRepository.findByFuncionarioIdAndDataInicioBetweenAndAtivoTrue(
-                99L, DATA_INICIO, DATA_FIM))
-            .thenReturn(List.of(permitido, bloqueado));
+        when(folhaPagamentoRepository.consultarLinhasPorFuncionarioNoEscopo(
+                99L, DATA_INICIO, DATA_FIM, null, null, null, Set.of(10L), Pageable.unpaged()))
+            .thenReturn(List.of(linha(folhaAtiva(1L, 99L))));
 
         List<FolhaPagamentoDTO> result = folhaPagamentoService.consultarPorFuncionario(
             LOGIN, 99L, DATA_INICIO, DATA_FIM, null);
 
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).id());
+        verify(folhaPagamentoRepository, never())
+            .consultarLinhasPorFuncionario(any(), any(), any(), any(), any(), any(), any());
     }
 
     @Test
-    void consultarPorFuncionario_ordenar_por_rubricaCodigo_crescente() {
+    void consultarPorFuncionario_mantem_ordem_do_banco() {
         stubUsuario();
         when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID)).thenReturn(contextoAcessoTotal());
 
-        FolhaPagamento folha200 = folhaComRubricaCodigo(1L, 99L, "200");
         FolhaPagamento folha100 = folhaComRubricaCodigo(2L, 99L, "100");
-        when(folhaPagamentoRepository.findByFuncionarioIdAndDataInicioBetweenAndAtivoTrue(
-                99L, DATA_INICIO, DATA_FIM))
-            .thenReturn(List.of(folha200, folha100));
+        FolhaPagamento folha200 = folhaComRubricaCodigo(1L, 99L, "200");
+        when(folhaPagamentoRepository.consultarLinhasPorFuncionario(
+                99L, DATA_INICIO, DATA_FIM, null, null, null, Pageable.unpaged()))
+            .thenReturn(List.of(linha(folha100), linha(folha200)));
 
         List<FolhaPagamentoDTO> result = folhaPagamentoService.consultarPorFuncionario(
             LOGIN, 99L, DATA_INICIO, DATA_FIM, null);
@@ -235,22 +239,73 @@ class FolhaPagamentoServiceTest {
     }
 
     @Test
-    void consultarPorFuncionario_mesmo_rubricaCodigo_ordenar_por_id_crescente() {
+    void consultarPaginaPorFuncionario_pagina_cheia_devolve_cursor_da_ultima_linha() {
         stubUsuario();
         when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID)).thenReturn(contextoAcessoTotal());
 
-        FolhaPagamento folhaId20 = folhaComRubricaCodigo(20L, 99L, "100");
-        FolhaPagamento folhaId10 = folhaComRubricaCodigo(10L, 99L, "100");
-        when(folhaPagamentoRepository.findByFuncionarioIdAndDataInicioBetweenAndAtivoTrue(
-                99L, DATA_INICIO, DATA_FIM))
-            .thenReturn(List.of(folhaId20, folhaId10));
+        when(folhaPagamentoRepository.consultarLinhasPorFuncionario(
+                99L, DATA_INICIO, DATA_FIM, null, null, null, PageRequest.of(0, 3)))
+            .thenReturn(List.of(
+                linha(folhaComRubricaCodigo(10L, 99L, "A100")),
+                linha(folhaComRubricaCodigo(20L, 99L, "A100")),
+                linha(folhaComRubricaCodigo(5L, 99L, "B200"))));
 
-        List<FolhaPagamentoDTO> result = folhaPagamentoService.consultarPorFuncionario(
-            LOGIN, 99L, DATA_INICIO, DATA_FIM, null);
+        PaginaDTO<FolhaPagamentoDTO> pagina = folhaPagamentoService.consultarPaginaPorFuncionario(
+            LOGIN, 99L, DATA_INICIO, DATA_FIM, null, null, 2);
 
-        assertEquals(2, result.size());
-        assertEquals(10L, result.get(0).id());
-        assertEquals(20L, result.get(1).id());
+        assertEquals(List.of(10L, 20L), pagina.itens().stream().map(FolhaPagamentoDTO::id).toList());
+        CursorPaginacao proximo = CursorPaginacao.decodificar(pagina.proximoCursor());
+        assertEquals("a100", proximo.chave());
+        assertEquals(20L, proximo.id());
+    }
+
+    @Test
+    void consultarPaginaPorFuncionario_com_cursor_continua_apos_a_posicao() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID)).thenReturn(contextoAcessoTotal());
+
+        String cursor = new CursorPaginacao("a100", 20L).codificar();
+        when(folhaPagamentoRepository.consultarLinhasPorFuncionario(
+                99L, DATA_INICIO, DATA_FIM, true, "a100", 20L, PageRequest.of(0, 51)))
+            .thenReturn(List.of(linha(folhaComRubricaCodigo(5L, 99L, "B200"))));
+
+        PaginaDTO<FolhaPagamentoDTO> pagina = folhaPagamentoService.consultarPaginaPorFuncionario(
+            LOGIN, 99L, DATA_INICIO, DATA_FIM, true, cursor, null);
+
+        assertEquals(1, pagina.itens().size());
+        assertNull(pagina.proximoCursor());
+    }
+
+    @Test
+    void consultarPaginaPorFuncionario_escopo_restrito_usa_consulta_no_escopo() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
+            .thenReturn(contextoRestrito(Set.of(10L)));
+        when(folhaPagamentoRepository.consultarLinhasPorFuncionarioNoEscopo(
+                99L, DATA_INICIO, DATA_FIM, null, null, null, Set.of(10L), PageRequest.of(0, 51)))
+            .thenReturn(List.of(linha(folhaAtiva(1L, 99L))));
+
+        PaginaDTO<FolhaPagamentoDTO> pagina = folhaPagamentoService.consultarPaginaPorFuncionario(
+            LOGIN, 99L, DATA_INICIO, DATA_FIM, null, null, null);
+
+        assertEquals(1, pagina.itens().size());
+        assertNull(pagina.proximoCursor());
+    }
+
+    @Test
+    void consultarPaginaPorFuncionario_limiteForaDaFaixa_lancaIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> folhaPagamentoService.consultarPaginaPorFuncionario(
+            LOGIN, 99L, DATA_INICIO, DATA_FIM, null, null, 201));
+        assertThrows(IllegalArgumentException.class, () -> folhaPagamentoService.consultarPaginaPorFuncionario(
+            LOGIN, 99L, DATA_INICIO, DATA_FIM, null, null, 0));
+        verifyNoInteractions(folhaPagamentoRepository);
+    }
+
+    @Test
+    void consultarPaginaPorFuncionario_cursorInvalido_lancaIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> folhaPagamentoService.consultarPaginaPorFuncionario(
+            LOGIN, 99L, DATA_INICIO, DATA_FIM, null, "%%%", null));
+        verifyNoInteractions(folhaPagamentoRepository);
     }
 
     @Test
@@ -364,7 +419,7 @@ class FolhaPagamentoServiceTest {
         assertTrue(result.isEmpty());
         verify(cadastrosLookupPort, never()).findCentroCustoById(any());
         verify(folhaPagamentoRepository, never())
-            .findByCentroCustoAndDataInicioBetweenAndAtivoTrue(any(), any(), any());
+            .consultarLinhasPorCentroCusto(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -383,17 +438,17 @@ class FolhaPagamentoServiceTest {
         ccFuncionarioAtual.setId(200L);
         folhaCcAntigo.getFuncionario().setCentroCusto(ccFuncionarioAtual);
 
-        when(folhaPagamentoRepository.findByCentroCustoAndDataInicioBetweenAndAtivoTrue(
-                ccConsulta, DATA_INICIO, DATA_FIM))
-            .thenReturn(List.of(folhaCcAntigo));
+        when(folhaPagamentoRepository.consultarLinhasPorCentroCusto(
+                100L, DATA_INICIO, DATA_FIM, null, Pageable.unpaged()))
+            .thenReturn(List.of(linha(folhaCcAntigo)));
 
         List<FolhaPagamentoDTO> result = folhaPagamentoService.consultarPorCentroCusto(
             LOGIN, 100L, DATA_INICIO, DATA_FIM);
 
         assertEquals(1, result.size());
         assertEquals(100L, result.get(0).centroCustoId());
-        verify(folhaPagamentoRepository).findByCentroCustoAndDataInicioBetweenAndAtivoTrue(
-            ccConsulta, DATA_INICIO, DATA_FIM);
+        verify(folhaPagamentoRepository).consultarLinhasPorCentroCusto(
+            100L, DATA_INICIO, DATA_FIM, null, Pageable.unpaged());
     }
 
     @Test
@@ -406,16 +461,48 @@ class FolhaPagamentoServiceTest {
         when(cadastrosLookupPort.findCentroCustoById(5L)).thenReturn(Optional.of(centroCusto));
 
         FolhaPagamento folha = folhaAtiva(10L, 99L);
-        when(folhaPagamentoRepository.findByCentroCustoAndDataInicioBetweenAndAtivoTrue(
-                centroCusto, DATA_INICIO, DATA_FIM))
-            .thenReturn(List.of(folha));
+        when(folhaPagamentoRepository.consultarLinhasPorCentroCusto(
+                5L, DATA_INICIO, DATA_FIM, null, Pageable.unpaged()))
+            .thenReturn(List.of(linha(folha)));
 
         List<FolhaPagamentoDTO> result = folhaPagamentoService.consultarPorCentroCusto(
             LOGIN, 5L, DATA_INICIO, DATA_FIM);
 
         assertEquals(1, result.size());
-        verify(folhaPagamentoRepository).findByCentroCustoAndDataInicioBetweenAndAtivoTrue(
-            centroCusto, DATA_INICIO, DATA_FIM);
+        assertEquals("João Silva", result.get(0).funcionarioNome());
+        assertEquals("Provento", result.get(0).rubricaTipo());
+        assertEquals("Analista", result.get(0).cargoDescricao());
+    }
+
+    @Test
+    void consultarPaginaPorCentroCusto_pagina_cheia_devolve_cursor_por_id() {
+        stubUsuario();
+        when(organogramaAcessoPort.usuarioPodeAcessarCentroCusto(USUARIO_ID, 5L)).thenReturn(true);
+        when(cadastrosLookupPort.findCentroCustoById(5L)).thenReturn(Optional.of(new CentroCusto()));
+
+        String cursor = new CursorPaginacao(null, 7L).codificar();
+        when(folhaPagamentoRepository.consultarLinhasPorCentroCusto(
+                5L, DATA_INICIO, DATA_FIM, 7L, PageRequest.of(0, 3)))
+            .thenReturn(List.of(linha(folhaAtiva(8L, 99L)), linha(folhaAtiva(9L, 99L)), linha(folhaAtiva(12L, 99L))));
+
+        PaginaDTO<FolhaPagamentoDTO> pagina = folhaPagamentoService.consultarPaginaPorCentroCusto(
+            LOGIN, 5L, DATA_INICIO, DATA_FIM, cursor, 2);
+
+        assertEquals(List.of(8L, 9L), pagina.itens().stream().map(FolhaPagamentoDTO::id).toList());
+        assertEquals(new CursorPaginacao(null, 9L), CursorPaginacao.decodificar(pagina.proximoCursor()));
+    }
+
+    @Test
+    void consultarPaginaPorCentroCusto_sem_permissao_retorna_pagina_vazia() {
+        stubUsuario();
+        when(organogramaAcessoPort.usuarioPodeAcessarCentroCusto(USUARIO_ID, 5L)).thenReturn(false);
+
+        PaginaDTO<FolhaPagamentoDTO> pagina = folhaPagamentoService.consultarPaginaPorCentroCusto(
+            LOGIN, 5L, DATA_INICIO, DATA_FIM, null, null);
+
+        assertTrue(pagina.itens().isEmpty());
+        assertNull(pagina.proximoCursor());
+        verifyNoInteractions(folhaPagamentoRepository);
     }
 
     @Test
@@ -462,6 +549,7 @@ class FolhaPagamentoServiceTest {
 
         assertFalse(folhaPagamentoService.removerSeAutorizado(LOGIN, 3L));
         verify(folhaPagamentoRepository, never()).softDelete(any());
+        verifyNoInteractions(folhaPendenciaService);
     }
 
     @Test
@@ -473,6 +561,8 @@ class FolhaPagamentoServiceTest {
 
         assertTrue(folhaPagamentoService.removerSeAutorizado(LOGIN, 3L));
         verify(folhaPagamentoRepository).softDelete(3L);
+        verify(folhaPendenciaService).registrar(
+            Set.of(99L), DATA_INICIO, DATA_FIM, false, OrigemPendencia.EXCLUSAO_LINHA);
     }
 
     @Test
@@ -514,13 +604,59 @@ class FolhaPagamentoServiceTest {
         LinhaNegocio ln = new LinhaNegocio();
         ln.setId(7L);
         when(cadastrosLookupPort.findLinhaNegocioById(7L)).thenReturn(Optional.of(ln));
-        when(folhaPagamentoRepository.findByLinhaNegocioAndDataInicioBetweenAndAtivoTrue(ln, DATA_INICIO, DATA_FIM))
-            .thenReturn(List.of(folhaAtiva(10L, 99L)));
+        when(folhaPagamentoRepository.consultarLinhasPorLinhaNegocio(
+                7L, DATA_INICIO, DATA_FIM, null, Pageable.unpaged()))
+            .thenReturn(List.of(linha(folhaAtiva(10L, 99L))));
+
+        List<FolhaPagamentoDTO> result = folhaPagamentoService.consultarPorLinhaNegocio(
+            LOGIN, 7L, DATA_INICIO, DATA_FIM);
+
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void consultarPorLinhaNegocio_escopoRestrito_filtraCcEfetivoNoBanco() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
+            .thenReturn(contextoRestrito(Set.of(10L, 11L)));
+        when(cadastrosLookupPort.findLinhaNegocioById(7L)).thenReturn(Optional.of(new LinhaNegocio()));
+        when(folhaPagamentoRepository.consultarLinhasPorLinhaNegocioNoEscopo(
+                7L, DATA_INICIO, DATA_FIM, null, Set.of(10L, 11L), Pageable.unpaged()))
+            .thenReturn(List.of(linha(folhaAtiva(10L, 99L))));
 
         List<FolhaPagamentoDTO> result = folhaPagamentoService.consultarPorLinhaNegocio(
             LOGIN, 7L, DATA_INICIO, DATA_FIM);
 
         assertEquals(1, result.size());
+        verify(folhaPagamentoRepository, never())
+            .consultarLinhasPorLinhaNegocio(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void consultarPorLinhaNegocio_escopoVazio_naoConsultaBanco() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
+            .thenReturn(contextoRestrito(Set.of()));
+        when(cadastrosLookupPort.findLinhaNegocioById(7L)).thenReturn(Optional.of(new LinhaNegocio()));
+
+        assertTrue(folhaPagamentoService.consultarPorLinhaNegocio(LOGIN, 7L, DATA_INICIO, DATA_FIM).isEmpty());
+        verifyNoInteractions(folhaPagamentoRepository);
+    }
+
+    @Test
+    void consultarPaginaPorLinhaNegocio_ultimaPagina_semCursor() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID)).thenReturn(contextoAcessoTotal());
+        when(cadastrosLookupPort.findLinhaNegocioById(7L)).thenReturn(Optional.of(new LinhaNegocio()));
+        when(folhaPagamentoRepository.consultarLinhasPorLinhaNegocio(
+                7L, DATA_INICIO, DATA_FIM, null, PageRequest.of(0, 3)))
+            .thenReturn(List.of(linha(folhaAtiva(10L, 99L)), linha(folhaAtiva(11L, 99L))));
+
+        PaginaDTO<FolhaPagamentoDTO> pagina = folhaPagamentoService.consultarPaginaPorLinhaNegocio(
+            LOGIN, 7L, DATA_INICIO, DATA_FIM, null, 2);
+
+        assertEquals(2, pagina.itens().size());
+        assertNull(pagina.proximoCursor());
     }
 
     @Test
@@ -595,12 +731,10 @@ class FolhaPagamentoServiceTest {
         stubUsuario();
         when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
             .thenReturn(new AccessContextDTO(true, false, false, Set.of(10L), null, 2L, "TI", 1));
-        when(folhaPagamentoRepository.findByFuncionarioIdAndDataInicioBetweenAndAtivoTrue(
-                99L, DATA_INICIO, DATA_FIM))
-            .thenReturn(List.of(folhaAtiva(10L, 99L)));
 
         assertTrue(folhaPagamentoService.consultarPorFuncionario(
             LOGIN, 99L, DATA_INICIO, DATA_FIM, null).isEmpty());
+        verifyNoInteractions(folhaPagamentoRepository);
     }
 
     @Test
@@ -717,6 +851,34 @@ class FolhaPagamentoServiceTest {
         return new AccessContextDTO(true, true, false, centros, null, 2L, "TI", 1);
     }
 
+    private FolhaPagamentoLinhaProjection linha(FolhaPagamento folha) {
+        return new FolhaPagamentoLinhaProjection() {
+            public Long getId() { return folha.getId(); }
+            public Long getFuncionarioId() { return folha.getFuncionario().getId(); }
+            public String getFuncionarioNome() { return folha.getFuncionario().getNome(); }
+            public Long getRubricaId() { return folha.getRubrica().getId(); }
+            public String getRubricaCodigo() { return folha.getRubrica().getCodigo(); }
+            public String getRubricaDescricao() { return folha.getRubrica().getDescricao(); }
+            public String getRubricaTipo() { return folha.getRubrica().getTipoRubrica().getDescricao(); }
+            public Long getCargoId() { return folha.getCargo() != null ? folha.getCargo().getId() : null; }
+            public String getCargoDescricao() { return folha.getCargo() != null ? folha.getCargo().getDescricao() : null; }
+            public Long getCentroCustoId() { return folha.getCentroCusto() != null ? folha.getCentroCusto().getId() : null; }
+            public String getCentroCustoDescricao() {
+                return folha.getCentroCusto() != null ? folha.getCentroCusto().getDescricao() : null;
+            }
+            public Long getLinhaNegocioId() { return folha.getLinhaNegocio() != null ? folha.getLinhaNegocio().getId() : null; }
+            public String getLinhaNegocioDescricao() {
+                return folha.getLinhaNegocio() != null ? folha.getLinhaNegocio().getDescricao() : null;
+            }
+            public LocalDate getDataInicio() { return folha.getDataInicio(); }
+            public LocalDate getDataFim() { return folha.getDataFim(); }
+            public BigDecimal getValor() { return folha.getValor(); }
+            public BigDecimal getQuantidade() { return folha.getQuantidade(); }
+            public BigDecimal getBaseCalculo() { return folha.getBaseCalculo(); }
+            public Boolean getDecimoTerceiro() { return folha.getDecimoTerceiro(); }
+        };
+    }
+
     private FolhaPagamento folhaComRubricaCodigo(Long id, Long funcionarioId, String rubricaCodigo) {
         FolhaPagamento folha = folhaAtiva(id, funcionarioId);
         folha.getRubrica().setCodigo(rubricaCodigo);
@@ -0,0 +1,74 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixaAlteradaEvent;
+import br.com.techne.sistemafolha.folha.domain.OrigemPendencia;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaFuncionarioPendenteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class FolhaPendenciaServiceTest {
+
+    private static final LocalDate COMPETENCIA_INICIO = LocalDate.of(2024, 10, 1);
+    private static final LocalDate COMPETENCIA_FIM = LocalDate.of(2024, 10, 31);
+
+    @Mock
+    private FolhaFuncionarioPendenteRepository pendenteRepository;
+
+    @InjectMocks
+    private FolhaPendenciaService folhaPendenciaService;
+
+    @Test
+    void registrar_gravaOrigemComoTexto() {
+        folhaPendenciaService.registrar(
+            Set.of(1L, 2L), COMPETENCIA_INICIO, COMPETENCIA_FIM, false, OrigemPendencia.IMPORTACAO);
+
+        verify(pendenteRepository).registrar(
+            Set.of(1L, 2L), COMPETENCIA_INICIO, COMPETENCIA_FIM, false, "IMPORTACAO");
+    }
+
+    @Test
+    void registrar_semFuncionarios_naoAcessaRepositorio() {
+        folhaPendenciaService.registrar(
+            Set.of(), COMPETENCIA_INICIO, COMPETENCIA_FIM, false, OrigemPendencia.IMPORTACAO);
+
+        verifyNoInteractions(pendenteRepository);
+    }
+
+    @Test
+    void onRubricaFixaAlterada_individual_marcaCompetenciasDaVigencia() {
+        folhaPendenciaService.onRubricaFixaAlterada(
+            new FuncionarioRubricaFixaAlteradaEvent(7L, COMPETENCIA_INICIO, COMPETENCIA_FIM));
+
+        verify(pendenteRepository).registrarPorVigencia(7L, COMPETENCIA_INICIO, COMPETENCIA_FIM, "RUBRICA_FIXA");
+        verify(pendenteRepository, never()).registrarPorVigenciaGlobal(any(), any(), any());
+    }
+
+    @Test
+    void onRubricaFixaAlterada_globalSemFim_marcaTodosAteVigenciaAberta() {
+        folhaPendenciaService.onRubricaFixaAlterada(
+            new FuncionarioRubricaFixaAlteradaEvent(null, COMPETENCIA_INICIO, null));
+
+        verify(pendenteRepository).registrarPorVigenciaGlobal(
+            COMPETENCIA_INICIO, LocalDate.of(9999, 12, 31), "RUBRICA_FIXA");
+    }
+
+    @Test
+    void limpar_porFuncionarios_listaVazia_naoAcessaRepositorio() {
+        folhaPendenciaService.limpar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false, List.of());
+
+        verifyNoInteractions(pendenteRepository);
+    }
+}
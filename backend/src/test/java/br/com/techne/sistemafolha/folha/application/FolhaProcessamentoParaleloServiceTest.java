@@ -0,0 +1,239 @@
+package br.com.techne.sistemafolha.folha.application;
+
+import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
+import br.com.techne.sistemafolha.cadastros.domain.FuncionarioRubricaFixa;
+import br.com.techne.sistemafolha.cadastros.domain.RegimeTrabalho;
+import br.com.techne.sistemafolha.cadastros.domain.Rubrica;
+import br.com.techne.sistemafolha.cadastros.domain.TipoRubrica;
+import br.com.techne.sistemafolha.cadastros.port.CadastrosLookupPort;
+import br.com.techne.sistemafolha.folha.api.ProcessamentoResultadoDTO;
+import br.com.techne.sistemafolha.folha.domain.FichaLinha;
+import br.com.techne.sistemafolha.folha.domain.FichaMensal;
+import br.com.techne.sistemafolha.folha.domain.FolhaPagamento;
+import br.com.techne.sistemafolha.folha.domain.FolhaProcessamentoFalhaException;
+import br.com.techne.sistemafolha.folha.domain.OrigemLinha;
+import br.com.techne.sistemafolha.folha.infrastructure.FichaJdbcBatchWriter;
+import br.com.techne.sistemafolha.folha.infrastructure.FichaMensalRepository;
+import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FolhaProcessamentoParaleloServiceTest {
+
+    private static final LocalDate COMPETENCIA_INICIO = LocalDate.of(2024, 10, 1);
+    private static final LocalDate COMPETENCIA_FIM = LocalDate.of(2024, 10, 31);
+
+    @Mock
+    private FolhaPagamentoRepository folhaPagamentoRepository;
+
+    @Mock
+    private FichaMensalRepository fichaMensalRepository;
+
+    @Mock
+    private FichaJdbcBatchWriter fichaJdbcBatchWriter;
+
+    @Mock
+    private CadastrosLookupPort cadastrosLookupPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FolhaProcessamentoProperties properties;
+
+    private FolhaProcessamentoParaleloService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FolhaProcessamentoProperties();
+        properties.setTamanhoParticao(2);
+        lenient().when(transactionManager.getTransaction(any(TransactionDefinition.class)))
+            .thenReturn(new SimpleTransactionStatus());
+        service = new FolhaProcessamentoParaleloService(
+            folhaPagamentoRepository,
+            fichaMensalRepository,
+            fichaJdbcBatchWriter,
+            cadastrosLookupPort,
+            properties,
+            new FolhaCalculoCentavos(),
+            Runnable::run,
+            transactionManager);
+    }
+
+    @Test
+    void processar_particionaFuncionariosEGravaCadaParticaoEmLote() {
+        Rubrica provento = rubricaProvento(1L);
+        List<FolhaPagamento> linhas = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            linhas.add(linhaAdp(funcionario(id), provento, new BigDecimal("1000.00")));
+        }
+        when(folhaPagamentoRepository.findByCompetenciaAndDecimoTerceiroAndAtivoTrue(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(linhas);
+        when(cadastrosLookupPort.findRubricasFixasVigentesNaCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM))
+            .thenReturn(List.of());
+
+        ProcessamentoResultadoDTO resultado = service.processar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false, false);
+
+        assertEquals(5, resultado.totalFichas());
+        assertEquals(5, resultado.totalLinhas());
+        assertEquals(5, resultado.totalFuncionarios());
+        verify(fichaMensalRepository).deleteByCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
+        verify(fichaJdbcBatchWriter, times(3)).inserirFichas(anyList());
+        verify(fichaJdbcBatchWriter, times(3)).inserirLinhas(anyList());
+        verify(transactionManager, times(4)).commit(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void processar_aplicaMesmasRegrasDoModoTransacaoUnica() {
+        Funcionario funcionario = funcionario(1L);
+        Rubrica provento = rubricaProvento(1L);
+        provento.setPorcentagem(138.63);
+        Rubrica rh = rubricaProvento(3L);
+        rh.setCodigo("RH");
+        Rubrica ferias = rubricaProvento(50L);
+        ferias.setCodigo("5000");
+
+        FolhaPagamento linhaSalario = linhaAdp(funcionario, provento, new BigDecimal("12000.00"));
+        FuncionarioRubricaFixa duplicataAdp = rubricaFixa(funcionario, provento, new BigDecimal("999.00"));
+        FuncionarioRubricaFixa global = rubricaFixa(null, rh, new BigDecimal("500.00"));
+
+        when(folhaPagamentoRepository.findByCompetenciaAndDecimoTerceiroAndAtivoTrue(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(List.of(linhaSalario));
+        when(cadastrosLookupPort.findRubricasFixasVigentesNaCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM))
+            .thenReturn(List.of(duplicataAdp, global));
+        when(cadastrosLookupPort.findRubricaAtivaByCodigo("5000")).thenReturn(Optional.of(ferias));
+
+        ProcessamentoResultadoDTO resultado = service.processar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false, true);
+
+        assertEquals(3, resultado.totalLinhas());
+
+        ArgumentCaptor<List<FichaLinha>> linhasCaptor = ArgumentCaptor.forClass(List.class);
+        verify(fichaJdbcBatchWriter).inserirLinhas(linhasCaptor.capture());
+        List<FichaLinha> gravadas = linhasCaptor.getValue();
+        assertEquals(List.of(OrigemLinha.FOLHA_ADP, OrigemLinha.CUSTO_FIXO, OrigemLinha.CALCULADO),
+            gravadas.stream().map(FichaLinha::getOrigemLinha).toList());
+        assertEquals(new BigDecimal("2604.17"), gravadas.get(2).getValor());
+
+        ArgumentCaptor<List<FichaMensal>> fichasCaptor = ArgumentCaptor.forClass(List.class);
+        verify(fichaJdbcBatchWriter).inserirFichas(fichasCaptor.capture());
+        FichaMensal ficha = fichasCaptor.getValue().get(0);
+        assertEquals(new BigDecimal("15104.17"), ficha.getBruto());
+        assertEquals(new BigDecimal("19739.77"), ficha.getCustoFolha());
+    }
+
+    @Test
+    void processar_ignoraFuncionarioNaoClt() {
+        Funcionario pj = funcionario(2L);
+        RegimeTrabalho regimePj = new RegimeTrabalho();
+        regimePj.setCodigo("PJ");
+        regimePj.setAtivo(true);
+        pj.setRegimeTrabalho(regimePj);
+
+        when(folhaPagamentoRepository.findByCompetenciaAndDecimoTerceiroAndAtivoTrue(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(List.of(linhaAdp(pj, rubricaProvento(1L), new BigDecimal("5000.00"))));
+        when(cadastrosLookupPort.findRubricasFixasVigentesNaCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM))
+            .thenReturn(List.of());
+
+        ProcessamentoResultadoDTO resultado = service.processar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false, false);
+
+        assertEquals(0, resultado.totalFichas());
+        assertEquals(1, resultado.totalFuncionarios());
+        verify(fichaMensalRepository).deleteByCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
+    }
+
+    @Test
+    void processar_falhaNaGravacaoDeParticao_lancaFalhaProcessamento() {
+        when(folhaPagamentoRepository.findByCompetenciaAndDecimoTerceiroAndAtivoTrue(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(List.of(linhaAdp(funcionario(1L), rubricaProvento(1L), new BigDecimal("1000.00"))));
+        when(cadastrosLookupPort.findRubricasFixasVigentesNaCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM))
+            .thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("fk"))
+            .when(fichaJdbcBatchWriter).inserirFichas(anyList());
+
+        FolhaProcessamentoFalhaException ex = assertThrows(FolhaProcessamentoFalhaException.class,
+            () -> service.processar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false, false));
+
+        assertTrue(ex.getCause() instanceof DataIntegrityViolationException);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void particionar_respeitaTamanhoEPreservaOrdem() {
+        List<List<Integer>> particoes = FolhaProcessamentoParaleloService.particionar(List.of(1, 2, 3, 4, 5), 2);
+
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), particoes);
+        assertEquals(List.of(List.of(1), List.of(2)), FolhaProcessamentoParaleloService.particionar(List.of(1, 2), 0));
+    }
+
+    private Funcionario funcionario(Long id) {
+        Funcionario funcionario = new Funcionario();
+        funcionario.setId(id);
+        funcionario.setNome("Funcionário " + id);
+        return funcionario;
+    }
+
+    private Rubrica rubricaProvento(Long id) {
+        TipoRubrica tipo = new TipoRubrica();
+        tipo.setDescricao("PROVENTO");
+        Rubrica rubrica = new Rubrica();
+        rubrica.setId(id);
+        rubrica.setCodigo(String.valueOf(id));
+        rubrica.setTipoRubrica(tipo);
+        rubrica.setOperadorBruto((short) 1);
+        rubrica.setOperadorLiquido((short) 1);
+        rubrica.setOperadorCusto((short) 1);
+        return rubrica;
+    }
+
+    private FuncionarioRubricaFixa rubricaFixa(Funcionario funcionario, Rubrica rubrica, BigDecimal valor) {
+        FuncionarioRubricaFixa fixo = new FuncionarioRubricaFixa();
+        fixo.setFuncionario(funcionario);
+        fixo.setRubrica(rubrica);
+        fixo.setValor(valor);
+        fixo.setVigenciaInicio(COMPETENCIA_INICIO);
+        fixo.setAtivo(true);
+        return fixo;
+    }
+
+    private FolhaPagamento linhaAdp(Funcionario funcionario, Rubrica rubrica, BigDecimal valor) {
+        FolhaPagamento linha = new FolhaPagamento();
+        linha.setFuncionario(funcionario);
+        linha.setRubrica(rubrica);
+        linha.setValor(valor);
+        linha.setDataInicio(COMPETENCIA_INICIO);
+        linha.setDataFim(COMPETENCIA_FIM);
+        linha.setAtivo(true);
+        linha.setDecimoTerceiro(false);
+        return linha;
+    }
+}
@@ -7,6 +7,7 @@ import br.com.techne.sistemafolha.cadastros.domain.RegimeTrabalho;
 import br.com.techne.sistemafolha.cadastros.domain.Rubrica;
 import br.com.techne.sistemafolha.cadastros.domain.TipoRubrica;
 import br.com.techne.sistemafolha.cadastros.port.CadastrosLookupPort;
+import br.com.techne.sistemafolha.folha.api.ModoProcessamento;
 import br.com.techne.sistemafolha.folha.api.ProcessamentoOpcoes;
 import br.com.techne.sistemafolha.folha.api.ProcessamentoResultadoDTO;
 import br.com.techne.sistemafolha.folha.domain.FichaLinha;
@@ -19,8 +20,10 @@ import br.com.techne.sistemafolha.folha.infrastructure.FolhaPagamentoRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -33,7 +36,10 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,6 +61,18 @@ class FolhaProcessamentoServiceTest {
     @Mock
     private CadastrosLookupPort cadastrosLookupPort;
 
+    @Mock
+    private FolhaProcessamentoParaleloService folhaProcessamentoParaleloService;
+
+    @Mock
+    private FolhaPendenciaService folhaPendenciaService;
+
+    @Mock
+    private FolhaAgregadoService folhaAgregadoService;
+
+    @Spy
+    private FolhaCalculoKernel folhaCalculoKernel = new FolhaCalculoCentavos();
+
     @InjectMocks
     private FolhaProcessamentoService folhaProcessamentoService;
 
@@ -108,6 +126,106 @@ class FolhaProcessamentoServiceTest {
         assertEquals(new BigDecimal("10000.00"), fichaFinal.getCustoFolha());
     }
 
+    @Test
+    void processar_modoParaleloLotes_delegaParaServicoParalelo() {
+        ProcessamentoResultadoDTO esperado = new ProcessamentoResultadoDTO(3, 9, 3);
+        when(folhaProcessamentoParaleloService.processar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false, true))
+            .thenReturn(esperado);
+
+        ProcessamentoResultadoDTO resultado = folhaProcessamentoService.processar(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false,
+            new ProcessamentoOpcoes(true, ModoProcessamento.PARALELO_LOTES));
+
+        assertSame(esperado, resultado);
+        verify(fichaMensalRepository, never()).deleteByCompetencia(any(), any(), eq(false));
+        verifyNoInteractions(fichaLinhaRepository, folhaPagamentoRepository);
+    }
+
+    @Test
+    void processar_opcoesNulas_usaTransacaoUnica() {
+        when(folhaPagamentoRepository.findByCompetenciaAndDecimoTerceiroAndAtivoTrue(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(List.of());
+        when(cadastrosLookupPort.findRubricasFixasVigentesNaCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM))
+            .thenReturn(List.of());
+
+        ProcessamentoResultadoDTO resultado = folhaProcessamentoService.processar(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false, null);
+
+        assertEquals(0, resultado.totalFichas());
+        verify(fichaMensalRepository).deleteByCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
+        verifyNoInteractions(folhaProcessamentoParaleloService);
+    }
+
+    @Test
+    void processar_modoCompleto_limpaPendenciasDaCompetencia() {
+        when(folhaPagamentoRepository.findByCompetenciaAndDecimoTerceiroAndAtivoTrue(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(List.of());
+        when(cadastrosLookupPort.findRubricasFixasVigentesNaCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM))
+            .thenReturn(List.of());
+
+        folhaProcessamentoService.processar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false, new ProcessamentoOpcoes(false));
+
+        verify(folhaPendenciaService).limpar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false);
+    }
+
+    @Test
+    void processar_modoParaleloLotes_reconstroiAgregadosAoFinal() {
+        when(folhaProcessamentoParaleloService.processar(COMPETENCIA_INICIO, COMPETENCIA_FIM, true, false))
+            .thenReturn(new ProcessamentoResultadoDTO(1, 2, 1));
+
+        folhaProcessamentoService.processar(COMPETENCIA_INICIO, COMPETENCIA_FIM, true,
+            new ProcessamentoOpcoes(false, ModoProcessamento.PARALELO_LOTES));
+
+        InOrder ordem = inOrder(folhaProcessamentoParaleloService, folhaAgregadoService);
+        ordem.verify(folhaProcessamentoParaleloService).processar(COMPETENCIA_INICIO, COMPETENCIA_FIM, true, false);
+        ordem.verify(folhaAgregadoService).atualizar(COMPETENCIA_INICIO, COMPETENCIA_FIM, true);
+    }
+
+    @Test
+    void processar_incremental_semPendencias_naoTocaFichas() {
+        when(folhaPendenciaService.funcionariosPendentes(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(List.of());
+
+        ProcessamentoResultadoDTO resultado = folhaProcessamentoService.processar(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false,
+            new ProcessamentoOpcoes(false, ModoProcessamento.INCREMENTAL));
+
+        assertEquals(0, resultado.totalFichas());
+        verifyNoInteractions(fichaMensalRepository, fichaLinhaRepository, folhaPagamentoRepository);
+        verify(folhaPendenciaService, never()).limpar(any(), any(), eq(false));
+    }
+
+    @Test
+    void processar_incremental_reconstroiApenasFuncionariosPendentes() {
+        Funcionario funcionario = funcionario(2L);
+        Rubrica provento = rubricaProvento(1L);
+        List<Long> pendentes = List.of(2L, 3L);
+
+        when(folhaPendenciaService.funcionariosPendentes(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(pendentes);
+        when(folhaPagamentoRepository.findByCompetenciaAndDecimoTerceiroAndFuncionarioIdsAndAtivoTrue(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false, pendentes))
+            .thenReturn(List.of(linhaAdp(funcionario, provento, new BigDecimal("3000.00"))));
+        when(cadastrosLookupPort.findRubricasFixasVigentesNaCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM))
+            .thenReturn(List.of());
+        when(fichaMensalRepository.save(any(FichaMensal.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(fichaLinhaRepository.save(any(FichaLinha.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        ProcessamentoResultadoDTO resultado = folhaProcessamentoService.processar(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false,
+            new ProcessamentoOpcoes(false, ModoProcessamento.INCREMENTAL));
+
+        assertEquals(1, resultado.totalFichas());
+        assertEquals(1, resultado.totalLinhas());
+        verify(fichaMensalRepository).deleteByCompetenciaAndFuncionarioIds(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, false, pendentes);
+        verify(fichaMensalRepository, never()).deleteByCompetencia(any(), any(), eq(false));
+        verify(folhaPagamentoRepository, never()).findByCompetenciaAndDecimoTerceiroAndAtivoTrue(any(), any(), eq(false));
+        verify(folhaPendenciaService).limpar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false, pendentes);
+    }
+
     @Test
     void processar_injetarCustoFixoVigente() {
         Funcionario funcionario = funcionario(1L);
@@ -1,14 +1,19 @@
 package br.com.techne.sistemafolha.folha.application;
 
 import br.com.techne.sistemafolha.beneficios.port.BeneficioConsultaPort;
+import br.com.techne.sistemafolha.beneficios.port.BeneficioFuncionarioTotaisSnapshot;
 import br.com.techne.sistemafolha.folha.api.FolhaTotaisFuncionarioDTO;
+import br.com.techne.sistemafolha.folha.domain.DimensaoAgregado;
 import br.com.techne.sistemafolha.folha.domain.OrigemLinha;
+import br.com.techne.sistemafolha.folha.infrastructure.FichaMensalRepository;
+import br.com.techne.sistemafolha.folha.port.FolhaAgregadoSnapshot;
 import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -20,7 +25,9 @@ import java.util.Set;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,17 +39,20 @@ class FolhaTotalizacaoServiceTest {
     @Mock
     private BeneficioConsultaPort beneficioConsultaPort;
 
+    @Mock
+    private FichaMensalRepository fichaMensalRepository;
+
+    @Spy
+    private FolhaCalculoKernel folhaCalculoKernel = new FolhaCalculoCentavos();
+
     @InjectMocks
     private FolhaTotalizacaoService folhaTotalizacaoService;
 
     @Test
     void calcularTotaisPorFuncionario_quandoPortRetornaLancamentos_somaBeneficiosMensais() {
-        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(
                 Set.of(1L), COMPETENCIA_INICIO, COMPETENCIA_FIM))
-            .thenReturn(Map.of(1L, new BigDecimal("700.00")));
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-                1L, COMPETENCIA_INICIO, COMPETENCIA_FIM))
-            .thenReturn(2);
+            .thenReturn(Map.of(1L, new BeneficioFuncionarioTotaisSnapshot(1L, 2L, new BigDecimal("700.00"))));
 
         List<FolhaTotaisFuncionarioDTO> resultado = folhaTotalizacaoService.calcularTotaisPorFuncionario(
             List.of(linhaSnapshot(1L, "Ana Silva", (short) 1, (short) 1, (short) 1, "8000.00")),
@@ -59,17 +69,15 @@ class FolhaTotalizacaoServiceTest {
         assertEquals(new BigDecimal("8700.00"), total.custoEmpresa());
         assertEquals(2, total.totalBeneficios());
 
-        verify(beneficioConsultaPort).somarValorPorFuncionariosECompetencia(
+        verify(beneficioConsultaPort).totaisPorFuncionariosECompetencia(
             eq(Set.of(1L)), eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM));
+        verify(beneficioConsultaPort, never()).contarLancamentosPorFuncionarioECompetencia(any(), any(), any());
     }
 
     @Test
     void calcularTotaisPorFuncionario_quandoPortRetornaZero_custoBeneficiosZero() {
-        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(any(), any(), any()))
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(any(), any(), any()))
             .thenReturn(Map.of());
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-                2L, COMPETENCIA_INICIO, COMPETENCIA_FIM))
-            .thenReturn(0);
 
         List<FolhaTotaisFuncionarioDTO> resultado = folhaTotalizacaoService.calcularTotaisPorFuncionario(
             List.of(linhaSnapshot(2L, "Bruno Costa", (short) 1, (short) 1, (short) 1, "6000.00")),
@@ -98,11 +106,8 @@ class FolhaTotalizacaoServiceTest {
 
     @Test
     void calcularTotaisPorFuncionario_proventoEDesconto_descontoImpactaSomenteLiquido() {
-        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(any(), any(), any()))
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(any(), any(), any()))
             .thenReturn(Map.of());
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-                4L, COMPETENCIA_INICIO, COMPETENCIA_FIM))
-            .thenReturn(0);
 
         List<FolhaTotaisFuncionarioDTO> resultado = folhaTotalizacaoService.calcularTotaisPorFuncionario(
             List.of(
@@ -122,11 +127,8 @@ class FolhaTotalizacaoServiceTest {
 
     @Test
     void calcularTotaisPorFuncionario_ignoraLinhasSemFuncionarioId() {
-        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(any(), any(), any()))
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(any(), any(), any()))
             .thenReturn(Map.of());
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-                1L, COMPETENCIA_INICIO, COMPETENCIA_FIM))
-            .thenReturn(0);
 
         FolhaLinhaSnapshot semId = new FolhaLinhaSnapshot(
             null, "Anônimo", 10L, "TI", 1L, "LN", 1L, "Cargo",
@@ -143,10 +145,8 @@ class FolhaTotalizacaoServiceTest {
 
     @Test
     void calcularTotaisPorFuncionario_ordenarPorNomeIgnoreCase() {
-        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(any(), any(), any()))
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(any(), any(), any()))
             .thenReturn(Map.of());
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(any(), any(), any()))
-            .thenReturn(0);
 
         List<FolhaTotaisFuncionarioDTO> resultado = folhaTotalizacaoService.calcularTotaisPorFuncionario(
             List.of(
@@ -170,10 +170,8 @@ class FolhaTotalizacaoServiceTest {
 
     @Test
     void calcularTotalCustoEmpresa_somaCustoEmpresaDosFuncionarios() {
-        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(any(), any(), any()))
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(any(), any(), any()))
             .thenReturn(Map.of());
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(any(), any(), any()))
-            .thenReturn(0);
 
         BigDecimal total = folhaTotalizacaoService.calcularTotalCustoEmpresa(
             List.of(
@@ -186,10 +184,8 @@ class FolhaTotalizacaoServiceTest {
 
     @Test
     void calcularTotaisPorFuncionario_global_totalEncargosSnapshot_naoCompoeCustoEmpresa() {
-        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(any(), any(), any()))
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(any(), any(), any()))
             .thenReturn(Map.of());
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(any(), any(), any()))
-            .thenReturn(0);
 
         List<FolhaTotaisFuncionarioDTO> resultado = folhaTotalizacaoService.calcularTotaisPorFuncionario(
             List.of(
@@ -210,11 +206,8 @@ class FolhaTotalizacaoServiceTest {
 
     @Test
     void calcularTotaisPorFuncionario_porcentagemSnapshot_aplicaSomenteNoCusto() {
-        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(any(), any(), any()))
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(any(), any(), any()))
             .thenReturn(Map.of());
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-                1L, COMPETENCIA_INICIO, COMPETENCIA_FIM))
-            .thenReturn(0);
 
         List<FolhaTotaisFuncionarioDTO> resultado = folhaTotalizacaoService.calcularTotaisPorFuncionario(
             List.of(linhaSnapshot(1L, "Ana", (short) 1, (short) 1, (short) 1, "7258.43", new BigDecimal("138.63"))),
@@ -232,11 +225,8 @@ class FolhaTotalizacaoServiceTest {
 
     @Test
     void calcularTotaisPorFuncionario_valorNullNaLinha_trataComoZero() {
-        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(any(), any(), any()))
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(any(), any(), any()))
             .thenReturn(Map.of());
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-                1L, COMPETENCIA_INICIO, COMPETENCIA_FIM))
-            .thenReturn(0);
 
         FolhaLinhaSnapshot linhaValorNull = new FolhaLinhaSnapshot(
             1L, "Ana", 10L, "TI", 1L, "LN", 1L, "Cargo",
@@ -252,11 +242,8 @@ class FolhaTotalizacaoServiceTest {
 
     @Test
     void calcularTotaisPorFuncionario_arredondaHalfUpDuasCasasFabio() {
-        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(any(), any(), any()))
+        when(beneficioConsultaPort.totaisPorFuncionariosECompetencia(any(), any(), any()))
             .thenReturn(Map.of());
-        when(beneficioConsultaPort.contarLancamentosPorFuncionarioECompetencia(
-                6L, COMPETENCIA_INICIO, COMPETENCIA_FIM))
-            .thenReturn(0);
 
         List<FolhaTotaisFuncionarioDTO> resultado = folhaTotalizacaoService.calcularTotaisPorFuncionario(
             List.of(linhaSnapshot(6L, "Fabio", (short) 1, (short) 1, (short) 1, "10.005")),
@@ -271,6 +258,49 @@ class FolhaTotalizacaoServiceTest {
         assertEquals(new BigDecimal("10.01"), total.salCustoFolha());
     }
 
+    @Test
+    void calcularTotalCustoEmpresaAgregado_centrosInformados_somaCustoFolhaEBeneficiosDosCentros() {
+        when(fichaMensalRepository.findFuncionarioIdsByCompetenciaAndCentrosCustoIds(
+                COMPETENCIA_INICIO, COMPETENCIA_FIM, false, Set.of(10L)))
+            .thenReturn(List.of(1L, 2L));
+        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(
+                Set.of(1L, 2L), COMPETENCIA_INICIO, COMPETENCIA_FIM))
+            .thenReturn(Map.of(1L, new BigDecimal("300.00"), 2L, new BigDecimal("200.00")));
+
+        BigDecimal total = folhaTotalizacaoService.calcularTotalCustoEmpresaAgregado(
+            List.of(
+                agregado(10L, DimensaoAgregado.CENTRO_CUSTO, "8000.00"),
+                agregado(10L, DimensaoAgregado.PROVENTO, null)),
+            COMPETENCIA_INICIO,
+            COMPETENCIA_FIM,
+            false);
+
+        assertEquals(new BigDecimal("8500.00"), total);
+    }
+
+    @Test
+    void calcularTotalCustoEmpresaAgregado_comAgregadoSemCentro_consultaTodosOsFuncionarios() {
+        when(fichaMensalRepository.findFuncionarioIdsByCompetencia(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(List.of());
+
+        BigDecimal total = folhaTotalizacaoService.calcularTotalCustoEmpresaAgregado(
+            List.of(
+                agregado(10L, DimensaoAgregado.CENTRO_CUSTO, "1000.00"),
+                agregado(null, DimensaoAgregado.CENTRO_CUSTO, "250.50")),
+            COMPETENCIA_INICIO,
+            COMPETENCIA_FIM,
+            false);
+
+        assertEquals(new BigDecimal("1250.50"), total);
+        verifyNoInteractions(beneficioConsultaPort);
+    }
+
+    private FolhaAgregadoSnapshot agregado(Long centroCustoId, DimensaoAgregado dimensao, String custoFolha) {
+        return new FolhaAgregadoSnapshot(
+            centroCustoId, 1L, "LN", dimensao, centroCustoId, null, "Centro", 1L, 1L,
+            BigDecimal.ZERO, custoFolha != null ? new BigDecimal(custoFolha) : null);
+    }
+
     private AccessContextDTO contextoAcessoTotal() {
         return new AccessContextDTO(true, true, true, Set.of(), null, null, null, null);
     }
@@ -9,6 +9,7 @@ import br.com.techne.sistemafolha.folha.infrastructure.ResumoFolhaPagamentoRepos
 import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
 import br.com.techne.sistemafolha.folha.domain.OrigemLinha;
 import br.com.techne.sistemafolha.folha.port.FolhaLinhaSnapshot;
+import br.com.techne.sistemafolha.folha.port.FolhaTotaisCompetenciaSnapshot;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
 import br.com.techne.sistemafolha.organograma.acesso.port.MotivoNegacaoAcesso;
 import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -36,6 +38,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -64,6 +67,9 @@ class ResumoFolhaPagamentoServiceTest {
     @Mock
     private BeneficioConsultaPort beneficioConsultaPort;
 
+    @Spy
+    private FolhaCalculoKernel folhaCalculoKernel = new FolhaCalculoCentavos();
+
     @InjectMocks
     private ResumoFolhaPagamentoService resumoFolhaPagamentoService;
 
@@ -524,6 +530,66 @@ class ResumoFolhaPagamentoServiceTest {
         verify(resumoFolhaPagamentoRepository, never()).findByCompetenciaInicioBetweenAndAtivoTrue(any(), any());
     }
 
+    @Test
+    void listarTodos_scoped_totaisDeFicha_umaConsultaSemCarregarLinhas() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID))
+            .thenReturn(contextoRestrito(Set.of(CENTRO_A)));
+        when(beneficioConsultaPort.somarValorPorFuncionariosECompetencia(
+                Set.of(101L, 102L), COMPETENCIA_INICIO, COMPETENCIA_FIM))
+            .thenReturn(Map.of(101L, new BigDecimal("200.004")));
+
+        ResumoFolhaPagamento regular = resumoAtivo(40L);
+        ResumoFolhaPagamento decimo = resumoAtivo(41L);
+        decimo.setDecimoTerceiro(true);
+        when(resumoFolhaPagamentoRepository.findByCompetenciaInicioBetweenAndAtivoTrue(
+                ANO_2024_INICIO, ANO_2024_FIM))
+            .thenReturn(List.of(regular, decimo));
+        when(folhaConsultaPort.somarTotaisFichaPorCompetencia(COMPETENCIA_INICIO, COMPETENCIA_INICIO, Set.of(CENTRO_A)))
+            .thenReturn(List.of(
+                totaisFicha(false, Set.of(101L, 102L), "8000.00", "7000.00", "8500.00", "8000.00", "1000.00"),
+                totaisFicha(true, Set.of(), "0.00", "0.00", "0.00", "0.00", "0.00")));
+
+        List<ResumoFolhaPagamentoDTO> result = resumoFolhaPagamentoService.listarTodos(LOGIN, 2024, null);
+
+        ResumoFolhaPagamentoDTO dtoRegular = result.get(0);
+        assertEquals(2, dtoRegular.totalEmpregados());
+        assertEquals(new BigDecimal("8000.00"), dtoRegular.totalBruto());
+        assertEquals(new BigDecimal("7000.00"), dtoRegular.totalLiquido());
+        assertEquals(new BigDecimal("8700.00"), dtoRegular.totalCustoEmpresa());
+        assertEquals(new BigDecimal("1000.00"), dtoRegular.totalDescontos());
+        assertEquals(0, BigDecimal.ZERO.compareTo(dtoRegular.totalEncargos()));
+        assertEquals(0, result.get(1).totalEmpregados());
+        verify(folhaConsultaPort, times(1)).somarTotaisFichaPorCompetencia(any(), any(), any());
+        verify(folhaConsultaPort, never()).findLinhasAtivasPorCompetencia(any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    void listarTodos_acessoTotal_fichaSemLinhas_usaSnapshotSemCarregarLinhas() {
+        stubUsuario();
+        when(organogramaAcessoPort.obterContextoAcesso(USUARIO_ID)).thenReturn(contextoAcessoTotal());
+        when(resumoFolhaPagamentoRepository.findByCompetenciaInicioBetweenAndAtivoTrue(
+                ANO_2024_INICIO, ANO_2024_FIM))
+            .thenReturn(List.of(resumoAtivo(42L)));
+        when(folhaConsultaPort.somarTotaisFichaPorCompetencia(COMPETENCIA_INICIO, COMPETENCIA_INICIO, null))
+            .thenReturn(List.of(totaisFicha(false, Set.of(), "0.00", "0.00", "0.00", "0.00", "0.00")));
+
+        ResumoFolhaPagamentoDTO dto = resumoFolhaPagamentoService.listarTodos(LOGIN, 2024, null).get(0);
+
+        assertEquals(100, dto.totalEmpregados());
+        assertEquals(new BigDecimal("50000.00"), dto.totalLiquido());
+        assertEquals(new BigDecimal("10000.00"), dto.totalEncargos());
+        verify(folhaConsultaPort, never()).findLinhasAtivasPorCompetencia(any(), any(), anyBoolean(), any());
+    }
+
+    private FolhaTotaisCompetenciaSnapshot totaisFicha(
+            boolean decimoTerceiro, Set<Long> funcionarios, String bruto, String liquido, String custoFolha,
+            String pagamentos, String descontos) {
+        return new FolhaTotaisCompetenciaSnapshot(
+            COMPETENCIA_INICIO, COMPETENCIA_FIM, decimoTerceiro, funcionarios, new BigDecimal(bruto),
+            new BigDecimal(liquido), new BigDecimal(custoFolha), new BigDecimal(pagamentos), new BigDecimal(descontos));
+    }
+
     private void stubGlobalSemLinhas() {
         when(folhaConsultaPort.findLinhasAtivasPorCompetencia(any(), any(), anyBoolean(), isNull()))
             .thenReturn(List.of());
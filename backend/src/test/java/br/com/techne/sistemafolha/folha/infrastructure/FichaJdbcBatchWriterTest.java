@@ -0,0 +1,123 @@
+package br.com.techne.sistemafolha.folha.infrastructure;
+
+import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
+import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
+import br.com.techne.sistemafolha.cadastros.domain.Rubrica;
+import br.com.techne.sistemafolha.folha.domain.FichaLinha;
+import br.com.techne.sistemafolha.folha.domain.FichaMensal;
+import br.com.techne.sistemafolha.folha.domain.OrigemLinha;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FichaJdbcBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private FichaJdbcBatchWriter writer;
+
+    @Test
+    void inserirFichas_reservaIdsDaSequenciaEGravaEmInsertMultiLinha() {
+        FichaMensal comCc = ficha(1L, 10L);
+        FichaMensal semCc = ficha(2L, null);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(2))).thenReturn(List.of(501L, 502L));
+
+        writer.inserirFichas(List.of(comCc, semCc));
+
+        assertEquals(501L, comCc.getId());
+        assertEquals(502L, semCc.getId());
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), args.capture());
+        assertTrue(sql.getValue().startsWith("INSERT INTO ficha_mensal"));
+        assertEquals(2, sql.getValue().split("\\(\\?").length - 1);
+        assertEquals(20, args.getValue().length);
+        assertEquals(501L, args.getValue()[0]);
+        SqlParameterValue ccNulo = assertInstanceOf(SqlParameterValue.class, args.getValue()[12]);
+        assertEquals(null, ccNulo.getValue());
+    }
+
+    @Test
+    void inserirFichas_listaVazia_naoAcessaBanco() {
+        writer.inserirFichas(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void inserirLinhas_divideEmBlocosDeRegistrosPorInsert() {
+        FichaMensal ficha = ficha(1L, null);
+        ficha.setId(77L);
+        List<FichaLinha> linhas = new ArrayList<>();
+        LongStream.rangeClosed(1, FichaJdbcBatchWriter.REGISTROS_POR_INSERT + 1)
+            .forEach(i -> linhas.add(linha(ficha)));
+
+        writer.inserirLinhas(linhas);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).update(sql.capture(), args.capture());
+        assertTrue(sql.getAllValues().get(0).contains("CAST(? AS origem_linha)"));
+        assertEquals(FichaJdbcBatchWriter.REGISTROS_POR_INSERT * 9, args.getAllValues().get(0).length);
+        assertEquals(9, args.getAllValues().get(1).length);
+        assertEquals(77L, args.getAllValues().get(1)[0]);
+        assertEquals("FOLHA_ADP", args.getAllValues().get(1)[3]);
+    }
+
+    private FichaMensal ficha(Long funcionarioId, Long centroCustoId) {
+        Funcionario funcionario = new Funcionario();
+        funcionario.setId(funcionarioId);
+        FichaMensal ficha = new FichaMensal();
+        ficha.setFuncionario(funcionario);
+        if (centroCustoId != null) {
+            CentroCusto centroCusto = new CentroCusto();
+            centroCusto.setId(centroCustoId);
+            ficha.setCentroCusto(centroCusto);
+        }
+        ficha.setCompetenciaInicio(LocalDate.of(2024, 10, 1));
+        ficha.setCompetenciaFim(LocalDate.of(2024, 10, 31));
+        ficha.setDecimoTerceiro(false);
+        ficha.setBruto(new BigDecimal("1000.00"));
+        ficha.setLiquido(new BigDecimal("900.00"));
+        ficha.setCustoFolha(new BigDecimal("1000.00"));
+        return ficha;
+    }
+
+    private FichaLinha linha(FichaMensal ficha) {
+        Rubrica rubrica = new Rubrica();
+        rubrica.setId(3L);
+        FichaLinha linha = new FichaLinha();
+        linha.setFichaMensal(ficha);
+        linha.setRubrica(rubrica);
+        linha.setValor(new BigDecimal("100.00"));
+        linha.setOrigemLinha(OrigemLinha.FOLHA_ADP);
+        linha.setOperadorBruto((short) 1);
+        linha.setOperadorLiquido((short) 1);
+        linha.setOperadorCusto((short) 1);
+        return linha;
+    }
+}
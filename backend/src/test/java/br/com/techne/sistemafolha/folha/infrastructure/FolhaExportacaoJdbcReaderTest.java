@@ -0,0 +1,127 @@
+package br.com.techne.sistemafolha.folha.infrastructure;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class FolhaExportacaoJdbcReaderTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2026, 1, 1);
+    private static final LocalDate FIM = LocalDate.of(2026, 1, 31);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private FolhaExportacaoJdbcReader reader;
+
+    @Test
+    void percorrer_comFicha_leFichaLinhaComFetchSize() throws Exception {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq(INICIO), eq(FIM), eq(false)))
+            .thenReturn(true);
+
+        reader.percorrer(INICIO, FIM, false, null, linha -> { });
+
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowCallbackHandler.class));
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(connection.prepareStatement(sql.capture(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+            .thenReturn(ps);
+
+        creator.getValue().createPreparedStatement(connection);
+
+        assertTrue(sql.getValue().contains("FROM ficha_linha"));
+        assertFalse(sql.getValue().contains(" IN ("));
+        verify(ps).setFetchSize(FolhaExportacaoJdbcReader.FETCH_SIZE);
+        verify(ps).setObject(1, INICIO);
+        verify(ps).setObject(3, false);
+    }
+
+    @Test
+    void percorrer_semFichaComEscopo_leFolhaPagamentoNosCentros() throws Exception {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq(INICIO), eq(FIM), eq(true)))
+            .thenReturn(false);
+
+        reader.percorrer(INICIO, FIM, true, Set.of(10L, 20L), linha -> { });
+
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowCallbackHandler.class));
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(connection.prepareStatement(sql.capture(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+            .thenReturn(ps);
+
+        creator.getValue().createPreparedStatement(connection);
+
+        assertTrue(sql.getValue().contains("FROM folha_pagamento"));
+        assertTrue(sql.getValue().endsWith("IN (?, ?)"));
+        ArgumentCaptor<Object> centro = ArgumentCaptor.forClass(Object.class);
+        verify(ps).setObject(eq(4), centro.capture());
+        verify(ps).setObject(eq(5), centro.capture());
+        assertEquals(Set.of(10L, 20L), Set.copyOf(centro.getAllValues()));
+    }
+
+    @Test
+    void percorrer_escopoVazio_naoConsulta() {
+        reader.percorrer(INICIO, FIM, false, Set.of(), linha -> { });
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void percorrer_entregaCadaLinhaMapeada() throws Exception {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq(INICIO), eq(FIM), eq(false)))
+            .thenReturn(true);
+        ResultSet rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        when(rs.getObject("competencia_inicio", LocalDate.class)).thenReturn(INICIO);
+        when(rs.getLong("funcionario_id")).thenReturn(7L);
+        when(rs.getString("rubrica_codigo")).thenReturn("001");
+        when(rs.getBigDecimal("valor")).thenReturn(new BigDecimal("1500.00"));
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        List<FolhaExportacaoLinha> linhas = new ArrayList<>();
+
+        reader.percorrer(INICIO, FIM, false, null, linhas::add);
+
+        assertEquals(1, linhas.size());
+        assertEquals(INICIO, linhas.get(0).competenciaInicio());
+        assertEquals(7L, linhas.get(0).funcionarioId());
+        assertEquals("001", linhas.get(0).rubricaCodigo());
+        assertEquals(new BigDecimal("1500.00"), linhas.get(0).valor());
+    }
+}
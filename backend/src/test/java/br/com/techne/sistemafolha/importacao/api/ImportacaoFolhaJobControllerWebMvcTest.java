@@ -0,0 +1,137 @@
+package br.com.techne.sistemafolha.importacao.api;
+
+import br.com.techne.sistemafolha.auth.application.ApiKeyService;
+import br.com.techne.sistemafolha.config.SecurityConfig;
+import br.com.techne.sistemafolha.exception.GlobalExceptionHandler;
+import br.com.techne.sistemafolha.importacao.application.ImportacaoFolhaJobService;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobEstadoInvalidoException;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobFase;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobNotFoundException;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobStatus;
+import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ImportacaoFolhaJobController.class)
+@Import({SecurityConfig.class, GlobalExceptionHandler.class})
+class ImportacaoFolhaJobControllerWebMvcTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImportacaoFolhaJobService importacaoFolhaJobService;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UsuarioPrincipalCache usuarioPrincipalCache;
+
+    @MockBean
+    private ApiKeyService apiKeyService;
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void criar_arquivoValido_retorna202ComJob() throws Exception {
+        MockMultipartFile arquivo = new MockMultipartFile(
+            "arquivo", "folha.txt", "text/plain", new byte[] {1});
+        when(importacaoFolhaJobService.criar(eq("admin"), any(), eq(false), eq(true)))
+            .thenReturn(dto(ImportacaoJobStatus.PENDENTE, null, null));
+
+        mockMvc.perform(multipart("/importacao/folha-adp/jobs")
+                .file(arquivo)
+                .param("confirmarSubstituicao", "true"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.id").value(9))
+            .andExpect(jsonPath("$.status").value("PENDENTE"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void criar_formatoInvalido_retorna400() throws Exception {
+        MockMultipartFile arquivo = new MockMultipartFile(
+            "arquivo", "folha.xlsx", "application/octet-stream", new byte[] {1});
+        when(importacaoFolhaJobService.criar(eq("admin"), any(), eq(false), eq(false)))
+            .thenThrow(new IllegalArgumentException("Formato de arquivo inválido. Use apenas arquivos .txt"));
+
+        mockMvc.perform(multipart("/importacao/folha-adp/jobs").file(arquivo))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Formato de arquivo inválido. Use apenas arquivos .txt"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void consultar_jobEmProcessamento_retornaFaseEProgresso() throws Exception {
+        when(importacaoFolhaJobService.consultar("admin", 9L))
+            .thenReturn(dto(ImportacaoJobStatus.EM_ANDAMENTO, ImportacaoJobFase.PROCESSAMENTO, null));
+
+        mockMvc.perform(get("/importacao/folha-adp/jobs/9"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.fase").value("PROCESSAMENTO"))
+            .andExpect(jsonPath("$.linhasImportadas").value(120));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void consultar_jobInexistente_retorna404() throws Exception {
+        when(importacaoFolhaJobService.consultar("admin", 99L)).thenThrow(new ImportacaoJobNotFoundException(99L));
+
+        mockMvc.perform(get("/importacao/folha-adp/jobs/99"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void retomar_jobConcluido_retorna409() throws Exception {
+        when(importacaoFolhaJobService.retomar("admin", 9L, null))
+            .thenThrow(new ImportacaoJobEstadoInvalidoException(ImportacaoJobStatus.CONCLUIDO));
+
+        mockMvc.perform(post("/importacao/folha-adp/jobs/9/retomar"))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void retomar_comConfirmarSubstituicao_repassaAoServico() throws Exception {
+        when(importacaoFolhaJobService.retomar("admin", 9L, true))
+            .thenReturn(dto(ImportacaoJobStatus.PENDENTE, ImportacaoJobFase.PROCESSAMENTO, null));
+
+        mockMvc.perform(post("/importacao/folha-adp/jobs/9/retomar").param("confirmarSubstituicao", "true"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.status").value("PENDENTE"));
+    }
+
+    @Test
+    void consultar_semAuth_retorna403() throws Exception {
+        mockMvc.perform(get("/importacao/folha-adp/jobs/9"))
+            .andExpect(status().isForbidden());
+    }
+
+    private ImportacaoFolhaJobDTO dto(ImportacaoJobStatus status, ImportacaoJobFase fase, String erro) {
+        return new ImportacaoFolhaJobDTO(
+            9L, "folha.txt", 1L, status, fase,
+            LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 31), false,
+            130, 120, null, null, 1, false, erro,
+            LocalDateTime.of(2026, 6, 15, 9, 0), LocalDateTime.of(2026, 6, 15, 9, 1), null);
+    }
+}
@@ -0,0 +1,185 @@
+package br.com.techne.sistemafolha.importacao.application;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AdpRelatorioParserTest {
+
+    /** Regex do parser linha a linha anterior — referência de equivalência para a varredura manual. */
+    private static final Pattern VALORES_REGEX = Pattern.compile("([\\d.,]+)\\s+([\\d.,]+)\\s+([\\d.,]+[+-]?)");
+    private static final Pattern TOTAL_ENCARGOS_REGEX = Pattern.compile("Total de Encargos\\s*:\\s*([\\d.,]+)");
+    private static final String ALFABETO = "0123456789.,+- \taX:";
+
+    @Test
+    void ler_relatorioCompleto_classificaLinhasEmUmaPassada() throws IOException {
+        AdpRelatorioParser.Relatorio relatorio = ler(
+            "Competência: 01/10/2024 a 31/10/2024\n"
+                + linhaRubrica("0010 SALARIO", "1,00 9,99 9,99+") + "\n"
+                + linhaAdmissao("12345", "JOAO") + "\n"
+                + linhaRubrica("0010 SALARIO BASE", "1,00 1.000,00 1.000,00+")
+                + linhaRubrica("0020 INSS", "1,00 1.000,00 110,00-") + "\n"
+                + "Total de Empregados: 1   Total de Encargos: 100,00\n"
+                + "Total de Pagamentos: 1.000,00\n"
+                + "Total de Descontos: 110,00\n"
+                + "Total Líquido: 890,00\n");
+
+        assertEquals(LocalDate.of(2024, 10, 1), relatorio.competenciaInicio());
+        assertEquals(LocalDate.of(2024, 10, 31), relatorio.competenciaFim());
+        assertEquals(1, relatorio.admissoes().size());
+        assertEquals(new AdpRelatorioParser.Admissao("12345", "JOAO"), relatorio.admissoes().get(0));
+        assertEquals(3, relatorio.lancamentos().size());
+        assertNull(relatorio.lancamentos().get(0).idExternoFuncionario());
+
+        AdpRelatorioParser.Lancamento salario = relatorio.lancamentos().get(1);
+        assertEquals("12345", salario.idExternoFuncionario());
+        assertEquals("0010", salario.codigo());
+        assertEquals("SALARIO BASE", salario.descricao());
+        assertEquals("PROVENTO", salario.tipoRubricaDescricao());
+        assertEquals(new BigDecimal("1000.00"), salario.valor());
+        assertEquals(new BigDecimal("1.00"), salario.quantidade());
+
+        AdpRelatorioParser.Lancamento inss = relatorio.lancamentos().get(2);
+        assertEquals("0020", inss.codigo());
+        assertEquals("DESCONTO", inss.tipoRubricaDescricao());
+        assertEquals(new BigDecimal("110.00"), inss.valor());
+
+        assertEquals(1, relatorio.totalEmpregados());
+        assertEquals(new BigDecimal("100.00"), relatorio.totalEncargos());
+        assertEquals(new BigDecimal("1000.00"), relatorio.totalPagamentos());
+        assertEquals(new BigDecimal("110.00"), relatorio.totalDescontos());
+        assertEquals(new BigDecimal("890.00"), relatorio.totalLiquido());
+    }
+
+    @Test
+    void ler_competenciaIncompleta_naoDefinePeriodo() throws IOException {
+        assertNull(ler("Competência: 01/10/2024\n").competenciaInicio());
+        assertNull(ler("Competência:\n").competenciaInicio());
+        assertNull(ler("Sem cabecalho\n").competenciaInicio());
+    }
+
+    @Test
+    void ler_competenciaDataInvalida_usaProximoCabecalhoValido() throws IOException {
+        AdpRelatorioParser.Relatorio relatorio = ler(
+            "Competência: 99/99/9999 a 99/99/9999\n"
+                + "Competência: 01/11/2024 a 30/11/2024\n");
+
+        assertEquals(LocalDate.of(2024, 11, 1), relatorio.competenciaInicio());
+        assertEquals(LocalDate.of(2024, 11, 30), relatorio.competenciaFim());
+    }
+
+    @Test
+    void ler_totalEmpregadosOverflow_mantemNulo() throws IOException {
+        assertNull(ler("Total de Empregados: 999999999999999999999\n").totalEmpregados());
+    }
+
+    @Test
+    void lerLancamento_linhaCurta_retornaNull() {
+        assertNull(new AdpRelatorioParser().lerLancamento("123456", 0, 31, 32, 65));
+    }
+
+    @Test
+    void lerLancamento_indicesInvalidos_capturaStringIndexOutOfBounds() {
+        assertNull(new AdpRelatorioParser().lerLancamento("x".repeat(70), 0, 80, 32, 65));
+    }
+
+    @Test
+    void lerLancamento_rubricaSemDescricao_retornaNull() {
+        assertNull(new AdpRelatorioParser().lerLancamento(
+            linhaRubrica("0010", "1,00 1000,00 1000,00+"), 0, 31, 32, 65));
+    }
+
+    @Test
+    void extrairValores_trioComSinal_separaQuantidadeBaseValor() {
+        assertArrayEquals(new String[] {"1,00", "1.000,00", "1.000,00+"},
+            AdpRelatorioParser.extrairValores("1,00 1.000,00 1.000,00+"));
+        assertArrayEquals(new String[] {"2", "3", "4-"},
+            AdpRelatorioParser.extrairValores("x 1a 2 3 4- y"));
+        assertNull(AdpRelatorioParser.extrairValores("sem numeros aqui"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {3L, 2024L, 77_777L})
+    void extrairValores_entradasAleatorias_identicoAoRegex(long semente) {
+        SplittableRandom random = new SplittableRandom(semente);
+        for (int caso = 0; caso < 5_000; caso++) {
+            String valores = textoAleatorio(random);
+            Matcher matcher = VALORES_REGEX.matcher(valores);
+            String[] esperado = matcher.find()
+                ? new String[] {matcher.group(1), matcher.group(2), matcher.group(3)}
+                : null;
+
+            assertArrayEquals(esperado, AdpRelatorioParser.extrairValores(valores), () -> "valores='" + valores + "'");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {5L, 99L})
+    void valorAposRotulo_entradasAleatorias_identicoAoRegex(long semente) {
+        SplittableRandom random = new SplittableRandom(semente);
+        for (int caso = 0; caso < 5_000; caso++) {
+            String linha = textoAleatorio(random) + "Total de Encargos" + textoAleatorio(random)
+                + (random.nextBoolean() ? "Total de Encargos" + textoAleatorio(random) : "");
+            Matcher matcher = TOTAL_ENCARGOS_REGEX.matcher(linha);
+            String esperado = matcher.find() ? matcher.group(1) : null;
+
+            assertEquals(esperado, AdpRelatorioParser.valorAposRotulo(linha, "Total de Encargos", false),
+                () -> "linha='" + linha + "'");
+        }
+    }
+
+    @Test
+    void parseValor_casosLimite() {
+        assertEquals(BigDecimal.ZERO, AdpRelatorioParser.parseValor(null));
+        assertEquals(BigDecimal.ZERO, AdpRelatorioParser.parseValor("   "));
+        assertEquals(BigDecimal.ZERO, AdpRelatorioParser.parseValor("."));
+        assertEquals(BigDecimal.ZERO, AdpRelatorioParser.parseValor("abc"));
+        assertEquals(BigDecimal.ZERO, AdpRelatorioParser.parseValor("-"));
+        assertEquals(BigDecimal.ZERO, AdpRelatorioParser.parseValor("+"));
+        assertEquals(BigDecimal.ZERO, AdpRelatorioParser.parseValor("---"));
+        assertEquals(new BigDecimal("1234.56"), AdpRelatorioParser.parseValor("1.234,56+"));
+    }
+
+    @Test
+    void determinarTipoRubricaDescricao_todosRamos() {
+        assertEquals("INFORMATIVO", AdpRelatorioParser.determinarTipoRubricaDescricao(null));
+        assertEquals("INFORMATIVO", AdpRelatorioParser.determinarTipoRubricaDescricao(""));
+        assertEquals("PROVENTO", AdpRelatorioParser.determinarTipoRubricaDescricao("+"));
+        assertEquals("DESCONTO", AdpRelatorioParser.determinarTipoRubricaDescricao("-"));
+        assertEquals("INFORMATIVO", AdpRelatorioParser.determinarTipoRubricaDescricao("X"));
+    }
+
+    private AdpRelatorioParser.Relatorio ler(String conteudo) throws IOException {
+        return new AdpRelatorioParser().ler(new BufferedReader(new StringReader(conteudo)));
+    }
+
+    private String textoAleatorio(SplittableRandom random) {
+        int tamanho = random.nextInt(0, 24);
+        StringBuilder sb = new StringBuilder(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            sb.append(ALFABETO.charAt(random.nextInt(ALFABETO.length())));
+        }
+        return sb.toString();
+    }
+
+    private String linhaRubrica(String rubrica, String valores) {
+        return String.format("%-32s", rubrica) + String.format("%-34s", valores);
+    }
+
+    private String linhaAdmissao(String idExterno, String nome) {
+        return " ".repeat(50) + String.format("%-7s", idExterno) + String.format("%-39s", nome) + "Admissao";
+    }
+}
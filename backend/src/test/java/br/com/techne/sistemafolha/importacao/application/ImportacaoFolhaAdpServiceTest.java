@@ -9,7 +9,6 @@ import br.com.techne.sistemafolha.folha.domain.FolhaDuplicadaException;
 import br.com.techne.sistemafolha.folha.domain.FolhaProcessamentoFalhaException;
 import br.com.techne.sistemafolha.folha.port.FolhaConsultaPort;
 import br.com.techne.sistemafolha.folha.port.FolhaImportacaoCommand;
-import br.com.techne.sistemafolha.folha.port.FolhaImportacaoLinhaCommand;
 import br.com.techne.sistemafolha.folha.port.FolhaImportacaoPort;
 import br.com.techne.sistemafolha.folha.port.FolhaProcessamentoPort;
 import org.junit.jupiter.api.Test;
@@ -29,10 +28,8 @@ import java.math.BigDecimal;
 import java.nio.charset.Charset;
 import java.time.Clock;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -79,16 +76,10 @@ class ImportacaoFolhaAdpServiceTest {
             1L, "12345", "João", "12345678901", 3L, 4L, 5L);
         when(folhaConsultaPort.existsResumoAtivo(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
             .thenReturn(false);
-        when(cadastrosImportLookupPort.findFuncionarioByIdExterno("12345"))
-            .thenReturn(Optional.of(funcionario));
+        when(cadastrosImportLookupPort.findFuncionariosByIdExternos(Set.of("12345")))
+            .thenReturn(Map.of("12345", funcionario));
         when(cadastrosImportLookupPort.findOrCreateRubrica(eq("0010"), anyString(), anyString()))
             .thenReturn(new RubricaImportRef(2L, "0010", "PROVENTO"));
-        when(folhaConsultaPort.existsAtivaByCpfAndCompetenciaExcludingFuncionario(
-            eq("12345678901"), eq(1L), eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM), eq(false)))
-            .thenReturn(false);
-        when(folhaConsultaPort.existsByFuncionarioIdAndRubricaIdAndPeriodo(
-            eq(1L), eq(2L), eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM), eq(false)))
-            .thenReturn(false);
         FolhaPagamentoDTO dto = new FolhaPagamentoDTO(
             1L, 10L, "João", 2L, "0010", "Salário", "PROVENTO",
             3L, "Analista", 4L, "CC", 5L, "LN",
@@ -112,8 +103,8 @@ class ImportacaoFolhaAdpServiceTest {
         MockMultipartFile arquivo = fixture("importacao/folha-adp-invalid.txt");
         when(folhaConsultaPort.existsResumoAtivo(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
             .thenReturn(false);
-        when(cadastrosImportLookupPort.findFuncionarioByIdExterno("99999"))
-            .thenReturn(Optional.empty());
+        when(cadastrosImportLookupPort.findFuncionariosByIdExternos(Set.of("99999")))
+            .thenReturn(Map.of());
 
         RuntimeException ex = assertThrows(
             RuntimeException.class,
@@ -167,13 +158,13 @@ class ImportacaoFolhaAdpServiceTest {
             1L, "12345", "João", "12345678901", 3L, 4L, 5L);
         when(folhaConsultaPort.existsResumoAtivo(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
             .thenReturn(false);
-        when(cadastrosImportLookupPort.findFuncionarioByIdExterno("12345"))
-            .thenReturn(Optional.of(funcionario));
+        when(cadastrosImportLookupPort.findFuncionariosByIdExternos(Set.of("12345")))
+            .thenReturn(Map.of("12345", funcionario));
         when(cadastrosImportLookupPort.findOrCreateRubrica(eq("0010"), anyString(), anyString()))
             .thenReturn(new RubricaImportRef(2L, "0010", "PROVENTO"));
-        when(folhaConsultaPort.existsAtivaByCpfAndCompetenciaExcludingFuncionario(
-            eq("12345678901"), eq(1L), eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM), eq(false)))
-            .thenReturn(true);
+        when(folhaConsultaPort.findFuncionariosComFolhaAtivaPorCpf(
+            Set.of("12345678901"), COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(Map.of("12345678901", Set.of(1L, 99L)));
 
         RuntimeException ex = assertThrows(
             RuntimeException.class,
@@ -191,16 +182,13 @@ class ImportacaoFolhaAdpServiceTest {
             1L, "12345", "João", "12345678901", 3L, 4L, 5L);
         when(folhaConsultaPort.existsResumoAtivo(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
             .thenReturn(false);
-        when(cadastrosImportLookupPort.findFuncionarioByIdExterno("12345"))
-            .thenReturn(Optional.of(funcionario));
+        when(cadastrosImportLookupPort.findFuncionariosByIdExternos(Set.of("12345")))
+            .thenReturn(Map.of("12345", funcionario));
         when(cadastrosImportLookupPort.findOrCreateRubrica(eq("0010"), anyString(), anyString()))
             .thenReturn(new RubricaImportRef(2L, "0010", "PROVENTO"));
-        when(folhaConsultaPort.existsAtivaByCpfAndCompetenciaExcludingFuncionario(
-            eq("12345678901"), eq(1L), eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM), eq(false)))
-            .thenReturn(false);
-        when(folhaConsultaPort.existsByFuncionarioIdAndRubricaIdAndPeriodo(
-            eq(1L), eq(2L), eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM), eq(false)))
-            .thenReturn(true);
+        when(folhaConsultaPort.findRubricasAtivasPorFuncionario(
+            Set.of(1L), COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(Map.of(1L, Set.of(2L)));
         when(folhaImportacaoPort.persistirImportacao(any())).thenReturn(List.of());
         when(folhaProcessamentoPort.processar(
             eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM), eq(false), eq(false)))
@@ -229,7 +217,7 @@ class ImportacaoFolhaAdpServiceTest {
         assertFalse(ex.isDecimoTerceiro());
         verify(folhaImportacaoPort, never()).persistirImportacao(any());
         verify(folhaProcessamentoPort, never()).processar(any(), any(), anyBoolean(), anyBoolean());
-        verify(cadastrosImportLookupPort, never()).findFuncionarioByIdExterno(any());
+        verify(cadastrosImportLookupPort, never()).findFuncionariosByIdExternos(any());
     }
 
     @Test
@@ -291,13 +279,10 @@ class ImportacaoFolhaAdpServiceTest {
 
         FuncionarioImportRef funcionario = new FuncionarioImportRef(
             1L, "12345", "João", "12345678901", 3L, 4L, 5L);
-        when(cadastrosImportLookupPort.findFuncionarioByIdExterno("12345"))
-            .thenReturn(Optional.of(funcionario));
+        when(cadastrosImportLookupPort.findFuncionariosByIdExternos(Set.of("12345")))
+            .thenReturn(Map.of("12345", funcionario));
         when(cadastrosImportLookupPort.findOrCreateRubrica(eq("0010"), anyString(), anyString()))
             .thenReturn(new RubricaImportRef(2L, "0010", "PROVENTO"));
-        when(folhaConsultaPort.existsAtivaByCpfAndCompetenciaExcludingFuncionario(
-            eq("12345678901"), eq(1L), eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM), eq(false)))
-            .thenReturn(false);
         when(folhaImportacaoPort.persistirImportacao(any())).thenReturn(List.of());
         when(folhaProcessamentoPort.processar(
             eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM), eq(false), eq(false)))
@@ -312,8 +297,8 @@ class ImportacaoFolhaAdpServiceTest {
         assertFalse(command.linhas().isEmpty());
         assertEquals(1L, command.linhas().get(0).funcionarioId());
         assertEquals(2L, command.linhas().get(0).rubricaId());
-        verify(folhaConsultaPort, never()).existsByFuncionarioIdAndRubricaIdAndPeriodo(
-            any(), any(), any(), any(), anyBoolean());
+        verify(folhaConsultaPort, never()).findRubricasAtivasPorFuncionario(
+            any(), any(), any(), anyBoolean());
         verify(folhaProcessamentoPort).processar(COMPETENCIA_INICIO, COMPETENCIA_FIM, false, false);
     }
 
@@ -361,8 +346,8 @@ class ImportacaoFolhaAdpServiceTest {
         MockMultipartFile arquivo = arquivoComFuncionarioInexistente();
         when(folhaConsultaPort.existsResumoAtivo(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
             .thenReturn(false);
-        when(cadastrosImportLookupPort.findFuncionarioByIdExterno("99999"))
-            .thenReturn(Optional.empty());
+        when(cadastrosImportLookupPort.findFuncionariosByIdExternos(Set.of("99999")))
+            .thenReturn(Map.of());
 
         RuntimeException ex = assertThrows(
             RuntimeException.class,
@@ -436,8 +421,6 @@ class ImportacaoFolhaAdpServiceTest {
                 }
                 return new RubricaImportRef(2L, "0010", "PROVENTO");
             });
-        when(folhaConsultaPort.existsByFuncionarioIdAndRubricaIdAndPeriodo(
-            any(), any(), any(), any(), anyBoolean())).thenReturn(false);
 
         importacaoFolhaAdpService.importarFolhaAdp(arquivo, false, false);
 
@@ -608,23 +591,7 @@ class ImportacaoFolhaAdpServiceTest {
         assertEquals("falha direta", ex.getMessage());
     }
 
-    @Test
-    void parseBigDecimal_casosLimite() throws Exception {
-        assertEquals(BigDecimal.ZERO, invokeParseBigDecimal(null));
-        assertEquals(BigDecimal.ZERO, invokeParseBigDecimal("   "));
-        assertEquals(BigDecimal.ZERO, invokeParseBigDecimal("."));
-        assertEquals(BigDecimal.ZERO, invokeParseBigDecimal("abc"));
-        assertEquals(new BigDecimal("1234.56"), invokeParseBigDecimal("1.234,56+"));
-    }
 
-    @Test
-    void determinarTipoRubrica_todosRamos() throws Exception {
-        assertEquals("INFORMATIVO", invokeDeterminarTipo(null));
-        assertEquals("INFORMATIVO", invokeDeterminarTipo(""));
-        assertEquals("PROVENTO", invokeDeterminarTipo("+"));
-        assertEquals("DESCONTO", invokeDeterminarTipo("-"));
-        assertEquals("INFORMATIVO", invokeDeterminarTipo("X"));
-    }
 
     @Test
     void importar_linhaComprimento130_aplicaPadding() throws Exception {
@@ -643,17 +610,80 @@ class ImportacaoFolhaAdpServiceTest {
         assertEquals(1, captor.getValue().linhas().size());
     }
 
+    @Test
+    void importar_rubricaJaCadastrada_resolvidaEmLoteSemCriar() throws Exception {
+        MockMultipartFile arquivo = arquivoBytes(
+            "Competência: 01/10/2024 a 31/10/2024\n"
+                + linhaAdmissao("12345", "JOAO") + "\n"
+                + linhaRubricaSimples("0010 SALARIO", "1,00 1000,00 1000,00+") + "\n"
+                + linhaRubricaSimples("0010 SALARIO", "1,00 500,00 500,00+") + "\n");
+        stubImportacaoSemProcessarRubricas();
+        when(cadastrosImportLookupPort.findRubricasByCodigos(Set.of("0010")))
+            .thenReturn(Map.of("0010", new RubricaImportRef(2L, "0010", "PROVENTO")));
+
+        importacaoFolhaAdpService.importarFolhaAdp(arquivo, false, false);
+
+        ArgumentCaptor<FolhaImportacaoCommand> captor = ArgumentCaptor.forClass(FolhaImportacaoCommand.class);
+        verify(folhaImportacaoPort).persistirImportacao(captor.capture());
+        assertEquals(2, captor.getValue().linhas().size());
+        assertEquals(new BigDecimal("500.00"), captor.getValue().linhas().get(1).valor());
+        verify(cadastrosImportLookupPort, never()).findOrCreateRubrica(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void importar_rubricaNovaRepetida_criaUmaVez() throws Exception {
+        MockMultipartFile arquivo = arquivoBytes(
+            "Competência: 01/10/2024 a 31/10/2024\n"
+                + linhaAdmissao("12345", "JOAO") + "\n"
+                + linhaRubricaSimples("0010 SALARIO", "1,00 1000,00 1000,00+") + "\n"
+                + linhaAdmissao("12346", "MARIA") + "\n"
+                + linhaRubricaSimples("0010 SALARIO", "1,00 800,00 800,00+") + "\n");
+        FuncionarioImportRef maria = new FuncionarioImportRef(6L, "12346", "Maria", "98765432100", 3L, 4L, 5L);
+        when(folhaConsultaPort.existsResumoAtivo(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(false);
+        when(cadastrosImportLookupPort.findFuncionariosByIdExternos(Set.of("12345", "12346")))
+            .thenReturn(Map.of("12345", funcionarioPadrao(), "12346", maria));
+        when(cadastrosImportLookupPort.findOrCreateRubrica("0010", "SALARIO", "PROVENTO"))
+            .thenReturn(new RubricaImportRef(2L, "0010", "PROVENTO"));
+        when(folhaImportacaoPort.persistirImportacao(any())).thenReturn(List.of());
+        when(folhaProcessamentoPort.processar(
+            eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM), eq(false), eq(false)))
+            .thenReturn(new ProcessamentoResultadoDTO(2, 2, 2));
+
+        importacaoFolhaAdpService.importarFolhaAdp(arquivo, false, false);
+
+        ArgumentCaptor<FolhaImportacaoCommand> captor = ArgumentCaptor.forClass(FolhaImportacaoCommand.class);
+        verify(folhaImportacaoPort).persistirImportacao(captor.capture());
+        assertEquals(List.of(1L, 6L), captor.getValue().linhas().stream()
+            .map(l -> l.funcionarioId()).toList());
+        verify(cadastrosImportLookupPort).findOrCreateRubrica("0010", "SALARIO", "PROVENTO");
+    }
+
+    @Test
+    void importar_cpfComFolhaApenasDoProprioFuncionario_naoConflita() throws Exception {
+        MockMultipartFile arquivo = arquivoBytes(
+            "Competência: 01/10/2024 a 31/10/2024\n"
+                + linhaAdmissao("12345", "JOAO") + "\n"
+                + linhaRubricaSimples("0010 SALARIO", "1,00 1000,00 1000,00+") + "\n");
+        stubImportacaoHappyPath(funcionarioPadrao());
+        when(folhaConsultaPort.findFuncionariosComFolhaAtivaPorCpf(
+            Set.of("12345678901"), COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
+            .thenReturn(Map.of("12345678901", Set.of(1L)));
+
+        importacaoFolhaAdpService.importarFolhaAdp(arquivo, false, false);
+
+        ArgumentCaptor<FolhaImportacaoCommand> captor = ArgumentCaptor.forClass(FolhaImportacaoCommand.class);
+        verify(folhaImportacaoPort).persistirImportacao(captor.capture());
+        assertEquals(1, captor.getValue().linhas().size());
+    }
+
     private void stubImportacaoHappyPath(FuncionarioImportRef funcionario) {
         when(folhaConsultaPort.existsResumoAtivo(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
             .thenReturn(false);
-        when(cadastrosImportLookupPort.findFuncionarioByIdExterno("12345"))
-            .thenReturn(Optional.of(funcionario));
+        when(cadastrosImportLookupPort.findFuncionariosByIdExternos(Set.of("12345")))
+            .thenReturn(Map.of("12345", funcionario));
         when(cadastrosImportLookupPort.findOrCreateRubrica(anyString(), anyString(), anyString()))
             .thenAnswer(inv -> new RubricaImportRef(2L, inv.getArgument(0), "PROVENTO"));
-        when(folhaConsultaPort.existsAtivaByCpfAndCompetenciaExcludingFuncionario(
-            anyString(), any(), any(), any(), anyBoolean())).thenReturn(false);
-        when(folhaConsultaPort.existsByFuncionarioIdAndRubricaIdAndPeriodo(
-            any(), any(), any(), any(), anyBoolean())).thenReturn(false);
         when(folhaImportacaoPort.persistirImportacao(any())).thenReturn(List.of());
         when(folhaProcessamentoPort.processar(
             eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM), eq(false), eq(false)))
@@ -707,8 +737,8 @@ class ImportacaoFolhaAdpServiceTest {
     private void stubImportacaoSemProcessarRubricas() {
         when(folhaConsultaPort.existsResumoAtivo(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
             .thenReturn(false);
-        when(cadastrosImportLookupPort.findFuncionarioByIdExterno("12345"))
-            .thenReturn(Optional.of(funcionarioPadrao()));
+        when(cadastrosImportLookupPort.findFuncionariosByIdExternos(Set.of("12345")))
+            .thenReturn(Map.of("12345", funcionarioPadrao()));
         when(folhaImportacaoPort.persistirImportacao(any())).thenReturn(List.of());
         when(folhaProcessamentoPort.processar(
             eq(COMPETENCIA_INICIO), eq(COMPETENCIA_FIM), eq(false), eq(false)))
@@ -721,17 +751,7 @@ class ImportacaoFolhaAdpServiceTest {
             conteudo.getBytes(Charset.forName("WINDOWS-1252")));
     }
 
-    private BigDecimal invokeParseBigDecimal(String valor) throws Exception {
-        var method = ImportacaoFolhaAdpService.class.getDeclaredMethod("parseBigDecimal", String.class);
-        method.setAccessible(true);
-        return (BigDecimal) method.invoke(importacaoFolhaAdpService, valor);
-    }
 
-    private String invokeDeterminarTipo(String tipo) throws Exception {
-        var method = ImportacaoFolhaAdpService.class.getDeclaredMethod("determinarTipoRubricaDescricao", String.class);
-        method.setAccessible(true);
-        return (String) method.invoke(importacaoFolhaAdpService, tipo);
-    }
 
     @Test
     void importar_decimoTerceiroNull_competenciaOutubro_usaFalse() throws Exception {
@@ -812,18 +832,7 @@ class ImportacaoFolhaAdpServiceTest {
         assertTrue(captor.getValue().linhas().isEmpty());
     }
 
-    @Test
-    void parseBigDecimal_apenasSinal_retornaZero() throws Exception {
-        assertEquals(BigDecimal.ZERO, invokeParseBigDecimal("-"));
-    }
 
-    @Test
-    void extrairPeriodo_competenciaValida() throws Exception {
-        MockMultipartFile arquivo = arquivoComCompetencia();
-        LocalDate[] periodo = invokeExtrairPeriodo(arquivo);
-        assertEquals(COMPETENCIA_INICIO, periodo[0]);
-        assertEquals(COMPETENCIA_FIM, periodo[1]);
-    }
 
     @Test
     void importar_linhaComQuintoCharNaoBlank_ignoraComoRubrica() throws Exception {
@@ -904,18 +913,7 @@ class ImportacaoFolhaAdpServiceTest {
         assertTrue(captor.getValue().linhas().isEmpty());
     }
 
-    @Test
-    void extrairPeriodo_competenciaIncompleta() throws Exception {
-        LocalDate[] periodo = invokeExtrairPeriodo(arquivoBytes("Competência: 01/10/2024\n"));
-        assertNotNull(periodo[0]);
-        assertNotNull(periodo[1]);
-    }
 
-    @Test
-    void extrairPeriodo_competenciaSemDatas() throws Exception {
-        LocalDate[] periodo = invokeExtrairPeriodo(arquivoBytes("Competência:\n"));
-        assertNotNull(periodo[0]);
-    }
 
     @Test
     void importar_resumoFaltandoLiquido_naoMontaResumo() throws Exception {
@@ -947,27 +945,22 @@ class ImportacaoFolhaAdpServiceTest {
         importarResumoParcial(arquivoBytes(conteudo));
     }
 
-    @Test
-    void parseBigDecimal_apenasMais_retornaZero() throws Exception {
-        assertEquals(BigDecimal.ZERO, invokeParseBigDecimal("+"));
-    }
 
-    @Test
-    void extrairPeriodo_arquivoSemCompetencia_usaFallback() throws Exception {
-        LocalDate[] periodo = invokeExtrairPeriodo(arquivoBytes("Sem cabecalho\n"));
-        assertNotNull(periodo[0]);
-    }
 
     @Test
     void importar_ioExceptionDuranteLeitura_encapsulaRuntimeException() throws Exception {
         MultipartFile arquivo = org.mockito.Mockito.mock(MultipartFile.class);
         when(arquivo.getOriginalFilename()).thenReturn("folha.txt");
         when(arquivo.getSize()).thenReturn(10L);
-        when(arquivo.getInputStream())
-            .thenReturn(new java.io.ByteArrayInputStream(
-                "Competência: 01/10/2024 a 31/10/2024\n".getBytes(Charset.forName("WINDOWS-1252"))))
-            .thenThrow(new IOException("falha leitura"));
-        when(folhaConsultaPort.existsResumoAtivo(any(), any(), anyBoolean())).thenReturn(false);
+        when(arquivo.getInputStream()).thenReturn(new java.io.SequenceInputStream(
+            new java.io.ByteArrayInputStream(
+                "Competência: 01/10/2024 a 31/10/2024\n".getBytes(Charset.forName("WINDOWS-1252"))),
+            new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("falha leitura");
+                }
+            }));
 
         RuntimeException ex = assertThrows(RuntimeException.class,
             () -> importacaoFolhaAdpService.importarFolhaAdp(arquivo, false, false));
@@ -983,8 +976,8 @@ class ImportacaoFolhaAdpServiceTest {
                 + linhaRubricaSimples("0010 SALARIO", "1,00 1000,00 1000,00+") + "\n");
         when(folhaConsultaPort.existsResumoAtivo(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
             .thenReturn(false);
-        when(cadastrosImportLookupPort.findFuncionarioByIdExterno("12345"))
-            .thenReturn(Optional.of(funcionarioPadrao()));
+        when(cadastrosImportLookupPort.findFuncionariosByIdExternos(Set.of("12345")))
+            .thenReturn(Map.of("12345", funcionarioPadrao()));
         when(cadastrosImportLookupPort.findOrCreateRubrica(anyString(), anyString(), anyString()))
             .thenThrow(new RuntimeException("falha rubrica"));
         when(folhaImportacaoPort.persistirImportacao(any())).thenReturn(List.of());
@@ -999,12 +992,6 @@ class ImportacaoFolhaAdpServiceTest {
         assertTrue(captor.getValue().linhas().isEmpty());
     }
 
-    @Test
-    void extrairPeriodo_dataInvalida_caiNoCatch() throws Exception {
-        LocalDate[] periodo = invokeExtrairPeriodo(
-            arquivoBytes("Competência: 99/99/9999 a 99/99/9999\n"));
-        assertNotNull(periodo[0]);
-    }
 
     @Test
     void importar_segundaRubricaSemValores_pulaSegundaColuna() throws Exception {
@@ -1065,10 +1052,6 @@ class ImportacaoFolhaAdpServiceTest {
         assertTrue(captor.getValue().linhas().isEmpty());
     }
 
-    @Test
-    void parseBigDecimal_apenasTracos_retornaZero() throws Exception {
-        assertEquals(BigDecimal.ZERO, invokeParseBigDecimal("---"));
-    }
 
     @Test
     void importar_totalEmpregadosOverflow_naoMontaResumo() throws Exception {
@@ -1081,77 +1064,9 @@ class ImportacaoFolhaAdpServiceTest {
         importarResumoParcial(arquivoBytes(conteudo));
     }
 
-    @Test
-    void processarRubrica_funcionarioNull_naoAdicionaLinha() throws Exception {
-        var method = ImportacaoFolhaAdpService.class.getDeclaredMethod(
-            "processarRubrica",
-            String.class, int.class, int.class, int.class, int.class,
-            FuncionarioImportRef.class, LocalDate.class, LocalDate.class,
-            List.class, Set.class, boolean.class, boolean.class);
-        method.setAccessible(true);
-        List<FolhaImportacaoLinhaCommand> linhas = new ArrayList<>();
-        method.invoke(importacaoFolhaAdpService,
-            linhaRubricaSimples("0010 SAL", "1,00 1000,00 1000,00+"),
-            0, 31, 32, 65, null,
-            COMPETENCIA_INICIO, COMPETENCIA_FIM,
-            linhas, new LinkedHashSet<>(), false, false);
 
-        assertTrue(linhas.isEmpty());
-    }
 
-    @Test
-    void processarRubrica_indicesInvalidos_capturaStringIndexOutOfBounds() throws Exception {
-        var method = ImportacaoFolhaAdpService.class.getDeclaredMethod(
-            "processarRubrica",
-            String.class, int.class, int.class, int.class, int.class,
-            FuncionarioImportRef.class, LocalDate.class, LocalDate.class,
-            List.class, Set.class, boolean.class, boolean.class);
-        method.setAccessible(true);
-        List<FolhaImportacaoLinhaCommand> linhas = new ArrayList<>();
-        method.invoke(importacaoFolhaAdpService,
-            "x".repeat(70),
-            0, 80, 32, 65, funcionarioPadrao(),
-            COMPETENCIA_INICIO, COMPETENCIA_FIM,
-            linhas, new LinkedHashSet<>(), false, false);
 
-        assertTrue(linhas.isEmpty());
-    }
-
-    @Test
-    void processarRubrica_linhaCurta_naoAdicionaLinha() throws Exception {
-        var method = ImportacaoFolhaAdpService.class.getDeclaredMethod(
-            "processarRubrica",
-            String.class, int.class, int.class, int.class, int.class,
-            FuncionarioImportRef.class, LocalDate.class, LocalDate.class,
-            List.class, Set.class, boolean.class, boolean.class);
-        method.setAccessible(true);
-        List<FolhaImportacaoLinhaCommand> linhas = new ArrayList<>();
-        method.invoke(importacaoFolhaAdpService,
-            "123456",
-            0, 31, 32, 65, funcionarioPadrao(),
-            COMPETENCIA_INICIO, COMPETENCIA_FIM,
-            linhas, new LinkedHashSet<>(), false, false);
-
-        assertTrue(linhas.isEmpty());
-    }
-
-    @Test
-    void processarRubrica_formatoInvalido_naoAdicionaLinha() throws Exception {
-        var method = ImportacaoFolhaAdpService.class.getDeclaredMethod(
-            "processarRubrica",
-            String.class, int.class, int.class, int.class, int.class,
-            FuncionarioImportRef.class, LocalDate.class, LocalDate.class,
-            List.class, Set.class, boolean.class, boolean.class);
-        method.setAccessible(true);
-        List<FolhaImportacaoLinhaCommand> linhas = new ArrayList<>();
-        method.invoke(importacaoFolhaAdpService,
-            linhaRubricaSimples("0010", "1,00 1000,00 1000,00+"),
-            0, 31, 32, 65, funcionarioPadrao(),
-            COMPETENCIA_INICIO, COMPETENCIA_FIM,
-            linhas, new LinkedHashSet<>(), false, false);
-
-        assertTrue(linhas.isEmpty());
-    }
 
     private void importarResumoParcial(MockMultipartFile arquivo) throws Exception {
         when(folhaConsultaPort.existsResumoAtivo(COMPETENCIA_INICIO, COMPETENCIA_FIM, false))
@@ -1168,12 +1083,6 @@ class ImportacaoFolhaAdpServiceTest {
         assertEquals(null, captor.getValue().resumo());
     }
 
-    private LocalDate[] invokeExtrairPeriodo(MockMultipartFile arquivo) throws Exception {
-        var method = ImportacaoFolhaAdpService.class.getDeclaredMethod(
-            "extrairPeriodoCompetencia", org.springframework.web.multipart.MultipartFile.class);
-        method.setAccessible(true);
-        return (LocalDate[]) method.invoke(importacaoFolhaAdpService, arquivo);
-    }
 
     private MockMultipartFile fixture(String classpathLocation) throws IOException {
         ClassPathResource resource = new ClassPathResource(classpathLocation);
@@ -0,0 +1,216 @@
+package br.com.techne.sistemafolha.importacao.application;
+
+import br.com.techne.sistemafolha.importacao.api.ImportacaoFolhaJobDTO;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoFolhaJob;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobEstadoInvalidoException;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobFase;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobNotFoundException;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobStatus;
+import br.com.techne.sistemafolha.importacao.infrastructure.ImportacaoFolhaJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportacaoFolhaJobServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+    private static final Instant FIXED = Instant.parse("2026-06-15T12:00:00Z");
+
+    @Mock
+    private ImportacaoFolhaJobRepository jobRepository;
+    @Mock
+    private ImportacaoFolhaJobWorker worker;
+
+    private ImportacaoFolhaJobService service;
+    private LocalDateTime agora;
+
+    @BeforeEach
+    void setUp() {
+        ImportacaoJobProperties properties = new ImportacaoJobProperties();
+        properties.setStaleMinutos(30);
+        properties.setMaxTentativas(3);
+        Clock clock = Clock.fixed(FIXED, ZONE);
+        agora = LocalDateTime.now(clock);
+        service = new ImportacaoFolhaJobService(jobRepository, worker, properties, clock);
+    }
+
+    @Test
+    void criar_arquivoValido_gravaConteudoEEnfileira() throws Exception {
+        MockMultipartFile arquivo = new MockMultipartFile("arquivo", "folha.txt", "text/plain", new byte[] {1, 2});
+        when(jobRepository.save(any(ImportacaoFolhaJob.class))).thenAnswer(inv -> {
+            ImportacaoFolhaJob job = inv.getArgument(0);
+            job.setId(5L);
+            return job;
+        });
+
+        ImportacaoFolhaJobDTO dto = service.criar("admin", arquivo, true, false);
+
+        ArgumentCaptor<ImportacaoFolhaJob> captor = ArgumentCaptor.forClass(ImportacaoFolhaJob.class);
+        verify(jobRepository).save(captor.capture());
+        assertArrayEquals(new byte[] {1, 2}, captor.getValue().getConteudo());
+        assertEquals("admin", captor.getValue().getUsuarioLogin());
+        assertEquals(true, captor.getValue().getDecimoTerceiro());
+        assertEquals(5L, dto.id());
+        assertEquals(ImportacaoJobStatus.PENDENTE, dto.status());
+        verify(worker).executar(5L);
+    }
+
+    @Test
+    void criar_formatoInvalido_lancaIllegalArgument() {
+        MockMultipartFile arquivo = new MockMultipartFile("arquivo", "folha.xlsx", "text/plain", new byte[] {1});
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> service.criar("admin", arquivo, false, false));
+
+        assertEquals("Formato de arquivo inválido. Use apenas arquivos .txt", ex.getMessage());
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void criar_filaCheia_mantemJobPendenteParaRecuperacao() throws Exception {
+        MockMultipartFile arquivo = new MockMultipartFile("arquivo", "folha.txt", "text/plain", new byte[] {1});
+        when(jobRepository.save(any(ImportacaoFolhaJob.class))).thenAnswer(inv -> {
+            ImportacaoFolhaJob job = inv.getArgument(0);
+            job.setId(6L);
+            return job;
+        });
+        when(worker.executar(6L)).thenThrow(new TaskRejectedException("cheia"));
+
+        ImportacaoFolhaJobDTO dto = service.criar("admin", arquivo, false, false);
+
+        assertEquals(ImportacaoJobStatus.PENDENTE, dto.status());
+    }
+
+    @Test
+    void consultar_jobDeOutroUsuario_lancaNotFound() {
+        when(jobRepository.findByIdAndUsuarioLogin(1L, "outro")).thenReturn(Optional.empty());
+
+        assertThrows(ImportacaoJobNotFoundException.class, () -> service.consultar("outro", 1L));
+    }
+
+    @Test
+    void consultar_jobEmAndamentoRecente_naoReenfileira() {
+        ImportacaoFolhaJob job = job(ImportacaoJobStatus.EM_ANDAMENTO, agora.minusMinutes(5), 1);
+        when(jobRepository.findByIdAndUsuarioLogin(1L, "admin")).thenReturn(Optional.of(job));
+
+        ImportacaoFolhaJobDTO dto = service.consultar("admin", 1L);
+
+        assertEquals(ImportacaoJobFase.VALIDACAO, dto.fase());
+        verify(worker, never()).executar(any());
+    }
+
+    @Test
+    void consultar_jobInterrompido_reenfileiraERenovaAtualizacao() {
+        ImportacaoFolhaJob job = job(ImportacaoJobStatus.EM_ANDAMENTO, agora.minusMinutes(45), 1);
+        when(jobRepository.findByIdAndUsuarioLogin(1L, "admin")).thenReturn(Optional.of(job));
+        when(jobRepository.reivindicarInterrompido(eq(1L), any(), eq(agora.minusMinutes(30)), eq(agora)))
+            .thenReturn(1);
+
+        service.consultar("admin", 1L);
+
+        verify(worker).executar(1L);
+        assertEquals(agora, job.getDataAtualizacao());
+        assertEquals(ImportacaoJobStatus.EM_ANDAMENTO, job.getStatus());
+    }
+
+    @Test
+    void consultar_jobReivindicadoPorOutraRecuperacao_naoReenfileira() {
+        ImportacaoFolhaJob job = job(ImportacaoJobStatus.EM_ANDAMENTO, agora.minusMinutes(45), 1);
+        when(jobRepository.findByIdAndUsuarioLogin(1L, "admin")).thenReturn(Optional.of(job));
+        when(jobRepository.reivindicarInterrompido(eq(1L), any(), any(), any())).thenReturn(0);
+
+        service.consultar("admin", 1L);
+
+        verify(worker, never()).executar(any());
+    }
+
+    @Test
+    void recuperarInterrompidos_tentativasEsgotadas_marcaErro() {
+        ImportacaoFolhaJob job = job(ImportacaoJobStatus.EM_ANDAMENTO, agora.minusHours(2), 3);
+        when(jobRepository.findByStatusInAndDataAtualizacaoBefore(any(), any())).thenReturn(List.of(job));
+
+        service.recuperarInterrompidos();
+
+        assertEquals(ImportacaoJobStatus.ERRO, job.getStatus());
+        assertEquals(ImportacaoFolhaJobService.ERRO_TENTATIVAS_ESGOTADAS, job.getErro());
+        verify(worker, never()).executar(any());
+    }
+
+    @Test
+    void retomar_jobComErro_zeraTentativasEEnfileira() {
+        ImportacaoFolhaJob job = job(ImportacaoJobStatus.ERRO, agora.minusDays(1), 3);
+        job.setErro("Funcionários não encontrados: 123");
+        job.setConteudo(new byte[] {1});
+        when(jobRepository.findByIdAndUsuarioLogin(1L, "admin")).thenReturn(Optional.of(job));
+        when(jobRepository.save(job)).thenReturn(job);
+
+        ImportacaoFolhaJobDTO dto = service.retomar("admin", 1L, null);
+
+        assertEquals(ImportacaoJobStatus.PENDENTE, dto.status());
+        assertEquals(0, dto.tentativas());
+        assertEquals(null, dto.erro());
+        verify(worker).executar(1L);
+    }
+
+    @Test
+    void retomar_conflitoComConfirmacao_gravaConfirmarSubstituicao() {
+        ImportacaoFolhaJob job = job(ImportacaoJobStatus.ERRO, agora.minusMinutes(10), 1);
+        job.setErro("Já existe folha para a competência");
+        job.setConflito(true);
+        job.setConfirmarSubstituicao(false);
+        job.setConteudo(new byte[] {1});
+        when(jobRepository.findByIdAndUsuarioLogin(1L, "admin")).thenReturn(Optional.of(job));
+        when(jobRepository.save(job)).thenReturn(job);
+
+        service.retomar("admin", 1L, true);
+
+        assertTrue(job.getConfirmarSubstituicao());
+        assertEquals(false, job.getConflito());
+        verify(worker).executar(1L);
+    }
+
+    @Test
+    void retomar_jobConcluido_lancaEstadoInvalido() {
+        ImportacaoFolhaJob job = job(ImportacaoJobStatus.CONCLUIDO, agora, 1);
+        when(jobRepository.findByIdAndUsuarioLogin(1L, "admin")).thenReturn(Optional.of(job));
+
+        assertThrows(ImportacaoJobEstadoInvalidoException.class, () -> service.retomar("admin", 1L, null));
+        verify(worker, never()).executar(any());
+    }
+
+    private ImportacaoFolhaJob job(ImportacaoJobStatus status, LocalDateTime dataAtualizacao, int tentativas) {
+        ImportacaoFolhaJob job = new ImportacaoFolhaJob();
+        job.setId(1L);
+        job.setUsuarioLogin("admin");
+        job.setNomeArquivo("folha.txt");
+        job.setTamanhoBytes(1L);
+        job.setStatus(status);
+        job.setFase(ImportacaoJobFase.VALIDACAO);
+        job.setTentativas(tentativas);
+        job.setDataAtualizacao(dataAtualizacao);
+        return job;
+    }
+}
@@ -0,0 +1,243 @@
+package br.com.techne.sistemafolha.importacao.application;
+
+import br.com.techne.sistemafolha.folha.api.FolhaPagamentoDTO;
+import br.com.techne.sistemafolha.folha.api.ProcessamentoResultadoDTO;
+import br.com.techne.sistemafolha.folha.domain.FolhaDuplicadaException;
+import br.com.techne.sistemafolha.folha.domain.FolhaProcessamentoFalhaException;
+import br.com.techne.sistemafolha.folha.port.FolhaImportacaoCommand;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoFolhaJob;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobFase;
+import br.com.techne.sistemafolha.importacao.domain.ImportacaoJobStatus;
+import br.com.techne.sistemafolha.importacao.infrastructure.ImportacaoFolhaJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportacaoFolhaJobWorkerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+    private static final Instant FIXED = Instant.parse("2026-06-15T12:00:00Z");
+    private static final LocalDate INICIO = LocalDate.of(2026, 5, 1);
+    private static final LocalDate FIM = LocalDate.of(2026, 5, 31);
+
+    @Mock
+    private ImportacaoFolhaJobRepository jobRepository;
+    @Mock
+    private ImportacaoFolhaAdpService importacaoFolhaAdpService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImportacaoFolhaJobWorker worker;
+    private ImportacaoFolhaJob job;
+    private final List<ImportacaoJobFase> fasesRegistradas = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        worker = new ImportacaoFolhaJobWorker(
+            jobRepository, importacaoFolhaAdpService, Clock.fixed(FIXED, ZONE), transactionManager);
+
+        job = new ImportacaoFolhaJob();
+        job.setId(7L);
+        job.setUsuarioLogin("admin");
+        job.setNomeArquivo("folha.txt");
+        job.setTamanhoBytes(3L);
+        job.setConteudo(new byte[] {1, 2, 3});
+        job.setDecimoTerceiro(false);
+        job.setConfirmarSubstituicao(false);
+        job.setStatus(ImportacaoJobStatus.PENDENTE);
+
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+        lenient().when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        lenient().when(jobRepository.save(any(ImportacaoFolhaJob.class))).thenAnswer(inv -> {
+            ImportacaoFolhaJob salvo = inv.getArgument(0);
+            if (salvo.getFase() != null && (fasesRegistradas.isEmpty()
+                    || fasesRegistradas.get(fasesRegistradas.size() - 1) != salvo.getFase())) {
+                fasesRegistradas.add(salvo.getFase());
+            }
+            return salvo;
+        });
+    }
+
+    @Test
+    void executar_jobNovo_percorreFasesEConclui() {
+        FolhaImportacaoCommand command = command();
+        when(importacaoFolhaAdpService.lerRelatorio(any())).thenReturn(relatorio(2));
+        when(importacaoFolhaAdpService.validar(any(), eq(false), eq(false))).thenReturn(command);
+        when(jobRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(job));
+        when(importacaoFolhaAdpService.persistir(command))
+            .thenReturn(List.of(mock(FolhaPagamentoDTO.class), mock(FolhaPagamentoDTO.class)));
+        when(importacaoFolhaAdpService.processar(INICIO, FIM, false))
+            .thenReturn(new ProcessamentoResultadoDTO(1, 2, 1));
+
+        worker.executar(7L).join();
+
+        assertEquals(List.of(ImportacaoJobFase.LEITURA, ImportacaoJobFase.VALIDACAO,
+            ImportacaoJobFase.PERSISTENCIA, ImportacaoJobFase.PROCESSAMENTO), fasesRegistradas);
+        assertEquals(ImportacaoJobStatus.CONCLUIDO, job.getStatus());
+        assertEquals(1, job.getTentativas());
+        assertEquals(2, job.getLinhasLidas());
+        assertEquals(2, job.getLinhasImportadas());
+        assertEquals(1, job.getFichasProcessadas());
+        assertEquals(2, job.getLinhasProcessadas());
+        assertEquals(INICIO, job.getCompetenciaInicio());
+        assertNotNull(job.getDataPersistencia());
+        assertNotNull(job.getDataConclusao());
+        assertNull(job.getConteudo());
+        assertNull(job.getErro());
+    }
+
+    @Test
+    void executar_jobJaPersistido_retomaSomenteProcessamento() {
+        job.setStatus(ImportacaoJobStatus.EM_ANDAMENTO);
+        job.setFase(ImportacaoJobFase.PROCESSAMENTO);
+        job.setTentativas(1);
+        job.setCompetenciaInicio(INICIO);
+        job.setCompetenciaFim(FIM);
+        job.setDataPersistencia(LocalDateTime.of(2026, 6, 15, 8, 0));
+        when(importacaoFolhaAdpService.processar(INICIO, FIM, false))
+            .thenReturn(new ProcessamentoResultadoDTO(3, 9, 3));
+
+        worker.executar(7L).join();
+
+        verify(importacaoFolhaAdpService, never()).lerRelatorio(any());
+        verify(importacaoFolhaAdpService, never()).persistir(any());
+        assertEquals(ImportacaoJobStatus.CONCLUIDO, job.getStatus());
+        assertEquals(2, job.getTentativas());
+        assertEquals(3, job.getFichasProcessadas());
+    }
+
+    @Test
+    void executar_outraExecucaoPersistiuDuranteValidacao_descartaEProcessa() {
+        ImportacaoFolhaJob bloqueado = new ImportacaoFolhaJob();
+        bloqueado.setId(7L);
+        bloqueado.setCompetenciaInicio(INICIO);
+        bloqueado.setCompetenciaFim(FIM);
+        bloqueado.setDecimoTerceiro(false);
+        bloqueado.setDataPersistencia(LocalDateTime.of(2026, 6, 15, 8, 0));
+        when(importacaoFolhaAdpService.lerRelatorio(any())).thenReturn(relatorio(1));
+        when(importacaoFolhaAdpService.validar(any(), any(), any())).thenReturn(command());
+        when(jobRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(bloqueado));
+        when(importacaoFolhaAdpService.processar(INICIO, FIM, false))
+            .thenReturn(new ProcessamentoResultadoDTO(1, 1, 1));
+
+        worker.executar(7L).join();
+
+        verify(importacaoFolhaAdpService, never()).persistir(any());
+        verify(importacaoFolhaAdpService).processar(INICIO, FIM, false);
+        ArgumentCaptor<TransactionStatus> commits = ArgumentCaptor.forClass(TransactionStatus.class);
+        verify(transactionManager, atLeastOnce()).commit(commits.capture());
+        assertTrue(commits.getAllValues().stream().anyMatch(TransactionStatus::isRollbackOnly));
+    }
+
+    @Test
+    void executar_folhaDuplicada_marcaErroComConflito() {
+        when(importacaoFolhaAdpService.lerRelatorio(any())).thenReturn(relatorio(1));
+        when(importacaoFolhaAdpService.validar(any(), any(), any())).thenThrow(
+            new FolhaDuplicadaException("Já existe uma folha de pagamento normal", "2026-05-01", "2026-05-31", false));
+
+        worker.executar(7L).join();
+
+        assertEquals(ImportacaoJobStatus.ERRO, job.getStatus());
+        assertTrue(job.getConflito());
+        assertEquals("Já existe uma folha de pagamento normal", job.getErro());
+        assertNotNull(job.getConteudo());
+        verify(importacaoFolhaAdpService, never()).processar(any(), any(), eq(false));
+    }
+
+    @Test
+    void executar_falhaNoProcessamento_marcaErroMantendoPersistencia() {
+        FolhaImportacaoCommand command = command();
+        when(importacaoFolhaAdpService.lerRelatorio(any())).thenReturn(relatorio(1));
+        when(importacaoFolhaAdpService.validar(any(), any(), any())).thenReturn(command);
+        when(jobRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(job));
+        when(importacaoFolhaAdpService.persistir(command)).thenReturn(List.of());
+        when(importacaoFolhaAdpService.processar(INICIO, FIM, false))
+            .thenThrow(new FolhaProcessamentoFalhaException("timeout", new RuntimeException()));
+
+        worker.executar(7L).join();
+
+        assertEquals(ImportacaoJobStatus.ERRO, job.getStatus());
+        assertFalse(job.getConflito());
+        assertTrue(job.isPersistido());
+        assertTrue(job.getErro().startsWith("Falha no processamento da ficha: "));
+    }
+
+    @Test
+    void executar_jobFinalizado_ignora() {
+        job.setStatus(ImportacaoJobStatus.CONCLUIDO);
+
+        worker.executar(7L).join();
+
+        verify(importacaoFolhaAdpService, never()).lerRelatorio(any());
+        assertEquals(0, job.getTentativas());
+    }
+
+    @Test
+    void renovarHeartbeat_jobEmExecucao_renovaAtualizacaoAteTerminar() {
+        job.setStatus(ImportacaoJobStatus.EM_ANDAMENTO);
+        job.setCompetenciaInicio(INICIO);
+        job.setCompetenciaFim(FIM);
+        job.setDataPersistencia(LocalDateTime.of(2026, 6, 15, 8, 0));
+        when(importacaoFolhaAdpService.processar(INICIO, FIM, false)).thenAnswer(inv -> {
+            worker.renovarHeartbeat();
+            return new ProcessamentoResultadoDTO(1, 1, 1);
+        });
+
+        worker.executar(7L).join();
+        worker.renovarHeartbeat();
+
+        verify(jobRepository).renovarAtualizacao(List.of(7L), LocalDateTime.ofInstant(FIXED, ZONE));
+    }
+
+    @Test
+    void truncarErro_mensagemLonga_limitaTamanho() {
+        assertEquals(ImportacaoFolhaJobWorker.TAMANHO_MAXIMO_ERRO,
+            ImportacaoFolhaJobWorker.truncarErro("x".repeat(2_000)).length());
+        assertEquals("Erro ao importar arquivo ADP", ImportacaoFolhaJobWorker.truncarErro(null));
+    }
+
+    private AdpRelatorioParser.Relatorio relatorio(int lancamentos) {
+        List<AdpRelatorioParser.Lancamento> linhas = new ArrayList<>();
+        for (int i = 0; i < lancamentos; i++) {
+            linhas.add(new AdpRelatorioParser.Lancamento(
+                "123", "0010", "SALARIO", "PROVENTO", BigDecimal.ONE, BigDecimal.TEN, BigDecimal.TEN));
+        }
+        return new AdpRelatorioParser.Relatorio(
+            INICIO, FIM, List.of(), linhas, null, null, null, null, null);
+    }
+
+    private FolhaImportacaoCommand command() {
+        return new FolhaImportacaoCommand(INICIO, FIM, false, false, List.of(), null);
+    }
+}
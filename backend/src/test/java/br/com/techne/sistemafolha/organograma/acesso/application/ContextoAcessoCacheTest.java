@@ -0,0 +1,105 @@
+package br.com.techne.sistemafolha.organograma.acesso.application;
+
+import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
+import br.com.techne.sistemafolha.organograma.acesso.port.ContextoAcessoAlteradoEvent;
+import br.com.techne.sistemafolha.organograma.api.ContextoAcessoCacheEstatisticasDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContextoAcessoCacheTest {
+
+    private static final Instant FIXED = Instant.parse("2026-01-15T12:00:00Z");
+
+    private final ContextoAcessoCache cache = new ContextoAcessoCache(Clock.fixed(FIXED, ZoneOffset.UTC), 300);
+
+    @Test
+    void obter_segundaChamada_usaCacheEContaHit() {
+        AtomicInteger calculos = new AtomicInteger();
+
+        AccessContextDTO primeiro = cache.obter(1L, id -> {
+            calculos.incrementAndGet();
+            return contexto(10L);
+        });
+        AccessContextDTO segundo = cache.obter(1L, id -> {
+            calculos.incrementAndGet();
+            return contexto(20L);
+        });
+
+        assertSame(primeiro, segundo);
+        assertEquals(1, calculos.get());
+        assertEquals(new ContextoAcessoCacheEstatisticasDTO(1, 1, 0, 1), cache.estatisticas());
+    }
+
+    @Test
+    void onContextoAcessoAlterado_doUsuario_invalidaSoOUsuario() {
+        cache.obter(1L, id -> contexto(10L));
+        cache.obter(2L, id -> contexto(20L));
+
+        cache.onContextoAcessoAlterado(ContextoAcessoAlteradoEvent.doUsuario(1L));
+
+        assertEquals(Set.of(11L), cache.obter(1L, id -> contexto(11L)).centrosCustoIds());
+        assertEquals(Set.of(20L), cache.obter(2L, id -> contexto(21L)).centrosCustoIds());
+    }
+
+    @Test
+    void onContextoAcessoAlterado_todos_limpaCache() {
+        cache.obter(1L, id -> contexto(10L));
+        cache.obter(2L, id -> contexto(20L));
+
+        cache.onContextoAcessoAlterado(ContextoAcessoAlteradoEvent.todos());
+
+        assertEquals(0, cache.estatisticas().entradas());
+        assertEquals(1, cache.estatisticas().invalidacoes());
+    }
+
+    @Test
+    void obter_invalidacaoDuranteCalculo_naoGravaContextoAntigo() {
+        AccessContextDTO antigo = cache.obter(1L, id -> {
+            cache.onContextoAcessoAlterado(ContextoAcessoAlteradoEvent.todos());
+            return contexto(10L);
+        });
+
+        AccessContextDTO novo = cache.obter(1L, id -> contexto(11L));
+
+        assertEquals(Set.of(10L), antigo.centrosCustoIds());
+        assertEquals(Set.of(11L), novo.centrosCustoIds());
+    }
+
+    @Test
+    void obter_aposTtl_recalculaContexto() {
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(FIXED, FIXED.plusSeconds(301));
+        ContextoAcessoCache comTtl = new ContextoAcessoCache(clock, 300);
+
+        comTtl.obter(1L, id -> contexto(10L));
+        AccessContextDTO recalculado = comTtl.obter(1L, id -> contexto(11L));
+
+        assertEquals(Set.of(11L), recalculado.centrosCustoIds());
+        assertEquals(2, comTtl.estatisticas().misses());
+    }
+
+    @Test
+    void obter_ttlZero_naoGuardaContexto() {
+        ContextoAcessoCache desligado = new ContextoAcessoCache(Clock.fixed(FIXED, ZoneOffset.UTC), 0);
+
+        desligado.obter(1L, id -> contexto(10L));
+        AccessContextDTO segundo = desligado.obter(1L, id -> contexto(11L));
+
+        assertEquals(Set.of(11L), segundo.centrosCustoIds());
+        assertEquals(0, desligado.estatisticas().entradas());
+    }
+
+    private AccessContextDTO contexto(Long centroCustoId) {
+        return new AccessContextDTO(true, true, false, Set.of(centroCustoId), null, 1L, "Nó", 1);
+    }
+}
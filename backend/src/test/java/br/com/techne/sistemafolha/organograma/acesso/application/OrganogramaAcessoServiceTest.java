@@ -1,12 +1,11 @@
 package br.com.techne.sistemafolha.organograma.acesso.application;
 
-import br.com.techne.sistemafolha.cadastros.domain.CentroCusto;
-import br.com.techne.sistemafolha.organograma.domain.CentroCustoOrganograma;
 import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.organograma.domain.FuncionarioOrganograma;
 import br.com.techne.sistemafolha.organograma.domain.NoOrganograma;
 import br.com.techne.sistemafolha.auth.domain.Usuario;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
+import br.com.techne.sistemafolha.organograma.acesso.port.ContextoAcessoAlteradoEvent;
 import br.com.techne.sistemafolha.organograma.acesso.port.MotivoNegacaoAcesso;
 import br.com.techne.sistemafolha.organograma.infrastructure.CentroCustoOrganogramaRepository;
 import br.com.techne.sistemafolha.organograma.infrastructure.FuncionarioOrganogramaRepository;
@@ -16,8 +15,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Clock;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +29,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +50,12 @@ class OrganogramaAcessoServiceTest {
     @Mock
     private CentroCustoOrganogramaRepository centroCustoOrganogramaRepository;
 
+    @Spy
+    private ContextoAcessoCache contextoAcessoCache = new ContextoAcessoCache(Clock.systemUTC(), 300);
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private OrganogramaAcessoService service;
 
@@ -119,16 +129,13 @@ class OrganogramaAcessoServiceTest {
         Usuario usuario = usuario(USUARIO_ID, funcionario);
         NoOrganograma no = no(5L, "Diretoria", 1);
         FuncionarioOrganograma vinculo = vinculo(funcionario, no);
-        CentroCusto centro = centro(100L);
-        CentroCustoOrganograma centroNo = centroNoOrganograma(centro);
 
         when(usuarioLookupPort.findById(USUARIO_ID)).thenReturn(Optional.of(usuario));
         when(funcionarioOrganogramaRepository.findByFuncionarioWithNoAtivo(funcionario))
             .thenReturn(List.of(vinculo));
-        when(centroCustoOrganogramaRepository.findByNoOrganogramaWithCentroCustoAtivo(no))
-            .thenReturn(List.of(centroNo));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(no))
-            .thenReturn(Collections.emptyList());
+        when(noOrganogramaRepository.findIdsSubarvoreAtiva(5L)).thenReturn(List.of(5L));
+        when(centroCustoOrganogramaRepository.findCentroCustoIdsAtivosByNoOrganogramaIds(List.of(5L)))
+            .thenReturn(List.of(100L));
 
         AccessContextDTO contexto = service.obterContextoAcesso(USUARIO_ID);
 
@@ -150,20 +157,13 @@ class OrganogramaAcessoServiceTest {
         NoOrganograma filho = no(6L, "Gerência", 2);
         filho.setParent(pai);
         FuncionarioOrganograma vinculo = vinculo(funcionario, pai);
-        CentroCusto centroPai = centro(100L);
-        CentroCusto centroFilho = centro(200L);
 
         when(usuarioLookupPort.findById(USUARIO_ID)).thenReturn(Optional.of(usuario));
         when(funcionarioOrganogramaRepository.findByFuncionarioWithNoAtivo(funcionario))
             .thenReturn(List.of(vinculo));
-        when(centroCustoOrganogramaRepository.findByNoOrganogramaWithCentroCustoAtivo(pai))
-            .thenReturn(List.of(centroNoOrganograma(centroPai)));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(pai))
-            .thenReturn(List.of(filho));
-        when(centroCustoOrganogramaRepository.findByNoOrganogramaWithCentroCustoAtivo(filho))
-            .thenReturn(List.of(centroNoOrganograma(centroFilho)));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(filho))
-            .thenReturn(Collections.emptyList());
+        when(noOrganogramaRepository.findIdsSubarvoreAtiva(5L)).thenReturn(List.of(5L, 6L));
+        when(centroCustoOrganogramaRepository.findCentroCustoIdsAtivosByNoOrganogramaIds(List.of(5L, 6L)))
+            .thenReturn(List.of(100L, 200L));
 
         AccessContextDTO contexto = service.obterContextoAcesso(USUARIO_ID);
 
@@ -173,21 +173,45 @@ class OrganogramaAcessoServiceTest {
         assertFalse(service.usuarioPodeAcessarCentroCusto(USUARIO_ID, 300L));
     }
 
+    @Test
+    void obterContextoAcesso_chamadasRepetidas_percorreArvoreUmaVezAteInvalidacao() {
+        Funcionario funcionario = funcionario(1L);
+        Usuario usuario = usuario(USUARIO_ID, funcionario);
+        NoOrganograma no = no(5L, "Diretoria", 1);
+
+        when(usuarioLookupPort.findById(USUARIO_ID)).thenReturn(Optional.of(usuario));
+        when(funcionarioOrganogramaRepository.findByFuncionarioWithNoAtivo(funcionario))
+            .thenReturn(List.of(vinculo(funcionario, no)));
+        when(noOrganogramaRepository.findIdsSubarvoreAtiva(5L)).thenReturn(List.of(5L));
+        when(centroCustoOrganogramaRepository.findCentroCustoIdsAtivosByNoOrganogramaIds(List.of(5L)))
+            .thenReturn(List.of(100L));
+
+        service.obterContextoAcesso(USUARIO_ID);
+        service.obterCentrosCustoAcessiveis(USUARIO_ID);
+        assertTrue(service.usuarioPodeAcessarCentroCusto(USUARIO_ID, 100L));
+        verify(noOrganogramaRepository, times(1)).findIdsSubarvoreAtiva(5L);
+
+        contextoAcessoCache.onContextoAcessoAlterado(ContextoAcessoAlteradoEvent.doUsuario(USUARIO_ID));
+        service.obterContextoAcesso(USUARIO_ID);
+
+        verify(noOrganogramaRepository, times(2)).findIdsSubarvoreAtiva(5L);
+        assertEquals(2, contextoAcessoCache.estatisticas().misses());
+        assertEquals(2, contextoAcessoCache.estatisticas().hits());
+    }
+
     @Test
     void usuarioPodeAcessarCentroCusto_escopoParcial_naoConcedeCentroForaDaSubarvore() {
         Funcionario funcionario = funcionario(1L);
         Usuario usuario = usuario(USUARIO_ID, funcionario);
         NoOrganograma noUsuario = no(5L, "Gerência A", 2);
         FuncionarioOrganograma vinculo = vinculo(funcionario, noUsuario);
-        CentroCusto centroEscopo = centro(100L);
 
         when(usuarioLookupPort.findById(USUARIO_ID)).thenReturn(Optional.of(usuario));
         when(funcionarioOrganogramaRepository.findByFuncionarioWithNoAtivo(funcionario))
             .thenReturn(List.of(vinculo));
-        when(centroCustoOrganogramaRepository.findByNoOrganogramaWithCentroCustoAtivo(noUsuario))
-            .thenReturn(List.of(centroNoOrganograma(centroEscopo)));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(noUsuario))
-            .thenReturn(Collections.emptyList());
+        when(noOrganogramaRepository.findIdsSubarvoreAtiva(5L)).thenReturn(List.of(5L));
+        when(centroCustoOrganogramaRepository.findCentroCustoIdsAtivosByNoOrganogramaIds(List.of(5L)))
+            .thenReturn(List.of(100L));
 
         assertTrue(service.usuarioPodeAcessarCentroCusto(USUARIO_ID, 100L));
         assertFalse(service.usuarioPodeAcessarCentroCusto(USUARIO_ID, 101L));
@@ -200,16 +224,13 @@ class OrganogramaAcessoServiceTest {
         Usuario usuario = usuario(USUARIO_ID, funcionario);
         NoOrganograma no = no(5L, "Diretoria", 1);
         FuncionarioOrganograma vinculo = vinculo(funcionario, no);
-        CentroCusto centro = centro(100L);
-        CentroCustoOrganograma centroNo = centroNoOrganograma(centro);
 
         when(usuarioLookupPort.findById(USUARIO_ID)).thenReturn(Optional.of(usuario));
         when(funcionarioOrganogramaRepository.findByFuncionarioWithNoAtivo(funcionario))
             .thenReturn(List.of(vinculo));
-        when(centroCustoOrganogramaRepository.findByNoOrganogramaWithCentroCustoAtivo(no))
-            .thenReturn(List.of(centroNo));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(no))
-            .thenReturn(Collections.emptyList());
+        when(noOrganogramaRepository.findIdsSubarvoreAtiva(5L)).thenReturn(List.of(5L));
+        when(centroCustoOrganogramaRepository.findCentroCustoIdsAtivosByNoOrganogramaIds(List.of(5L)))
+            .thenReturn(List.of(100L));
 
         assertTrue(service.usuarioPodeAcessarCentroCusto(USUARIO_ID, 100L));
         assertFalse(service.usuarioPodeAcessarCentroCusto(USUARIO_ID, 200L));
@@ -234,10 +255,9 @@ class OrganogramaAcessoServiceTest {
         when(usuarioLookupPort.findById(USUARIO_ID)).thenReturn(Optional.of(usuario));
         when(funcionarioOrganogramaRepository.findByFuncionarioWithNoAtivo(funcionario))
             .thenReturn(List.of(vinculo(funcionario, no1), vinculo(funcionario, no2)));
-        when(centroCustoOrganogramaRepository.findByNoOrganogramaWithCentroCustoAtivo(no1))
-            .thenReturn(List.of(centroNoOrganograma(centro(10L))));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(no1))
-            .thenReturn(Collections.emptyList());
+        when(noOrganogramaRepository.findIdsSubarvoreAtiva(5L)).thenReturn(List.of(5L));
+        when(centroCustoOrganogramaRepository.findCentroCustoIdsAtivosByNoOrganogramaIds(List.of(5L)))
+            .thenReturn(List.of(10L));
 
         AccessContextDTO contexto = service.obterContextoAcesso(USUARIO_ID);
 
@@ -277,19 +297,14 @@ class OrganogramaAcessoServiceTest {
 
     @Test
     void noEstaNaSubarvore_descendenteDireto_retornaTrue() {
-        NoOrganograma filho = no(6L, "Gerência", 2);
-        NoOrganograma pai = no(5L, "Diretoria", 1);
-        filho.setParent(pai);
-        when(noOrganogramaRepository.findByIdAndAtivoTrue(6L)).thenReturn(Optional.of(filho));
+        when(noOrganogramaRepository.existsNaSubarvoreAtiva(6L, 5L)).thenReturn(true);
 
         assertTrue(service.noEstaNaSubarvore(6L, 5L));
     }
 
     @Test
     void noEstaNaSubarvore_foraDaSubarvore_retornaFalse() {
-        NoOrganograma noA = no(7L, "A", 1);
-        NoOrganograma noB = no(8L, "B", 1);
-        when(noOrganogramaRepository.findByIdAndAtivoTrue(7L)).thenReturn(Optional.of(noA));
+        when(noOrganogramaRepository.existsNaSubarvoreAtiva(7L, 8L)).thenReturn(false);
 
         assertFalse(service.noEstaNaSubarvore(7L, 8L));
     }
@@ -332,16 +347,4 @@ class OrganogramaAcessoServiceTest {
         vinculo.setNoOrganograma(no);
         return vinculo;
     }
-
-    private CentroCusto centro(Long id) {
-        CentroCusto centro = new CentroCusto();
-        centro.setId(id);
-        return centro;
-    }
-
-    private CentroCustoOrganograma centroNoOrganograma(CentroCusto centro) {
-        CentroCustoOrganograma rel = new CentroCustoOrganograma();
-        rel.setCentroCusto(centro);
-        return rel;
-    }
 }
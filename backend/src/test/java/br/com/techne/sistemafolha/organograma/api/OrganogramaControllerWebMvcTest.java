@@ -5,16 +5,17 @@ import br.com.techne.sistemafolha.cadastros.domain.CentroCustoNotFoundException;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioNotFoundException;
 import br.com.techne.sistemafolha.config.SecurityConfig;
 import br.com.techne.sistemafolha.exception.GlobalExceptionHandler;
+import br.com.techne.sistemafolha.organograma.acesso.application.ContextoAcessoCache;
 import br.com.techne.sistemafolha.organograma.application.OrganogramaService;
 import br.com.techne.sistemafolha.organograma.domain.NoOrganogramaNotFoundException;
 import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -60,11 +61,14 @@ class OrganogramaControllerWebMvcTest {
     @MockBean
     private OrganogramaService organogramaService;
 
+    @MockBean
+    private ContextoAcessoCache contextoAcessoCache;
+
     @MockBean
     private JwtService jwtService;
 
     @MockBean
-    private UserDetailsService userDetailsService;
+    private UsuarioPrincipalCache usuarioPrincipalCache;
 
     @MockBean
     private ApiKeyService apiKeyService;
@@ -282,4 +286,17 @@ class OrganogramaControllerWebMvcTest {
         when(organogramaService.listarCentrosCustoPorNo(1L)).thenReturn(Collections.emptyList());
         mockMvc.perform(get("/organograma/1/centros-custo")).andExpect(status().isOk());
     }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void estatisticasCacheAcesso_admin_retorna200() throws Exception {
+        when(contextoAcessoCache.estatisticas()).thenReturn(new ContextoAcessoCacheEstatisticasDTO(10, 2, 1, 2));
+        mockMvc.perform(get("/organograma/acesso/cache")).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = "gestor", roles = "USER")
+    void estatisticasCacheAcesso_naoAdmin_retorna403() throws Exception {
+        mockMvc.perform(get("/organograma/acesso/cache")).andExpect(status().isForbidden());
+    }
 }
@@ -0,0 +1,163 @@
+package br.com.techne.sistemafolha.organograma.application;
+
+import br.com.techne.sistemafolha.organograma.api.NoOrganogramaCreateDTO;
+import br.com.techne.sistemafolha.organograma.domain.NoOrganograma;
+import br.com.techne.sistemafolha.organograma.infrastructure.NoOrganogramaRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara as consultas da closure table com a navegação recursiva por parent em árvores aleatórias
+ * (cadastros, movimentações e remoções intercalados).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers
+@ActiveProfiles("test")
+@Transactional
+@EnabledIf("isDockerAvailable")
+class OrganogramaClosureIntegrationTest {
+
+    private static final int NOS = 40;
+    private static final int MOVIMENTACOES = 25;
+    /** Semente fixa, deslocada pela repetição: cada execução é diferente e reproduzível. */
+    private static final long SEMENTE = 42L;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    static boolean isDockerAvailable() {
+        try {
+            return DockerClientFactory.instance().isDockerAvailable();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Autowired
+    private OrganogramaService organogramaService;
+
+    @Autowired
+    private NoOrganogramaRepository noOrganogramaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @RepeatedTest(5)
+    void closure_arvoreAleatoria_equivaleANavegacaoRecursiva(RepetitionInfo repeticao) {
+        Random random = new Random(SEMENTE + repeticao.getCurrentRepetition());
+        List<Long> ids = new ArrayList<>();
+
+        for (int i = 0; i < NOS; i++) {
+            Long parentId = ids.isEmpty() || random.nextInt(5) == 0 ? null : ids.get(random.nextInt(ids.size()));
+            ids.add(organogramaService.cadastrar(new NoOrganogramaCreateDTO("Nó " + i, null, parentId, null)).id());
+        }
+
+        for (int i = 0; i < MOVIMENTACOES; i++) {
+            Long noId = ids.get(random.nextInt(ids.size()));
+            Long novoParentId = random.nextInt(6) == 0 ? null : ids.get(random.nextInt(ids.size()));
+            try {
+                organogramaService.moverNo(noId, novoParentId, null);
+            } catch (IllegalArgumentException ciclo) {
+                // parent sorteado dentro da própria subárvore
+            }
+        }
+
+        sincronizar();
+        for (Long noId : ids) {
+            NoOrganograma no = noOrganogramaRepository.findById(noId).orElseThrow();
+            assertEquals(profundidade(no), no.getNivel(), "nível do nó " + noId + " após movimentações");
+        }
+
+        organogramaService.removerComFilhos(ids.get(random.nextInt(ids.size())));
+        sincronizar();
+        noOrganogramaRepository.softDelete(ids.get(random.nextInt(ids.size())));
+        sincronizar();
+
+        for (Long raizId : ids) {
+            NoOrganograma raiz = noOrganogramaRepository.findById(raizId).orElseThrow();
+            if (raiz.getAtivo()) {
+                assertEquals(subarvoreRecursiva(raiz), new HashSet<>(noOrganogramaRepository.findIdsSubarvoreAtiva(raizId)));
+            }
+            for (Long noId : ids) {
+                assertEquals(noEstaNaSubarvoreRecursivo(noId, raizId),
+                    noId.equals(raizId) || noOrganogramaRepository.existsNaSubarvoreAtiva(noId, raizId),
+                    "nó " + noId + " sob " + raizId);
+                assertEquals(ehAncestralOuProprio(raizId, noId), noOrganogramaRepository.existsNaClosure(raizId, noId));
+            }
+        }
+    }
+
+    private Set<Long> subarvoreRecursiva(NoOrganograma no) {
+        Set<Long> ids = new HashSet<>();
+        ids.add(no.getId());
+        for (NoOrganograma filho : noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(no)) {
+            ids.addAll(subarvoreRecursiva(filho));
+        }
+        return ids;
+    }
+
+    private boolean noEstaNaSubarvoreRecursivo(Long noId, Long raizId) {
+        if (noId.equals(raizId)) {
+            return true;
+        }
+        NoOrganograma atual = noOrganogramaRepository.findByIdAndAtivoTrue(noId).orElse(null);
+        while (atual != null && atual.getParent() != null) {
+            if (atual.getParent().getId().equals(raizId)) {
+                return true;
+            }
+            atual = noOrganogramaRepository.findByIdAndAtivoTrue(atual.getParent().getId()).orElse(null);
+        }
+        return false;
+    }
+
+    private boolean ehAncestralOuProprio(Long ancestralId, Long noId) {
+        NoOrganograma atual = noOrganogramaRepository.findById(noId).orElse(null);
+        while (atual != null) {
+            if (atual.getId().equals(ancestralId)) {
+                return true;
+            }
+            atual = atual.getParent();
+        }
+        return false;
+    }
+
+    private int profundidade(NoOrganograma no) {
+        int nivel = 0;
+        for (NoOrganograma atual = no.getParent(); atual != null; atual = atual.getParent()) {
+            nivel++;
+        }
+        return nivel;
+    }
+
+    private void sincronizar() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -4,6 +4,7 @@ import br.com.techne.sistemafolha.cadastros.domain.Funcionario;
 import br.com.techne.sistemafolha.cadastros.domain.FuncionarioNotFoundException;
 import br.com.techne.sistemafolha.cadastros.port.CadastrosLookupPort;
 import br.com.techne.sistemafolha.cadastros.port.FuncionarioConsultaPort;
+import br.com.techne.sistemafolha.organograma.acesso.port.ContextoAcessoAlteradoEvent;
 import br.com.techne.sistemafolha.organograma.api.FuncionarioOrganogramaDTO;
 import br.com.techne.sistemafolha.organograma.domain.FuncionarioOrganograma;
 import br.com.techne.sistemafolha.organograma.domain.NoOrganograma;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -47,6 +49,9 @@ class OrganogramaServicePortWiringTest {
     @Mock
     private CadastrosLookupPort cadastrosLookupPort;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrganogramaService organogramaService;
 
@@ -72,6 +77,7 @@ class OrganogramaServicePortWiringTest {
         assertEquals(FUNCIONARIO_ID, result.funcionarioId());
         assertEquals(NO_ID, result.noOrganogramaId());
         verify(funcionarioConsultaPort).findByIdAndAtivoTrue(FUNCIONARIO_ID);
+        verify(eventPublisher).publishEvent(ContextoAcessoAlteradoEvent.todos());
     }
 
     @Test
@@ -84,6 +90,7 @@ class OrganogramaServicePortWiringTest {
         assertThrows(FuncionarioNotFoundException.class,
             () -> organogramaService.associarFuncionario(NO_ID, FUNCIONARIO_ID));
         verify(funcionarioOrganogramaRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     private NoOrganograma noAtivo(Long id) {
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
@@ -30,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,6 +53,9 @@ class OrganogramaServiceTest {
     @Mock
     private CadastrosLookupPort cadastrosLookupPort;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrganogramaService organogramaService;
 
@@ -151,16 +156,17 @@ class OrganogramaServiceTest {
 
         assertEquals(1, result.nivel());
         assertEquals(1L, result.parentId());
+        verify(noOrganogramaRepository).inserirNaClosure(2L, 1L);
     }
 
     @Test
     void validarCicloHierarquico_atualizarComDescendenteComoPai_lancaIllegalArgument() {
         NoOrganograma raiz = noAtivo(1L, null, 0);
         NoOrganograma filho = noAtivo(2L, raiz, 1);
-        NoOrganograma neto = noAtivo(3L, filho, 2);
+        noAtivo(3L, filho, 2);
 
         when(noOrganogramaRepository.findByIdAndAtivoTrue(1L)).thenReturn(java.util.Optional.of(raiz));
-        when(noOrganogramaRepository.findById(3L)).thenReturn(java.util.Optional.of(neto));
+        when(noOrganogramaRepository.existsNaClosure(1L, 3L)).thenReturn(true);
 
         IllegalArgumentException ex = assertThrows(
             IllegalArgumentException.class,
@@ -291,8 +297,6 @@ class OrganogramaServiceTest {
     void moverNo_paraNovaRaiz_atualizaNivel() {
         NoOrganograma no = noAtivo(2L, noAtivo(1L, null, 0), 1);
         when(noOrganogramaRepository.findByIdAndAtivoTrue(2L)).thenReturn(java.util.Optional.of(no));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(no))
-            .thenReturn(Collections.emptyList());
         when(noOrganogramaRepository.save(no)).thenReturn(no);
         when(funcionarioOrganogramaRepository.findByNoOrganogramaWithFuncionarioAtivo(no))
             .thenReturn(Collections.emptyList());
@@ -381,17 +385,15 @@ class OrganogramaServiceTest {
     @Test
     void removerComFilhos_removeRecursivamente() {
         NoOrganograma raiz = noAtivo(1L, null, 0);
-        NoOrganograma filho = noAtivo(2L, raiz, 1);
         when(noOrganogramaRepository.findByIdAndAtivoTrue(1L)).thenReturn(java.util.Optional.of(raiz));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(raiz))
-            .thenReturn(List.of(filho));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(filho))
-            .thenReturn(Collections.emptyList());
+        when(noOrganogramaRepository.findIdsSubarvoreAtiva(1L)).thenReturn(List.of(1L, 2L));
 
         organogramaService.removerComFilhos(1L);
 
-        verify(noOrganogramaRepository).softDelete(2L);
-        verify(noOrganogramaRepository).softDelete(1L);
+        verify(funcionarioOrganogramaRepository).deleteByNoOrganogramaIdIn(List.of(1L, 2L));
+        verify(centroCustoOrganogramaRepository).deleteByNoOrganogramaIdIn(List.of(1L, 2L));
+        verify(noOrganogramaRepository).softDeleteByIds(List.of(1L, 2L));
+        verify(noOrganogramaRepository, never()).softDelete(any());
     }
 
     @Test
@@ -427,8 +429,6 @@ class OrganogramaServiceTest {
         NoOrganograma parent = noAtivo(2L, null, 0);
         NoOrganograma no = noAtivo(1L, parent, 1);
         when(noOrganogramaRepository.findByIdAndAtivoTrue(1L)).thenReturn(java.util.Optional.of(no));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(no))
-            .thenReturn(Collections.emptyList());
         when(noOrganogramaRepository.save(no)).thenReturn(no);
 
         NoOrganogramaDTO result = organogramaService.moverNo(1L, null, null);
@@ -505,7 +505,6 @@ class OrganogramaServiceTest {
         NoOrganograma no = noAtivo(1L, null, 0);
         when(noOrganogramaRepository.findByIdAndAtivoTrue(1L)).thenReturn(java.util.Optional.of(no));
         when(noOrganogramaRepository.findByIdAndAtivoTrue(2L)).thenReturn(java.util.Optional.of(parent));
-        when(noOrganogramaRepository.findById(2L)).thenReturn(java.util.Optional.of(parent));
         when(noOrganogramaRepository.save(no)).thenReturn(no);
 
         NoOrganogramaDTO dto = new NoOrganogramaDTO(1L, "Nó", "d", 1, 2L, "Pai", 0, true, true,
@@ -513,6 +512,8 @@ class OrganogramaServiceTest {
         NoOrganogramaDTO result = organogramaService.atualizar(1L, dto);
 
         assertEquals(2L, result.parentId());
+        verify(noOrganogramaRepository).desvincularSubarvoreNaClosure(1L);
+        verify(noOrganogramaRepository).vincularSubarvoreNaClosure(1L, 2L);
     }
 
     @Test
@@ -521,9 +522,6 @@ class OrganogramaServiceTest {
         NoOrganograma no = noAtivo(1L, null, 0);
         when(noOrganogramaRepository.findByIdAndAtivoTrue(1L)).thenReturn(java.util.Optional.of(no));
         when(noOrganogramaRepository.findByIdAndAtivoTrue(2L)).thenReturn(java.util.Optional.of(parent));
-        when(noOrganogramaRepository.findById(2L)).thenReturn(java.util.Optional.of(parent));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(no))
-            .thenReturn(Collections.emptyList());
         when(noOrganogramaRepository.save(no)).thenReturn(no);
 
         assertEquals(1, organogramaService.moverNo(1L, 2L, 3).nivel());
@@ -677,28 +675,38 @@ class OrganogramaServiceTest {
         NoOrganograma raiz = noAtivo(1L, null, 0);
         NoOrganograma filho = noAtivo(2L, raiz, 1);
         when(noOrganogramaRepository.findByIdAndAtivoTrue(1L)).thenReturn(java.util.Optional.of(raiz));
-        when(noOrganogramaRepository.findById(2L)).thenReturn(java.util.Optional.of(filho));
+        when(noOrganogramaRepository.existsNaClosure(1L, 2L)).thenReturn(true);
 
         assertThrows(IllegalArgumentException.class, () -> organogramaService.moverNo(1L, 2L, 0));
     }
 
+    @Test
+    void moverNo_mesmoParent_naoAlteraClosure() {
+        NoOrganograma parent = noAtivo(3L, null, 0);
+        NoOrganograma no = noAtivo(1L, parent, 1);
+        when(noOrganogramaRepository.findByIdAndAtivoTrue(1L)).thenReturn(java.util.Optional.of(no));
+        when(noOrganogramaRepository.findByIdAndAtivoTrue(3L)).thenReturn(java.util.Optional.of(parent));
+        when(noOrganogramaRepository.save(no)).thenReturn(no);
+
+        organogramaService.moverNo(1L, 3L, 5);
+
+        verify(noOrganogramaRepository, never()).desvincularSubarvoreNaClosure(any());
+        verify(noOrganogramaRepository, never()).vincularSubarvoreNaClosure(any(), any());
+    }
+
     @Test
     void moverNo_comFilhos_atualizaNiveisRecursivamente() {
         NoOrganograma parent = noAtivo(3L, null, 0);
         NoOrganograma no = noAtivo(1L, null, 0);
-        NoOrganograma filho = noAtivo(2L, no, 1);
+        noAtivo(2L, no, 1);
         when(noOrganogramaRepository.findByIdAndAtivoTrue(1L)).thenReturn(java.util.Optional.of(no));
         when(noOrganogramaRepository.findByIdAndAtivoTrue(3L)).thenReturn(java.util.Optional.of(parent));
-        when(noOrganogramaRepository.findById(3L)).thenReturn(java.util.Optional.of(parent));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(no))
-            .thenReturn(List.of(filho));
-        when(noOrganogramaRepository.findByParentAndAtivoTrueOrderByPosicao(filho))
-            .thenReturn(Collections.emptyList());
+        when(noOrganogramaRepository.findIdsSubarvoreAtiva(1L)).thenReturn(List.of(1L, 2L));
         when(noOrganogramaRepository.save(any(NoOrganograma.class))).thenAnswer(inv -> inv.getArgument(0));
 
         organogramaService.moverNo(1L, 3L, 1);
 
-        verify(noOrganogramaRepository).save(filho);
+        verify(noOrganogramaRepository).atualizarNiveisDescendentes(1L, 1, List.of(1L, 2L));
     }
 
     @Test
@@ -825,7 +833,7 @@ class OrganogramaServiceTest {
 
     @Test
     void validarCicloHierarquico_parentInexistente_naoLanca() {
-        when(noOrganogramaRepository.findById(99L)).thenReturn(java.util.Optional.empty());
+        when(noOrganogramaRepository.existsNaClosure(1L, 99L)).thenReturn(false);
 
         ReflectionTestUtils.invokeMethod(organogramaService, "validarCicloHierarquico", 1L, 99L);
     }
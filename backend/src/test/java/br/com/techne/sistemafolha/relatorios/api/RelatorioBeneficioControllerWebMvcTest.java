@@ -5,16 +5,19 @@ import br.com.techne.sistemafolha.config.SecurityConfig;
 import br.com.techne.sistemafolha.exception.GlobalExceptionHandler;
 import br.com.techne.sistemafolha.relatorios.application.RelatorioGeracaoService;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioIndisponivelException;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioNotFoundException;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioTipo;
 import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -28,6 +31,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -45,7 +49,7 @@ class RelatorioBeneficioControllerWebMvcTest {
     private JwtService jwtService;
 
     @MockBean
-    private UserDetailsService userDetailsService;
+    private UsuarioPrincipalCache usuarioPrincipalCache;
 
     @MockBean
     private ApiKeyService apiKeyService;
@@ -75,21 +79,67 @@ class RelatorioBeneficioControllerWebMvcTest {
 
     @Test
     @WithMockUser(username = "gestor@teste.com", roles = "USER")
-    void gerar_valido_retorna200ComDto() throws Exception {
+    void gerar_valido_retorna202ComLocationDoRelatorio() throws Exception {
         YearMonth atual = YearMonth.now();
         RelatorioBeneficioDTO dto = new RelatorioBeneficioDTO(
             2L, atual.getMonthValue(), atual.getYear(),
             new BigDecimal("2000"), new BigDecimal("10000"),
-            RelatorioStatus.PROCESSADO, null, null, null, false);
+            RelatorioStatus.PENDENTE, null, null, null, false);
         when(relatorioGeracaoService.gerarBeneficio(eq("gestor@teste.com"), anyInt(), anyInt()))
             .thenReturn(dto);
 
-        mockMvc.perform(post("/relatorios/beneficio")
+        mockMvc.perform(post("/api/relatorios/beneficio").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"mes\":" + atual.getMonthValue() + ",\"ano\":" + atual.getYear() + "}"))
-            .andExpect(status().isOk())
+            .andExpect(status().isAccepted())
+            .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/api/relatorios/beneficio/2"))
             .andExpect(jsonPath("$.id").value(2))
-            .andExpect(jsonPath("$.status").value("PROCESSADO"));
+            .andExpect(jsonPath("$.status").value("PENDENTE"));
+    }
+
+    @Test
+    @WithMockUser(username = "gestor@teste.com", roles = "USER")
+    void gerar_prioridadeNoCorpo_eIgnoradaPeloServidor() throws Exception {
+        YearMonth atual = YearMonth.now();
+        RelatorioBeneficioDTO dto = new RelatorioBeneficioDTO(
+            2L, atual.getMonthValue(), atual.getYear(),
+            new BigDecimal("2000"), new BigDecimal("10000"),
+            RelatorioStatus.PENDENTE, null, null, null, false);
+        when(relatorioGeracaoService.gerarBeneficio(
+            eq("gestor@teste.com"), anyInt(), anyInt()))
+            .thenReturn(dto);
+
+        mockMvc.perform(post("/relatorios/beneficio")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"mes\":" + atual.getMonthValue() + ",\"ano\":" + atual.getYear()
+                    + ",\"prioridade\":\"RECUPERACAO\"}"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.id").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "gestor@teste.com", roles = "USER")
+    void consultar_existente_retornaSituacao() throws Exception {
+        YearMonth atual = YearMonth.now();
+        RelatorioBeneficioDTO dto = new RelatorioBeneficioDTO(
+            2L, atual.getMonthValue(), atual.getYear(),
+            new BigDecimal("2000"), new BigDecimal("10000"),
+            RelatorioStatus.PENDENTE, null, null, null, false);
+        when(relatorioGeracaoService.consultarBeneficio("gestor@teste.com", 2L)).thenReturn(dto);
+
+        mockMvc.perform(get("/relatorios/beneficio/2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("PENDENTE"));
+    }
+
+    @Test
+    @WithMockUser(username = "gestor@teste.com", roles = "USER")
+    void consultar_inexistente_retorna404() throws Exception {
+        when(relatorioGeracaoService.consultarBeneficio("gestor@teste.com", 99L))
+            .thenThrow(new RelatorioNotFoundException(99L));
+
+        mockMvc.perform(get("/relatorios/beneficio/99"))
+            .andExpect(status().isNotFound());
     }
 
     @Test
@@ -108,7 +158,7 @@ class RelatorioBeneficioControllerWebMvcTest {
     void download_processado_retornaPdf() throws Exception {
         byte[] pdf = "%PDF-benef".getBytes(StandardCharsets.UTF_8);
         when(relatorioGeracaoService.downloadPdf("gestor@teste.com", 2L, RelatorioTipo.BENEFICIO))
-            .thenReturn(pdf);
+            .thenReturn(new ByteArrayResource(pdf));
 
         mockMvc.perform(get("/relatorios/beneficio/2/download"))
             .andExpect(status().isOk())
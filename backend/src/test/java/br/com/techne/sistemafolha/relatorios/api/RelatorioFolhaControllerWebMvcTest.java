@@ -12,13 +12,15 @@ import br.com.techne.sistemafolha.relatorios.domain.RelatorioNotFoundException;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioTipo;
 import br.com.techne.sistemafolha.security.JwtService;
+import br.com.techne.sistemafolha.security.UsuarioPrincipalCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -35,6 +37,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -54,7 +57,7 @@ class RelatorioFolhaControllerWebMvcTest {
     private JwtService jwtService;
 
     @MockBean
-    private UserDetailsService userDetailsService;
+    private UsuarioPrincipalCache usuarioPrincipalCache;
 
     @MockBean
     private ApiKeyService apiKeyService;
@@ -84,21 +87,67 @@ class RelatorioFolhaControllerWebMvcTest {
 
     @Test
     @WithMockUser(username = "gestor@teste.com", roles = "USER")
-    void gerar_valido_retorna200ComDto() throws Exception {
+    void gerar_valido_retorna202ComLocationDoRelatorio() throws Exception {
         YearMonth atual = YearMonth.now();
         RelatorioFolhaDTO dto = new RelatorioFolhaDTO(
             1L, atual.getMonthValue(), atual.getYear(),
             100, new BigDecimal("5000"), new BigDecimal("500"),
-            RelatorioStatus.PROCESSADO, null, null, LocalDateTime.now(), false);
+            RelatorioStatus.PENDENTE, null, null, LocalDateTime.now(), false);
         when(relatorioGeracaoService.gerarFolha(eq("gestor@teste.com"), anyInt(), anyInt()))
             .thenReturn(dto);
 
-        mockMvc.perform(post("/relatorios/folha")
+        mockMvc.perform(post("/api/relatorios/folha").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"mes\":" + atual.getMonthValue() + ",\"ano\":" + atual.getYear() + "}"))
-            .andExpect(status().isOk())
+            .andExpect(status().isAccepted())
+            .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/api/relatorios/folha/1"))
             .andExpect(jsonPath("$.id").value(1))
-            .andExpect(jsonPath("$.status").value("PROCESSADO"));
+            .andExpect(jsonPath("$.status").value("PENDENTE"));
+    }
+
+    @Test
+    @WithMockUser(username = "gestor@teste.com", roles = "USER")
+    void gerar_prioridadeNoCorpo_eIgnoradaPeloServidor() throws Exception {
+        YearMonth atual = YearMonth.now();
+        RelatorioFolhaDTO dto = new RelatorioFolhaDTO(
+            1L, atual.getMonthValue(), atual.getYear(),
+            100, new BigDecimal("5000"), new BigDecimal("500"),
+            RelatorioStatus.PENDENTE, null, null, LocalDateTime.now(), false);
+        when(relatorioGeracaoService.gerarFolha(
+            eq("gestor@teste.com"), anyInt(), anyInt()))
+            .thenReturn(dto);
+
+        mockMvc.perform(post("/relatorios/folha")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"mes\":" + atual.getMonthValue() + ",\"ano\":" + atual.getYear()
+                    + ",\"prioridade\":\"RECUPERACAO\"}"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    @WithMockUser(username = "gestor@teste.com", roles = "USER")
+    void consultar_existente_retornaSituacao() throws Exception {
+        YearMonth atual = YearMonth.now();
+        RelatorioFolhaDTO dto = new RelatorioFolhaDTO(
+            1L, atual.getMonthValue(), atual.getYear(),
+            100, new BigDecimal("5000"), new BigDecimal("500"),
+            RelatorioStatus.PENDENTE, null, null, LocalDateTime.now(), false);
+        when(relatorioGeracaoService.consultarFolha("gestor@teste.com", 1L)).thenReturn(dto);
+
+        mockMvc.perform(get("/relatorios/folha/1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("PENDENTE"));
+    }
+
+    @Test
+    @WithMockUser(username = "gestor@teste.com", roles = "USER")
+    void consultar_inexistente_retorna404() throws Exception {
+        when(relatorioGeracaoService.consultarFolha("gestor@teste.com", 99L))
+            .thenThrow(new RelatorioNotFoundException(99L));
+
+        mockMvc.perform(get("/relatorios/folha/99"))
+            .andExpect(status().isNotFound());
     }
 
     @Test
@@ -117,7 +166,7 @@ class RelatorioFolhaControllerWebMvcTest {
     void download_processado_retornaPdf() throws Exception {
         byte[] pdf = "%PDF-folha".getBytes(StandardCharsets.UTF_8);
         when(relatorioGeracaoService.downloadPdf("gestor@teste.com", 1L, RelatorioTipo.FOLHA))
-            .thenReturn(pdf);
+            .thenReturn(new ByteArrayResource(pdf));
 
         mockMvc.perform(get("/relatorios/folha/1/download"))
             .andExpect(status().isOk())
@@ -125,6 +174,19 @@ class RelatorioFolhaControllerWebMvcTest {
             .andExpect(content().bytes(pdf));
     }
 
+    @Test
+    @WithMockUser(username = "gestor@teste.com", roles = "USER")
+    void download_comRange_retornaConteudoParcial() throws Exception {
+        byte[] pdf = "%PDF-folha".getBytes(StandardCharsets.UTF_8);
+        when(relatorioGeracaoService.downloadPdf("gestor@teste.com", 1L, RelatorioTipo.FOLHA))
+            .thenReturn(new ByteArrayResource(pdf));
+
+        mockMvc.perform(get("/relatorios/folha/1/download").header(HttpHeaders.RANGE, "bytes=0-3"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-3/" + pdf.length))
+            .andExpect(content().bytes("%PDF".getBytes(StandardCharsets.UTF_8)));
+    }
+
     @Test
     @WithMockUser(username = "gestor@teste.com", roles = "USER")
     void download_erro_retorna409() throws Exception {
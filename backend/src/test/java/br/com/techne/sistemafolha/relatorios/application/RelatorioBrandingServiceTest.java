@@ -6,7 +6,11 @@ import org.springframework.core.io.ResourceLoader;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class RelatorioBrandingServiceTest {
 
@@ -45,4 +49,17 @@ class RelatorioBrandingServiceTest {
         assertFalse(theme.logoBytes().isPresent());
         assertEquals("#7836FC", theme.primaryColor());
     }
+
+    @Test
+    void load_chamadasSeguidas_leLogoUmaVez() {
+        RelatorioBrandingProperties props = new RelatorioBrandingProperties();
+        ResourceLoader loader = spy(new DefaultResourceLoader());
+        RelatorioBrandingService service = new RelatorioBrandingService(props, loader);
+
+        service.preload();
+        BrandingTheme theme = service.load();
+
+        assertSame(theme, service.load());
+        verify(loader, times(1)).getResource("classpath:branding/logo.png");
+    }
 }
@@ -0,0 +1,217 @@
+package br.com.techne.sistemafolha.relatorios.application;
+
+import br.com.techne.sistemafolha.relatorios.api.RelatorioFilaMetricasDTO;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioPrioridade;
+import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioEmExecucaoUsuarioProjection;
+import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioFilaCandidatoProjection;
+import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RelatorioFilaDespachanteTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+    private static final Instant FIXED = Instant.parse("2026-06-15T12:00:00Z");
+    private static final LocalDateTime AGORA = LocalDateTime.ofInstant(FIXED, ZONE);
+
+    @Mock
+    private RelatorioRepository relatorioRepository;
+    @Mock
+    private RelatorioGeracaoWorker relatorioGeracaoWorker;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RelatorioGeracaoProperties properties;
+    private RelatorioFilaDespachante despachante;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RelatorioGeracaoProperties();
+        properties.setParalelismo(1);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(relatorioRepository.reservarParaProcessamento(anyLong(), any())).thenReturn(1);
+        when(relatorioRepository.findCandidatosFila(any(), any(Pageable.class))).thenReturn(List.of());
+        despachante = new RelatorioFilaDespachante(
+            relatorioRepository, relatorioGeracaoWorker, properties, transactionManager, Clock.fixed(FIXED, ZONE));
+    }
+
+    @Test
+    void despachar_interativaAntesDeRecuperacao() {
+        when(relatorioRepository.findCandidatosFila(eq(RelatorioPrioridade.RECUPERACAO), any(Pageable.class)))
+            .thenReturn(List.of(candidato(1L, 7L, AGORA.minusMinutes(30))));
+        when(relatorioRepository.findCandidatosFila(eq(RelatorioPrioridade.INTERATIVA), any(Pageable.class)))
+            .thenReturn(List.of(candidato(2L, 7L, AGORA.minusSeconds(5))));
+        when(relatorioGeracaoWorker.processar(2L)).thenReturn(new CompletableFuture<>());
+
+        despachante.despachar();
+
+        verify(relatorioGeracaoWorker).processar(2L);
+        verify(relatorioGeracaoWorker, never()).processar(1L);
+    }
+
+    @Test
+    void despachar_mesmaPrioridade_preferUsuarioComMenosEmExecucao() {
+        when(relatorioRepository.contarEmExecucaoPorUsuario()).thenReturn(List.of(emExecucao(7L, 2L)));
+        when(relatorioRepository.findCandidatosFila(eq(RelatorioPrioridade.INTERATIVA), any(Pageable.class)))
+            .thenReturn(List.of(
+                candidato(1L, 7L, AGORA.minusMinutes(10)),
+                candidato(2L, 8L, AGORA.minusMinutes(1))));
+        when(relatorioGeracaoWorker.processar(2L)).thenReturn(new CompletableFuture<>());
+
+        despachante.despachar();
+
+        verify(relatorioGeracaoWorker).processar(2L);
+        verify(relatorioGeracaoWorker, never()).processar(1L);
+    }
+
+    @Test
+    void despachar_semCapacidade_naoConsultaFila() {
+        when(relatorioRepository.findCandidatosFila(eq(RelatorioPrioridade.INTERATIVA), any(Pageable.class)))
+            .thenReturn(List.of(candidato(1L, 7L, AGORA)));
+        when(relatorioGeracaoWorker.processar(1L)).thenReturn(new CompletableFuture<>());
+        despachante.despachar();
+
+        despachante.despachar();
+
+        verify(relatorioGeracaoWorker, times(1)).processar(anyLong());
+        verify(relatorioRepository, times(1)).findCandidatosFila(eq(RelatorioPrioridade.INTERATIVA), any());
+    }
+
+    @Test
+    void despachar_reservaPerdidaParaOutraInstancia_naoExecuta() {
+        when(relatorioRepository.findCandidatosFila(eq(RelatorioPrioridade.INTERATIVA), any(Pageable.class)))
+            .thenReturn(List.of(candidato(1L, 7L, AGORA)))
+            .thenReturn(List.of());
+        when(relatorioRepository.reservarParaProcessamento(1L, AGORA)).thenReturn(0);
+
+        despachante.despachar();
+
+        verify(relatorioGeracaoWorker, never()).processar(anyLong());
+    }
+
+    @Test
+    void despachar_executorRecusa_devolveParaFila() {
+        when(relatorioRepository.findCandidatosFila(eq(RelatorioPrioridade.INTERATIVA), any(Pageable.class)))
+            .thenReturn(List.of(candidato(1L, 7L, AGORA)));
+        when(relatorioGeracaoWorker.processar(1L)).thenThrow(new TaskRejectedException("cheio"));
+
+        despachante.despachar();
+
+        verify(relatorioRepository).devolverParaFila(1L, AGORA);
+        assertEquals(0, despachante.metricas().emExecucao());
+    }
+
+    @Test
+    void despachar_conclusao_liberaVagaEDespachaProximo() {
+        CompletableFuture<Void> primeiro = new CompletableFuture<>();
+        when(relatorioRepository.findCandidatosFila(eq(RelatorioPrioridade.INTERATIVA), any(Pageable.class)))
+            .thenReturn(List.of(candidato(1L, 7L, AGORA)))
+            .thenReturn(List.of(candidato(2L, 8L, AGORA)));
+        when(relatorioGeracaoWorker.processar(1L)).thenReturn(primeiro);
+        when(relatorioGeracaoWorker.processar(2L)).thenReturn(new CompletableFuture<>());
+        despachante.despachar();
+
+        primeiro.complete(null);
+
+        verify(relatorioGeracaoWorker).processar(2L);
+        assertEquals(1, despachante.metricas().emExecucao());
+    }
+
+    @Test
+    void varrer_renovaHeartbeatDosRelatoriosEmExecucao() {
+        when(relatorioRepository.findCandidatosFila(eq(RelatorioPrioridade.INTERATIVA), any(Pageable.class)))
+            .thenReturn(List.of(candidato(1L, 7L, AGORA)));
+        when(relatorioGeracaoWorker.processar(1L)).thenReturn(new CompletableFuture<>());
+        despachante.despachar();
+
+        despachante.varrer();
+
+        verify(relatorioRepository).renovarHeartbeat(List.of(1L), AGORA);
+    }
+
+    @Test
+    void varrer_semExecucao_naoRenovaHeartbeat() {
+        despachante.varrer();
+
+        verify(relatorioRepository, never()).renovarHeartbeat(any(), any());
+    }
+
+    @Test
+    void metricas_profundidadePorPrioridadeEEsperaRegistrada() {
+        when(relatorioRepository.findCandidatosFila(eq(RelatorioPrioridade.INTERATIVA), any(Pageable.class)))
+            .thenReturn(List.of(candidato(1L, 7L, AGORA.minusSeconds(4))));
+        when(relatorioGeracaoWorker.processar(1L)).thenReturn(new CompletableFuture<>());
+        when(relatorioRepository.contarNaFila(RelatorioPrioridade.INTERATIVA)).thenReturn(3L);
+        when(relatorioRepository.contarNaFila(RelatorioPrioridade.RECUPERACAO)).thenReturn(5L);
+        when(relatorioRepository.findEnfileiramentoMaisAntigo()).thenReturn(AGORA.minusSeconds(90));
+        despachante.despachar();
+
+        RelatorioFilaMetricasDTO metricas = despachante.metricas();
+
+        assertEquals(3L, metricas.profundidade().get(RelatorioPrioridade.INTERATIVA));
+        assertEquals(5L, metricas.profundidade().get(RelatorioPrioridade.RECUPERACAO));
+        assertEquals(90L, metricas.esperaMaisAntigaSegundos());
+        assertEquals(1L, metricas.despachados());
+        assertEquals(4000L, metricas.esperaMaximaMs());
+    }
+
+    private static RelatorioFilaCandidatoProjection candidato(Long id, Long usuarioId, LocalDateTime enfileiramento) {
+        return new RelatorioFilaCandidatoProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUsuarioId() {
+                return usuarioId;
+            }
+
+            @Override
+            public LocalDateTime getDataEnfileiramento() {
+                return enfileiramento;
+            }
+        };
+    }
+
+    private static RelatorioEmExecucaoUsuarioProjection emExecucao(Long usuarioId, Long quantidade) {
+        return new RelatorioEmExecucaoUsuarioProjection() {
+            @Override
+            public Long getUsuarioId() {
+                return usuarioId;
+            }
+
+            @Override
+            public Long getEmExecucao() {
+                return quantidade;
+            }
+        };
+    }
+}
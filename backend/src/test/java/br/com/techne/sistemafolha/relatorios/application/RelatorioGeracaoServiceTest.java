@@ -8,10 +8,14 @@ import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
 import br.com.techne.sistemafolha.relatorios.api.RelatorioFolhaDTO;
 import br.com.techne.sistemafolha.relatorios.domain.Relatorio;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioAcessoNegadoException;
+import br.com.techne.sistemafolha.relatorios.application.armazenamento.RelatorioArmazenamentoProperties;
+import br.com.techne.sistemafolha.relatorios.application.armazenamento.RelatorioArquivoArmazenamentos;
+import br.com.techne.sistemafolha.relatorios.application.armazenamento.RelatorioArquivoBancoArmazenamento;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioArquivo;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioGeracaoLimiteException;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioIndisponivelException;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioNotFoundException;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioPrioridade;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioTipo;
 import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioArquivoRepository;
@@ -19,10 +23,12 @@ import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.core.io.Resource;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.SimpleTransactionStatus;
@@ -39,19 +45,20 @@ import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -68,7 +75,7 @@ class RelatorioGeracaoServiceTest {
     @Mock
     private RelatorioArquivoRepository relatorioArquivoRepository;
     @Mock
-    private RelatorioGeracaoWorker relatorioGeracaoWorker;
+    private RelatorioFilaDespachante filaDespachante;
     @Mock
     private UsuarioLookupPort usuarioLookupPort;
     @Mock
@@ -80,11 +87,9 @@ class RelatorioGeracaoServiceTest {
     @Mock
     private RelatorioStaleDetector staleDetector;
 
-    @Mock
-    private Consumer<Long> staleEnqueueFn;
-
     private RelatorioGeracaoProperties properties;
 
+    private RelatorioArquivoArmazenamentos armazenamentos;
     private RelatorioGeracaoService service;
 
     private Usuario usuario;
@@ -109,17 +114,20 @@ class RelatorioGeracaoServiceTest {
         }).when(transactionManager).commit(any());
 
         when(staleRecoveryService.contarPendentesAtivos(1L)).thenReturn(0L);
+        armazenamentos = new RelatorioArquivoArmazenamentos(
+            List.of(new RelatorioArquivoBancoArmazenamento()), new RelatorioArmazenamentoProperties());
 
         service = new RelatorioGeracaoService(
             relatorioRepository,
             relatorioArquivoRepository,
-            relatorioGeracaoWorker,
+            filaDespachante,
             properties,
             usuarioLookupPort,
             organogramaAcessoPort,
             staleRecoveryService,
             staleDetector,
-            transactionManager);
+            transactionManager,
+            armazenamentos);
 
         usuario = new Usuario();
         usuario.setId(1L);
@@ -181,14 +189,13 @@ class RelatorioGeracaoServiceTest {
             salvo.setId(10L);
             return salvo;
         });
-        when(relatorioGeracaoWorker.processar(10L)).thenReturn(CompletableFuture.completedFuture(null));
-        when(relatorioRepository.findById(10L)).thenReturn(Optional.of(relatorio));
         when(staleDetector.isStale(any(), eq(false))).thenReturn(false);
 
         RelatorioFolhaDTO dto = service.gerarFolha(LOGIN, 1, YearMonth.now().getYear());
 
         assertEquals(RelatorioStatus.PENDENTE, dto.status());
-        verify(staleRecoveryService).recuperarParaUsuario(1L);
+        verify(staleRecoveryService).recuperarStale();
+        verify(filaDespachante).despacharAposCommit();
     }
 
     @Test
@@ -205,45 +212,51 @@ class RelatorioGeracaoServiceTest {
         staleProps.setStaleGraceSegundos(120);
         Clock clock = Clock.fixed(Instant.parse("2026-06-15T12:00:00Z"), ZoneId.of("America/Sao_Paulo"));
         RelatorioStaleDetector realDetector = new RelatorioStaleDetector(staleProps, clock);
-        RelatorioRecoveryTracker realTracker = new RelatorioRecoveryTracker();
         RelatorioStaleRecoveryService realStaleService = new RelatorioStaleRecoveryService(
             relatorioRepository,
-            relatorioArquivoRepository,
             realDetector,
-            realTracker,
-            staleEnqueueFn,
-            transactionManager);
+            filaDespachante,
+            transactionManager,
+            clock);
 
         service = new RelatorioGeracaoService(
             relatorioRepository,
             relatorioArquivoRepository,
-            relatorioGeracaoWorker,
+            filaDespachante,
             properties,
             usuarioLookupPort,
             organogramaAcessoPort,
             realStaleService,
             staleDetector,
-            transactionManager);
+            transactionManager,
+            armazenamentos);
 
         when(usuarioLookupPort.findByLoginAndAtivoTrue(LOGIN)).thenReturn(Optional.of(usuario));
         when(organogramaAcessoPort.obterContextoAcesso(1L)).thenReturn(
             new AccessContextDTO(true, true, true, null, null, 1L, "Dir", 1));
         when(relatorioRepository.findByUsuarioIdAndTipoAndMesAndAnoAndAtivoTrue(
             1L, RelatorioTipo.FOLHA, mes, ano)).thenReturn(Optional.of(relatorio));
-        when(relatorioRepository.findByUsuarioIdAndStatusAndAtivoTrue(1L, RelatorioStatus.PENDENTE))
-            .thenReturn(List.of(relatorio));
+        when(relatorioRepository.reenfileirarStale(any(), any())).thenAnswer(invocation -> {
+            // o UPDATE em lote devolve o relatório à fila e conta a tentativa
+            relatorio.setDataEnfileiramento(invocation.getArgument(1));
+            relatorio.setTentativasRecuperacao(1);
+            return 1;
+        });
         when(relatorioRepository.findById(10L)).thenReturn(Optional.of(relatorio));
         when(relatorioRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(relatorioArquivoRepository.findByRelatorioId(10L)).thenReturn(Optional.empty());
-        when(relatorioGeracaoWorker.processar(10L)).thenReturn(CompletableFuture.completedFuture(null));
-        when(staleDetector.isStale(relatorio, false)).thenReturn(true);
+        when(staleDetector.isStale(relatorio, false)).thenReturn(false);
 
         RelatorioFolhaDTO dto = service.gerarFolha(LOGIN, mes, ano);
 
         assertEquals(RelatorioStatus.PENDENTE, dto.status());
         assertNotEquals(RelatorioStatus.ERRO, dto.status());
-        verify(staleEnqueueFn, times(1)).accept(10L);
-        verify(relatorioGeracaoWorker).processar(10L);
+        InOrder ordem = inOrder(relatorioRepository);
+        ordem.verify(relatorioRepository)
+            .promoverStaleAErro(any(), any(), eq(RelatorioGeracaoConstants.ERRO_TEMPO_ESGOTADO));
+        ordem.verify(relatorioRepository, times(1)).reenfileirarStale(any(), any());
+        verify(filaDespachante, atLeastOnce()).despacharAposCommit();
+        assertNotNull(relatorio.getDataEnfileiramento());
+        assertEquals(1, relatorio.getTentativasRecuperacao());
         verify(relatorioRepository, never()).save(org.mockito.ArgumentMatchers.argThat(
             r -> ((Relatorio) r).getStatus() == RelatorioStatus.ERRO));
     }
@@ -262,22 +275,76 @@ class RelatorioGeracaoServiceTest {
             1L, RelatorioTipo.FOLHA, mes, ano)).thenReturn(Optional.of(relatorio));
         when(relatorioRepository.findById(10L)).thenReturn(Optional.of(relatorio));
         when(relatorioRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(relatorioGeracaoWorker.processar(10L)).thenReturn(CompletableFuture.completedFuture(null));
         when(staleDetector.isStale(relatorio, false)).thenReturn(false);
         when(relatorioArquivoRepository.findByRelatorioId(10L)).thenReturn(Optional.empty());
 
         service.gerarFolha(LOGIN, mes, ano);
 
-        verify(relatorioGeracaoWorker).processar(10L);
+        verify(filaDespachante).despacharAposCommit();
+        assertNotNull(relatorio.getDataEnfileiramento());
         verify(staleRecoveryService, never()).contarPendentesAtivos(1L);
     }
 
+    @Test
+    void gerarFolha_mesmaTuplaEmExecucao_naoCriaSegundoJob() {
+        int mes = 1;
+        int ano = YearMonth.now().getYear();
+        LocalDateTime enfileirado = LocalDateTime.now().minusSeconds(30);
+        relatorio.setMes(mes);
+        relatorio.setStatus(RelatorioStatus.PENDENTE);
+        relatorio.setDataEnfileiramento(enfileirado);
+        relatorio.setDataInicioProcessamento(LocalDateTime.now().minusSeconds(10));
+
+        when(usuarioLookupPort.findByLoginAndAtivoTrue(LOGIN)).thenReturn(Optional.of(usuario));
+        when(organogramaAcessoPort.obterContextoAcesso(1L)).thenReturn(
+            new AccessContextDTO(true, true, true, null, null, 1L, "Dir", 1));
+        when(relatorioRepository.findByUsuarioIdAndTipoAndMesAndAnoAndAtivoTrue(
+            1L, RelatorioTipo.FOLHA, mes, ano)).thenReturn(Optional.of(relatorio));
+        when(relatorioRepository.findById(10L)).thenReturn(Optional.of(relatorio));
+        when(staleDetector.isStale(relatorio, false)).thenReturn(false);
+
+        RelatorioFolhaDTO dto = service.gerarFolha(LOGIN, mes, ano);
+
+        assertEquals(RelatorioStatus.PENDENTE, dto.status());
+        assertEquals(enfileirado, relatorio.getDataEnfileiramento());
+        assertNotNull(relatorio.getDataInicioProcessamento());
+        verify(relatorioRepository, never()).save(any());
+        verify(relatorioArquivoRepository, never()).delete(any());
+    }
+
+    @Test
+    void gerarFolha_mesmaTuplaNaFilaDeRecuperacao_naoAntecipaPrioridade() {
+        int mes = 1;
+        int ano = YearMonth.now().getYear();
+        LocalDateTime enfileirado = LocalDateTime.now().minusMinutes(5);
+        relatorio.setMes(mes);
+        relatorio.setStatus(RelatorioStatus.PENDENTE);
+        relatorio.setPrioridade(RelatorioPrioridade.RECUPERACAO);
+        relatorio.setDataEnfileiramento(enfileirado);
+
+        when(usuarioLookupPort.findByLoginAndAtivoTrue(LOGIN)).thenReturn(Optional.of(usuario));
+        when(organogramaAcessoPort.obterContextoAcesso(1L)).thenReturn(
+            new AccessContextDTO(true, true, true, null, null, 1L, "Dir", 1));
+        when(relatorioRepository.findByUsuarioIdAndTipoAndMesAndAnoAndAtivoTrue(
+            1L, RelatorioTipo.FOLHA, mes, ano)).thenReturn(Optional.of(relatorio));
+        when(relatorioRepository.findById(10L)).thenReturn(Optional.of(relatorio));
+        when(staleDetector.isStale(relatorio, false)).thenReturn(false);
+
+        service.gerarFolha(LOGIN, mes, ano);
+
+        assertEquals(RelatorioPrioridade.RECUPERACAO, relatorio.getPrioridade());
+        assertEquals(enfileirado, relatorio.getDataEnfileiramento());
+        verify(relatorioRepository, never()).save(any());
+        verify(filaDespachante).despacharAposCommit();
+    }
+
     @Test
     void gerarFolha_mesmaTupla_substituiRegistroAnterior() {
         int mes = 1;
         int ano = YearMonth.now().getYear();
         relatorio.setMes(mes);
         relatorio.setStatus(RelatorioStatus.PROCESSADO);
+        relatorio.setPrioridade(RelatorioPrioridade.RECUPERACAO);
 
         when(usuarioLookupPort.findByLoginAndAtivoTrue(LOGIN)).thenReturn(Optional.of(usuario));
         when(organogramaAcessoPort.obterContextoAcesso(1L)).thenReturn(
@@ -289,22 +356,19 @@ class RelatorioGeracaoServiceTest {
             assertEquals(RelatorioStatus.PENDENTE, salvo.getStatus());
             return salvo;
         });
-        when(relatorioGeracaoWorker.processar(10L)).thenAnswer(invocation -> {
-            relatorio.setStatus(RelatorioStatus.PROCESSADO);
-            return CompletableFuture.completedFuture(null);
-        });
         when(relatorioRepository.findById(10L)).thenReturn(Optional.of(relatorio));
         when(staleDetector.isStale(any(), eq(false))).thenReturn(false);
 
         RelatorioFolhaDTO dto = service.gerarFolha(LOGIN, mes, ano);
 
-        assertEquals(RelatorioStatus.PROCESSADO, dto.status());
-        verify(relatorioArquivoRepository).findByRelatorioId(10L);
+        assertEquals(RelatorioStatus.PENDENTE, dto.status());
+        assertEquals(RelatorioPrioridade.INTERATIVA, relatorio.getPrioridade());
+        verify(relatorioArquivoRepository, atLeastOnce()).findByRelatorioId(10L);
         verify(relatorioRepository).save(relatorio);
     }
 
     @Test
-    void downloadPdf_processado_retornaBytes() {
+    void downloadPdf_processado_retornaBytes() throws Exception {
         relatorio.setStatus(RelatorioStatus.PROCESSADO);
         byte[] pdf = "%PDF".getBytes(StandardCharsets.UTF_8);
         RelatorioArquivo arquivo = new RelatorioArquivo();
@@ -315,9 +379,9 @@ class RelatorioGeracaoServiceTest {
             .thenReturn(Optional.of(relatorio));
         when(relatorioArquivoRepository.findByRelatorioId(10L)).thenReturn(Optional.of(arquivo));
 
-        byte[] result = service.downloadPdf(LOGIN, 10L, RelatorioTipo.FOLHA);
+        Resource result = service.downloadPdf(LOGIN, 10L, RelatorioTipo.FOLHA);
 
-        assertArrayEquals(pdf, result);
+        assertArrayEquals(pdf, result.getContentAsByteArray());
     }
 
     @Test
@@ -344,7 +408,7 @@ class RelatorioGeracaoServiceTest {
     }
 
     @Test
-    void listarFolha_filtraPorUsuarioIdEExecutaRecovery() {
+    void listarFolha_filtraPorUsuarioIdSemExecutarRecovery() {
         Relatorio antigo = new Relatorio();
         antigo.setId(1L);
         antigo.setTipo(RelatorioTipo.FOLHA);
@@ -372,7 +436,7 @@ class RelatorioGeracaoServiceTest {
 
         assertEquals(2, resultado.size());
         assertEquals(2026, resultado.get(0).ano());
-        verify(staleRecoveryService).recuperarParaUsuario(1L);
+        verify(staleRecoveryService, never()).recuperarStale();
         verify(relatorioRepository).findByUsuarioIdAndTipoAndAtivoTrueOrderByAnoDescMesDesc(1L, RelatorioTipo.FOLHA);
     }
 
@@ -385,7 +449,7 @@ class RelatorioGeracaoServiceTest {
         when(usuarioLookupPort.findByLoginAndAtivoTrue(LOGIN)).thenReturn(Optional.of(usuario));
         when(relatorioRepository.findByUsuarioIdAndTipoAndAtivoTrueOrderByAnoDescMesDesc(1L, RelatorioTipo.FOLHA))
             .thenReturn(List.of(relatorio));
-        when(relatorioArquivoRepository.findByRelatorioId(10L)).thenReturn(Optional.empty());
+        when(relatorioArquivoRepository.existsByRelatorioId(10L)).thenReturn(false);
         when(staleDetector.isStale(relatorio, false)).thenReturn(true);
 
         List<RelatorioFolhaDTO> resultado = service.listarFolha(LOGIN);
@@ -395,7 +459,7 @@ class RelatorioGeracaoServiceTest {
     }
 
     @Test
-    void gerarFolha_disparaWorkerAposCommit() {
+    void gerarFolha_retornaPendenteESinalizaDespachanteAposSalvar() {
         int mes = 1;
         int ano = YearMonth.now().getYear();
         relatorio.setMes(mes);
@@ -410,16 +474,42 @@ class RelatorioGeracaoServiceTest {
             salvo.setId(10L);
             return salvo;
         });
-        when(relatorioGeracaoWorker.processar(10L)).thenAnswer(invocation -> {
-            relatorio.setStatus(RelatorioStatus.PROCESSADO);
-            return CompletableFuture.completedFuture(null);
-        });
-        when(relatorioRepository.findById(10L)).thenReturn(Optional.of(relatorio));
         when(staleDetector.isStale(any(), eq(false))).thenReturn(false);
 
-        service.gerarFolha(LOGIN, mes, ano);
+        RelatorioFolhaDTO dto = service.gerarFolha(LOGIN, mes, ano);
+
+        assertEquals(10L, dto.id());
+        assertEquals(RelatorioStatus.PENDENTE, dto.status());
+        InOrder ordem = inOrder(relatorioRepository, filaDespachante);
+        ordem.verify(relatorioRepository).save(any());
+        ordem.verify(filaDespachante).despacharAposCommit();
+        verify(staleRecoveryService).recuperarStale();
+    }
 
-        verify(relatorioGeracaoWorker).processar(10L);
-        verify(staleRecoveryService).recuperarParaUsuario(1L);
+    @Test
+    void consultarFolha_outroTipo_lancaRelatorioNotFoundException() {
+        relatorio.setTipo(RelatorioTipo.BENEFICIO);
+
+        when(usuarioLookupPort.findByLoginAndAtivoTrue(LOGIN)).thenReturn(Optional.of(usuario));
+        when(relatorioRepository.findByIdAndUsuarioIdAndAtivoTrue(10L, 1L))
+            .thenReturn(Optional.of(relatorio));
+
+        assertThrows(RelatorioNotFoundException.class, () -> service.consultarFolha(LOGIN, 10L));
+    }
+
+    @Test
+    void consultarFolha_pendente_retornaSituacaoAtual() {
+        relatorio.setStatus(RelatorioStatus.PENDENTE);
+
+        when(usuarioLookupPort.findByLoginAndAtivoTrue(LOGIN)).thenReturn(Optional.of(usuario));
+        when(relatorioRepository.findByIdAndUsuarioIdAndAtivoTrue(10L, 1L))
+            .thenReturn(Optional.of(relatorio));
+        when(relatorioArquivoRepository.existsByRelatorioId(10L)).thenReturn(false);
+        when(staleDetector.isStale(relatorio, false)).thenReturn(false);
+
+        RelatorioFolhaDTO dto = service.consultarFolha(LOGIN, 10L);
+
+        assertEquals(RelatorioStatus.PENDENTE, dto.status());
+        assertFalse(dto.stale());
     }
 }
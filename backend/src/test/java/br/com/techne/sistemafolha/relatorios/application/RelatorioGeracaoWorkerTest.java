@@ -6,7 +6,11 @@ import br.com.techne.sistemafolha.dashboard.api.DashboardStatsDTO;
 import br.com.techne.sistemafolha.dashboard.port.DashboardConsultaPort;
 import br.com.techne.sistemafolha.organograma.acesso.port.AccessContextDTO;
 import br.com.techne.sistemafolha.organograma.acesso.port.OrganogramaAcessoPort;
+import br.com.techne.sistemafolha.relatorios.application.armazenamento.RelatorioArmazenamentoProperties;
+import br.com.techne.sistemafolha.relatorios.application.armazenamento.RelatorioArquivoArmazenamentos;
+import br.com.techne.sistemafolha.relatorios.application.armazenamento.RelatorioArquivoBancoArmazenamento;
 import br.com.techne.sistemafolha.relatorios.domain.Relatorio;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArmazenamentoTipo;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioArquivo;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioStatus;
 import br.com.techne.sistemafolha.relatorios.domain.RelatorioTipo;
@@ -23,10 +27,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -35,6 +42,8 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,8 +63,6 @@ class RelatorioGeracaoWorkerTest {
     private BeneficioConsultaPort beneficioConsultaPort;
     @Mock
     private OrganogramaAcessoPort organogramaAcessoPort;
-    @Mock
-    private RelatorioRecoveryTracker recoveryTracker;
 
     private RelatorioGeracaoProperties properties;
 
@@ -68,6 +75,8 @@ class RelatorioGeracaoWorkerTest {
     void setUp() {
         properties = new RelatorioGeracaoProperties();
         properties.setMaxTamanhoMb(50);
+        RelatorioArmazenamentoProperties armazenamento = new RelatorioArmazenamentoProperties();
+        armazenamento.setTipo(RelatorioArmazenamentoTipo.BANCO);
         worker = new RelatorioGeracaoWorker(
             relatorioRepository,
             relatorioArquivoRepository,
@@ -76,7 +85,7 @@ class RelatorioGeracaoWorkerTest {
             dashboardConsultaPort,
             beneficioConsultaPort,
             organogramaAcessoPort,
-            recoveryTracker);
+            new RelatorioArquivoArmazenamentos(List.of(new RelatorioArquivoBancoArmazenamento()), armazenamento));
 
         usuario = new Usuario();
         usuario.setId(1L);
@@ -96,7 +105,7 @@ class RelatorioGeracaoWorkerTest {
     void processar_sucesso_persistePdfEAtualizaStatusProcessado() throws Exception {
         byte[] pdf = "%PDF-test".getBytes(StandardCharsets.UTF_8);
         when(relatorioRepository.findById(10L)).thenReturn(Optional.of(relatorio));
-        when(relatorioPdfService.renderFolhaExecutivo("gestor@teste.com", 1L, 6, 2024)).thenReturn(pdf);
+        renderizaFolha(pdf);
         when(relatorioArquivoRepository.findByRelatorioId(10L)).thenReturn(Optional.empty());
         when(organogramaAcessoPort.obterContextoAcesso(1L)).thenReturn(
             new AccessContextDTO(true, true, true, null, null, 1L, "Dir", 1));
@@ -121,15 +130,15 @@ class RelatorioGeracaoWorkerTest {
         ArgumentCaptor<RelatorioArquivo> arquivoCaptor = ArgumentCaptor.forClass(RelatorioArquivo.class);
         verify(relatorioArquivoRepository).save(arquivoCaptor.capture());
         assertEquals(pdf.length, arquivoCaptor.getValue().getTamanhoBytes());
-        assertEquals(pdf, arquivoCaptor.getValue().getPdfBytes());
-        verify(recoveryTracker).clear(10L);
+        assertArrayEquals(pdf, arquivoCaptor.getValue().getPdfBytes());
     }
 
     @Test
     void processar_falhaRender_marcaErroTruncado() throws Exception {
         when(relatorioRepository.findById(10L)).thenReturn(Optional.of(relatorio));
-        when(relatorioPdfService.renderFolhaExecutivo(anyString(), anyLong(), anyInt(), anyInt()))
-            .thenThrow(new IllegalStateException("x".repeat(600)));
+        doThrow(new IllegalStateException("x".repeat(600)))
+            .when(relatorioPdfService)
+            .renderFolhaExecutivo(anyString(), anyLong(), anyInt(), anyInt(), any(OutputStream.class));
 
         worker.processar(10L).get();
 
@@ -140,7 +149,6 @@ class RelatorioGeracaoWorkerTest {
         assertEquals("Erro ao gerar relatório", salvo.getErro());
         assertNotNull(salvo.getDataProcessamento());
         verify(relatorioArquivoRepository, never()).save(any());
-        verify(recoveryTracker).clear(10L);
     }
 
     @Test
@@ -148,8 +156,7 @@ class RelatorioGeracaoWorkerTest {
         properties.setMaxTamanhoMb(1);
         byte[] pdfGrande = new byte[2 * 1024 * 1024];
         when(relatorioRepository.findById(10L)).thenReturn(Optional.of(relatorio));
-        when(relatorioPdfService.renderFolhaExecutivo(anyString(), anyLong(), anyInt(), anyInt()))
-            .thenReturn(pdfGrande);
+        renderizaFolha(pdfGrande);
 
         worker.processar(10L).get();
 
@@ -169,7 +176,6 @@ class RelatorioGeracaoWorkerTest {
         worker.processar(99L).get();
 
         verify(relatorioRepository, never()).save(any());
-        verify(recoveryTracker, never()).clear(anyLong());
     }
 
     @Test
@@ -196,14 +202,13 @@ class RelatorioGeracaoWorkerTest {
         assertEquals(RelatorioStatus.ERRO, captor.getValue().getStatus());
         assertEquals("Relatório indisponível", captor.getValue().getErro());
         assertNotNull(captor.getValue().getDataProcessamento());
-        verify(recoveryTracker).clear(10L);
     }
 
     @Test
     void processar_sucesso_logaInicioEFinalizacao() throws Exception {
         byte[] pdf = "%PDF-test".getBytes(StandardCharsets.UTF_8);
         when(relatorioRepository.findById(10L)).thenReturn(Optional.of(relatorio));
-        when(relatorioPdfService.renderFolhaExecutivo("gestor@teste.com", 1L, 6, 2024)).thenReturn(pdf);
+        renderizaFolha(pdf);
         when(relatorioArquivoRepository.findByRelatorioId(10L)).thenReturn(Optional.empty());
         when(organogramaAcessoPort.obterContextoAcesso(1L)).thenReturn(
             new AccessContextDTO(true, true, true, null, null, 1L, "Dir", 1));
@@ -233,8 +238,9 @@ class RelatorioGeracaoWorkerTest {
     @Test
     void processar_falhaRender_logaError() throws Exception {
         when(relatorioRepository.findById(10L)).thenReturn(Optional.of(relatorio));
-        when(relatorioPdfService.renderFolhaExecutivo(anyString(), anyLong(), anyInt(), anyInt()))
-            .thenThrow(new IllegalStateException("falha render"));
+        doThrow(new IllegalStateException("falha render"))
+            .when(relatorioPdfService)
+            .renderFolhaExecutivo(anyString(), anyLong(), anyInt(), anyInt(), any(OutputStream.class));
         ListAppender<ILoggingEvent> appender = capturarLogsRelatorioGeracaoWorker();
 
         worker.processar(10L).get();
@@ -258,4 +264,12 @@ class RelatorioGeracaoWorkerTest {
         logger.addAppender(appender);
         return appender;
     }
+
+    private void renderizaFolha(byte[] pdf) throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(4, OutputStream.class).write(pdf);
+            return null;
+        }).when(relatorioPdfService).renderFolhaExecutivo(
+            eq("gestor@teste.com"), eq(1L), eq(6), eq(2024), any(OutputStream.class));
+    }
 }
@@ -69,6 +69,44 @@ class RelatorioStaleDetectorTest {
         assertFalse(detector.isStale(relatorio, false));
     }
 
+    @Test
+    void isStale_naFilaSemReserva_retornaFalseMesmoAntigo() {
+        LocalDateTime agora = LocalDateTime.ofInstant(FIXED, ZONE);
+        Relatorio relatorio = pendente(agora.minusSeconds(3600));
+        relatorio.setDataEnfileiramento(agora.minusSeconds(3600));
+        assertFalse(detector.isStale(relatorio, false));
+    }
+
+    @Test
+    void isStale_reservado_contaAPartirDoInicioDoProcessamento() {
+        LocalDateTime agora = LocalDateTime.ofInstant(FIXED, ZONE);
+        Relatorio relatorio = pendente(agora.minusSeconds(3600));
+        relatorio.setDataEnfileiramento(agora.minusSeconds(3600));
+        relatorio.setDataInicioProcessamento(agora.minusSeconds(100));
+        assertFalse(detector.isStale(relatorio, false));
+
+        relatorio.setDataInicioProcessamento(agora.minusSeconds(200));
+        assertTrue(detector.isStale(relatorio, false));
+    }
+
+    @Test
+    void isStale_heartbeatRecente_retornaFalseMesmoComInicioAntigo() {
+        LocalDateTime agora = LocalDateTime.ofInstant(FIXED, ZONE);
+        Relatorio relatorio = pendente(agora.minusSeconds(3600));
+        relatorio.setDataEnfileiramento(agora.minusSeconds(3600));
+        relatorio.setDataInicioProcessamento(agora.minusSeconds(1800));
+        relatorio.setDataHeartbeat(agora.minusSeconds(5));
+        assertFalse(detector.isStale(relatorio, false));
+
+        relatorio.setDataHeartbeat(agora.minusSeconds(181));
+        assertTrue(detector.isStale(relatorio, false));
+    }
+
+    @Test
+    void limiteStale_retornaAgoraMenosThreshold() {
+        assertEquals(LocalDateTime.ofInstant(FIXED, ZONE).minusSeconds(180), detector.limiteStale());
+    }
+
     private Relatorio pendente(LocalDateTime dataCriacao) {
         Relatorio relatorio = new Relatorio();
         relatorio.setId(1L);
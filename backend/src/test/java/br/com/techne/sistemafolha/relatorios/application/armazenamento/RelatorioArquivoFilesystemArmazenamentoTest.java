@@ -0,0 +1,152 @@
+package br.com.techne.sistemafolha.relatorios.application.armazenamento;
+
+import br.com.techne.sistemafolha.relatorios.domain.Relatorio;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArmazenamentoTipo;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArquivo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RelatorioArquivoFilesystemArmazenamentoTest {
+
+    private static final byte[] PDF = "%PDF-1.4 conteudo".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path diretorio;
+
+    private RelatorioArquivoFilesystemArmazenamento armazenamento;
+
+    @BeforeEach
+    void setUp() {
+        RelatorioArmazenamentoProperties properties = new RelatorioArmazenamentoProperties();
+        properties.setDiretorio(diretorio.toString());
+        armazenamento = new RelatorioArquivoFilesystemArmazenamento(properties);
+    }
+
+    @Test
+    void gravar_escreveArquivoEPreencheChaveETamanho() throws Exception {
+        RelatorioArquivo arquivo = arquivo();
+
+        armazenamento.gravar(arquivo, out -> out.write(PDF));
+
+        assertEquals(RelatorioArmazenamentoTipo.FILESYSTEM, arquivo.getArmazenamento());
+        assertNull(arquivo.getPdfBytes());
+        assertEquals(PDF.length, arquivo.getTamanhoBytes());
+        assertTrue(arquivo.getChaveArmazenamento().startsWith("relatorio-10-"));
+        Resource resource = armazenamento.abrir(arquivo);
+        assertEquals(PDF.length, resource.contentLength());
+        assertArrayEquals(PDF, resource.getContentAsByteArray());
+    }
+
+    @Test
+    void gravar_falhaNoRender_naoDeixaArquivoNoDiretorio() throws Exception {
+        RelatorioArquivo arquivo = arquivo();
+
+        assertThrows(IllegalStateException.class, () -> armazenamento.gravar(arquivo, out -> {
+            out.write(PDF);
+            throw new IllegalStateException("falha render");
+        }));
+
+        try (var arquivos = Files.list(diretorio)) {
+            assertEquals(0, arquivos.count());
+        }
+        assertNull(arquivo.getChaveArmazenamento());
+    }
+
+    @Test
+    void remover_apagaArquivo() throws Exception {
+        RelatorioArquivo arquivo = arquivo();
+        armazenamento.gravar(arquivo, out -> out.write(PDF));
+
+        armazenamento.remover(arquivo);
+
+        assertFalse(Files.exists(diretorio.resolve(arquivo.getChaveArmazenamento())));
+        assertThrows(FileNotFoundException.class, () -> armazenamento.abrir(arquivo));
+    }
+
+    @Test
+    void removerAposCommit_apagaArquivoSoDepoisDoCommit() throws Exception {
+        RelatorioArmazenamentoProperties properties = new RelatorioArmazenamentoProperties();
+        properties.setDiretorio(diretorio.toString());
+        RelatorioArquivoArmazenamentos armazenamentos = new RelatorioArquivoArmazenamentos(
+            List.of(new RelatorioArquivoBancoArmazenamento(), armazenamento), properties);
+        RelatorioArquivo arquivo = arquivo();
+        armazenamento.gravar(arquivo, out -> out.write(PDF));
+        Path caminho = diretorio.resolve(arquivo.getChaveArmazenamento());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            armazenamentos.removerAposCommit(arquivo);
+            assertTrue(Files.exists(caminho));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(Files.exists(caminho));
+    }
+
+    @Test
+    void removerSeDesfeito_apagaArquivoSoNoRollback() throws Exception {
+        RelatorioArmazenamentoProperties properties = new RelatorioArmazenamentoProperties();
+        properties.setDiretorio(diretorio.toString());
+        RelatorioArquivoArmazenamentos armazenamentos = new RelatorioArquivoArmazenamentos(
+            List.of(new RelatorioArquivoBancoArmazenamento(), armazenamento), properties);
+        RelatorioArquivo confirmado = arquivo();
+        RelatorioArquivo desfeito = arquivo();
+        armazenamento.gravar(confirmado, out -> out.write(PDF));
+        armazenamento.gravar(desfeito, out -> out.write(PDF));
+
+        completarTransacao(
+            () -> armazenamentos.removerSeDesfeito(confirmado), TransactionSynchronization.STATUS_COMMITTED);
+        completarTransacao(
+            () -> armazenamentos.removerSeDesfeito(desfeito), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(Files.exists(diretorio.resolve(confirmado.getChaveArmazenamento())));
+        assertFalse(Files.exists(diretorio.resolve(desfeito.getChaveArmazenamento())));
+    }
+
+    @Test
+    void abrir_chaveForaDoDiretorio_lancaIllegalArgumentException() {
+        RelatorioArquivo arquivo = arquivo();
+        arquivo.setArmazenamento(RelatorioArmazenamentoTipo.FILESYSTEM);
+        arquivo.setChaveArmazenamento("../segredo.pdf");
+
+        assertThrows(IllegalArgumentException.class, () -> armazenamento.abrir(arquivo));
+    }
+
+    private void completarTransacao(Runnable dentro, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dentro.run();
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private RelatorioArquivo arquivo() {
+        Relatorio relatorio = new Relatorio();
+        relatorio.setId(10L);
+        RelatorioArquivo arquivo = new RelatorioArquivo();
+        arquivo.setRelatorio(relatorio);
+        return arquivo;
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.techne.sistemafolha.relatorios.application.armazenamento;
+
+import br.com.techne.sistemafolha.relatorios.api.RelatorioMigracaoArmazenamentoDTO;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArmazenamentoTipo;
+import br.com.techne.sistemafolha.relatorios.domain.RelatorioArquivo;
+import br.com.techne.sistemafolha.relatorios.infrastructure.RelatorioArquivoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RelatorioArquivoMigracaoServiceTest {
+
+    private static final byte[] PDF = "%PDF-legado".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path diretorio;
+
+    @Mock
+    private RelatorioArquivoRepository relatorioArquivoRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RelatorioArmazenamentoProperties properties;
+    private RelatorioArquivoMigracaoService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RelatorioArmazenamentoProperties();
+        properties.setTipo(RelatorioArmazenamentoTipo.FILESYSTEM);
+        properties.setDiretorio(diretorio.toString());
+        properties.setLoteMigracao(2);
+        RelatorioArquivoArmazenamentos armazenamentos = new RelatorioArquivoArmazenamentos(
+            List.of(new RelatorioArquivoBancoArmazenamento(), new RelatorioArquivoFilesystemArmazenamento(properties)),
+            properties);
+        service = new RelatorioArquivoMigracaoService(
+            relatorioArquivoRepository, armazenamentos, properties, transactionManager);
+    }
+
+    @Test
+    void migrarDoBanco_moveLoteParaFilesystemELimpaBytes() throws Exception {
+        RelatorioArquivo arquivo = arquivoNoBanco(10L);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(relatorioArquivoRepository.findRelatorioIdsByArmazenamento(
+                eq(RelatorioArmazenamentoTipo.BANCO), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(10L));
+        when(relatorioArquivoRepository.findByRelatorioId(10L)).thenReturn(Optional.of(arquivo));
+        when(relatorioArquivoRepository.countByArmazenamento(RelatorioArmazenamentoTipo.BANCO)).thenReturn(3L);
+
+        RelatorioMigracaoArmazenamentoDTO resultado = service.migrarDoBanco(null);
+
+        assertEquals(new RelatorioMigracaoArmazenamentoDTO(1, 0, 3L, null), resultado);
+        assertEquals(RelatorioArmazenamentoTipo.FILESYSTEM, arquivo.getArmazenamento());
+        assertNull(arquivo.getPdfBytes());
+        assertArrayEquals(PDF, Files.readAllBytes(diretorio.resolve(arquivo.getChaveArmazenamento())));
+        verify(relatorioArquivoRepository).saveAndFlush(arquivo);
+    }
+
+    @Test
+    void migrarDoBanco_armazenamentoConfiguradoBanco_naoMoveNada() {
+        properties.setTipo(RelatorioArmazenamentoTipo.BANCO);
+        when(relatorioArquivoRepository.countByArmazenamento(RelatorioArmazenamentoTipo.BANCO)).thenReturn(5L);
+
+        RelatorioMigracaoArmazenamentoDTO resultado = service.migrarDoBanco(null);
+
+        assertEquals(new RelatorioMigracaoArmazenamentoDTO(0, 0, 5L, null), resultado);
+        verify(relatorioArquivoRepository, never()).findRelatorioIdsByArmazenamento(any(), any(), any());
+    }
+
+    @Test
+    void migrarDoBanco_loteCheioComFalha_devolveCursorParaSeguirDepoisDaFalha() {
+        RelatorioArquivo arquivo = arquivoNoBanco(21L);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(relatorioArquivoRepository.findRelatorioIdsByArmazenamento(
+                eq(RelatorioArmazenamentoTipo.BANCO), eq(7L), any(Pageable.class)))
+            .thenReturn(List.of(20L, 21L));
+        when(relatorioArquivoRepository.findByRelatorioId(20L)).thenThrow(new IllegalStateException("corrompido"));
+        when(relatorioArquivoRepository.findByRelatorioId(21L)).thenReturn(Optional.of(arquivo));
+        when(relatorioArquivoRepository.countByArmazenamento(RelatorioArmazenamentoTipo.BANCO)).thenReturn(4L);
+
+        RelatorioMigracaoArmazenamentoDTO resultado = service.migrarDoBanco(7L);
+
+        assertEquals(new RelatorioMigracaoArmazenamentoDTO(1, 1, 4L, 21L), resultado);
+        assertEquals(RelatorioArmazenamentoTipo.FILESYSTEM, arquivo.getArmazenamento());
+    }
+
+    @Test
+    void migrarDoBanco_falhaAoSalvar_rollbackApagaArquivoGravado() throws Exception {
+        RelatorioArquivo arquivo = arquivoNoBanco(30L);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            TransactionSynchronizationManager.initSynchronization();
+            return new SimpleTransactionStatus();
+        });
+        doAnswer(invocation -> {
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            TransactionSynchronizationManager.clearSynchronization();
+            return null;
+        }).when(transactionManager).rollback(any());
+        when(relatorioArquivoRepository.findRelatorioIdsByArmazenamento(
+                eq(RelatorioArmazenamentoTipo.BANCO), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(30L));
+        when(relatorioArquivoRepository.findByRelatorioId(30L)).thenReturn(Optional.of(arquivo));
+        when(relatorioArquivoRepository.saveAndFlush(arquivo)).thenThrow(new IllegalStateException("falha no banco"));
+        when(relatorioArquivoRepository.countByArmazenamento(RelatorioArmazenamentoTipo.BANCO)).thenReturn(1L);
+
+        RelatorioMigracaoArmazenamentoDTO resultado = service.migrarDoBanco(null);
+
+        assertEquals(new RelatorioMigracaoArmazenamentoDTO(0, 1, 1L, null), resultado);
+        try (var arquivos = Files.list(diretorio)) {
+            assertEquals(0, arquivos.count());
+        }
+    }
+
+    private RelatorioArquivo arquivoNoBanco(Long relatorioId) {
+        RelatorioArquivo arquivo = new RelatorioArquivo();
+        arquivo.setRelatorioId(relatorioId);
+        arquivo.setArmazenamento(RelatorioArmazenamentoTipo.BANCO);
+        arquivo.setPdfBytes(PDF);
+        arquivo.setTamanhoBytes((long) PDF.length);
+        return arquivo;
+    }
+}
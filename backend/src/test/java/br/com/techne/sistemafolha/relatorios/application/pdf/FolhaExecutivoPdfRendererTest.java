@@ -27,7 +27,7 @@ class FolhaExecutivoPdfRendererTest {
     void setUp() {
         renderer = new FolhaExecutivoPdfRenderer(
             new RelatorioLayoutHelper(),
-            new RelatorioChartImageFactory());
+            new RelatorioChartImageFactory(new RelatorioChartImageCache()));
         theme = new BrandingTheme("#7836FC", "#3661FC", "#273340", "#f8fafc", Optional.empty());
     }
 
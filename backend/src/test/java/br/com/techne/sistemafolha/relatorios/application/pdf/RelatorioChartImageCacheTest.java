@@ -0,0 +1,69 @@
+package br.com.techne.sistemafolha.relatorios.application.pdf;
+
+import br.com.techne.sistemafolha.relatorios.api.RelatorioPdfCacheEstatisticasDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RelatorioChartImageCacheTest {
+
+    private RelatorioChartImageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RelatorioChartImageCache();
+    }
+
+    @Test
+    void obter_mesmaDescricao_renderizaUmaVez() {
+        AtomicInteger renderizacoes = new AtomicInteger();
+        byte[] png = {1, 2, 3};
+
+        byte[] primeiro = cache.obter("line|a", () -> {
+            renderizacoes.incrementAndGet();
+            return png;
+        });
+        byte[] segundo = cache.obter("line|a", () -> {
+            renderizacoes.incrementAndGet();
+            return new byte[] {9};
+        });
+
+        assertSame(primeiro, segundo);
+        assertEquals(1, renderizacoes.get());
+        RelatorioPdfCacheEstatisticasDTO estatisticas = cache.estatisticas();
+        assertEquals(1L, estatisticas.hits());
+        assertEquals(1L, estatisticas.misses());
+        assertEquals(3L, estatisticas.bytes());
+    }
+
+    @Test
+    void obter_renderizacaoVazia_naoGuarda() {
+        cache.obter("line|vazio", () -> new byte[0]);
+
+        assertEquals(0, cache.estatisticas().entradas());
+    }
+
+    @Test
+    void obter_acimaDoLimite_descartaMenosUsado() {
+        for (int i = 0; i < RelatorioChartImageCache.MAX_ENTRADAS; i++) {
+            cache.obter("line|" + i, () -> new byte[] {1});
+        }
+        cache.obter("line|0", () -> new byte[] {2});
+
+        cache.obter("line|novo", () -> new byte[] {3});
+
+        RelatorioPdfCacheEstatisticasDTO estatisticas = cache.estatisticas();
+        assertEquals(RelatorioChartImageCache.MAX_ENTRADAS, estatisticas.entradas());
+        assertEquals(1L, estatisticas.evictions());
+        AtomicInteger renderizacoes = new AtomicInteger();
+        cache.obter("line|0", () -> {
+            renderizacoes.incrementAndGet();
+            return new byte[] {4};
+        });
+        assertEquals(0, renderizacoes.get());
+    }
+}
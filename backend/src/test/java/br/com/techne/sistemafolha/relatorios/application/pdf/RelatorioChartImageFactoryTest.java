@@ -10,16 +10,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RelatorioChartImageFactoryTest {
 
+    private RelatorioChartImageCache cache;
     private RelatorioChartImageFactory factory;
     private BrandingTheme theme;
 
     @BeforeEach
     void setUp() {
-        factory = new RelatorioChartImageFactory();
+        cache = new RelatorioChartImageCache();
+        factory = new RelatorioChartImageFactory(cache);
         theme = new BrandingTheme("#7836FC", "#3661FC", "#273340", "#f8fafc", Optional.empty());
     }
 
@@ -72,4 +77,33 @@ class RelatorioChartImageFactoryTest {
         byte[] png = factory.horizontalBarChart(Map.of(), theme, 5);
         assertTrue(png.length == 0);
     }
+
+    @Test
+    void lineChart_mesmosDados_reaproveitaPngDoCache() {
+        byte[] primeiro = factory.lineChart(
+            List.of("Jan/2024", "Fev/2024"),
+            List.of(new BigDecimal("1000.00"), new BigDecimal("1500")),
+            theme);
+        byte[] segundo = factory.lineChart(
+            List.of("Jan/2024", "Fev/2024"),
+            List.of(new BigDecimal("1000"), new BigDecimal("1500.0")),
+            theme);
+
+        assertSame(primeiro, segundo);
+        assertEquals(1L, cache.estatisticas().hits());
+        assertEquals(1L, cache.estatisticas().misses());
+    }
+
+    @Test
+    void lineChart_outroTema_renderizaDeNovo() {
+        List<String> labels = List.of("Jan/2024", "Fev/2024");
+        List<BigDecimal> values = List.of(new BigDecimal("1000"), new BigDecimal("1500"));
+        BrandingTheme outro = new BrandingTheme("#000000", "#3661FC", "#273340", "#f8fafc", Optional.empty());
+
+        byte[] primeiro = factory.lineChart(labels, values, theme);
+        byte[] segundo = factory.lineChart(labels, values, outro);
+
+        assertNotSame(primeiro, segundo);
+        assertEquals(2, cache.estatisticas().entradas());
+    }
 }
@@ -17,6 +17,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RelatorioLayoutHelperTest {
@@ -43,6 +45,25 @@ class RelatorioLayoutHelperTest {
         assertTrue(formatted.contains("R$"));
     }
 
+    @Test
+    void font_mesmaFamiliaTamanhoECor_reutilizaInstancia() {
+        assertSame(helper.bodyFont(theme), helper.bodyFont(theme));
+        assertNotSame(helper.bodyFont(theme), helper.titleFont(theme));
+    }
+
+    @Test
+    void logo_mesmoConteudo_entregaCopiaIndependente() throws Exception {
+        byte[] png = new RelatorioChartImageFactory(new RelatorioChartImageCache())
+            .lineChart(List.of("Jan/2024", "Fev/2024"), List.of(BigDecimal.ONE, BigDecimal.TEN), theme);
+
+        var primeiro = helper.logo(png);
+        primeiro.scaleToFit(10, 10);
+        var segundo = helper.logo(png);
+
+        assertNotSame(primeiro, segundo);
+        assertEquals(480f, segundo.getScaledWidth());
+    }
+
     @Test
     void createZebraTable_geraTabelaComCabecalho() {
         var table = helper.createZebraTable(
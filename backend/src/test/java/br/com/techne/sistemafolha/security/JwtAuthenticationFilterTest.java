@@ -6,6 +6,7 @@ import br.com.techne.sistemafolha.workspace.domain.WorkspacePermissions;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,7 +22,6 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -47,7 +48,7 @@ class JwtAuthenticationFilterTest {
     private JwtService jwtService;
 
     @Mock
-    private UserDetailsService userDetailsService;
+    private UsuarioPrincipalCache usuarioPrincipalCache;
 
     @Mock
     private ApiKeyService apiKeyService;
@@ -101,7 +102,7 @@ class JwtAuthenticationFilterTest {
     @Test
     void doFilterInternal_tokenInvalido_naoAutentica() throws Exception {
         request.addHeader("Authorization", "Bearer token-invalido");
-        when(jwtService.extractLogin("token-invalido")).thenThrow(new RuntimeException("Token malformado"));
+        when(jwtService.validarToken("token-invalido")).thenThrow(new RuntimeException("Token malformado"));
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -115,9 +116,8 @@ class JwtAuthenticationFilterTest {
         UserDetails userDetails = userDetails();
         request.addHeader("Authorization", "Bearer " + token);
 
-        when(jwtService.extractLogin(token)).thenReturn(LOGIN);
-        when(userDetailsService.loadUserByUsername(LOGIN)).thenReturn(userDetails);
-        when(jwtService.isTokenValid(token, userDetails)).thenReturn(true);
+        when(jwtService.validarToken(token)).thenReturn(Jwts.claims().subject(LOGIN).build());
+        when(usuarioPrincipalCache.obter(LOGIN)).thenReturn(userDetails);
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -128,6 +128,38 @@ class JwtAuthenticationFilterTest {
         verifyNoInteractions(apiKeyService);
     }
 
+    @Test
+    void doFilterInternal_tokenValido_leTokenUmaVezSemRevalidar() throws Exception {
+        String token = "token-valido";
+        request.addHeader("Authorization", "Bearer " + token);
+        when(jwtService.validarToken(token)).thenReturn(Jwts.claims().subject(LOGIN).build());
+        when(usuarioPrincipalCache.obter(LOGIN)).thenReturn(userDetails());
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        verify(jwtService).validarToken(token);
+        verify(jwtService, never()).extractLogin(anyString());
+        verify(jwtService, never()).isTokenValid(anyString(), any());
+    }
+
+    @Test
+    void doFilterInternal_usuarioInativo_naoAutentica() throws Exception {
+        String token = "token-valido";
+        request.addHeader("Authorization", "Bearer " + token);
+        when(jwtService.validarToken(token)).thenReturn(Jwts.claims().subject(LOGIN).build());
+        when(usuarioPrincipalCache.obter(LOGIN)).thenReturn(User.builder()
+            .username(LOGIN)
+            .password("secret")
+            .authorities(new SimpleGrantedAuthority("ROLE_USER"))
+            .disabled(true)
+            .build());
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain).doFilter(request, response);
+    }
+
     @Test
     void doFilterInternal_apiKeyValida_configuraSecurityContextComMarkerReadOnly() throws Exception {
         Usuario usuario = usuarioComPermissaoApiKey();
@@ -152,7 +184,7 @@ class JwtAuthenticationFilterTest {
 
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain).doFilter(request, response);
-        verify(jwtService, never()).extractLogin(anyString());
+        verify(jwtService, never()).validarToken(anyString());
     }
 
     @Test
@@ -177,7 +209,7 @@ class JwtAuthenticationFilterTest {
         filter.doFilterInternal(request, response, filterChain);
 
         assertNull(SecurityContextHolder.getContext().getAuthentication());
-        verify(jwtService, never()).extractLogin(anyString());
+        verify(jwtService, never()).validarToken(anyString());
     }
 
     private UserDetails userDetails() {
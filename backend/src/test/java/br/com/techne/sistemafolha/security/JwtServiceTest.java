@@ -1,5 +1,6 @@
 package br.com.techne.sistemafolha.security;
 
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -8,10 +9,13 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JwtServiceTest {
@@ -50,6 +54,36 @@ class JwtServiceTest {
         assertFalse(jwtService.isTokenValid(token, outro));
     }
 
+    @Test
+    void validarToken_retornaClaimsComSubject() {
+        String token = jwtService.generateToken(userDetails("usuario.teste"));
+
+        Claims claims = jwtService.validarToken(token);
+
+        assertEquals("usuario.teste", claims.getSubject());
+    }
+
+    @Test
+    void validarToken_expiradoNoClockDoServico_lancaExcecao() {
+        Instant emissao = Instant.parse("2026-06-15T12:00:00Z");
+        JwtService emissor = jwtServiceCom(Clock.fixed(emissao, ZoneOffset.UTC));
+        String token = emissor.generateToken(userDetails("usuario.teste"));
+
+        JwtService depois = jwtServiceCom(Clock.fixed(emissao.plusMillis(86_400_001L), ZoneOffset.UTC));
+
+        assertThrows(RuntimeException.class, () -> depois.validarToken(token));
+        assertFalse(depois.isTokenValid(token, userDetails("usuario.teste")));
+    }
+
+    @Test
+    void validarToken_assinaturaDeOutraChave_lancaExcecao() {
+        JwtService outro = jwtServiceCom(Clock.systemDefaultZone());
+        ReflectionTestUtils.setField(outro, "secretKey", SECRET.toUpperCase());
+        String token = outro.generateToken(userDetails("usuario.teste"));
+
+        assertThrows(RuntimeException.class, () -> jwtService.validarToken(token));
+    }
+
     @Test
     void generateRefreshToken_retornaStringNaoVazia() {
         String refresh = jwtService.generateRefreshToken();
@@ -58,6 +92,14 @@ class JwtServiceTest {
         assertFalse(refresh.isBlank());
     }
 
+    private JwtService jwtServiceCom(Clock clock) {
+        JwtService service = new JwtService(clock);
+        ReflectionTestUtils.setField(service, "secretKey", SECRET);
+        ReflectionTestUtils.setField(service, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(service, "refreshExpiration", 604_800_000L);
+        return service;
+    }
+
     private UserDetails userDetails(String username) {
         return User.builder()
             .username(username)
@@ -0,0 +1,124 @@
+package br.com.techne.sistemafolha.security;
+
+import br.com.techne.sistemafolha.auth.domain.Usuario;
+import br.com.techne.sistemafolha.organograma.acesso.port.ContextoAcessoAlteradoEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UsuarioPrincipalCacheTest {
+
+    private static final String LOGIN = "usuario.teste";
+    private static final Instant FIXED = Instant.parse("2026-06-15T12:00:00Z");
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private Usuario usuario;
+    private UsuarioPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setLogin(LOGIN);
+        usuario.setPermissoes(List.of("USER"));
+        usuario.setAtivo(true);
+        cache = new UsuarioPrincipalCache(userDetailsService, Clock.fixed(FIXED, ZoneOffset.UTC), 60);
+    }
+
+    @Test
+    void obter_dentroDoTtl_consultaBancoUmaVez() {
+        when(userDetailsService.loadUserByUsername(LOGIN)).thenReturn(usuario);
+
+        assertSame(usuario, cache.obter(LOGIN));
+        assertSame(usuario, cache.obter(LOGIN));
+
+        verify(userDetailsService, times(1)).loadUserByUsername(LOGIN);
+    }
+
+    @Test
+    void obter_aposTtl_recarrega() {
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(FIXED, FIXED.plusSeconds(61));
+        cache = new UsuarioPrincipalCache(userDetailsService, clock, 60);
+        when(userDetailsService.loadUserByUsername(LOGIN)).thenReturn(usuario);
+
+        cache.obter(LOGIN);
+        cache.obter(LOGIN);
+
+        verify(userDetailsService, times(2)).loadUserByUsername(LOGIN);
+    }
+
+    @Test
+    void obter_ttlZero_naoGuarda() {
+        cache = new UsuarioPrincipalCache(userDetailsService, Clock.fixed(FIXED, ZoneOffset.UTC), 0);
+        when(userDetailsService.loadUserByUsername(LOGIN)).thenReturn(usuario);
+
+        cache.obter(LOGIN);
+        cache.obter(LOGIN);
+
+        verify(userDetailsService, times(2)).loadUserByUsername(LOGIN);
+    }
+
+    @Test
+    void obter_usuarioInexistente_propagaExcecaoSemGuardar() {
+        when(userDetailsService.loadUserByUsername(LOGIN))
+            .thenThrow(new UsernameNotFoundException("Usuário não encontrado"));
+
+        assertThrows(UsernameNotFoundException.class, () -> cache.obter(LOGIN));
+        assertThrows(UsernameNotFoundException.class, () -> cache.obter(LOGIN));
+
+        verify(userDetailsService, times(2)).loadUserByUsername(LOGIN);
+    }
+
+    @Test
+    void invalidar_removeLogin() {
+        when(userDetailsService.loadUserByUsername(LOGIN)).thenReturn(usuario);
+        cache.obter(LOGIN);
+
+        cache.invalidar(LOGIN);
+        cache.obter(LOGIN);
+
+        verify(userDetailsService, times(2)).loadUserByUsername(LOGIN);
+    }
+
+    @Test
+    void onContextoAcessoAlterado_doUsuario_removePrincipalPeloId() {
+        when(userDetailsService.loadUserByUsername(LOGIN)).thenReturn(usuario);
+        cache.obter(LOGIN);
+
+        cache.onContextoAcessoAlterado(ContextoAcessoAlteradoEvent.doUsuario(1L));
+        cache.obter(LOGIN);
+
+        verify(userDetailsService, times(2)).loadUserByUsername(LOGIN);
+    }
+
+    @Test
+    void onContextoAcessoAlterado_arvore_mantemPrincipais() {
+        when(userDetailsService.loadUserByUsername(LOGIN)).thenReturn(usuario);
+        cache.obter(LOGIN);
+
+        cache.onContextoAcessoAlterado(ContextoAcessoAlteradoEvent.todos());
+        cache.obter(LOGIN);
+
+        verify(userDetailsService, times(1)).loadUserByUsername(LOGIN);
+    }
+}
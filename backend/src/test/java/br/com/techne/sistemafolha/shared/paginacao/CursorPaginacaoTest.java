@@ -0,0 +1,55 @@
+package br.com.techne.sistemafolha.shared.paginacao;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorPaginacaoTest {
+
+    @Test
+    void codificar_chaveComSeparadorEAcentos_decodificaIgual() {
+        CursorPaginacao cursor = new CursorPaginacao("João: da Silva", 42L);
+
+        assertEquals(cursor, CursorPaginacao.decodificar(cursor.codificar()));
+    }
+
+    @Test
+    void codificar_somenteId_decodificaSemChave() {
+        CursorPaginacao cursor = new CursorPaginacao(null, 7L);
+
+        assertEquals(cursor, CursorPaginacao.decodificar(cursor.codificar()));
+    }
+
+    @Test
+    void decodificar_vazioOuNulo_retornaInicio() {
+        assertSame(CursorPaginacao.INICIO, CursorPaginacao.decodificar(null));
+        assertSame(CursorPaginacao.INICIO, CursorPaginacao.decodificar(" "));
+    }
+
+    @Test
+    void decodificar_idNaoNumerico_lancaIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> CursorPaginacao.decodificar(base64("x:Maria")));
+    }
+
+    @Test
+    void decodificar_base64Invalido_lancaIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> CursorPaginacao.decodificar("%%%"));
+    }
+
+    @Test
+    void exigirChave_cursorSemChave_lancaIllegalArgument() {
+        CursorPaginacao semChave = CursorPaginacao.decodificar(base64("42"));
+
+        assertThrows(IllegalArgumentException.class, semChave::exigirChave);
+        assertSame(CursorPaginacao.INICIO, CursorPaginacao.INICIO.exigirChave());
+    }
+
+    private static String base64(String valor) {
+        return Base64.getUrlEncoder().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+}
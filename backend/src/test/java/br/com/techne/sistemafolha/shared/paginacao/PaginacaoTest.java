@@ -0,0 +1,38 @@
+package br.com.techne.sistemafolha.shared.paginacao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PaginacaoTest {
+
+    @Test
+    void resolverLimite_nuloUsaPadraoEForaDaFaixaLanca() {
+        assertEquals(Paginacao.LIMITE_PADRAO, Paginacao.resolverLimite(null));
+        assertEquals(Paginacao.LIMITE_MAXIMO, Paginacao.resolverLimite(Paginacao.LIMITE_MAXIMO));
+        assertThrows(IllegalArgumentException.class, () -> Paginacao.resolverLimite(0));
+        assertThrows(IllegalArgumentException.class, () -> Paginacao.resolverLimite(Paginacao.LIMITE_MAXIMO + 1));
+    }
+
+    @Test
+    void pagina_linhaExcedente_descartadaECursorDaUltimaEntregue() {
+        PaginaDTO<String> pagina = Paginacao.pagina(List.of(1L, 2L, 3L), 2, String::valueOf,
+            id -> new CursorPaginacao(null, id));
+
+        assertEquals(List.of("1", "2"), pagina.itens());
+        assertEquals(new CursorPaginacao(null, 2L), CursorPaginacao.decodificar(pagina.proximoCursor()));
+    }
+
+    @Test
+    void pagina_semExcedente_semProximoCursor() {
+        PaginaDTO<String> pagina = Paginacao.pagina(List.of(1L, 2L), 2, String::valueOf,
+            id -> new CursorPaginacao(null, id));
+
+        assertEquals(List.of("1", "2"), pagina.itens());
+        assertNull(pagina.proximoCursor());
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.techne.sistemafolha.workspace.application;
+
+import br.com.techne.sistemafolha.workspace.domain.DatasetFieldSchema;
+import br.com.techne.sistemafolha.workspace.domain.DatasetFieldType;
+import br.com.techne.sistemafolha.workspace.domain.WorkspaceDataset;
+import br.com.techne.sistemafolha.workspace.domain.WorkspaceDatasetRow;
+import br.com.techne.sistemafolha.workspace.domain.formula.NumericSeries;
+import br.com.techne.sistemafolha.workspace.infrastructure.DatasetRowVersionProjection;
+import br.com.techne.sistemafolha.workspace.infrastructure.WorkspaceDatasetRowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatasetSeriesCacheTest {
+
+    private static final Long DATASET_ID = 5L;
+    private static final LocalDateTime ATUALIZACAO = LocalDateTime.of(2025, 6, 1, 10, 0);
+
+    @Mock
+    private WorkspaceDatasetRowRepository rowRepository;
+
+    private DatasetSeriesCache cache;
+    private WorkspaceDataset dataset;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DatasetSeriesCache(rowRepository);
+        dataset = new WorkspaceDataset();
+        dataset.setSchema(List.of(
+            new DatasetFieldSchema("descricao", DatasetFieldType.TEXTO, null, false, null),
+            new DatasetFieldSchema("valor", DatasetFieldType.MOEDA, null, true, null),
+            new DatasetFieldSchema("quantidade", DatasetFieldType.NUMERO, null, false, null)));
+    }
+
+    @Test
+    void series_mesmaVersao_naoRecarregaLinhas() {
+        when(rowRepository.findVersaoByDatasetId(DATASET_ID)).thenReturn(versao(2L, ATUALIZACAO));
+        when(rowRepository.findByDatasetIdOrderByOrdemAscIdAsc(DATASET_ID)).thenReturn(List.of(
+            row(Map.of("descricao", "a", "valor", "10.50", "quantidade", 3)),
+            row(Map.of("descricao", "b", "valor", 4.5))));
+
+        Map<String, NumericSeries> primeira = cache.series(DATASET_ID, dataset);
+        Map<String, NumericSeries> segunda = cache.series(DATASET_ID, dataset);
+
+        assertSame(primeira, segunda);
+        assertEquals(0, new BigDecimal("15.00").compareTo(primeira.get("valor").sum()));
+        assertEquals(1, primeira.get("quantidade").count());
+        assertEquals(2, primeira.get("quantidade").size());
+        assertTrue(!primeira.containsKey("descricao"));
+        verify(rowRepository, times(1)).findByDatasetIdOrderByOrdemAscIdAsc(DATASET_ID);
+    }
+
+    @Test
+    void series_linhasAlteradas_remontaColunas() {
+        when(rowRepository.findVersaoByDatasetId(DATASET_ID))
+            .thenReturn(versao(1L, ATUALIZACAO), versao(1L, ATUALIZACAO.plusMinutes(1)));
+        when(rowRepository.findByDatasetIdOrderByOrdemAscIdAsc(DATASET_ID))
+            .thenReturn(List.of(row(Map.of("valor", 1))))
+            .thenReturn(List.of(row(Map.of("valor", 7))));
+
+        cache.series(DATASET_ID, dataset);
+        Map<String, NumericSeries> atualizada = cache.series(DATASET_ID, dataset);
+
+        assertEquals(0, new BigDecimal("7").compareTo(atualizada.get("valor").sum()));
+        verify(rowRepository, times(2)).findByDatasetIdOrderByOrdemAscIdAsc(DATASET_ID);
+    }
+
+    @Test
+    void series_novaVersaoDeSchema_remontaColunas() {
+        when(rowRepository.findVersaoByDatasetId(DATASET_ID)).thenReturn(versao(1L, ATUALIZACAO));
+        when(rowRepository.findByDatasetIdOrderByOrdemAscIdAsc(DATASET_ID))
+            .thenReturn(List.of(row(Map.of("valor", 1))));
+
+        cache.series(DATASET_ID, dataset);
+        dataset.setSchemaVersion(2);
+        cache.series(DATASET_ID, dataset);
+
+        verify(rowRepository, times(2)).findByDatasetIdOrderByOrdemAscIdAsc(DATASET_ID);
+    }
+
+    @Test
+    void series_semCamposNumericos_naoCarregaLinhas() {
+        dataset.setSchema(List.of(new DatasetFieldSchema("descricao", DatasetFieldType.TEXTO, null, false, null)));
+        when(rowRepository.findVersaoByDatasetId(DATASET_ID)).thenReturn(versao(3L, ATUALIZACAO));
+
+        assertTrue(cache.series(DATASET_ID, dataset).isEmpty());
+        verify(rowRepository, never()).findByDatasetIdOrderByOrdemAscIdAsc(DATASET_ID);
+    }
+
+    private WorkspaceDatasetRow row(Map<String, Object> valores) {
+        WorkspaceDatasetRow row = new WorkspaceDatasetRow();
+        row.setDatasetId(DATASET_ID);
+        row.setValores(new HashMap<>(valores));
+        return row;
+    }
+
+    private DatasetRowVersionProjection versao(Long total, LocalDateTime ultimaAtualizacao) {
+        return new DatasetRowVersionProjection() {
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+
+            @Override
+            public LocalDateTime getMaxDataAtualizacao() {
+                return ultimaAtualizacao;
+            }
+        };
+    }
+}
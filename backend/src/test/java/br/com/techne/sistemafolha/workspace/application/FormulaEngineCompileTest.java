@@ -0,0 +1,102 @@
+package br.com.techne.sistemafolha.workspace.application;
+
+import br.com.techne.sistemafolha.workspace.domain.formula.EvaluationContext;
+import br.com.techne.sistemafolha.workspace.domain.formula.FormulaParseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FormulaEngineCompileTest {
+
+    private FormulaEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new FormulaEngine();
+    }
+
+    @Test
+    void compile_expressaoConstante_dobraEmLiteral() {
+        FormulaPlan plan = engine.compile("2 * 3 + 10 / 4", null);
+
+        assertTrue(plan.isConstant());
+        assertTrue(plan.fieldSlots().isEmpty());
+        assertEquals(0, new BigDecimal("8.5").compareTo(plan.evaluate(EvaluationContext.builder().build()).asNumber()));
+    }
+
+    @Test
+    void compile_seComCondicaoConstante_mantemSoORamoEscolhido() {
+        FormulaPlan plan = engine.compile("SE(1 > 0, SOMA(a), SOMA(b))", null);
+
+        assertEquals(List.of("a"), plan.fieldSlots());
+        assertEquals(0, new BigDecimal("3").compareTo(plan.evaluate(context("a", "1", "2")).asNumber()));
+    }
+
+    @Test
+    void compile_agregacoesRepetidas_viramUmaDependencia() {
+        FormulaPlan plan = engine.compile("SOMA(a) + SOMA(a) * a - MÉDIA(a)", null);
+
+        assertEquals(List.of("a"), plan.fieldSlots());
+        assertEquals(List.of(
+            new FormulaPlan.AggregateDependency("SOMA", 0),
+            new FormulaPlan.AggregateDependency("MÉDIA", 0)), plan.aggregateDependencies());
+        assertEquals(0, new BigDecimal("39").compareTo(plan.evaluate(context("a", "2", "4")).asNumber()));
+    }
+
+    @Test
+    void compile_campoForaDoSchema_dobraComoSerieVazia() {
+        FormulaPlan plan = engine.compile("SOMA(inexistente) + CONTAGEM(valor)", Set.of("valor"));
+
+        assertEquals(List.of("valor"), plan.fieldSlots());
+        assertEquals(0, new BigDecimal("2").compareTo(plan.evaluate(context("valor", "5", "7")).asNumber()));
+    }
+
+    @Test
+    void compile_tipoIncompativelEntreConstantes_falhaSoNaAvaliacao() {
+        FormulaPlan plan = engine.compile("(1 > 0) + 1", null);
+
+        assertFalse(plan.isConstant());
+        assertThrows(IllegalStateException.class, () -> plan.evaluate(EvaluationContext.builder().build()));
+    }
+
+    @Test
+    void compile_agregacaoSemCampo_lancaFormulaParseException() {
+        assertThrows(FormulaParseException.class, () -> engine.compile("SOMA(1)", null));
+    }
+
+    @Test
+    void plan_mesmaExpressaoEVersao_reutilizaPlanoEntreContextos() {
+        FormulaPlan primeiro = engine.plan("SOMA(a) * 2", "D1v1|", Set.of("a"));
+        FormulaPlan segundo = engine.plan("SOMA(a) * 2", "D1v1|", Set.of("a"));
+
+        assertSame(primeiro, segundo);
+        assertEquals(0, new BigDecimal("6").compareTo(primeiro.evaluate(context("a", "1", "2")).asNumber()));
+        assertEquals(0, new BigDecimal("20").compareTo(primeiro.evaluate(context("a", "10")).asNumber()));
+    }
+
+    @Test
+    void plan_novaVersaoDeSchema_recompila() {
+        FormulaPlan antes = engine.plan("SOMA(a)", "D1v1|", Set.of());
+        FormulaPlan depois = engine.plan("SOMA(a)", "D1v2|", Set.of("a"));
+
+        assertNotSame(antes, depois);
+        assertTrue(antes.isConstant());
+        assertEquals(0, new BigDecimal("4").compareTo(depois.evaluate(context("a", "4")).asNumber()));
+    }
+
+    private EvaluationContext context(String field, String... values) {
+        return EvaluationContext.builder()
+            .putSeries(field, List.of(values).stream().map(BigDecimal::new).toList())
+            .build();
+    }
+}
@@ -38,6 +38,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -79,6 +81,7 @@ class WidgetQueryServiceTest {
             datasetService,
             widgetDefinitionService,
             formulaEngine,
+            new DatasetSeriesCache(rowRepository),
             orcamentoConsultaPort,
             folhaConsultaPort);
     }
@@ -131,6 +134,24 @@ class WidgetQueryServiceTest {
         assertTrue(result.valores().get("valor").contains(","));
     }
 
+    @Test
+    void obterDados_kpiSemCampoDoDataset_naoCarregaLinhas() {
+        stubAcesso(acessoTotal());
+        stubWorkspace(widgetPayload("inst1", WIDGET_DEF_ID));
+        WorkspaceWidgetDefinition def = widgetDef("KPI", true);
+        def.setFormula("SOMA(inexistente) + 10");
+        when(widgetDefinitionRepository.findByUsuarioIdAndId(USUARIO_ID, WIDGET_DEF_ID)).thenReturn(Optional.of(def));
+        WorkspaceDataset dataset = new WorkspaceDataset();
+        dataset.setSchema(List.of(new DatasetFieldSchema("valor_orcado", DatasetFieldType.MOEDA, null, true, null)));
+        when(datasetService.findOwnedDataset(eq(USUARIO_ID), eq(5L))).thenReturn(dataset);
+
+        WorkspaceWidgetDataDTO result = service.obterDados(
+            LOGIN, WORKSPACE_ID, "inst1", new WorkspaceWidgetQueryParams("2025-06"));
+
+        assertEquals(WidgetQueryService.formatMoney(BigDecimal.TEN), result.valores().get("valor"));
+        verify(rowRepository, never()).findByDatasetIdOrderByOrdemAscIdAsc(any());
+    }
+
     @Test
     void obterDados_tabelaOrcamento_montaLinhasComRealizado() {
         stubAcesso(acessoTotal());
@@ -0,0 +1,109 @@
+package br.com.techne.sistemafolha.workspace.domain.formula;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class NumericSeriesTest {
+
+    private static final MathContext MATH_CONTEXT = new MathContext(16, RoundingMode.HALF_UP);
+
+    @Test
+    void of_celulasNulas_ignoradasNasAgregacoes() {
+        NumericSeries series = NumericSeries.of(Arrays.asList(
+            new BigDecimal("10.5"), null, new BigDecimal("-3"), new BigDecimal("2.25"), null));
+
+        assertEquals(5, series.size());
+        assertEquals(3, series.count());
+        assertEquals(0, new BigDecimal("9.75").compareTo(series.sum()));
+        assertEquals(0, new BigDecimal("3.25").compareTo(series.average(MATH_CONTEXT)));
+        assertEquals(0, new BigDecimal("-3").compareTo(series.min()));
+        assertEquals(0, new BigDecimal("10.5").compareTo(series.max()));
+        assertEquals(3, series.values().size());
+    }
+
+    @Test
+    void minMax_escalasDiferentes_devolvemValorNaEscalaOriginal() {
+        NumericSeries series = NumericSeries.of(Arrays.asList(
+            new BigDecimal("10"), null, new BigDecimal("2.50"), new BigDecimal("7.125"), new BigDecimal("1E+2")));
+
+        assertEquals(new BigDecimal("2.50"), series.min());
+        assertEquals(new BigDecimal("1E+2"), series.max());
+        assertEquals(List.of(new BigDecimal("10"), new BigDecimal("2.50"), new BigDecimal("7.125"),
+            new BigDecimal("1E+2")), series.values());
+        assertEquals(new BigDecimal("119.625"), series.sum());
+    }
+
+    @Test
+    void minMax_empateEntreEscalas_devolvePrimeiraOcorrencia() {
+        NumericSeries series = NumericSeries.of(List.of(new BigDecimal("10"), new BigDecimal("10.00")));
+
+        assertEquals(new BigDecimal("10"), series.min());
+        assertEquals(new BigDecimal("10"), series.max());
+    }
+
+    @Test
+    void of_listaVazia_retornaEmpty() {
+        NumericSeries series = NumericSeries.of(List.of());
+
+        assertSame(NumericSeries.EMPTY, series);
+        assertEquals(0, BigDecimal.ZERO.compareTo(series.sum()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(series.min()));
+    }
+
+    @Test
+    void sum_valoresQueEstouramLong_usaCaminhoExato() {
+        BigDecimal grande = new BigDecimal("4000000000000000000");
+        NumericSeries series = NumericSeries.of(List.of(grande, grande, grande));
+
+        assertEquals(0, new BigDecimal("12000000000000000000").compareTo(series.sum()));
+        assertEquals(0, grande.compareTo(series.max()));
+    }
+
+    @Test
+    void of_valorForaDoLongNaEscala_mantemDecimais() {
+        NumericSeries series = NumericSeries.of(List.of(
+            new BigDecimal("123456789012345678901234.5"), new BigDecimal("0.000001")));
+
+        assertEquals(0, new BigDecimal("123456789012345678901234.500001").compareTo(series.sum()));
+        assertEquals(0, new BigDecimal("0.000001").compareTo(series.min()));
+    }
+
+    @Test
+    void agregacoes_seriesAleatorias_equivalemAoCalculoComBigDecimal() {
+        Random random = new Random(42);
+        for (int rodada = 0; rodada < 50; rodada++) {
+            List<BigDecimal> celulas = new ArrayList<>();
+            int tamanho = 1 + random.nextInt(200);
+            for (int i = 0; i < tamanho; i++) {
+                celulas.add(random.nextInt(10) == 0
+                    ? null
+                    : BigDecimal.valueOf(random.nextLong() % 100_000_000L, random.nextInt(4)));
+            }
+            List<BigDecimal> valores = celulas.stream().filter(Objects::nonNull).toList();
+            NumericSeries series = NumericSeries.of(celulas);
+            if (valores.isEmpty()) {
+                continue;
+            }
+            BigDecimal soma = valores.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            assertEquals(valores.size(), series.count());
+            assertEquals(0, soma.compareTo(series.sum()));
+            assertEquals(0, soma.divide(BigDecimal.valueOf(valores.size()), MATH_CONTEXT)
+                .compareTo(series.average(MATH_CONTEXT)));
+            assertEquals(valores.stream().min(BigDecimal::compareTo).orElseThrow(), series.min());
+            assertEquals(valores.stream().reduce((a, b) -> b.compareTo(a) > 0 ? b : a).orElseThrow(), series.max());
+            assertEquals(valores, series.values());
+        }
+    }
+}
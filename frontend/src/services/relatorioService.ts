@@ -1,8 +1,5 @@
 import api from './api';
 
-/** Backend aguarda até 60s (`relatorios.geracao.timeout-segundos`); axios default é 10s. */
-export const RELATORIO_GERACAO_TIMEOUT_MS = 65_000;
-
 export interface RelatorioFolha {
   id: number;
   mes: number;
@@ -75,21 +72,18 @@ export function resolveRelatorioApiError(error: unknown): string {
 }
 
 export const relatorioService = {
+  /**
+   * Enfileira a geração: o backend responde 202 com o relatório PENDENTE sem esperar o PDF,
+   * e a tela acompanha pela listagem até PROCESSADO ou ERRO.
+   */
   async gerarRelatorioFolha(mes: number, ano: number): Promise<RelatorioFolha> {
-    const response = await api.post<RelatorioFolha>(
-      '/relatorios/folha',
-      { mes, ano },
-      { timeout: RELATORIO_GERACAO_TIMEOUT_MS },
-    );
+    const response = await api.post<RelatorioFolha>('/relatorios/folha', { mes, ano });
     return response.data;
   },
 
+  /** Mesmo contrato de `gerarRelatorioFolha`: 202 com o relatório PENDENTE. */
   async gerarRelatorioBeneficio(mes: number, ano: number): Promise<RelatorioBeneficio> {
-    const response = await api.post<RelatorioBeneficio>(
-      '/relatorios/beneficio',
-      { mes, ano },
-      { timeout: RELATORIO_GERACAO_TIMEOUT_MS },
-    );
+    const response = await api.post<RelatorioBeneficio>('/relatorios/beneficio', { mes, ano });
     return response.data;
   },
 